@@ -0,0 +1,94 @@
+import business.EventOutcomeCache;
+import business.FinalResult;
+import main.KaryotypeRunner;
+import toolkit.FinalResultCodec;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.*;
+
+/**
+ * Differential test of the EventOutcomeCache: every karyotype is run with the cache off, then twice
+ * with it on, the first time filling it and the second time finding its events in it, and the three
+ * FinalResults must be the same. The karyotypes are then run in turn through a large cache and through
+ * a small one, which keeps evicting events.
+ *
+ * Usage: java TestEventOutcomeCache [karyotype file, one per line]
+ */
+public class TestEventOutcomeCache {
+    public static void main(String[] args) throws Exception {
+        List<String> karyotypes = new ArrayList<>(Arrays.asList(
+            "47,XY,+8,t(9;22)(q34;q11.2)[10]/48,idem,+21[5]/46,XY[5]",
+            "46,XX,del(5)(q13q33),i(17)(q10)",
+            "45,XX,-7,del(5)(q13q33)[5]/46,sl,+8[3]/47,sdl1,+21[2]",
+            "48,XY,+8x2",
+            "46,XX,der(1)t(1;3)(p32;q21)",
+            "47,XX,+der(1)t(1;3)(p32;q21)",
+            "46,XX,der(3)t(3;5)(p21;q31)inv(3)(p13q21)",
+            "45,XX,dic(17;20)(p11.2;q11.2)[7]/46,XX[13]",
+            "46,XX,idic(X)(q13),r(7)(p22q36)[5]",
+            "46,XY,ins(5;2)(p14;q22q32),t(11;19;12)(q23;p13.3;p13)",
+            "47,XY,del(7)(q22),+8,?del(12)(p12)[cp10]",
+            "46,XX,der(13)(13pter->13q10::15q10->15q21::13q14->13qter)",
+            "46,XY,dup(1)(q21q32),trp(1)(q21q32),qdp(1)(q21q32)"
+        ));
+        if (args.length > 0) {
+            karyotypes.addAll(Files.readAllLines(Paths.get(args[0])));
+        }
+
+        int failed = 0;
+        for (String karyotype : karyotypes) {
+            if (karyotype.trim().isEmpty()) {
+                continue;
+            }
+            EventOutcomeCache.setCapacity(0);
+            String expected = describe(karyotype);
+            EventOutcomeCache.setCapacity(100000);
+            String filling = describe(karyotype);
+            String filled = describe(karyotype);
+            if (!expected.equals(filling) || !expected.equals(filled)) {
+                failed++;
+                System.out.println("MISMATCH: " + karyotype);
+            }
+        }
+        // Events of every karyotype, found in the cache filled by the ones before, or evicted from a small one
+        List<String> expectedResults = new ArrayList<>();
+        EventOutcomeCache.setCapacity(0);
+        for (String karyotype : karyotypes) {
+            expectedResults.add(karyotype.trim().isEmpty() ? null : describe(karyotype));
+        }
+        for (int capacity : new int[] {100000, 8}) {
+            EventOutcomeCache.setCapacity(capacity);
+            for (int i = 0; i < karyotypes.size(); i++) {
+                if (expectedResults.get(i) != null && !expectedResults.get(i).equals(describe(karyotypes.get(i)))) {
+                    failed++;
+                    System.out.println("MISMATCH across karyotypes, capacity " + capacity + ": " + karyotypes.get(i));
+                }
+            }
+            System.out.println(EventOutcomeCache.getReport());
+        }
+        if (EventOutcomeCache.getSize() > 8) {
+            failed++;
+            System.out.println("Cache of capacity 8 holds " + EventOutcomeCache.getSize() + " events");
+        }
+
+        System.out.println(karyotypes.size() + " karyotypes, " + failed + " mismatches");
+        if (failed > 0) {
+            System.exit(1);
+        }
+    }
+
+    // Every field of the result, as written by the codec, or the exception thrown
+    private static String describe(String karyotype) throws Exception {
+        FinalResult finalResult;
+        try {
+            finalResult = KaryotypeRunner.getFinalResult(karyotype);
+        } catch (RuntimeException e) {
+            return e.toString();
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        FinalResultCodec.write(new DataOutputStream(bytes), finalResult);
+        return Base64.getEncoder().encodeToString(bytes.toByteArray());
+    }
+}
@@ -0,0 +1,106 @@
+import business.Clone;
+import business.DerEvent;
+import business.Event;
+import business.ParseEvent;
+import compiler.KaryotypeLoader;
+import main.KaryotypeRowParser;
+import validation.ValidationResult;
+import validation.Validator;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.*;
+
+/**
+ * Checks that the stages after the KaryotypeLoader leave the clones and events it loaded as they are:
+ * every karyotype is loaded, described, run through the stages of KaryotypeRunner, and described again.
+ *
+ * Usage: java TestLoadedClonesUnchanged [karyotype file, one per line]
+ */
+public class TestLoadedClonesUnchanged {
+    public static void main(String[] args) throws Exception {
+        List<String> karyotypes = new ArrayList<>(Arrays.asList(
+            "47,XY,+8[12]/46,XY[8]",
+            "46,XX,del(5)(q13q33)[5]/46,idem,t(9;22)(q34;q11.2)[3]",
+            "46,XY,t(9;22)(q34;q11.2)[10]/46,XY,t(9;22),+8[5]",
+            "46,XX,r(7)[4]/46,XX,r(7),+r(7)[2]",
+            "46,XX,+der(1)r(1;?)(p36.1q23;?)",
+            "47,XX,+der(1)r(1;?)(p36.1q23;?)[3]/47,idem,+8[2]",
+            "46,XY,der(13)(13pter->13q10::15q10->15q21::13q14->13qter)",
+            "45,XX,-7,del(5)(q13q33)[5]/46,sl,+8[3]/47,sdl1,+21[2]",
+            "46,XX,inv(16)(p13.1q22)[20]/46,XX,inv(16)[3]"
+        ));
+        if (args.length > 0) {
+            karyotypes.addAll(Files.readAllLines(Paths.get(args[0])));
+        }
+
+        int loaded = 0;
+        int failed = 0;
+        for (String karyotype : karyotypes) {
+            List<Clone> rowClones;
+            try {
+                KaryotypeLoader loader = KaryotypeRowParser.loadRow(karyotype.replaceAll("\\s", "").replace("?", ""));
+                rowClones = loader.getRowClones();
+            } catch (RuntimeException e) {
+                continue;
+            }
+            loaded++;
+            String before = describe(rowClones);
+            try {
+                List<Clone> processedClones = new ParseEvent().processMissingBreakpoints(rowClones);
+                ValidationResult validationResult = Validator.validateRowClones(processedClones);
+                if (validationResult.isValid()) {
+                    processedClones = new ParseEvent().markUncertainDerEvent(processedClones);
+                    new ParseEvent(validationResult.getDerivativeValidationOutcomes()).getMultipleCloneRowOutcome(processedClones);
+                } else {
+                    validationResult.getMessages();
+                }
+            } catch (RuntimeException e) {
+                // Only the loaded clones matter here
+            }
+            String after = describe(rowClones);
+            if (!before.equals(after)) {
+                failed++;
+                System.out.println("CHANGED: " + karyotype);
+                System.out.println("  loaded:    " + before);
+                System.out.println("  afterward: " + after);
+            }
+        }
+
+        System.out.println(karyotypes.size() + " karyotypes, " + loaded + " loaded, " + failed + " changed");
+        if (failed > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static String describe(List<Clone> rowClones) {
+        StringBuilder sb = new StringBuilder();
+        for (Clone clone : rowClones) {
+            sb.append("clone=").append(clone.getCloneCode());
+            sb.append(" cellNum=").append(clone.getCellNumber());
+            sb.append(" related=").append(clone.getRelatedClone());
+            sb.append(" relationship=").append(new TreeMap<>(clone.getRelationship()));
+            for (Event e : clone.getCloneInput()) {
+                describe(e, sb);
+            }
+            sb.append(" | ");
+        }
+        return sb.toString();
+    }
+
+    private static void describe(Event e, StringBuilder sb) {
+        sb.append(" {").append(e.getEventCode());
+        sb.append(" nature=").append(e.getNature());
+        sb.append(" chrs=").append(e.getChrList());
+        sb.append(" breakpoints=").append(e.getBreakpoints());
+        sb.append(" gain=").append(e.getGainChrs());
+        sb.append(" loss=").append(e.getLossChrs());
+        sb.append(" copies=").append(e.getCopies());
+        sb.append(" uncertain=").append(e.isUncertainEvent());
+        if (e instanceof DerEvent) {
+            for (Event subevent : ((DerEvent) e).getSubevents()) {
+                describe(subevent, sb);
+            }
+        }
+        sb.append('}');
+    }
+}
@@ -0,0 +1,89 @@
+import business.BiologicalOutcome;
+import business.FinalResult;
+import compiler.SimpleKaryotypeRecognizer;
+import main.KaryotypeRunner;
+import main.TokenError;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.*;
+
+/**
+ * Differential test of the fast path: every karyotype is run with and without SimpleKaryotypeRecognizer,
+ * and the two FinalResults must be the same.
+ *
+ * Usage: java TestSimpleKaryotypeRecognizer [karyotype file, one per line]
+ */
+public class TestSimpleKaryotypeRecognizer {
+    public static void main(String[] args) throws Exception {
+        List<String> karyotypes = new ArrayList<>(Arrays.asList(
+            // Recognized
+            "46,XX", "46,XY", "46,XY[20]", "46,XX[20]", "45,X", "47,XXY", "45,X,-Y", "45,X,-X",
+            "47,XY,+8", "47,XX,+21", "47,XY,+X", "48,XXY,+21", "47,XY,+8[12]/46,XY[8]",
+            "45,XX,-7[5]/46,XX[15]", "47,XY,+8,-7,+21[3]/46,XY[17]", "92,XXYY[2]/46,XY[18]",
+            "46,XX,+8,-8", "47,XY,+8/46,XY", "46,XY[0]", "46,XX[08]", "47,XY,+23", "47,XY,+99[1]",
+            "45,X[10]/46,XX[10]/47,XXX[5]", "460,XX", "47,XYY",
+            // Left to ANTLR
+            "46,XX,+8x2", "48,XY,+8x2", "47,XY,8", "47,XY+8", "47,XY,,+8", "47,XY,+08", "47,XY,+100",
+            "47,XY,+8[cp12]", "46,xx", "46,XX/", "46,XX//46,XY", "46,XX.", "46~48,XX", "46,XX,?+8",
+            "47,XY,+XX", "46,XX[20", "46,XX]20]", "46,XX[20]/idem,+8[3]", "46,XY,del(5)(q13q33)",
+            "46", "XX", "", "46,XX,", "47,XY,+8c", "46<2n>,XX"
+        ));
+        if (args.length > 0) {
+            karyotypes.addAll(Files.readAllLines(Paths.get(args[0])));
+        }
+
+        int recognized = 0;
+        int failed = 0;
+        for (String karyotype : karyotypes) {
+            SimpleKaryotypeRecognizer.setEnabled(true);
+            if (SimpleKaryotypeRecognizer.getRowClones(KaryotypeRunner.normalizeInput(karyotype)) != null) {
+                recognized++;
+            }
+            String fastPath = run(karyotype);
+            SimpleKaryotypeRecognizer.setEnabled(false);
+            String antlrPath = run(karyotype);
+            if (!fastPath.equals(antlrPath)) {
+                failed++;
+                System.out.println("MISMATCH: " + karyotype);
+                System.out.println("  fast path: " + fastPath);
+                System.out.println("  ANTLR:     " + antlrPath);
+            }
+        }
+        SimpleKaryotypeRecognizer.setEnabled(true);
+
+        System.out.println(karyotypes.size() + " karyotypes, " + recognized + " recognized by the fast path, " + failed + " mismatches");
+        if (failed > 0) {
+            System.exit(1);
+        }
+    }
+
+    // Some inputs the fast path leaves to ANTLR, such as "", make the pipeline throw; both paths must then throw alike
+    private static String run(String karyotype) {
+        try {
+            return describe(KaryotypeRunner.getFinalResult(karyotype));
+        } catch (RuntimeException e) {
+            return "exception=" + e;
+        }
+    }
+
+    private static String describe(FinalResult result) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("lexerParserError=").append(result.isContainingLexerParserError());
+        sb.append(" validationError=").append(result.isContainingValidationError());
+        sb.append(" validation=").append(result.getValidationMessage());
+        sb.append(" revised=").append(result.getRevisedKaryotype());
+        sb.append(" clones=").append(result.getCloneCodeList());
+        sb.append(" cellNums=").append(result.getCellNumList());
+        sb.append(" relationships=").append(result.getRelationshipList());
+        sb.append(" interpretations=").append(result.getBiologicalInterpretationList());
+        for (TokenError e : result.getTokenErrorList()) {
+            sb.append(" tokenError=").append(e.getOffsetStart()).append('+').append(e.getLength()).append(':').append(e.getMessage());
+        }
+        for (BiologicalOutcome b : result.getBiologicalOutcomeList()) {
+            sb.append(" lgf=").append(b.getKaryotypeLGF());
+            sb.append(" uncertain=").append(b.getUncertainEventsList());
+            sb.append(" detailed=").append(b.getDetailedSystem());
+        }
+        return sb.toString();
+    }
+}
@@ -3,9 +3,11 @@ package business;
 import java.util.ArrayList;
 import java.util.List;
 
+import toolkit.CytobandIndex;
+
 /**
  * Utility class for calculating chromosome band ranges
- * Uses the ISCN 2016 band definitions from BiologicalOutcome
+ * Uses the ISCN 2016 band definitions from CytobandIndex
  *
  * @author ilariamt
  * Date: January 02, 2026
@@ -13,8 +15,6 @@ import java.util.List;
  */
 public class BandRangeCalculator {
 
-    private static ParseEvent parseEvent = new ParseEvent();
-
     /**
      * Get all bands between two breakpoints (inclusive)
      * Example: getAllBandsBetween("15q10", "15q21")
@@ -36,8 +36,8 @@ public class BandRangeCalculator {
         List<String> bands = new ArrayList<>();
 
         // Get the index-to-chr mapping
-        java.util.Map<Integer, String> indexToChrMap = parseEvent.getIndexToChrMap();
-        java.util.Map<String, Integer> chrToIndexMap = parseEvent.getChrToIndexMap();
+        java.util.Map<Integer, String> indexToChrMap = CytobandIndex.getIndexToChrMap();
+        java.util.Map<String, Integer> chrToIndexMap = CytobandIndex.getChrToIndexMap();
 
         // Handle special cases with telomeres
         if (start.contains("pter") || start.contains("qter") ||
@@ -385,17 +385,9 @@ public class BandRangeCalculator {
             return index;
         }
 
-        // Search for any band that starts with this pattern - find the LOWEST index
-        Integer lowestIndex = null;
-        for (String key : chrToIndexMap.keySet()) {
-            if (key.startsWith(band.toLowerCase())) {
-                Integer keyIndex = chrToIndexMap.get(key);
-                if (lowestIndex == null || keyIndex < lowestIndex) {
-                    lowestIndex = keyIndex;
-                }
-            }
-        }
-        return lowestIndex;
+        // Resolve the bands that start with this pattern - the innermost has the LOWEST index
+        int lowestIndex = CytobandIndex.getFirstIndex(band.toLowerCase());
+        return lowestIndex < 0 ? null : lowestIndex;
     }
 
     /**
@@ -410,17 +402,9 @@ public class BandRangeCalculator {
             return exactIndex;
         }
 
-        // Search for all bands that start with this pattern and find the HIGHEST index
-        Integer highestIndex = null;
-        for (String key : chrToIndexMap.keySet()) {
-            if (key.startsWith(band.toLowerCase())) {
-                Integer keyIndex = chrToIndexMap.get(key);
-                if (highestIndex == null || keyIndex > highestIndex) {
-                    highestIndex = keyIndex;
-                }
-            }
-        }
-        return highestIndex;
+        // Resolve the bands that start with this pattern - the outermost has the HIGHEST index
+        int highestIndex = CytobandIndex.getLastIndex(band.toLowerCase());
+        return highestIndex < 0 ? null : highestIndex;
     }
 
     /**
@@ -456,7 +440,7 @@ public class BandRangeCalculator {
      */
     public static List<String> getAllBandsInArm(String chrArm) {
         List<String> bands = new ArrayList<>();
-        java.util.Map<Integer, String> indexToChrMap = parseEvent.getIndexToChrMap();
+        java.util.Map<Integer, String> indexToChrMap = CytobandIndex.getIndexToChrMap();
 
         String chrArmLower = chrArm.toLowerCase();
 
@@ -0,0 +1,194 @@
+package business;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Canonical form of a karyotype, built from the clones and events loaded by the KaryotypeLoader, so
+ * that karyotypes written differently but meaning the same have the same canonical string and the
+ * same 64-bit fingerprint, and each of their clones too.
+ *
+ * The canonical string of a clone is its chromosome number, its sex chromosomes, its events and its
+ * cell number. Its events are written from what was loaded, not from the karyotype text, and sorted,
+ * so that the order of the events within the clone does not matter. The events of idem, sl and sdl
+ * clones are the ones they were loaded with, including those of the clone they refer to, and their
+ * sex chromosomes are those of that clone. The clones keep their order, except clones with the same
+ * cell number, which are sorted among themselves, as their order does not matter.
+ *
+ * Surrounding quotes and whitespace are removed before karyotypes are loaded, so they do not change
+ * the canonical form. Karyotypes that are not loaded, because they do not follow the grammar, have
+ * no canonical form, nor have karyotypes with '?', which is removed before they are loaded, so that
+ * they are not taken for the same karyotypes without it.
+ *
+ * The fingerprints are the 64-bit FNV-1a hashes of the canonical strings, the same in every run.
+ *
+ * @author ilariamt
+ * Date: October 16, 2026
+ */
+public class CanonicalKaryotype {
+
+	private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+	private static final long FNV_PRIME = 0x100000001b3L;
+
+	private final String canonicalString;
+	private final long fingerprint;
+	// In the order of the clones of the karyotype, not of the canonical string
+	private final List<Long> cloneFingerprintList;
+
+	private CanonicalKaryotype(String canonicalString, List<Long> cloneFingerprintList) {
+		this.canonicalString = canonicalString;
+		fingerprint = getFingerprint(canonicalString);
+		this.cloneFingerprintList = cloneFingerprintList;
+	}
+
+	public static CanonicalKaryotype of(List<Clone> rowClones) {
+		List<String> sexChrs = new ArrayList<>();
+		List<String> canonicalClones = new ArrayList<>();
+		List<Long> cloneFingerprintList = new ArrayList<>();
+		for (Clone clone : rowClones) {
+			String cloneCode = clone.getCloneCode();
+			String[] fields = (cloneCode.contains("[") ? cloneCode.substring(0, cloneCode.indexOf('[')) : cloneCode).split(",");
+			String sexChr = fields.length > 1 ? fields[1].toUpperCase(Locale.ROOT) : "";
+			if (!sexChr.matches("[XY]+C?(OR[XY]+C?)*")) {
+				int relatedClone = clone.getRelatedClone();
+				sexChr = relatedClone >= 0 && relatedClone < sexChrs.size() ? sexChrs.get(relatedClone) : "";
+			}
+			sexChrs.add(sexChr);
+			String canonicalClone = getCanonicalClone(clone, fields[0], sexChr);
+			canonicalClones.add(canonicalClone);
+			cloneFingerprintList.add(getFingerprint(canonicalClone));
+		}
+
+		// Clones with the same cell number are sorted among the places they take
+		Map<Integer, List<Integer>> clonesByCellNumber = new LinkedHashMap<>();
+		for (int i = 0; i < rowClones.size(); i++) {
+			clonesByCellNumber.computeIfAbsent(rowClones.get(i).getCellNumber(), n -> new ArrayList<>()).add(i);
+		}
+		String[] orderedClones = new String[rowClones.size()];
+		for (List<Integer> places : clonesByCellNumber.values()) {
+			List<String> clones = new ArrayList<>();
+			for (int i : places) {
+				clones.add(canonicalClones.get(i));
+			}
+			Collections.sort(clones);
+			for (int i = 0; i < places.size(); i++) {
+				orderedClones[places.get(i)] = clones.get(i);
+			}
+		}
+		return new CanonicalKaryotype(String.join("/", orderedClones), cloneFingerprintList);
+	}
+
+	private static String getCanonicalClone(Clone clone, String chrNum, String sexChr) {
+		List<String> events = new ArrayList<>();
+		for (Event e : clone.getCloneInput()) {
+			events.add(getCanonicalEvent(e));
+		}
+		Collections.sort(events);
+		StringBuilder sb = new StringBuilder(chrNum.trim());
+		if (!sexChr.isEmpty()) {
+			sb.append(',').append(sexChr);
+		}
+		for (String event : events) {
+			sb.append(',').append(event);
+		}
+		if (clone.getCellNumber() != 0 || clone.getCloneCode().contains("[")) {
+			sb.append('[');
+			if (clone.getCloneCode().contains("[cp")) {
+				sb.append("cp");
+			}
+			sb.append(clone.getCellNumber()).append(']');
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Written from the loaded fields of the event, e.g. "t(9;22)(q34;q11.2)", "+(8)", "-(7)", or from
+	 * its text, such as "+mar", when none of them describes it. Also the key of the EventOutcomeCache.
+	 */
+	static String getCanonicalEvent(Event e) {
+		StringBuilder sb = new StringBuilder();
+		if (e.isUncertainEvent()) {
+			sb.append('?');
+		}
+		int start = sb.length();
+		if (e instanceof DerEvent && ((DerEvent) e).isExtraCopy()) {
+			sb.append('+');
+		}
+		sb.append(e.getNature());
+		appendList(sb, e.getChrList());
+		if (e.getBreakpoints() != null && !e.getBreakpoints().isEmpty()) {
+			sb.append('(');
+			for (int i = 0; i < e.getBreakpoints().size(); i++) {
+				if (i > 0) {
+					sb.append(';');
+				}
+				sb.append(String.join("", e.getBreakpoints().get(i)));
+			}
+			sb.append(')');
+		}
+		if (e.getGainChrs() != null && !e.getGainChrs().isEmpty()) {
+			sb.append('+');
+			appendList(sb, e.getGainChrs());
+		}
+		if (e.getLossChrs() != null && !e.getLossChrs().isEmpty()) {
+			sb.append('-');
+			appendList(sb, e.getLossChrs());
+		}
+		if (sb.length() == start && e.getEventCode() != null) {
+			sb.append(e.getEventCode());
+		}
+		if (e.getCopies() != 1) {
+			sb.append('x').append(e.getCopies());
+		}
+		// Constitutional events are not marked in the loaded fields
+		if (e.getEventCode() != null && e.getEventCode().toLowerCase(Locale.ROOT).endsWith("c")) {
+			sb.append('c');
+		}
+		if (e instanceof DerEvent) {
+			// The order of the events of a derivative chromosome is kept, as it may matter
+			sb.append('{');
+			List<Event> subevents = ((DerEvent) e).getSubevents();
+			for (int i = 0; i < subevents.size(); i++) {
+				if (i > 0) {
+					sb.append(',');
+				}
+				sb.append(getCanonicalEvent(subevents.get(i)));
+			}
+			sb.append('}');
+		}
+		return sb.toString();
+	}
+
+	private static void appendList(StringBuilder sb, List<String> list) {
+		if (list != null && !list.isEmpty()) {
+			sb.append('(').append(String.join(";", list)).append(')');
+		}
+	}
+
+	public static long getFingerprint(String canonicalString) {
+		long hash = FNV_OFFSET_BASIS;
+		for (byte b : canonicalString.getBytes(StandardCharsets.UTF_8)) {
+			hash ^= b & 0xff;
+			hash *= FNV_PRIME;
+		}
+		return hash;
+	}
+
+	public String getCanonicalString() {
+		return canonicalString;
+	}
+
+	public long getFingerprint() {
+		return fingerprint;
+	}
+
+	public List<Long> getCloneFingerprintList() {
+		return cloneFingerprintList;
+	}
+
+}
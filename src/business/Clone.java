@@ -29,6 +29,15 @@ public class Clone {
 		cloneCode = "";
 	}
 
+	// The same clone with other events, sharing everything else
+	public Clone(Clone clone, List<Event> cloneInput) {
+		cellNumber = clone.getCellNumber();
+		relatedClone = clone.getRelatedClone();
+		relationship = clone.getRelationship();
+		this.cloneInput = cloneInput;
+		cloneCode = clone.getCloneCode();
+	}
+
 	public int getCellNumber() {
 		return cellNumber;
 	}
@@ -21,6 +21,13 @@ public class DerEvent extends Event {
 		subevents = new ArrayList<Event>();
 	}
 
+	// The copy shares the subevents of d, which the stages after the KaryotypeLoader never change
+	public DerEvent(DerEvent d) {
+		super(d);
+		subevents = new ArrayList<Event>(d.getSubevents());
+		extraCopy = d.isExtraCopy();
+	}
+
 	public List<Event> getSubevents() {
 		return subevents;
 	}
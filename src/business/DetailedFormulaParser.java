@@ -1,7 +1,6 @@
 package business;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -10,6 +9,9 @@ import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import toolkit.CytobandIndex;
+import toolkit.NormalizedKaryotype;
+
 /**
  * Parser for detailed derivative chromosome formulas
  * Format: der(chr)(segment1::segment2::segment3)
@@ -32,7 +34,7 @@ import java.util.regex.Pattern;
  */
 public class DetailedFormulaParser {
 
-    private ParseEvent parseEvent = new ParseEvent();
+    private static final Pattern CHR_PATTERN = Pattern.compile("^(\\d+|[XY])");
 
     /**
      * Check if input contains detailed formula syntax
@@ -41,8 +43,7 @@ public class DetailedFormulaParser {
     public static boolean isDetailedFormula(String input) {
         // Look for patterns: der(...)(...)  or dic(...)(...)  or r(...)(...) 
         // with -> or :: inside the second set of parentheses
-        Pattern pattern = Pattern.compile("(?:der|dic|r)\\([^)]*\\)\\([^)]*(?:->|::)[^)]*\\)");
-        return pattern.matcher(input).find();
+        return NormalizedKaryotype.containsDetailedFormula(input);
     }
 
     /**
@@ -62,23 +63,20 @@ public class DetailedFormulaParser {
         // Example: "11?q21" -> "11q21"
         boolean containsQuestionMark = input.contains("?");
         if (containsQuestionMark) {
-            input = input.replaceAll("\\?", "");
+            input = input.replace("?", "");
         }
 
         // Initialize LGF
         List<String> uncertainEventsList = new ArrayList<>();
         List<String> derDetailedSystem = new ArrayList<>();
 
-        List<List<Integer>> initKaryotypeLGF = new ArrayList<>();
-        initKaryotypeLGF.add(new ArrayList<>(Collections.nCopies(parseEvent.getIndexToChrMap().size(), 0)));  // loss
-        initKaryotypeLGF.add(new ArrayList<>(Collections.nCopies(parseEvent.getIndexToChrMap().size(), 0)));  // gain
-        initKaryotypeLGF.add(new ArrayList<>(Collections.nCopies(parseEvent.getIndexToChrMap().size(), 0)));  // fusion
+        KaryotypeLGF initKaryotypeLGF = new KaryotypeLGF(CytobandIndex.size());
 
         BiologicalOutcome b = new BiologicalOutcome(initKaryotypeLGF, uncertainEventsList, derDetailedSystem);
 
         // Extract detailed derivative formulas using balanced parenthesis parsing
         // This handles nested parentheses correctly
-        List<String> detailedFormulas = extractDetailedFormulas(input);
+        List<String> detailedFormulas = NormalizedKaryotype.extractDetailedFormulas(input);
         
         for (String formula : detailedFormulas) {
             // Extract baseChrSpec and detailedFormula from formula like "der(13)(13pter->...)"
@@ -99,11 +97,11 @@ public class DetailedFormulaParser {
 
             if (baseChrs.length == 1) {
                 // Standard derivative with single base chromosome
-                parseDetailedSegments(detailedFormula, baseChrs[0].trim(), b.getKaryotypeLGF());
+                parseDetailedSegments(detailedFormula, baseChrs[0].trim(), b.getLGF());
             } else {
                 // Dicentric: multiple base chromosomes
                 // Each base chromosome gets loss detection
-                parseDetailedSegmentsDicentric(detailedFormula, baseChrs, b.getKaryotypeLGF());
+                parseDetailedSegmentsDicentric(detailedFormula, baseChrs, b.getLGF());
             }
         }
 
@@ -122,10 +120,10 @@ public class DetailedFormulaParser {
      * - DUPLICATED SEGMENTS: When same chromosome regions appear multiple times,
      *   the extra occurrences are marked as GAIN
      */
-    private void parseDetailedSegments(String formula, String baseChr, List<List<Integer>> karyotypeLGF) {
-        List<Integer> karyotypeLossOutcome = karyotypeLGF.get(0);
-        List<Integer> karyotypeGainOutcome = karyotypeLGF.get(1);
-        List<Integer> karyotypeFusionOutcome = karyotypeLGF.get(2);
+    private void parseDetailedSegments(String formula, String baseChr, KaryotypeLGF karyotypeLGF) {
+        int[] karyotypeLossOutcome = karyotypeLGF.getLoss();
+        int[] karyotypeGainOutcome = karyotypeLGF.getGain();
+        int[] karyotypeFusionOutcome = karyotypeLGF.getFusion();
 
         // Check for ring chromosome (starts and ends with ::)
         boolean isRing = formula.startsWith("::") && formula.endsWith("::");
@@ -197,11 +195,11 @@ public class DetailedFormulaParser {
         for (Map.Entry<String, Integer> entry : baseChrBandCount.entrySet()) {
             if (entry.getValue() > 1) {
                 // Band appears more than once = duplication = GAIN
-                Integer index = parseEvent.getChrToIndexMap().get(entry.getKey());
+                Integer index = CytobandIndex.getChrToIndexMap().get(entry.getKey());
                 if (index != null) {
                     // Mark (count - 1) as gains (one occurrence is normal, extras are gained)
                     int gainCount = entry.getValue() - 1;
-                    karyotypeGainOutcome.set(index, karyotypeGainOutcome.get(index) + gainCount);
+                    karyotypeGainOutcome[index] += gainCount;
                 }
             }
         }
@@ -220,10 +218,10 @@ public class DetailedFormulaParser {
      * - Material from non-base chromosomes is still gained
      * - DUPLICATED SEGMENTS from base chromosomes are marked as GAIN
      */
-    private void parseDetailedSegmentsDicentric(String formula, String[] baseChrs, List<List<Integer>> karyotypeLGF) {
-        List<Integer> karyotypeLossOutcome = karyotypeLGF.get(0);
-        List<Integer> karyotypeGainOutcome = karyotypeLGF.get(1);
-        List<Integer> karyotypeFusionOutcome = karyotypeLGF.get(2);
+    private void parseDetailedSegmentsDicentric(String formula, String[] baseChrs, KaryotypeLGF karyotypeLGF) {
+        int[] karyotypeLossOutcome = karyotypeLGF.getLoss();
+        int[] karyotypeGainOutcome = karyotypeLGF.getGain();
+        int[] karyotypeFusionOutcome = karyotypeLGF.getFusion();
 
         // Check for ring chromosome
         boolean isRing = formula.startsWith("::") && formula.endsWith("::");
@@ -302,11 +300,11 @@ public class DetailedFormulaParser {
             for (Map.Entry<String, Integer> entry : bandCount.entrySet()) {
                 if (entry.getValue() > 1) {
                     // Band appears more than once = duplication = GAIN
-                    Integer index = parseEvent.getChrToIndexMap().get(entry.getKey());
+                    Integer index = CytobandIndex.getChrToIndexMap().get(entry.getKey());
                     if (index != null) {
                         // Mark (count - 1) as gains
                         int gainCount = entry.getValue() - 1;
-                        karyotypeGainOutcome.set(index, karyotypeGainOutcome.get(index) + gainCount);
+                        karyotypeGainOutcome[index] += gainCount;
                     }
                 }
             }
@@ -324,8 +322,7 @@ public class DetailedFormulaParser {
      * Example: "13pter" -> "13", "15q21" -> "15"
      */
     private String extractChr(String breakpoint) {
-        Pattern pattern = Pattern.compile("^(\\d+|[XY])");
-        Matcher matcher = pattern.matcher(breakpoint);
+        Matcher matcher = CHR_PATTERN.matcher(breakpoint);
         if (matcher.find()) {
             return matcher.group(1);
         }
@@ -335,7 +332,7 @@ public class DetailedFormulaParser {
     /**
      * Mark a fusion point in the fusion outcome vector
      */
-    private void markFusionPoint(List<Integer> karyotypeFusionOutcome, String breakpoint) {
+    private void markFusionPoint(int[] karyotypeFusionOutcome, String breakpoint) {
         // Skip telomeres and special markers
         if (breakpoint.contains("pter") || breakpoint.contains("qter") ||
             breakpoint.equals("hsr") || breakpoint.isEmpty()) {
@@ -345,8 +342,8 @@ public class DetailedFormulaParser {
         // Breakpoint is already in correct format (e.g., "15q21"), just lowercase it
         String band = breakpoint.toLowerCase();
 
-        // Use parseEvent's mapping to find the index
-        Integer index = parseEvent.getChrToIndexMap().get(band);
+        // Use the shared cytoband index to find the index
+        Integer index = CytobandIndex.getChrToIndexMap().get(band);
 
         // If exact match not found, try fuzzy matching
         if (index == null) {
@@ -354,7 +351,7 @@ public class DetailedFormulaParser {
         }
 
         if (index != null) {
-            karyotypeFusionOutcome.set(index, karyotypeFusionOutcome.get(index) + 1);
+            karyotypeFusionOutcome[index] += 1;
         }
     }
 
@@ -363,7 +360,7 @@ public class DetailedFormulaParser {
      * Handles cases like "15q21" when only "15q21.1", "15q21.2", etc. exist
      */
     private Integer findClosestBandIndex(String band) {
-        java.util.Map<String, Integer> chrToIndexMap = parseEvent.getChrToIndexMap();
+        java.util.Map<String, Integer> chrToIndexMap = CytobandIndex.getChrToIndexMap();
 
         // Try with .1 suffix (most common)
         Integer index = chrToIndexMap.get(band + ".1");
@@ -378,14 +375,9 @@ public class DetailedFormulaParser {
             return index;
         }
 
-        // Search for any band that starts with this pattern
-        for (String key : chrToIndexMap.keySet()) {
-            if (key.startsWith(band)) {
-                return chrToIndexMap.get(key);
-            }
-        }
-
-        return null;
+        // Resolve the bands that start with this pattern to the innermost one, as BandRangeCalculator does
+        int firstIndex = CytobandIndex.getFirstIndex(band);
+        return firstIndex < 0 ? null : firstIndex;
     }
 
     /**
@@ -394,7 +386,7 @@ public class DetailedFormulaParser {
      * Example: recordSegmentGain(..., "15q10", "15q21")
      * Will mark ALL bands from 15q10 to 15q21 as gained
      */
-    private void recordSegmentGain(List<Integer> karyotypeGainOutcome, List<Integer> karyotypeFusionOutcome,
+    private void recordSegmentGain(int[] karyotypeGainOutcome, int[] karyotypeFusionOutcome,
                                     String startPoint, String endPoint) {
         // Mark fusion at both ends
         markFusionPoint(karyotypeFusionOutcome, startPoint);
@@ -405,9 +397,9 @@ public class DetailedFormulaParser {
 
         // Mark each band as gained
         for (String band : bandsInSegment) {
-            Integer index = parseEvent.getChrToIndexMap().get(band.toLowerCase());
+            Integer index = CytobandIndex.getChrToIndexMap().get(band.toLowerCase());
             if (index != null) {
-                karyotypeGainOutcome.set(index, karyotypeGainOutcome.get(index) + 1);
+                karyotypeGainOutcome[index] += 1;
             }
         }
     }
@@ -420,7 +412,7 @@ public class DetailedFormulaParser {
      * 1. Get ALL bands for the base chromosome (both p and q arms)
      * 2. Mark as LOST any band that is NOT in the coveredBands set
      */
-    private void detectLossesImproved(String formula, String baseChr, List<Integer> karyotypeLossOutcome, Set<String> coveredBands) {
+    private void detectLossesImproved(String formula, String baseChr, int[] karyotypeLossOutcome, Set<String> coveredBands) {
         // Get all bands for both p and q arms of the base chromosome
         List<String> allPBands = BandRangeCalculator.getAllBandsInArm(baseChr + "p");
         List<String> allQBands = BandRangeCalculator.getAllBandsInArm(baseChr + "q");
@@ -428,18 +420,18 @@ public class DetailedFormulaParser {
         // Check each band - if not covered, it's lost
         for (String band : allPBands) {
             if (!coveredBands.contains(band.toLowerCase())) {
-                Integer index = parseEvent.getChrToIndexMap().get(band.toLowerCase());
+                Integer index = CytobandIndex.getChrToIndexMap().get(band.toLowerCase());
                 if (index != null) {
-                    karyotypeLossOutcome.set(index, karyotypeLossOutcome.get(index) + 1);
+                    karyotypeLossOutcome[index] += 1;
                 }
             }
         }
         
         for (String band : allQBands) {
             if (!coveredBands.contains(band.toLowerCase())) {
-                Integer index = parseEvent.getChrToIndexMap().get(band.toLowerCase());
+                Integer index = CytobandIndex.getChrToIndexMap().get(band.toLowerCase());
                 if (index != null) {
-                    karyotypeLossOutcome.set(index, karyotypeLossOutcome.get(index) + 1);
+                    karyotypeLossOutcome[index] += 1;
                 }
             }
         }
@@ -448,11 +440,11 @@ public class DetailedFormulaParser {
     /**
      * Mark all bands in a list as lost
      */
-    private void markBandsAsLost(List<String> bands, List<Integer> karyotypeLossOutcome) {
+    private void markBandsAsLost(List<String> bands, int[] karyotypeLossOutcome) {
         for (String band : bands) {
-            Integer index = parseEvent.getChrToIndexMap().get(band.toLowerCase());
+            Integer index = CytobandIndex.getChrToIndexMap().get(band.toLowerCase());
             if (index != null) {
-                karyotypeLossOutcome.set(index, karyotypeLossOutcome.get(index) + 1);
+                karyotypeLossOutcome[index] += 1;
             }
         }
     }
@@ -460,7 +452,7 @@ public class DetailedFormulaParser {
     /**
      * Mark entire chromosome as lost (used when no segments from base chr in formula)
      */
-    private void markEntireChromosomeLoss(String chr, List<Integer> karyotypeLossOutcome) {
+    private void markEntireChromosomeLoss(String chr, int[] karyotypeLossOutcome) {
         // Get all bands for both p and q arms
         List<String> pBands = BandRangeCalculator.getAllBandsInArm(chr + "p");
         List<String> qBands = BandRangeCalculator.getAllBandsInArm(chr + "q");
@@ -481,8 +473,8 @@ public class DetailedFormulaParser {
         if (bp2.contains("qter")) return -1;
 
         // Get indices from the mapping
-        Integer index1 = parseEvent.getChrToIndexMap().get(bp1.toLowerCase());
-        Integer index2 = parseEvent.getChrToIndexMap().get(bp2.toLowerCase());
+        Integer index1 = CytobandIndex.getChrToIndexMap().get(bp1.toLowerCase());
+        Integer index2 = CytobandIndex.getChrToIndexMap().get(bp2.toLowerCase());
 
         if (index1 != null && index2 != null) {
             return index1.compareTo(index2);
@@ -492,73 +484,6 @@ public class DetailedFormulaParser {
         return bp1.compareTo(bp2);
     }
 
-    /**
-     * Extract all detailed formulas from input string using balanced parenthesis parsing.
-     * This correctly handles nested parentheses and multiple detailed formulas.
-     * 
-     * Examples:
-     * - "der(13)(13pter->13q10::15q10->15q21::13q14->13qter)" -> [der(13)(13pter->13q10::15q10->15q21::13q14->13qter)]
-     * - "der(11)(11pter->11q11::22q11->22q13::11q22->11qter),t(9;14)" -> [der(11)(11pter->11q11::22q11->22q13::11q22->11qter)]
-     */
-    private static List<String> extractDetailedFormulas(String input) {
-        List<String> detailedFormulas = new ArrayList<>();
-        
-        // Find all der/dic/r patterns with balanced parentheses
-        // Only extract formulas that contain -> or :: (actual detailed formulas)
-        int i = 0;
-        while (i < input.length()) {
-            // Look for der, dic, or r at position i
-            if (i <= input.length() - 3 && 
-                ((input.startsWith("der(", i)) || 
-                 (input.startsWith("dic(", i)) || 
-                 (input.startsWith("r(", i)))) {
-                
-                // Find the start of the formula
-                int formulaStart = i;
-                
-                // Skip past "der(" or "dic(" or "r("
-                int j = i + (input.startsWith("r(", i) ? 2 : 3);
-                
-                // Find matching ) for the first set of parentheses (base chromosome spec)
-                int parenCount = 1;
-                while (j < input.length() && parenCount > 0) {
-                    if (input.charAt(j) == '(') parenCount++;
-                    else if (input.charAt(j) == ')') parenCount--;
-                    j++;
-                }
-                
-                // Now j is right after the first )
-                // Check if the next character is (
-                if (j < input.length() && input.charAt(j) == '(') {
-                    // Find matching ) for the second set of parentheses (detailed formula)
-                    j++; // Skip the (
-                    parenCount = 1;
-                    while (j < input.length() && parenCount > 0) {
-                        if (input.charAt(j) == '(') parenCount++;
-                        else if (input.charAt(j) == ')') parenCount--;
-                        j++;
-                    }
-                    
-                    // Extract the complete formula
-                    String formula = input.substring(formulaStart, j);
-                    
-                    // Only add if it contains -> or :: (actual detailed formula)
-                    if (formula.contains("->") || formula.contains("::")) {
-                        detailedFormulas.add(formula);
-                    }
-                    
-                    i = j;
-                } else {
-                    i++;
-                }
-            } else {
-                i++;
-            }
-        }
-        
-        return detailedFormulas;
-    }
-
     /**
      * Inner class to represent a chromosome segment
      */
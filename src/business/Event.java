@@ -34,10 +34,14 @@ public class Event {
 		eventCode = "";
 	}
 	
+	// The breakpoints of each chromosome are copied too, so editing the copy never changes e
 	public Event(Event e) {
 		nature = e.getNature();
 		chrList = new ArrayList<String>(e.getChrList());
-		breakpoints = new ArrayList<List<String>>(e.getBreakpoints());
+		breakpoints = new ArrayList<List<String>>();
+		for (List<String> pointList: e.getBreakpoints()) {
+			breakpoints.add(new ArrayList<String>(pointList));
+		}
 		gainChrs = new ArrayList<String>(e.getGainChrs());
 		lossChrs = new ArrayList<String>(e.getLossChrs());
 		copies = e.getCopies();
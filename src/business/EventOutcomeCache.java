@@ -0,0 +1,198 @@
+package business;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Cache of the outcomes of events, shared by all karyotypes: the same events, such as
+ * t(9;22)(q34;q11.2), del(5)(q13q33), +8 or -7, come back in many karyotypes of a cohort, and
+ * working out their loss, gain and fusion counts again, which for derivative chromosomes means
+ * validating them, gives the same counts each time.
+ *
+ * The events are keyed by their canonical form, as written by CanonicalKaryotype: it holds every
+ * field the outcome of an event depends on, its nature, chromosomes and breakpoints, the chromosomes
+ * it gains and loses, whether it is an extra copy of a derivative chromosome, and the events of a
+ * derivative chromosome. For each event, the cache keeps the counts it adds, sparsely, and the
+ * detailed systems it adds. Every count of an event outcome is added to the counts there are, so
+ * adding the counts of an event to an outcome gives the same outcome as working them out on it.
+ * Uncertain events, whose outcome is only to be listed, are not cached.
+ *
+ * The cache is off by default; setCapacity(n) turns it on for at most n events, evicting events
+ * as a segmented LRU. An event seen for the first time goes to the probation segment; found again,
+ * it moves to the protected segment, which holds up to 80% of the events, and the least recently
+ * used protected events go back on probation when it is full. The least recently used events on
+ * probation are evicted. So the events that keep coming back stay in the cache however long the
+ * run, and events seen once, such as the rare translocations of a single patient, do not push them
+ * out. Evicted events are counted apart from the misses.
+ *
+ * It can be used by several threads at once: the segments are only locked to look up and add
+ * events, while the outcome of a miss is worked out outside the lock, so two threads missing the
+ * same event both work it out and the first outcome is kept.
+ *
+ * @author ilariamt
+ * Date: October 16, 2026
+ */
+public class EventOutcomeCache {
+
+	private static volatile int capacity = 0;
+	private static final AtomicLong hitCount = new AtomicLong();
+	private static final AtomicLong missCount = new AtomicLong();
+	private static final AtomicLong evictionCount = new AtomicLong();
+	// Guarded by probationOutcomes, as is protectedOutcomes; both are least recently used first
+	private static int protectedCapacity = 0;
+	private static final LinkedHashMap<String, EventOutcome> probationOutcomes = new LinkedHashMap<>(16, 0.75f, true);
+	private static final LinkedHashMap<String, EventOutcome> protectedOutcomes = new LinkedHashMap<>(16, 0.75f, true);
+
+	// Also empties the cache; 0 turns it off
+	public static void setCapacity(int capacity) {
+		if (capacity < 0) {
+			throw new IllegalArgumentException("Cache capacity must be at least 0: " + capacity);
+		}
+		synchronized (probationOutcomes) {
+			EventOutcomeCache.capacity = capacity;
+			protectedCapacity = capacity * 4 / 5;
+			probationOutcomes.clear();
+			protectedOutcomes.clear();
+		}
+	}
+
+	public static int getCapacity() {
+		return capacity;
+	}
+
+	public static boolean isEnabled() {
+		return capacity > 0;
+	}
+
+	/**
+	 * Returns the outcome of the event, from the cache if it holds it, from the outcome given by
+	 * eventOutcome, worked out on an empty outcome, otherwise.
+	 */
+	static EventOutcome getEventOutcome(Event e, Supplier<BiologicalOutcome> eventOutcome) {
+		String key = CanonicalKaryotype.getCanonicalEvent(e);
+		synchronized (probationOutcomes) {
+			EventOutcome outcome = protectedOutcomes.get(key);
+			if (outcome == null) {
+				outcome = probationOutcomes.remove(key);
+				if (outcome != null) {
+					protect(key, outcome);
+				}
+			}
+			if (outcome != null) {
+				hitCount.incrementAndGet();
+				return outcome;
+			}
+		}
+		missCount.incrementAndGet();
+		EventOutcome outcome = new EventOutcome(eventOutcome.get());
+		synchronized (probationOutcomes) {
+			if (capacity > 0 && !protectedOutcomes.containsKey(key) && !probationOutcomes.containsKey(key)) {
+				probationOutcomes.put(key, outcome);
+				evict();
+			}
+		}
+		return outcome;
+	}
+
+	// The least recently used protected event goes back on probation when the protected segment is full
+	private static void protect(String key, EventOutcome outcome) {
+		if (protectedCapacity == 0) {
+			probationOutcomes.put(key, outcome);
+			return;
+		}
+		protectedOutcomes.put(key, outcome);
+		if (protectedOutcomes.size() > protectedCapacity) {
+			Iterator<Map.Entry<String, EventOutcome>> leastRecentlyUsed = protectedOutcomes.entrySet().iterator();
+			Map.Entry<String, EventOutcome> entry = leastRecentlyUsed.next();
+			leastRecentlyUsed.remove();
+			probationOutcomes.put(entry.getKey(), entry.getValue());
+			evict();
+		}
+	}
+
+	// The protected segment never exceeds the capacity, so there are events on probation to evict
+	private static void evict() {
+		Iterator<EventOutcome> leastRecentlyUsed = probationOutcomes.values().iterator();
+		while (probationOutcomes.size() + protectedOutcomes.size() > capacity) {
+			leastRecentlyUsed.next();
+			leastRecentlyUsed.remove();
+			evictionCount.incrementAndGet();
+		}
+	}
+
+	// What an event adds to the outcome of a clone
+	static class EventOutcome {
+
+		// Bands and counts of the loss, gain and fusion counts that are not 0
+		private final int[][] indices = new int[3][];
+		private final int[][] counts = new int[3][];
+		private final List<String> detailedSystem;
+
+		// The outcome was worked out for the cache alone
+		private EventOutcome(BiologicalOutcome b) {
+			b.getLGF().applyRangeCounts();
+			for (int outcome = 0; outcome < 3; outcome++) {
+				int[] lgf = b.getLGF().get(outcome);
+				int nonZeroCount = 0;
+				for (int count : lgf) {
+					if (count != 0) {
+						nonZeroCount++;
+					}
+				}
+				indices[outcome] = new int[nonZeroCount];
+				counts[outcome] = new int[nonZeroCount];
+				for (int i = 0, j = 0; i < lgf.length; i++) {
+					if (lgf[i] != 0) {
+						indices[outcome][j] = i;
+						counts[outcome][j] = lgf[i];
+						j++;
+					}
+				}
+			}
+			detailedSystem = Collections.unmodifiableList(new ArrayList<>(b.getDetailedSystem()));
+		}
+
+		void addTo(BiologicalOutcome b) {
+			KaryotypeLGF karyotypeLGF = b.getLGF();
+			for (int outcome = 0; outcome < 3; outcome++) {
+				for (int j = 0; j < indices[outcome].length; j++) {
+					karyotypeLGF.add(outcome, indices[outcome][j], counts[outcome][j]);
+				}
+			}
+			b.getDetailedSystem().addAll(detailedSystem);
+		}
+
+	}
+
+	public static int getSize() {
+		synchronized (probationOutcomes) {
+			return probationOutcomes.size() + protectedOutcomes.size();
+		}
+	}
+
+	public static long getHitCount() {
+		return hitCount.get();
+	}
+
+	public static long getMissCount() {
+		return missCount.get();
+	}
+
+	public static long getEvictionCount() {
+		return evictionCount.get();
+	}
+
+	public static String getReport() {
+		long hits = getHitCount();
+		long lookups = hits + getMissCount();
+		return String.format("Event outcome cache capacity: %d, size: %d, hits: %d, misses: %d (%.1f%% hit rate), evicted: %d",
+				capacity, getSize(), hits, getMissCount(), lookups == 0 ? 0 : hits * 100.0 / lookups, getEvictionCount());
+	}
+
+}
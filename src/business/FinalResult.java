@@ -1,10 +1,12 @@
 package business;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
 import main.TokenError;
+import validation.ValidationResult;
 
 /**
  * @author Lin Zhang
@@ -22,11 +24,17 @@ public class FinalResult {
 	private String errorMessage;
 	private boolean containingValidationError;
 	private List<String> validationMessage;
+	// Renders validationMessage on first read
+	private ValidationResult validationResult;
 	private String revisedKaryotype;
 	private List<String> relationshipList;
 	private List<Integer> cellNumList;
 	private List<TokenError> tokenErrorList;
 	private List<String> cloneCodeList;
+	// Canonical form of the loaded karyotype, "" and 0 if it was not loaded
+	private String canonicalKaryotype;
+	private long karyotypeFingerprint;
+	private List<Long> cloneFingerprintList;
 	
 	public FinalResult() {
 		biologicalOutcomeList = new ArrayList<>();
@@ -40,6 +48,9 @@ public class FinalResult {
 		cellNumList = new ArrayList<>();		
 		tokenErrorList = new ArrayList<>();
 		cloneCodeList = new ArrayList<>();		
+		canonicalKaryotype = "";
+		karyotypeFingerprint = 0;
+		cloneFingerprintList = new ArrayList<>();
 	}
 
 	public List<BiologicalOutcome> getBiologicalOutcomeList() {
@@ -83,16 +94,29 @@ public class FinalResult {
 	}
 
 	public List<String> getValidationMessage() {
+		if (validationResult != null) {
+			validationMessage = validationResult.getMessages();
+			validationResult = null;
+		}
 		return validationMessage;
 	}
 
 	public void setValidationMessage(List<String> validationMessage) {
 		this.validationMessage = validationMessage;
+		validationResult = null;
+	}
+
+	/**
+	 * Sets the validation messages of an invalid karyotype without rendering them; they are rendered
+	 * the first time getValidationMessage() is called.
+	 */
+	public void setValidationMessage(ValidationResult validationResult) {
+		this.validationResult = validationResult;
 	}
 	
 	public String getFormattedValidationMessage() {
 		String errorMessage = "";
-		for (String s: validationMessage) {
+		for (String s: getValidationMessage()) {
 			errorMessage += s + "\r\n";
 		}
 		return errorMessage;
@@ -138,6 +162,55 @@ public class FinalResult {
 		this.cloneCodeList = cloneCodeList;
 	}
 	
+	public String getCanonicalKaryotype() {
+		return canonicalKaryotype;
+	}
+
+	public void setCanonicalKaryotype(String canonicalKaryotype) {
+		this.canonicalKaryotype = canonicalKaryotype;
+	}
+
+	public long getKaryotypeFingerprint() {
+		return karyotypeFingerprint;
+	}
+
+	public void setKaryotypeFingerprint(long karyotypeFingerprint) {
+		this.karyotypeFingerprint = karyotypeFingerprint;
+	}
+
+	public List<Long> getCloneFingerprintList() {
+		return cloneFingerprintList;
+	}
+
+	public void setCloneFingerprintList(List<Long> cloneFingerprintList) {
+		this.cloneFingerprintList = cloneFingerprintList;
+	}
+
+	/**
+	 * Records the canonical form of the loaded karyotype, so that equivalent karyotypes can be grouped
+	 * by their fingerprints.
+	 */
+	public void setCanonicalKaryotype(CanonicalKaryotype canonicalKaryotype) {
+		this.canonicalKaryotype = canonicalKaryotype.getCanonicalString();
+		karyotypeFingerprint = canonicalKaryotype.getFingerprint();
+		cloneFingerprintList = canonicalKaryotype.getCloneFingerprintList();
+	}
+	
+	/**
+	 * Renders the validation messages and makes the lists of this result unmodifiable, so that the
+	 * result can be shared, e.g. by a cache, between threads that only read it.
+	 */
+	public void makeUnmodifiable() {
+		validationMessage = Collections.unmodifiableList(getValidationMessage());
+		biologicalOutcomeList = Collections.unmodifiableList(biologicalOutcomeList);
+		biologicalInterpretationList = Collections.unmodifiableList(biologicalInterpretationList);
+		relationshipList = Collections.unmodifiableList(relationshipList);
+		cellNumList = Collections.unmodifiableList(cellNumList);
+		tokenErrorList = Collections.unmodifiableList(tokenErrorList);
+		cloneCodeList = Collections.unmodifiableList(cloneCodeList);
+		cloneFingerprintList = Collections.unmodifiableList(cloneFingerprintList);
+	}
+	
 	// This will record the relationships between different clones
 	public List<String> getRelationshipList(List<Clone> rowClones) {
 		List<String> relationshipList = new ArrayList<>();
@@ -0,0 +1,202 @@
+package business;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Loss, gain and fusion counts of a karyotype, one count per ISCN 2016 band, backed by primitive
+ * int arrays so that every update is a plain array write instead of a boxed List set/get.
+ *
+ * asList() gives the List<List<Integer>> view (loss, gain, fusion) older callers expect;
+ * writes through the view go to the same arrays.
+ *
+ * addRange() records a count over an interval of bands in O(1) in difference arrays, so that a whole
+ * chromosome or arm gain or loss does not touch every band. The differences are applied to the counts
+ * once by applyRangeCounts(), which ParseEvent calls when the outcome of a clone is complete, before
+ * it is read or shared. Reading the counts never changes them: get() and asList() throw while range
+ * counts are pending, and addPositive, addCopies and sum read the pending counts without applying them.
+ *
+ * @author ilariamt
+ * Date: October 16, 2026
+ */
+public class KaryotypeLGF {
+
+	public static final int LOSS = 0;
+	public static final int GAIN = 1;
+	public static final int FUSION = 2;
+
+	private int[][] counts;
+	// Difference arrays of the pending range counts, allocated on the first addRange
+	private int[][] rangeCounts;
+
+	public KaryotypeLGF(int size) {
+		counts = new int[3][size];
+	}
+
+	public KaryotypeLGF(int[] karyotypeLossOutcome, int[] karyotypeGainOutcome, int[] karyotypeFusionOutcome) {
+		counts = new int[][] {karyotypeLossOutcome, karyotypeGainOutcome, karyotypeFusionOutcome};
+	}
+
+	public KaryotypeLGF(List<List<Integer>> karyotypeLGF) {
+		counts = new int[3][];
+		for (int i = 0; i < 3; i++) {
+			List<Integer> outcome = karyotypeLGF.get(i);
+			counts[i] = new int[outcome.size()];
+			for (int j = 0; j < counts[i].length; j++) {
+				counts[i][j] = outcome.get(j);
+			}
+		}
+	}
+
+	public int size() {
+		return counts[LOSS].length;
+	}
+
+	public int[] get(int outcome) {
+		checkRangeCountsApplied();
+		return counts[outcome];
+	}
+
+	public int[] getLoss() {
+		return get(LOSS);
+	}
+
+	public int[] getGain() {
+		return get(GAIN);
+	}
+
+	public int[] getFusion() {
+		return get(FUSION);
+	}
+
+	public void add(int outcome, int index, int count) {
+		counts[outcome][index] += count;
+	}
+
+	/**
+	 * Adds the count to every band from beginIndex to endIndex, both included. Does nothing if the
+	 * interval is empty.
+	 */
+	public void addRange(int outcome, int beginIndex, int endIndex, int count) {
+		if (beginIndex > endIndex) {
+			return;
+		}
+		if (rangeCounts == null) {
+			rangeCounts = new int[3][size() + 1];
+		}
+		rangeCounts[outcome][beginIndex] += count;
+		rangeCounts[outcome][endIndex + 1] -= count;
+	}
+
+	/**
+	 * Applies the pending range counts to the counts; does nothing if there are none.
+	 */
+	public void applyRangeCounts() {
+		if (rangeCounts == null) {
+			return;
+		}
+		for (int i = 0; i < 3; i++) {
+			int count = 0;
+			for (int j = 0; j < counts[i].length; j++) {
+				count += rangeCounts[i][j];
+				counts[i][j] += count;
+			}
+		}
+		rangeCounts = null;
+	}
+
+	private void checkRangeCountsApplied() {
+		if (rangeCounts != null) {
+			throw new IllegalStateException("The range counts of the karyotype LGF have not been applied");
+		}
+	}
+
+	// The counts with the pending range counts, without applying them
+	private int[] getCounts(int outcome) {
+		if (rangeCounts == null) {
+			return counts[outcome];
+		}
+		int[] appliedCounts = new int[counts[outcome].length];
+		int count = 0;
+		for (int j = 0; j < appliedCounts.length; j++) {
+			count += rangeCounts[outcome][j];
+			appliedCounts[j] = counts[outcome][j] + count;
+		}
+		return appliedCounts;
+	}
+
+	/**
+	 * Adds the positive counts of another karyotype LGF, such as the outcome of one derivative chromosome.
+	 */
+	public void addPositive(KaryotypeLGF other) {
+		if (other == null) {
+			return;
+		}
+		for (int i = 0; i < 3; i++) {
+			int[] source = other.getCounts(i);
+			int[] target = counts[i];
+			for (int j = 0; j < source.length; j++) {
+				if (source[j] > 0) {
+					target[j] += source[j];
+				}
+			}
+		}
+	}
+
+	/**
+	 * Adds the counts of another karyotype LGF once per copy, such as the outcome of one copy of an event.
+	 */
+	public void addCopies(KaryotypeLGF other, int copies) {
+		for (int i = 0; i < 3; i++) {
+			int[] source = other.getCounts(i);
+			int[] target = counts[i];
+			for (int j = 0; j < source.length; j++) {
+				target[j] += source[j] * copies;
+			}
+		}
+	}
+
+	public static KaryotypeLGF sum(KaryotypeLGF a, KaryotypeLGF b) {
+		KaryotypeLGF sum = new KaryotypeLGF(a.size());
+		for (int i = 0; i < 3; i++) {
+			int[] aCounts = a.getCounts(i);
+			int[] bCounts = b.getCounts(i);
+			for (int j = 0; j < sum.counts[i].length; j++) {
+				sum.counts[i][j] = aCounts[j] + bCounts[j];
+			}
+		}
+		return sum;
+	}
+
+	public List<List<Integer>> asList() {
+		checkRangeCountsApplied();
+		List<List<Integer>> karyotypeLGF = new ArrayList<>();
+		for (int[] outcome: counts) {
+			karyotypeLGF.add(asList(outcome));
+		}
+		return karyotypeLGF;
+	}
+
+	private static List<Integer> asList(int[] outcome) {
+		return new AbstractList<Integer>() {
+			@Override
+			public Integer get(int index) {
+				return outcome[index];
+			}
+
+			@Override
+			public Integer set(int index, Integer count) {
+				int previous = outcome[index];
+				outcome[index] = count;
+				return previous;
+			}
+
+			@Override
+			public int size() {
+				return outcome.length;
+			}
+		};
+	}
+
+}
@@ -242,30 +242,6 @@ public class KaryotypeBaseListener implements KaryotypeListener {
 	 * <p>The default implementation does nothing.</p>
 	 */
 	@Override public void exitPloidy(KaryotypeParser.PloidyContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void enterTooManySlant(KaryotypeParser.TooManySlantContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void exitTooManySlant(KaryotypeParser.TooManySlantContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void enterIncorrectSlant(KaryotypeParser.IncorrectSlantContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void exitIncorrectSlant(KaryotypeParser.IncorrectSlantContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
@@ -278,18 +254,6 @@ public class KaryotypeBaseListener implements KaryotypeListener {
 	 * <p>The default implementation does nothing.</p>
 	 */
 	@Override public void exitCorrectModalNum(KaryotypeParser.CorrectModalNumContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void enterIncorrectModalNum(KaryotypeParser.IncorrectModalNumContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void exitIncorrectModalNum(KaryotypeParser.IncorrectModalNumContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
@@ -314,18 +278,6 @@ public class KaryotypeBaseListener implements KaryotypeListener {
 	 * <p>The default implementation does nothing.</p>
 	 */
 	@Override public void exitGender(KaryotypeParser.GenderContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void enterTooManyComma(KaryotypeParser.TooManyCommaContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void exitTooManyComma(KaryotypeParser.TooManyCommaContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
@@ -386,18 +338,6 @@ public class KaryotypeBaseListener implements KaryotypeListener {
 	 * <p>The default implementation does nothing.</p>
 	 */
 	@Override public void exitRegularEvent(KaryotypeParser.RegularEventContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void enterIncorrectComma(KaryotypeParser.IncorrectCommaContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void exitIncorrectComma(KaryotypeParser.IncorrectCommaContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
@@ -554,18 +494,6 @@ public class KaryotypeBaseListener implements KaryotypeListener {
 	 * <p>The default implementation does nothing.</p>
 	 */
 	@Override public void exitLossChrEvent(KaryotypeParser.LossChrEventContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void enterGainLossChrError(KaryotypeParser.GainLossChrErrorContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void exitGainLossChrError(KaryotypeParser.GainLossChrErrorContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
@@ -614,30 +542,6 @@ public class KaryotypeBaseListener implements KaryotypeListener {
 	 * <p>The default implementation does nothing.</p>
 	 */
 	@Override public void exitUncertainBasicAberration(KaryotypeParser.UncertainBasicAberrationContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void enterDerAberrationError(KaryotypeParser.DerAberrationErrorContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void exitDerAberrationError(KaryotypeParser.DerAberrationErrorContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void enterBasicAberrationError(KaryotypeParser.BasicAberrationErrorContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void exitBasicAberrationError(KaryotypeParser.BasicAberrationErrorContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
@@ -686,18 +590,6 @@ public class KaryotypeBaseListener implements KaryotypeListener {
 	 * <p>The default implementation does nothing.</p>
 	 */
 	@Override public void exitCorrectDerChrList(KaryotypeParser.CorrectDerChrListContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void enterIncorrectDerChrList(KaryotypeParser.IncorrectDerChrListContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void exitIncorrectDerChrList(KaryotypeParser.IncorrectDerChrListContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
@@ -710,42 +602,6 @@ public class KaryotypeBaseListener implements KaryotypeListener {
 	 * <p>The default implementation does nothing.</p>
 	 */
 	@Override public void exitDerChrListElements(KaryotypeParser.DerChrListElementsContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void enterIncorrectDerChrListElements(KaryotypeParser.IncorrectDerChrListElementsContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void exitIncorrectDerChrListElements(KaryotypeParser.IncorrectDerChrListElementsContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void enterIncorrectLeftParenthesis(KaryotypeParser.IncorrectLeftParenthesisContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void exitIncorrectLeftParenthesis(KaryotypeParser.IncorrectLeftParenthesisContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void enterIncorrectRightParenthesis(KaryotypeParser.IncorrectRightParenthesisContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void exitIncorrectRightParenthesis(KaryotypeParser.IncorrectRightParenthesisContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
@@ -758,18 +614,6 @@ public class KaryotypeBaseListener implements KaryotypeListener {
 	 * <p>The default implementation does nothing.</p>
 	 */
 	@Override public void exitCorrectDerBreakpointsList(KaryotypeParser.CorrectDerBreakpointsListContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void enterIncorrectDerBreakpointsList(KaryotypeParser.IncorrectDerBreakpointsListContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void exitIncorrectDerBreakpointsList(KaryotypeParser.IncorrectDerBreakpointsListContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
@@ -782,18 +626,6 @@ public class KaryotypeBaseListener implements KaryotypeListener {
 	 * <p>The default implementation does nothing.</p>
 	 */
 	@Override public void exitDerBreakpointsListElements(KaryotypeParser.DerBreakpointsListElementsContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void enterIncorrectDerBreakpointsListElements(KaryotypeParser.IncorrectDerBreakpointsListElementsContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void exitIncorrectDerBreakpointsListElements(KaryotypeParser.IncorrectDerBreakpointsListElementsContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
@@ -830,18 +662,6 @@ public class KaryotypeBaseListener implements KaryotypeListener {
 	 * <p>The default implementation does nothing.</p>
 	 */
 	@Override public void exitCorrectChrList(KaryotypeParser.CorrectChrListContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void enterIncorrectChrList(KaryotypeParser.IncorrectChrListContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void exitIncorrectChrList(KaryotypeParser.IncorrectChrListContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
@@ -854,18 +674,6 @@ public class KaryotypeBaseListener implements KaryotypeListener {
 	 * <p>The default implementation does nothing.</p>
 	 */
 	@Override public void exitChrListElements(KaryotypeParser.ChrListElementsContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void enterIncorrectChrListElements(KaryotypeParser.IncorrectChrListElementsContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void exitIncorrectChrListElements(KaryotypeParser.IncorrectChrListElementsContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
@@ -890,18 +698,6 @@ public class KaryotypeBaseListener implements KaryotypeListener {
 	 * <p>The default implementation does nothing.</p>
 	 */
 	@Override public void exitDetailedBreakpointsList(KaryotypeParser.DetailedBreakpointsListContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void enterIncorrectBreakpointsList(KaryotypeParser.IncorrectBreakpointsListContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void exitIncorrectBreakpointsList(KaryotypeParser.IncorrectBreakpointsListContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
@@ -914,18 +710,6 @@ public class KaryotypeBaseListener implements KaryotypeListener {
 	 * <p>The default implementation does nothing.</p>
 	 */
 	@Override public void exitBreakpointsListElements(KaryotypeParser.BreakpointsListElementsContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void enterIncorrectBreakpointsListElements(KaryotypeParser.IncorrectBreakpointsListElementsContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void exitIncorrectBreakpointsListElements(KaryotypeParser.IncorrectBreakpointsListElementsContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
@@ -962,18 +746,6 @@ public class KaryotypeBaseListener implements KaryotypeListener {
 	 * <p>The default implementation does nothing.</p>
 	 */
 	@Override public void exitCorrectRChrList(KaryotypeParser.CorrectRChrListContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void enterIncorrectRChrList(KaryotypeParser.IncorrectRChrListContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void exitIncorrectRChrList(KaryotypeParser.IncorrectRChrListContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
@@ -998,18 +770,6 @@ public class KaryotypeBaseListener implements KaryotypeListener {
 	 * <p>The default implementation does nothing.</p>
 	 */
 	@Override public void exitDetailedRBreakpointsList(KaryotypeParser.DetailedRBreakpointsListContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void enterIncorrectRBreakpointsList(KaryotypeParser.IncorrectRBreakpointsListContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void exitIncorrectRBreakpointsList(KaryotypeParser.IncorrectRBreakpointsListContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
@@ -1034,18 +794,6 @@ public class KaryotypeBaseListener implements KaryotypeListener {
 	 * <p>The default implementation does nothing.</p>
 	 */
 	@Override public void exitCorrectUncertainChr(KaryotypeParser.CorrectUncertainChrContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void enterIncorrectUncertainChr(KaryotypeParser.IncorrectUncertainChrContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void exitIncorrectUncertainChr(KaryotypeParser.IncorrectUncertainChrContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
@@ -1130,18 +878,6 @@ public class KaryotypeBaseListener implements KaryotypeListener {
 	 * <p>The default implementation does nothing.</p>
 	 */
 	@Override public void exitCorrectCellNum(KaryotypeParser.CorrectCellNumContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void enterIncorrectCellNum(KaryotypeParser.IncorrectCellNumContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void exitIncorrectCellNum(KaryotypeParser.IncorrectCellNumContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
@@ -1154,30 +890,6 @@ public class KaryotypeBaseListener implements KaryotypeListener {
 	 * <p>The default implementation does nothing.</p>
 	 */
 	@Override public void exitCellNumContent(KaryotypeParser.CellNumContentContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void enterIncorrectLeftParenthesisII(KaryotypeParser.IncorrectLeftParenthesisIIContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void exitIncorrectLeftParenthesisII(KaryotypeParser.IncorrectLeftParenthesisIIContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void enterIncorrectRightParenthesisII(KaryotypeParser.IncorrectRightParenthesisIIContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void exitIncorrectRightParenthesisII(KaryotypeParser.IncorrectRightParenthesisIIContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
@@ -1610,18 +1322,6 @@ public class KaryotypeBaseListener implements KaryotypeListener {
 	 * <p>The default implementation does nothing.</p>
 	 */
 	@Override public void exitSubband(KaryotypeParser.SubbandContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void enterUndeterminedPrefix(KaryotypeParser.UndeterminedPrefixContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void exitUndeterminedPrefix(KaryotypeParser.UndeterminedPrefixContext ctx) { }
 
 	/**
 	 * {@inheritDoc}
@@ -14,7 +14,7 @@ import org.antlr.v4.runtime.TokenStreamRewriter;
  * 
  * Date: August 30, 2021 
  */
-public class KaryotypeCleaner extends KaryotypeBaseListener {
+public class KaryotypeCleaner extends KaryotypeDiagnosticBaseListener {
 	
 	BufferedTokenStream tokens;
 	TokenStreamRewriter rewriter;
@@ -37,7 +37,7 @@ public class KaryotypeCleaner extends KaryotypeBaseListener {
     }
     
     @Override
-    public void exitClone(KaryotypeParser.CloneContext ctx) {    	
+    public void exitClone(KaryotypeDiagnosticParser.CloneContext ctx) {    	
     	int remove = 0;
     	if (ctx.incorrectSlant() != null) {
     		remove = ctx.incorrectSlant.getText().length();
@@ -62,7 +62,7 @@ public class KaryotypeCleaner extends KaryotypeBaseListener {
     }
     
     @Override
-    public void exitNonclonalClone(KaryotypeParser.NonclonalCloneContext ctx) {
+    public void exitNonclonalClone(KaryotypeDiagnosticParser.NonclonalCloneContext ctx) {
     	int remove = 0;
     	if (ctx.incorrectSlant() != null) {
     		remove = ctx.incorrectSlant.getText().length();
@@ -87,7 +87,7 @@ public class KaryotypeCleaner extends KaryotypeBaseListener {
     }
     
     @Override 
-    public void exitAdditionalStemlineClone(KaryotypeParser.AdditionalStemlineCloneContext ctx) { 
+    public void exitAdditionalStemlineClone(KaryotypeDiagnosticParser.AdditionalStemlineCloneContext ctx) { 
     	int remove = 0;
     	if (ctx.incorrectSlant() != null) {
     		remove = ctx.incorrectSlant.getText().length();
@@ -112,7 +112,7 @@ public class KaryotypeCleaner extends KaryotypeBaseListener {
     }
     
     @Override
-    public void exitSidelineCloneTypeI(KaryotypeParser.SidelineCloneTypeIContext ctx) {
+    public void exitSidelineCloneTypeI(KaryotypeDiagnosticParser.SidelineCloneTypeIContext ctx) {
     	int remove = 0;
     	if (ctx.incorrectSlant() != null) {
     		remove = ctx.incorrectSlant.getText().length();
@@ -137,7 +137,7 @@ public class KaryotypeCleaner extends KaryotypeBaseListener {
     }
     
     @Override
-    public void exitSidelineCloneTypeII(KaryotypeParser.SidelineCloneTypeIIContext ctx) {
+    public void exitSidelineCloneTypeII(KaryotypeDiagnosticParser.SidelineCloneTypeIIContext ctx) {
     	int remove = 0;
     	if (ctx.incorrectSlant() != null) {
     		remove = ctx.incorrectSlant.getText().length();
@@ -162,7 +162,7 @@ public class KaryotypeCleaner extends KaryotypeBaseListener {
     }
     
     @Override 
-    public void exitAdditionalClone(KaryotypeParser.AdditionalCloneContext ctx) {
+    public void exitAdditionalClone(KaryotypeDiagnosticParser.AdditionalCloneContext ctx) {
     	int remove = 0;
     	if (ctx.incorrectSlant() != null) {
     		remove = ctx.incorrectSlant.getText().length();
@@ -187,7 +187,7 @@ public class KaryotypeCleaner extends KaryotypeBaseListener {
     }
     
     @Override
-    public void exitIncorrectModalNum(KaryotypeParser.IncorrectModalNumContext ctx) {
+    public void exitIncorrectModalNum(KaryotypeDiagnosticParser.IncorrectModalNumContext ctx) {
     	String modalNumRevised = "<" + ctx.modalNumContent.getText() + ">";
     	Token startToken = ctx.start;
 		Token stopToken = ctx.stop;
@@ -199,7 +199,7 @@ public class KaryotypeCleaner extends KaryotypeBaseListener {
     }
     
     @Override
-    public void exitGender(KaryotypeParser.GenderContext ctx) { 
+    public void exitGender(KaryotypeDiagnosticParser.GenderContext ctx) { 
     	if (!ctx.getText().startsWith(",")) {
     		rewriter.insertBefore(ctx.start, ",");
     	}
@@ -216,7 +216,7 @@ public class KaryotypeCleaner extends KaryotypeBaseListener {
     }
     
     @Override
-    public void exitRegularEvent(KaryotypeParser.RegularEventContext ctx) {
+    public void exitRegularEvent(KaryotypeDiagnosticParser.RegularEventContext ctx) {
     	if (!ctx.getText().startsWith(",")) {
     		rewriter.insertBefore(ctx.start, ",");
     	}
@@ -232,7 +232,7 @@ public class KaryotypeCleaner extends KaryotypeBaseListener {
     }
     
     @Override
-    public void exitIdemSpecial(KaryotypeParser.IdemSpecialContext ctx) {
+    public void exitIdemSpecial(KaryotypeDiagnosticParser.IdemSpecialContext ctx) {
     	String idemEventRevised = "," + idemEvent;    	
     	Token startToken = ctx.start;
 		Token stopToken = ctx.stop;
@@ -244,17 +244,17 @@ public class KaryotypeCleaner extends KaryotypeBaseListener {
     }
     
     @Override
-    public void enterIdemEvent(KaryotypeParser.IdemEventContext ctx) {
+    public void enterIdemEvent(KaryotypeDiagnosticParser.IdemEventContext ctx) {
     	idemEvent = "";
     }
     
     @Override
-    public void exitIdemEvent(KaryotypeParser.IdemEventContext ctx) {
+    public void exitIdemEvent(KaryotypeDiagnosticParser.IdemEventContext ctx) {
     	idemEvent = ctx.getText().replace(",", "");
     }
     
     @Override 
-    public void exitSlSpecial(KaryotypeParser.SlSpecialContext ctx) {
+    public void exitSlSpecial(KaryotypeDiagnosticParser.SlSpecialContext ctx) {
     	String slEventRevised = "," + slEvent;    	
     	Token startToken = ctx.start;
 		Token stopToken = ctx.stop;
@@ -266,17 +266,17 @@ public class KaryotypeCleaner extends KaryotypeBaseListener {
     }
     
     @Override
-    public void enterSlEvent(KaryotypeParser.SlEventContext ctx) {
+    public void enterSlEvent(KaryotypeDiagnosticParser.SlEventContext ctx) {
     	slEvent = "";
     }
     
     @Override
-    public void exitSlEvent(KaryotypeParser.SlEventContext ctx) {
+    public void exitSlEvent(KaryotypeDiagnosticParser.SlEventContext ctx) {
     	slEvent = ctx.getText().replace(",", "");
     }
     
     @Override 
-    public void exitSdlSpecial(KaryotypeParser.SdlSpecialContext ctx) {
+    public void exitSdlSpecial(KaryotypeDiagnosticParser.SdlSpecialContext ctx) {
     	String sdlEventRevised = "," + sdlEvent;    	
     	Token startToken = ctx.start;
 		Token stopToken = ctx.stop;
@@ -288,22 +288,22 @@ public class KaryotypeCleaner extends KaryotypeBaseListener {
     }
     
     @Override
-    public void enterSdlEvent(KaryotypeParser.SdlEventContext ctx) {
+    public void enterSdlEvent(KaryotypeDiagnosticParser.SdlEventContext ctx) {
     	sdlEvent = "";
     }
     
     @Override
-    public void exitSdlEvent(KaryotypeParser.SdlEventContext ctx) {
+    public void exitSdlEvent(KaryotypeDiagnosticParser.SdlEventContext ctx) {
     	sdlEvent = ctx.getText().replace(",", "");
     }
     
     @Override
-    public void enterChrListElements(KaryotypeParser.ChrListElementsContext ctx) {
+    public void enterChrListElements(KaryotypeDiagnosticParser.ChrListElementsContext ctx) {
     	chrListElements = "";
     }
     
     @Override
-    public void exitChrListElements(KaryotypeParser.ChrListElementsContext ctx) {
+    public void exitChrListElements(KaryotypeDiagnosticParser.ChrListElementsContext ctx) {
     	chrListElements = ctx.getText().replace(',', ';')
     			                       .replace("100", "10")
     			                       .replace("200", "20")
@@ -321,7 +321,7 @@ public class KaryotypeCleaner extends KaryotypeBaseListener {
     }
     
     @Override
-    public void exitCorrectChrList(KaryotypeParser.CorrectChrListContext ctx) { 
+    public void exitCorrectChrList(KaryotypeDiagnosticParser.CorrectChrListContext ctx) { 
     	String chrListRevised = "(" + chrListElements + ")";    	
     	Token startToken = ctx.start;
 		Token stopToken = ctx.stop;
@@ -333,7 +333,7 @@ public class KaryotypeCleaner extends KaryotypeBaseListener {
     }
     
     @Override
-    public void exitIncorrectChrList(KaryotypeParser.IncorrectChrListContext ctx) {
+    public void exitIncorrectChrList(KaryotypeDiagnosticParser.IncorrectChrListContext ctx) {
     	String chrListRevised = "(" + chrListElements + ")";    	
     	Token startToken = ctx.start;
 		Token stopToken = ctx.stop;
@@ -345,12 +345,12 @@ public class KaryotypeCleaner extends KaryotypeBaseListener {
     }
     
     @Override
-    public void enterBreakpointsListElements(KaryotypeParser.BreakpointsListElementsContext ctx) {
+    public void enterBreakpointsListElements(KaryotypeDiagnosticParser.BreakpointsListElementsContext ctx) {
     	breakpointsListElements = "";
     }
     
     @Override
-    public void exitBreakpointsListElements(KaryotypeParser.BreakpointsListElementsContext ctx) {
+    public void exitBreakpointsListElements(KaryotypeDiagnosticParser.BreakpointsListElementsContext ctx) {
     	breakpointsListElements = ctx.getText();
     	if (breakpointsListElements.contains(",")) {
     		breakpointsListElements = breakpointsListElements.replace(',', ';');
@@ -358,7 +358,7 @@ public class KaryotypeCleaner extends KaryotypeBaseListener {
     }
     
     @Override
-    public void exitCorrectBreakpointsList(KaryotypeParser.CorrectBreakpointsListContext ctx) {
+    public void exitCorrectBreakpointsList(KaryotypeDiagnosticParser.CorrectBreakpointsListContext ctx) {
     	String breakpointsListRevised = "(" + breakpointsListElements + ")";
     	Token startToken = ctx.start;
 		Token stopToken = ctx.stop;
@@ -370,7 +370,7 @@ public class KaryotypeCleaner extends KaryotypeBaseListener {
     }
     
     @Override
-    public void exitIncorrectBreakpointsList(KaryotypeParser.IncorrectBreakpointsListContext ctx) {
+    public void exitIncorrectBreakpointsList(KaryotypeDiagnosticParser.IncorrectBreakpointsListContext ctx) {
     	String breakpointsListRevised = "(" + breakpointsListElements + ")";
     	Token startToken = ctx.start;
 		Token stopToken = ctx.stop;
@@ -382,12 +382,12 @@ public class KaryotypeCleaner extends KaryotypeBaseListener {
     }
     
     @Override
-    public void enterDerChrListElements(KaryotypeParser.DerChrListElementsContext ctx) {
+    public void enterDerChrListElements(KaryotypeDiagnosticParser.DerChrListElementsContext ctx) {
     	derChrListElements = "";
     }
     
     @Override
-    public void exitDerChrListElements(KaryotypeParser.DerChrListElementsContext ctx) { 
+    public void exitDerChrListElements(KaryotypeDiagnosticParser.DerChrListElementsContext ctx) { 
     	derChrListElements = ctx.getText().replace(',', ';')
 							    		  .replace("100", "10")
 							              .replace("200", "20")
@@ -405,7 +405,7 @@ public class KaryotypeCleaner extends KaryotypeBaseListener {
     }
     
     @Override
-    public void exitCorrectDerChrList(KaryotypeParser.CorrectDerChrListContext ctx) { 
+    public void exitCorrectDerChrList(KaryotypeDiagnosticParser.CorrectDerChrListContext ctx) { 
     	String derChrListRevised = "(" + derChrListElements + ")";    	
     	Token startToken = ctx.start;
 		Token stopToken = ctx.stop;
@@ -417,7 +417,7 @@ public class KaryotypeCleaner extends KaryotypeBaseListener {
     }
 
     @Override
-    public void exitIncorrectDerChrList(KaryotypeParser.IncorrectDerChrListContext ctx) {
+    public void exitIncorrectDerChrList(KaryotypeDiagnosticParser.IncorrectDerChrListContext ctx) {
     	String derChrListRevised = "(" + derChrListElements + ")";    	
     	Token startToken = ctx.start;
 		Token stopToken = ctx.stop;
@@ -429,12 +429,12 @@ public class KaryotypeCleaner extends KaryotypeBaseListener {
     }
     
     @Override
-    public void enterDerBreakpointsListElements(KaryotypeParser.DerBreakpointsListElementsContext ctx) {
+    public void enterDerBreakpointsListElements(KaryotypeDiagnosticParser.DerBreakpointsListElementsContext ctx) {
     	derBreakpointsListElements = "";
     }
     
     @Override
-    public void exitDerBreakpointsListElements(KaryotypeParser.DerBreakpointsListElementsContext ctx) {
+    public void exitDerBreakpointsListElements(KaryotypeDiagnosticParser.DerBreakpointsListElementsContext ctx) {
     	derBreakpointsListElements = ctx.getText();
     	if (derBreakpointsListElements.contains(",")) {    		
     		derBreakpointsListElements = derBreakpointsListElements.replace(',', ';');
@@ -442,7 +442,7 @@ public class KaryotypeCleaner extends KaryotypeBaseListener {
     }
     
     @Override
-    public void exitCorrectDerBreakpointsList(KaryotypeParser.CorrectDerBreakpointsListContext ctx) {
+    public void exitCorrectDerBreakpointsList(KaryotypeDiagnosticParser.CorrectDerBreakpointsListContext ctx) {
     	String derBreakpointsListRevised = "(" + derBreakpointsListElements + ")";
     	Token startToken = ctx.start;
 		Token stopToken = ctx.stop;
@@ -454,7 +454,7 @@ public class KaryotypeCleaner extends KaryotypeBaseListener {
     }
     
     @Override
-    public void exitIncorrectDerBreakpointsList(KaryotypeParser.IncorrectDerBreakpointsListContext ctx) {
+    public void exitIncorrectDerBreakpointsList(KaryotypeDiagnosticParser.IncorrectDerBreakpointsListContext ctx) {
     	String derBreakpointsListRevised = "(" + derBreakpointsListElements + ")";
     	Token startToken = ctx.start;
 		Token stopToken = ctx.stop;
@@ -466,7 +466,7 @@ public class KaryotypeCleaner extends KaryotypeBaseListener {
     }
     
     @Override
-    public void exitCorrectRChrList(KaryotypeParser.CorrectRChrListContext ctx) {
+    public void exitCorrectRChrList(KaryotypeDiagnosticParser.CorrectRChrListContext ctx) {
     	String rChrListRevised = "(" + chrListElements + ")";
     	Token startToken = ctx.start;
 		Token stopToken = ctx.stop;
@@ -478,7 +478,7 @@ public class KaryotypeCleaner extends KaryotypeBaseListener {
     }
     
     @Override
-    public void exitIncorrectRChrList(KaryotypeParser.IncorrectRChrListContext ctx) { 
+    public void exitIncorrectRChrList(KaryotypeDiagnosticParser.IncorrectRChrListContext ctx) { 
     	String rChrListRevised = "(" + chrListElements + ")";    	
     	Token startToken = ctx.start;
 		Token stopToken = ctx.stop;
@@ -490,7 +490,7 @@ public class KaryotypeCleaner extends KaryotypeBaseListener {
     }
     
     @Override
-    public void exitCorrectRBreakpointsList(KaryotypeParser.CorrectRBreakpointsListContext ctx) {
+    public void exitCorrectRBreakpointsList(KaryotypeDiagnosticParser.CorrectRBreakpointsListContext ctx) {
     	String rBreakpointsListRevised = "(" + breakpointsListElements + ")";
     	Token startToken = ctx.start;
 		Token stopToken = ctx.stop;
@@ -502,7 +502,7 @@ public class KaryotypeCleaner extends KaryotypeBaseListener {
     }
     
     @Override
-    public void exitIncorrectRBreakpointsList(KaryotypeParser.IncorrectRBreakpointsListContext ctx) {
+    public void exitIncorrectRBreakpointsList(KaryotypeDiagnosticParser.IncorrectRBreakpointsListContext ctx) {
     	String rBreakpointsListRevised = "(" + breakpointsListElements + ")";
     	Token startToken = ctx.start;
 		Token stopToken = ctx.stop;
@@ -514,7 +514,7 @@ public class KaryotypeCleaner extends KaryotypeBaseListener {
     }
     
     @Override
-    public void exitIncorrectUncertainChr(KaryotypeParser.IncorrectUncertainChrContext ctx) {
+    public void exitIncorrectUncertainChr(KaryotypeDiagnosticParser.IncorrectUncertainChrContext ctx) {
     	String uncertainChrRevised = "(" + ctx.uncertainChrContent.getText() + ")";
     	Token startToken = ctx.start;
 		Token stopToken = ctx.stop;
@@ -526,7 +526,7 @@ public class KaryotypeCleaner extends KaryotypeBaseListener {
     }
     
     @Override
-    public void exitBasicAberrationError(KaryotypeParser.BasicAberrationErrorContext ctx) { 
+    public void exitBasicAberrationError(KaryotypeDiagnosticParser.BasicAberrationErrorContext ctx) { 
     	Token startToken = ctx.start;
 		Token stopToken = ctx.stop;
 		List<Token> allTokens = tokens.getTokens(startToken.getTokenIndex(), stopToken.getTokenIndex());
@@ -538,7 +538,7 @@ public class KaryotypeCleaner extends KaryotypeBaseListener {
     }
     
     @Override
-    public void exitDerAberrationError(KaryotypeParser.DerAberrationErrorContext ctx) {
+    public void exitDerAberrationError(KaryotypeDiagnosticParser.DerAberrationErrorContext ctx) {
     	Token startToken = ctx.start;
 		Token stopToken = ctx.stop;
 		List<Token> allTokens = tokens.getTokens(startToken.getTokenIndex(), stopToken.getTokenIndex());
@@ -550,7 +550,7 @@ public class KaryotypeCleaner extends KaryotypeBaseListener {
     }
     
     @Override
-    public void exitRearrangement(KaryotypeParser.RearrangementContext ctx) {
+    public void exitRearrangement(KaryotypeDiagnosticParser.RearrangementContext ctx) {
     	String input = ctx.getText();
     	if (input.contains(",")) {
     		Token startToken = ctx.start;
@@ -565,12 +565,12 @@ public class KaryotypeCleaner extends KaryotypeBaseListener {
     }
     
     @Override
-    public void enterCellNumContent(KaryotypeParser.CellNumContentContext ctx) {
+    public void enterCellNumContent(KaryotypeDiagnosticParser.CellNumContentContext ctx) {
     	cellNumContent = "";
     }
     
     @Override
-    public void exitCellNumContent(KaryotypeParser.CellNumContentContext ctx) {
+    public void exitCellNumContent(KaryotypeDiagnosticParser.CellNumContentContext ctx) {
     	cellNumContent = ctx.getText().replaceAll("[cC][eE][lL][lL][sS]?", "");   
     	if (ctx.getText().toLowerCase().contains("cp")) {
     		cellNumContent = "cp" + cellNumContent.replaceAll("[cC][pP]", ""); 
@@ -578,7 +578,7 @@ public class KaryotypeCleaner extends KaryotypeBaseListener {
     }
     
     @Override
-    public void exitCorrectCellNum(KaryotypeParser.CorrectCellNumContext ctx) {
+    public void exitCorrectCellNum(KaryotypeDiagnosticParser.CorrectCellNumContext ctx) {
     	String cellNumRevised = "[" + cellNumContent + "]";
     	Token startToken = ctx.start;
 		Token stopToken = ctx.stop;
@@ -590,7 +590,7 @@ public class KaryotypeCleaner extends KaryotypeBaseListener {
     }
     
     @Override
-    public void exitIncorrectCellNum(KaryotypeParser.IncorrectCellNumContext ctx) {
+    public void exitIncorrectCellNum(KaryotypeDiagnosticParser.IncorrectCellNumContext ctx) {
     	String cellNumRevised;
     	if (ctx.getText().toLowerCase().startsWith("cp") && !cellNumContent.toLowerCase().contains("cp")) {
     		cellNumRevised = "[cp" + cellNumContent + "]";
@@ -0,0 +1,1433 @@
+// Generated from KaryotypeDiagnostic.g4 by ANTLR 4.7
+
+package compiler; 
+import java.util.*; 
+
+import org.antlr.v4.runtime.tree.ParseTreeListener;
+
+/**
+ * This interface defines a complete listener for a parse tree produced by
+ * {@link KaryotypeDiagnosticParser}.
+ */
+public interface KaryotypeDiagnosticListener extends ParseTreeListener {
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#row}.
+	 * @param ctx the parse tree
+	 */
+	void enterRow(KaryotypeDiagnosticParser.RowContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#row}.
+	 * @param ctx the parse tree
+	 */
+	void exitRow(KaryotypeDiagnosticParser.RowContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#rowTypeI}.
+	 * @param ctx the parse tree
+	 */
+	void enterRowTypeI(KaryotypeDiagnosticParser.RowTypeIContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#rowTypeI}.
+	 * @param ctx the parse tree
+	 */
+	void exitRowTypeI(KaryotypeDiagnosticParser.RowTypeIContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#firstClone}.
+	 * @param ctx the parse tree
+	 */
+	void enterFirstClone(KaryotypeDiagnosticParser.FirstCloneContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#firstClone}.
+	 * @param ctx the parse tree
+	 */
+	void exitFirstClone(KaryotypeDiagnosticParser.FirstCloneContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#clone}.
+	 * @param ctx the parse tree
+	 */
+	void enterClone(KaryotypeDiagnosticParser.CloneContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#clone}.
+	 * @param ctx the parse tree
+	 */
+	void exitClone(KaryotypeDiagnosticParser.CloneContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#nonclonalClone}.
+	 * @param ctx the parse tree
+	 */
+	void enterNonclonalClone(KaryotypeDiagnosticParser.NonclonalCloneContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#nonclonalClone}.
+	 * @param ctx the parse tree
+	 */
+	void exitNonclonalClone(KaryotypeDiagnosticParser.NonclonalCloneContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#rowTypeII}.
+	 * @param ctx the parse tree
+	 */
+	void enterRowTypeII(KaryotypeDiagnosticParser.RowTypeIIContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#rowTypeII}.
+	 * @param ctx the parse tree
+	 */
+	void exitRowTypeII(KaryotypeDiagnosticParser.RowTypeIIContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#firstStemlineGroup}.
+	 * @param ctx the parse tree
+	 */
+	void enterFirstStemlineGroup(KaryotypeDiagnosticParser.FirstStemlineGroupContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#firstStemlineGroup}.
+	 * @param ctx the parse tree
+	 */
+	void exitFirstStemlineGroup(KaryotypeDiagnosticParser.FirstStemlineGroupContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#otherStemlineGroup}.
+	 * @param ctx the parse tree
+	 */
+	void enterOtherStemlineGroup(KaryotypeDiagnosticParser.OtherStemlineGroupContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#otherStemlineGroup}.
+	 * @param ctx the parse tree
+	 */
+	void exitOtherStemlineGroup(KaryotypeDiagnosticParser.OtherStemlineGroupContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#stemlineClone}.
+	 * @param ctx the parse tree
+	 */
+	void enterStemlineClone(KaryotypeDiagnosticParser.StemlineCloneContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#stemlineClone}.
+	 * @param ctx the parse tree
+	 */
+	void exitStemlineClone(KaryotypeDiagnosticParser.StemlineCloneContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#additionalStemlineClone}.
+	 * @param ctx the parse tree
+	 */
+	void enterAdditionalStemlineClone(KaryotypeDiagnosticParser.AdditionalStemlineCloneContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#additionalStemlineClone}.
+	 * @param ctx the parse tree
+	 */
+	void exitAdditionalStemlineClone(KaryotypeDiagnosticParser.AdditionalStemlineCloneContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#sidelineCloneTypeI}.
+	 * @param ctx the parse tree
+	 */
+	void enterSidelineCloneTypeI(KaryotypeDiagnosticParser.SidelineCloneTypeIContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#sidelineCloneTypeI}.
+	 * @param ctx the parse tree
+	 */
+	void exitSidelineCloneTypeI(KaryotypeDiagnosticParser.SidelineCloneTypeIContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#sidelineCloneTypeII}.
+	 * @param ctx the parse tree
+	 */
+	void enterSidelineCloneTypeII(KaryotypeDiagnosticParser.SidelineCloneTypeIIContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#sidelineCloneTypeII}.
+	 * @param ctx the parse tree
+	 */
+	void exitSidelineCloneTypeII(KaryotypeDiagnosticParser.SidelineCloneTypeIIContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#additionalClone}.
+	 * @param ctx the parse tree
+	 */
+	void enterAdditionalClone(KaryotypeDiagnosticParser.AdditionalCloneContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#additionalClone}.
+	 * @param ctx the parse tree
+	 */
+	void exitAdditionalClone(KaryotypeDiagnosticParser.AdditionalCloneContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#karyotypeI}.
+	 * @param ctx the parse tree
+	 */
+	void enterKaryotypeI(KaryotypeDiagnosticParser.KaryotypeIContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#karyotypeI}.
+	 * @param ctx the parse tree
+	 */
+	void exitKaryotypeI(KaryotypeDiagnosticParser.KaryotypeIContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#karyotypeII}.
+	 * @param ctx the parse tree
+	 */
+	void enterKaryotypeII(KaryotypeDiagnosticParser.KaryotypeIIContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#karyotypeII}.
+	 * @param ctx the parse tree
+	 */
+	void exitKaryotypeII(KaryotypeDiagnosticParser.KaryotypeIIContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#karyotypeIII}.
+	 * @param ctx the parse tree
+	 */
+	void enterKaryotypeIII(KaryotypeDiagnosticParser.KaryotypeIIIContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#karyotypeIII}.
+	 * @param ctx the parse tree
+	 */
+	void exitKaryotypeIII(KaryotypeDiagnosticParser.KaryotypeIIIContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#karyotypeIV}.
+	 * @param ctx the parse tree
+	 */
+	void enterKaryotypeIV(KaryotypeDiagnosticParser.KaryotypeIVContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#karyotypeIV}.
+	 * @param ctx the parse tree
+	 */
+	void exitKaryotypeIV(KaryotypeDiagnosticParser.KaryotypeIVContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#karyotypeV}.
+	 * @param ctx the parse tree
+	 */
+	void enterKaryotypeV(KaryotypeDiagnosticParser.KaryotypeVContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#karyotypeV}.
+	 * @param ctx the parse tree
+	 */
+	void exitKaryotypeV(KaryotypeDiagnosticParser.KaryotypeVContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#ploidy}.
+	 * @param ctx the parse tree
+	 */
+	void enterPloidy(KaryotypeDiagnosticParser.PloidyContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#ploidy}.
+	 * @param ctx the parse tree
+	 */
+	void exitPloidy(KaryotypeDiagnosticParser.PloidyContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#tooManySlant}.
+	 * @param ctx the parse tree
+	 */
+	void enterTooManySlant(KaryotypeDiagnosticParser.TooManySlantContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#tooManySlant}.
+	 * @param ctx the parse tree
+	 */
+	void exitTooManySlant(KaryotypeDiagnosticParser.TooManySlantContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#incorrectSlant}.
+	 * @param ctx the parse tree
+	 */
+	void enterIncorrectSlant(KaryotypeDiagnosticParser.IncorrectSlantContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#incorrectSlant}.
+	 * @param ctx the parse tree
+	 */
+	void exitIncorrectSlant(KaryotypeDiagnosticParser.IncorrectSlantContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code correctModalNum}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#modalNum}.
+	 * @param ctx the parse tree
+	 */
+	void enterCorrectModalNum(KaryotypeDiagnosticParser.CorrectModalNumContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code correctModalNum}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#modalNum}.
+	 * @param ctx the parse tree
+	 */
+	void exitCorrectModalNum(KaryotypeDiagnosticParser.CorrectModalNumContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code incorrectModalNum}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#modalNum}.
+	 * @param ctx the parse tree
+	 */
+	void enterIncorrectModalNum(KaryotypeDiagnosticParser.IncorrectModalNumContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code incorrectModalNum}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#modalNum}.
+	 * @param ctx the parse tree
+	 */
+	void exitIncorrectModalNum(KaryotypeDiagnosticParser.IncorrectModalNumContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#modalNumContent}.
+	 * @param ctx the parse tree
+	 */
+	void enterModalNumContent(KaryotypeDiagnosticParser.ModalNumContentContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#modalNumContent}.
+	 * @param ctx the parse tree
+	 */
+	void exitModalNumContent(KaryotypeDiagnosticParser.ModalNumContentContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#gender}.
+	 * @param ctx the parse tree
+	 */
+	void enterGender(KaryotypeDiagnosticParser.GenderContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#gender}.
+	 * @param ctx the parse tree
+	 */
+	void exitGender(KaryotypeDiagnosticParser.GenderContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#tooManyComma}.
+	 * @param ctx the parse tree
+	 */
+	void enterTooManyComma(KaryotypeDiagnosticParser.TooManyCommaContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#tooManyComma}.
+	 * @param ctx the parse tree
+	 */
+	void exitTooManyComma(KaryotypeDiagnosticParser.TooManyCommaContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#orSex}.
+	 * @param ctx the parse tree
+	 */
+	void enterOrSex(KaryotypeDiagnosticParser.OrSexContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#orSex}.
+	 * @param ctx the parse tree
+	 */
+	void exitOrSex(KaryotypeDiagnosticParser.OrSexContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#idemSpecial}.
+	 * @param ctx the parse tree
+	 */
+	void enterIdemSpecial(KaryotypeDiagnosticParser.IdemSpecialContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#idemSpecial}.
+	 * @param ctx the parse tree
+	 */
+	void exitIdemSpecial(KaryotypeDiagnosticParser.IdemSpecialContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#slSpecial}.
+	 * @param ctx the parse tree
+	 */
+	void enterSlSpecial(KaryotypeDiagnosticParser.SlSpecialContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#slSpecial}.
+	 * @param ctx the parse tree
+	 */
+	void exitSlSpecial(KaryotypeDiagnosticParser.SlSpecialContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#sdlSpecial}.
+	 * @param ctx the parse tree
+	 */
+	void enterSdlSpecial(KaryotypeDiagnosticParser.SdlSpecialContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#sdlSpecial}.
+	 * @param ctx the parse tree
+	 */
+	void exitSdlSpecial(KaryotypeDiagnosticParser.SdlSpecialContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#regularEvent}.
+	 * @param ctx the parse tree
+	 */
+	void enterRegularEvent(KaryotypeDiagnosticParser.RegularEventContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#regularEvent}.
+	 * @param ctx the parse tree
+	 */
+	void exitRegularEvent(KaryotypeDiagnosticParser.RegularEventContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#incorrectComma}.
+	 * @param ctx the parse tree
+	 */
+	void enterIncorrectComma(KaryotypeDiagnosticParser.IncorrectCommaContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#incorrectComma}.
+	 * @param ctx the parse tree
+	 */
+	void exitIncorrectComma(KaryotypeDiagnosticParser.IncorrectCommaContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#idemEvent}.
+	 * @param ctx the parse tree
+	 */
+	void enterIdemEvent(KaryotypeDiagnosticParser.IdemEventContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#idemEvent}.
+	 * @param ctx the parse tree
+	 */
+	void exitIdemEvent(KaryotypeDiagnosticParser.IdemEventContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#slEvent}.
+	 * @param ctx the parse tree
+	 */
+	void enterSlEvent(KaryotypeDiagnosticParser.SlEventContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#slEvent}.
+	 * @param ctx the parse tree
+	 */
+	void exitSlEvent(KaryotypeDiagnosticParser.SlEventContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#slMark}.
+	 * @param ctx the parse tree
+	 */
+	void enterSlMark(KaryotypeDiagnosticParser.SlMarkContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#slMark}.
+	 * @param ctx the parse tree
+	 */
+	void exitSlMark(KaryotypeDiagnosticParser.SlMarkContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#sdlEvent}.
+	 * @param ctx the parse tree
+	 */
+	void enterSdlEvent(KaryotypeDiagnosticParser.SdlEventContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#sdlEvent}.
+	 * @param ctx the parse tree
+	 */
+	void exitSdlEvent(KaryotypeDiagnosticParser.SdlEventContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#sdlMark}.
+	 * @param ctx the parse tree
+	 */
+	void enterSdlMark(KaryotypeDiagnosticParser.SdlMarkContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#sdlMark}.
+	 * @param ctx the parse tree
+	 */
+	void exitSdlMark(KaryotypeDiagnosticParser.SdlMarkContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code multipleInterpretationRegularEvent}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#regEvent}.
+	 * @param ctx the parse tree
+	 */
+	void enterMultipleInterpretationRegularEvent(KaryotypeDiagnosticParser.MultipleInterpretationRegularEventContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code multipleInterpretationRegularEvent}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#regEvent}.
+	 * @param ctx the parse tree
+	 */
+	void exitMultipleInterpretationRegularEvent(KaryotypeDiagnosticParser.MultipleInterpretationRegularEventContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code simpleRegularEvent}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#regEvent}.
+	 * @param ctx the parse tree
+	 */
+	void enterSimpleRegularEvent(KaryotypeDiagnosticParser.SimpleRegularEventContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code simpleRegularEvent}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#regEvent}.
+	 * @param ctx the parse tree
+	 */
+	void exitSimpleRegularEvent(KaryotypeDiagnosticParser.SimpleRegularEventContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code undecodedSpecialEvent}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#regEventType}.
+	 * @param ctx the parse tree
+	 */
+	void enterUndecodedSpecialEvent(KaryotypeDiagnosticParser.UndecodedSpecialEventContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code undecodedSpecialEvent}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#regEventType}.
+	 * @param ctx the parse tree
+	 */
+	void exitUndecodedSpecialEvent(KaryotypeDiagnosticParser.UndecodedSpecialEventContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code aberrationEvent}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#regEventType}.
+	 * @param ctx the parse tree
+	 */
+	void enterAberrationEvent(KaryotypeDiagnosticParser.AberrationEventContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code aberrationEvent}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#regEventType}.
+	 * @param ctx the parse tree
+	 */
+	void exitAberrationEvent(KaryotypeDiagnosticParser.AberrationEventContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code undecodedEvent}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#regEventType}.
+	 * @param ctx the parse tree
+	 */
+	void enterUndecodedEvent(KaryotypeDiagnosticParser.UndecodedEventContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code undecodedEvent}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#regEventType}.
+	 * @param ctx the parse tree
+	 */
+	void exitUndecodedEvent(KaryotypeDiagnosticParser.UndecodedEventContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code gainLossChrEvent}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#regEventType}.
+	 * @param ctx the parse tree
+	 */
+	void enterGainLossChrEvent(KaryotypeDiagnosticParser.GainLossChrEventContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code gainLossChrEvent}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#regEventType}.
+	 * @param ctx the parse tree
+	 */
+	void exitGainLossChrEvent(KaryotypeDiagnosticParser.GainLossChrEventContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code gainChrEvent}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#gainLossChr}.
+	 * @param ctx the parse tree
+	 */
+	void enterGainChrEvent(KaryotypeDiagnosticParser.GainChrEventContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code gainChrEvent}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#gainLossChr}.
+	 * @param ctx the parse tree
+	 */
+	void exitGainChrEvent(KaryotypeDiagnosticParser.GainChrEventContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code lossChrEvent}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#gainLossChr}.
+	 * @param ctx the parse tree
+	 */
+	void enterLossChrEvent(KaryotypeDiagnosticParser.LossChrEventContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code lossChrEvent}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#gainLossChr}.
+	 * @param ctx the parse tree
+	 */
+	void exitLossChrEvent(KaryotypeDiagnosticParser.LossChrEventContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code gainLossChrError}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#gainLossChr}.
+	 * @param ctx the parse tree
+	 */
+	void enterGainLossChrError(KaryotypeDiagnosticParser.GainLossChrErrorContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code gainLossChrError}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#gainLossChr}.
+	 * @param ctx the parse tree
+	 */
+	void exitGainLossChrError(KaryotypeDiagnosticParser.GainLossChrErrorContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#undecoded}.
+	 * @param ctx the parse tree
+	 */
+	void enterUndecoded(KaryotypeDiagnosticParser.UndecodedContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#undecoded}.
+	 * @param ctx the parse tree
+	 */
+	void exitUndecoded(KaryotypeDiagnosticParser.UndecodedContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code derAberration}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#aberration}.
+	 * @param ctx the parse tree
+	 */
+	void enterDerAberration(KaryotypeDiagnosticParser.DerAberrationContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code derAberration}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#aberration}.
+	 * @param ctx the parse tree
+	 */
+	void exitDerAberration(KaryotypeDiagnosticParser.DerAberrationContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code basicAberration}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#aberration}.
+	 * @param ctx the parse tree
+	 */
+	void enterBasicAberration(KaryotypeDiagnosticParser.BasicAberrationContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code basicAberration}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#aberration}.
+	 * @param ctx the parse tree
+	 */
+	void exitBasicAberration(KaryotypeDiagnosticParser.BasicAberrationContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code uncertainBasicAberration}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#aberration}.
+	 * @param ctx the parse tree
+	 */
+	void enterUncertainBasicAberration(KaryotypeDiagnosticParser.UncertainBasicAberrationContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code uncertainBasicAberration}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#aberration}.
+	 * @param ctx the parse tree
+	 */
+	void exitUncertainBasicAberration(KaryotypeDiagnosticParser.UncertainBasicAberrationContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code derAberrationError}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#aberration}.
+	 * @param ctx the parse tree
+	 */
+	void enterDerAberrationError(KaryotypeDiagnosticParser.DerAberrationErrorContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code derAberrationError}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#aberration}.
+	 * @param ctx the parse tree
+	 */
+	void exitDerAberrationError(KaryotypeDiagnosticParser.DerAberrationErrorContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code basicAberrationError}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#aberration}.
+	 * @param ctx the parse tree
+	 */
+	void enterBasicAberrationError(KaryotypeDiagnosticParser.BasicAberrationErrorContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code basicAberrationError}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#aberration}.
+	 * @param ctx the parse tree
+	 */
+	void exitBasicAberrationError(KaryotypeDiagnosticParser.BasicAberrationErrorContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code normalRearrangement}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#rearrangementElement}.
+	 * @param ctx the parse tree
+	 */
+	void enterNormalRearrangement(KaryotypeDiagnosticParser.NormalRearrangementContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code normalRearrangement}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#rearrangementElement}.
+	 * @param ctx the parse tree
+	 */
+	void exitNormalRearrangement(KaryotypeDiagnosticParser.NormalRearrangementContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code multipleInterpretationRearrangement}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#rearrangementElement}.
+	 * @param ctx the parse tree
+	 */
+	void enterMultipleInterpretationRearrangement(KaryotypeDiagnosticParser.MultipleInterpretationRearrangementContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code multipleInterpretationRearrangement}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#rearrangementElement}.
+	 * @param ctx the parse tree
+	 */
+	void exitMultipleInterpretationRearrangement(KaryotypeDiagnosticParser.MultipleInterpretationRearrangementContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#rearrangement}.
+	 * @param ctx the parse tree
+	 */
+	void enterRearrangement(KaryotypeDiagnosticParser.RearrangementContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#rearrangement}.
+	 * @param ctx the parse tree
+	 */
+	void exitRearrangement(KaryotypeDiagnosticParser.RearrangementContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code correctDerChrList}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#derChrList}.
+	 * @param ctx the parse tree
+	 */
+	void enterCorrectDerChrList(KaryotypeDiagnosticParser.CorrectDerChrListContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code correctDerChrList}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#derChrList}.
+	 * @param ctx the parse tree
+	 */
+	void exitCorrectDerChrList(KaryotypeDiagnosticParser.CorrectDerChrListContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code incorrectDerChrList}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#derChrList}.
+	 * @param ctx the parse tree
+	 */
+	void enterIncorrectDerChrList(KaryotypeDiagnosticParser.IncorrectDerChrListContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code incorrectDerChrList}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#derChrList}.
+	 * @param ctx the parse tree
+	 */
+	void exitIncorrectDerChrList(KaryotypeDiagnosticParser.IncorrectDerChrListContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#derChrListElements}.
+	 * @param ctx the parse tree
+	 */
+	void enterDerChrListElements(KaryotypeDiagnosticParser.DerChrListElementsContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#derChrListElements}.
+	 * @param ctx the parse tree
+	 */
+	void exitDerChrListElements(KaryotypeDiagnosticParser.DerChrListElementsContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#incorrectDerChrListElements}.
+	 * @param ctx the parse tree
+	 */
+	void enterIncorrectDerChrListElements(KaryotypeDiagnosticParser.IncorrectDerChrListElementsContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#incorrectDerChrListElements}.
+	 * @param ctx the parse tree
+	 */
+	void exitIncorrectDerChrListElements(KaryotypeDiagnosticParser.IncorrectDerChrListElementsContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#incorrectLeftParenthesis}.
+	 * @param ctx the parse tree
+	 */
+	void enterIncorrectLeftParenthesis(KaryotypeDiagnosticParser.IncorrectLeftParenthesisContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#incorrectLeftParenthesis}.
+	 * @param ctx the parse tree
+	 */
+	void exitIncorrectLeftParenthesis(KaryotypeDiagnosticParser.IncorrectLeftParenthesisContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#incorrectRightParenthesis}.
+	 * @param ctx the parse tree
+	 */
+	void enterIncorrectRightParenthesis(KaryotypeDiagnosticParser.IncorrectRightParenthesisContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#incorrectRightParenthesis}.
+	 * @param ctx the parse tree
+	 */
+	void exitIncorrectRightParenthesis(KaryotypeDiagnosticParser.IncorrectRightParenthesisContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code correctDerBreakpointsList}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#derBreakpointsList}.
+	 * @param ctx the parse tree
+	 */
+	void enterCorrectDerBreakpointsList(KaryotypeDiagnosticParser.CorrectDerBreakpointsListContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code correctDerBreakpointsList}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#derBreakpointsList}.
+	 * @param ctx the parse tree
+	 */
+	void exitCorrectDerBreakpointsList(KaryotypeDiagnosticParser.CorrectDerBreakpointsListContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code incorrectDerBreakpointsList}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#derBreakpointsList}.
+	 * @param ctx the parse tree
+	 */
+	void enterIncorrectDerBreakpointsList(KaryotypeDiagnosticParser.IncorrectDerBreakpointsListContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code incorrectDerBreakpointsList}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#derBreakpointsList}.
+	 * @param ctx the parse tree
+	 */
+	void exitIncorrectDerBreakpointsList(KaryotypeDiagnosticParser.IncorrectDerBreakpointsListContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#derBreakpointsListElements}.
+	 * @param ctx the parse tree
+	 */
+	void enterDerBreakpointsListElements(KaryotypeDiagnosticParser.DerBreakpointsListElementsContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#derBreakpointsListElements}.
+	 * @param ctx the parse tree
+	 */
+	void exitDerBreakpointsListElements(KaryotypeDiagnosticParser.DerBreakpointsListElementsContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#incorrectDerBreakpointsListElements}.
+	 * @param ctx the parse tree
+	 */
+	void enterIncorrectDerBreakpointsListElements(KaryotypeDiagnosticParser.IncorrectDerBreakpointsListElementsContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#incorrectDerBreakpointsListElements}.
+	 * @param ctx the parse tree
+	 */
+	void exitIncorrectDerBreakpointsListElements(KaryotypeDiagnosticParser.IncorrectDerBreakpointsListElementsContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code normalDerBreakpoints}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#derBreakpointsInOneChr}.
+	 * @param ctx the parse tree
+	 */
+	void enterNormalDerBreakpoints(KaryotypeDiagnosticParser.NormalDerBreakpointsContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code normalDerBreakpoints}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#derBreakpointsInOneChr}.
+	 * @param ctx the parse tree
+	 */
+	void exitNormalDerBreakpoints(KaryotypeDiagnosticParser.NormalDerBreakpointsContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code multipleInterpretationDerBreakpoints}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#derBreakpointsInOneChr}.
+	 * @param ctx the parse tree
+	 */
+	void enterMultipleInterpretationDerBreakpoints(KaryotypeDiagnosticParser.MultipleInterpretationDerBreakpointsContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code multipleInterpretationDerBreakpoints}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#derBreakpointsInOneChr}.
+	 * @param ctx the parse tree
+	 */
+	void exitMultipleInterpretationDerBreakpoints(KaryotypeDiagnosticParser.MultipleInterpretationDerBreakpointsContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code correctChrList}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#chrList}.
+	 * @param ctx the parse tree
+	 */
+	void enterCorrectChrList(KaryotypeDiagnosticParser.CorrectChrListContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code correctChrList}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#chrList}.
+	 * @param ctx the parse tree
+	 */
+	void exitCorrectChrList(KaryotypeDiagnosticParser.CorrectChrListContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code incorrectChrList}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#chrList}.
+	 * @param ctx the parse tree
+	 */
+	void enterIncorrectChrList(KaryotypeDiagnosticParser.IncorrectChrListContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code incorrectChrList}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#chrList}.
+	 * @param ctx the parse tree
+	 */
+	void exitIncorrectChrList(KaryotypeDiagnosticParser.IncorrectChrListContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#chrListElements}.
+	 * @param ctx the parse tree
+	 */
+	void enterChrListElements(KaryotypeDiagnosticParser.ChrListElementsContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#chrListElements}.
+	 * @param ctx the parse tree
+	 */
+	void exitChrListElements(KaryotypeDiagnosticParser.ChrListElementsContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#incorrectChrListElements}.
+	 * @param ctx the parse tree
+	 */
+	void enterIncorrectChrListElements(KaryotypeDiagnosticParser.IncorrectChrListElementsContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#incorrectChrListElements}.
+	 * @param ctx the parse tree
+	 */
+	void exitIncorrectChrListElements(KaryotypeDiagnosticParser.IncorrectChrListElementsContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code correctBreakpointsList}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#breakpointsList}.
+	 * @param ctx the parse tree
+	 */
+	void enterCorrectBreakpointsList(KaryotypeDiagnosticParser.CorrectBreakpointsListContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code correctBreakpointsList}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#breakpointsList}.
+	 * @param ctx the parse tree
+	 */
+	void exitCorrectBreakpointsList(KaryotypeDiagnosticParser.CorrectBreakpointsListContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code detailedBreakpointsList}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#breakpointsList}.
+	 * @param ctx the parse tree
+	 */
+	void enterDetailedBreakpointsList(KaryotypeDiagnosticParser.DetailedBreakpointsListContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code detailedBreakpointsList}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#breakpointsList}.
+	 * @param ctx the parse tree
+	 */
+	void exitDetailedBreakpointsList(KaryotypeDiagnosticParser.DetailedBreakpointsListContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code incorrectBreakpointsList}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#breakpointsList}.
+	 * @param ctx the parse tree
+	 */
+	void enterIncorrectBreakpointsList(KaryotypeDiagnosticParser.IncorrectBreakpointsListContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code incorrectBreakpointsList}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#breakpointsList}.
+	 * @param ctx the parse tree
+	 */
+	void exitIncorrectBreakpointsList(KaryotypeDiagnosticParser.IncorrectBreakpointsListContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#breakpointsListElements}.
+	 * @param ctx the parse tree
+	 */
+	void enterBreakpointsListElements(KaryotypeDiagnosticParser.BreakpointsListElementsContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#breakpointsListElements}.
+	 * @param ctx the parse tree
+	 */
+	void exitBreakpointsListElements(KaryotypeDiagnosticParser.BreakpointsListElementsContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#incorrectBreakpointsListElements}.
+	 * @param ctx the parse tree
+	 */
+	void enterIncorrectBreakpointsListElements(KaryotypeDiagnosticParser.IncorrectBreakpointsListElementsContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#incorrectBreakpointsListElements}.
+	 * @param ctx the parse tree
+	 */
+	void exitIncorrectBreakpointsListElements(KaryotypeDiagnosticParser.IncorrectBreakpointsListElementsContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code normalBreakpoints}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#breakpointsInOneChr}.
+	 * @param ctx the parse tree
+	 */
+	void enterNormalBreakpoints(KaryotypeDiagnosticParser.NormalBreakpointsContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code normalBreakpoints}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#breakpointsInOneChr}.
+	 * @param ctx the parse tree
+	 */
+	void exitNormalBreakpoints(KaryotypeDiagnosticParser.NormalBreakpointsContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code multipleInterpretationBreakpoints}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#breakpointsInOneChr}.
+	 * @param ctx the parse tree
+	 */
+	void enterMultipleInterpretationBreakpoints(KaryotypeDiagnosticParser.MultipleInterpretationBreakpointsContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code multipleInterpretationBreakpoints}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#breakpointsInOneChr}.
+	 * @param ctx the parse tree
+	 */
+	void exitMultipleInterpretationBreakpoints(KaryotypeDiagnosticParser.MultipleInterpretationBreakpointsContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code correctRChrList}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#rChrList}.
+	 * @param ctx the parse tree
+	 */
+	void enterCorrectRChrList(KaryotypeDiagnosticParser.CorrectRChrListContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code correctRChrList}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#rChrList}.
+	 * @param ctx the parse tree
+	 */
+	void exitCorrectRChrList(KaryotypeDiagnosticParser.CorrectRChrListContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code incorrectRChrList}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#rChrList}.
+	 * @param ctx the parse tree
+	 */
+	void enterIncorrectRChrList(KaryotypeDiagnosticParser.IncorrectRChrListContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code incorrectRChrList}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#rChrList}.
+	 * @param ctx the parse tree
+	 */
+	void exitIncorrectRChrList(KaryotypeDiagnosticParser.IncorrectRChrListContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code correctRBreakpointsList}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#rBreakpointsList}.
+	 * @param ctx the parse tree
+	 */
+	void enterCorrectRBreakpointsList(KaryotypeDiagnosticParser.CorrectRBreakpointsListContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code correctRBreakpointsList}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#rBreakpointsList}.
+	 * @param ctx the parse tree
+	 */
+	void exitCorrectRBreakpointsList(KaryotypeDiagnosticParser.CorrectRBreakpointsListContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code detailedRBreakpointsList}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#rBreakpointsList}.
+	 * @param ctx the parse tree
+	 */
+	void enterDetailedRBreakpointsList(KaryotypeDiagnosticParser.DetailedRBreakpointsListContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code detailedRBreakpointsList}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#rBreakpointsList}.
+	 * @param ctx the parse tree
+	 */
+	void exitDetailedRBreakpointsList(KaryotypeDiagnosticParser.DetailedRBreakpointsListContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code incorrectRBreakpointsList}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#rBreakpointsList}.
+	 * @param ctx the parse tree
+	 */
+	void enterIncorrectRBreakpointsList(KaryotypeDiagnosticParser.IncorrectRBreakpointsListContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code incorrectRBreakpointsList}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#rBreakpointsList}.
+	 * @param ctx the parse tree
+	 */
+	void exitIncorrectRBreakpointsList(KaryotypeDiagnosticParser.IncorrectRBreakpointsListContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#idUncertainChr}.
+	 * @param ctx the parse tree
+	 */
+	void enterIdUncertainChr(KaryotypeDiagnosticParser.IdUncertainChrContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#idUncertainChr}.
+	 * @param ctx the parse tree
+	 */
+	void exitIdUncertainChr(KaryotypeDiagnosticParser.IdUncertainChrContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code correctUncertainChr}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#uncertainChr}.
+	 * @param ctx the parse tree
+	 */
+	void enterCorrectUncertainChr(KaryotypeDiagnosticParser.CorrectUncertainChrContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code correctUncertainChr}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#uncertainChr}.
+	 * @param ctx the parse tree
+	 */
+	void exitCorrectUncertainChr(KaryotypeDiagnosticParser.CorrectUncertainChrContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code incorrectUncertainChr}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#uncertainChr}.
+	 * @param ctx the parse tree
+	 */
+	void enterIncorrectUncertainChr(KaryotypeDiagnosticParser.IncorrectUncertainChrContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code incorrectUncertainChr}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#uncertainChr}.
+	 * @param ctx the parse tree
+	 */
+	void exitIncorrectUncertainChr(KaryotypeDiagnosticParser.IncorrectUncertainChrContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#uncertainChrContent}.
+	 * @param ctx the parse tree
+	 */
+	void enterUncertainChrContent(KaryotypeDiagnosticParser.UncertainChrContentContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#uncertainChrContent}.
+	 * @param ctx the parse tree
+	 */
+	void exitUncertainChrContent(KaryotypeDiagnosticParser.UncertainChrContentContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#arm}.
+	 * @param ctx the parse tree
+	 */
+	void enterArm(KaryotypeDiagnosticParser.ArmContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#arm}.
+	 * @param ctx the parse tree
+	 */
+	void exitArm(KaryotypeDiagnosticParser.ArmContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#band}.
+	 * @param ctx the parse tree
+	 */
+	void enterBand(KaryotypeDiagnosticParser.BandContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#band}.
+	 * @param ctx the parse tree
+	 */
+	void exitBand(KaryotypeDiagnosticParser.BandContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#breakpoint}.
+	 * @param ctx the parse tree
+	 */
+	void enterBreakpoint(KaryotypeDiagnosticParser.BreakpointContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#breakpoint}.
+	 * @param ctx the parse tree
+	 */
+	void exitBreakpoint(KaryotypeDiagnosticParser.BreakpointContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#breakpoints}.
+	 * @param ctx the parse tree
+	 */
+	void enterBreakpoints(KaryotypeDiagnosticParser.BreakpointsContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#breakpoints}.
+	 * @param ctx the parse tree
+	 */
+	void exitBreakpoints(KaryotypeDiagnosticParser.BreakpointsContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#c}.
+	 * @param ctx the parse tree
+	 */
+	void enterC(KaryotypeDiagnosticParser.CContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#c}.
+	 * @param ctx the parse tree
+	 */
+	void exitC(KaryotypeDiagnosticParser.CContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code correctCellNum}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#cellNum}.
+	 * @param ctx the parse tree
+	 */
+	void enterCorrectCellNum(KaryotypeDiagnosticParser.CorrectCellNumContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code correctCellNum}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#cellNum}.
+	 * @param ctx the parse tree
+	 */
+	void exitCorrectCellNum(KaryotypeDiagnosticParser.CorrectCellNumContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code incorrectCellNum}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#cellNum}.
+	 * @param ctx the parse tree
+	 */
+	void enterIncorrectCellNum(KaryotypeDiagnosticParser.IncorrectCellNumContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code incorrectCellNum}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#cellNum}.
+	 * @param ctx the parse tree
+	 */
+	void exitIncorrectCellNum(KaryotypeDiagnosticParser.IncorrectCellNumContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#cellNumContent}.
+	 * @param ctx the parse tree
+	 */
+	void enterCellNumContent(KaryotypeDiagnosticParser.CellNumContentContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#cellNumContent}.
+	 * @param ctx the parse tree
+	 */
+	void exitCellNumContent(KaryotypeDiagnosticParser.CellNumContentContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#incorrectLeftParenthesisII}.
+	 * @param ctx the parse tree
+	 */
+	void enterIncorrectLeftParenthesisII(KaryotypeDiagnosticParser.IncorrectLeftParenthesisIIContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#incorrectLeftParenthesisII}.
+	 * @param ctx the parse tree
+	 */
+	void exitIncorrectLeftParenthesisII(KaryotypeDiagnosticParser.IncorrectLeftParenthesisIIContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#incorrectRightParenthesisII}.
+	 * @param ctx the parse tree
+	 */
+	void enterIncorrectRightParenthesisII(KaryotypeDiagnosticParser.IncorrectRightParenthesisIIContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#incorrectRightParenthesisII}.
+	 * @param ctx the parse tree
+	 */
+	void exitIncorrectRightParenthesisII(KaryotypeDiagnosticParser.IncorrectRightParenthesisIIContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#cen}.
+	 * @param ctx the parse tree
+	 */
+	void enterCen(KaryotypeDiagnosticParser.CenContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#cen}.
+	 * @param ctx the parse tree
+	 */
+	void exitCen(KaryotypeDiagnosticParser.CenContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#chr}.
+	 * @param ctx the parse tree
+	 */
+	void enterChr(KaryotypeDiagnosticParser.ChrContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#chr}.
+	 * @param ctx the parse tree
+	 */
+	void exitChr(KaryotypeDiagnosticParser.ChrContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#chrNum}.
+	 * @param ctx the parse tree
+	 */
+	void enterChrNum(KaryotypeDiagnosticParser.ChrNumContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#chrNum}.
+	 * @param ctx the parse tree
+	 */
+	void exitChrNum(KaryotypeDiagnosticParser.ChrNumContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#cp}.
+	 * @param ctx the parse tree
+	 */
+	void enterCp(KaryotypeDiagnosticParser.CpContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#cp}.
+	 * @param ctx the parse tree
+	 */
+	void exitCp(KaryotypeDiagnosticParser.CpContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#derBreakpoints}.
+	 * @param ctx the parse tree
+	 */
+	void enterDerBreakpoints(KaryotypeDiagnosticParser.DerBreakpointsContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#derBreakpoints}.
+	 * @param ctx the parse tree
+	 */
+	void exitDerBreakpoints(KaryotypeDiagnosticParser.DerBreakpointsContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#derChr}.
+	 * @param ctx the parse tree
+	 */
+	void enterDerChr(KaryotypeDiagnosticParser.DerChrContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#derChr}.
+	 * @param ctx the parse tree
+	 */
+	void exitDerChr(KaryotypeDiagnosticParser.DerChrContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#derId}.
+	 * @param ctx the parse tree
+	 */
+	void enterDerId(KaryotypeDiagnosticParser.DerIdContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#derId}.
+	 * @param ctx the parse tree
+	 */
+	void exitDerId(KaryotypeDiagnosticParser.DerIdContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#detailedFormula}.
+	 * @param ctx the parse tree
+	 */
+	void enterDetailedFormula(KaryotypeDiagnosticParser.DetailedFormulaContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#detailedFormula}.
+	 * @param ctx the parse tree
+	 */
+	void exitDetailedFormula(KaryotypeDiagnosticParser.DetailedFormulaContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#detailedSegmentList}.
+	 * @param ctx the parse tree
+	 */
+	void enterDetailedSegmentList(KaryotypeDiagnosticParser.DetailedSegmentListContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#detailedSegmentList}.
+	 * @param ctx the parse tree
+	 */
+	void exitDetailedSegmentList(KaryotypeDiagnosticParser.DetailedSegmentListContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#detailedSegment}.
+	 * @param ctx the parse tree
+	 */
+	void enterDetailedSegment(KaryotypeDiagnosticParser.DetailedSegmentContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#detailedSegment}.
+	 * @param ctx the parse tree
+	 */
+	void exitDetailedSegment(KaryotypeDiagnosticParser.DetailedSegmentContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#detailedBreakpoint}.
+	 * @param ctx the parse tree
+	 */
+	void enterDetailedBreakpoint(KaryotypeDiagnosticParser.DetailedBreakpointContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#detailedBreakpoint}.
+	 * @param ctx the parse tree
+	 */
+	void exitDetailedBreakpoint(KaryotypeDiagnosticParser.DetailedBreakpointContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#digit}.
+	 * @param ctx the parse tree
+	 */
+	void enterDigit(KaryotypeDiagnosticParser.DigitContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#digit}.
+	 * @param ctx the parse tree
+	 */
+	void exitDigit(KaryotypeDiagnosticParser.DigitContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#dminNum}.
+	 * @param ctx the parse tree
+	 */
+	void enterDminNum(KaryotypeDiagnosticParser.DminNumContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#dminNum}.
+	 * @param ctx the parse tree
+	 */
+	void exitDminNum(KaryotypeDiagnosticParser.DminNumContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#gainChr}.
+	 * @param ctx the parse tree
+	 */
+	void enterGainChr(KaryotypeDiagnosticParser.GainChrContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#gainChr}.
+	 * @param ctx the parse tree
+	 */
+	void exitGainChr(KaryotypeDiagnosticParser.GainChrContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#id}.
+	 * @param ctx the parse tree
+	 */
+	void enterId(KaryotypeDiagnosticParser.IdContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#id}.
+	 * @param ctx the parse tree
+	 */
+	void exitId(KaryotypeDiagnosticParser.IdContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#inh}.
+	 * @param ctx the parse tree
+	 */
+	void enterInh(KaryotypeDiagnosticParser.InhContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#inh}.
+	 * @param ctx the parse tree
+	 */
+	void exitInh(KaryotypeDiagnosticParser.InhContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#integer}.
+	 * @param ctx the parse tree
+	 */
+	void enterInteger(KaryotypeDiagnosticParser.IntegerContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#integer}.
+	 * @param ctx the parse tree
+	 */
+	void exitInteger(KaryotypeDiagnosticParser.IntegerContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#lossChr}.
+	 * @param ctx the parse tree
+	 */
+	void enterLossChr(KaryotypeDiagnosticParser.LossChrContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#lossChr}.
+	 * @param ctx the parse tree
+	 */
+	void exitLossChr(KaryotypeDiagnosticParser.LossChrContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#marNum}.
+	 * @param ctx the parse tree
+	 */
+	void enterMarNum(KaryotypeDiagnosticParser.MarNumContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#marNum}.
+	 * @param ctx the parse tree
+	 */
+	void exitMarNum(KaryotypeDiagnosticParser.MarNumContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#modalDesc}.
+	 * @param ctx the parse tree
+	 */
+	void enterModalDesc(KaryotypeDiagnosticParser.ModalDescContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#modalDesc}.
+	 * @param ctx the parse tree
+	 */
+	void exitModalDesc(KaryotypeDiagnosticParser.ModalDescContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#modalLevel}.
+	 * @param ctx the parse tree
+	 */
+	void enterModalLevel(KaryotypeDiagnosticParser.ModalLevelContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#modalLevel}.
+	 * @param ctx the parse tree
+	 */
+	void exitModalLevel(KaryotypeDiagnosticParser.ModalLevelContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#modalPrefix}.
+	 * @param ctx the parse tree
+	 */
+	void enterModalPrefix(KaryotypeDiagnosticParser.ModalPrefixContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#modalPrefix}.
+	 * @param ctx the parse tree
+	 */
+	void exitModalPrefix(KaryotypeDiagnosticParser.ModalPrefixContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#modalSuffix}.
+	 * @param ctx the parse tree
+	 */
+	void enterModalSuffix(KaryotypeDiagnosticParser.ModalSuffixContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#modalSuffix}.
+	 * @param ctx the parse tree
+	 */
+	void exitModalSuffix(KaryotypeDiagnosticParser.ModalSuffixContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#mosChi}.
+	 * @param ctx the parse tree
+	 */
+	void enterMosChi(KaryotypeDiagnosticParser.MosChiContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#mosChi}.
+	 * @param ctx the parse tree
+	 */
+	void exitMosChi(KaryotypeDiagnosticParser.MosChiContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#multiplication}.
+	 * @param ctx the parse tree
+	 */
+	void enterMultiplication(KaryotypeDiagnosticParser.MultiplicationContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#multiplication}.
+	 * @param ctx the parse tree
+	 */
+	void exitMultiplication(KaryotypeDiagnosticParser.MultiplicationContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#numRangeTypeI}.
+	 * @param ctx the parse tree
+	 */
+	void enterNumRangeTypeI(KaryotypeDiagnosticParser.NumRangeTypeIContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#numRangeTypeI}.
+	 * @param ctx the parse tree
+	 */
+	void exitNumRangeTypeI(KaryotypeDiagnosticParser.NumRangeTypeIContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#numRangeTypeII}.
+	 * @param ctx the parse tree
+	 */
+	void enterNumRangeTypeII(KaryotypeDiagnosticParser.NumRangeTypeIIContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#numRangeTypeII}.
+	 * @param ctx the parse tree
+	 */
+	void exitNumRangeTypeII(KaryotypeDiagnosticParser.NumRangeTypeIIContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#numRangeTypeIII}.
+	 * @param ctx the parse tree
+	 */
+	void enterNumRangeTypeIII(KaryotypeDiagnosticParser.NumRangeTypeIIIContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#numRangeTypeIII}.
+	 * @param ctx the parse tree
+	 */
+	void exitNumRangeTypeIII(KaryotypeDiagnosticParser.NumRangeTypeIIIContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#prefix}.
+	 * @param ctx the parse tree
+	 */
+	void enterPrefix(KaryotypeDiagnosticParser.PrefixContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#prefix}.
+	 * @param ctx the parse tree
+	 */
+	void exitPrefix(KaryotypeDiagnosticParser.PrefixContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#prefixMinus}.
+	 * @param ctx the parse tree
+	 */
+	void enterPrefixMinus(KaryotypeDiagnosticParser.PrefixMinusContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#prefixMinus}.
+	 * @param ctx the parse tree
+	 */
+	void exitPrefixMinus(KaryotypeDiagnosticParser.PrefixMinusContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#prefixPlus}.
+	 * @param ctx the parse tree
+	 */
+	void enterPrefixPlus(KaryotypeDiagnosticParser.PrefixPlusContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#prefixPlus}.
+	 * @param ctx the parse tree
+	 */
+	void exitPrefixPlus(KaryotypeDiagnosticParser.PrefixPlusContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#rId}.
+	 * @param ctx the parse tree
+	 */
+	void enterRId(KaryotypeDiagnosticParser.RIdContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#rId}.
+	 * @param ctx the parse tree
+	 */
+	void exitRId(KaryotypeDiagnosticParser.RIdContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#sex}.
+	 * @param ctx the parse tree
+	 */
+	void enterSex(KaryotypeDiagnosticParser.SexContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#sex}.
+	 * @param ctx the parse tree
+	 */
+	void exitSex(KaryotypeDiagnosticParser.SexContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#sexChr}.
+	 * @param ctx the parse tree
+	 */
+	void enterSexChr(KaryotypeDiagnosticParser.SexChrContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#sexChr}.
+	 * @param ctx the parse tree
+	 */
+	void exitSexChr(KaryotypeDiagnosticParser.SexChrContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#suffix}.
+	 * @param ctx the parse tree
+	 */
+	void enterSuffix(KaryotypeDiagnosticParser.SuffixContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#suffix}.
+	 * @param ctx the parse tree
+	 */
+	void exitSuffix(KaryotypeDiagnosticParser.SuffixContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#subband}.
+	 * @param ctx the parse tree
+	 */
+	void enterSubband(KaryotypeDiagnosticParser.SubbandContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#subband}.
+	 * @param ctx the parse tree
+	 */
+	void exitSubband(KaryotypeDiagnosticParser.SubbandContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KaryotypeDiagnosticParser#undeterminedPrefix}.
+	 * @param ctx the parse tree
+	 */
+	void enterUndeterminedPrefix(KaryotypeDiagnosticParser.UndeterminedPrefixContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KaryotypeDiagnosticParser#undeterminedPrefix}.
+	 * @param ctx the parse tree
+	 */
+	void exitUndeterminedPrefix(KaryotypeDiagnosticParser.UndeterminedPrefixContext ctx);
+}
\ No newline at end of file
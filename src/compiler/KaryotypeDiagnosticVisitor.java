@@ -0,0 +1,860 @@
+// Generated from KaryotypeDiagnostic.g4 by ANTLR 4.7
+
+package compiler; 
+import java.util.*; 
+
+import org.antlr.v4.runtime.tree.ParseTreeVisitor;
+
+/**
+ * This interface defines a complete generic visitor for a parse tree produced
+ * by {@link KaryotypeDiagnosticParser}.
+ *
+ * @param <T> The return type of the visit operation. Use {@link Void} for
+ * operations with no return type.
+ */
+public interface KaryotypeDiagnosticVisitor<T> extends ParseTreeVisitor<T> {
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#row}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitRow(KaryotypeDiagnosticParser.RowContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#rowTypeI}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitRowTypeI(KaryotypeDiagnosticParser.RowTypeIContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#firstClone}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitFirstClone(KaryotypeDiagnosticParser.FirstCloneContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#clone}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitClone(KaryotypeDiagnosticParser.CloneContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#nonclonalClone}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitNonclonalClone(KaryotypeDiagnosticParser.NonclonalCloneContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#rowTypeII}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitRowTypeII(KaryotypeDiagnosticParser.RowTypeIIContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#firstStemlineGroup}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitFirstStemlineGroup(KaryotypeDiagnosticParser.FirstStemlineGroupContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#otherStemlineGroup}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitOtherStemlineGroup(KaryotypeDiagnosticParser.OtherStemlineGroupContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#stemlineClone}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitStemlineClone(KaryotypeDiagnosticParser.StemlineCloneContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#additionalStemlineClone}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitAdditionalStemlineClone(KaryotypeDiagnosticParser.AdditionalStemlineCloneContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#sidelineCloneTypeI}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitSidelineCloneTypeI(KaryotypeDiagnosticParser.SidelineCloneTypeIContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#sidelineCloneTypeII}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitSidelineCloneTypeII(KaryotypeDiagnosticParser.SidelineCloneTypeIIContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#additionalClone}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitAdditionalClone(KaryotypeDiagnosticParser.AdditionalCloneContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#karyotypeI}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitKaryotypeI(KaryotypeDiagnosticParser.KaryotypeIContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#karyotypeII}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitKaryotypeII(KaryotypeDiagnosticParser.KaryotypeIIContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#karyotypeIII}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitKaryotypeIII(KaryotypeDiagnosticParser.KaryotypeIIIContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#karyotypeIV}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitKaryotypeIV(KaryotypeDiagnosticParser.KaryotypeIVContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#karyotypeV}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitKaryotypeV(KaryotypeDiagnosticParser.KaryotypeVContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#ploidy}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitPloidy(KaryotypeDiagnosticParser.PloidyContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#tooManySlant}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitTooManySlant(KaryotypeDiagnosticParser.TooManySlantContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#incorrectSlant}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitIncorrectSlant(KaryotypeDiagnosticParser.IncorrectSlantContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code correctModalNum}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#modalNum}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitCorrectModalNum(KaryotypeDiagnosticParser.CorrectModalNumContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code incorrectModalNum}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#modalNum}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitIncorrectModalNum(KaryotypeDiagnosticParser.IncorrectModalNumContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#modalNumContent}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitModalNumContent(KaryotypeDiagnosticParser.ModalNumContentContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#gender}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitGender(KaryotypeDiagnosticParser.GenderContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#tooManyComma}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitTooManyComma(KaryotypeDiagnosticParser.TooManyCommaContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#orSex}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitOrSex(KaryotypeDiagnosticParser.OrSexContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#idemSpecial}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitIdemSpecial(KaryotypeDiagnosticParser.IdemSpecialContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#slSpecial}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitSlSpecial(KaryotypeDiagnosticParser.SlSpecialContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#sdlSpecial}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitSdlSpecial(KaryotypeDiagnosticParser.SdlSpecialContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#regularEvent}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitRegularEvent(KaryotypeDiagnosticParser.RegularEventContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#incorrectComma}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitIncorrectComma(KaryotypeDiagnosticParser.IncorrectCommaContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#idemEvent}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitIdemEvent(KaryotypeDiagnosticParser.IdemEventContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#slEvent}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitSlEvent(KaryotypeDiagnosticParser.SlEventContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#slMark}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitSlMark(KaryotypeDiagnosticParser.SlMarkContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#sdlEvent}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitSdlEvent(KaryotypeDiagnosticParser.SdlEventContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#sdlMark}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitSdlMark(KaryotypeDiagnosticParser.SdlMarkContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code multipleInterpretationRegularEvent}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#regEvent}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitMultipleInterpretationRegularEvent(KaryotypeDiagnosticParser.MultipleInterpretationRegularEventContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code simpleRegularEvent}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#regEvent}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitSimpleRegularEvent(KaryotypeDiagnosticParser.SimpleRegularEventContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code undecodedSpecialEvent}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#regEventType}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitUndecodedSpecialEvent(KaryotypeDiagnosticParser.UndecodedSpecialEventContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code aberrationEvent}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#regEventType}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitAberrationEvent(KaryotypeDiagnosticParser.AberrationEventContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code undecodedEvent}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#regEventType}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitUndecodedEvent(KaryotypeDiagnosticParser.UndecodedEventContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code gainLossChrEvent}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#regEventType}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitGainLossChrEvent(KaryotypeDiagnosticParser.GainLossChrEventContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code gainChrEvent}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#gainLossChr}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitGainChrEvent(KaryotypeDiagnosticParser.GainChrEventContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code lossChrEvent}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#gainLossChr}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitLossChrEvent(KaryotypeDiagnosticParser.LossChrEventContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code gainLossChrError}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#gainLossChr}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitGainLossChrError(KaryotypeDiagnosticParser.GainLossChrErrorContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#undecoded}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitUndecoded(KaryotypeDiagnosticParser.UndecodedContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code derAberration}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#aberration}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitDerAberration(KaryotypeDiagnosticParser.DerAberrationContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code basicAberration}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#aberration}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitBasicAberration(KaryotypeDiagnosticParser.BasicAberrationContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code uncertainBasicAberration}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#aberration}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitUncertainBasicAberration(KaryotypeDiagnosticParser.UncertainBasicAberrationContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code derAberrationError}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#aberration}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitDerAberrationError(KaryotypeDiagnosticParser.DerAberrationErrorContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code basicAberrationError}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#aberration}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitBasicAberrationError(KaryotypeDiagnosticParser.BasicAberrationErrorContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code normalRearrangement}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#rearrangementElement}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitNormalRearrangement(KaryotypeDiagnosticParser.NormalRearrangementContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code multipleInterpretationRearrangement}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#rearrangementElement}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitMultipleInterpretationRearrangement(KaryotypeDiagnosticParser.MultipleInterpretationRearrangementContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#rearrangement}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitRearrangement(KaryotypeDiagnosticParser.RearrangementContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code correctDerChrList}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#derChrList}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitCorrectDerChrList(KaryotypeDiagnosticParser.CorrectDerChrListContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code incorrectDerChrList}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#derChrList}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitIncorrectDerChrList(KaryotypeDiagnosticParser.IncorrectDerChrListContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#derChrListElements}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitDerChrListElements(KaryotypeDiagnosticParser.DerChrListElementsContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#incorrectDerChrListElements}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitIncorrectDerChrListElements(KaryotypeDiagnosticParser.IncorrectDerChrListElementsContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#incorrectLeftParenthesis}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitIncorrectLeftParenthesis(KaryotypeDiagnosticParser.IncorrectLeftParenthesisContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#incorrectRightParenthesis}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitIncorrectRightParenthesis(KaryotypeDiagnosticParser.IncorrectRightParenthesisContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code correctDerBreakpointsList}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#derBreakpointsList}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitCorrectDerBreakpointsList(KaryotypeDiagnosticParser.CorrectDerBreakpointsListContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code incorrectDerBreakpointsList}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#derBreakpointsList}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitIncorrectDerBreakpointsList(KaryotypeDiagnosticParser.IncorrectDerBreakpointsListContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#derBreakpointsListElements}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitDerBreakpointsListElements(KaryotypeDiagnosticParser.DerBreakpointsListElementsContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#incorrectDerBreakpointsListElements}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitIncorrectDerBreakpointsListElements(KaryotypeDiagnosticParser.IncorrectDerBreakpointsListElementsContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code normalDerBreakpoints}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#derBreakpointsInOneChr}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitNormalDerBreakpoints(KaryotypeDiagnosticParser.NormalDerBreakpointsContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code multipleInterpretationDerBreakpoints}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#derBreakpointsInOneChr}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitMultipleInterpretationDerBreakpoints(KaryotypeDiagnosticParser.MultipleInterpretationDerBreakpointsContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code correctChrList}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#chrList}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitCorrectChrList(KaryotypeDiagnosticParser.CorrectChrListContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code incorrectChrList}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#chrList}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitIncorrectChrList(KaryotypeDiagnosticParser.IncorrectChrListContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#chrListElements}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitChrListElements(KaryotypeDiagnosticParser.ChrListElementsContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#incorrectChrListElements}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitIncorrectChrListElements(KaryotypeDiagnosticParser.IncorrectChrListElementsContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code correctBreakpointsList}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#breakpointsList}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitCorrectBreakpointsList(KaryotypeDiagnosticParser.CorrectBreakpointsListContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code detailedBreakpointsList}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#breakpointsList}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitDetailedBreakpointsList(KaryotypeDiagnosticParser.DetailedBreakpointsListContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code incorrectBreakpointsList}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#breakpointsList}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitIncorrectBreakpointsList(KaryotypeDiagnosticParser.IncorrectBreakpointsListContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#breakpointsListElements}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitBreakpointsListElements(KaryotypeDiagnosticParser.BreakpointsListElementsContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#incorrectBreakpointsListElements}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitIncorrectBreakpointsListElements(KaryotypeDiagnosticParser.IncorrectBreakpointsListElementsContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code normalBreakpoints}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#breakpointsInOneChr}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitNormalBreakpoints(KaryotypeDiagnosticParser.NormalBreakpointsContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code multipleInterpretationBreakpoints}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#breakpointsInOneChr}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitMultipleInterpretationBreakpoints(KaryotypeDiagnosticParser.MultipleInterpretationBreakpointsContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code correctRChrList}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#rChrList}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitCorrectRChrList(KaryotypeDiagnosticParser.CorrectRChrListContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code incorrectRChrList}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#rChrList}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitIncorrectRChrList(KaryotypeDiagnosticParser.IncorrectRChrListContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code correctRBreakpointsList}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#rBreakpointsList}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitCorrectRBreakpointsList(KaryotypeDiagnosticParser.CorrectRBreakpointsListContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code detailedRBreakpointsList}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#rBreakpointsList}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitDetailedRBreakpointsList(KaryotypeDiagnosticParser.DetailedRBreakpointsListContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code incorrectRBreakpointsList}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#rBreakpointsList}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitIncorrectRBreakpointsList(KaryotypeDiagnosticParser.IncorrectRBreakpointsListContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#idUncertainChr}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitIdUncertainChr(KaryotypeDiagnosticParser.IdUncertainChrContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code correctUncertainChr}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#uncertainChr}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitCorrectUncertainChr(KaryotypeDiagnosticParser.CorrectUncertainChrContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code incorrectUncertainChr}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#uncertainChr}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitIncorrectUncertainChr(KaryotypeDiagnosticParser.IncorrectUncertainChrContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#uncertainChrContent}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitUncertainChrContent(KaryotypeDiagnosticParser.UncertainChrContentContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#arm}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitArm(KaryotypeDiagnosticParser.ArmContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#band}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitBand(KaryotypeDiagnosticParser.BandContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#breakpoint}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitBreakpoint(KaryotypeDiagnosticParser.BreakpointContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#breakpoints}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitBreakpoints(KaryotypeDiagnosticParser.BreakpointsContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#c}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitC(KaryotypeDiagnosticParser.CContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code correctCellNum}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#cellNum}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitCorrectCellNum(KaryotypeDiagnosticParser.CorrectCellNumContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code incorrectCellNum}
+	 * labeled alternative in {@link KaryotypeDiagnosticParser#cellNum}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitIncorrectCellNum(KaryotypeDiagnosticParser.IncorrectCellNumContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#cellNumContent}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitCellNumContent(KaryotypeDiagnosticParser.CellNumContentContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#incorrectLeftParenthesisII}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitIncorrectLeftParenthesisII(KaryotypeDiagnosticParser.IncorrectLeftParenthesisIIContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#incorrectRightParenthesisII}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitIncorrectRightParenthesisII(KaryotypeDiagnosticParser.IncorrectRightParenthesisIIContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#cen}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitCen(KaryotypeDiagnosticParser.CenContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#chr}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitChr(KaryotypeDiagnosticParser.ChrContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#chrNum}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitChrNum(KaryotypeDiagnosticParser.ChrNumContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#cp}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitCp(KaryotypeDiagnosticParser.CpContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#derBreakpoints}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitDerBreakpoints(KaryotypeDiagnosticParser.DerBreakpointsContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#derChr}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitDerChr(KaryotypeDiagnosticParser.DerChrContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#derId}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitDerId(KaryotypeDiagnosticParser.DerIdContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#detailedFormula}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitDetailedFormula(KaryotypeDiagnosticParser.DetailedFormulaContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#detailedSegmentList}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitDetailedSegmentList(KaryotypeDiagnosticParser.DetailedSegmentListContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#detailedSegment}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitDetailedSegment(KaryotypeDiagnosticParser.DetailedSegmentContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#detailedBreakpoint}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitDetailedBreakpoint(KaryotypeDiagnosticParser.DetailedBreakpointContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#digit}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitDigit(KaryotypeDiagnosticParser.DigitContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#dminNum}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitDminNum(KaryotypeDiagnosticParser.DminNumContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#gainChr}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitGainChr(KaryotypeDiagnosticParser.GainChrContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#id}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitId(KaryotypeDiagnosticParser.IdContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#inh}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitInh(KaryotypeDiagnosticParser.InhContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#integer}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitInteger(KaryotypeDiagnosticParser.IntegerContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#lossChr}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitLossChr(KaryotypeDiagnosticParser.LossChrContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#marNum}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitMarNum(KaryotypeDiagnosticParser.MarNumContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#modalDesc}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitModalDesc(KaryotypeDiagnosticParser.ModalDescContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#modalLevel}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitModalLevel(KaryotypeDiagnosticParser.ModalLevelContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#modalPrefix}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitModalPrefix(KaryotypeDiagnosticParser.ModalPrefixContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#modalSuffix}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitModalSuffix(KaryotypeDiagnosticParser.ModalSuffixContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#mosChi}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitMosChi(KaryotypeDiagnosticParser.MosChiContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#multiplication}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitMultiplication(KaryotypeDiagnosticParser.MultiplicationContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#numRangeTypeI}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitNumRangeTypeI(KaryotypeDiagnosticParser.NumRangeTypeIContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#numRangeTypeII}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitNumRangeTypeII(KaryotypeDiagnosticParser.NumRangeTypeIIContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#numRangeTypeIII}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitNumRangeTypeIII(KaryotypeDiagnosticParser.NumRangeTypeIIIContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#prefix}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitPrefix(KaryotypeDiagnosticParser.PrefixContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#prefixMinus}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitPrefixMinus(KaryotypeDiagnosticParser.PrefixMinusContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#prefixPlus}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitPrefixPlus(KaryotypeDiagnosticParser.PrefixPlusContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#rId}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitRId(KaryotypeDiagnosticParser.RIdContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#sex}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitSex(KaryotypeDiagnosticParser.SexContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#sexChr}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitSexChr(KaryotypeDiagnosticParser.SexChrContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#suffix}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitSuffix(KaryotypeDiagnosticParser.SuffixContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#subband}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitSubband(KaryotypeDiagnosticParser.SubbandContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KaryotypeDiagnosticParser#undeterminedPrefix}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitUndeterminedPrefix(KaryotypeDiagnosticParser.UndeterminedPrefixContext ctx);
+}
\ No newline at end of file
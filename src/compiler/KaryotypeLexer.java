@@ -26,9 +26,9 @@ public class KaryotypeLexer extends Lexer {
 		T__24=25, T__25=26, T__26=27, T__27=28, T__28=29, T__29=30, T__30=31, 
 		T__31=32, T__32=33, T__33=34, T__34=35, T__35=36, T__36=37, T__37=38, 
 		T__38=39, T__39=40, T__40=41, T__41=42, T__42=43, T__43=44, T__44=45, 
-		T__45=46, T__46=47, T__47=48, T__48=49, T__49=50, T__50=51, T__51=52, 
-		T__52=53, APPROX=54, POSITIVEDIGIT=55, MINUS=56, PLUS=57, QUES=58, LETTER=59, 
-		ARROW=60, COLON=61, WS=62;
+		T__45=46, T__46=47, T__47=48, T__48=49, T__49=50, T__50=51, APPROX=52, 
+		POSITIVEDIGIT=53, MINUS=54, PLUS=55, QUES=56, LETTER=57, ARROW=58, COLON=59, 
+		WS=60;
 	public static String[] channelNames = {
 		"DEFAULT_TOKEN_CHANNEL", "HIDDEN"
 	};
@@ -44,25 +44,25 @@ public class KaryotypeLexer extends Lexer {
 		"T__25", "T__26", "T__27", "T__28", "T__29", "T__30", "T__31", "T__32", 
 		"T__33", "T__34", "T__35", "T__36", "T__37", "T__38", "T__39", "T__40", 
 		"T__41", "T__42", "T__43", "T__44", "T__45", "T__46", "T__47", "T__48", 
-		"T__49", "T__50", "T__51", "T__52", "APPROX", "POSITIVEDIGIT", "MINUS", 
-		"PLUS", "QUES", "LETTER", "ARROW", "COLON", "WS"
+		"T__49", "T__50", "APPROX", "POSITIVEDIGIT", "MINUS", "PLUS", "QUES", 
+		"LETTER", "ARROW", "COLON", "WS"
 	};
 
 	private static final String[] _LITERAL_NAMES = {
 		null, "'.'", "'/'", "','", "'n'", "'N'", "'o'", "'O'", "'c'", "'C'", "'l'", 
 		"'L'", "'a'", "'A'", "'b'", "'B'", "'r'", "'R'", "'m'", "'M'", "'e'", 
-		"'E'", "';'", "'<'", "'>'", "'i'", "'I'", "'d'", "'D'", "'s'", "'S'", 
-		"'('", "')'", "'['", "'{'", "']'", "'}'", "'p'", "'P'", "'u'", "'U'", 
-		"'t'", "'T'", "'q'", "'Q'", "'h'", "'H'", "'v'", "'V'", "'0'", "'x'", 
-		"'X'", "'y'", "'Y'", "'~'", null, "'-'", "'+'", "'?'", null, "'->'", "':'"
+		"'E'", "'<'", "'>'", "'i'", "'I'", "'d'", "'D'", "'s'", "'S'", "'('", 
+		"')'", "';'", "'p'", "'P'", "'u'", "'U'", "'t'", "'T'", "'q'", "'Q'", 
+		"'h'", "'H'", "'v'", "'V'", "'['", "']'", "'0'", "'x'", "'X'", "'y'", 
+		"'Y'", "'~'", null, "'-'", "'+'", "'?'", null, "'->'", "':'"
 	};
 	private static final String[] _SYMBOLIC_NAMES = {
 		null, null, null, null, null, null, null, null, null, null, null, null, 
 		null, null, null, null, null, null, null, null, null, null, null, null, 
 		null, null, null, null, null, null, null, null, null, null, null, null, 
 		null, null, null, null, null, null, null, null, null, null, null, null, 
-		null, null, null, null, null, null, "APPROX", "POSITIVEDIGIT", "MINUS", 
-		"PLUS", "QUES", "LETTER", "ARROW", "COLON", "WS"
+		null, null, null, null, "APPROX", "POSITIVEDIGIT", "MINUS", "PLUS", "QUES", 
+		"LETTER", "ARROW", "COLON", "WS"
 	};
 	public static final Vocabulary VOCABULARY = new VocabularyImpl(_LITERAL_NAMES, _SYMBOLIC_NAMES);
 
@@ -122,7 +122,7 @@ public class KaryotypeLexer extends Lexer {
 	public ATN getATN() { return _ATN; }
 
 	public static final String _serializedATN =
-		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\2@\u0101\b\1\4\2\t"+
+		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\2>\u00f9\b\1\4\2\t"+
 		"\2\4\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4\13"+
 		"\t\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22\t\22"+
 		"\4\23\t\23\4\24\t\24\4\25\t\25\4\26\t\26\4\27\t\27\4\30\t\30\4\31\t\31"+
@@ -130,75 +130,72 @@ public class KaryotypeLexer extends Lexer {
 		"\t!\4\"\t\"\4#\t#\4$\t$\4%\t%\4&\t&\4\'\t\'\4(\t(\4)\t)\4*\t*\4+\t+\4"+
 		",\t,\4-\t-\4.\t.\4/\t/\4\60\t\60\4\61\t\61\4\62\t\62\4\63\t\63\4\64\t"+
 		"\64\4\65\t\65\4\66\t\66\4\67\t\67\48\t8\49\t9\4:\t:\4;\t;\4<\t<\4=\t="+
-		"\4>\t>\4?\t?\3\2\3\2\3\3\3\3\3\4\3\4\3\5\3\5\3\6\3\6\3\7\3\7\3\b\3\b\3"+
-		"\t\3\t\3\n\3\n\3\13\3\13\3\f\3\f\3\r\3\r\3\16\3\16\3\17\3\17\3\20\3\20"+
-		"\3\21\3\21\3\22\3\22\3\23\3\23\3\24\3\24\3\25\3\25\3\26\3\26\3\27\3\27"+
-		"\3\30\3\30\3\31\3\31\3\32\3\32\3\33\3\33\3\34\3\34\3\35\3\35\3\36\3\36"+
-		"\3\37\3\37\3 \3 \3!\3!\3\"\3\"\3#\3#\3$\3$\3%\3%\3&\3&\3\'\3\'\3(\3(\3"+
-		")\3)\3*\3*\3+\3+\3,\3,\3-\3-\3.\3.\3/\3/\3\60\3\60\3\61\3\61\3\62\3\62"+
-		"\3\63\3\63\3\64\3\64\3\65\3\65\3\66\3\66\3\67\3\67\38\38\39\39\3:\3:\3"+
-		";\3;\3<\3<\3=\3=\3=\3>\3>\3?\6?\u00fc\n?\r?\16?\u00fd\3?\3?\2\2@\3\3\5"+
-		"\4\7\5\t\6\13\7\r\b\17\t\21\n\23\13\25\f\27\r\31\16\33\17\35\20\37\21"+
-		"!\22#\23%\24\'\25)\26+\27-\30/\31\61\32\63\33\65\34\67\359\36;\37= ?!"+
-		"A\"C#E$G%I&K\'M(O)Q*S+U,W-Y.[/]\60_\61a\62c\63e\64g\65i\66k\67m8o9q:s"+
-		";u<w=y>{?}@\3\2\5\3\2\63;\4\2C\\c|\5\2\13\f\17\17\"\"\2\u0101\2\3\3\2"+
-		"\2\2\2\5\3\2\2\2\2\7\3\2\2\2\2\t\3\2\2\2\2\13\3\2\2\2\2\r\3\2\2\2\2\17"+
-		"\3\2\2\2\2\21\3\2\2\2\2\23\3\2\2\2\2\25\3\2\2\2\2\27\3\2\2\2\2\31\3\2"+
-		"\2\2\2\33\3\2\2\2\2\35\3\2\2\2\2\37\3\2\2\2\2!\3\2\2\2\2#\3\2\2\2\2%\3"+
-		"\2\2\2\2\'\3\2\2\2\2)\3\2\2\2\2+\3\2\2\2\2-\3\2\2\2\2/\3\2\2\2\2\61\3"+
-		"\2\2\2\2\63\3\2\2\2\2\65\3\2\2\2\2\67\3\2\2\2\29\3\2\2\2\2;\3\2\2\2\2"+
-		"=\3\2\2\2\2?\3\2\2\2\2A\3\2\2\2\2C\3\2\2\2\2E\3\2\2\2\2G\3\2\2\2\2I\3"+
-		"\2\2\2\2K\3\2\2\2\2M\3\2\2\2\2O\3\2\2\2\2Q\3\2\2\2\2S\3\2\2\2\2U\3\2\2"+
-		"\2\2W\3\2\2\2\2Y\3\2\2\2\2[\3\2\2\2\2]\3\2\2\2\2_\3\2\2\2\2a\3\2\2\2\2"+
-		"c\3\2\2\2\2e\3\2\2\2\2g\3\2\2\2\2i\3\2\2\2\2k\3\2\2\2\2m\3\2\2\2\2o\3"+
-		"\2\2\2\2q\3\2\2\2\2s\3\2\2\2\2u\3\2\2\2\2w\3\2\2\2\2y\3\2\2\2\2{\3\2\2"+
-		"\2\2}\3\2\2\2\3\177\3\2\2\2\5\u0081\3\2\2\2\7\u0083\3\2\2\2\t\u0085\3"+
-		"\2\2\2\13\u0087\3\2\2\2\r\u0089\3\2\2\2\17\u008b\3\2\2\2\21\u008d\3\2"+
-		"\2\2\23\u008f\3\2\2\2\25\u0091\3\2\2\2\27\u0093\3\2\2\2\31\u0095\3\2\2"+
-		"\2\33\u0097\3\2\2\2\35\u0099\3\2\2\2\37\u009b\3\2\2\2!\u009d\3\2\2\2#"+
-		"\u009f\3\2\2\2%\u00a1\3\2\2\2\'\u00a3\3\2\2\2)\u00a5\3\2\2\2+\u00a7\3"+
-		"\2\2\2-\u00a9\3\2\2\2/\u00ab\3\2\2\2\61\u00ad\3\2\2\2\63\u00af\3\2\2\2"+
-		"\65\u00b1\3\2\2\2\67\u00b3\3\2\2\29\u00b5\3\2\2\2;\u00b7\3\2\2\2=\u00b9"+
-		"\3\2\2\2?\u00bb\3\2\2\2A\u00bd\3\2\2\2C\u00bf\3\2\2\2E\u00c1\3\2\2\2G"+
-		"\u00c3\3\2\2\2I\u00c5\3\2\2\2K\u00c7\3\2\2\2M\u00c9\3\2\2\2O\u00cb\3\2"+
-		"\2\2Q\u00cd\3\2\2\2S\u00cf\3\2\2\2U\u00d1\3\2\2\2W\u00d3\3\2\2\2Y\u00d5"+
-		"\3\2\2\2[\u00d7\3\2\2\2]\u00d9\3\2\2\2_\u00db\3\2\2\2a\u00dd\3\2\2\2c"+
-		"\u00df\3\2\2\2e\u00e1\3\2\2\2g\u00e3\3\2\2\2i\u00e5\3\2\2\2k\u00e7\3\2"+
-		"\2\2m\u00e9\3\2\2\2o\u00eb\3\2\2\2q\u00ed\3\2\2\2s\u00ef\3\2\2\2u\u00f1"+
-		"\3\2\2\2w\u00f3\3\2\2\2y\u00f5\3\2\2\2{\u00f8\3\2\2\2}\u00fb\3\2\2\2\177"+
-		"\u0080\7\60\2\2\u0080\4\3\2\2\2\u0081\u0082\7\61\2\2\u0082\6\3\2\2\2\u0083"+
-		"\u0084\7.\2\2\u0084\b\3\2\2\2\u0085\u0086\7p\2\2\u0086\n\3\2\2\2\u0087"+
-		"\u0088\7P\2\2\u0088\f\3\2\2\2\u0089\u008a\7q\2\2\u008a\16\3\2\2\2\u008b"+
-		"\u008c\7Q\2\2\u008c\20\3\2\2\2\u008d\u008e\7e\2\2\u008e\22\3\2\2\2\u008f"+
-		"\u0090\7E\2\2\u0090\24\3\2\2\2\u0091\u0092\7n\2\2\u0092\26\3\2\2\2\u0093"+
-		"\u0094\7N\2\2\u0094\30\3\2\2\2\u0095\u0096\7c\2\2\u0096\32\3\2\2\2\u0097"+
-		"\u0098\7C\2\2\u0098\34\3\2\2\2\u0099\u009a\7d\2\2\u009a\36\3\2\2\2\u009b"+
-		"\u009c\7D\2\2\u009c \3\2\2\2\u009d\u009e\7t\2\2\u009e\"\3\2\2\2\u009f"+
-		"\u00a0\7T\2\2\u00a0$\3\2\2\2\u00a1\u00a2\7o\2\2\u00a2&\3\2\2\2\u00a3\u00a4"+
-		"\7O\2\2\u00a4(\3\2\2\2\u00a5\u00a6\7g\2\2\u00a6*\3\2\2\2\u00a7\u00a8\7"+
-		"G\2\2\u00a8,\3\2\2\2\u00a9\u00aa\7=\2\2\u00aa.\3\2\2\2\u00ab\u00ac\7>"+
-		"\2\2\u00ac\60\3\2\2\2\u00ad\u00ae\7@\2\2\u00ae\62\3\2\2\2\u00af\u00b0"+
-		"\7k\2\2\u00b0\64\3\2\2\2\u00b1\u00b2\7K\2\2\u00b2\66\3\2\2\2\u00b3\u00b4"+
-		"\7f\2\2\u00b48\3\2\2\2\u00b5\u00b6\7F\2\2\u00b6:\3\2\2\2\u00b7\u00b8\7"+
-		"u\2\2\u00b8<\3\2\2\2\u00b9\u00ba\7U\2\2\u00ba>\3\2\2\2\u00bb\u00bc\7*"+
-		"\2\2\u00bc@\3\2\2\2\u00bd\u00be\7+\2\2\u00beB\3\2\2\2\u00bf\u00c0\7]\2"+
-		"\2\u00c0D\3\2\2\2\u00c1\u00c2\7}\2\2\u00c2F\3\2\2\2\u00c3\u00c4\7_\2\2"+
-		"\u00c4H\3\2\2\2\u00c5\u00c6\7\177\2\2\u00c6J\3\2\2\2\u00c7\u00c8\7r\2"+
-		"\2\u00c8L\3\2\2\2\u00c9\u00ca\7R\2\2\u00caN\3\2\2\2\u00cb\u00cc\7w\2\2"+
-		"\u00ccP\3\2\2\2\u00cd\u00ce\7W\2\2\u00ceR\3\2\2\2\u00cf\u00d0\7v\2\2\u00d0"+
-		"T\3\2\2\2\u00d1\u00d2\7V\2\2\u00d2V\3\2\2\2\u00d3\u00d4\7s\2\2\u00d4X"+
-		"\3\2\2\2\u00d5\u00d6\7S\2\2\u00d6Z\3\2\2\2\u00d7\u00d8\7j\2\2\u00d8\\"+
-		"\3\2\2\2\u00d9\u00da\7J\2\2\u00da^\3\2\2\2\u00db\u00dc\7x\2\2\u00dc`\3"+
-		"\2\2\2\u00dd\u00de\7X\2\2\u00deb\3\2\2\2\u00df\u00e0\7\62\2\2\u00e0d\3"+
-		"\2\2\2\u00e1\u00e2\7z\2\2\u00e2f\3\2\2\2\u00e3\u00e4\7Z\2\2\u00e4h\3\2"+
-		"\2\2\u00e5\u00e6\7{\2\2\u00e6j\3\2\2\2\u00e7\u00e8\7[\2\2\u00e8l\3\2\2"+
-		"\2\u00e9\u00ea\7\u0080\2\2\u00ean\3\2\2\2\u00eb\u00ec\t\2\2\2\u00ecp\3"+
-		"\2\2\2\u00ed\u00ee\7/\2\2\u00eer\3\2\2\2\u00ef\u00f0\7-\2\2\u00f0t\3\2"+
-		"\2\2\u00f1\u00f2\7A\2\2\u00f2v\3\2\2\2\u00f3\u00f4\t\3\2\2\u00f4x\3\2"+
-		"\2\2\u00f5\u00f6\7/\2\2\u00f6\u00f7\7@\2\2\u00f7z\3\2\2\2\u00f8\u00f9"+
-		"\7<\2\2\u00f9|\3\2\2\2\u00fa\u00fc\t\4\2\2\u00fb\u00fa\3\2\2\2\u00fc\u00fd"+
-		"\3\2\2\2\u00fd\u00fb\3\2\2\2\u00fd\u00fe\3\2\2\2\u00fe\u00ff\3\2\2\2\u00ff"+
-		"\u0100\b?\2\2\u0100~\3\2\2\2\4\2\u00fd\3\b\2\2";
+		"\3\2\3\2\3\3\3\3\3\4\3\4\3\5\3\5\3\6\3\6\3\7\3\7\3\b\3\b\3\t\3\t\3\n\3"+
+		"\n\3\13\3\13\3\f\3\f\3\r\3\r\3\16\3\16\3\17\3\17\3\20\3\20\3\21\3\21\3"+
+		"\22\3\22\3\23\3\23\3\24\3\24\3\25\3\25\3\26\3\26\3\27\3\27\3\30\3\30\3"+
+		"\31\3\31\3\32\3\32\3\33\3\33\3\34\3\34\3\35\3\35\3\36\3\36\3\37\3\37\3"+
+		" \3 \3!\3!\3\"\3\"\3#\3#\3$\3$\3%\3%\3&\3&\3\'\3\'\3(\3(\3)\3)\3*\3*\3"+
+		"+\3+\3,\3,\3-\3-\3.\3.\3/\3/\3\60\3\60\3\61\3\61\3\62\3\62\3\63\3\63\3"+
+		"\64\3\64\3\65\3\65\3\66\3\66\3\67\3\67\38\38\39\39\3:\3:\3;\3;\3;\3<\3"+
+		"<\3=\6=\u00f4\n=\r=\16=\u00f5\3=\3=\2\2>\3\3\5\4\7\5\t\6\13\7\r\b\17\t"+
+		"\21\n\23\13\25\f\27\r\31\16\33\17\35\20\37\21!\22#\23%\24\'\25)\26+\27"+
+		"-\30/\31\61\32\63\33\65\34\67\359\36;\37= ?!A\"C#E$G%I&K\'M(O)Q*S+U,W"+
+		"-Y.[/]\60_\61a\62c\63e\64g\65i\66k\67m8o9q:s;u<w=y>\3\2\5\3\2\63;\4\2"+
+		"C\\c|\5\2\13\f\17\17\"\"\2\u00f9\2\3\3\2\2\2\2\5\3\2\2\2\2\7\3\2\2\2\2"+
+		"\t\3\2\2\2\2\13\3\2\2\2\2\r\3\2\2\2\2\17\3\2\2\2\2\21\3\2\2\2\2\23\3\2"+
+		"\2\2\2\25\3\2\2\2\2\27\3\2\2\2\2\31\3\2\2\2\2\33\3\2\2\2\2\35\3\2\2\2"+
+		"\2\37\3\2\2\2\2!\3\2\2\2\2#\3\2\2\2\2%\3\2\2\2\2\'\3\2\2\2\2)\3\2\2\2"+
+		"\2+\3\2\2\2\2-\3\2\2\2\2/\3\2\2\2\2\61\3\2\2\2\2\63\3\2\2\2\2\65\3\2\2"+
+		"\2\2\67\3\2\2\2\29\3\2\2\2\2;\3\2\2\2\2=\3\2\2\2\2?\3\2\2\2\2A\3\2\2\2"+
+		"\2C\3\2\2\2\2E\3\2\2\2\2G\3\2\2\2\2I\3\2\2\2\2K\3\2\2\2\2M\3\2\2\2\2O"+
+		"\3\2\2\2\2Q\3\2\2\2\2S\3\2\2\2\2U\3\2\2\2\2W\3\2\2\2\2Y\3\2\2\2\2[\3\2"+
+		"\2\2\2]\3\2\2\2\2_\3\2\2\2\2a\3\2\2\2\2c\3\2\2\2\2e\3\2\2\2\2g\3\2\2\2"+
+		"\2i\3\2\2\2\2k\3\2\2\2\2m\3\2\2\2\2o\3\2\2\2\2q\3\2\2\2\2s\3\2\2\2\2u"+
+		"\3\2\2\2\2w\3\2\2\2\2y\3\2\2\2\3{\3\2\2\2\5}\3\2\2\2\7\177\3\2\2\2\t\u0081"+
+		"\3\2\2\2\13\u0083\3\2\2\2\r\u0085\3\2\2\2\17\u0087\3\2\2\2\21\u0089\3"+
+		"\2\2\2\23\u008b\3\2\2\2\25\u008d\3\2\2\2\27\u008f\3\2\2\2\31\u0091\3\2"+
+		"\2\2\33\u0093\3\2\2\2\35\u0095\3\2\2\2\37\u0097\3\2\2\2!\u0099\3\2\2\2"+
+		"#\u009b\3\2\2\2%\u009d\3\2\2\2\'\u009f\3\2\2\2)\u00a1\3\2\2\2+\u00a3\3"+
+		"\2\2\2-\u00a5\3\2\2\2/\u00a7\3\2\2\2\61\u00a9\3\2\2\2\63\u00ab\3\2\2\2"+
+		"\65\u00ad\3\2\2\2\67\u00af\3\2\2\29\u00b1\3\2\2\2;\u00b3\3\2\2\2=\u00b5"+
+		"\3\2\2\2?\u00b7\3\2\2\2A\u00b9\3\2\2\2C\u00bb\3\2\2\2E\u00bd\3\2\2\2G"+
+		"\u00bf\3\2\2\2I\u00c1\3\2\2\2K\u00c3\3\2\2\2M\u00c5\3\2\2\2O\u00c7\3\2"+
+		"\2\2Q\u00c9\3\2\2\2S\u00cb\3\2\2\2U\u00cd\3\2\2\2W\u00cf\3\2\2\2Y\u00d1"+
+		"\3\2\2\2[\u00d3\3\2\2\2]\u00d5\3\2\2\2_\u00d7\3\2\2\2a\u00d9\3\2\2\2c"+
+		"\u00db\3\2\2\2e\u00dd\3\2\2\2g\u00df\3\2\2\2i\u00e1\3\2\2\2k\u00e3\3\2"+
+		"\2\2m\u00e5\3\2\2\2o\u00e7\3\2\2\2q\u00e9\3\2\2\2s\u00eb\3\2\2\2u\u00ed"+
+		"\3\2\2\2w\u00f0\3\2\2\2y\u00f3\3\2\2\2{|\7\60\2\2|\4\3\2\2\2}~\7\61\2"+
+		"\2~\6\3\2\2\2\177\u0080\7.\2\2\u0080\b\3\2\2\2\u0081\u0082\7p\2\2\u0082"+
+		"\n\3\2\2\2\u0083\u0084\7P\2\2\u0084\f\3\2\2\2\u0085\u0086\7q\2\2\u0086"+
+		"\16\3\2\2\2\u0087\u0088\7Q\2\2\u0088\20\3\2\2\2\u0089\u008a\7e\2\2\u008a"+
+		"\22\3\2\2\2\u008b\u008c\7E\2\2\u008c\24\3\2\2\2\u008d\u008e\7n\2\2\u008e"+
+		"\26\3\2\2\2\u008f\u0090\7N\2\2\u0090\30\3\2\2\2\u0091\u0092\7c\2\2\u0092"+
+		"\32\3\2\2\2\u0093\u0094\7C\2\2\u0094\34\3\2\2\2\u0095\u0096\7d\2\2\u0096"+
+		"\36\3\2\2\2\u0097\u0098\7D\2\2\u0098 \3\2\2\2\u0099\u009a\7t\2\2\u009a"+
+		"\"\3\2\2\2\u009b\u009c\7T\2\2\u009c$\3\2\2\2\u009d\u009e\7o\2\2\u009e"+
+		"&\3\2\2\2\u009f\u00a0\7O\2\2\u00a0(\3\2\2\2\u00a1\u00a2\7g\2\2\u00a2*"+
+		"\3\2\2\2\u00a3\u00a4\7G\2\2\u00a4,\3\2\2\2\u00a5\u00a6\7>\2\2\u00a6.\3"+
+		"\2\2\2\u00a7\u00a8\7@\2\2\u00a8\60\3\2\2\2\u00a9\u00aa\7k\2\2\u00aa\62"+
+		"\3\2\2\2\u00ab\u00ac\7K\2\2\u00ac\64\3\2\2\2\u00ad\u00ae\7f\2\2\u00ae"+
+		"\66\3\2\2\2\u00af\u00b0\7F\2\2\u00b08\3\2\2\2\u00b1\u00b2\7u\2\2\u00b2"+
+		":\3\2\2\2\u00b3\u00b4\7U\2\2\u00b4<\3\2\2\2\u00b5\u00b6\7*\2\2\u00b6>"+
+		"\3\2\2\2\u00b7\u00b8\7+\2\2\u00b8@\3\2\2\2\u00b9\u00ba\7=\2\2\u00baB\3"+
+		"\2\2\2\u00bb\u00bc\7r\2\2\u00bcD\3\2\2\2\u00bd\u00be\7R\2\2\u00beF\3\2"+
+		"\2\2\u00bf\u00c0\7w\2\2\u00c0H\3\2\2\2\u00c1\u00c2\7W\2\2\u00c2J\3\2\2"+
+		"\2\u00c3\u00c4\7v\2\2\u00c4L\3\2\2\2\u00c5\u00c6\7V\2\2\u00c6N\3\2\2\2"+
+		"\u00c7\u00c8\7s\2\2\u00c8P\3\2\2\2\u00c9\u00ca\7S\2\2\u00caR\3\2\2\2\u00cb"+
+		"\u00cc\7j\2\2\u00ccT\3\2\2\2\u00cd\u00ce\7J\2\2\u00ceV\3\2\2\2\u00cf\u00d0"+
+		"\7x\2\2\u00d0X\3\2\2\2\u00d1\u00d2\7X\2\2\u00d2Z\3\2\2\2\u00d3\u00d4\7"+
+		"]\2\2\u00d4\\\3\2\2\2\u00d5\u00d6\7_\2\2\u00d6^\3\2\2\2\u00d7\u00d8\7"+
+		"\62\2\2\u00d8`\3\2\2\2\u00d9\u00da\7z\2\2\u00dab\3\2\2\2\u00db\u00dc\7"+
+		"Z\2\2\u00dcd\3\2\2\2\u00dd\u00de\7{\2\2\u00def\3\2\2\2\u00df\u00e0\7["+
+		"\2\2\u00e0h\3\2\2\2\u00e1\u00e2\7\u0080\2\2\u00e2j\3\2\2\2\u00e3\u00e4"+
+		"\t\2\2\2\u00e4l\3\2\2\2\u00e5\u00e6\7/\2\2\u00e6n\3\2\2\2\u00e7\u00e8"+
+		"\7-\2\2\u00e8p\3\2\2\2\u00e9\u00ea\7A\2\2\u00ear\3\2\2\2\u00eb\u00ec\t"+
+		"\3\2\2\u00ect\3\2\2\2\u00ed\u00ee\7/\2\2\u00ee\u00ef\7@\2\2\u00efv\3\2"+
+		"\2\2\u00f0\u00f1\7<\2\2\u00f1x\3\2\2\2\u00f2\u00f4\t\4\2\2\u00f3\u00f2"+
+		"\3\2\2\2\u00f4\u00f5\3\2\2\2\u00f5\u00f3\3\2\2\2\u00f5\u00f6\3\2\2\2\u00f6"+
+		"\u00f7\3\2\2\2\u00f7\u00f8\b=\2\2\u00f8z\3\2\2\2\4\2\u00f5\3\b\2\2";
 	public static final ATN _ATN =
 		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
 	static {
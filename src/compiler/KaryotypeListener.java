@@ -200,26 +200,6 @@ public interface KaryotypeListener extends ParseTreeListener {
 	 * @param ctx the parse tree
 	 */
 	void exitPloidy(KaryotypeParser.PloidyContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link KaryotypeParser#tooManySlant}.
-	 * @param ctx the parse tree
-	 */
-	void enterTooManySlant(KaryotypeParser.TooManySlantContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link KaryotypeParser#tooManySlant}.
-	 * @param ctx the parse tree
-	 */
-	void exitTooManySlant(KaryotypeParser.TooManySlantContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link KaryotypeParser#incorrectSlant}.
-	 * @param ctx the parse tree
-	 */
-	void enterIncorrectSlant(KaryotypeParser.IncorrectSlantContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link KaryotypeParser#incorrectSlant}.
-	 * @param ctx the parse tree
-	 */
-	void exitIncorrectSlant(KaryotypeParser.IncorrectSlantContext ctx);
 	/**
 	 * Enter a parse tree produced by the {@code correctModalNum}
 	 * labeled alternative in {@link KaryotypeParser#modalNum}.
@@ -232,18 +212,6 @@ public interface KaryotypeListener extends ParseTreeListener {
 	 * @param ctx the parse tree
 	 */
 	void exitCorrectModalNum(KaryotypeParser.CorrectModalNumContext ctx);
-	/**
-	 * Enter a parse tree produced by the {@code incorrectModalNum}
-	 * labeled alternative in {@link KaryotypeParser#modalNum}.
-	 * @param ctx the parse tree
-	 */
-	void enterIncorrectModalNum(KaryotypeParser.IncorrectModalNumContext ctx);
-	/**
-	 * Exit a parse tree produced by the {@code incorrectModalNum}
-	 * labeled alternative in {@link KaryotypeParser#modalNum}.
-	 * @param ctx the parse tree
-	 */
-	void exitIncorrectModalNum(KaryotypeParser.IncorrectModalNumContext ctx);
 	/**
 	 * Enter a parse tree produced by {@link KaryotypeParser#modalNumContent}.
 	 * @param ctx the parse tree
@@ -264,16 +232,6 @@ public interface KaryotypeListener extends ParseTreeListener {
 	 * @param ctx the parse tree
 	 */
 	void exitGender(KaryotypeParser.GenderContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link KaryotypeParser#tooManyComma}.
-	 * @param ctx the parse tree
-	 */
-	void enterTooManyComma(KaryotypeParser.TooManyCommaContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link KaryotypeParser#tooManyComma}.
-	 * @param ctx the parse tree
-	 */
-	void exitTooManyComma(KaryotypeParser.TooManyCommaContext ctx);
 	/**
 	 * Enter a parse tree produced by {@link KaryotypeParser#orSex}.
 	 * @param ctx the parse tree
@@ -324,16 +282,6 @@ public interface KaryotypeListener extends ParseTreeListener {
 	 * @param ctx the parse tree
 	 */
 	void exitRegularEvent(KaryotypeParser.RegularEventContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link KaryotypeParser#incorrectComma}.
-	 * @param ctx the parse tree
-	 */
-	void enterIncorrectComma(KaryotypeParser.IncorrectCommaContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link KaryotypeParser#incorrectComma}.
-	 * @param ctx the parse tree
-	 */
-	void exitIncorrectComma(KaryotypeParser.IncorrectCommaContext ctx);
 	/**
 	 * Enter a parse tree produced by {@link KaryotypeParser#idemEvent}.
 	 * @param ctx the parse tree
@@ -480,18 +428,6 @@ public interface KaryotypeListener extends ParseTreeListener {
 	 * @param ctx the parse tree
 	 */
 	void exitLossChrEvent(KaryotypeParser.LossChrEventContext ctx);
-	/**
-	 * Enter a parse tree produced by the {@code gainLossChrError}
-	 * labeled alternative in {@link KaryotypeParser#gainLossChr}.
-	 * @param ctx the parse tree
-	 */
-	void enterGainLossChrError(KaryotypeParser.GainLossChrErrorContext ctx);
-	/**
-	 * Exit a parse tree produced by the {@code gainLossChrError}
-	 * labeled alternative in {@link KaryotypeParser#gainLossChr}.
-	 * @param ctx the parse tree
-	 */
-	void exitGainLossChrError(KaryotypeParser.GainLossChrErrorContext ctx);
 	/**
 	 * Enter a parse tree produced by {@link KaryotypeParser#undecoded}.
 	 * @param ctx the parse tree
@@ -538,30 +474,6 @@ public interface KaryotypeListener extends ParseTreeListener {
 	 * @param ctx the parse tree
 	 */
 	void exitUncertainBasicAberration(KaryotypeParser.UncertainBasicAberrationContext ctx);
-	/**
-	 * Enter a parse tree produced by the {@code derAberrationError}
-	 * labeled alternative in {@link KaryotypeParser#aberration}.
-	 * @param ctx the parse tree
-	 */
-	void enterDerAberrationError(KaryotypeParser.DerAberrationErrorContext ctx);
-	/**
-	 * Exit a parse tree produced by the {@code derAberrationError}
-	 * labeled alternative in {@link KaryotypeParser#aberration}.
-	 * @param ctx the parse tree
-	 */
-	void exitDerAberrationError(KaryotypeParser.DerAberrationErrorContext ctx);
-	/**
-	 * Enter a parse tree produced by the {@code basicAberrationError}
-	 * labeled alternative in {@link KaryotypeParser#aberration}.
-	 * @param ctx the parse tree
-	 */
-	void enterBasicAberrationError(KaryotypeParser.BasicAberrationErrorContext ctx);
-	/**
-	 * Exit a parse tree produced by the {@code basicAberrationError}
-	 * labeled alternative in {@link KaryotypeParser#aberration}.
-	 * @param ctx the parse tree
-	 */
-	void exitBasicAberrationError(KaryotypeParser.BasicAberrationErrorContext ctx);
 	/**
 	 * Enter a parse tree produced by the {@code normalRearrangement}
 	 * labeled alternative in {@link KaryotypeParser#rearrangementElement}.
@@ -608,18 +520,6 @@ public interface KaryotypeListener extends ParseTreeListener {
 	 * @param ctx the parse tree
 	 */
 	void exitCorrectDerChrList(KaryotypeParser.CorrectDerChrListContext ctx);
-	/**
-	 * Enter a parse tree produced by the {@code incorrectDerChrList}
-	 * labeled alternative in {@link KaryotypeParser#derChrList}.
-	 * @param ctx the parse tree
-	 */
-	void enterIncorrectDerChrList(KaryotypeParser.IncorrectDerChrListContext ctx);
-	/**
-	 * Exit a parse tree produced by the {@code incorrectDerChrList}
-	 * labeled alternative in {@link KaryotypeParser#derChrList}.
-	 * @param ctx the parse tree
-	 */
-	void exitIncorrectDerChrList(KaryotypeParser.IncorrectDerChrListContext ctx);
 	/**
 	 * Enter a parse tree produced by {@link KaryotypeParser#derChrListElements}.
 	 * @param ctx the parse tree
@@ -630,36 +530,6 @@ public interface KaryotypeListener extends ParseTreeListener {
 	 * @param ctx the parse tree
 	 */
 	void exitDerChrListElements(KaryotypeParser.DerChrListElementsContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link KaryotypeParser#incorrectDerChrListElements}.
-	 * @param ctx the parse tree
-	 */
-	void enterIncorrectDerChrListElements(KaryotypeParser.IncorrectDerChrListElementsContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link KaryotypeParser#incorrectDerChrListElements}.
-	 * @param ctx the parse tree
-	 */
-	void exitIncorrectDerChrListElements(KaryotypeParser.IncorrectDerChrListElementsContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link KaryotypeParser#incorrectLeftParenthesis}.
-	 * @param ctx the parse tree
-	 */
-	void enterIncorrectLeftParenthesis(KaryotypeParser.IncorrectLeftParenthesisContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link KaryotypeParser#incorrectLeftParenthesis}.
-	 * @param ctx the parse tree
-	 */
-	void exitIncorrectLeftParenthesis(KaryotypeParser.IncorrectLeftParenthesisContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link KaryotypeParser#incorrectRightParenthesis}.
-	 * @param ctx the parse tree
-	 */
-	void enterIncorrectRightParenthesis(KaryotypeParser.IncorrectRightParenthesisContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link KaryotypeParser#incorrectRightParenthesis}.
-	 * @param ctx the parse tree
-	 */
-	void exitIncorrectRightParenthesis(KaryotypeParser.IncorrectRightParenthesisContext ctx);
 	/**
 	 * Enter a parse tree produced by the {@code correctDerBreakpointsList}
 	 * labeled alternative in {@link KaryotypeParser#derBreakpointsList}.
@@ -672,18 +542,6 @@ public interface KaryotypeListener extends ParseTreeListener {
 	 * @param ctx the parse tree
 	 */
 	void exitCorrectDerBreakpointsList(KaryotypeParser.CorrectDerBreakpointsListContext ctx);
-	/**
-	 * Enter a parse tree produced by the {@code incorrectDerBreakpointsList}
-	 * labeled alternative in {@link KaryotypeParser#derBreakpointsList}.
-	 * @param ctx the parse tree
-	 */
-	void enterIncorrectDerBreakpointsList(KaryotypeParser.IncorrectDerBreakpointsListContext ctx);
-	/**
-	 * Exit a parse tree produced by the {@code incorrectDerBreakpointsList}
-	 * labeled alternative in {@link KaryotypeParser#derBreakpointsList}.
-	 * @param ctx the parse tree
-	 */
-	void exitIncorrectDerBreakpointsList(KaryotypeParser.IncorrectDerBreakpointsListContext ctx);
 	/**
 	 * Enter a parse tree produced by {@link KaryotypeParser#derBreakpointsListElements}.
 	 * @param ctx the parse tree
@@ -694,16 +552,6 @@ public interface KaryotypeListener extends ParseTreeListener {
 	 * @param ctx the parse tree
 	 */
 	void exitDerBreakpointsListElements(KaryotypeParser.DerBreakpointsListElementsContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link KaryotypeParser#incorrectDerBreakpointsListElements}.
-	 * @param ctx the parse tree
-	 */
-	void enterIncorrectDerBreakpointsListElements(KaryotypeParser.IncorrectDerBreakpointsListElementsContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link KaryotypeParser#incorrectDerBreakpointsListElements}.
-	 * @param ctx the parse tree
-	 */
-	void exitIncorrectDerBreakpointsListElements(KaryotypeParser.IncorrectDerBreakpointsListElementsContext ctx);
 	/**
 	 * Enter a parse tree produced by the {@code normalDerBreakpoints}
 	 * labeled alternative in {@link KaryotypeParser#derBreakpointsInOneChr}.
@@ -740,18 +588,6 @@ public interface KaryotypeListener extends ParseTreeListener {
 	 * @param ctx the parse tree
 	 */
 	void exitCorrectChrList(KaryotypeParser.CorrectChrListContext ctx);
-	/**
-	 * Enter a parse tree produced by the {@code incorrectChrList}
-	 * labeled alternative in {@link KaryotypeParser#chrList}.
-	 * @param ctx the parse tree
-	 */
-	void enterIncorrectChrList(KaryotypeParser.IncorrectChrListContext ctx);
-	/**
-	 * Exit a parse tree produced by the {@code incorrectChrList}
-	 * labeled alternative in {@link KaryotypeParser#chrList}.
-	 * @param ctx the parse tree
-	 */
-	void exitIncorrectChrList(KaryotypeParser.IncorrectChrListContext ctx);
 	/**
 	 * Enter a parse tree produced by {@link KaryotypeParser#chrListElements}.
 	 * @param ctx the parse tree
@@ -762,16 +598,6 @@ public interface KaryotypeListener extends ParseTreeListener {
 	 * @param ctx the parse tree
 	 */
 	void exitChrListElements(KaryotypeParser.ChrListElementsContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link KaryotypeParser#incorrectChrListElements}.
-	 * @param ctx the parse tree
-	 */
-	void enterIncorrectChrListElements(KaryotypeParser.IncorrectChrListElementsContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link KaryotypeParser#incorrectChrListElements}.
-	 * @param ctx the parse tree
-	 */
-	void exitIncorrectChrListElements(KaryotypeParser.IncorrectChrListElementsContext ctx);
 	/**
 	 * Enter a parse tree produced by the {@code correctBreakpointsList}
 	 * labeled alternative in {@link KaryotypeParser#breakpointsList}.
@@ -796,18 +622,6 @@ public interface KaryotypeListener extends ParseTreeListener {
 	 * @param ctx the parse tree
 	 */
 	void exitDetailedBreakpointsList(KaryotypeParser.DetailedBreakpointsListContext ctx);
-	/**
-	 * Enter a parse tree produced by the {@code incorrectBreakpointsList}
-	 * labeled alternative in {@link KaryotypeParser#breakpointsList}.
-	 * @param ctx the parse tree
-	 */
-	void enterIncorrectBreakpointsList(KaryotypeParser.IncorrectBreakpointsListContext ctx);
-	/**
-	 * Exit a parse tree produced by the {@code incorrectBreakpointsList}
-	 * labeled alternative in {@link KaryotypeParser#breakpointsList}.
-	 * @param ctx the parse tree
-	 */
-	void exitIncorrectBreakpointsList(KaryotypeParser.IncorrectBreakpointsListContext ctx);
 	/**
 	 * Enter a parse tree produced by {@link KaryotypeParser#breakpointsListElements}.
 	 * @param ctx the parse tree
@@ -818,16 +632,6 @@ public interface KaryotypeListener extends ParseTreeListener {
 	 * @param ctx the parse tree
 	 */
 	void exitBreakpointsListElements(KaryotypeParser.BreakpointsListElementsContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link KaryotypeParser#incorrectBreakpointsListElements}.
-	 * @param ctx the parse tree
-	 */
-	void enterIncorrectBreakpointsListElements(KaryotypeParser.IncorrectBreakpointsListElementsContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link KaryotypeParser#incorrectBreakpointsListElements}.
-	 * @param ctx the parse tree
-	 */
-	void exitIncorrectBreakpointsListElements(KaryotypeParser.IncorrectBreakpointsListElementsContext ctx);
 	/**
 	 * Enter a parse tree produced by the {@code normalBreakpoints}
 	 * labeled alternative in {@link KaryotypeParser#breakpointsInOneChr}.
@@ -864,18 +668,6 @@ public interface KaryotypeListener extends ParseTreeListener {
 	 * @param ctx the parse tree
 	 */
 	void exitCorrectRChrList(KaryotypeParser.CorrectRChrListContext ctx);
-	/**
-	 * Enter a parse tree produced by the {@code incorrectRChrList}
-	 * labeled alternative in {@link KaryotypeParser#rChrList}.
-	 * @param ctx the parse tree
-	 */
-	void enterIncorrectRChrList(KaryotypeParser.IncorrectRChrListContext ctx);
-	/**
-	 * Exit a parse tree produced by the {@code incorrectRChrList}
-	 * labeled alternative in {@link KaryotypeParser#rChrList}.
-	 * @param ctx the parse tree
-	 */
-	void exitIncorrectRChrList(KaryotypeParser.IncorrectRChrListContext ctx);
 	/**
 	 * Enter a parse tree produced by the {@code correctRBreakpointsList}
 	 * labeled alternative in {@link KaryotypeParser#rBreakpointsList}.
@@ -900,18 +692,6 @@ public interface KaryotypeListener extends ParseTreeListener {
 	 * @param ctx the parse tree
 	 */
 	void exitDetailedRBreakpointsList(KaryotypeParser.DetailedRBreakpointsListContext ctx);
-	/**
-	 * Enter a parse tree produced by the {@code incorrectRBreakpointsList}
-	 * labeled alternative in {@link KaryotypeParser#rBreakpointsList}.
-	 * @param ctx the parse tree
-	 */
-	void enterIncorrectRBreakpointsList(KaryotypeParser.IncorrectRBreakpointsListContext ctx);
-	/**
-	 * Exit a parse tree produced by the {@code incorrectRBreakpointsList}
-	 * labeled alternative in {@link KaryotypeParser#rBreakpointsList}.
-	 * @param ctx the parse tree
-	 */
-	void exitIncorrectRBreakpointsList(KaryotypeParser.IncorrectRBreakpointsListContext ctx);
 	/**
 	 * Enter a parse tree produced by {@link KaryotypeParser#idUncertainChr}.
 	 * @param ctx the parse tree
@@ -934,18 +714,6 @@ public interface KaryotypeListener extends ParseTreeListener {
 	 * @param ctx the parse tree
 	 */
 	void exitCorrectUncertainChr(KaryotypeParser.CorrectUncertainChrContext ctx);
-	/**
-	 * Enter a parse tree produced by the {@code incorrectUncertainChr}
-	 * labeled alternative in {@link KaryotypeParser#uncertainChr}.
-	 * @param ctx the parse tree
-	 */
-	void enterIncorrectUncertainChr(KaryotypeParser.IncorrectUncertainChrContext ctx);
-	/**
-	 * Exit a parse tree produced by the {@code incorrectUncertainChr}
-	 * labeled alternative in {@link KaryotypeParser#uncertainChr}.
-	 * @param ctx the parse tree
-	 */
-	void exitIncorrectUncertainChr(KaryotypeParser.IncorrectUncertainChrContext ctx);
 	/**
 	 * Enter a parse tree produced by {@link KaryotypeParser#uncertainChrContent}.
 	 * @param ctx the parse tree
@@ -1018,18 +786,6 @@ public interface KaryotypeListener extends ParseTreeListener {
 	 * @param ctx the parse tree
 	 */
 	void exitCorrectCellNum(KaryotypeParser.CorrectCellNumContext ctx);
-	/**
-	 * Enter a parse tree produced by the {@code incorrectCellNum}
-	 * labeled alternative in {@link KaryotypeParser#cellNum}.
-	 * @param ctx the parse tree
-	 */
-	void enterIncorrectCellNum(KaryotypeParser.IncorrectCellNumContext ctx);
-	/**
-	 * Exit a parse tree produced by the {@code incorrectCellNum}
-	 * labeled alternative in {@link KaryotypeParser#cellNum}.
-	 * @param ctx the parse tree
-	 */
-	void exitIncorrectCellNum(KaryotypeParser.IncorrectCellNumContext ctx);
 	/**
 	 * Enter a parse tree produced by {@link KaryotypeParser#cellNumContent}.
 	 * @param ctx the parse tree
@@ -1040,26 +796,6 @@ public interface KaryotypeListener extends ParseTreeListener {
 	 * @param ctx the parse tree
 	 */
 	void exitCellNumContent(KaryotypeParser.CellNumContentContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link KaryotypeParser#incorrectLeftParenthesisII}.
-	 * @param ctx the parse tree
-	 */
-	void enterIncorrectLeftParenthesisII(KaryotypeParser.IncorrectLeftParenthesisIIContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link KaryotypeParser#incorrectLeftParenthesisII}.
-	 * @param ctx the parse tree
-	 */
-	void exitIncorrectLeftParenthesisII(KaryotypeParser.IncorrectLeftParenthesisIIContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link KaryotypeParser#incorrectRightParenthesisII}.
-	 * @param ctx the parse tree
-	 */
-	void enterIncorrectRightParenthesisII(KaryotypeParser.IncorrectRightParenthesisIIContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link KaryotypeParser#incorrectRightParenthesisII}.
-	 * @param ctx the parse tree
-	 */
-	void exitIncorrectRightParenthesisII(KaryotypeParser.IncorrectRightParenthesisIIContext ctx);
 	/**
 	 * Enter a parse tree produced by {@link KaryotypeParser#cen}.
 	 * @param ctx the parse tree
@@ -1420,14 +1156,4 @@ public interface KaryotypeListener extends ParseTreeListener {
 	 * @param ctx the parse tree
 	 */
 	void exitSubband(KaryotypeParser.SubbandContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link KaryotypeParser#undeterminedPrefix}.
-	 * @param ctx the parse tree
-	 */
-	void enterUndeterminedPrefix(KaryotypeParser.UndeterminedPrefixContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link KaryotypeParser#undeterminedPrefix}.
-	 * @param ctx the parse tree
-	 */
-	void exitUndeterminedPrefix(KaryotypeParser.UndeterminedPrefixContext ctx);
 }
\ No newline at end of file
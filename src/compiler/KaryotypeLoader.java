@@ -4,12 +4,24 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.misc.Interval;
 
 import business.Clone;
 import business.DerEvent;
 import business.Event;
 
 /**
+ * Loads the clones of a row from its parse events. A loader holds the state of one row, so every
+ * parse uses a new one and loaders on different threads share nothing.
+ *
+ * The clones and events it returns are not changed by the later stages, which build new ones when
+ * they need to (see ParseEvent.processMissingBreakpoints): the events an idem, sl or sdl clone shares
+ * with the clone it repeats can thus stay shared.
+ *
  * @author Lin Zhang
  * Programmer / Software Development Engineer
  * Institute for Informatics
@@ -23,6 +35,35 @@ public class KaryotypeLoader extends KaryotypeBaseListener {
 		return rowClones;
 	}
 
+	/*
+	 * Returns the input text a rule matched. Unlike ctx.getText(), which concatenates the text of the
+	 * children, it reads the characters between the start and stop tokens of the context, so it also
+	 * works on the contexts whose children KaryotypeRowParser trims when loading while parsing.
+	 * The loader only sees error-free parses, and the whitespace the lexer skips is left out, so both
+	 * give the same text.
+	 */
+	static String getText(ParserRuleContext ctx) {
+		Token start = ctx.getStart();
+		Token stop = ctx.getStop();
+		if (stop == null || stop.getTokenIndex() < start.getTokenIndex()) {
+			return "";
+		}
+		String text = start.getInputStream().getText(Interval.of(start.getStartIndex(), stop.getStopIndex()));
+		for (int i = 0; i < text.length(); i++) {
+			if (isSkippedWhitespace(text.charAt(i))) {
+				return WHITESPACE_PATTERN.matcher(text).replaceAll("");
+			}
+		}
+		return text;
+	}
+
+	// The characters of the WS rule of the grammar
+	private static final Pattern WHITESPACE_PATTERN = Pattern.compile("[ \\t\\r\\n]+");
+
+	private static boolean isSkippedWhitespace(char c) {
+		return c == ' ' || c == '\t' || c == '\r' || c == '\n';
+	}
+
 	int cloneIndex = -1;
 	List<Clone> rowClones = new ArrayList<>();
 	boolean isFirstClone;
@@ -64,7 +105,7 @@ public class KaryotypeLoader extends KaryotypeBaseListener {
 	}
 
 	public void exitFirstClone(KaryotypeParser.FirstCloneContext ctx) {
-		firstClone.setCloneCode(ctx.getText());
+		firstClone.setCloneCode(getText(ctx));
 		rowClones.add(firstClone);
 		isFirstClone = false;
 		cloneIndex++;
@@ -76,7 +117,7 @@ public class KaryotypeLoader extends KaryotypeBaseListener {
 	}
 
 	public void exitClone(KaryotypeParser.CloneContext ctx) {
-		clone.setCloneCode(ctx.getText().substring(1));
+		clone.setCloneCode(getText(ctx).substring(1));
 		if (isIdemClone) {
 			clone.setRelatedClone(0);
 			clone.getRelationship().put("idem", "refers to the first clone");
@@ -94,7 +135,7 @@ public class KaryotypeLoader extends KaryotypeBaseListener {
 
 	public void exitIdemEvent(KaryotypeParser.IdemEventContext ctx) {
 		if (ctx.multiplication() != null) {
-			idemCopies = Integer.parseInt(ctx.multiplication().integer().getText());
+			idemCopies = Integer.parseInt(getText(ctx.multiplication().integer()));
 		}
 		for (int i = 1; i <= idemCopies; i++) {
 			clone.getCloneInput().addAll(firstClone.getCloneInput());
@@ -115,7 +156,7 @@ public class KaryotypeLoader extends KaryotypeBaseListener {
 
 	public void exitUndecodedEvent(KaryotypeParser.UndecodedEventContext ctx) {
 		e.setUncertainEvent(true);
-		e.setEventCode(ctx.getText());
+		e.setEventCode(getText(ctx));
 		if (isFirstClone) {
 			firstClone.getCloneInput().add(e);
 		} else if (isClone) {
@@ -131,7 +172,7 @@ public class KaryotypeLoader extends KaryotypeBaseListener {
 	}
 	
 	public void exitUndecodedSpecialEvent(KaryotypeParser.UndecodedSpecialEventContext ctx) {
-		String[] inputs = ctx.getText().split(",");
+		String[] inputs = getText(ctx).split(",");
 		e1.setUncertainEvent(true);
 		e1.setEventCode(inputs[0]);
 		e2.setUncertainEvent(true);
@@ -156,7 +197,7 @@ public class KaryotypeLoader extends KaryotypeBaseListener {
 		if (multipleInterpretableEvent) {
 			e.setUncertainEvent(true);
 		}
-		e.setEventCode(ctx.getText());
+		e.setEventCode(getText(ctx));
 		if (isFirstClone) {
 			firstClone.getCloneInput().add(e);
 		} else if (isClone) {
@@ -174,7 +215,7 @@ public class KaryotypeLoader extends KaryotypeBaseListener {
 		if (ctx.prefixPlus().QUES() != null) {
 			e.setUncertainEvent(true);
 		}
-		gainChr = ctx.gainChr().getText().toUpperCase();
+		gainChr = getText(ctx.gainChr()).toUpperCase();
 		e.getGainChrs().add(gainChr);
 	}
 
@@ -186,7 +227,7 @@ public class KaryotypeLoader extends KaryotypeBaseListener {
 		if (ctx.prefixMinus().QUES() != null) {
 			e.setUncertainEvent(true);
 		}
-		lossChr = ctx.lossChr().getText().toUpperCase();
+		lossChr = getText(ctx.lossChr()).toUpperCase();
 		e.getLossChrs().add(lossChr);
 	}
 
@@ -194,7 +235,7 @@ public class KaryotypeLoader extends KaryotypeBaseListener {
 		if (multipleInterpretableEvent) {
 			e.setUncertainEvent(true);
 		}
-		e.setEventCode(ctx.getText());
+		e.setEventCode(getText(ctx));
 		if (isFirstClone) {
 			firstClone.getCloneInput().add(e);
 		} else if (isClone) {
@@ -280,12 +321,12 @@ public class KaryotypeLoader extends KaryotypeBaseListener {
 				d.setExtraCopy(true);
 			}
 			if (ctx.prefix().MINUS() != null) {
-				String searchedS = ctx.derId().getText() + ctx.derChrList().getText();
+				String searchedS = getText(ctx.derId()) + getText(ctx.derChrList());
 				if (ctx.derBreakpointsList() != null) {
-					searchedS += ctx.derBreakpointsList().getText();
+					searchedS += getText(ctx.derBreakpointsList());
 				}
 				for (KaryotypeParser.RearrangementElementContext rearrangementElementCtx : ctx.rearrangementElement()) {
-					searchedS += rearrangementElementCtx.getText();
+					searchedS += getText(rearrangementElementCtx);
 				}
 				boolean isDerBeingCancelled = true;
 				if (isIdemClone)
@@ -304,7 +345,7 @@ public class KaryotypeLoader extends KaryotypeBaseListener {
 		}
 		if (ctx.suffix() != null) {
 			if (ctx.suffix().multiplication() != null) {
-				copies = Integer.parseInt(ctx.suffix().multiplication().integer().getText());
+				copies = Integer.parseInt(getText(ctx.suffix().multiplication().integer()));
 				if (isSpecialCancellingEventWithMinusSign) {
 					cancelledCopies = copies;
 				} else {
@@ -323,7 +364,7 @@ public class KaryotypeLoader extends KaryotypeBaseListener {
 	}
 
 	public void exitDerId(KaryotypeParser.DerIdContext ctx) {
-		derId = ctx.getText().toLowerCase();
+		derId = getText(ctx).toLowerCase();
 		d.setNature(derId);
 	}
 
@@ -332,7 +373,7 @@ public class KaryotypeLoader extends KaryotypeBaseListener {
 	}
 
 	public void exitDerChr(KaryotypeParser.DerChrContext ctx) {
-		derChr = ctx.getText().toUpperCase();
+		derChr = getText(ctx).toUpperCase();
 		d.getChrList().add(derChr);
 		if (ctx.QUES() != null) {
 			derUncertainty = true;
@@ -345,7 +386,7 @@ public class KaryotypeLoader extends KaryotypeBaseListener {
 
 	public void exitDerBreakpoints(KaryotypeParser.DerBreakpointsContext ctx) {
 		if (multipleInterpretationDerBreakpoints) {
-			multipleInterpretationDerBreakpointsList.add("or" + ctx.getText());
+			multipleInterpretationDerBreakpointsList.add("or" + getText(ctx));
 		} else {
 			d.getBreakpoints().add(derBreakpoints);
 		}
@@ -369,7 +410,7 @@ public class KaryotypeLoader extends KaryotypeBaseListener {
 	}
 
 	public void exitCen(KaryotypeParser.CenContext ctx) {
-		derCen = ctx.getText().toLowerCase();
+		derCen = getText(ctx).toLowerCase();
 		derBreakpoints.add(derCen);
 		if (ctx.QUES() != null) {
 			derUncertainty = true;
@@ -387,6 +428,12 @@ public class KaryotypeLoader extends KaryotypeBaseListener {
 	public void enterDetailedFormula(KaryotypeParser.DetailedFormulaContext ctx) {
 		// Set flag to prevent processing of chr/band elements inside the formula
 		insideDetailedFormula = true;
+	}
+
+	// The formula is only read on exit: a parse listener gets the enter event before the formula is parsed
+	public void exitDetailedFormula(KaryotypeParser.DetailedFormulaContext ctx) {
+		// Reset flag when exiting detailed formula
+		insideDetailedFormula = false;
 
 		// Initialize derBreakpoints if it has not been initialized yet
 		if (derBreakpoints == null) {
@@ -394,7 +441,7 @@ public class KaryotypeLoader extends KaryotypeBaseListener {
 		}
 
 		// Mark this as a detailed formula event by adding a special prefix
-		String detailedFormulaText = ctx.getText();
+		String detailedFormulaText = getText(ctx);
 		derBreakpoints.add("DETAILED:" + detailedFormulaText);
 		// Set uncertainty flag if any ? markers are present
 		if (detailedFormulaText.contains("?")) {
@@ -402,18 +449,17 @@ public class KaryotypeLoader extends KaryotypeBaseListener {
 		}
 	}
 
-	public void exitDetailedFormula(KaryotypeParser.DetailedFormulaContext ctx) {
-		// Reset flag when exiting detailed formula
-		insideDetailedFormula = false;
-	}
-
 	/**
 	 * Handle detailed formula in breakpointsList (for dic, del, add events)
 	 * Example: dic(6;12)(6pter->6q21::12q24->12p11::6q21->6qter)
 	 */
 	public void enterDetailedBreakpointsList(KaryotypeParser.DetailedBreakpointsListContext ctx) {
 		insideDetailedFormula = true;
-		String detailedFormulaText = ctx.detailedFormula().getText();
+	}
+
+	public void exitDetailedBreakpointsList(KaryotypeParser.DetailedBreakpointsListContext ctx) {
+		insideDetailedFormula = false;
+		String detailedFormulaText = getText(ctx.detailedFormula());
 
 		// For events using breakpointsList (like dic, del, add), store in breakpoints
 		breakpoints = new ArrayList<String>();
@@ -425,17 +471,17 @@ public class KaryotypeLoader extends KaryotypeBaseListener {
 		}
 	}
 
-	public void exitDetailedBreakpointsList(KaryotypeParser.DetailedBreakpointsListContext ctx) {
-		insideDetailedFormula = false;
-	}
-
 	/**
 	 * Handle detailed formula in rBreakpointsList (for ring chromosomes)
 	 * Example: r(7)(7p22->7q36::7p15->7q31)
 	 */
 	public void enterDetailedRBreakpointsList(KaryotypeParser.DetailedRBreakpointsListContext ctx) {
 		insideDetailedFormula = true;
-		String detailedFormulaText = ctx.detailedFormula().getText();
+	}
+
+	public void exitDetailedRBreakpointsList(KaryotypeParser.DetailedRBreakpointsListContext ctx) {
+		insideDetailedFormula = false;
+		String detailedFormulaText = getText(ctx.detailedFormula());
 
 		// For ring events, store in breakpoints
 		breakpoints = new ArrayList<String>();
@@ -447,10 +493,6 @@ public class KaryotypeLoader extends KaryotypeBaseListener {
 		}
 	}
 
-	public void exitDetailedRBreakpointsList(KaryotypeParser.DetailedRBreakpointsListContext ctx) {
-		insideDetailedFormula = false;
-	}
-
 	public void enterBasicAberration(KaryotypeParser.BasicAberrationContext ctx) {
 		e = new Event();
 		uncertainty = false;
@@ -467,9 +509,9 @@ public class KaryotypeLoader extends KaryotypeBaseListener {
 				}
 			}
 			if (ctx.prefix().MINUS() != null) {
-				String searchedS = ctx.id().getText() + ctx.chrList().getText();
+				String searchedS = getText(ctx.id()) + getText(ctx.chrList());
 				if (ctx.breakpointsList() != null) {
-					searchedS += ctx.breakpointsList().getText();
+					searchedS += getText(ctx.breakpointsList());
 				}
 				boolean isDerBeingCancelled = false;
 				if (isIdemClone)
@@ -488,7 +530,7 @@ public class KaryotypeLoader extends KaryotypeBaseListener {
 		}
 		if (ctx.suffix() != null) {
 			if (ctx.suffix().multiplication() != null) {
-				copies = Integer.parseInt(ctx.suffix().multiplication().integer().getText());
+				copies = Integer.parseInt(getText(ctx.suffix().multiplication().integer()));
 				if (isSpecialCancellingEventWithMinusSign) {
 					cancelledCopies = copies;
 				} else {
@@ -506,7 +548,7 @@ public class KaryotypeLoader extends KaryotypeBaseListener {
 	}
 
 	public void exitId(KaryotypeParser.IdContext ctx) {
-		id = ctx.getText().toLowerCase();
+		id = getText(ctx).toLowerCase();
 		if (id.equals("dicr")) {
 			id = "r";
 		}
@@ -536,7 +578,7 @@ public class KaryotypeLoader extends KaryotypeBaseListener {
 			return;
 		}
 
-		chr = ctx.getText().toUpperCase();
+		chr = getText(ctx).toUpperCase();
 		e.getChrList().add(chr);
 		if (ctx.QUES() != null) {
 			uncertainty = true;
@@ -554,7 +596,7 @@ public class KaryotypeLoader extends KaryotypeBaseListener {
 		}
 
 		if (multipleInterpretationBreakpoints) {
-			multipleInterpretationBreakpointsList.add("or" + ctx.getText());
+			multipleInterpretationBreakpointsList.add("or" + getText(ctx));
 		} else {
 			e.getBreakpoints().add(breakpoints);
 		}
@@ -581,14 +623,14 @@ public class KaryotypeLoader extends KaryotypeBaseListener {
 			return;
 		}
 
-		breakpoint = ctx.getText().toLowerCase();
+		breakpoint = getText(ctx).toLowerCase();
 		breakpoints.add(breakpoint);
-		String band = ctx.band().getText();
+		String band = getText(ctx.band());
 		if (band.contains("?") || band.contains("-") || band.contains("~")) {
 			uncertainty = true;
 		}
 		if (ctx.subband() != null) {
-			String subband = ctx.subband().getText();
+			String subband = getText(ctx.subband());
 			if (subband.contains("?") || subband.contains("-") || subband.contains("~")) {
 				uncertainty = true;
 			}
@@ -607,7 +649,7 @@ public class KaryotypeLoader extends KaryotypeBaseListener {
 		if (multipleInterpretableRearrangement) {
 			uncertainty = true;
 		}
-		e.setEventCode(ctx.getText());
+		e.setEventCode(getText(ctx));
 		if (uncertainty) {
 			e.setUncertainEvent(true);
 		}
@@ -619,7 +661,7 @@ public class KaryotypeLoader extends KaryotypeBaseListener {
 	}
 
 	public void exitRId(KaryotypeParser.RIdContext ctx) {
-		rId = ctx.getText().toLowerCase();
+		rId = getText(ctx).toLowerCase();
 		e.setNature(rId);
 	}
 
@@ -685,7 +727,7 @@ public class KaryotypeLoader extends KaryotypeBaseListener {
 	}
 
 	public void exitFirstStemlineGroup(KaryotypeParser.FirstStemlineGroupContext ctx) {
-		String stemline = ctx.getText();
+		String stemline = getText(ctx);
 		if (!isUsingConstantSlMark) {
 			String errorMsg = "In the stemline group \"" + stemline + "\", you must use the same sl marks.";
 			errorMsgList.add(errorMsg);
@@ -703,7 +745,7 @@ public class KaryotypeLoader extends KaryotypeBaseListener {
 	}
 
 	public void exitOtherStemlineGroup(KaryotypeParser.OtherStemlineGroupContext ctx) {
-		String stemline = ctx.getText();
+		String stemline = getText(ctx);
 		if (!isUsingConstantSlMark) {
 			String errorMsg = "In the stemline group \"" + stemline + "\", you must use the same sl marks.";
 			errorMsgList.add(errorMsg);
@@ -716,7 +758,7 @@ public class KaryotypeLoader extends KaryotypeBaseListener {
 	}
 
 	public void exitSlEvent(KaryotypeParser.SlEventContext ctx) {
-		slMark = ctx.slMark().getText().toLowerCase();
+		slMark = getText(ctx.slMark()).toLowerCase();
 		if (slCloneMap.size() == 0) {
 			slMarkListAcrossCloneGroup.add(slMark);
 			slCloneMap.put(slMark, cloneIndex);
@@ -731,7 +773,7 @@ public class KaryotypeLoader extends KaryotypeBaseListener {
 			currentClone.setRelatedClone(relatedClone);
 			currentClone.getRelationship().put(slMark, "refers to the stemline clone");
 			if (ctx.multiplication() != null) {
-				slCopies = Integer.parseInt(ctx.multiplication().integer().getText());
+				slCopies = Integer.parseInt(getText(ctx.multiplication().integer()));
 			}
 			for (int i = 1; i <= slCopies; i++) {
 				currentClone.getCloneInput().addAll(rowClones.get(relatedClone).getCloneInput());
@@ -746,7 +788,7 @@ public class KaryotypeLoader extends KaryotypeBaseListener {
 	}
 
 	public void exitSdlEvent(KaryotypeParser.SdlEventContext ctx) {
-		sdlMark = ctx.sdlMark().getText().toLowerCase();
+		sdlMark = getText(ctx.sdlMark()).toLowerCase();
 		sdlMarkListWithinCloneGroup.add(sdlMark);
 		int relatedClone;
 		if (sdlCloneMap.get(sdlMark) == null) {
@@ -758,7 +800,7 @@ public class KaryotypeLoader extends KaryotypeBaseListener {
 		currentClone.setRelatedClone(relatedClone);
 		currentClone.getRelationship().put(sdlMark, "refers to the sideline clone");
 		if (ctx.multiplication() != null) {
-			sdlCopies = Integer.parseInt(ctx.multiplication().integer().getText());
+			sdlCopies = Integer.parseInt(getText(ctx.multiplication().integer()));
 		}
 		for (int i = 1; i <= sdlCopies; i++) {
 			currentClone.getCloneInput().addAll(rowClones.get(relatedClone).getCloneInput());
@@ -827,7 +869,7 @@ public class KaryotypeLoader extends KaryotypeBaseListener {
 	}
 
 	public void exitStemlineClone(KaryotypeParser.StemlineCloneContext ctx) {
-		currentClone.setCloneCode(ctx.getText());
+		currentClone.setCloneCode(getText(ctx));
 		rowClones.add(currentClone);
 //		previousClone.setCloneInput(currentClone.getCloneInput());
 		cloneIndex++;
@@ -838,7 +880,7 @@ public class KaryotypeLoader extends KaryotypeBaseListener {
 	}
 
 	public void exitAdditionalStemlineClone(KaryotypeParser.AdditionalStemlineCloneContext ctx) {
-		currentClone.setCloneCode(ctx.getText().substring(1));
+		currentClone.setCloneCode(getText(ctx).substring(1));
 		rowClones.add(currentClone);
 //		previousClone.setCloneInput(currentClone.getCloneInput());
 		cloneIndex++;
@@ -850,7 +892,7 @@ public class KaryotypeLoader extends KaryotypeBaseListener {
 	}
 
 	public void exitSidelineCloneTypeI(KaryotypeParser.SidelineCloneTypeIContext ctx) {
-		currentClone.setCloneCode(ctx.getText().substring(1));
+		currentClone.setCloneCode(getText(ctx).substring(1));
 		rowClones.add(currentClone);
 //		previousClone.setCloneInput(currentClone.getCloneInput());
 		isSlClone = false;
@@ -863,7 +905,7 @@ public class KaryotypeLoader extends KaryotypeBaseListener {
 	}
 
 	public void exitSidelineCloneTypeII(KaryotypeParser.SidelineCloneTypeIIContext ctx) {
-		currentClone.setCloneCode(ctx.getText().substring(1));
+		currentClone.setCloneCode(getText(ctx).substring(1));
 		rowClones.add(currentClone);
 //		previousClone.setCloneInput(currentClone.getCloneInput());
 		isSdlClone = false;
@@ -875,7 +917,7 @@ public class KaryotypeLoader extends KaryotypeBaseListener {
 	}
 
 	public void exitAdditionalClone(KaryotypeParser.AdditionalCloneContext ctx) {
-		currentClone.setCloneCode(ctx.getText().substring(1));
+		currentClone.setCloneCode(getText(ctx).substring(1));
 		rowClones.add(currentClone);
 		cloneIndex++;
 	}
@@ -899,7 +941,7 @@ public class KaryotypeLoader extends KaryotypeBaseListener {
 	}
 
 	public void exitCellNumContent(KaryotypeParser.CellNumContentContext ctx) {
-		int i = Integer.parseInt(ctx.integer().getText());
+		int i = Integer.parseInt(getText(ctx.integer()));
 		if (isFirstClone) {
 			firstClone.setCellNumber(i);
 		} else if (isClone) {
@@ -920,7 +962,7 @@ public class KaryotypeLoader extends KaryotypeBaseListener {
 	}
 
 	public void exitNonclonalClone(KaryotypeParser.NonclonalCloneContext ctx) {
-		nonclonalClone.setCloneCode(ctx.getText().substring(1));
+		nonclonalClone.setCloneCode(getText(ctx).substring(1));
 		rowClones.add(nonclonalClone);
 		isNonclonalClone = false;
 	}
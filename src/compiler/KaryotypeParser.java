@@ -26,82 +26,74 @@ public class KaryotypeParser extends Parser {
 		T__24=25, T__25=26, T__26=27, T__27=28, T__28=29, T__29=30, T__30=31, 
 		T__31=32, T__32=33, T__33=34, T__34=35, T__35=36, T__36=37, T__37=38, 
 		T__38=39, T__39=40, T__40=41, T__41=42, T__42=43, T__43=44, T__44=45, 
-		T__45=46, T__46=47, T__47=48, T__48=49, T__49=50, T__50=51, T__51=52, 
-		T__52=53, APPROX=54, POSITIVEDIGIT=55, MINUS=56, PLUS=57, QUES=58, LETTER=59, 
-		ARROW=60, COLON=61, WS=62;
+		T__45=46, T__46=47, T__47=48, T__48=49, T__49=50, T__50=51, APPROX=52, 
+		POSITIVEDIGIT=53, MINUS=54, PLUS=55, QUES=56, LETTER=57, ARROW=58, COLON=59, 
+		WS=60;
 	public static final int
 		RULE_row = 0, RULE_rowTypeI = 1, RULE_firstClone = 2, RULE_clone = 3, 
 		RULE_nonclonalClone = 4, RULE_rowTypeII = 5, RULE_firstStemlineGroup = 6, 
 		RULE_otherStemlineGroup = 7, RULE_stemlineClone = 8, RULE_additionalStemlineClone = 9, 
 		RULE_sidelineCloneTypeI = 10, RULE_sidelineCloneTypeII = 11, RULE_additionalClone = 12, 
 		RULE_karyotypeI = 13, RULE_karyotypeII = 14, RULE_karyotypeIII = 15, RULE_karyotypeIV = 16, 
-		RULE_karyotypeV = 17, RULE_ploidy = 18, RULE_tooManySlant = 19, RULE_incorrectSlant = 20, 
-		RULE_modalNum = 21, RULE_modalNumContent = 22, RULE_gender = 23, RULE_tooManyComma = 24, 
-		RULE_orSex = 25, RULE_idemSpecial = 26, RULE_slSpecial = 27, RULE_sdlSpecial = 28, 
-		RULE_regularEvent = 29, RULE_incorrectComma = 30, RULE_idemEvent = 31, 
-		RULE_slEvent = 32, RULE_slMark = 33, RULE_sdlEvent = 34, RULE_sdlMark = 35, 
-		RULE_regEvent = 36, RULE_regEventType = 37, RULE_gainLossChr = 38, RULE_undecoded = 39, 
-		RULE_aberration = 40, RULE_rearrangementElement = 41, RULE_rearrangement = 42, 
-		RULE_derChrList = 43, RULE_derChrListElements = 44, RULE_incorrectDerChrListElements = 45, 
-		RULE_incorrectLeftParenthesis = 46, RULE_incorrectRightParenthesis = 47, 
-		RULE_derBreakpointsList = 48, RULE_derBreakpointsListElements = 49, RULE_incorrectDerBreakpointsListElements = 50, 
-		RULE_derBreakpointsInOneChr = 51, RULE_chrList = 52, RULE_chrListElements = 53, 
-		RULE_incorrectChrListElements = 54, RULE_breakpointsList = 55, RULE_breakpointsListElements = 56, 
-		RULE_incorrectBreakpointsListElements = 57, RULE_breakpointsInOneChr = 58, 
-		RULE_rChrList = 59, RULE_rBreakpointsList = 60, RULE_idUncertainChr = 61, 
-		RULE_uncertainChr = 62, RULE_uncertainChrContent = 63, RULE_arm = 64, 
-		RULE_band = 65, RULE_breakpoint = 66, RULE_breakpoints = 67, RULE_c = 68, 
-		RULE_cellNum = 69, RULE_cellNumContent = 70, RULE_incorrectLeftParenthesisII = 71, 
-		RULE_incorrectRightParenthesisII = 72, RULE_cen = 73, RULE_chr = 74, RULE_chrNum = 75, 
-		RULE_cp = 76, RULE_derBreakpoints = 77, RULE_derChr = 78, RULE_derId = 79, 
-		RULE_detailedFormula = 80, RULE_detailedSegmentList = 81, RULE_detailedSegment = 82, 
-		RULE_detailedBreakpoint = 83, RULE_digit = 84, RULE_dminNum = 85, RULE_gainChr = 86, 
-		RULE_id = 87, RULE_inh = 88, RULE_integer = 89, RULE_lossChr = 90, RULE_marNum = 91, 
-		RULE_modalDesc = 92, RULE_modalLevel = 93, RULE_modalPrefix = 94, RULE_modalSuffix = 95, 
-		RULE_mosChi = 96, RULE_multiplication = 97, RULE_numRangeTypeI = 98, RULE_numRangeTypeII = 99, 
-		RULE_numRangeTypeIII = 100, RULE_prefix = 101, RULE_prefixMinus = 102, 
-		RULE_prefixPlus = 103, RULE_rId = 104, RULE_sex = 105, RULE_sexChr = 106, 
-		RULE_suffix = 107, RULE_subband = 108, RULE_undeterminedPrefix = 109;
+		RULE_karyotypeV = 17, RULE_ploidy = 18, RULE_modalNum = 19, RULE_modalNumContent = 20, 
+		RULE_gender = 21, RULE_orSex = 22, RULE_idemSpecial = 23, RULE_slSpecial = 24, 
+		RULE_sdlSpecial = 25, RULE_regularEvent = 26, RULE_idemEvent = 27, RULE_slEvent = 28, 
+		RULE_slMark = 29, RULE_sdlEvent = 30, RULE_sdlMark = 31, RULE_regEvent = 32, 
+		RULE_regEventType = 33, RULE_gainLossChr = 34, RULE_undecoded = 35, RULE_aberration = 36, 
+		RULE_rearrangementElement = 37, RULE_rearrangement = 38, RULE_derChrList = 39, 
+		RULE_derChrListElements = 40, RULE_derBreakpointsList = 41, RULE_derBreakpointsListElements = 42, 
+		RULE_derBreakpointsInOneChr = 43, RULE_chrList = 44, RULE_chrListElements = 45, 
+		RULE_breakpointsList = 46, RULE_breakpointsListElements = 47, RULE_breakpointsInOneChr = 48, 
+		RULE_rChrList = 49, RULE_rBreakpointsList = 50, RULE_idUncertainChr = 51, 
+		RULE_uncertainChr = 52, RULE_uncertainChrContent = 53, RULE_arm = 54, 
+		RULE_band = 55, RULE_breakpoint = 56, RULE_breakpoints = 57, RULE_c = 58, 
+		RULE_cellNum = 59, RULE_cellNumContent = 60, RULE_cen = 61, RULE_chr = 62, 
+		RULE_chrNum = 63, RULE_cp = 64, RULE_derBreakpoints = 65, RULE_derChr = 66, 
+		RULE_derId = 67, RULE_detailedFormula = 68, RULE_detailedSegmentList = 69, 
+		RULE_detailedSegment = 70, RULE_detailedBreakpoint = 71, RULE_digit = 72, 
+		RULE_dminNum = 73, RULE_gainChr = 74, RULE_id = 75, RULE_inh = 76, RULE_integer = 77, 
+		RULE_lossChr = 78, RULE_marNum = 79, RULE_modalDesc = 80, RULE_modalLevel = 81, 
+		RULE_modalPrefix = 82, RULE_modalSuffix = 83, RULE_mosChi = 84, RULE_multiplication = 85, 
+		RULE_numRangeTypeI = 86, RULE_numRangeTypeII = 87, RULE_numRangeTypeIII = 88, 
+		RULE_prefix = 89, RULE_prefixMinus = 90, RULE_prefixPlus = 91, RULE_rId = 92, 
+		RULE_sex = 93, RULE_sexChr = 94, RULE_suffix = 95, RULE_subband = 96;
 	public static final String[] ruleNames = {
 		"row", "rowTypeI", "firstClone", "clone", "nonclonalClone", "rowTypeII", 
 		"firstStemlineGroup", "otherStemlineGroup", "stemlineClone", "additionalStemlineClone", 
 		"sidelineCloneTypeI", "sidelineCloneTypeII", "additionalClone", "karyotypeI", 
 		"karyotypeII", "karyotypeIII", "karyotypeIV", "karyotypeV", "ploidy", 
-		"tooManySlant", "incorrectSlant", "modalNum", "modalNumContent", "gender", 
-		"tooManyComma", "orSex", "idemSpecial", "slSpecial", "sdlSpecial", "regularEvent", 
-		"incorrectComma", "idemEvent", "slEvent", "slMark", "sdlEvent", "sdlMark", 
-		"regEvent", "regEventType", "gainLossChr", "undecoded", "aberration", 
+		"modalNum", "modalNumContent", "gender", "orSex", "idemSpecial", "slSpecial", 
+		"sdlSpecial", "regularEvent", "idemEvent", "slEvent", "slMark", "sdlEvent", 
+		"sdlMark", "regEvent", "regEventType", "gainLossChr", "undecoded", "aberration", 
 		"rearrangementElement", "rearrangement", "derChrList", "derChrListElements", 
-		"incorrectDerChrListElements", "incorrectLeftParenthesis", "incorrectRightParenthesis", 
-		"derBreakpointsList", "derBreakpointsListElements", "incorrectDerBreakpointsListElements", 
-		"derBreakpointsInOneChr", "chrList", "chrListElements", "incorrectChrListElements", 
-		"breakpointsList", "breakpointsListElements", "incorrectBreakpointsListElements", 
+		"derBreakpointsList", "derBreakpointsListElements", "derBreakpointsInOneChr", 
+		"chrList", "chrListElements", "breakpointsList", "breakpointsListElements", 
 		"breakpointsInOneChr", "rChrList", "rBreakpointsList", "idUncertainChr", 
 		"uncertainChr", "uncertainChrContent", "arm", "band", "breakpoint", "breakpoints", 
-		"c", "cellNum", "cellNumContent", "incorrectLeftParenthesisII", "incorrectRightParenthesisII", 
-		"cen", "chr", "chrNum", "cp", "derBreakpoints", "derChr", "derId", "detailedFormula", 
-		"detailedSegmentList", "detailedSegment", "detailedBreakpoint", "digit", 
-		"dminNum", "gainChr", "id", "inh", "integer", "lossChr", "marNum", "modalDesc", 
-		"modalLevel", "modalPrefix", "modalSuffix", "mosChi", "multiplication", 
-		"numRangeTypeI", "numRangeTypeII", "numRangeTypeIII", "prefix", "prefixMinus", 
-		"prefixPlus", "rId", "sex", "sexChr", "suffix", "subband", "undeterminedPrefix"
+		"c", "cellNum", "cellNumContent", "cen", "chr", "chrNum", "cp", "derBreakpoints", 
+		"derChr", "derId", "detailedFormula", "detailedSegmentList", "detailedSegment", 
+		"detailedBreakpoint", "digit", "dminNum", "gainChr", "id", "inh", "integer", 
+		"lossChr", "marNum", "modalDesc", "modalLevel", "modalPrefix", "modalSuffix", 
+		"mosChi", "multiplication", "numRangeTypeI", "numRangeTypeII", "numRangeTypeIII", 
+		"prefix", "prefixMinus", "prefixPlus", "rId", "sex", "sexChr", "suffix", 
+		"subband"
 	};
 
 	private static final String[] _LITERAL_NAMES = {
 		null, "'.'", "'/'", "','", "'n'", "'N'", "'o'", "'O'", "'c'", "'C'", "'l'", 
 		"'L'", "'a'", "'A'", "'b'", "'B'", "'r'", "'R'", "'m'", "'M'", "'e'", 
-		"'E'", "';'", "'<'", "'>'", "'i'", "'I'", "'d'", "'D'", "'s'", "'S'", 
-		"'('", "')'", "'['", "'{'", "']'", "'}'", "'p'", "'P'", "'u'", "'U'", 
-		"'t'", "'T'", "'q'", "'Q'", "'h'", "'H'", "'v'", "'V'", "'0'", "'x'", 
-		"'X'", "'y'", "'Y'", "'~'", null, "'-'", "'+'", "'?'", null, "'->'", "':'"
+		"'E'", "'<'", "'>'", "'i'", "'I'", "'d'", "'D'", "'s'", "'S'", "'('", 
+		"')'", "';'", "'p'", "'P'", "'u'", "'U'", "'t'", "'T'", "'q'", "'Q'", 
+		"'h'", "'H'", "'v'", "'V'", "'['", "']'", "'0'", "'x'", "'X'", "'y'", 
+		"'Y'", "'~'", null, "'-'", "'+'", "'?'", null, "'->'", "':'"
 	};
 	private static final String[] _SYMBOLIC_NAMES = {
 		null, null, null, null, null, null, null, null, null, null, null, null, 
 		null, null, null, null, null, null, null, null, null, null, null, null, 
 		null, null, null, null, null, null, null, null, null, null, null, null, 
 		null, null, null, null, null, null, null, null, null, null, null, null, 
-		null, null, null, null, null, null, "APPROX", "POSITIVEDIGIT", "MINUS", 
-		"PLUS", "QUES", "LETTER", "ARROW", "COLON", "WS"
+		null, null, null, null, "APPROX", "POSITIVEDIGIT", "MINUS", "PLUS", "QUES", 
+		"LETTER", "ARROW", "COLON", "WS"
 	};
 	public static final Vocabulary VOCABULARY = new VocabularyImpl(_LITERAL_NAMES, _SYMBOLIC_NAMES);
 
@@ -151,22 +143,41 @@ public class KaryotypeParser extends Parser {
 
 		int i = 0;
 		List<String> sexChrList = new ArrayList<>();
+		
+		// Per-row state, cleared when the parser is reset to parse another row
+		@Override
+		public void reset() {
+			super.reset();
+			i = 0;
+			sexChrList = new ArrayList<>();
+		}
+
+		// Parse listeners only get the enter event of the rule context, which a labeled alternative such as
+		// gainLossChrEvent then replaces, so the labeled context gets its own enter event here
+		@Override
+		public void enterOuterAlt(ParserRuleContext localctx, int altNum) {
+			boolean labeledAlt = _ctx != localctx;
+			super.enterOuterAlt(localctx, altNum);
+			if (labeledAlt) {
+				for (ParseTreeListener listener : getParseListeners()) {
+					listener.enterEveryRule(localctx);
+					localctx.enterRule(listener);
+				}
+			}
+		}
 
 	public KaryotypeParser(TokenStream input) {
 		super(input);
 		_interp = new ParserATNSimulator(this,_ATN,_decisionToDFA,_sharedContextCache);
 	}
 	public static class RowContext extends ParserRuleContext {
+		public TerminalNode EOF() { return getToken(KaryotypeParser.EOF, 0); }
 		public RowTypeIContext rowTypeI() {
 			return getRuleContext(RowTypeIContext.class,0);
 		}
 		public RowTypeIIContext rowTypeII() {
 			return getRuleContext(RowTypeIIContext.class,0);
 		}
-		public List<TerminalNode> LETTER() { return getTokens(KaryotypeParser.LETTER); }
-		public TerminalNode LETTER(int i) {
-			return getToken(KaryotypeParser.LETTER, i);
-		}
 		public RowContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -189,57 +200,27 @@ public class KaryotypeParser extends Parser {
 	public final RowContext row() throws RecognitionException {
 		RowContext _localctx = new RowContext(_ctx, getState());
 		enterRule(_localctx, 0, RULE_row);
-		int _la;
 		try {
-			setState(229);
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(196);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,2,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,0,_ctx) ) {
 			case 1:
-				enterOuterAlt(_localctx, 1);
 				{
-				setState(220);
+				setState(194);
 				rowTypeI();
 				}
 				break;
 			case 2:
-				enterOuterAlt(_localctx, 2);
 				{
-				setState(221);
+				setState(195);
 				rowTypeII();
 				}
 				break;
-			case 3:
-				enterOuterAlt(_localctx, 3);
-				{
-				setState(224); 
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-				do {
-					{
-					setState(224);
-					_errHandler.sync(this);
-					switch ( getInterpreter().adaptivePredict(_input,0,_ctx) ) {
-					case 1:
-						{
-						setState(222);
-						match(LETTER);
-						}
-						break;
-					case 2:
-						{
-						setState(223);
-						matchWildcard();
-						}
-						break;
-					}
-					}
-					setState(226); 
-					_errHandler.sync(this);
-					_la = _input.LA(1);
-				} while ( (((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__0) | (1L << T__1) | (1L << T__2) | (1L << T__3) | (1L << T__4) | (1L << T__5) | (1L << T__6) | (1L << T__7) | (1L << T__8) | (1L << T__9) | (1L << T__10) | (1L << T__11) | (1L << T__12) | (1L << T__13) | (1L << T__14) | (1L << T__15) | (1L << T__16) | (1L << T__17) | (1L << T__18) | (1L << T__19) | (1L << T__20) | (1L << T__21) | (1L << T__22) | (1L << T__23) | (1L << T__24) | (1L << T__25) | (1L << T__26) | (1L << T__27) | (1L << T__28) | (1L << T__29) | (1L << T__30) | (1L << T__31) | (1L << T__32) | (1L << T__33) | (1L << T__34) | (1L << T__35) | (1L << T__36) | (1L << T__37) | (1L << T__38) | (1L << T__39) | (1L << T__40) | (1L << T__41) | (1L << T__42) | (1L << T__43) | (1L << T__44) | (1L << T__45) | (1L << T__46) | (1L << T__47) | (1L << T__48) | (1L << T__49) | (1L << T__50) | (1L << T__51) | (1L << T__52) | (1L << APPROX) | (1L << POSITIVEDIGIT) | (1L << MINUS) | (1L << PLUS) | (1L << QUES) | (1L << LETTER) | (1L << ARROW) | (1L << COLON) | (1L << WS))) != 0) );
-				notifyErrorListeners("-1|This is an incorrect input for karyotype parsing.");
-				}
-				break;
+			}
+			setState(198);
+			match(EOF);
 			}
 		}
 		catch (RecognitionException re) {
@@ -293,45 +274,42 @@ public class KaryotypeParser extends Parser {
 		enterRule(_localctx, 2, RULE_rowTypeI);
 		int _la;
 		try {
-			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(231);
+			setState(200);
 			firstClone();
-			setState(236);
+			setState(205);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,4,_ctx);
-			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
-				if ( _alt==1 ) {
+			_la = _input.LA(1);
+			while (_la==T__1) {
+				{
+				setState(203);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,1,_ctx) ) {
+				case 1:
 					{
-					setState(234);
-					_errHandler.sync(this);
-					switch ( getInterpreter().adaptivePredict(_input,3,_ctx) ) {
-					case 1:
-						{
-						setState(232);
-						nonclonalClone();
-						}
-						break;
-					case 2:
-						{
-						setState(233);
-						clone();
-						}
-						break;
+					setState(201);
+					nonclonalClone();
 					}
-					} 
+					break;
+				case 2:
+					{
+					setState(202);
+					clone();
+					}
+					break;
+				}
 				}
-				setState(238);
+				setState(207);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,4,_ctx);
+				_la = _input.LA(1);
 			}
-			setState(240);
+			setState(209);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==T__0) {
 				{
-				setState(239);
+				setState(208);
 				match(T__0);
 				}
 			}
@@ -379,20 +357,21 @@ public class KaryotypeParser extends Parser {
 		FirstCloneContext _localctx = new FirstCloneContext(_ctx, getState());
 		enterRule(_localctx, 4, RULE_firstClone);
 		i = i + 1;
+		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(243);
+			setState(212);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,6,_ctx) ) {
-			case 1:
+			_la = _input.LA(1);
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__3) | (1L << T__4) | (1L << T__32) | (1L << T__33) | (1L << T__40) | (1L << T__41))) != 0)) {
 				{
-				setState(242);
+				setState(211);
 				ploidy();
 				}
-				break;
 			}
-			setState(245);
+
+			setState(214);
 			karyotypeI();
 			}
 			_ctx.stop = _input.LT(-1);
@@ -410,24 +389,12 @@ public class KaryotypeParser extends Parser {
 	}
 
 	public static class CloneContext extends ParserRuleContext {
-		public String s = "";
-		public int l = 0;
-		public PloidyContext ploidy;
-		public KaryotypeIIContext karyotypeII;
-		public TooManySlantContext tooManySlant;
-		public IncorrectSlantContext incorrectSlant;
 		public KaryotypeIIContext karyotypeII() {
 			return getRuleContext(KaryotypeIIContext.class,0);
 		}
 		public PloidyContext ploidy() {
 			return getRuleContext(PloidyContext.class,0);
 		}
-		public TooManySlantContext tooManySlant() {
-			return getRuleContext(TooManySlantContext.class,0);
-		}
-		public IncorrectSlantContext incorrectSlant() {
-			return getRuleContext(IncorrectSlantContext.class,0);
-		}
 		public CloneContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -451,111 +418,24 @@ public class KaryotypeParser extends Parser {
 		CloneContext _localctx = new CloneContext(_ctx, getState());
 		enterRule(_localctx, 6, RULE_clone);
 		i = i + 1;
+		int _la;
 		try {
-			setState(272);
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(216);
+			match(T__1);
+			setState(218);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,11,_ctx) ) {
-			case 1:
-				enterOuterAlt(_localctx, 1);
-				{
-				setState(247);
-				match(T__1);
-				setState(249);
-				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,7,_ctx) ) {
-				case 1:
-					{
-					setState(248);
-					ploidy();
-					}
-					break;
-				}
-				setState(251);
-				karyotypeII();
-				}
-				break;
-			case 2:
-				enterOuterAlt(_localctx, 2);
-				{
-				setState(253);
-				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,8,_ctx) ) {
-				case 1:
-					{
-					setState(252);
-					((CloneContext)_localctx).ploidy = ploidy();
-					}
-					break;
-				}
-				setState(255);
-				((CloneContext)_localctx).karyotypeII = karyotypeII();
-
-					if ((((CloneContext)_localctx).ploidy!=null?_input.getText(((CloneContext)_localctx).ploidy.start,((CloneContext)_localctx).ploidy.stop):null) != null) {
-						((CloneContext)_localctx).s =  (((CloneContext)_localctx).ploidy!=null?_input.getText(((CloneContext)_localctx).ploidy.start,((CloneContext)_localctx).ploidy.stop):null) + (((CloneContext)_localctx).karyotypeII!=null?_input.getText(((CloneContext)_localctx).karyotypeII.start,((CloneContext)_localctx).karyotypeII.stop):null);
-					} else {
-						((CloneContext)_localctx).s =  (((CloneContext)_localctx).karyotypeII!=null?_input.getText(((CloneContext)_localctx).karyotypeII.start,((CloneContext)_localctx).karyotypeII.stop):null);
-					}
-					((CloneContext)_localctx).l =  _localctx.s.length();
-					notifyErrorListeners(_localctx.l + "|Missing a slant line before '" + _localctx.s + "'");
-				  
-				}
-				break;
-			case 3:
-				enterOuterAlt(_localctx, 3);
-				{
-				setState(258);
-				((CloneContext)_localctx).tooManySlant = tooManySlant();
-				setState(260);
-				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,9,_ctx) ) {
-				case 1:
-					{
-					setState(259);
-					((CloneContext)_localctx).ploidy = ploidy();
-					}
-					break;
-				}
-				setState(262);
-				((CloneContext)_localctx).karyotypeII = karyotypeII();
-
-					if ((((CloneContext)_localctx).ploidy!=null?_input.getText(((CloneContext)_localctx).ploidy.start,((CloneContext)_localctx).ploidy.stop):null) != null) {
-						((CloneContext)_localctx).s =  (((CloneContext)_localctx).ploidy!=null?_input.getText(((CloneContext)_localctx).ploidy.start,((CloneContext)_localctx).ploidy.stop):null) + (((CloneContext)_localctx).karyotypeII!=null?_input.getText(((CloneContext)_localctx).karyotypeII.start,((CloneContext)_localctx).karyotypeII.stop):null);
-					} else {
-						((CloneContext)_localctx).s =  (((CloneContext)_localctx).karyotypeII!=null?_input.getText(((CloneContext)_localctx).karyotypeII.start,((CloneContext)_localctx).karyotypeII.stop):null);
-					}
-					((CloneContext)_localctx).l =  _localctx.s.length() + (((CloneContext)_localctx).tooManySlant!=null?_input.getText(((CloneContext)_localctx).tooManySlant.start,((CloneContext)_localctx).tooManySlant.stop):null).length();
-					notifyErrorListeners(_localctx.l + "|Too many slant lines before '" + _localctx.s + "'");
-				  
-				}
-				break;
-			case 4:
-				enterOuterAlt(_localctx, 4);
+			_la = _input.LA(1);
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__3) | (1L << T__4) | (1L << T__32) | (1L << T__33) | (1L << T__40) | (1L << T__41))) != 0)) {
 				{
-				setState(265);
-				((CloneContext)_localctx).incorrectSlant = incorrectSlant();
-				setState(267);
-				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,10,_ctx) ) {
-				case 1:
-					{
-					setState(266);
-					((CloneContext)_localctx).ploidy = ploidy();
-					}
-					break;
+				setState(217);
+				ploidy();
 				}
-				setState(269);
-				((CloneContext)_localctx).karyotypeII = karyotypeII();
+			}
 
-					if ((((CloneContext)_localctx).ploidy!=null?_input.getText(((CloneContext)_localctx).ploidy.start,((CloneContext)_localctx).ploidy.stop):null) != null) {
-						((CloneContext)_localctx).s =  (((CloneContext)_localctx).ploidy!=null?_input.getText(((CloneContext)_localctx).ploidy.start,((CloneContext)_localctx).ploidy.stop):null) + (((CloneContext)_localctx).karyotypeII!=null?_input.getText(((CloneContext)_localctx).karyotypeII.start,((CloneContext)_localctx).karyotypeII.stop):null);
-					} else {
-						((CloneContext)_localctx).s =  (((CloneContext)_localctx).karyotypeII!=null?_input.getText(((CloneContext)_localctx).karyotypeII.start,((CloneContext)_localctx).karyotypeII.stop):null);
-					}
-					((CloneContext)_localctx).l =  _localctx.s.length() + (((CloneContext)_localctx).incorrectSlant!=null?_input.getText(((CloneContext)_localctx).incorrectSlant.start,((CloneContext)_localctx).incorrectSlant.stop):null).length();
-					notifyErrorListeners(_localctx.l + "|Incorrect clone separation before '" + _localctx.s + "'");
-				  
-				}
-				break;
+			setState(220);
+			karyotypeII();
 			}
 			_ctx.stop = _input.LT(-1);
 			sexChrList = new ArrayList<>();
@@ -572,24 +452,12 @@ public class KaryotypeParser extends Parser {
 	}
 
 	public static class NonclonalCloneContext extends ParserRuleContext {
-		public String s = "";
-		public int l = 0;
-		public PloidyContext ploidy;
-		public KaryotypeVContext karyotypeV;
-		public TooManySlantContext tooManySlant;
-		public IncorrectSlantContext incorrectSlant;
 		public KaryotypeVContext karyotypeV() {
 			return getRuleContext(KaryotypeVContext.class,0);
 		}
 		public PloidyContext ploidy() {
 			return getRuleContext(PloidyContext.class,0);
 		}
-		public TooManySlantContext tooManySlant() {
-			return getRuleContext(TooManySlantContext.class,0);
-		}
-		public IncorrectSlantContext incorrectSlant() {
-			return getRuleContext(IncorrectSlantContext.class,0);
-		}
 		public NonclonalCloneContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -614,111 +482,23 @@ public class KaryotypeParser extends Parser {
 		enterRule(_localctx, 8, RULE_nonclonalClone);
 		i = i + 1;
 		try {
-			setState(299);
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(222);
+			match(T__1);
+			setState(224);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,16,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,6,_ctx) ) {
 			case 1:
-				enterOuterAlt(_localctx, 1);
-				{
-				setState(274);
-				match(T__1);
-				setState(276);
-				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,12,_ctx) ) {
-				case 1:
-					{
-					setState(275);
-					ploidy();
-					}
-					break;
-				}
-				setState(278);
-				karyotypeV();
-				}
-				break;
-			case 2:
-				enterOuterAlt(_localctx, 2);
-				{
-				setState(280);
-				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,13,_ctx) ) {
-				case 1:
-					{
-					setState(279);
-					((NonclonalCloneContext)_localctx).ploidy = ploidy();
-					}
-					break;
-				}
-				setState(282);
-				((NonclonalCloneContext)_localctx).karyotypeV = karyotypeV();
-
-					if ((((NonclonalCloneContext)_localctx).ploidy!=null?_input.getText(((NonclonalCloneContext)_localctx).ploidy.start,((NonclonalCloneContext)_localctx).ploidy.stop):null) != null) {
-						((NonclonalCloneContext)_localctx).s =  (((NonclonalCloneContext)_localctx).ploidy!=null?_input.getText(((NonclonalCloneContext)_localctx).ploidy.start,((NonclonalCloneContext)_localctx).ploidy.stop):null) + (((NonclonalCloneContext)_localctx).karyotypeV!=null?_input.getText(((NonclonalCloneContext)_localctx).karyotypeV.start,((NonclonalCloneContext)_localctx).karyotypeV.stop):null);
-					} else {
-						((NonclonalCloneContext)_localctx).s =  (((NonclonalCloneContext)_localctx).karyotypeV!=null?_input.getText(((NonclonalCloneContext)_localctx).karyotypeV.start,((NonclonalCloneContext)_localctx).karyotypeV.stop):null);
-					}
-					((NonclonalCloneContext)_localctx).l =  _localctx.s.length();
-					notifyErrorListeners(_localctx.l + "|Missing a slant line before '" + _localctx.s + "'");
-				  
-				}
-				break;
-			case 3:
-				enterOuterAlt(_localctx, 3);
-				{
-				setState(285);
-				((NonclonalCloneContext)_localctx).tooManySlant = tooManySlant();
-				setState(287);
-				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,14,_ctx) ) {
-				case 1:
-					{
-					setState(286);
-					((NonclonalCloneContext)_localctx).ploidy = ploidy();
-					}
-					break;
-				}
-				setState(289);
-				((NonclonalCloneContext)_localctx).karyotypeV = karyotypeV();
-
-					if ((((NonclonalCloneContext)_localctx).ploidy!=null?_input.getText(((NonclonalCloneContext)_localctx).ploidy.start,((NonclonalCloneContext)_localctx).ploidy.stop):null) != null) {
-						((NonclonalCloneContext)_localctx).s =  (((NonclonalCloneContext)_localctx).ploidy!=null?_input.getText(((NonclonalCloneContext)_localctx).ploidy.start,((NonclonalCloneContext)_localctx).ploidy.stop):null) + (((NonclonalCloneContext)_localctx).karyotypeV!=null?_input.getText(((NonclonalCloneContext)_localctx).karyotypeV.start,((NonclonalCloneContext)_localctx).karyotypeV.stop):null);
-					} else {
-						((NonclonalCloneContext)_localctx).s =  (((NonclonalCloneContext)_localctx).karyotypeV!=null?_input.getText(((NonclonalCloneContext)_localctx).karyotypeV.start,((NonclonalCloneContext)_localctx).karyotypeV.stop):null);
-					}
-					((NonclonalCloneContext)_localctx).l =  _localctx.s.length() + (((NonclonalCloneContext)_localctx).tooManySlant!=null?_input.getText(((NonclonalCloneContext)_localctx).tooManySlant.start,((NonclonalCloneContext)_localctx).tooManySlant.stop):null).length();
-					notifyErrorListeners(_localctx.l + "|Too many slant lines before '" + _localctx.s + "'");
-				  
-				}
-				break;
-			case 4:
-				enterOuterAlt(_localctx, 4);
 				{
-				setState(292);
-				((NonclonalCloneContext)_localctx).incorrectSlant = incorrectSlant();
-				setState(294);
-				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,15,_ctx) ) {
-				case 1:
-					{
-					setState(293);
-					((NonclonalCloneContext)_localctx).ploidy = ploidy();
-					}
-					break;
-				}
-				setState(296);
-				((NonclonalCloneContext)_localctx).karyotypeV = karyotypeV();
-
-					if ((((NonclonalCloneContext)_localctx).ploidy!=null?_input.getText(((NonclonalCloneContext)_localctx).ploidy.start,((NonclonalCloneContext)_localctx).ploidy.stop):null) != null) {
-						((NonclonalCloneContext)_localctx).s =  (((NonclonalCloneContext)_localctx).ploidy!=null?_input.getText(((NonclonalCloneContext)_localctx).ploidy.start,((NonclonalCloneContext)_localctx).ploidy.stop):null) + (((NonclonalCloneContext)_localctx).karyotypeV!=null?_input.getText(((NonclonalCloneContext)_localctx).karyotypeV.start,((NonclonalCloneContext)_localctx).karyotypeV.stop):null);
-					} else {
-						((NonclonalCloneContext)_localctx).s =  (((NonclonalCloneContext)_localctx).karyotypeV!=null?_input.getText(((NonclonalCloneContext)_localctx).karyotypeV.start,((NonclonalCloneContext)_localctx).karyotypeV.stop):null);
-					}
-					((NonclonalCloneContext)_localctx).l =  _localctx.s.length() + (((NonclonalCloneContext)_localctx).incorrectSlant!=null?_input.getText(((NonclonalCloneContext)_localctx).incorrectSlant.start,((NonclonalCloneContext)_localctx).incorrectSlant.stop):null).length();
-					notifyErrorListeners(_localctx.l + "|Incorrect clone separation before '" + _localctx.s + "'");
-				  
+				setState(223);
+				ploidy();
 				}
 				break;
 			}
+			setState(226);
+			karyotypeV();
+			}
 		}
 		catch (RecognitionException re) {
 			_localctx.exception = re;
@@ -774,46 +554,44 @@ public class KaryotypeParser extends Parser {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(301);
+			setState(228);
 			firstStemlineGroup();
-			setState(305);
+			setState(232);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,17,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,7,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(302);
+					setState(229);
 					otherStemlineGroup();
 					}
 					} 
 				}
-				setState(307);
+				setState(234);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,17,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,7,_ctx);
 			}
-			setState(311);
+			setState(238);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,18,_ctx);
-			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
-				if ( _alt==1 ) {
-					{
-					{
-					setState(308);
-					additionalClone();
-					}
-					} 
+			_la = _input.LA(1);
+			while (_la==T__1) {
+				{
+				{
+				setState(235);
+				additionalClone();
 				}
-				setState(313);
+				}
+				setState(240);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,18,_ctx);
+				_la = _input.LA(1);
 			}
-			setState(315);
+			setState(242);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==T__0) {
 				{
-				setState(314);
+				setState(241);
 				match(T__0);
 				}
 			}
@@ -871,56 +649,56 @@ public class KaryotypeParser extends Parser {
 		enterRule(_localctx, 12, RULE_firstStemlineGroup);
 		try {
 			int _alt;
-			setState(349);
+			setState(276);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,25,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,15,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(317);
+				setState(244);
 				stemlineClone();
-				setState(318);
+				setState(245);
 				sidelineCloneTypeI();
-				setState(322);
+				setState(249);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,20,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,10,_ctx);
 				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 					if ( _alt==1 ) {
 						{
 						{
-						setState(319);
+						setState(246);
 						sidelineCloneTypeII();
 						}
 						} 
 					}
-					setState(324);
+					setState(251);
 					_errHandler.sync(this);
-					_alt = getInterpreter().adaptivePredict(_input,20,_ctx);
+					_alt = getInterpreter().adaptivePredict(_input,10,_ctx);
 				}
-				setState(328);
+				setState(255);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,21,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,11,_ctx);
 				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 					if ( _alt==1 ) {
 						{
 						{
-						setState(325);
+						setState(252);
 						sidelineCloneTypeI();
 						}
 						} 
 					}
-					setState(330);
+					setState(257);
 					_errHandler.sync(this);
-					_alt = getInterpreter().adaptivePredict(_input,21,_ctx);
+					_alt = getInterpreter().adaptivePredict(_input,11,_ctx);
 				}
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(331);
+				setState(258);
 				stemlineClone();
-				setState(333); 
+				setState(260); 
 				_errHandler.sync(this);
 				_alt = 1;
 				do {
@@ -928,7 +706,7 @@ public class KaryotypeParser extends Parser {
 					case 1:
 						{
 						{
-						setState(332);
+						setState(259);
 						sidelineCloneTypeI();
 						}
 						}
@@ -936,13 +714,13 @@ public class KaryotypeParser extends Parser {
 					default:
 						throw new NoViableAltException(this);
 					}
-					setState(335); 
+					setState(262); 
 					_errHandler.sync(this);
-					_alt = getInterpreter().adaptivePredict(_input,22,_ctx);
+					_alt = getInterpreter().adaptivePredict(_input,12,_ctx);
 				} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
-				setState(337);
+				setState(264);
 				sidelineCloneTypeI();
-				setState(339); 
+				setState(266); 
 				_errHandler.sync(this);
 				_alt = 1;
 				do {
@@ -950,7 +728,7 @@ public class KaryotypeParser extends Parser {
 					case 1:
 						{
 						{
-						setState(338);
+						setState(265);
 						sidelineCloneTypeII();
 						}
 						}
@@ -958,25 +736,25 @@ public class KaryotypeParser extends Parser {
 					default:
 						throw new NoViableAltException(this);
 					}
-					setState(341); 
+					setState(268); 
 					_errHandler.sync(this);
-					_alt = getInterpreter().adaptivePredict(_input,23,_ctx);
+					_alt = getInterpreter().adaptivePredict(_input,13,_ctx);
 				} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
-				setState(346);
+				setState(273);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,24,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,14,_ctx);
 				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 					if ( _alt==1 ) {
 						{
 						{
-						setState(343);
+						setState(270);
 						sidelineCloneTypeI();
 						}
 						} 
 					}
-					setState(348);
+					setState(275);
 					_errHandler.sync(this);
-					_alt = getInterpreter().adaptivePredict(_input,24,_ctx);
+					_alt = getInterpreter().adaptivePredict(_input,14,_ctx);
 				}
 				}
 				break;
@@ -1029,9 +807,9 @@ public class KaryotypeParser extends Parser {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(351);
+			setState(278);
 			additionalStemlineClone();
-			setState(353); 
+			setState(280); 
 			_errHandler.sync(this);
 			_alt = 1;
 			do {
@@ -1039,7 +817,7 @@ public class KaryotypeParser extends Parser {
 				case 1:
 					{
 					{
-					setState(352);
+					setState(279);
 					sidelineCloneTypeI();
 					}
 					}
@@ -1047,9 +825,9 @@ public class KaryotypeParser extends Parser {
 				default:
 					throw new NoViableAltException(this);
 				}
-				setState(355); 
+				setState(282); 
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,26,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,16,_ctx);
 			} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
 			}
 		}
@@ -1094,20 +872,21 @@ public class KaryotypeParser extends Parser {
 		StemlineCloneContext _localctx = new StemlineCloneContext(_ctx, getState());
 		enterRule(_localctx, 16, RULE_stemlineClone);
 		i = i + 1;
+		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(358);
+			setState(285);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,27,_ctx) ) {
-			case 1:
+			_la = _input.LA(1);
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__3) | (1L << T__4) | (1L << T__32) | (1L << T__33) | (1L << T__40) | (1L << T__41))) != 0)) {
 				{
-				setState(357);
+				setState(284);
 				ploidy();
 				}
-				break;
 			}
-			setState(360);
+
+			setState(287);
 			karyotypeI();
 			}
 			_ctx.stop = _input.LT(-1);
@@ -1125,24 +904,12 @@ public class KaryotypeParser extends Parser {
 	}
 
 	public static class AdditionalStemlineCloneContext extends ParserRuleContext {
-		public String s = "";
-		public int l = 0;
-		public PloidyContext ploidy;
-		public KaryotypeIContext karyotypeI;
-		public TooManySlantContext tooManySlant;
-		public IncorrectSlantContext incorrectSlant;
 		public KaryotypeIContext karyotypeI() {
 			return getRuleContext(KaryotypeIContext.class,0);
 		}
 		public PloidyContext ploidy() {
 			return getRuleContext(PloidyContext.class,0);
 		}
-		public TooManySlantContext tooManySlant() {
-			return getRuleContext(TooManySlantContext.class,0);
-		}
-		public IncorrectSlantContext incorrectSlant() {
-			return getRuleContext(IncorrectSlantContext.class,0);
-		}
 		public AdditionalStemlineCloneContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -1166,111 +933,24 @@ public class KaryotypeParser extends Parser {
 		AdditionalStemlineCloneContext _localctx = new AdditionalStemlineCloneContext(_ctx, getState());
 		enterRule(_localctx, 18, RULE_additionalStemlineClone);
 		i = i + 1;
+		int _la;
 		try {
-			setState(387);
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(289);
+			match(T__1);
+			setState(291);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,32,_ctx) ) {
-			case 1:
-				enterOuterAlt(_localctx, 1);
-				{
-				setState(362);
-				match(T__1);
-				setState(364);
-				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,28,_ctx) ) {
-				case 1:
-					{
-					setState(363);
-					ploidy();
-					}
-					break;
-				}
-				setState(366);
-				karyotypeI();
-				}
-				break;
-			case 2:
-				enterOuterAlt(_localctx, 2);
+			_la = _input.LA(1);
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__3) | (1L << T__4) | (1L << T__32) | (1L << T__33) | (1L << T__40) | (1L << T__41))) != 0)) {
 				{
-				setState(368);
-				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,29,_ctx) ) {
-				case 1:
-					{
-					setState(367);
-					((AdditionalStemlineCloneContext)_localctx).ploidy = ploidy();
-					}
-					break;
+				setState(290);
+				ploidy();
 				}
-				setState(370);
-				((AdditionalStemlineCloneContext)_localctx).karyotypeI = karyotypeI();
+			}
 
-					if ((((AdditionalStemlineCloneContext)_localctx).ploidy!=null?_input.getText(((AdditionalStemlineCloneContext)_localctx).ploidy.start,((AdditionalStemlineCloneContext)_localctx).ploidy.stop):null) != null) {
-						((AdditionalStemlineCloneContext)_localctx).s =  (((AdditionalStemlineCloneContext)_localctx).ploidy!=null?_input.getText(((AdditionalStemlineCloneContext)_localctx).ploidy.start,((AdditionalStemlineCloneContext)_localctx).ploidy.stop):null) + (((AdditionalStemlineCloneContext)_localctx).karyotypeI!=null?_input.getText(((AdditionalStemlineCloneContext)_localctx).karyotypeI.start,((AdditionalStemlineCloneContext)_localctx).karyotypeI.stop):null);
-					} else {
-						((AdditionalStemlineCloneContext)_localctx).s =  (((AdditionalStemlineCloneContext)_localctx).karyotypeI!=null?_input.getText(((AdditionalStemlineCloneContext)_localctx).karyotypeI.start,((AdditionalStemlineCloneContext)_localctx).karyotypeI.stop):null);
-					}
-					((AdditionalStemlineCloneContext)_localctx).l =  _localctx.s.length();
-					notifyErrorListeners(_localctx.l + "|Missing a slant line before '" + _localctx.s + "'");
-				  
-				}
-				break;
-			case 3:
-				enterOuterAlt(_localctx, 3);
-				{
-				setState(373);
-				((AdditionalStemlineCloneContext)_localctx).tooManySlant = tooManySlant();
-				setState(375);
-				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,30,_ctx) ) {
-				case 1:
-					{
-					setState(374);
-					((AdditionalStemlineCloneContext)_localctx).ploidy = ploidy();
-					}
-					break;
-				}
-				setState(377);
-				((AdditionalStemlineCloneContext)_localctx).karyotypeI = karyotypeI();
-
-					if ((((AdditionalStemlineCloneContext)_localctx).ploidy!=null?_input.getText(((AdditionalStemlineCloneContext)_localctx).ploidy.start,((AdditionalStemlineCloneContext)_localctx).ploidy.stop):null) != null) {
-						((AdditionalStemlineCloneContext)_localctx).s =  (((AdditionalStemlineCloneContext)_localctx).ploidy!=null?_input.getText(((AdditionalStemlineCloneContext)_localctx).ploidy.start,((AdditionalStemlineCloneContext)_localctx).ploidy.stop):null) + (((AdditionalStemlineCloneContext)_localctx).karyotypeI!=null?_input.getText(((AdditionalStemlineCloneContext)_localctx).karyotypeI.start,((AdditionalStemlineCloneContext)_localctx).karyotypeI.stop):null);
-					} else {
-						((AdditionalStemlineCloneContext)_localctx).s =  (((AdditionalStemlineCloneContext)_localctx).karyotypeI!=null?_input.getText(((AdditionalStemlineCloneContext)_localctx).karyotypeI.start,((AdditionalStemlineCloneContext)_localctx).karyotypeI.stop):null);
-					}
-					((AdditionalStemlineCloneContext)_localctx).l =  _localctx.s.length() + (((AdditionalStemlineCloneContext)_localctx).tooManySlant!=null?_input.getText(((AdditionalStemlineCloneContext)_localctx).tooManySlant.start,((AdditionalStemlineCloneContext)_localctx).tooManySlant.stop):null).length();
-					notifyErrorListeners(_localctx.l + "|Too many slant lines before '" + _localctx.s + "'");
-				  
-				}
-				break;
-			case 4:
-				enterOuterAlt(_localctx, 4);
-				{
-				setState(380);
-				((AdditionalStemlineCloneContext)_localctx).incorrectSlant = incorrectSlant();
-				setState(382);
-				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,31,_ctx) ) {
-				case 1:
-					{
-					setState(381);
-					((AdditionalStemlineCloneContext)_localctx).ploidy = ploidy();
-					}
-					break;
-				}
-				setState(384);
-				((AdditionalStemlineCloneContext)_localctx).karyotypeI = karyotypeI();
-
-					if ((((AdditionalStemlineCloneContext)_localctx).ploidy!=null?_input.getText(((AdditionalStemlineCloneContext)_localctx).ploidy.start,((AdditionalStemlineCloneContext)_localctx).ploidy.stop):null) != null) {
-						((AdditionalStemlineCloneContext)_localctx).s =  (((AdditionalStemlineCloneContext)_localctx).ploidy!=null?_input.getText(((AdditionalStemlineCloneContext)_localctx).ploidy.start,((AdditionalStemlineCloneContext)_localctx).ploidy.stop):null) + (((AdditionalStemlineCloneContext)_localctx).karyotypeI!=null?_input.getText(((AdditionalStemlineCloneContext)_localctx).karyotypeI.start,((AdditionalStemlineCloneContext)_localctx).karyotypeI.stop):null);
-					} else {
-						((AdditionalStemlineCloneContext)_localctx).s =  (((AdditionalStemlineCloneContext)_localctx).karyotypeI!=null?_input.getText(((AdditionalStemlineCloneContext)_localctx).karyotypeI.start,((AdditionalStemlineCloneContext)_localctx).karyotypeI.stop):null);
-					}
-					((AdditionalStemlineCloneContext)_localctx).l =  _localctx.s.length() + (((AdditionalStemlineCloneContext)_localctx).incorrectSlant!=null?_input.getText(((AdditionalStemlineCloneContext)_localctx).incorrectSlant.start,((AdditionalStemlineCloneContext)_localctx).incorrectSlant.stop):null).length();
-					notifyErrorListeners(_localctx.l + "|Incorrect clone separation before '" + _localctx.s + "'");
-				  
-				}
-				break;
+			setState(293);
+			karyotypeI();
 			}
 			_ctx.stop = _input.LT(-1);
 			sexChrList = new ArrayList<>();
@@ -1287,24 +967,12 @@ public class KaryotypeParser extends Parser {
 	}
 
 	public static class SidelineCloneTypeIContext extends ParserRuleContext {
-		public String s = "";
-		public int l = 0;
-		public PloidyContext ploidy;
-		public KaryotypeIIIContext karyotypeIII;
-		public TooManySlantContext tooManySlant;
-		public IncorrectSlantContext incorrectSlant;
 		public KaryotypeIIIContext karyotypeIII() {
 			return getRuleContext(KaryotypeIIIContext.class,0);
 		}
 		public PloidyContext ploidy() {
 			return getRuleContext(PloidyContext.class,0);
 		}
-		public TooManySlantContext tooManySlant() {
-			return getRuleContext(TooManySlantContext.class,0);
-		}
-		public IncorrectSlantContext incorrectSlant() {
-			return getRuleContext(IncorrectSlantContext.class,0);
-		}
 		public SidelineCloneTypeIContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -1330,110 +998,22 @@ public class KaryotypeParser extends Parser {
 		i = i + 1;
 		int _la;
 		try {
-			setState(414);
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(295);
+			match(T__1);
+			setState(297);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,37,_ctx) ) {
-			case 1:
-				enterOuterAlt(_localctx, 1);
-				{
-				setState(389);
-				match(T__1);
-				setState(391);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__3) | (1L << T__4) | (1L << T__36) | (1L << T__37) | (1L << T__44) | (1L << T__45))) != 0)) {
-					{
-					setState(390);
-					ploidy();
-					}
-				}
-
-				setState(393);
-				karyotypeIII();
-				}
-				break;
-			case 2:
-				enterOuterAlt(_localctx, 2);
-				{
-				setState(395);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__3) | (1L << T__4) | (1L << T__36) | (1L << T__37) | (1L << T__44) | (1L << T__45))) != 0)) {
-					{
-					setState(394);
-					((SidelineCloneTypeIContext)_localctx).ploidy = ploidy();
-					}
-				}
-
-				setState(397);
-				((SidelineCloneTypeIContext)_localctx).karyotypeIII = karyotypeIII();
-
-					if ((((SidelineCloneTypeIContext)_localctx).ploidy!=null?_input.getText(((SidelineCloneTypeIContext)_localctx).ploidy.start,((SidelineCloneTypeIContext)_localctx).ploidy.stop):null) != null) {
-						((SidelineCloneTypeIContext)_localctx).s =  (((SidelineCloneTypeIContext)_localctx).ploidy!=null?_input.getText(((SidelineCloneTypeIContext)_localctx).ploidy.start,((SidelineCloneTypeIContext)_localctx).ploidy.stop):null) + (((SidelineCloneTypeIContext)_localctx).karyotypeIII!=null?_input.getText(((SidelineCloneTypeIContext)_localctx).karyotypeIII.start,((SidelineCloneTypeIContext)_localctx).karyotypeIII.stop):null);
-					} else {
-						((SidelineCloneTypeIContext)_localctx).s =  (((SidelineCloneTypeIContext)_localctx).karyotypeIII!=null?_input.getText(((SidelineCloneTypeIContext)_localctx).karyotypeIII.start,((SidelineCloneTypeIContext)_localctx).karyotypeIII.stop):null);
-					}
-					((SidelineCloneTypeIContext)_localctx).l =  _localctx.s.length();
-					notifyErrorListeners(_localctx.l + "|Missing a slant line before '" + _localctx.s + "'");	
-				  
-				}
-				break;
-			case 3:
-				enterOuterAlt(_localctx, 3);
-				{
-				setState(400);
-				((SidelineCloneTypeIContext)_localctx).tooManySlant = tooManySlant();
-				setState(402);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__3) | (1L << T__4) | (1L << T__36) | (1L << T__37) | (1L << T__44) | (1L << T__45))) != 0)) {
-					{
-					setState(401);
-					((SidelineCloneTypeIContext)_localctx).ploidy = ploidy();
-					}
-				}
-
-				setState(404);
-				((SidelineCloneTypeIContext)_localctx).karyotypeIII = karyotypeIII();
-
-					if ((((SidelineCloneTypeIContext)_localctx).ploidy!=null?_input.getText(((SidelineCloneTypeIContext)_localctx).ploidy.start,((SidelineCloneTypeIContext)_localctx).ploidy.stop):null) != null) {
-						((SidelineCloneTypeIContext)_localctx).s =  (((SidelineCloneTypeIContext)_localctx).ploidy!=null?_input.getText(((SidelineCloneTypeIContext)_localctx).ploidy.start,((SidelineCloneTypeIContext)_localctx).ploidy.stop):null) + (((SidelineCloneTypeIContext)_localctx).karyotypeIII!=null?_input.getText(((SidelineCloneTypeIContext)_localctx).karyotypeIII.start,((SidelineCloneTypeIContext)_localctx).karyotypeIII.stop):null);
-					} else {
-						((SidelineCloneTypeIContext)_localctx).s =  (((SidelineCloneTypeIContext)_localctx).karyotypeIII!=null?_input.getText(((SidelineCloneTypeIContext)_localctx).karyotypeIII.start,((SidelineCloneTypeIContext)_localctx).karyotypeIII.stop):null);
-					}
-					((SidelineCloneTypeIContext)_localctx).l =  _localctx.s.length() + (((SidelineCloneTypeIContext)_localctx).tooManySlant!=null?_input.getText(((SidelineCloneTypeIContext)_localctx).tooManySlant.start,((SidelineCloneTypeIContext)_localctx).tooManySlant.stop):null).length();
-					notifyErrorListeners(_localctx.l + "|Too many slant lines before '" + _localctx.s + "'");	
-				  
-				}
-				break;
-			case 4:
-				enterOuterAlt(_localctx, 4);
+			_la = _input.LA(1);
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__3) | (1L << T__4) | (1L << T__32) | (1L << T__33) | (1L << T__40) | (1L << T__41))) != 0)) {
 				{
-				setState(407);
-				((SidelineCloneTypeIContext)_localctx).incorrectSlant = incorrectSlant();
-				setState(409);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__3) | (1L << T__4) | (1L << T__36) | (1L << T__37) | (1L << T__44) | (1L << T__45))) != 0)) {
-					{
-					setState(408);
-					((SidelineCloneTypeIContext)_localctx).ploidy = ploidy();
-					}
+				setState(296);
+				ploidy();
 				}
+			}
 
-				setState(411);
-				((SidelineCloneTypeIContext)_localctx).karyotypeIII = karyotypeIII();
-
-					if ((((SidelineCloneTypeIContext)_localctx).ploidy!=null?_input.getText(((SidelineCloneTypeIContext)_localctx).ploidy.start,((SidelineCloneTypeIContext)_localctx).ploidy.stop):null) != null) {
-						((SidelineCloneTypeIContext)_localctx).s =  (((SidelineCloneTypeIContext)_localctx).ploidy!=null?_input.getText(((SidelineCloneTypeIContext)_localctx).ploidy.start,((SidelineCloneTypeIContext)_localctx).ploidy.stop):null) + (((SidelineCloneTypeIContext)_localctx).karyotypeIII!=null?_input.getText(((SidelineCloneTypeIContext)_localctx).karyotypeIII.start,((SidelineCloneTypeIContext)_localctx).karyotypeIII.stop):null);
-					} else {
-						((SidelineCloneTypeIContext)_localctx).s =  (((SidelineCloneTypeIContext)_localctx).karyotypeIII!=null?_input.getText(((SidelineCloneTypeIContext)_localctx).karyotypeIII.start,((SidelineCloneTypeIContext)_localctx).karyotypeIII.stop):null);
-					}
-					((SidelineCloneTypeIContext)_localctx).l =  _localctx.s.length() + (((SidelineCloneTypeIContext)_localctx).incorrectSlant!=null?_input.getText(((SidelineCloneTypeIContext)_localctx).incorrectSlant.start,((SidelineCloneTypeIContext)_localctx).incorrectSlant.stop):null).length();
-					notifyErrorListeners(_localctx.l + "|Incorrect clone separation before '" + _localctx.s + "'");
-				  
-				}
-				break;
+			setState(299);
+			karyotypeIII();
 			}
 			_ctx.stop = _input.LT(-1);
 			sexChrList = new ArrayList<>();
@@ -1450,24 +1030,12 @@ public class KaryotypeParser extends Parser {
 	}
 
 	public static class SidelineCloneTypeIIContext extends ParserRuleContext {
-		public String s = "";
-		public int l = 0;
-		public PloidyContext ploidy;
-		public KaryotypeIVContext karyotypeIV;
-		public TooManySlantContext tooManySlant;
-		public IncorrectSlantContext incorrectSlant;
 		public KaryotypeIVContext karyotypeIV() {
 			return getRuleContext(KaryotypeIVContext.class,0);
 		}
 		public PloidyContext ploidy() {
 			return getRuleContext(PloidyContext.class,0);
 		}
-		public TooManySlantContext tooManySlant() {
-			return getRuleContext(TooManySlantContext.class,0);
-		}
-		public IncorrectSlantContext incorrectSlant() {
-			return getRuleContext(IncorrectSlantContext.class,0);
-		}
 		public SidelineCloneTypeIIContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -1493,110 +1061,22 @@ public class KaryotypeParser extends Parser {
 		i = i + 1;
 		int _la;
 		try {
-			setState(441);
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(301);
+			match(T__1);
+			setState(303);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,42,_ctx) ) {
-			case 1:
-				enterOuterAlt(_localctx, 1);
-				{
-				setState(416);
-				match(T__1);
-				setState(418);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__3) | (1L << T__4) | (1L << T__36) | (1L << T__37) | (1L << T__44) | (1L << T__45))) != 0)) {
-					{
-					setState(417);
-					ploidy();
-					}
-				}
-
-				setState(420);
-				karyotypeIV();
-				}
-				break;
-			case 2:
-				enterOuterAlt(_localctx, 2);
-				{
-				setState(422);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__3) | (1L << T__4) | (1L << T__36) | (1L << T__37) | (1L << T__44) | (1L << T__45))) != 0)) {
-					{
-					setState(421);
-					((SidelineCloneTypeIIContext)_localctx).ploidy = ploidy();
-					}
-				}
-
-				setState(424);
-				((SidelineCloneTypeIIContext)_localctx).karyotypeIV = karyotypeIV();
-
-					if ((((SidelineCloneTypeIIContext)_localctx).ploidy!=null?_input.getText(((SidelineCloneTypeIIContext)_localctx).ploidy.start,((SidelineCloneTypeIIContext)_localctx).ploidy.stop):null) != null) {
-						((SidelineCloneTypeIIContext)_localctx).s =  (((SidelineCloneTypeIIContext)_localctx).ploidy!=null?_input.getText(((SidelineCloneTypeIIContext)_localctx).ploidy.start,((SidelineCloneTypeIIContext)_localctx).ploidy.stop):null) + (((SidelineCloneTypeIIContext)_localctx).karyotypeIV!=null?_input.getText(((SidelineCloneTypeIIContext)_localctx).karyotypeIV.start,((SidelineCloneTypeIIContext)_localctx).karyotypeIV.stop):null);
-					} else {
-						((SidelineCloneTypeIIContext)_localctx).s =  (((SidelineCloneTypeIIContext)_localctx).karyotypeIV!=null?_input.getText(((SidelineCloneTypeIIContext)_localctx).karyotypeIV.start,((SidelineCloneTypeIIContext)_localctx).karyotypeIV.stop):null);
-					}
-					((SidelineCloneTypeIIContext)_localctx).l =  _localctx.s.length();
-					notifyErrorListeners(_localctx.l + "|Missing a slant line before '" + _localctx.s + "'");
-				  
-				}
-				break;
-			case 3:
-				enterOuterAlt(_localctx, 3);
-				{
-				setState(427);
-				((SidelineCloneTypeIIContext)_localctx).tooManySlant = tooManySlant();
-				setState(429);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__3) | (1L << T__4) | (1L << T__36) | (1L << T__37) | (1L << T__44) | (1L << T__45))) != 0)) {
-					{
-					setState(428);
-					((SidelineCloneTypeIIContext)_localctx).ploidy = ploidy();
-					}
-				}
-
-				setState(431);
-				((SidelineCloneTypeIIContext)_localctx).karyotypeIV = karyotypeIV();
-
-					if ((((SidelineCloneTypeIIContext)_localctx).ploidy!=null?_input.getText(((SidelineCloneTypeIIContext)_localctx).ploidy.start,((SidelineCloneTypeIIContext)_localctx).ploidy.stop):null) != null) {
-						((SidelineCloneTypeIIContext)_localctx).s =  (((SidelineCloneTypeIIContext)_localctx).ploidy!=null?_input.getText(((SidelineCloneTypeIIContext)_localctx).ploidy.start,((SidelineCloneTypeIIContext)_localctx).ploidy.stop):null) + (((SidelineCloneTypeIIContext)_localctx).karyotypeIV!=null?_input.getText(((SidelineCloneTypeIIContext)_localctx).karyotypeIV.start,((SidelineCloneTypeIIContext)_localctx).karyotypeIV.stop):null);
-					} else {
-						((SidelineCloneTypeIIContext)_localctx).s =  (((SidelineCloneTypeIIContext)_localctx).karyotypeIV!=null?_input.getText(((SidelineCloneTypeIIContext)_localctx).karyotypeIV.start,((SidelineCloneTypeIIContext)_localctx).karyotypeIV.stop):null);
-					}
-					((SidelineCloneTypeIIContext)_localctx).l =  _localctx.s.length() + (((SidelineCloneTypeIIContext)_localctx).tooManySlant!=null?_input.getText(((SidelineCloneTypeIIContext)_localctx).tooManySlant.start,((SidelineCloneTypeIIContext)_localctx).tooManySlant.stop):null).length();
-					notifyErrorListeners(_localctx.l + "|Too many slant lines before '" + _localctx.s + "'");	
-				  
-				}
-				break;
-			case 4:
-				enterOuterAlt(_localctx, 4);
+			_la = _input.LA(1);
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__3) | (1L << T__4) | (1L << T__32) | (1L << T__33) | (1L << T__40) | (1L << T__41))) != 0)) {
 				{
-				setState(434);
-				((SidelineCloneTypeIIContext)_localctx).incorrectSlant = incorrectSlant();
-				setState(436);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__3) | (1L << T__4) | (1L << T__36) | (1L << T__37) | (1L << T__44) | (1L << T__45))) != 0)) {
-					{
-					setState(435);
-					((SidelineCloneTypeIIContext)_localctx).ploidy = ploidy();
-					}
+				setState(302);
+				ploidy();
 				}
+			}
 
-				setState(438);
-				((SidelineCloneTypeIIContext)_localctx).karyotypeIV = karyotypeIV();
-
-					if ((((SidelineCloneTypeIIContext)_localctx).ploidy!=null?_input.getText(((SidelineCloneTypeIIContext)_localctx).ploidy.start,((SidelineCloneTypeIIContext)_localctx).ploidy.stop):null) != null) {
-						((SidelineCloneTypeIIContext)_localctx).s =  (((SidelineCloneTypeIIContext)_localctx).ploidy!=null?_input.getText(((SidelineCloneTypeIIContext)_localctx).ploidy.start,((SidelineCloneTypeIIContext)_localctx).ploidy.stop):null) + (((SidelineCloneTypeIIContext)_localctx).karyotypeIV!=null?_input.getText(((SidelineCloneTypeIIContext)_localctx).karyotypeIV.start,((SidelineCloneTypeIIContext)_localctx).karyotypeIV.stop):null);
-					} else {
-						((SidelineCloneTypeIIContext)_localctx).s =  (((SidelineCloneTypeIIContext)_localctx).karyotypeIV!=null?_input.getText(((SidelineCloneTypeIIContext)_localctx).karyotypeIV.start,((SidelineCloneTypeIIContext)_localctx).karyotypeIV.stop):null);
-					}
-					((SidelineCloneTypeIIContext)_localctx).l =  _localctx.s.length() + (((SidelineCloneTypeIIContext)_localctx).incorrectSlant!=null?_input.getText(((SidelineCloneTypeIIContext)_localctx).incorrectSlant.start,((SidelineCloneTypeIIContext)_localctx).incorrectSlant.stop):null).length();
-					notifyErrorListeners(_localctx.l + "|Incorrect clone separation before '" + _localctx.s + "'");	
-				  
-				}
-				break;
+			setState(305);
+			karyotypeIV();
 			}
 			_ctx.stop = _input.LT(-1);
 			sexChrList = new ArrayList<>();
@@ -1613,24 +1093,12 @@ public class KaryotypeParser extends Parser {
 	}
 
 	public static class AdditionalCloneContext extends ParserRuleContext {
-		public String s = "";
-		public int l = 0;
-		public PloidyContext ploidy;
-		public KaryotypeIContext karyotypeI;
-		public TooManySlantContext tooManySlant;
-		public IncorrectSlantContext incorrectSlant;
 		public KaryotypeIContext karyotypeI() {
 			return getRuleContext(KaryotypeIContext.class,0);
 		}
 		public PloidyContext ploidy() {
 			return getRuleContext(PloidyContext.class,0);
 		}
-		public TooManySlantContext tooManySlant() {
-			return getRuleContext(TooManySlantContext.class,0);
-		}
-		public IncorrectSlantContext incorrectSlant() {
-			return getRuleContext(IncorrectSlantContext.class,0);
-		}
 		public AdditionalCloneContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -1654,111 +1122,24 @@ public class KaryotypeParser extends Parser {
 		AdditionalCloneContext _localctx = new AdditionalCloneContext(_ctx, getState());
 		enterRule(_localctx, 24, RULE_additionalClone);
 		i = i + 1;
+		int _la;
 		try {
-			setState(468);
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(307);
+			match(T__1);
+			setState(309);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,47,_ctx) ) {
-			case 1:
-				enterOuterAlt(_localctx, 1);
-				{
-				setState(443);
-				match(T__1);
-				setState(445);
-				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,43,_ctx) ) {
-				case 1:
-					{
-					setState(444);
-					ploidy();
-					}
-					break;
-				}
-				setState(447);
-				karyotypeI();
-				}
-				break;
-			case 2:
-				enterOuterAlt(_localctx, 2);
-				{
-				setState(449);
-				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,44,_ctx) ) {
-				case 1:
-					{
-					setState(448);
-					((AdditionalCloneContext)_localctx).ploidy = ploidy();
-					}
-					break;
-				}
-				setState(451);
-				((AdditionalCloneContext)_localctx).karyotypeI = karyotypeI();
-
-					if ((((AdditionalCloneContext)_localctx).ploidy!=null?_input.getText(((AdditionalCloneContext)_localctx).ploidy.start,((AdditionalCloneContext)_localctx).ploidy.stop):null) != null) {
-						((AdditionalCloneContext)_localctx).s =  (((AdditionalCloneContext)_localctx).ploidy!=null?_input.getText(((AdditionalCloneContext)_localctx).ploidy.start,((AdditionalCloneContext)_localctx).ploidy.stop):null) + (((AdditionalCloneContext)_localctx).karyotypeI!=null?_input.getText(((AdditionalCloneContext)_localctx).karyotypeI.start,((AdditionalCloneContext)_localctx).karyotypeI.stop):null);
-					} else {
-						((AdditionalCloneContext)_localctx).s =  (((AdditionalCloneContext)_localctx).karyotypeI!=null?_input.getText(((AdditionalCloneContext)_localctx).karyotypeI.start,((AdditionalCloneContext)_localctx).karyotypeI.stop):null);
-					}
-					((AdditionalCloneContext)_localctx).l =  _localctx.s.length();
-					notifyErrorListeners(_localctx.l + "|Missing a slant line before '" + _localctx.s + "'");	
-				  
-				}
-				break;
-			case 3:
-				enterOuterAlt(_localctx, 3);
-				{
-				setState(454);
-				((AdditionalCloneContext)_localctx).tooManySlant = tooManySlant();
-				setState(456);
-				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,45,_ctx) ) {
-				case 1:
-					{
-					setState(455);
-					((AdditionalCloneContext)_localctx).ploidy = ploidy();
-					}
-					break;
-				}
-				setState(458);
-				((AdditionalCloneContext)_localctx).karyotypeI = karyotypeI();
-
-					if ((((AdditionalCloneContext)_localctx).ploidy!=null?_input.getText(((AdditionalCloneContext)_localctx).ploidy.start,((AdditionalCloneContext)_localctx).ploidy.stop):null) != null) {
-						((AdditionalCloneContext)_localctx).s =  (((AdditionalCloneContext)_localctx).ploidy!=null?_input.getText(((AdditionalCloneContext)_localctx).ploidy.start,((AdditionalCloneContext)_localctx).ploidy.stop):null) + (((AdditionalCloneContext)_localctx).karyotypeI!=null?_input.getText(((AdditionalCloneContext)_localctx).karyotypeI.start,((AdditionalCloneContext)_localctx).karyotypeI.stop):null);
-					} else {
-						((AdditionalCloneContext)_localctx).s =  (((AdditionalCloneContext)_localctx).karyotypeI!=null?_input.getText(((AdditionalCloneContext)_localctx).karyotypeI.start,((AdditionalCloneContext)_localctx).karyotypeI.stop):null);
-					}
-					((AdditionalCloneContext)_localctx).l =  _localctx.s.length() + (((AdditionalCloneContext)_localctx).tooManySlant!=null?_input.getText(((AdditionalCloneContext)_localctx).tooManySlant.start,((AdditionalCloneContext)_localctx).tooManySlant.stop):null).length();
-					notifyErrorListeners(_localctx.l + "|Too many slant lines before '" + _localctx.s + "'");
-				  
-				}
-				break;
-			case 4:
-				enterOuterAlt(_localctx, 4);
+			_la = _input.LA(1);
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__3) | (1L << T__4) | (1L << T__32) | (1L << T__33) | (1L << T__40) | (1L << T__41))) != 0)) {
 				{
-				setState(461);
-				((AdditionalCloneContext)_localctx).incorrectSlant = incorrectSlant();
-				setState(463);
-				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,46,_ctx) ) {
-				case 1:
-					{
-					setState(462);
-					((AdditionalCloneContext)_localctx).ploidy = ploidy();
-					}
-					break;
+				setState(308);
+				ploidy();
 				}
-				setState(465);
-				((AdditionalCloneContext)_localctx).karyotypeI = karyotypeI();
+			}
 
-					if ((((AdditionalCloneContext)_localctx).ploidy!=null?_input.getText(((AdditionalCloneContext)_localctx).ploidy.start,((AdditionalCloneContext)_localctx).ploidy.stop):null) != null) {
-						((AdditionalCloneContext)_localctx).s =  (((AdditionalCloneContext)_localctx).ploidy!=null?_input.getText(((AdditionalCloneContext)_localctx).ploidy.start,((AdditionalCloneContext)_localctx).ploidy.stop):null) + (((AdditionalCloneContext)_localctx).karyotypeI!=null?_input.getText(((AdditionalCloneContext)_localctx).karyotypeI.start,((AdditionalCloneContext)_localctx).karyotypeI.stop):null);
-					} else {
-						((AdditionalCloneContext)_localctx).s =  (((AdditionalCloneContext)_localctx).karyotypeI!=null?_input.getText(((AdditionalCloneContext)_localctx).karyotypeI.start,((AdditionalCloneContext)_localctx).karyotypeI.stop):null);
-					}
-					((AdditionalCloneContext)_localctx).l =  _localctx.s.length() + (((AdditionalCloneContext)_localctx).incorrectSlant!=null?_input.getText(((AdditionalCloneContext)_localctx).incorrectSlant.start,((AdditionalCloneContext)_localctx).incorrectSlant.stop):null).length();
-					notifyErrorListeners(_localctx.l + "|Incorrect clone separation before '" + _localctx.s + "'");	
-				  
-				}
-				break;
+			setState(311);
+			karyotypeI();
 			}
 			_ctx.stop = _input.LT(-1);
 			sexChrList = new ArrayList<>();
@@ -1826,117 +1207,112 @@ public class KaryotypeParser extends Parser {
 		enterRule(_localctx, 26, RULE_karyotypeI);
 		int _la;
 		try {
-			int _alt;
-			setState(518);
+			setState(348);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,59,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,30,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(471);
+				setState(314);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__7) | (1L << T__8) | (1L << T__17) | (1L << T__18))) != 0)) {
 					{
-					setState(470);
+					setState(313);
 					mosChi();
 					}
 				}
 
-				setState(473);
+				setState(316);
 				chrNum();
-				setState(475);
+				setState(318);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__22) | (1L << T__30) | (1L << T__32) | (1L << T__33) | (1L << POSITIVEDIGIT))) != 0)) {
+				if (_la==T__21) {
 					{
-					setState(474);
+					setState(317);
 					modalNum();
 					}
 				}
 
-				setState(477);
+				setState(320);
 				gender();
-				setState(481);
+				setState(324);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,50,_ctx);
-				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
-					if ( _alt==1 ) {
-						{
-						{
-						setState(478);
-						regularEvent();
-						}
-						} 
+				_la = _input.LA(1);
+				while (_la==T__2) {
+					{
+					{
+					setState(321);
+					regularEvent();
 					}
-					setState(483);
+					}
+					setState(326);
 					_errHandler.sync(this);
-					_alt = getInterpreter().adaptivePredict(_input,50,_ctx);
+					_la = _input.LA(1);
 				}
-				setState(485);
+				setState(328);
 				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,51,_ctx) ) {
-				case 1:
+				_la = _input.LA(1);
+				if (_la==T__44) {
 					{
-					setState(484);
+					setState(327);
 					cellNum();
 					}
-					break;
 				}
+
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(488);
+				setState(331);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__7) | (1L << T__8) | (1L << T__17) | (1L << T__18))) != 0)) {
 					{
-					setState(487);
+					setState(330);
 					((KaryotypeIContext)_localctx).mosChi = mosChi();
 					}
 				}
 
-				setState(490);
+				setState(333);
 				((KaryotypeIContext)_localctx).chrNum = chrNum();
-				setState(492);
+				setState(335);
 				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,53,_ctx) ) {
-				case 1:
+				_la = _input.LA(1);
+				if (_la==T__21) {
 					{
-					setState(491);
+					setState(334);
 					((KaryotypeIContext)_localctx).modalNum = modalNum();
 					}
-					break;
 				}
-				setState(497);
+
+				setState(340);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,54,_ctx);
-				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
-					if ( _alt==1 ) {
-						{
-						{
-						setState(494);
-						((KaryotypeIContext)_localctx).r = regularEvent();
-						}
-						} 
+				_la = _input.LA(1);
+				while (_la==T__2) {
+					{
+					{
+					setState(337);
+					((KaryotypeIContext)_localctx).r = regularEvent();
 					}
-					setState(499);
+					}
+					setState(342);
 					_errHandler.sync(this);
-					_alt = getInterpreter().adaptivePredict(_input,54,_ctx);
+					_la = _input.LA(1);
 				}
-				setState(501);
+				setState(344);
 				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,55,_ctx) ) {
-				case 1:
+				_la = _input.LA(1);
+				if (_la==T__44) {
 					{
-					setState(500);
+					setState(343);
 					((KaryotypeIContext)_localctx).cellNum = cellNum();
 					}
-					break;
 				}
 
+
 					if (sexChrList.size() == 0) {	
 						if ((((KaryotypeIContext)_localctx).mosChi!=null?_input.getText(((KaryotypeIContext)_localctx).mosChi.start,((KaryotypeIContext)_localctx).mosChi.stop):null) != null) {
 							((KaryotypeIContext)_localctx).l =  _localctx.l + (((KaryotypeIContext)_localctx).mosChi!=null?_input.getText(((KaryotypeIContext)_localctx).mosChi.start,((KaryotypeIContext)_localctx).mosChi.stop):null).length();
@@ -1954,61 +1330,6 @@ public class KaryotypeParser extends Parser {
 						notifyErrorListeners(_localctx.l + "|Missing gender in clone # " + i);
 					}
 				  
-				}
-				break;
-			case 3:
-				enterOuterAlt(_localctx, 3);
-				{
-				setState(506);
-				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,56,_ctx) ) {
-				case 1:
-					{
-					setState(505);
-					((KaryotypeIContext)_localctx).mosChi = mosChi();
-					}
-					break;
-				}
-				setState(509); 
-				_errHandler.sync(this);
-				_alt = 1;
-				do {
-					switch (_alt) {
-					case 1:
-						{
-						{
-						setState(508);
-						((KaryotypeIContext)_localctx).r = regularEvent();
-						}
-						}
-						break;
-					default:
-						throw new NoViableAltException(this);
-					}
-					setState(511); 
-					_errHandler.sync(this);
-					_alt = getInterpreter().adaptivePredict(_input,57,_ctx);
-				} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
-				setState(514);
-				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,58,_ctx) ) {
-				case 1:
-					{
-					setState(513);
-					((KaryotypeIContext)_localctx).cellNum = cellNum();
-					}
-					break;
-				}
-
-					if ((((KaryotypeIContext)_localctx).mosChi!=null?_input.getText(((KaryotypeIContext)_localctx).mosChi.start,((KaryotypeIContext)_localctx).mosChi.stop):null) != null) {
-						((KaryotypeIContext)_localctx).l =  _localctx.l + (((KaryotypeIContext)_localctx).mosChi!=null?_input.getText(((KaryotypeIContext)_localctx).mosChi.start,((KaryotypeIContext)_localctx).mosChi.stop):null).length();
-					}
-					((KaryotypeIContext)_localctx).l =  _localctx.l + (((KaryotypeIContext)_localctx).r!=null?_input.getText(((KaryotypeIContext)_localctx).r.start,((KaryotypeIContext)_localctx).r.stop):null).length();
-					if ((((KaryotypeIContext)_localctx).cellNum!=null?_input.getText(((KaryotypeIContext)_localctx).cellNum.start,((KaryotypeIContext)_localctx).cellNum.stop):null) != null) {
-						((KaryotypeIContext)_localctx).l =  _localctx.l + (((KaryotypeIContext)_localctx).cellNum!=null?_input.getText(((KaryotypeIContext)_localctx).cellNum.start,((KaryotypeIContext)_localctx).cellNum.stop):null).length();
-					}	
-					notifyErrorListeners(_localctx.l + "|Missing chromosome numbers and gender");
-				  
 				}
 				break;
 			}
@@ -2027,11 +1348,10 @@ public class KaryotypeParser extends Parser {
 	public static class KaryotypeIIContext extends ParserRuleContext {
 		public int l = 0;
 		public MosChiContext mosChi;
-		public IdemSpecialContext idemSpecial;
-		public RegularEventContext r;
-		public CellNumContext cellNum;
 		public ChrNumContext chrNum;
 		public ModalNumContext modalNum;
+		public RegularEventContext r;
+		public CellNumContext cellNum;
 		public ChrNumContext chrNum() {
 			return getRuleContext(ChrNumContext.class,0);
 		}
@@ -2080,285 +1400,220 @@ public class KaryotypeParser extends Parser {
 		enterRule(_localctx, 28, RULE_karyotypeII);
 		int _la;
 		try {
-			int _alt;
-			setState(618);
+			setState(420);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,82,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,47,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(521);
+				setState(351);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__7) | (1L << T__8) | (1L << T__17) | (1L << T__18))) != 0)) {
 					{
-					setState(520);
+					setState(350);
 					mosChi();
 					}
 				}
 
-				setState(523);
+				setState(353);
 				chrNum();
-				setState(525);
+				setState(355);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__22) | (1L << T__30) | (1L << T__32) | (1L << T__33) | (1L << POSITIVEDIGIT))) != 0)) {
+				if (_la==T__21) {
 					{
-					setState(524);
+					setState(354);
 					modalNum();
 					}
 				}
 
-				setState(527);
+				setState(357);
 				gender();
-				setState(528);
+				setState(358);
 				idemSpecial();
-				setState(532);
+				setState(362);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,62,_ctx);
-				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
-					if ( _alt==1 ) {
-						{
-						{
-						setState(529);
-						regularEvent();
-						}
-						} 
+				_la = _input.LA(1);
+				while (_la==T__2) {
+					{
+					{
+					setState(359);
+					regularEvent();
+					}
 					}
-					setState(534);
+					setState(364);
 					_errHandler.sync(this);
-					_alt = getInterpreter().adaptivePredict(_input,62,_ctx);
+					_la = _input.LA(1);
 				}
-				setState(536);
+				setState(366);
 				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,63,_ctx) ) {
-				case 1:
+				_la = _input.LA(1);
+				if (_la==T__44) {
 					{
-					setState(535);
+					setState(365);
 					cellNum();
 					}
-					break;
 				}
+
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(539);
+				setState(369);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__7) | (1L << T__8) | (1L << T__17) | (1L << T__18))) != 0)) {
 					{
-					setState(538);
+					setState(368);
 					mosChi();
 					}
 				}
 
-				setState(541);
+				setState(371);
 				chrNum();
-				setState(543);
+				setState(373);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__22) | (1L << T__30) | (1L << T__32) | (1L << T__33) | (1L << POSITIVEDIGIT))) != 0)) {
+				if (_la==T__21) {
 					{
-					setState(542);
+					setState(372);
 					modalNum();
 					}
 				}
 
-				setState(545);
+				setState(375);
 				gender();
-				setState(549);
+				setState(379);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,66,_ctx);
-				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
-					if ( _alt==1 ) {
-						{
-						{
-						setState(546);
-						regularEvent();
-						}
-						} 
+				_la = _input.LA(1);
+				while (_la==T__2) {
+					{
+					{
+					setState(376);
+					regularEvent();
 					}
-					setState(551);
+					}
+					setState(381);
 					_errHandler.sync(this);
-					_alt = getInterpreter().adaptivePredict(_input,66,_ctx);
+					_la = _input.LA(1);
 				}
-				setState(553);
+				setState(383);
 				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,67,_ctx) ) {
-				case 1:
+				_la = _input.LA(1);
+				if (_la==T__44) {
 					{
-					setState(552);
+					setState(382);
 					cellNum();
 					}
-					break;
 				}
+
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(556);
+				setState(386);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__7) | (1L << T__8) | (1L << T__17) | (1L << T__18))) != 0)) {
 					{
-					setState(555);
+					setState(385);
 					mosChi();
 					}
 				}
 
-				setState(558);
+				setState(388);
 				chrNum();
-				setState(560);
+				setState(390);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__22) | (1L << T__30) | (1L << T__32) | (1L << T__33) | (1L << POSITIVEDIGIT))) != 0)) {
+				if (_la==T__21) {
 					{
-					setState(559);
+					setState(389);
 					modalNum();
 					}
 				}
 
-				setState(562);
+				setState(392);
 				idemSpecial();
-				setState(566);
+				setState(396);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,70,_ctx);
-				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
-					if ( _alt==1 ) {
-						{
-						{
-						setState(563);
-						regularEvent();
-						}
-						} 
+				_la = _input.LA(1);
+				while (_la==T__2) {
+					{
+					{
+					setState(393);
+					regularEvent();
 					}
-					setState(568);
+					}
+					setState(398);
 					_errHandler.sync(this);
-					_alt = getInterpreter().adaptivePredict(_input,70,_ctx);
+					_la = _input.LA(1);
 				}
-				setState(570);
+				setState(400);
 				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,71,_ctx) ) {
-				case 1:
+				_la = _input.LA(1);
+				if (_la==T__44) {
 					{
-					setState(569);
+					setState(399);
 					cellNum();
 					}
-					break;
 				}
+
 				}
 				break;
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(573);
+				setState(403);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__7) | (1L << T__8) | (1L << T__17) | (1L << T__18))) != 0)) {
 					{
-					setState(572);
+					setState(402);
 					((KaryotypeIIContext)_localctx).mosChi = mosChi();
 					}
 				}
 
-				setState(575);
-				((KaryotypeIIContext)_localctx).idemSpecial = idemSpecial();
-				setState(579);
-				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,73,_ctx);
-				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
-					if ( _alt==1 ) {
-						{
-						{
-						setState(576);
-						((KaryotypeIIContext)_localctx).r = regularEvent();
-						}
-						} 
-					}
-					setState(581);
-					_errHandler.sync(this);
-					_alt = getInterpreter().adaptivePredict(_input,73,_ctx);
-				}
-				setState(583);
+				setState(405);
+				((KaryotypeIIContext)_localctx).chrNum = chrNum();
+				setState(407);
 				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,74,_ctx) ) {
-				case 1:
+				_la = _input.LA(1);
+				if (_la==T__21) {
 					{
-					setState(582);
-					((KaryotypeIIContext)_localctx).cellNum = cellNum();
+					setState(406);
+					((KaryotypeIIContext)_localctx).modalNum = modalNum();
 					}
-					break;
 				}
 
-					if ((((KaryotypeIIContext)_localctx).mosChi!=null?_input.getText(((KaryotypeIIContext)_localctx).mosChi.start,((KaryotypeIIContext)_localctx).mosChi.stop):null) != null) {
-						((KaryotypeIIContext)_localctx).l =  _localctx.l + (((KaryotypeIIContext)_localctx).mosChi!=null?_input.getText(((KaryotypeIIContext)_localctx).mosChi.start,((KaryotypeIIContext)_localctx).mosChi.stop):null).length();
-					}
-					((KaryotypeIIContext)_localctx).l =  _localctx.l + (((KaryotypeIIContext)_localctx).idemSpecial!=null?_input.getText(((KaryotypeIIContext)_localctx).idemSpecial.start,((KaryotypeIIContext)_localctx).idemSpecial.stop):null).length();
-					if ((((KaryotypeIIContext)_localctx).r!=null?_input.getText(((KaryotypeIIContext)_localctx).r.start,((KaryotypeIIContext)_localctx).r.stop):null) != null) {
-						((KaryotypeIIContext)_localctx).l =  _localctx.l + (((KaryotypeIIContext)_localctx).r!=null?_input.getText(((KaryotypeIIContext)_localctx).r.start,((KaryotypeIIContext)_localctx).r.stop):null).length();
-					}
-					if ((((KaryotypeIIContext)_localctx).cellNum!=null?_input.getText(((KaryotypeIIContext)_localctx).cellNum.start,((KaryotypeIIContext)_localctx).cellNum.stop):null) != null) {
-						((KaryotypeIIContext)_localctx).l =  _localctx.l + (((KaryotypeIIContext)_localctx).cellNum!=null?_input.getText(((KaryotypeIIContext)_localctx).cellNum.start,((KaryotypeIIContext)_localctx).cellNum.stop):null).length();
-					}
-					notifyErrorListeners(_localctx.l + "|Missing chromosome numbers");
-				  
-				}
-				break;
-			case 5:
-				enterOuterAlt(_localctx, 5);
-				{
-				setState(588);
+				setState(412);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__7) | (1L << T__8) | (1L << T__17) | (1L << T__18))) != 0)) {
+				while (_la==T__2) {
 					{
-					setState(587);
-					((KaryotypeIIContext)_localctx).mosChi = mosChi();
-					}
-				}
-
-				setState(590);
-				((KaryotypeIIContext)_localctx).chrNum = chrNum();
-				setState(592);
-				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,76,_ctx) ) {
-				case 1:
 					{
-					setState(591);
-					((KaryotypeIIContext)_localctx).modalNum = modalNum();
+					setState(409);
+					((KaryotypeIIContext)_localctx).r = regularEvent();
 					}
-					break;
-				}
-				setState(597);
-				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,77,_ctx);
-				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
-					if ( _alt==1 ) {
-						{
-						{
-						setState(594);
-						((KaryotypeIIContext)_localctx).r = regularEvent();
-						}
-						} 
 					}
-					setState(599);
+					setState(414);
 					_errHandler.sync(this);
-					_alt = getInterpreter().adaptivePredict(_input,77,_ctx);
+					_la = _input.LA(1);
 				}
-				setState(601);
+				setState(416);
 				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,78,_ctx) ) {
-				case 1:
+				_la = _input.LA(1);
+				if (_la==T__44) {
 					{
-					setState(600);
+					setState(415);
 					((KaryotypeIIContext)_localctx).cellNum = cellNum();
 					}
-					break;
 				}
 
+
 					if (sexChrList.size() == 0) {
 						if ((((KaryotypeIIContext)_localctx).mosChi!=null?_input.getText(((KaryotypeIIContext)_localctx).mosChi.start,((KaryotypeIIContext)_localctx).mosChi.stop):null) != null) {
 							((KaryotypeIIContext)_localctx).l =  _localctx.l + (((KaryotypeIIContext)_localctx).mosChi!=null?_input.getText(((KaryotypeIIContext)_localctx).mosChi.start,((KaryotypeIIContext)_localctx).mosChi.stop):null).length();
@@ -2376,61 +1631,6 @@ public class KaryotypeParser extends Parser {
 						notifyErrorListeners(_localctx.l + "|Missing gender in clone # " + i);
 					}
 				  
-				}
-				break;
-			case 6:
-				enterOuterAlt(_localctx, 6);
-				{
-				setState(606);
-				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,79,_ctx) ) {
-				case 1:
-					{
-					setState(605);
-					((KaryotypeIIContext)_localctx).mosChi = mosChi();
-					}
-					break;
-				}
-				setState(609); 
-				_errHandler.sync(this);
-				_alt = 1;
-				do {
-					switch (_alt) {
-					case 1:
-						{
-						{
-						setState(608);
-						((KaryotypeIIContext)_localctx).r = regularEvent();
-						}
-						}
-						break;
-					default:
-						throw new NoViableAltException(this);
-					}
-					setState(611); 
-					_errHandler.sync(this);
-					_alt = getInterpreter().adaptivePredict(_input,80,_ctx);
-				} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
-				setState(614);
-				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,81,_ctx) ) {
-				case 1:
-					{
-					setState(613);
-					((KaryotypeIIContext)_localctx).cellNum = cellNum();
-					}
-					break;
-				}
-
-					if ((((KaryotypeIIContext)_localctx).mosChi!=null?_input.getText(((KaryotypeIIContext)_localctx).mosChi.start,((KaryotypeIIContext)_localctx).mosChi.stop):null) != null) {
-						((KaryotypeIIContext)_localctx).l =  _localctx.l + (((KaryotypeIIContext)_localctx).mosChi!=null?_input.getText(((KaryotypeIIContext)_localctx).mosChi.start,((KaryotypeIIContext)_localctx).mosChi.stop):null).length();
-					}
-					((KaryotypeIIContext)_localctx).l =  _localctx.l + (((KaryotypeIIContext)_localctx).r!=null?_input.getText(((KaryotypeIIContext)_localctx).r.start,((KaryotypeIIContext)_localctx).r.stop):null).length();
-					if ((((KaryotypeIIContext)_localctx).cellNum!=null?_input.getText(((KaryotypeIIContext)_localctx).cellNum.start,((KaryotypeIIContext)_localctx).cellNum.stop):null) != null) {
-						((KaryotypeIIContext)_localctx).l =  _localctx.l + (((KaryotypeIIContext)_localctx).cellNum!=null?_input.getText(((KaryotypeIIContext)_localctx).cellNum.start,((KaryotypeIIContext)_localctx).cellNum.stop):null).length();
-					}	
-					notifyErrorListeners(_localctx.l + "|Missing chromosome numbers and gender");
-				  
 				}
 				break;
 			}
@@ -2447,11 +1647,6 @@ public class KaryotypeParser extends Parser {
 	}
 
 	public static class KaryotypeIIIContext extends ParserRuleContext {
-		public int l = 0;
-		public MosChiContext mosChi;
-		public SlSpecialContext slSpecial;
-		public RegularEventContext r;
-		public CellNumContext cellNum;
 		public ChrNumContext chrNum() {
 			return getRuleContext(ChrNumContext.class,0);
 		}
@@ -2497,121 +1692,56 @@ public class KaryotypeParser extends Parser {
 		enterRule(_localctx, 30, RULE_karyotypeIII);
 		int _la;
 		try {
-			int _alt;
-			setState(652);
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(423);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,90,_ctx) ) {
-			case 1:
-				enterOuterAlt(_localctx, 1);
+			_la = _input.LA(1);
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__7) | (1L << T__8) | (1L << T__17) | (1L << T__18))) != 0)) {
 				{
-				setState(621);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__7) | (1L << T__8) | (1L << T__17) | (1L << T__18))) != 0)) {
-					{
-					setState(620);
-					mosChi();
-					}
+				setState(422);
+				mosChi();
 				}
+			}
 
-				setState(623);
-				chrNum();
-				setState(625);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__22) | (1L << T__30) | (1L << T__32) | (1L << T__33) | (1L << POSITIVEDIGIT))) != 0)) {
-					{
-					setState(624);
-					modalNum();
-					}
+			setState(425);
+			chrNum();
+			setState(427);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==T__21) {
+				{
+				setState(426);
+				modalNum();
 				}
+			}
 
-				setState(627);
-				slSpecial();
-				setState(631);
-				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,85,_ctx);
-				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
-					if ( _alt==1 ) {
-						{
-						{
-						setState(628);
-						regularEvent();
-						}
-						} 
-					}
-					setState(633);
-					_errHandler.sync(this);
-					_alt = getInterpreter().adaptivePredict(_input,85,_ctx);
-				}
-				setState(635);
-				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,86,_ctx) ) {
-				case 1:
-					{
-					setState(634);
-					cellNum();
-					}
-					break;
-				}
-				}
-				break;
-			case 2:
-				enterOuterAlt(_localctx, 2);
+			setState(429);
+			slSpecial();
+			setState(433);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==T__2) {
 				{
-				setState(638);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__7) | (1L << T__8) | (1L << T__17) | (1L << T__18))) != 0)) {
-					{
-					setState(637);
-					((KaryotypeIIIContext)_localctx).mosChi = mosChi();
-					}
+				{
+				setState(430);
+				regularEvent();
 				}
-
-				setState(640);
-				((KaryotypeIIIContext)_localctx).slSpecial = slSpecial();
-				setState(644);
-				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,88,_ctx);
-				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
-					if ( _alt==1 ) {
-						{
-						{
-						setState(641);
-						((KaryotypeIIIContext)_localctx).r = regularEvent();
-						}
-						} 
-					}
-					setState(646);
-					_errHandler.sync(this);
-					_alt = getInterpreter().adaptivePredict(_input,88,_ctx);
 				}
-				setState(648);
+				setState(435);
 				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,89,_ctx) ) {
-				case 1:
-					{
-					setState(647);
-					((KaryotypeIIIContext)_localctx).cellNum = cellNum();
-					}
-					break;
+				_la = _input.LA(1);
+			}
+			setState(437);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==T__44) {
+				{
+				setState(436);
+				cellNum();
 				}
+			}
 
-					if ((((KaryotypeIIIContext)_localctx).mosChi!=null?_input.getText(((KaryotypeIIIContext)_localctx).mosChi.start,((KaryotypeIIIContext)_localctx).mosChi.stop):null) != null) {
-						((KaryotypeIIIContext)_localctx).l =  _localctx.l + (((KaryotypeIIIContext)_localctx).mosChi!=null?_input.getText(((KaryotypeIIIContext)_localctx).mosChi.start,((KaryotypeIIIContext)_localctx).mosChi.stop):null).length();
-					}
-					((KaryotypeIIIContext)_localctx).l =  _localctx.l + (((KaryotypeIIIContext)_localctx).slSpecial!=null?_input.getText(((KaryotypeIIIContext)_localctx).slSpecial.start,((KaryotypeIIIContext)_localctx).slSpecial.stop):null).length();
-					if ((((KaryotypeIIIContext)_localctx).r!=null?_input.getText(((KaryotypeIIIContext)_localctx).r.start,((KaryotypeIIIContext)_localctx).r.stop):null) != null) {
-						((KaryotypeIIIContext)_localctx).l =  _localctx.l + (((KaryotypeIIIContext)_localctx).r!=null?_input.getText(((KaryotypeIIIContext)_localctx).r.start,((KaryotypeIIIContext)_localctx).r.stop):null).length();
-					}
-					if ((((KaryotypeIIIContext)_localctx).cellNum!=null?_input.getText(((KaryotypeIIIContext)_localctx).cellNum.start,((KaryotypeIIIContext)_localctx).cellNum.stop):null) != null) {
-						((KaryotypeIIIContext)_localctx).l =  _localctx.l + (((KaryotypeIIIContext)_localctx).cellNum!=null?_input.getText(((KaryotypeIIIContext)_localctx).cellNum.start,((KaryotypeIIIContext)_localctx).cellNum.stop):null).length();
-					}
-					notifyErrorListeners(_localctx.l + "|Missing chromosome numbers");
-				  
-				}
-				break;
 			}
 		}
 		catch (RecognitionException re) {
@@ -2626,11 +1756,6 @@ public class KaryotypeParser extends Parser {
 	}
 
 	public static class KaryotypeIVContext extends ParserRuleContext {
-		public int l = 0;
-		public MosChiContext mosChi;
-		public SdlSpecialContext sdlSpecial;
-		public RegularEventContext r;
-		public CellNumContext cellNum;
 		public ChrNumContext chrNum() {
 			return getRuleContext(ChrNumContext.class,0);
 		}
@@ -2676,121 +1801,56 @@ public class KaryotypeParser extends Parser {
 		enterRule(_localctx, 32, RULE_karyotypeIV);
 		int _la;
 		try {
-			int _alt;
-			setState(686);
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(440);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,98,_ctx) ) {
-			case 1:
-				enterOuterAlt(_localctx, 1);
+			_la = _input.LA(1);
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__7) | (1L << T__8) | (1L << T__17) | (1L << T__18))) != 0)) {
 				{
-				setState(655);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__7) | (1L << T__8) | (1L << T__17) | (1L << T__18))) != 0)) {
-					{
-					setState(654);
-					mosChi();
-					}
+				setState(439);
+				mosChi();
 				}
+			}
 
-				setState(657);
-				chrNum();
-				setState(659);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__22) | (1L << T__30) | (1L << T__32) | (1L << T__33) | (1L << POSITIVEDIGIT))) != 0)) {
-					{
-					setState(658);
-					modalNum();
-					}
+			setState(442);
+			chrNum();
+			setState(444);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==T__21) {
+				{
+				setState(443);
+				modalNum();
 				}
+			}
 
-				setState(661);
-				sdlSpecial();
-				setState(665);
-				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,93,_ctx);
-				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
-					if ( _alt==1 ) {
-						{
-						{
-						setState(662);
-						regularEvent();
-						}
-						} 
-					}
-					setState(667);
-					_errHandler.sync(this);
-					_alt = getInterpreter().adaptivePredict(_input,93,_ctx);
-				}
-				setState(669);
-				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,94,_ctx) ) {
-				case 1:
-					{
-					setState(668);
-					cellNum();
-					}
-					break;
-				}
-				}
-				break;
-			case 2:
-				enterOuterAlt(_localctx, 2);
+			setState(446);
+			sdlSpecial();
+			setState(450);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==T__2) {
 				{
-				setState(672);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__7) | (1L << T__8) | (1L << T__17) | (1L << T__18))) != 0)) {
-					{
-					setState(671);
-					((KaryotypeIVContext)_localctx).mosChi = mosChi();
-					}
+				{
+				setState(447);
+				regularEvent();
 				}
-
-				setState(674);
-				((KaryotypeIVContext)_localctx).sdlSpecial = sdlSpecial();
-				setState(678);
-				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,96,_ctx);
-				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
-					if ( _alt==1 ) {
-						{
-						{
-						setState(675);
-						((KaryotypeIVContext)_localctx).r = regularEvent();
-						}
-						} 
-					}
-					setState(680);
-					_errHandler.sync(this);
-					_alt = getInterpreter().adaptivePredict(_input,96,_ctx);
 				}
-				setState(682);
+				setState(452);
 				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,97,_ctx) ) {
-				case 1:
-					{
-					setState(681);
-					((KaryotypeIVContext)_localctx).cellNum = cellNum();
-					}
-					break;
+				_la = _input.LA(1);
+			}
+			setState(454);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==T__44) {
+				{
+				setState(453);
+				cellNum();
 				}
+			}
 
-					if ((((KaryotypeIVContext)_localctx).mosChi!=null?_input.getText(((KaryotypeIVContext)_localctx).mosChi.start,((KaryotypeIVContext)_localctx).mosChi.stop):null) != null) {
-						((KaryotypeIVContext)_localctx).l =  _localctx.l + (((KaryotypeIVContext)_localctx).mosChi!=null?_input.getText(((KaryotypeIVContext)_localctx).mosChi.start,((KaryotypeIVContext)_localctx).mosChi.stop):null).length();
-					}
-					((KaryotypeIVContext)_localctx).l =  _localctx.l + (((KaryotypeIVContext)_localctx).sdlSpecial!=null?_input.getText(((KaryotypeIVContext)_localctx).sdlSpecial.start,((KaryotypeIVContext)_localctx).sdlSpecial.stop):null).length();
-					if ((((KaryotypeIVContext)_localctx).r!=null?_input.getText(((KaryotypeIVContext)_localctx).r.start,((KaryotypeIVContext)_localctx).r.stop):null) != null) {
-						((KaryotypeIVContext)_localctx).l =  _localctx.l + (((KaryotypeIVContext)_localctx).r!=null?_input.getText(((KaryotypeIVContext)_localctx).r.start,((KaryotypeIVContext)_localctx).r.stop):null).length();
-					}
-					if ((((KaryotypeIVContext)_localctx).cellNum!=null?_input.getText(((KaryotypeIVContext)_localctx).cellNum.start,((KaryotypeIVContext)_localctx).cellNum.stop):null) != null) {
-						((KaryotypeIVContext)_localctx).l =  _localctx.l + (((KaryotypeIVContext)_localctx).cellNum!=null?_input.getText(((KaryotypeIVContext)_localctx).cellNum.start,((KaryotypeIVContext)_localctx).cellNum.stop):null).length();
-					}	
-					notifyErrorListeners(_localctx.l + "|Missing chromosome numbers");
-				  
-				}
-				break;
 			}
 		}
 		catch (RecognitionException re) {
@@ -2846,41 +1906,41 @@ public class KaryotypeParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(689);
+			setState(457);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__7) | (1L << T__8) | (1L << T__17) | (1L << T__18))) != 0)) {
 				{
-				setState(688);
+				setState(456);
 				mosChi();
 				}
 			}
 
-			setState(698);
+			setState(466);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__48) | (1L << POSITIVEDIGIT) | (1L << QUES))) != 0)) {
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__46) | (1L << POSITIVEDIGIT) | (1L << QUES))) != 0)) {
 				{
-				setState(691);
+				setState(459);
 				chrNum();
-				setState(693);
+				setState(461);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__22) | (1L << T__30) | (1L << T__32) | (1L << T__33) | (1L << POSITIVEDIGIT))) != 0)) {
+				if (_la==T__21) {
 					{
-					setState(692);
+					setState(460);
 					modalNum();
 					}
 				}
 
-				setState(695);
+				setState(463);
 				gender();
-				setState(696);
+				setState(464);
 				match(T__2);
 				}
 			}
 
-			setState(700);
+			setState(468);
 			_la = _input.LA(1);
 			if ( !(_la==T__3 || _la==T__4) ) {
 			_errHandler.recoverInline(this);
@@ -2890,7 +1950,7 @@ public class KaryotypeParser extends Parser {
 				_errHandler.reportMatch(this);
 				consume();
 			}
-			setState(701);
+			setState(469);
 			_la = _input.LA(1);
 			if ( !(_la==T__5 || _la==T__6) ) {
 			_errHandler.recoverInline(this);
@@ -2900,7 +1960,7 @@ public class KaryotypeParser extends Parser {
 				_errHandler.reportMatch(this);
 				consume();
 			}
-			setState(702);
+			setState(470);
 			_la = _input.LA(1);
 			if ( !(_la==T__3 || _la==T__4) ) {
 			_errHandler.recoverInline(this);
@@ -2910,17 +1970,17 @@ public class KaryotypeParser extends Parser {
 				_errHandler.reportMatch(this);
 				consume();
 			}
-			setState(704);
+			setState(472);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==MINUS) {
 				{
-				setState(703);
+				setState(471);
 				match(MINUS);
 				}
 			}
 
-			setState(706);
+			setState(474);
 			_la = _input.LA(1);
 			if ( !(_la==T__7 || _la==T__8) ) {
 			_errHandler.recoverInline(this);
@@ -2930,7 +1990,7 @@ public class KaryotypeParser extends Parser {
 				_errHandler.reportMatch(this);
 				consume();
 			}
-			setState(707);
+			setState(475);
 			_la = _input.LA(1);
 			if ( !(_la==T__9 || _la==T__10) ) {
 			_errHandler.recoverInline(this);
@@ -2940,7 +2000,7 @@ public class KaryotypeParser extends Parser {
 				_errHandler.reportMatch(this);
 				consume();
 			}
-			setState(708);
+			setState(476);
 			_la = _input.LA(1);
 			if ( !(_la==T__5 || _la==T__6) ) {
 			_errHandler.recoverInline(this);
@@ -2950,7 +2010,7 @@ public class KaryotypeParser extends Parser {
 				_errHandler.reportMatch(this);
 				consume();
 			}
-			setState(709);
+			setState(477);
 			_la = _input.LA(1);
 			if ( !(_la==T__3 || _la==T__4) ) {
 			_errHandler.recoverInline(this);
@@ -2960,7 +2020,7 @@ public class KaryotypeParser extends Parser {
 				_errHandler.reportMatch(this);
 				consume();
 			}
-			setState(710);
+			setState(478);
 			_la = _input.LA(1);
 			if ( !(_la==T__11 || _la==T__12) ) {
 			_errHandler.recoverInline(this);
@@ -2970,7 +2030,7 @@ public class KaryotypeParser extends Parser {
 				_errHandler.reportMatch(this);
 				consume();
 			}
-			setState(711);
+			setState(479);
 			_la = _input.LA(1);
 			if ( !(_la==T__9 || _la==T__10) ) {
 			_errHandler.recoverInline(this);
@@ -2980,12 +2040,12 @@ public class KaryotypeParser extends Parser {
 				_errHandler.reportMatch(this);
 				consume();
 			}
-			setState(722);
+			setState(490);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,104,_ctx) ) {
-			case 1:
+			_la = _input.LA(1);
+			if (_la==T__11 || _la==T__12) {
 				{
-				setState(712);
+				setState(480);
 				_la = _input.LA(1);
 				if ( !(_la==T__11 || _la==T__12) ) {
 				_errHandler.recoverInline(this);
@@ -2995,7 +2055,7 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(713);
+				setState(481);
 				_la = _input.LA(1);
 				if ( !(_la==T__13 || _la==T__14) ) {
 				_errHandler.recoverInline(this);
@@ -3005,7 +2065,7 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(714);
+				setState(482);
 				_la = _input.LA(1);
 				if ( !(_la==T__3 || _la==T__4) ) {
 				_errHandler.recoverInline(this);
@@ -3015,12 +2075,12 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(720);
+				setState(488);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==T__5 || _la==T__6) {
 					{
-					setState(715);
+					setState(483);
 					_la = _input.LA(1);
 					if ( !(_la==T__5 || _la==T__6) ) {
 					_errHandler.recoverInline(this);
@@ -3030,7 +2090,7 @@ public class KaryotypeParser extends Parser {
 						_errHandler.reportMatch(this);
 						consume();
 					}
-					setState(716);
+					setState(484);
 					_la = _input.LA(1);
 					if ( !(_la==T__15 || _la==T__16) ) {
 					_errHandler.recoverInline(this);
@@ -3040,7 +2100,7 @@ public class KaryotypeParser extends Parser {
 						_errHandler.reportMatch(this);
 						consume();
 					}
-					setState(717);
+					setState(485);
 					_la = _input.LA(1);
 					if ( !(_la==T__17 || _la==T__18) ) {
 					_errHandler.recoverInline(this);
@@ -3050,7 +2110,7 @@ public class KaryotypeParser extends Parser {
 						_errHandler.reportMatch(this);
 						consume();
 					}
-					setState(718);
+					setState(486);
 					_la = _input.LA(1);
 					if ( !(_la==T__11 || _la==T__12) ) {
 					_errHandler.recoverInline(this);
@@ -3060,7 +2120,7 @@ public class KaryotypeParser extends Parser {
 						_errHandler.reportMatch(this);
 						consume();
 					}
-					setState(719);
+					setState(487);
 					_la = _input.LA(1);
 					if ( !(_la==T__9 || _la==T__10) ) {
 					_errHandler.recoverInline(this);
@@ -3074,18 +2134,18 @@ public class KaryotypeParser extends Parser {
 				}
 
 				}
-				break;
 			}
-			setState(725);
+
+			setState(493);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,105,_ctx) ) {
-			case 1:
+			_la = _input.LA(1);
+			if (_la==T__44) {
 				{
-				setState(724);
+				setState(492);
 				cellNum();
 				}
-				break;
 			}
+
 			}
 		}
 		catch (RecognitionException re) {
@@ -3129,14 +2189,14 @@ public class KaryotypeParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(727);
+			setState(495);
 			modalDesc();
-			setState(736);
+			setState(504);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,107,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,64,_ctx) ) {
 			case 1:
 				{
-				setState(728);
+				setState(496);
 				_la = _input.LA(1);
 				if ( !(_la==T__7 || _la==T__8) ) {
 				_errHandler.recoverInline(this);
@@ -3146,7 +2206,7 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(729);
+				setState(497);
 				_la = _input.LA(1);
 				if ( !(_la==T__9 || _la==T__10) ) {
 				_errHandler.recoverInline(this);
@@ -3156,7 +2216,7 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(730);
+				setState(498);
 				_la = _input.LA(1);
 				if ( !(_la==T__5 || _la==T__6) ) {
 				_errHandler.recoverInline(this);
@@ -3166,7 +2226,7 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(731);
+				setState(499);
 				_la = _input.LA(1);
 				if ( !(_la==T__3 || _la==T__4) ) {
 				_errHandler.recoverInline(this);
@@ -3176,7 +2236,7 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(732);
+				setState(500);
 				_la = _input.LA(1);
 				if ( !(_la==T__19 || _la==T__20) ) {
 				_errHandler.recoverInline(this);
@@ -3186,12 +2246,12 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(734);
+				setState(502);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==COLON) {
 					{
-					setState(733);
+					setState(501);
 					match(COLON);
 					}
 				}
@@ -3212,49 +2272,50 @@ public class KaryotypeParser extends Parser {
 		return _localctx;
 	}
 
-	public static class TooManySlantContext extends ParserRuleContext {
-		public TooManySlantContext(ParserRuleContext parent, int invokingState) {
+	public static class ModalNumContext extends ParserRuleContext {
+		public ModalNumContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
-		@Override public int getRuleIndex() { return RULE_tooManySlant; }
+		@Override public int getRuleIndex() { return RULE_modalNum; }
+	 
+		public ModalNumContext() { }
+		public void copyFrom(ModalNumContext ctx) {
+			super.copyFrom(ctx);
+		}
+	}
+	public static class CorrectModalNumContext extends ModalNumContext {
+		public ModalNumContentContext modalNumContent() {
+			return getRuleContext(ModalNumContentContext.class,0);
+		}
+		public CorrectModalNumContext(ModalNumContext ctx) { copyFrom(ctx); }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterTooManySlant(this);
+			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterCorrectModalNum(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitTooManySlant(this);
+			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitCorrectModalNum(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitTooManySlant(this);
+			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitCorrectModalNum(this);
 			else return visitor.visitChildren(this);
 		}
 	}
 
-	public final TooManySlantContext tooManySlant() throws RecognitionException {
-		TooManySlantContext _localctx = new TooManySlantContext(_ctx, getState());
-		enterRule(_localctx, 38, RULE_tooManySlant);
-		int _la;
+	public final ModalNumContext modalNum() throws RecognitionException {
+		ModalNumContext _localctx = new ModalNumContext(_ctx, getState());
+		enterRule(_localctx, 38, RULE_modalNum);
 		try {
+			_localctx = new CorrectModalNumContext(_localctx);
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(738);
-			match(T__1);
-			setState(740); 
-			_errHandler.sync(this);
-			_la = _input.LA(1);
-			do {
-				{
-				{
-				setState(739);
-				match(T__1);
-				}
-				}
-				setState(742); 
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-			} while ( _la==T__1 );
+			setState(506);
+			match(T__21);
+			setState(507);
+			modalNumContent();
+			setState(508);
+			match(T__22);
 			}
 		}
 		catch (RecognitionException re) {
@@ -3268,276 +2329,46 @@ public class KaryotypeParser extends Parser {
 		return _localctx;
 	}
 
-	public static class IncorrectSlantContext extends ParserRuleContext {
-		public IncorrectSlantContext(ParserRuleContext parent, int invokingState) {
+	public static class ModalNumContentContext extends ParserRuleContext {
+		public TerminalNode POSITIVEDIGIT() { return getToken(KaryotypeParser.POSITIVEDIGIT, 0); }
+		public ModalNumContentContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
-		@Override public int getRuleIndex() { return RULE_incorrectSlant; }
+		@Override public int getRuleIndex() { return RULE_modalNumContent; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterIncorrectSlant(this);
+			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterModalNumContent(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitIncorrectSlant(this);
+			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitModalNumContent(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitIncorrectSlant(this);
+			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitModalNumContent(this);
 			else return visitor.visitChildren(this);
 		}
 	}
 
-	public final IncorrectSlantContext incorrectSlant() throws RecognitionException {
-		IncorrectSlantContext _localctx = new IncorrectSlantContext(_ctx, getState());
-		enterRule(_localctx, 40, RULE_incorrectSlant);
+	public final ModalNumContentContext modalNumContent() throws RecognitionException {
+		ModalNumContentContext _localctx = new ModalNumContentContext(_ctx, getState());
+		enterRule(_localctx, 40, RULE_modalNumContent);
 		int _la;
 		try {
-			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(745); 
-			_errHandler.sync(this);
-			_alt = 1;
-			do {
-				switch (_alt) {
-				case 1:
-					{
-					{
-					setState(744);
-					_la = _input.LA(1);
-					if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__0) | (1L << T__1) | (1L << T__2) | (1L << T__21))) != 0)) ) {
-					_errHandler.recoverInline(this);
-					}
-					else {
-						if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-						_errHandler.reportMatch(this);
-						consume();
-					}
-					}
-					}
-					break;
-				default:
-					throw new NoViableAltException(this);
-				}
-				setState(747); 
-				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,109,_ctx);
-			} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
-	public static class ModalNumContext extends ParserRuleContext {
-		public String s = "";
-		public int l = 0;
-		public ModalNumContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_modalNum; }
-	 
-		public ModalNumContext() { }
-		public void copyFrom(ModalNumContext ctx) {
-			super.copyFrom(ctx);
-			this.s = ctx.s;
-			this.l = ctx.l;
-		}
-	}
-	public static class CorrectModalNumContext extends ModalNumContext {
-		public ModalNumContentContext modalNumContent() {
-			return getRuleContext(ModalNumContentContext.class,0);
-		}
-		public CorrectModalNumContext(ModalNumContext ctx) { copyFrom(ctx); }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterCorrectModalNum(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitCorrectModalNum(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitCorrectModalNum(this);
-			else return visitor.visitChildren(this);
-		}
-	}
-	public static class IncorrectModalNumContext extends ModalNumContext {
-		public ModalNumContentContext modalNumContent;
-		public IncorrectLeftParenthesisContext incorrectLeftParenthesis;
-		public IncorrectRightParenthesisContext incorrectRightParenthesis;
-		public ModalNumContentContext modalNumContent() {
-			return getRuleContext(ModalNumContentContext.class,0);
-		}
-		public IncorrectLeftParenthesisContext incorrectLeftParenthesis() {
-			return getRuleContext(IncorrectLeftParenthesisContext.class,0);
-		}
-		public IncorrectRightParenthesisContext incorrectRightParenthesis() {
-			return getRuleContext(IncorrectRightParenthesisContext.class,0);
-		}
-		public IncorrectModalNumContext(ModalNumContext ctx) { copyFrom(ctx); }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterIncorrectModalNum(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitIncorrectModalNum(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitIncorrectModalNum(this);
-			else return visitor.visitChildren(this);
-		}
-	}
-
-	public final ModalNumContext modalNum() throws RecognitionException {
-		ModalNumContext _localctx = new ModalNumContext(_ctx, getState());
-		enterRule(_localctx, 42, RULE_modalNum);
-		try {
-			setState(769);
-			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,110,_ctx) ) {
-			case 1:
-				_localctx = new CorrectModalNumContext(_localctx);
-				enterOuterAlt(_localctx, 1);
-				{
-				setState(749);
-				match(T__22);
-				setState(750);
-				modalNumContent();
-				setState(751);
-				match(T__23);
-				}
-				break;
-			case 2:
-				_localctx = new IncorrectModalNumContext(_localctx);
-				enterOuterAlt(_localctx, 2);
-				{
-				setState(753);
-				((IncorrectModalNumContext)_localctx).modalNumContent = modalNumContent();
-				setState(754);
-				match(T__23);
-
-				  	((IncorrectModalNumContext)_localctx).s =  (((IncorrectModalNumContext)_localctx).modalNumContent!=null?_input.getText(((IncorrectModalNumContext)_localctx).modalNumContent.start,((IncorrectModalNumContext)_localctx).modalNumContent.stop):null);
-				  	((IncorrectModalNumContext)_localctx).l =  _localctx.s.length() + 1;
-				  	notifyErrorListeners(_localctx.l + "|Missing '<' for a modal number '" + _localctx.s + "'");
-				  
-				}
-				break;
-			case 3:
-				_localctx = new IncorrectModalNumContext(_localctx);
-				enterOuterAlt(_localctx, 3);
-				{
-				setState(757);
-				match(T__22);
-				setState(758);
-				((IncorrectModalNumContext)_localctx).modalNumContent = modalNumContent();
-
-				  	((IncorrectModalNumContext)_localctx).s =  (((IncorrectModalNumContext)_localctx).modalNumContent!=null?_input.getText(((IncorrectModalNumContext)_localctx).modalNumContent.start,((IncorrectModalNumContext)_localctx).modalNumContent.stop):null);
-				  	((IncorrectModalNumContext)_localctx).l =  _localctx.s.length() + 1;
-				  	notifyErrorListeners(_localctx.l + "|Missing '>' for a modal number '" + _localctx.s + "'");
-				  
-				}
-				break;
-			case 4:
-				_localctx = new IncorrectModalNumContext(_localctx);
-				enterOuterAlt(_localctx, 4);
-				{
-				setState(761);
-				((IncorrectModalNumContext)_localctx).modalNumContent = modalNumContent();
-
-				  	((IncorrectModalNumContext)_localctx).s =  (((IncorrectModalNumContext)_localctx).modalNumContent!=null?_input.getText(((IncorrectModalNumContext)_localctx).modalNumContent.start,((IncorrectModalNumContext)_localctx).modalNumContent.stop):null);
-				  	((IncorrectModalNumContext)_localctx).l =  _localctx.s.length();
-				  	notifyErrorListeners(_localctx.l + "|Missing '<>' for a modal number '" + _localctx.s + "'");
-				  
-				}
-				break;
-			case 5:
-				_localctx = new IncorrectModalNumContext(_localctx);
-				enterOuterAlt(_localctx, 5);
-				{
-				setState(764);
-				((IncorrectModalNumContext)_localctx).incorrectLeftParenthesis = incorrectLeftParenthesis();
-				setState(765);
-				((IncorrectModalNumContext)_localctx).modalNumContent = modalNumContent();
-				setState(766);
-				((IncorrectModalNumContext)_localctx).incorrectRightParenthesis = incorrectRightParenthesis();
-
-				  	((IncorrectModalNumContext)_localctx).s =  (((IncorrectModalNumContext)_localctx).modalNumContent!=null?_input.getText(((IncorrectModalNumContext)_localctx).modalNumContent.start,((IncorrectModalNumContext)_localctx).modalNumContent.stop):null);
-				  	((IncorrectModalNumContext)_localctx).l =  _localctx.s.length();
-				  	if ((((IncorrectModalNumContext)_localctx).incorrectLeftParenthesis!=null?_input.getText(((IncorrectModalNumContext)_localctx).incorrectLeftParenthesis.start,((IncorrectModalNumContext)_localctx).incorrectLeftParenthesis.stop):null) != null) {
-				  		((IncorrectModalNumContext)_localctx).l =  _localctx.l + (((IncorrectModalNumContext)_localctx).incorrectLeftParenthesis!=null?_input.getText(((IncorrectModalNumContext)_localctx).incorrectLeftParenthesis.start,((IncorrectModalNumContext)_localctx).incorrectLeftParenthesis.stop):null).length();
-				  	}
-				  	if ((((IncorrectModalNumContext)_localctx).incorrectRightParenthesis!=null?_input.getText(((IncorrectModalNumContext)_localctx).incorrectRightParenthesis.start,((IncorrectModalNumContext)_localctx).incorrectRightParenthesis.stop):null) != null) {
-				  		((IncorrectModalNumContext)_localctx).l =  _localctx.l + (((IncorrectModalNumContext)_localctx).incorrectRightParenthesis!=null?_input.getText(((IncorrectModalNumContext)_localctx).incorrectRightParenthesis.start,((IncorrectModalNumContext)_localctx).incorrectRightParenthesis.stop):null).length();
-				  	}
-				  	notifyErrorListeners(_localctx.l + "|Wrong bracket format for a modal number '" + _localctx.s + "', expecting '<>'");
-				  
-				}
-				break;
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
-	public static class ModalNumContentContext extends ParserRuleContext {
-		public TerminalNode POSITIVEDIGIT() { return getToken(KaryotypeParser.POSITIVEDIGIT, 0); }
-		public ModalNumContentContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_modalNumContent; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterModalNumContent(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitModalNumContent(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitModalNumContent(this);
-			else return visitor.visitChildren(this);
-		}
-	}
-
-	public final ModalNumContentContext modalNumContent() throws RecognitionException {
-		ModalNumContentContext _localctx = new ModalNumContentContext(_ctx, getState());
-		enterRule(_localctx, 44, RULE_modalNumContent);
-		int _la;
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(771);
-			match(POSITIVEDIGIT);
-			setState(772);
-			_la = _input.LA(1);
-			if ( !(_la==T__3 || _la==T__4) ) {
-			_errHandler.recoverInline(this);
-			}
-			else {
-				if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-				_errHandler.reportMatch(this);
-				consume();
-			}
+			setState(510);
+			match(POSITIVEDIGIT);
+			setState(511);
+			_la = _input.LA(1);
+			if ( !(_la==T__3 || _la==T__4) ) {
+			_errHandler.recoverInline(this);
+			}
+			else {
+				if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+				_errHandler.reportMatch(this);
+				consume();
+			}
 			}
 		}
 		catch (RecognitionException re) {
@@ -3552,12 +2383,6 @@ public class KaryotypeParser extends Parser {
 	}
 
 	public static class GenderContext extends ParserRuleContext {
-		public String s = "";
-		public int l = 0;
-		public SexChrContext sexChr;
-		public OrSexContext orSex;
-		public CContext c;
-		public TooManyCommaContext tooManyComma;
 		public SexChrContext sexChr() {
 			return getRuleContext(SexChrContext.class,0);
 		}
@@ -3567,9 +2392,6 @@ public class KaryotypeParser extends Parser {
 		public CContext c() {
 			return getRuleContext(CContext.class,0);
 		}
-		public TooManyCommaContext tooManyComma() {
-			return getRuleContext(TooManyCommaContext.class,0);
-		}
 		public GenderContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -3591,150 +2413,27 @@ public class KaryotypeParser extends Parser {
 
 	public final GenderContext gender() throws RecognitionException {
 		GenderContext _localctx = new GenderContext(_ctx, getState());
-		enterRule(_localctx, 46, RULE_gender);
-		try {
-			setState(795);
-			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,114,_ctx) ) {
-			case 1:
-				enterOuterAlt(_localctx, 1);
-				{
-				setState(774);
-				match(T__2);
-				setState(775);
-				sexChr();
-				setState(776);
-				orSex();
-				setState(778);
-				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,111,_ctx) ) {
-				case 1:
-					{
-					setState(777);
-					c();
-					}
-					break;
-				}
-				}
-				break;
-			case 2:
-				enterOuterAlt(_localctx, 2);
-				{
-				setState(780);
-				((GenderContext)_localctx).sexChr = sexChr();
-				setState(781);
-				((GenderContext)_localctx).orSex = orSex();
-				setState(783);
-				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,112,_ctx) ) {
-				case 1:
-					{
-					setState(782);
-					((GenderContext)_localctx).c = c();
-					}
-					break;
-				}
-
-					((GenderContext)_localctx).s =  (((GenderContext)_localctx).sexChr!=null?_input.getText(((GenderContext)_localctx).sexChr.start,((GenderContext)_localctx).sexChr.stop):null);
-					if ((((GenderContext)_localctx).orSex!=null?_input.getText(((GenderContext)_localctx).orSex.start,((GenderContext)_localctx).orSex.stop):null) != null) {
-						((GenderContext)_localctx).s =  _localctx.s + (((GenderContext)_localctx).orSex!=null?_input.getText(((GenderContext)_localctx).orSex.start,((GenderContext)_localctx).orSex.stop):null);
-					}
-					if ((((GenderContext)_localctx).c!=null?_input.getText(((GenderContext)_localctx).c.start,((GenderContext)_localctx).c.stop):null) != null) {
-						((GenderContext)_localctx).s =  _localctx.s + (((GenderContext)_localctx).c!=null?_input.getText(((GenderContext)_localctx).c.start,((GenderContext)_localctx).c.stop):null);
-					}
-					((GenderContext)_localctx).l =  _localctx.s.length();
-					notifyErrorListeners(_localctx.l + "|Missing a comma before '" + _localctx.s + "'");
-				  
-				}
-				break;
-			case 3:
-				enterOuterAlt(_localctx, 3);
-				{
-				setState(787);
-				((GenderContext)_localctx).tooManyComma = tooManyComma();
-				setState(788);
-				((GenderContext)_localctx).sexChr = sexChr();
-				setState(789);
-				((GenderContext)_localctx).orSex = orSex();
-				setState(791);
-				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,113,_ctx) ) {
-				case 1:
-					{
-					setState(790);
-					((GenderContext)_localctx).c = c();
-					}
-					break;
-				}
-
-					((GenderContext)_localctx).s =  (((GenderContext)_localctx).sexChr!=null?_input.getText(((GenderContext)_localctx).sexChr.start,((GenderContext)_localctx).sexChr.stop):null);
-					if ((((GenderContext)_localctx).orSex!=null?_input.getText(((GenderContext)_localctx).orSex.start,((GenderContext)_localctx).orSex.stop):null) != null) {
-						((GenderContext)_localctx).s =  _localctx.s + (((GenderContext)_localctx).orSex!=null?_input.getText(((GenderContext)_localctx).orSex.start,((GenderContext)_localctx).orSex.stop):null);
-					}
-					if ((((GenderContext)_localctx).c!=null?_input.getText(((GenderContext)_localctx).c.start,((GenderContext)_localctx).c.stop):null) != null) {
-						((GenderContext)_localctx).s =  _localctx.s + (((GenderContext)_localctx).c!=null?_input.getText(((GenderContext)_localctx).c.start,((GenderContext)_localctx).c.stop):null);
-					}
-					((GenderContext)_localctx).l =  _localctx.s.length() + (((GenderContext)_localctx).tooManyComma!=null?_input.getText(((GenderContext)_localctx).tooManyComma.start,((GenderContext)_localctx).tooManyComma.stop):null).length();
-					notifyErrorListeners(_localctx.l + "|Too many commas before '" + _localctx.s + "'");
-				  
-				}
-				break;
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
-	public static class TooManyCommaContext extends ParserRuleContext {
-		public TooManyCommaContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_tooManyComma; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterTooManyComma(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitTooManyComma(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitTooManyComma(this);
-			else return visitor.visitChildren(this);
-		}
-	}
-
-	public final TooManyCommaContext tooManyComma() throws RecognitionException {
-		TooManyCommaContext _localctx = new TooManyCommaContext(_ctx, getState());
-		enterRule(_localctx, 48, RULE_tooManyComma);
+		enterRule(_localctx, 42, RULE_gender);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(797);
+			setState(513);
 			match(T__2);
-			setState(799); 
+			setState(514);
+			sexChr();
+			setState(515);
+			orSex();
+			setState(517);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			do {
+			if (_la==T__7 || _la==T__8) {
 				{
-				{
-				setState(798);
-				match(T__2);
+				setState(516);
+				c();
 				}
-				}
-				setState(801); 
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-			} while ( _la==T__2 );
+			}
+
 			}
 		}
 		catch (RecognitionException re) {
@@ -3776,18 +2475,18 @@ public class KaryotypeParser extends Parser {
 
 	public final OrSexContext orSex() throws RecognitionException {
 		OrSexContext _localctx = new OrSexContext(_ctx, getState());
-		enterRule(_localctx, 50, RULE_orSex);
+		enterRule(_localctx, 44, RULE_orSex);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(808);
+			setState(524);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==T__5 || _la==T__6) {
 				{
 				{
-				setState(803);
+				setState(519);
 				_la = _input.LA(1);
 				if ( !(_la==T__5 || _la==T__6) ) {
 				_errHandler.recoverInline(this);
@@ -3797,7 +2496,7 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(804);
+				setState(520);
 				_la = _input.LA(1);
 				if ( !(_la==T__15 || _la==T__16) ) {
 				_errHandler.recoverInline(this);
@@ -3807,11 +2506,11 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(805);
+				setState(521);
 				sexChr();
 				}
 				}
-				setState(810);
+				setState(526);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -3829,16 +2528,9 @@ public class KaryotypeParser extends Parser {
 	}
 
 	public static class IdemSpecialContext extends ParserRuleContext {
-		public String s = "";
-		public int l = 0;
-		public IdemEventContext idemEvent;
-		public TooManyCommaContext tooManyComma;
 		public IdemEventContext idemEvent() {
 			return getRuleContext(IdemEventContext.class,0);
 		}
-		public TooManyCommaContext tooManyComma() {
-			return getRuleContext(TooManyCommaContext.class,0);
-		}
 		public IdemSpecialContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -3860,46 +2552,14 @@ public class KaryotypeParser extends Parser {
 
 	public final IdemSpecialContext idemSpecial() throws RecognitionException {
 		IdemSpecialContext _localctx = new IdemSpecialContext(_ctx, getState());
-		enterRule(_localctx, 52, RULE_idemSpecial);
+		enterRule(_localctx, 46, RULE_idemSpecial);
 		try {
-			setState(820);
-			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,117,_ctx) ) {
-			case 1:
-				enterOuterAlt(_localctx, 1);
-				{
-				setState(811);
-				match(T__2);
-				setState(812);
-				idemEvent();
-				}
-				break;
-			case 2:
-				enterOuterAlt(_localctx, 2);
-				{
-				setState(813);
-				((IdemSpecialContext)_localctx).idemEvent = idemEvent();
-
-					((IdemSpecialContext)_localctx).s =  (((IdemSpecialContext)_localctx).idemEvent!=null?_input.getText(((IdemSpecialContext)_localctx).idemEvent.start,((IdemSpecialContext)_localctx).idemEvent.stop):null);
-					((IdemSpecialContext)_localctx).l =  _localctx.s.length();
-					notifyErrorListeners(_localctx.l + "|Missing a comma before '" + _localctx.s + "'");
-				  
-				}
-				break;
-			case 3:
-				enterOuterAlt(_localctx, 3);
-				{
-				setState(816);
-				((IdemSpecialContext)_localctx).tooManyComma = tooManyComma();
-				setState(817);
-				((IdemSpecialContext)_localctx).idemEvent = idemEvent();
-
-					((IdemSpecialContext)_localctx).s =  (((IdemSpecialContext)_localctx).idemEvent!=null?_input.getText(((IdemSpecialContext)_localctx).idemEvent.start,((IdemSpecialContext)_localctx).idemEvent.stop):null);
-					((IdemSpecialContext)_localctx).l =  _localctx.s.length() + (((IdemSpecialContext)_localctx).tooManyComma!=null?_input.getText(((IdemSpecialContext)_localctx).tooManyComma.start,((IdemSpecialContext)_localctx).tooManyComma.stop):null).length();
-					notifyErrorListeners(_localctx.l + "|Too many commas before '" + _localctx.s + "'");
-				  
-				}
-				break;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(527);
+			match(T__2);
+			setState(528);
+			idemEvent();
 			}
 		}
 		catch (RecognitionException re) {
@@ -3914,16 +2574,9 @@ public class KaryotypeParser extends Parser {
 	}
 
 	public static class SlSpecialContext extends ParserRuleContext {
-		public String s = "";
-		public int l = 0;
-		public SlEventContext slEvent;
-		public TooManyCommaContext tooManyComma;
 		public SlEventContext slEvent() {
 			return getRuleContext(SlEventContext.class,0);
 		}
-		public TooManyCommaContext tooManyComma() {
-			return getRuleContext(TooManyCommaContext.class,0);
-		}
 		public SlSpecialContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -3945,46 +2598,14 @@ public class KaryotypeParser extends Parser {
 
 	public final SlSpecialContext slSpecial() throws RecognitionException {
 		SlSpecialContext _localctx = new SlSpecialContext(_ctx, getState());
-		enterRule(_localctx, 54, RULE_slSpecial);
+		enterRule(_localctx, 48, RULE_slSpecial);
 		try {
-			setState(831);
-			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,118,_ctx) ) {
-			case 1:
-				enterOuterAlt(_localctx, 1);
-				{
-				setState(822);
-				match(T__2);
-				setState(823);
-				slEvent();
-				}
-				break;
-			case 2:
-				enterOuterAlt(_localctx, 2);
-				{
-				setState(824);
-				((SlSpecialContext)_localctx).slEvent = slEvent();
-
-					((SlSpecialContext)_localctx).s =  (((SlSpecialContext)_localctx).slEvent!=null?_input.getText(((SlSpecialContext)_localctx).slEvent.start,((SlSpecialContext)_localctx).slEvent.stop):null);
-				 	((SlSpecialContext)_localctx).l =  _localctx.s.length();
-					notifyErrorListeners(_localctx.l + "|Missing a comma before '" + _localctx.s + "'");
-				  
-				}
-				break;
-			case 3:
-				enterOuterAlt(_localctx, 3);
-				{
-				setState(827);
-				((SlSpecialContext)_localctx).tooManyComma = tooManyComma();
-				setState(828);
-				((SlSpecialContext)_localctx).slEvent = slEvent();
-
-					((SlSpecialContext)_localctx).s =  (((SlSpecialContext)_localctx).slEvent!=null?_input.getText(((SlSpecialContext)_localctx).slEvent.start,((SlSpecialContext)_localctx).slEvent.stop):null);
-					((SlSpecialContext)_localctx).l =  _localctx.s.length() + (((SlSpecialContext)_localctx).tooManyComma!=null?_input.getText(((SlSpecialContext)_localctx).tooManyComma.start,((SlSpecialContext)_localctx).tooManyComma.stop):null).length();
-					notifyErrorListeners(_localctx.l + "|Too many commas before '" + _localctx.s + "'");
-				  
-				}
-				break;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(530);
+			match(T__2);
+			setState(531);
+			slEvent();
 			}
 		}
 		catch (RecognitionException re) {
@@ -3999,16 +2620,9 @@ public class KaryotypeParser extends Parser {
 	}
 
 	public static class SdlSpecialContext extends ParserRuleContext {
-		public String s = "";
-		public int l = 0;
-		public SdlEventContext sdlEvent;
-		public TooManyCommaContext tooManyComma;
 		public SdlEventContext sdlEvent() {
 			return getRuleContext(SdlEventContext.class,0);
 		}
-		public TooManyCommaContext tooManyComma() {
-			return getRuleContext(TooManyCommaContext.class,0);
-		}
 		public SdlSpecialContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -4030,46 +2644,14 @@ public class KaryotypeParser extends Parser {
 
 	public final SdlSpecialContext sdlSpecial() throws RecognitionException {
 		SdlSpecialContext _localctx = new SdlSpecialContext(_ctx, getState());
-		enterRule(_localctx, 56, RULE_sdlSpecial);
+		enterRule(_localctx, 50, RULE_sdlSpecial);
 		try {
-			setState(842);
-			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,119,_ctx) ) {
-			case 1:
-				enterOuterAlt(_localctx, 1);
-				{
-				setState(833);
-				match(T__2);
-				setState(834);
-				sdlEvent();
-				}
-				break;
-			case 2:
-				enterOuterAlt(_localctx, 2);
-				{
-				setState(835);
-				((SdlSpecialContext)_localctx).sdlEvent = sdlEvent();
-
-					((SdlSpecialContext)_localctx).s =  (((SdlSpecialContext)_localctx).sdlEvent!=null?_input.getText(((SdlSpecialContext)_localctx).sdlEvent.start,((SdlSpecialContext)_localctx).sdlEvent.stop):null);
-				 	((SdlSpecialContext)_localctx).l =  _localctx.s.length();
-					notifyErrorListeners(_localctx.l + "|Missing a comma before '" + _localctx.s + "'");
-				  
-				}
-				break;
-			case 3:
-				enterOuterAlt(_localctx, 3);
-				{
-				setState(838);
-				((SdlSpecialContext)_localctx).tooManyComma = tooManyComma();
-				setState(839);
-				((SdlSpecialContext)_localctx).sdlEvent = sdlEvent();
-
-					((SdlSpecialContext)_localctx).s =  (((SdlSpecialContext)_localctx).sdlEvent!=null?_input.getText(((SdlSpecialContext)_localctx).sdlEvent.start,((SdlSpecialContext)_localctx).sdlEvent.stop):null);
-					((SdlSpecialContext)_localctx).l =  _localctx.s.length() + (((SdlSpecialContext)_localctx).tooManyComma!=null?_input.getText(((SdlSpecialContext)_localctx).tooManyComma.start,((SdlSpecialContext)_localctx).tooManyComma.stop):null).length();
-					notifyErrorListeners(_localctx.l + "|Too many commas before '" + _localctx.s + "'");
-				  
-				}
-				break;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(533);
+			match(T__2);
+			setState(534);
+			sdlEvent();
 			}
 		}
 		catch (RecognitionException re) {
@@ -4084,16 +2666,9 @@ public class KaryotypeParser extends Parser {
 	}
 
 	public static class RegularEventContext extends ParserRuleContext {
-		public String s = "";
-		public int l = 0;
-		public RegEventContext regEvent;
-		public TooManyCommaContext tooManyComma;
 		public RegEventContext regEvent() {
 			return getRuleContext(RegEventContext.class,0);
 		}
-		public TooManyCommaContext tooManyComma() {
-			return getRuleContext(TooManyCommaContext.class,0);
-		}
 		public RegularEventContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -4115,46 +2690,14 @@ public class KaryotypeParser extends Parser {
 
 	public final RegularEventContext regularEvent() throws RecognitionException {
 		RegularEventContext _localctx = new RegularEventContext(_ctx, getState());
-		enterRule(_localctx, 58, RULE_regularEvent);
+		enterRule(_localctx, 52, RULE_regularEvent);
 		try {
-			setState(853);
-			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,120,_ctx) ) {
-			case 1:
-				enterOuterAlt(_localctx, 1);
-				{
-				setState(844);
-				match(T__2);
-				setState(845);
-				regEvent();
-				}
-				break;
-			case 2:
-				enterOuterAlt(_localctx, 2);
-				{
-				setState(846);
-				((RegularEventContext)_localctx).regEvent = regEvent();
-
-					((RegularEventContext)_localctx).s =  (((RegularEventContext)_localctx).regEvent!=null?_input.getText(((RegularEventContext)_localctx).regEvent.start,((RegularEventContext)_localctx).regEvent.stop):null);
-				 	((RegularEventContext)_localctx).l =  _localctx.s.length();
-					notifyErrorListeners(_localctx.l + "|Missing a comma before '" + _localctx.s + "'");
-				  
-				}
-				break;
-			case 3:
-				enterOuterAlt(_localctx, 3);
-				{
-				setState(849);
-				((RegularEventContext)_localctx).tooManyComma = tooManyComma();
-				setState(850);
-				((RegularEventContext)_localctx).regEvent = regEvent();
-
-					((RegularEventContext)_localctx).s =  (((RegularEventContext)_localctx).regEvent!=null?_input.getText(((RegularEventContext)_localctx).regEvent.start,((RegularEventContext)_localctx).regEvent.stop):null);
-					((RegularEventContext)_localctx).l =  _localctx.s.length() + (((RegularEventContext)_localctx).tooManyComma!=null?_input.getText(((RegularEventContext)_localctx).tooManyComma.start,((RegularEventContext)_localctx).tooManyComma.stop):null).length();
-					notifyErrorListeners(_localctx.l + "|Too many commas before '" + _localctx.s + "'");
-				  
-				}
-				break;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(536);
+			match(T__2);
+			setState(537);
+			regEvent();
 			}
 		}
 		catch (RecognitionException re) {
@@ -4168,47 +2711,86 @@ public class KaryotypeParser extends Parser {
 		return _localctx;
 	}
 
-	public static class IncorrectCommaContext extends ParserRuleContext {
-		public IncorrectCommaContext(ParserRuleContext parent, int invokingState) {
+	public static class IdemEventContext extends ParserRuleContext {
+		public MultiplicationContext multiplication() {
+			return getRuleContext(MultiplicationContext.class,0);
+		}
+		public IdemEventContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
-		@Override public int getRuleIndex() { return RULE_incorrectComma; }
+		@Override public int getRuleIndex() { return RULE_idemEvent; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterIncorrectComma(this);
+			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterIdemEvent(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitIncorrectComma(this);
+			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitIdemEvent(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitIncorrectComma(this);
+			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitIdemEvent(this);
 			else return visitor.visitChildren(this);
 		}
 	}
 
-	public final IncorrectCommaContext incorrectComma() throws RecognitionException {
-		IncorrectCommaContext _localctx = new IncorrectCommaContext(_ctx, getState());
-		enterRule(_localctx, 60, RULE_incorrectComma);
+	public final IdemEventContext idemEvent() throws RecognitionException {
+		IdemEventContext _localctx = new IdemEventContext(_ctx, getState());
+		enterRule(_localctx, 54, RULE_idemEvent);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(856); 
+			setState(539);
+			_la = _input.LA(1);
+			if ( !(_la==T__23 || _la==T__24) ) {
+			_errHandler.recoverInline(this);
+			}
+			else {
+				if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+				_errHandler.reportMatch(this);
+				consume();
+			}
+			setState(540);
+			_la = _input.LA(1);
+			if ( !(_la==T__25 || _la==T__26) ) {
+			_errHandler.recoverInline(this);
+			}
+			else {
+				if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+				_errHandler.reportMatch(this);
+				consume();
+			}
+			setState(541);
+			_la = _input.LA(1);
+			if ( !(_la==T__19 || _la==T__20) ) {
+			_errHandler.recoverInline(this);
+			}
+			else {
+				if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+				_errHandler.reportMatch(this);
+				consume();
+			}
+			setState(542);
+			_la = _input.LA(1);
+			if ( !(_la==T__17 || _la==T__18) ) {
+			_errHandler.recoverInline(this);
+			}
+			else {
+				if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+				_errHandler.reportMatch(this);
+				consume();
+			}
+			setState(544);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			do {
-				{
+			if (_la==T__47 || _la==T__48) {
 				{
-				setState(855);
-				match(T__2);
-				}
+				setState(543);
+				multiplication();
 				}
-				setState(858); 
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-			} while ( _la==T__2 );
+			}
+
 			}
 		}
 		catch (RecognitionException re) {
@@ -4222,243 +2804,51 @@ public class KaryotypeParser extends Parser {
 		return _localctx;
 	}
 
-	public static class IdemEventContext extends ParserRuleContext {
-		public String s = "";
-		public int l = 0;
-		public IncorrectCommaContext incorrectComma;
-		public MultiplicationContext multiplication;
+	public static class SlEventContext extends ParserRuleContext {
+		public SlMarkContext slMark() {
+			return getRuleContext(SlMarkContext.class,0);
+		}
 		public MultiplicationContext multiplication() {
 			return getRuleContext(MultiplicationContext.class,0);
 		}
-		public IncorrectCommaContext incorrectComma() {
-			return getRuleContext(IncorrectCommaContext.class,0);
-		}
-		public IdemEventContext(ParserRuleContext parent, int invokingState) {
+		public SlEventContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
-		@Override public int getRuleIndex() { return RULE_idemEvent; }
+		@Override public int getRuleIndex() { return RULE_slEvent; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterIdemEvent(this);
+			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterSlEvent(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitIdemEvent(this);
+			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitSlEvent(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitIdemEvent(this);
+			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitSlEvent(this);
 			else return visitor.visitChildren(this);
 		}
 	}
 
-	public final IdemEventContext idemEvent() throws RecognitionException {
-		IdemEventContext _localctx = new IdemEventContext(_ctx, getState());
-		enterRule(_localctx, 62, RULE_idemEvent);
+	public final SlEventContext slEvent() throws RecognitionException {
+		SlEventContext _localctx = new SlEventContext(_ctx, getState());
+		enterRule(_localctx, 56, RULE_slEvent);
 		int _la;
 		try {
-			setState(875);
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(546);
+			slMark();
+			setState(548);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,123,_ctx) ) {
-			case 1:
-				enterOuterAlt(_localctx, 1);
+			_la = _input.LA(1);
+			if (_la==T__47 || _la==T__48) {
 				{
-				setState(860);
-				_la = _input.LA(1);
-				if ( !(_la==T__24 || _la==T__25) ) {
-				_errHandler.recoverInline(this);
-				}
-				else {
-					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-					_errHandler.reportMatch(this);
-					consume();
-				}
-				setState(861);
-				_la = _input.LA(1);
-				if ( !(_la==T__26 || _la==T__27) ) {
-				_errHandler.recoverInline(this);
-				}
-				else {
-					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-					_errHandler.reportMatch(this);
-					consume();
-				}
-				setState(862);
-				_la = _input.LA(1);
-				if ( !(_la==T__19 || _la==T__20) ) {
-				_errHandler.recoverInline(this);
-				}
-				else {
-					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-					_errHandler.reportMatch(this);
-					consume();
-				}
-				setState(863);
-				_la = _input.LA(1);
-				if ( !(_la==T__17 || _la==T__18) ) {
-				_errHandler.recoverInline(this);
-				}
-				else {
-					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-					_errHandler.reportMatch(this);
-					consume();
-				}
-				setState(865);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-				if (_la==T__49 || _la==T__50) {
-					{
-					setState(864);
-					multiplication();
-					}
+				setState(547);
+				multiplication();
 				}
+			}
 
-				}
-				break;
-			case 2:
-				enterOuterAlt(_localctx, 2);
-				{
-				setState(867);
-				_la = _input.LA(1);
-				if ( !(_la==T__24 || _la==T__25) ) {
-				_errHandler.recoverInline(this);
-				}
-				else {
-					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-					_errHandler.reportMatch(this);
-					consume();
-				}
-				setState(868);
-				_la = _input.LA(1);
-				if ( !(_la==T__26 || _la==T__27) ) {
-				_errHandler.recoverInline(this);
-				}
-				else {
-					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-					_errHandler.reportMatch(this);
-					consume();
-				}
-				setState(869);
-				_la = _input.LA(1);
-				if ( !(_la==T__19 || _la==T__20) ) {
-				_errHandler.recoverInline(this);
-				}
-				else {
-					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-					_errHandler.reportMatch(this);
-					consume();
-				}
-				setState(870);
-				_la = _input.LA(1);
-				if ( !(_la==T__17 || _la==T__18) ) {
-				_errHandler.recoverInline(this);
-				}
-				else {
-					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-					_errHandler.reportMatch(this);
-					consume();
-				}
-				setState(871);
-				((IdemEventContext)_localctx).incorrectComma = incorrectComma();
-				setState(872);
-				((IdemEventContext)_localctx).multiplication = multiplication();
-
-				  	((IdemEventContext)_localctx).s =  (((IdemEventContext)_localctx).multiplication!=null?_input.getText(((IdemEventContext)_localctx).multiplication.start,((IdemEventContext)_localctx).multiplication.stop):null);
-				  	((IdemEventContext)_localctx).l =  _localctx.s.length() + 4 + (((IdemEventContext)_localctx).incorrectComma!=null?_input.getText(((IdemEventContext)_localctx).incorrectComma.start,((IdemEventContext)_localctx).incorrectComma.stop):null).length();
-				  	notifyErrorListeners(_localctx.l + "|No comma should be used between 'idem' and '" + _localctx.s + "'");
-				  
-				}
-				break;
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
-	public static class SlEventContext extends ParserRuleContext {
-		public String s1 = "";
-		public String s2 = "";
-		public int l = 0;
-		public SlMarkContext slMark;
-		public IncorrectCommaContext incorrectComma;
-		public MultiplicationContext multiplication;
-		public SlMarkContext slMark() {
-			return getRuleContext(SlMarkContext.class,0);
-		}
-		public MultiplicationContext multiplication() {
-			return getRuleContext(MultiplicationContext.class,0);
-		}
-		public IncorrectCommaContext incorrectComma() {
-			return getRuleContext(IncorrectCommaContext.class,0);
-		}
-		public SlEventContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_slEvent; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterSlEvent(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitSlEvent(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitSlEvent(this);
-			else return visitor.visitChildren(this);
-		}
-	}
-
-	public final SlEventContext slEvent() throws RecognitionException {
-		SlEventContext _localctx = new SlEventContext(_ctx, getState());
-		enterRule(_localctx, 64, RULE_slEvent);
-		int _la;
-		try {
-			setState(886);
-			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,125,_ctx) ) {
-			case 1:
-				enterOuterAlt(_localctx, 1);
-				{
-				setState(877);
-				slMark();
-				setState(879);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-				if (_la==T__49 || _la==T__50) {
-					{
-					setState(878);
-					multiplication();
-					}
-				}
-
-				}
-				break;
-			case 2:
-				enterOuterAlt(_localctx, 2);
-				{
-				setState(881);
-				((SlEventContext)_localctx).slMark = slMark();
-				setState(882);
-				((SlEventContext)_localctx).incorrectComma = incorrectComma();
-				setState(883);
-				((SlEventContext)_localctx).multiplication = multiplication();
-
-				  	((SlEventContext)_localctx).s1 =  (((SlEventContext)_localctx).slMark!=null?_input.getText(((SlEventContext)_localctx).slMark.start,((SlEventContext)_localctx).slMark.stop):null);
-				  	((SlEventContext)_localctx).s2 =  (((SlEventContext)_localctx).multiplication!=null?_input.getText(((SlEventContext)_localctx).multiplication.start,((SlEventContext)_localctx).multiplication.stop):null);
-				  	((SlEventContext)_localctx).l =  _localctx.s1.length() + _localctx.s2.length() + (((SlEventContext)_localctx).incorrectComma!=null?_input.getText(((SlEventContext)_localctx).incorrectComma.start,((SlEventContext)_localctx).incorrectComma.stop):null).length();
-				  	notifyErrorListeners(_localctx.l + "|No comma should be used between '" + _localctx.s1 + "' and '" + _localctx.s2 + "'");
-				  
-				}
-				break;
 			}
 		}
 		catch (RecognitionException re) {
@@ -4497,14 +2887,14 @@ public class KaryotypeParser extends Parser {
 
 	public final SlMarkContext slMark() throws RecognitionException {
 		SlMarkContext _localctx = new SlMarkContext(_ctx, getState());
-		enterRule(_localctx, 66, RULE_slMark);
+		enterRule(_localctx, 58, RULE_slMark);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(888);
+			setState(550);
 			_la = _input.LA(1);
-			if ( !(_la==T__28 || _la==T__29) ) {
+			if ( !(_la==T__27 || _la==T__28) ) {
 			_errHandler.recoverInline(this);
 			}
 			else {
@@ -4512,7 +2902,7 @@ public class KaryotypeParser extends Parser {
 				_errHandler.reportMatch(this);
 				consume();
 			}
-			setState(889);
+			setState(551);
 			_la = _input.LA(1);
 			if ( !(_la==T__9 || _la==T__10) ) {
 			_errHandler.recoverInline(this);
@@ -4522,16 +2912,16 @@ public class KaryotypeParser extends Parser {
 				_errHandler.reportMatch(this);
 				consume();
 			}
-			setState(891);
+			setState(553);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,126,_ctx) ) {
-			case 1:
+			_la = _input.LA(1);
+			if (_la==T__46 || _la==POSITIVEDIGIT) {
 				{
-				setState(890);
+				setState(552);
 				integer();
 				}
-				break;
 			}
+
 			}
 		}
 		catch (RecognitionException re) {
@@ -4546,21 +2936,12 @@ public class KaryotypeParser extends Parser {
 	}
 
 	public static class SdlEventContext extends ParserRuleContext {
-		public String s1 = "";
-		public String s2 = "";
-		public int l = 0;
-		public SdlMarkContext sdlMark;
-		public IncorrectCommaContext incorrectComma;
-		public MultiplicationContext multiplication;
 		public SdlMarkContext sdlMark() {
 			return getRuleContext(SdlMarkContext.class,0);
 		}
 		public MultiplicationContext multiplication() {
 			return getRuleContext(MultiplicationContext.class,0);
 		}
-		public IncorrectCommaContext incorrectComma() {
-			return getRuleContext(IncorrectCommaContext.class,0);
-		}
 		public SdlEventContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -4582,46 +2963,23 @@ public class KaryotypeParser extends Parser {
 
 	public final SdlEventContext sdlEvent() throws RecognitionException {
 		SdlEventContext _localctx = new SdlEventContext(_ctx, getState());
-		enterRule(_localctx, 68, RULE_sdlEvent);
+		enterRule(_localctx, 60, RULE_sdlEvent);
 		int _la;
 		try {
-			setState(902);
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(555);
+			sdlMark();
+			setState(557);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,128,_ctx) ) {
-			case 1:
-				enterOuterAlt(_localctx, 1);
+			_la = _input.LA(1);
+			if (_la==T__47 || _la==T__48) {
 				{
-				setState(893);
-				sdlMark();
-				setState(895);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-				if (_la==T__49 || _la==T__50) {
-					{
-					setState(894);
-					multiplication();
-					}
+				setState(556);
+				multiplication();
 				}
+			}
 
-				}
-				break;
-			case 2:
-				enterOuterAlt(_localctx, 2);
-				{
-				setState(897);
-				((SdlEventContext)_localctx).sdlMark = sdlMark();
-				setState(898);
-				((SdlEventContext)_localctx).incorrectComma = incorrectComma();
-				setState(899);
-				((SdlEventContext)_localctx).multiplication = multiplication();
-
-				  	((SdlEventContext)_localctx).s1 =  (((SdlEventContext)_localctx).sdlMark!=null?_input.getText(((SdlEventContext)_localctx).sdlMark.start,((SdlEventContext)_localctx).sdlMark.stop):null);
-				  	((SdlEventContext)_localctx).s2 =  (((SdlEventContext)_localctx).multiplication!=null?_input.getText(((SdlEventContext)_localctx).multiplication.start,((SdlEventContext)_localctx).multiplication.stop):null);
-				  	((SdlEventContext)_localctx).l =  _localctx.s1.length() + _localctx.s2.length() + (((SdlEventContext)_localctx).incorrectComma!=null?_input.getText(((SdlEventContext)_localctx).incorrectComma.start,((SdlEventContext)_localctx).incorrectComma.stop):null).length();
-				  	notifyErrorListeners(_localctx.l + "|No comma should be used between '" + _localctx.s1 + "' and '" + _localctx.s2 + "'");
-				  
-				}
-				break;
 			}
 		}
 		catch (RecognitionException re) {
@@ -4660,14 +3018,14 @@ public class KaryotypeParser extends Parser {
 
 	public final SdlMarkContext sdlMark() throws RecognitionException {
 		SdlMarkContext _localctx = new SdlMarkContext(_ctx, getState());
-		enterRule(_localctx, 70, RULE_sdlMark);
+		enterRule(_localctx, 62, RULE_sdlMark);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(904);
+			setState(559);
 			_la = _input.LA(1);
-			if ( !(_la==T__28 || _la==T__29) ) {
+			if ( !(_la==T__27 || _la==T__28) ) {
 			_errHandler.recoverInline(this);
 			}
 			else {
@@ -4675,9 +3033,9 @@ public class KaryotypeParser extends Parser {
 				_errHandler.reportMatch(this);
 				consume();
 			}
-			setState(905);
+			setState(560);
 			_la = _input.LA(1);
-			if ( !(_la==T__26 || _la==T__27) ) {
+			if ( !(_la==T__25 || _la==T__26) ) {
 			_errHandler.recoverInline(this);
 			}
 			else {
@@ -4685,7 +3043,7 @@ public class KaryotypeParser extends Parser {
 				_errHandler.reportMatch(this);
 				consume();
 			}
-			setState(906);
+			setState(561);
 			_la = _input.LA(1);
 			if ( !(_la==T__9 || _la==T__10) ) {
 			_errHandler.recoverInline(this);
@@ -4695,16 +3053,16 @@ public class KaryotypeParser extends Parser {
 				_errHandler.reportMatch(this);
 				consume();
 			}
-			setState(908);
+			setState(563);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,129,_ctx) ) {
-			case 1:
+			_la = _input.LA(1);
+			if (_la==T__46 || _la==POSITIVEDIGIT) {
 				{
-				setState(907);
+				setState(562);
 				integer();
 				}
-				break;
 			}
+
 			}
 		}
 		catch (RecognitionException re) {
@@ -4773,25 +3131,25 @@ public class KaryotypeParser extends Parser {
 
 	public final RegEventContext regEvent() throws RecognitionException {
 		RegEventContext _localctx = new RegEventContext(_ctx, getState());
-		enterRule(_localctx, 72, RULE_regEvent);
+		enterRule(_localctx, 64, RULE_regEvent);
 		int _la;
 		try {
-			setState(919);
+			setState(574);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,131,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,73,_ctx) ) {
 			case 1:
 				_localctx = new MultipleInterpretationRegularEventContext(_localctx);
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(910);
+				setState(565);
 				regEventType();
-				setState(914); 
+				setState(569); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				do {
 					{
 					{
-					setState(911);
+					setState(566);
 					_la = _input.LA(1);
 					if ( !(_la==T__5 || _la==T__6) ) {
 					_errHandler.recoverInline(this);
@@ -4801,7 +3159,7 @@ public class KaryotypeParser extends Parser {
 						_errHandler.reportMatch(this);
 						consume();
 					}
-					setState(912);
+					setState(567);
 					_la = _input.LA(1);
 					if ( !(_la==T__15 || _la==T__16) ) {
 					_errHandler.recoverInline(this);
@@ -4811,11 +3169,11 @@ public class KaryotypeParser extends Parser {
 						_errHandler.reportMatch(this);
 						consume();
 					}
-					setState(913);
+					setState(568);
 					regEventType();
 					}
 					}
-					setState(916); 
+					setState(571); 
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				} while ( _la==T__5 || _la==T__6 );
@@ -4825,7 +3183,7 @@ public class KaryotypeParser extends Parser {
 				_localctx = new SimpleRegularEventContext(_localctx);
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(918);
+				setState(573);
 				regEventType();
 				}
 				break;
@@ -4942,27 +3300,27 @@ public class KaryotypeParser extends Parser {
 
 	public final RegEventTypeContext regEventType() throws RecognitionException {
 		RegEventTypeContext _localctx = new RegEventTypeContext(_ctx, getState());
-		enterRule(_localctx, 74, RULE_regEventType);
+		enterRule(_localctx, 66, RULE_regEventType);
 		int _la;
 		try {
-			setState(945);
+			setState(600);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,137,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,79,_ctx) ) {
 			case 1:
 				_localctx = new UndecodedSpecialEventContext(_localctx);
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(922);
+				setState(577);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==PLUS || _la==QUES) {
 					{
-					setState(921);
+					setState(576);
 					prefixPlus();
 					}
 				}
 
-				setState(924);
+				setState(579);
 				_la = _input.LA(1);
 				if ( !(_la==T__15 || _la==T__16) ) {
 				_errHandler.recoverInline(this);
@@ -4972,41 +3330,41 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(926);
+				setState(581);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__7) | (1L << T__8) | (1L << T__17) | (1L << T__18) | (1L << T__24) | (1L << T__25) | (1L << T__26) | (1L << T__27) | (1L << T__36) | (1L << T__37) | (1L << T__49) | (1L << T__50))) != 0)) {
+				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__7) | (1L << T__8) | (1L << T__17) | (1L << T__18) | (1L << T__23) | (1L << T__24) | (1L << T__25) | (1L << T__26) | (1L << T__32) | (1L << T__33) | (1L << T__47) | (1L << T__48))) != 0)) {
 					{
-					setState(925);
+					setState(580);
 					suffix();
 					}
 				}
 
-				setState(928);
+				setState(583);
 				match(T__2);
-				setState(930);
+				setState(585);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==QUES) {
 					{
-					setState(929);
+					setState(584);
 					match(QUES);
 					}
 				}
 
-				setState(933);
+				setState(588);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__48) | (1L << APPROX) | (1L << POSITIVEDIGIT) | (1L << MINUS))) != 0)) {
+				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__46) | (1L << APPROX) | (1L << POSITIVEDIGIT) | (1L << MINUS))) != 0)) {
 					{
-					setState(932);
+					setState(587);
 					dminNum();
 					}
 				}
 
-				setState(935);
+				setState(590);
 				_la = _input.LA(1);
-				if ( !(_la==T__26 || _la==T__27) ) {
+				if ( !(_la==T__25 || _la==T__26) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -5014,7 +3372,7 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(936);
+				setState(591);
 				_la = _input.LA(1);
 				if ( !(_la==T__17 || _la==T__18) ) {
 				_errHandler.recoverInline(this);
@@ -5024,9 +3382,9 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(937);
+				setState(592);
 				_la = _input.LA(1);
-				if ( !(_la==T__24 || _la==T__25) ) {
+				if ( !(_la==T__23 || _la==T__24) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -5034,7 +3392,7 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(938);
+				setState(593);
 				_la = _input.LA(1);
 				if ( !(_la==T__3 || _la==T__4) ) {
 				_errHandler.recoverInline(this);
@@ -5044,23 +3402,23 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(940);
+				setState(595);
 				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,136,_ctx) ) {
-				case 1:
+				_la = _input.LA(1);
+				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__7) | (1L << T__8) | (1L << T__17) | (1L << T__18) | (1L << T__23) | (1L << T__24) | (1L << T__25) | (1L << T__26) | (1L << T__32) | (1L << T__33) | (1L << T__47) | (1L << T__48))) != 0)) {
 					{
-					setState(939);
+					setState(594);
 					suffix();
 					}
-					break;
 				}
+
 				}
 				break;
 			case 2:
 				_localctx = new AberrationEventContext(_localctx);
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(942);
+				setState(597);
 				aberration();
 				}
 				break;
@@ -5068,7 +3426,7 @@ public class KaryotypeParser extends Parser {
 				_localctx = new UndecodedEventContext(_localctx);
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(943);
+				setState(598);
 				undecoded();
 				}
 				break;
@@ -5076,7 +3434,7 @@ public class KaryotypeParser extends Parser {
 				_localctx = new GainLossChrEventContext(_localctx);
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(944);
+				setState(599);
 				gainLossChr();
 				}
 				break;
@@ -5095,7 +3453,6 @@ public class KaryotypeParser extends Parser {
 
 	public static class GainLossChrContext extends ParserRuleContext {
 		public String s = "";
-		public int l = 0;
 		public GainLossChrContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -5105,47 +3462,6 @@ public class KaryotypeParser extends Parser {
 		public void copyFrom(GainLossChrContext ctx) {
 			super.copyFrom(ctx);
 			this.s = ctx.s;
-			this.l = ctx.l;
-		}
-	}
-	public static class GainLossChrErrorContext extends GainLossChrContext {
-		public UndeterminedPrefixContext undeterminedPrefix;
-		public GainChrContext gainChr;
-		public CContext c;
-		public InhContext inh;
-		public PrefixPlusContext prefixPlus;
-		public PrefixMinusContext prefixMinus;
-		public UndeterminedPrefixContext undeterminedPrefix() {
-			return getRuleContext(UndeterminedPrefixContext.class,0);
-		}
-		public GainChrContext gainChr() {
-			return getRuleContext(GainChrContext.class,0);
-		}
-		public CContext c() {
-			return getRuleContext(CContext.class,0);
-		}
-		public InhContext inh() {
-			return getRuleContext(InhContext.class,0);
-		}
-		public PrefixPlusContext prefixPlus() {
-			return getRuleContext(PrefixPlusContext.class,0);
-		}
-		public PrefixMinusContext prefixMinus() {
-			return getRuleContext(PrefixMinusContext.class,0);
-		}
-		public GainLossChrErrorContext(GainLossChrContext ctx) { copyFrom(ctx); }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterGainLossChrError(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitGainLossChrError(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitGainLossChrError(this);
-			else return visitor.visitChildren(this);
 		}
 	}
 	public static class GainChrEventContext extends GainLossChrContext {
@@ -5209,34 +3525,52 @@ public class KaryotypeParser extends Parser {
 
 	public final GainLossChrContext gainLossChr() throws RecognitionException {
 		GainLossChrContext _localctx = new GainLossChrContext(_ctx, getState());
-		enterRule(_localctx, 76, RULE_gainLossChr);
+		enterRule(_localctx, 68, RULE_gainLossChr);
 		try {
-			setState(979);
+			setState(618);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,143,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,82,_ctx) ) {
 			case 1:
 				_localctx = new GainChrEventContext(_localctx);
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(947);
+				setState(602);
 				prefixPlus();
-				setState(948);
+				setState(603);
 				((GainChrEventContext)_localctx).gainChr = gainChr();
-				setState(951);
+				setState(606);
 				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,138,_ctx) ) {
-				case 1:
+				switch (_input.LA(1)) {
+				case T__7:
+				case T__8:
 					{
-					setState(949);
+					setState(604);
 					c();
 					}
 					break;
-				case 2:
+				case T__17:
+				case T__18:
+				case T__23:
+				case T__24:
+				case T__25:
+				case T__26:
+				case T__32:
+				case T__33:
 					{
-					setState(950);
+					setState(605);
 					inh();
 					}
 					break;
+				case EOF:
+				case T__0:
+				case T__1:
+				case T__2:
+				case T__5:
+				case T__6:
+				case T__44:
+					break;
+				default:
+					break;
 				}
 				 
 				  	((GainChrEventContext)_localctx).s =  (((GainChrEventContext)_localctx).gainChr!=null?_input.getText(((GainChrEventContext)_localctx).gainChr.start,((GainChrEventContext)_localctx).gainChr.stop):null).toUpperCase(); 
@@ -5249,112 +3583,49 @@ public class KaryotypeParser extends Parser {
 				_localctx = new LossChrEventContext(_localctx);
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(955);
+				setState(610);
 				prefixMinus();
-				setState(956);
+				setState(611);
 				((LossChrEventContext)_localctx).lossChr = lossChr();
-				setState(959);
+				setState(614);
 				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,139,_ctx) ) {
-				case 1:
+				switch (_input.LA(1)) {
+				case T__7:
+				case T__8:
 					{
-					setState(957);
+					setState(612);
 					c();
 					}
 					break;
-				case 2:
+				case T__17:
+				case T__18:
+				case T__23:
+				case T__24:
+				case T__25:
+				case T__26:
+				case T__32:
+				case T__33:
 					{
-					setState(958);
+					setState(613);
 					inh();
 					}
 					break;
+				case EOF:
+				case T__0:
+				case T__1:
+				case T__2:
+				case T__5:
+				case T__6:
+				case T__44:
+					break;
+				default:
+					break;
 				}
 				 
 				  	((LossChrEventContext)_localctx).s =  (((LossChrEventContext)_localctx).lossChr!=null?_input.getText(((LossChrEventContext)_localctx).lossChr.start,((LossChrEventContext)_localctx).lossChr.stop):null).toUpperCase(); 
 				  	if (_localctx.s.contains("X")) {sexChrList.add("X");}
 				  	if (_localctx.s.contains("Y")) {sexChrList.add("Y");}
 				  
-				}
-				break;
-			case 3:
-				_localctx = new GainLossChrErrorContext(_localctx);
-				enterOuterAlt(_localctx, 3);
-				{
-				setState(963);
-				((GainLossChrErrorContext)_localctx).undeterminedPrefix = undeterminedPrefix();
-				setState(965);
-				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,140,_ctx) ) {
-				case 1:
-					{
-					setState(964);
-					((GainLossChrErrorContext)_localctx).gainChr = gainChr();
-					}
-					break;
-				}
-				setState(969);
-				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,141,_ctx) ) {
-				case 1:
-					{
-					setState(967);
-					((GainLossChrErrorContext)_localctx).c = c();
-					}
-					break;
-				case 2:
-					{
-					setState(968);
-					((GainLossChrErrorContext)_localctx).inh = inh();
-					}
-					break;
-				}
-
-				  	((GainLossChrErrorContext)_localctx).s =  (((GainLossChrErrorContext)_localctx).gainChr!=null?_input.getText(((GainLossChrErrorContext)_localctx).gainChr.start,((GainLossChrErrorContext)_localctx).gainChr.stop):null);
-				  	((GainLossChrErrorContext)_localctx).l =  (((GainLossChrErrorContext)_localctx).undeterminedPrefix!=null?_input.getText(((GainLossChrErrorContext)_localctx).undeterminedPrefix.start,((GainLossChrErrorContext)_localctx).undeterminedPrefix.stop):null).length(); 
-				  	if ((((GainLossChrErrorContext)_localctx).c!=null?_input.getText(((GainLossChrErrorContext)_localctx).c.start,((GainLossChrErrorContext)_localctx).c.stop):null) != null) {
-				  		((GainLossChrErrorContext)_localctx).l =  _localctx.l + (((GainLossChrErrorContext)_localctx).c!=null?_input.getText(((GainLossChrErrorContext)_localctx).c.start,((GainLossChrErrorContext)_localctx).c.stop):null).length(); 
-				  	} 	
-				  	if ((((GainLossChrErrorContext)_localctx).inh!=null?_input.getText(((GainLossChrErrorContext)_localctx).inh.start,((GainLossChrErrorContext)_localctx).inh.stop):null) != null) {
-				  		((GainLossChrErrorContext)_localctx).l =  _localctx.l + (((GainLossChrErrorContext)_localctx).inh!=null?_input.getText(((GainLossChrErrorContext)_localctx).inh.start,((GainLossChrErrorContext)_localctx).inh.stop):null).length(); 
-				  	}
-				 	if (_localctx.s != null) {
-				 		((GainLossChrErrorContext)_localctx).l =  _localctx.l + _localctx.s.length();
-				 		notifyErrorListeners(_localctx.l + "|Cannot use both '-' and '+' for the gain/loss aberration of chromosome '" + (((GainLossChrErrorContext)_localctx).gainChr!=null?_input.getText(((GainLossChrErrorContext)_localctx).gainChr.start,((GainLossChrErrorContext)_localctx).gainChr.stop):null) + "'");
-				 	} else {
-				 		notifyErrorListeners(_localctx.l + "|Cannot use both '-' and '+' for the gain/loss aberration and missing chromosome information"); 
-				 	} 		          	            	
-				  
-				}
-				break;
-			case 4:
-				_localctx = new GainLossChrErrorContext(_localctx);
-				enterOuterAlt(_localctx, 4);
-				{
-				setState(975);
-				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,142,_ctx) ) {
-				case 1:
-					{
-					setState(973);
-					((GainLossChrErrorContext)_localctx).prefixPlus = prefixPlus();
-					}
-					break;
-				case 2:
-					{
-					setState(974);
-					((GainLossChrErrorContext)_localctx).prefixMinus = prefixMinus();
-					}
-					break;
-				}
-
-				  	if ((((GainLossChrErrorContext)_localctx).prefixPlus!=null?_input.getText(((GainLossChrErrorContext)_localctx).prefixPlus.start,((GainLossChrErrorContext)_localctx).prefixPlus.stop):null) != null) {
-				  		((GainLossChrErrorContext)_localctx).l =  (((GainLossChrErrorContext)_localctx).prefixPlus!=null?_input.getText(((GainLossChrErrorContext)_localctx).prefixPlus.start,((GainLossChrErrorContext)_localctx).prefixPlus.stop):null).length();
-				  	}
-				  	if ((((GainLossChrErrorContext)_localctx).prefixMinus!=null?_input.getText(((GainLossChrErrorContext)_localctx).prefixMinus.start,((GainLossChrErrorContext)_localctx).prefixMinus.stop):null) != null) {
-				  		((GainLossChrErrorContext)_localctx).l =  (((GainLossChrErrorContext)_localctx).prefixMinus!=null?_input.getText(((GainLossChrErrorContext)_localctx).prefixMinus.start,((GainLossChrErrorContext)_localctx).prefixMinus.stop):null).length();
-				  	}
-				  	notifyErrorListeners(_localctx.l + "|Missing chromosome information of the gain/loss aberration");
-				  
 				}
 				break;
 			}
@@ -5408,26 +3679,26 @@ public class KaryotypeParser extends Parser {
 
 	public final UndecodedContext undecoded() throws RecognitionException {
 		UndecodedContext _localctx = new UndecodedContext(_ctx, getState());
-		enterRule(_localctx, 78, RULE_undecoded);
+		enterRule(_localctx, 70, RULE_undecoded);
 		int _la;
 		try {
-			setState(1022);
+			setState(661);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,152,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,91,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(982);
+				setState(621);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==PLUS || _la==QUES) {
 					{
-					setState(981);
+					setState(620);
 					prefixPlus();
 					}
 				}
 
-				setState(984);
+				setState(623);
 				_la = _input.LA(1);
 				if ( !(_la==T__15 || _la==T__16) ) {
 				_errHandler.recoverInline(this);
@@ -5437,24 +3708,24 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(986);
+				setState(625);
 				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,145,_ctx) ) {
-				case 1:
+				_la = _input.LA(1);
+				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__7) | (1L << T__8) | (1L << T__17) | (1L << T__18) | (1L << T__23) | (1L << T__24) | (1L << T__25) | (1L << T__26) | (1L << T__32) | (1L << T__33) | (1L << T__47) | (1L << T__48))) != 0)) {
 					{
-					setState(985);
+					setState(624);
 					suffix();
 					}
-					break;
 				}
+
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(988);
+				setState(627);
 				prefixPlus();
-				setState(989);
+				setState(628);
 				_la = _input.LA(1);
 				if ( !(_la==T__17 || _la==T__18) ) {
 				_errHandler.recoverInline(this);
@@ -5464,7 +3735,7 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(990);
+				setState(629);
 				_la = _input.LA(1);
 				if ( !(_la==T__11 || _la==T__12) ) {
 				_errHandler.recoverInline(this);
@@ -5474,7 +3745,7 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(991);
+				setState(630);
 				_la = _input.LA(1);
 				if ( !(_la==T__15 || _la==T__16) ) {
 				_errHandler.recoverInline(this);
@@ -5484,36 +3755,36 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(992);
+				setState(631);
 				integer();
-				setState(994);
+				setState(633);
 				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,146,_ctx) ) {
-				case 1:
+				_la = _input.LA(1);
+				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__7) | (1L << T__8) | (1L << T__17) | (1L << T__18) | (1L << T__23) | (1L << T__24) | (1L << T__25) | (1L << T__26) | (1L << T__32) | (1L << T__33) | (1L << T__47) | (1L << T__48))) != 0)) {
 					{
-					setState(993);
+					setState(632);
 					suffix();
 					}
-					break;
 				}
+
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(996);
+				setState(635);
 				prefixPlus();
-				setState(998);
+				setState(637);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-				if (_la==T__48 || _la==POSITIVEDIGIT) {
+				if (_la==T__46 || _la==POSITIVEDIGIT) {
 					{
-					setState(997);
+					setState(636);
 					marNum();
 					}
 				}
 
-				setState(1000);
+				setState(639);
 				_la = _input.LA(1);
 				if ( !(_la==T__17 || _la==T__18) ) {
 				_errHandler.recoverInline(this);
@@ -5523,7 +3794,7 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1001);
+				setState(640);
 				_la = _input.LA(1);
 				if ( !(_la==T__11 || _la==T__12) ) {
 				_errHandler.recoverInline(this);
@@ -5533,7 +3804,7 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1002);
+				setState(641);
 				_la = _input.LA(1);
 				if ( !(_la==T__15 || _la==T__16) ) {
 				_errHandler.recoverInline(this);
@@ -5543,44 +3814,44 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1004);
+				setState(643);
 				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,148,_ctx) ) {
-				case 1:
+				_la = _input.LA(1);
+				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__7) | (1L << T__8) | (1L << T__17) | (1L << T__18) | (1L << T__23) | (1L << T__24) | (1L << T__25) | (1L << T__26) | (1L << T__32) | (1L << T__33) | (1L << T__47) | (1L << T__48))) != 0)) {
 					{
-					setState(1003);
+					setState(642);
 					suffix();
 					}
-					break;
 				}
+
 				}
 				break;
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(1007);
+				setState(646);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==QUES) {
 					{
-					setState(1006);
+					setState(645);
 					match(QUES);
 					}
 				}
 
-				setState(1010);
+				setState(649);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__48) | (1L << APPROX) | (1L << POSITIVEDIGIT) | (1L << MINUS))) != 0)) {
+				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__46) | (1L << APPROX) | (1L << POSITIVEDIGIT) | (1L << MINUS))) != 0)) {
 					{
-					setState(1009);
+					setState(648);
 					dminNum();
 					}
 				}
 
-				setState(1012);
+				setState(651);
 				_la = _input.LA(1);
-				if ( !(_la==T__26 || _la==T__27) ) {
+				if ( !(_la==T__25 || _la==T__26) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -5588,7 +3859,7 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1013);
+				setState(652);
 				_la = _input.LA(1);
 				if ( !(_la==T__17 || _la==T__18) ) {
 				_errHandler.recoverInline(this);
@@ -5598,9 +3869,9 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1014);
+				setState(653);
 				_la = _input.LA(1);
-				if ( !(_la==T__24 || _la==T__25) ) {
+				if ( !(_la==T__23 || _la==T__24) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -5608,7 +3879,7 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1015);
+				setState(654);
 				_la = _input.LA(1);
 				if ( !(_la==T__3 || _la==T__4) ) {
 				_errHandler.recoverInline(this);
@@ -5618,24 +3889,24 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1017);
+				setState(656);
 				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,151,_ctx) ) {
-				case 1:
+				_la = _input.LA(1);
+				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__7) | (1L << T__8) | (1L << T__17) | (1L << T__18) | (1L << T__23) | (1L << T__24) | (1L << T__25) | (1L << T__26) | (1L << T__32) | (1L << T__33) | (1L << T__47) | (1L << T__48))) != 0)) {
 					{
-					setState(1016);
+					setState(655);
 					suffix();
 					}
-					break;
 				}
+
 				}
 				break;
 			case 5:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(1019);
+				setState(658);
 				_la = _input.LA(1);
-				if ( !(_la==T__24 || _la==T__25) ) {
+				if ( !(_la==T__23 || _la==T__24) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -5643,7 +3914,7 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1020);
+				setState(659);
 				_la = _input.LA(1);
 				if ( !(_la==T__3 || _la==T__4) ) {
 				_errHandler.recoverInline(this);
@@ -5653,7 +3924,7 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1021);
+				setState(660);
 				_la = _input.LA(1);
 				if ( !(_la==T__7 || _la==T__8) ) {
 				_errHandler.recoverInline(this);
@@ -5680,7 +3951,6 @@ public class KaryotypeParser extends Parser {
 
 	public static class AberrationContext extends ParserRuleContext {
 		public String s = "";
-		public int l = 0;
 		public AberrationContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -5690,7 +3960,6 @@ public class KaryotypeParser extends Parser {
 		public void copyFrom(AberrationContext ctx) {
 			super.copyFrom(ctx);
 			this.s = ctx.s;
-			this.l = ctx.l;
 		}
 	}
 	public static class BasicAberrationContext extends AberrationContext {
@@ -5769,95 +4038,6 @@ public class KaryotypeParser extends Parser {
 			else return visitor.visitChildren(this);
 		}
 	}
-	public static class DerAberrationErrorContext extends AberrationContext {
-		public PrefixContext prefix;
-		public MosChiContext mosChi;
-		public DerIdContext derId;
-		public Token comma;
-		public DerChrListContext derChrList;
-		public DerBreakpointsListContext derBreakpointsList;
-		public RearrangementElementContext r;
-		public SuffixContext suffix;
-		public DerIdContext derId() {
-			return getRuleContext(DerIdContext.class,0);
-		}
-		public DerChrListContext derChrList() {
-			return getRuleContext(DerChrListContext.class,0);
-		}
-		public PrefixContext prefix() {
-			return getRuleContext(PrefixContext.class,0);
-		}
-		public MosChiContext mosChi() {
-			return getRuleContext(MosChiContext.class,0);
-		}
-		public DerBreakpointsListContext derBreakpointsList() {
-			return getRuleContext(DerBreakpointsListContext.class,0);
-		}
-		public SuffixContext suffix() {
-			return getRuleContext(SuffixContext.class,0);
-		}
-		public List<RearrangementElementContext> rearrangementElement() {
-			return getRuleContexts(RearrangementElementContext.class);
-		}
-		public RearrangementElementContext rearrangementElement(int i) {
-			return getRuleContext(RearrangementElementContext.class,i);
-		}
-		public DerAberrationErrorContext(AberrationContext ctx) { copyFrom(ctx); }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterDerAberrationError(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitDerAberrationError(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitDerAberrationError(this);
-			else return visitor.visitChildren(this);
-		}
-	}
-	public static class BasicAberrationErrorContext extends AberrationContext {
-		public PrefixContext prefix;
-		public MosChiContext mosChi;
-		public IdContext id;
-		public Token comma;
-		public ChrListContext chrList;
-		public BreakpointsListContext breakpointsList;
-		public SuffixContext suffix;
-		public IdContext id() {
-			return getRuleContext(IdContext.class,0);
-		}
-		public ChrListContext chrList() {
-			return getRuleContext(ChrListContext.class,0);
-		}
-		public PrefixContext prefix() {
-			return getRuleContext(PrefixContext.class,0);
-		}
-		public MosChiContext mosChi() {
-			return getRuleContext(MosChiContext.class,0);
-		}
-		public BreakpointsListContext breakpointsList() {
-			return getRuleContext(BreakpointsListContext.class,0);
-		}
-		public SuffixContext suffix() {
-			return getRuleContext(SuffixContext.class,0);
-		}
-		public BasicAberrationErrorContext(AberrationContext ctx) { copyFrom(ctx); }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterBasicAberrationError(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitBasicAberrationError(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitBasicAberrationError(this);
-			else return visitor.visitChildren(this);
-		}
-	}
 	public static class UncertainBasicAberrationContext extends AberrationContext {
 		public UncertainChrContext uncertainChr;
 		public IdUncertainChrContext idUncertainChr() {
@@ -5893,78 +4073,78 @@ public class KaryotypeParser extends Parser {
 
 	public final AberrationContext aberration() throws RecognitionException {
 		AberrationContext _localctx = new AberrationContext(_ctx, getState());
-		enterRule(_localctx, 80, RULE_aberration);
+		enterRule(_localctx, 72, RULE_aberration);
 		int _la;
 		try {
 			int _alt;
-			setState(1123);
+			setState(714);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,176,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,104,_ctx) ) {
 			case 1:
 				_localctx = new DerAberrationContext(_localctx);
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1025);
+				setState(664);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << MINUS) | (1L << PLUS) | (1L << QUES))) != 0)) {
 					{
-					setState(1024);
+					setState(663);
 					prefix();
 					}
 				}
 
-				setState(1028);
+				setState(667);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__7) | (1L << T__8) | (1L << T__17) | (1L << T__18))) != 0)) {
 					{
-					setState(1027);
+					setState(666);
 					mosChi();
 					}
 				}
 
-				setState(1030);
+				setState(669);
 				derId();
-				setState(1031);
+				setState(670);
 				((DerAberrationContext)_localctx).derChrList = derChrList();
-				setState(1033);
+				setState(672);
 				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,155,_ctx) ) {
-				case 1:
+				_la = _input.LA(1);
+				if (_la==T__29) {
 					{
-					setState(1032);
+					setState(671);
 					derBreakpointsList();
 					}
-					break;
 				}
-				setState(1038);
+
+				setState(677);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,156,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,95,_ctx);
 				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 					if ( _alt==1 ) {
 						{
 						{
-						setState(1035);
+						setState(674);
 						rearrangementElement();
 						}
 						} 
 					}
-					setState(1040);
+					setState(679);
 					_errHandler.sync(this);
-					_alt = getInterpreter().adaptivePredict(_input,156,_ctx);
+					_alt = getInterpreter().adaptivePredict(_input,95,_ctx);
 				}
-				setState(1042);
+				setState(681);
 				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,157,_ctx) ) {
-				case 1:
+				_la = _input.LA(1);
+				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__7) | (1L << T__8) | (1L << T__17) | (1L << T__18) | (1L << T__23) | (1L << T__24) | (1L << T__25) | (1L << T__26) | (1L << T__32) | (1L << T__33) | (1L << T__47) | (1L << T__48))) != 0)) {
 					{
-					setState(1041);
+					setState(680);
 					suffix();
 					}
-					break;
 				}
 
+
 				  	((DerAberrationContext)_localctx).s =  (((DerAberrationContext)_localctx).derChrList!=null?_input.getText(((DerAberrationContext)_localctx).derChrList.start,((DerAberrationContext)_localctx).derChrList.stop):null).toUpperCase();
 				  	if (_localctx.s.contains("X")) {sexChrList.add("X");}
 				  	if (_localctx.s.contains("Y")) {sexChrList.add("Y");}
@@ -5975,51 +4155,51 @@ public class KaryotypeParser extends Parser {
 				_localctx = new BasicAberrationContext(_localctx);
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1047);
+				setState(686);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << MINUS) | (1L << PLUS) | (1L << QUES))) != 0)) {
 					{
-					setState(1046);
+					setState(685);
 					prefix();
 					}
 				}
 
-				setState(1050);
+				setState(689);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__7) | (1L << T__8) | (1L << T__17) | (1L << T__18))) != 0)) {
 					{
-					setState(1049);
+					setState(688);
 					mosChi();
 					}
 				}
 
-				setState(1052);
+				setState(691);
 				id();
-				setState(1053);
+				setState(692);
 				((BasicAberrationContext)_localctx).chrList = chrList();
-				setState(1055);
+				setState(694);
 				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,160,_ctx) ) {
-				case 1:
+				_la = _input.LA(1);
+				if (_la==T__29) {
 					{
-					setState(1054);
+					setState(693);
 					breakpointsList();
 					}
-					break;
 				}
-				setState(1058);
+
+				setState(697);
 				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,161,_ctx) ) {
-				case 1:
+				_la = _input.LA(1);
+				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__7) | (1L << T__8) | (1L << T__17) | (1L << T__18) | (1L << T__23) | (1L << T__24) | (1L << T__25) | (1L << T__26) | (1L << T__32) | (1L << T__33) | (1L << T__47) | (1L << T__48))) != 0)) {
 					{
-					setState(1057);
+					setState(696);
 					suffix();
 					}
-					break;
 				}
 
+
 				  	((BasicAberrationContext)_localctx).s =  (((BasicAberrationContext)_localctx).chrList!=null?_input.getText(((BasicAberrationContext)_localctx).chrList.start,((BasicAberrationContext)_localctx).chrList.stop):null).toUpperCase();
 				  	if (_localctx.s.contains("X")) {sexChrList.add("X");}
 				  	if (_localctx.s.contains("Y")) {sexChrList.add("Y");}
@@ -6030,232 +4210,45 @@ public class KaryotypeParser extends Parser {
 				_localctx = new UncertainBasicAberrationContext(_localctx);
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(1063);
+				setState(702);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << MINUS) | (1L << PLUS) | (1L << QUES))) != 0)) {
 					{
-					setState(1062);
+					setState(701);
 					prefix();
 					}
 				}
 
-				setState(1066);
+				setState(705);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__7) | (1L << T__8) | (1L << T__17) | (1L << T__18))) != 0)) {
 					{
-					setState(1065);
+					setState(704);
 					mosChi();
 					}
 				}
 
-				setState(1068);
+				setState(707);
 				idUncertainChr();
-				setState(1069);
+				setState(708);
 				((UncertainBasicAberrationContext)_localctx).uncertainChr = uncertainChr();
-				setState(1071);
+				setState(710);
 				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,164,_ctx) ) {
-				case 1:
+				_la = _input.LA(1);
+				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__7) | (1L << T__8) | (1L << T__17) | (1L << T__18) | (1L << T__23) | (1L << T__24) | (1L << T__25) | (1L << T__26) | (1L << T__32) | (1L << T__33) | (1L << T__47) | (1L << T__48))) != 0)) {
 					{
-					setState(1070);
+					setState(709);
 					suffix();
 					}
-					break;
 				}
 
+
 				  	((UncertainBasicAberrationContext)_localctx).s =  (((UncertainBasicAberrationContext)_localctx).uncertainChr!=null?_input.getText(((UncertainBasicAberrationContext)_localctx).uncertainChr.start,((UncertainBasicAberrationContext)_localctx).uncertainChr.stop):null).toUpperCase();
 				  	if (_localctx.s.contains("X")) {sexChrList.add("X");}
 				  	if (_localctx.s.contains("Y")) {sexChrList.add("Y");}
 				  
-				}
-				break;
-			case 4:
-				_localctx = new DerAberrationErrorContext(_localctx);
-				enterOuterAlt(_localctx, 4);
-				{
-				setState(1076);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << MINUS) | (1L << PLUS) | (1L << QUES))) != 0)) {
-					{
-					setState(1075);
-					((DerAberrationErrorContext)_localctx).prefix = prefix();
-					}
-				}
-
-				setState(1079);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__7) | (1L << T__8) | (1L << T__17) | (1L << T__18))) != 0)) {
-					{
-					setState(1078);
-					((DerAberrationErrorContext)_localctx).mosChi = mosChi();
-					}
-				}
-
-				setState(1081);
-				((DerAberrationErrorContext)_localctx).derId = derId();
-				setState(1083); 
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-				do {
-					{
-					{
-					setState(1082);
-					((DerAberrationErrorContext)_localctx).comma = match(T__2);
-					}
-					}
-					setState(1085); 
-					_errHandler.sync(this);
-					_la = _input.LA(1);
-				} while ( _la==T__2 );
-				setState(1087);
-				((DerAberrationErrorContext)_localctx).derChrList = derChrList();
-				setState(1089);
-				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,168,_ctx) ) {
-				case 1:
-					{
-					setState(1088);
-					((DerAberrationErrorContext)_localctx).derBreakpointsList = derBreakpointsList();
-					}
-					break;
-				}
-				setState(1094);
-				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,169,_ctx);
-				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
-					if ( _alt==1 ) {
-						{
-						{
-						setState(1091);
-						((DerAberrationErrorContext)_localctx).r = rearrangementElement();
-						}
-						} 
-					}
-					setState(1096);
-					_errHandler.sync(this);
-					_alt = getInterpreter().adaptivePredict(_input,169,_ctx);
-				}
-				setState(1098);
-				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,170,_ctx) ) {
-				case 1:
-					{
-					setState(1097);
-					((DerAberrationErrorContext)_localctx).suffix = suffix();
-					}
-					break;
-				}
-
-				  	if ((((DerAberrationErrorContext)_localctx).prefix!=null?_input.getText(((DerAberrationErrorContext)_localctx).prefix.start,((DerAberrationErrorContext)_localctx).prefix.stop):null) != null) {
-				  		((DerAberrationErrorContext)_localctx).l =  _localctx.l + (((DerAberrationErrorContext)_localctx).prefix!=null?_input.getText(((DerAberrationErrorContext)_localctx).prefix.start,((DerAberrationErrorContext)_localctx).prefix.stop):null).length(); 
-				  	}
-				  	if ((((DerAberrationErrorContext)_localctx).mosChi!=null?_input.getText(((DerAberrationErrorContext)_localctx).mosChi.start,((DerAberrationErrorContext)_localctx).mosChi.stop):null) != null) {
-				  		((DerAberrationErrorContext)_localctx).l =  _localctx.l + (((DerAberrationErrorContext)_localctx).mosChi!=null?_input.getText(((DerAberrationErrorContext)_localctx).mosChi.start,((DerAberrationErrorContext)_localctx).mosChi.stop):null).length(); 
-				  	}
-				  	((DerAberrationErrorContext)_localctx).l =  _localctx.l + (((DerAberrationErrorContext)_localctx).derId!=null?_input.getText(((DerAberrationErrorContext)_localctx).derId.start,((DerAberrationErrorContext)_localctx).derId.stop):null).length(); 
-				  	((DerAberrationErrorContext)_localctx).l =  _localctx.l + (((DerAberrationErrorContext)_localctx).comma!=null?((DerAberrationErrorContext)_localctx).comma.getText():null).length(); 
-				  	((DerAberrationErrorContext)_localctx).l =  _localctx.l + (((DerAberrationErrorContext)_localctx).derChrList!=null?_input.getText(((DerAberrationErrorContext)_localctx).derChrList.start,((DerAberrationErrorContext)_localctx).derChrList.stop):null).length(); 
-				  	if ((((DerAberrationErrorContext)_localctx).r!=null?_input.getText(((DerAberrationErrorContext)_localctx).r.start,((DerAberrationErrorContext)_localctx).r.stop):null) != null) {
-				  		((DerAberrationErrorContext)_localctx).l =  _localctx.l + (((DerAberrationErrorContext)_localctx).r!=null?_input.getText(((DerAberrationErrorContext)_localctx).r.start,((DerAberrationErrorContext)_localctx).r.stop):null).length(); 
-				  	}
-				  	if ((((DerAberrationErrorContext)_localctx).suffix!=null?_input.getText(((DerAberrationErrorContext)_localctx).suffix.start,((DerAberrationErrorContext)_localctx).suffix.stop):null) != null) {
-				  		((DerAberrationErrorContext)_localctx).l =  _localctx.l + (((DerAberrationErrorContext)_localctx).suffix!=null?_input.getText(((DerAberrationErrorContext)_localctx).suffix.start,((DerAberrationErrorContext)_localctx).suffix.stop):null).length(); 
-				  	}  	
-				 	if ((((DerAberrationErrorContext)_localctx).derBreakpointsList!=null?_input.getText(((DerAberrationErrorContext)_localctx).derBreakpointsList.start,((DerAberrationErrorContext)_localctx).derBreakpointsList.stop):null) != null) {
-				 		((DerAberrationErrorContext)_localctx).l =  _localctx.l + (((DerAberrationErrorContext)_localctx).derBreakpointsList!=null?_input.getText(((DerAberrationErrorContext)_localctx).derBreakpointsList.start,((DerAberrationErrorContext)_localctx).derBreakpointsList.stop):null).length();
-				 		notifyErrorListeners(_localctx.l + "|Incorrect comma before '" + (((DerAberrationErrorContext)_localctx).derChrList!=null?_input.getText(((DerAberrationErrorContext)_localctx).derChrList.start,((DerAberrationErrorContext)_localctx).derChrList.stop):null) + (((DerAberrationErrorContext)_localctx).derBreakpointsList!=null?_input.getText(((DerAberrationErrorContext)_localctx).derBreakpointsList.start,((DerAberrationErrorContext)_localctx).derBreakpointsList.stop):null) + "'");
-				 	} else {
-				 		notifyErrorListeners(_localctx.l + "|Incorrect comma before '" + (((DerAberrationErrorContext)_localctx).derChrList!=null?_input.getText(((DerAberrationErrorContext)_localctx).derChrList.start,((DerAberrationErrorContext)_localctx).derChrList.stop):null) + "'");
-				 	} 	    
-				  
-				}
-				break;
-			case 5:
-				_localctx = new BasicAberrationErrorContext(_localctx);
-				enterOuterAlt(_localctx, 5);
-				{
-				setState(1103);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << MINUS) | (1L << PLUS) | (1L << QUES))) != 0)) {
-					{
-					setState(1102);
-					((BasicAberrationErrorContext)_localctx).prefix = prefix();
-					}
-				}
-
-				setState(1106);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__7) | (1L << T__8) | (1L << T__17) | (1L << T__18))) != 0)) {
-					{
-					setState(1105);
-					((BasicAberrationErrorContext)_localctx).mosChi = mosChi();
-					}
-				}
-
-				setState(1108);
-				((BasicAberrationErrorContext)_localctx).id = id();
-				setState(1110); 
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-				do {
-					{
-					{
-					setState(1109);
-					((BasicAberrationErrorContext)_localctx).comma = match(T__2);
-					}
-					}
-					setState(1112); 
-					_errHandler.sync(this);
-					_la = _input.LA(1);
-				} while ( _la==T__2 );
-				setState(1114);
-				((BasicAberrationErrorContext)_localctx).chrList = chrList();
-				setState(1116);
-				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,174,_ctx) ) {
-				case 1:
-					{
-					setState(1115);
-					((BasicAberrationErrorContext)_localctx).breakpointsList = breakpointsList();
-					}
-					break;
-				}
-				setState(1119);
-				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,175,_ctx) ) {
-				case 1:
-					{
-					setState(1118);
-					((BasicAberrationErrorContext)_localctx).suffix = suffix();
-					}
-					break;
-				}
-
-				  	if ((((BasicAberrationErrorContext)_localctx).prefix!=null?_input.getText(((BasicAberrationErrorContext)_localctx).prefix.start,((BasicAberrationErrorContext)_localctx).prefix.stop):null) != null) {
-				  		((BasicAberrationErrorContext)_localctx).l =  _localctx.l + (((BasicAberrationErrorContext)_localctx).prefix!=null?_input.getText(((BasicAberrationErrorContext)_localctx).prefix.start,((BasicAberrationErrorContext)_localctx).prefix.stop):null).length(); 
-				  	}
-				  	if ((((BasicAberrationErrorContext)_localctx).mosChi!=null?_input.getText(((BasicAberrationErrorContext)_localctx).mosChi.start,((BasicAberrationErrorContext)_localctx).mosChi.stop):null) != null) {
-				  		((BasicAberrationErrorContext)_localctx).l =  _localctx.l + (((BasicAberrationErrorContext)_localctx).mosChi!=null?_input.getText(((BasicAberrationErrorContext)_localctx).mosChi.start,((BasicAberrationErrorContext)_localctx).mosChi.stop):null).length(); 
-				  	}
-				  	((BasicAberrationErrorContext)_localctx).l =  _localctx.l + (((BasicAberrationErrorContext)_localctx).id!=null?_input.getText(((BasicAberrationErrorContext)_localctx).id.start,((BasicAberrationErrorContext)_localctx).id.stop):null).length(); 
-				  	((BasicAberrationErrorContext)_localctx).l =  _localctx.l + (((BasicAberrationErrorContext)_localctx).comma!=null?((BasicAberrationErrorContext)_localctx).comma.getText():null).length(); 
-				  	((BasicAberrationErrorContext)_localctx).l =  _localctx.l + (((BasicAberrationErrorContext)_localctx).chrList!=null?_input.getText(((BasicAberrationErrorContext)_localctx).chrList.start,((BasicAberrationErrorContext)_localctx).chrList.stop):null).length(); 
-				  	if ((((BasicAberrationErrorContext)_localctx).suffix!=null?_input.getText(((BasicAberrationErrorContext)_localctx).suffix.start,((BasicAberrationErrorContext)_localctx).suffix.stop):null) != null) {
-				  		((BasicAberrationErrorContext)_localctx).l =  _localctx.l + (((BasicAberrationErrorContext)_localctx).suffix!=null?_input.getText(((BasicAberrationErrorContext)_localctx).suffix.start,((BasicAberrationErrorContext)_localctx).suffix.stop):null).length(); 
-				  	}
-				 	if ((((BasicAberrationErrorContext)_localctx).breakpointsList!=null?_input.getText(((BasicAberrationErrorContext)_localctx).breakpointsList.start,((BasicAberrationErrorContext)_localctx).breakpointsList.stop):null) != null) {
-				 		((BasicAberrationErrorContext)_localctx).l =  _localctx.l + (((BasicAberrationErrorContext)_localctx).breakpointsList!=null?_input.getText(((BasicAberrationErrorContext)_localctx).breakpointsList.start,((BasicAberrationErrorContext)_localctx).breakpointsList.stop):null).length();
-				 		notifyErrorListeners(_localctx.l + "|Incorrect comma before '" + (((BasicAberrationErrorContext)_localctx).chrList!=null?_input.getText(((BasicAberrationErrorContext)_localctx).chrList.start,((BasicAberrationErrorContext)_localctx).chrList.stop):null) + (((BasicAberrationErrorContext)_localctx).breakpointsList!=null?_input.getText(((BasicAberrationErrorContext)_localctx).breakpointsList.start,((BasicAberrationErrorContext)_localctx).breakpointsList.stop):null) + "'");
-				 	} else {
-				 		notifyErrorListeners(_localctx.l + "|Incorrect comma before '" + (((BasicAberrationErrorContext)_localctx).chrList!=null?_input.getText(((BasicAberrationErrorContext)_localctx).chrList.start,((BasicAberrationErrorContext)_localctx).chrList.stop):null) + "'"); 
-				 	} 	       
-				  
 				}
 				break;
 			}
@@ -6326,18 +4319,18 @@ public class KaryotypeParser extends Parser {
 
 	public final RearrangementElementContext rearrangementElement() throws RecognitionException {
 		RearrangementElementContext _localctx = new RearrangementElementContext(_ctx, getState());
-		enterRule(_localctx, 82, RULE_rearrangementElement);
+		enterRule(_localctx, 74, RULE_rearrangementElement);
 		int _la;
 		try {
 			int _alt;
-			setState(1134);
+			setState(725);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,178,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,106,_ctx) ) {
 			case 1:
 				_localctx = new NormalRearrangementContext(_localctx);
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1125);
+				setState(716);
 				rearrangement();
 				}
 				break;
@@ -6345,9 +4338,9 @@ public class KaryotypeParser extends Parser {
 				_localctx = new MultipleInterpretationRearrangementContext(_localctx);
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1126);
+				setState(717);
 				rearrangement();
-				setState(1130); 
+				setState(721); 
 				_errHandler.sync(this);
 				_alt = 1;
 				do {
@@ -6355,7 +4348,7 @@ public class KaryotypeParser extends Parser {
 					case 1:
 						{
 						{
-						setState(1127);
+						setState(718);
 						_la = _input.LA(1);
 						if ( !(_la==T__5 || _la==T__6) ) {
 						_errHandler.recoverInline(this);
@@ -6365,7 +4358,7 @@ public class KaryotypeParser extends Parser {
 							_errHandler.reportMatch(this);
 							consume();
 						}
-						setState(1128);
+						setState(719);
 						_la = _input.LA(1);
 						if ( !(_la==T__15 || _la==T__16) ) {
 						_errHandler.recoverInline(this);
@@ -6375,7 +4368,7 @@ public class KaryotypeParser extends Parser {
 							_errHandler.reportMatch(this);
 							consume();
 						}
-						setState(1129);
+						setState(720);
 						rearrangement();
 						}
 						}
@@ -6383,9 +4376,9 @@ public class KaryotypeParser extends Parser {
 					default:
 						throw new NoViableAltException(this);
 					}
-					setState(1132); 
+					setState(723); 
 					_errHandler.sync(this);
-					_alt = getInterpreter().adaptivePredict(_input,177,_ctx);
+					_alt = getInterpreter().adaptivePredict(_input,105,_ctx);
 				} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
 				}
 				break;
@@ -6403,12 +4396,6 @@ public class KaryotypeParser extends Parser {
 	}
 
 	public static class RearrangementContext extends ParserRuleContext {
-		public int l = 0;
-		public Token QUES;
-		public RIdContext rId;
-		public Token comma;
-		public RChrListContext rChrList;
-		public RBreakpointsListContext rBreakpointsList;
 		public RIdContext rId() {
 			return getRuleContext(RIdContext.class,0);
 		}
@@ -6440,98 +4427,35 @@ public class KaryotypeParser extends Parser {
 
 	public final RearrangementContext rearrangement() throws RecognitionException {
 		RearrangementContext _localctx = new RearrangementContext(_ctx, getState());
-		enterRule(_localctx, 84, RULE_rearrangement);
+		enterRule(_localctx, 76, RULE_rearrangement);
 		int _la;
 		try {
-			setState(1159);
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(728);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,184,_ctx) ) {
-			case 1:
-				enterOuterAlt(_localctx, 1);
+			_la = _input.LA(1);
+			if (_la==QUES) {
 				{
-				setState(1137);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-				if (_la==QUES) {
-					{
-					setState(1136);
-					match(QUES);
-					}
+				setState(727);
+				match(QUES);
 				}
+			}
 
-				setState(1139);
-				rId();
-				setState(1140);
-				rChrList();
-				setState(1142);
-				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,180,_ctx) ) {
-				case 1:
-					{
-					setState(1141);
-					rBreakpointsList();
-					}
-					break;
-				}
-				}
-				break;
-			case 2:
-				enterOuterAlt(_localctx, 2);
+			setState(730);
+			rId();
+			setState(731);
+			rChrList();
+			setState(733);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==T__29) {
 				{
-				setState(1145);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-				if (_la==QUES) {
-					{
-					setState(1144);
-					((RearrangementContext)_localctx).QUES = match(QUES);
-					}
-				}
-
-				setState(1147);
-				((RearrangementContext)_localctx).rId = rId();
-				setState(1149); 
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-				do {
-					{
-					{
-					setState(1148);
-					((RearrangementContext)_localctx).comma = match(T__2);
-					}
-					}
-					setState(1151); 
-					_errHandler.sync(this);
-					_la = _input.LA(1);
-				} while ( _la==T__2 );
-				setState(1153);
-				((RearrangementContext)_localctx).rChrList = rChrList();
-				setState(1155);
-				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,183,_ctx) ) {
-				case 1:
-					{
-					setState(1154);
-					((RearrangementContext)_localctx).rBreakpointsList = rBreakpointsList();
-					}
-					break;
+				setState(732);
+				rBreakpointsList();
 				}
+			}
 
-				  	if ((((RearrangementContext)_localctx).QUES!=null?((RearrangementContext)_localctx).QUES.getText():null) != null) {
-				  		((RearrangementContext)_localctx).l =  _localctx.l + (((RearrangementContext)_localctx).QUES!=null?((RearrangementContext)_localctx).QUES.getText():null).length(); 
-				  	}
-				  	((RearrangementContext)_localctx).l =  _localctx.l + (((RearrangementContext)_localctx).rId!=null?_input.getText(((RearrangementContext)_localctx).rId.start,((RearrangementContext)_localctx).rId.stop):null).length(); 
-				  	((RearrangementContext)_localctx).l =  _localctx.l + (((RearrangementContext)_localctx).comma!=null?((RearrangementContext)_localctx).comma.getText():null).length();
-				  	((RearrangementContext)_localctx).l =  _localctx.l + (((RearrangementContext)_localctx).rChrList!=null?_input.getText(((RearrangementContext)_localctx).rChrList.start,((RearrangementContext)_localctx).rChrList.stop):null).length();  	
-					if ((((RearrangementContext)_localctx).rBreakpointsList!=null?_input.getText(((RearrangementContext)_localctx).rBreakpointsList.start,((RearrangementContext)_localctx).rBreakpointsList.stop):null) != null) {
-						((RearrangementContext)_localctx).l =  _localctx.l + (((RearrangementContext)_localctx).rBreakpointsList!=null?_input.getText(((RearrangementContext)_localctx).rBreakpointsList.start,((RearrangementContext)_localctx).rBreakpointsList.stop):null).length();
-						notifyErrorListeners(_localctx.l + "|Incorrect comma before '" + (((RearrangementContext)_localctx).rChrList!=null?_input.getText(((RearrangementContext)_localctx).rChrList.start,((RearrangementContext)_localctx).rChrList.stop):null) + (((RearrangementContext)_localctx).rBreakpointsList!=null?_input.getText(((RearrangementContext)_localctx).rBreakpointsList.start,((RearrangementContext)_localctx).rBreakpointsList.stop):null) + "'");
-					} else {
-						notifyErrorListeners(_localctx.l + "|Incorrect comma before '" + (((RearrangementContext)_localctx).rChrList!=null?_input.getText(((RearrangementContext)_localctx).rChrList.start,((RearrangementContext)_localctx).rChrList.stop):null) + "'");
-					}	       
-				  
-				}
-				break;
 			}
 		}
 		catch (RecognitionException re) {
@@ -6546,8 +4470,6 @@ public class KaryotypeParser extends Parser {
 	}
 
 	public static class DerChrListContext extends ParserRuleContext {
-		public String s = "";
-		public int l = 0;
 		public DerChrListContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -6556,36 +4478,6 @@ public class KaryotypeParser extends Parser {
 		public DerChrListContext() { }
 		public void copyFrom(DerChrListContext ctx) {
 			super.copyFrom(ctx);
-			this.s = ctx.s;
-			this.l = ctx.l;
-		}
-	}
-	public static class IncorrectDerChrListContext extends DerChrListContext {
-		public DerChrListElementsContext derChrListElements;
-		public IncorrectLeftParenthesisContext incorrectLeftParenthesis;
-		public IncorrectRightParenthesisContext incorrectRightParenthesis;
-		public DerChrListElementsContext derChrListElements() {
-			return getRuleContext(DerChrListElementsContext.class,0);
-		}
-		public IncorrectLeftParenthesisContext incorrectLeftParenthesis() {
-			return getRuleContext(IncorrectLeftParenthesisContext.class,0);
-		}
-		public IncorrectRightParenthesisContext incorrectRightParenthesis() {
-			return getRuleContext(IncorrectRightParenthesisContext.class,0);
-		}
-		public IncorrectDerChrListContext(DerChrListContext ctx) { copyFrom(ctx); }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterIncorrectDerChrList(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitIncorrectDerChrList(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitIncorrectDerChrList(this);
-			else return visitor.visitChildren(this);
 		}
 	}
 	public static class CorrectDerChrListContext extends DerChrListContext {
@@ -6610,89 +4502,17 @@ public class KaryotypeParser extends Parser {
 
 	public final DerChrListContext derChrList() throws RecognitionException {
 		DerChrListContext _localctx = new DerChrListContext(_ctx, getState());
-		enterRule(_localctx, 86, RULE_derChrList);
+		enterRule(_localctx, 78, RULE_derChrList);
 		try {
-			setState(1181);
-			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,185,_ctx) ) {
-			case 1:
-				_localctx = new CorrectDerChrListContext(_localctx);
-				enterOuterAlt(_localctx, 1);
-				{
-				setState(1161);
-				match(T__30);
-				setState(1162);
-				derChrListElements();
-				setState(1163);
-				match(T__31);
-				}
-				break;
-			case 2:
-				_localctx = new IncorrectDerChrListContext(_localctx);
-				enterOuterAlt(_localctx, 2);
-				{
-				setState(1165);
-				((IncorrectDerChrListContext)_localctx).derChrListElements = derChrListElements();
-				setState(1166);
-				match(T__31);
-
-				  	((IncorrectDerChrListContext)_localctx).s =  (((IncorrectDerChrListContext)_localctx).derChrListElements!=null?_input.getText(((IncorrectDerChrListContext)_localctx).derChrListElements.start,((IncorrectDerChrListContext)_localctx).derChrListElements.stop):null);
-				  	((IncorrectDerChrListContext)_localctx).l =  _localctx.s.length() + 1;
-				  	notifyErrorListeners(_localctx.l + "|Missing '(' for derivative chromosome list '" + _localctx.s + "'");
-				  
-				}
-				break;
-			case 3:
-				_localctx = new IncorrectDerChrListContext(_localctx);
-				enterOuterAlt(_localctx, 3);
-				{
-				setState(1169);
-				match(T__30);
-				setState(1170);
-				((IncorrectDerChrListContext)_localctx).derChrListElements = derChrListElements();
-
-				  	((IncorrectDerChrListContext)_localctx).s =  (((IncorrectDerChrListContext)_localctx).derChrListElements!=null?_input.getText(((IncorrectDerChrListContext)_localctx).derChrListElements.start,((IncorrectDerChrListContext)_localctx).derChrListElements.stop):null);
-				  	((IncorrectDerChrListContext)_localctx).l =  _localctx.s.length() + 1;
-				  	notifyErrorListeners(_localctx.l + "|Missing ')' for derivative chromosome list '" + _localctx.s + "'");
-				  
-				}
-				break;
-			case 4:
-				_localctx = new IncorrectDerChrListContext(_localctx);
-				enterOuterAlt(_localctx, 4);
-				{
-				setState(1173);
-				((IncorrectDerChrListContext)_localctx).derChrListElements = derChrListElements();
-
-				  	((IncorrectDerChrListContext)_localctx).s =  (((IncorrectDerChrListContext)_localctx).derChrListElements!=null?_input.getText(((IncorrectDerChrListContext)_localctx).derChrListElements.start,((IncorrectDerChrListContext)_localctx).derChrListElements.stop):null);
-				  	((IncorrectDerChrListContext)_localctx).l =  _localctx.s.length();
-				  	notifyErrorListeners(_localctx.l + "|Missing '()' for derivative chromosome list '" + _localctx.s + "'");
-				  
-				}
-				break;
-			case 5:
-				_localctx = new IncorrectDerChrListContext(_localctx);
-				enterOuterAlt(_localctx, 5);
-				{
-				setState(1176);
-				((IncorrectDerChrListContext)_localctx).incorrectLeftParenthesis = incorrectLeftParenthesis();
-				setState(1177);
-				((IncorrectDerChrListContext)_localctx).derChrListElements = derChrListElements();
-				setState(1178);
-				((IncorrectDerChrListContext)_localctx).incorrectRightParenthesis = incorrectRightParenthesis();
-
-				  	((IncorrectDerChrListContext)_localctx).s =  (((IncorrectDerChrListContext)_localctx).derChrListElements!=null?_input.getText(((IncorrectDerChrListContext)_localctx).derChrListElements.start,((IncorrectDerChrListContext)_localctx).derChrListElements.stop):null);
-				  	((IncorrectDerChrListContext)_localctx).l =  _localctx.s.length();
-				  	if ((((IncorrectDerChrListContext)_localctx).incorrectLeftParenthesis!=null?_input.getText(((IncorrectDerChrListContext)_localctx).incorrectLeftParenthesis.start,((IncorrectDerChrListContext)_localctx).incorrectLeftParenthesis.stop):null) != null) {
-				  		((IncorrectDerChrListContext)_localctx).l =  _localctx.l + (((IncorrectDerChrListContext)_localctx).incorrectLeftParenthesis!=null?_input.getText(((IncorrectDerChrListContext)_localctx).incorrectLeftParenthesis.start,((IncorrectDerChrListContext)_localctx).incorrectLeftParenthesis.stop):null).length();
-				  	}
-				  	if ((((IncorrectDerChrListContext)_localctx).incorrectRightParenthesis!=null?_input.getText(((IncorrectDerChrListContext)_localctx).incorrectRightParenthesis.start,((IncorrectDerChrListContext)_localctx).incorrectRightParenthesis.stop):null) != null) {
-				  		((IncorrectDerChrListContext)_localctx).l =  _localctx.l + (((IncorrectDerChrListContext)_localctx).incorrectRightParenthesis!=null?_input.getText(((IncorrectDerChrListContext)_localctx).incorrectRightParenthesis.start,((IncorrectDerChrListContext)_localctx).incorrectRightParenthesis.stop):null).length();
-				  	}
-				  	notifyErrorListeners(_localctx.l + "|Wrong bracket format for derivative chromosome list '" + _localctx.s + "', expecting '()'");
-				  
-				}
-				break;
+			_localctx = new CorrectDerChrListContext(_localctx);
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(735);
+			match(T__29);
+			setState(736);
+			derChrListElements();
+			setState(737);
+			match(T__30);
 			}
 		}
 		catch (RecognitionException re) {
@@ -6707,16 +4527,12 @@ public class KaryotypeParser extends Parser {
 	}
 
 	public static class DerChrListElementsContext extends ParserRuleContext {
-		public IncorrectDerChrListElementsContext incorrectDerChrListElements;
 		public List<DerChrContext> derChr() {
 			return getRuleContexts(DerChrContext.class);
 		}
 		public DerChrContext derChr(int i) {
 			return getRuleContext(DerChrContext.class,i);
 		}
-		public IncorrectDerChrListElementsContext incorrectDerChrListElements() {
-			return getRuleContext(IncorrectDerChrListElementsContext.class,0);
-		}
 		public DerChrListElementsContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -6738,47 +4554,29 @@ public class KaryotypeParser extends Parser {
 
 	public final DerChrListElementsContext derChrListElements() throws RecognitionException {
 		DerChrListElementsContext _localctx = new DerChrListElementsContext(_ctx, getState());
-		enterRule(_localctx, 88, RULE_derChrListElements);
+		enterRule(_localctx, 80, RULE_derChrListElements);
+		int _la;
 		try {
-			int _alt;
-			setState(1194);
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(739);
+			derChr();
+			setState(744);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,187,_ctx) ) {
-			case 1:
-				enterOuterAlt(_localctx, 1);
+			_la = _input.LA(1);
+			while (_la==T__31) {
 				{
-				setState(1183);
+				{
+				setState(740);
+				match(T__31);
+				setState(741);
 				derChr();
-				setState(1188);
-				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,186,_ctx);
-				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
-					if ( _alt==1 ) {
-						{
-						{
-						setState(1184);
-						match(T__21);
-						setState(1185);
-						derChr();
-						}
-						} 
-					}
-					setState(1190);
-					_errHandler.sync(this);
-					_alt = getInterpreter().adaptivePredict(_input,186,_ctx);
-				}
 				}
-				break;
-			case 2:
-				enterOuterAlt(_localctx, 2);
-				{
-				setState(1191);
-				((DerChrListElementsContext)_localctx).incorrectDerChrListElements = incorrectDerChrListElements();
-
-				  	notifyErrorListeners((((DerChrListElementsContext)_localctx).incorrectDerChrListElements!=null?_input.getText(((DerChrListElementsContext)_localctx).incorrectDerChrListElements.start,((DerChrListElementsContext)_localctx).incorrectDerChrListElements.stop):null).length() + "|Incorrect use of separators inside derivative chromosome list '" + (((DerChrListElementsContext)_localctx).incorrectDerChrListElements!=null?_input.getText(((DerChrListElementsContext)_localctx).incorrectDerChrListElements.start,((DerChrListElementsContext)_localctx).incorrectDerChrListElements.stop):null) + "', expecting ';'");
-				  
 				}
-				break;
+				setState(746);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
 			}
 		}
 		catch (RecognitionException re) {
@@ -6792,72 +4590,50 @@ public class KaryotypeParser extends Parser {
 		return _localctx;
 	}
 
-	public static class IncorrectDerChrListElementsContext extends ParserRuleContext {
-		public List<DerChrContext> derChr() {
-			return getRuleContexts(DerChrContext.class);
+	public static class DerBreakpointsListContext extends ParserRuleContext {
+		public DerBreakpointsListContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
 		}
-		public DerChrContext derChr(int i) {
-			return getRuleContext(DerChrContext.class,i);
+		@Override public int getRuleIndex() { return RULE_derBreakpointsList; }
+	 
+		public DerBreakpointsListContext() { }
+		public void copyFrom(DerBreakpointsListContext ctx) {
+			super.copyFrom(ctx);
 		}
-		public IncorrectDerChrListElementsContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
+	}
+	public static class CorrectDerBreakpointsListContext extends DerBreakpointsListContext {
+		public DerBreakpointsListElementsContext derBreakpointsListElements() {
+			return getRuleContext(DerBreakpointsListElementsContext.class,0);
 		}
-		@Override public int getRuleIndex() { return RULE_incorrectDerChrListElements; }
+		public CorrectDerBreakpointsListContext(DerBreakpointsListContext ctx) { copyFrom(ctx); }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterIncorrectDerChrListElements(this);
+			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterCorrectDerBreakpointsList(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitIncorrectDerChrListElements(this);
+			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitCorrectDerBreakpointsList(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitIncorrectDerChrListElements(this);
+			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitCorrectDerBreakpointsList(this);
 			else return visitor.visitChildren(this);
 		}
 	}
 
-	public final IncorrectDerChrListElementsContext incorrectDerChrListElements() throws RecognitionException {
-		IncorrectDerChrListElementsContext _localctx = new IncorrectDerChrListElementsContext(_ctx, getState());
-		enterRule(_localctx, 90, RULE_incorrectDerChrListElements);
-		int _la;
+	public final DerBreakpointsListContext derBreakpointsList() throws RecognitionException {
+		DerBreakpointsListContext _localctx = new DerBreakpointsListContext(_ctx, getState());
+		enterRule(_localctx, 82, RULE_derBreakpointsList);
 		try {
-			int _alt;
+			_localctx = new CorrectDerBreakpointsListContext(_localctx);
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1196);
-			derChr();
-			setState(1199); 
-			_errHandler.sync(this);
-			_alt = 1;
-			do {
-				switch (_alt) {
-				case 1:
-					{
-					{
-					setState(1197);
-					_la = _input.LA(1);
-					if ( !(_la==T__2 || _la==T__21) ) {
-					_errHandler.recoverInline(this);
-					}
-					else {
-						if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-						_errHandler.reportMatch(this);
-						consume();
-					}
-					setState(1198);
-					derChr();
-					}
-					}
-					break;
-				default:
-					throw new NoViableAltException(this);
-				}
-				setState(1201); 
-				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,188,_ctx);
-			} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
+			setState(747);
+			match(T__29);
+			setState(748);
+			derBreakpointsListElements();
+			setState(749);
+			match(T__30);
 			}
 		}
 		catch (RecognitionException re) {
@@ -6871,52 +4647,54 @@ public class KaryotypeParser extends Parser {
 		return _localctx;
 	}
 
-	public static class IncorrectLeftParenthesisContext extends ParserRuleContext {
-		public IncorrectLeftParenthesisContext(ParserRuleContext parent, int invokingState) {
+	public static class DerBreakpointsListElementsContext extends ParserRuleContext {
+		public List<DerBreakpointsInOneChrContext> derBreakpointsInOneChr() {
+			return getRuleContexts(DerBreakpointsInOneChrContext.class);
+		}
+		public DerBreakpointsInOneChrContext derBreakpointsInOneChr(int i) {
+			return getRuleContext(DerBreakpointsInOneChrContext.class,i);
+		}
+		public DerBreakpointsListElementsContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
-		@Override public int getRuleIndex() { return RULE_incorrectLeftParenthesis; }
+		@Override public int getRuleIndex() { return RULE_derBreakpointsListElements; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterIncorrectLeftParenthesis(this);
+			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterDerBreakpointsListElements(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitIncorrectLeftParenthesis(this);
+			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitDerBreakpointsListElements(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitIncorrectLeftParenthesis(this);
+			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitDerBreakpointsListElements(this);
 			else return visitor.visitChildren(this);
 		}
 	}
 
-	public final IncorrectLeftParenthesisContext incorrectLeftParenthesis() throws RecognitionException {
-		IncorrectLeftParenthesisContext _localctx = new IncorrectLeftParenthesisContext(_ctx, getState());
-		enterRule(_localctx, 92, RULE_incorrectLeftParenthesis);
+	public final DerBreakpointsListElementsContext derBreakpointsListElements() throws RecognitionException {
+		DerBreakpointsListElementsContext _localctx = new DerBreakpointsListElementsContext(_ctx, getState());
+		enterRule(_localctx, 84, RULE_derBreakpointsListElements);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1206);
+			setState(751);
+			derBreakpointsInOneChr();
+			setState(756);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__22) | (1L << T__30) | (1L << T__32) | (1L << T__33))) != 0)) {
+			while (_la==T__31) {
 				{
 				{
-				setState(1203);
-				_la = _input.LA(1);
-				if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__22) | (1L << T__30) | (1L << T__32) | (1L << T__33))) != 0)) ) {
-				_errHandler.recoverInline(this);
-				}
-				else {
-					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-					_errHandler.reportMatch(this);
-					consume();
-				}
+				setState(752);
+				match(T__31);
+				setState(753);
+				derBreakpointsInOneChr();
 				}
 				}
-				setState(1208);
+				setState(758);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -6933,214 +4711,115 @@ public class KaryotypeParser extends Parser {
 		return _localctx;
 	}
 
-	public static class IncorrectRightParenthesisContext extends ParserRuleContext {
-		public IncorrectRightParenthesisContext(ParserRuleContext parent, int invokingState) {
+	public static class DerBreakpointsInOneChrContext extends ParserRuleContext {
+		public DerBreakpointsInOneChrContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
-		@Override public int getRuleIndex() { return RULE_incorrectRightParenthesis; }
+		@Override public int getRuleIndex() { return RULE_derBreakpointsInOneChr; }
+	 
+		public DerBreakpointsInOneChrContext() { }
+		public void copyFrom(DerBreakpointsInOneChrContext ctx) {
+			super.copyFrom(ctx);
+		}
+	}
+	public static class MultipleInterpretationDerBreakpointsContext extends DerBreakpointsInOneChrContext {
+		public List<DerBreakpointsContext> derBreakpoints() {
+			return getRuleContexts(DerBreakpointsContext.class);
+		}
+		public DerBreakpointsContext derBreakpoints(int i) {
+			return getRuleContext(DerBreakpointsContext.class,i);
+		}
+		public MultipleInterpretationDerBreakpointsContext(DerBreakpointsInOneChrContext ctx) { copyFrom(ctx); }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterIncorrectRightParenthesis(this);
+			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterMultipleInterpretationDerBreakpoints(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitIncorrectRightParenthesis(this);
+			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitMultipleInterpretationDerBreakpoints(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitIncorrectRightParenthesis(this);
+			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitMultipleInterpretationDerBreakpoints(this);
 			else return visitor.visitChildren(this);
 		}
 	}
-
-	public final IncorrectRightParenthesisContext incorrectRightParenthesis() throws RecognitionException {
-		IncorrectRightParenthesisContext _localctx = new IncorrectRightParenthesisContext(_ctx, getState());
-		enterRule(_localctx, 94, RULE_incorrectRightParenthesis);
-		int _la;
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(1212);
-			_errHandler.sync(this);
-			_la = _input.LA(1);
-			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__23) | (1L << T__31) | (1L << T__34) | (1L << T__35))) != 0)) {
-				{
-				{
-				setState(1209);
-				_la = _input.LA(1);
-				if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__23) | (1L << T__31) | (1L << T__34) | (1L << T__35))) != 0)) ) {
-				_errHandler.recoverInline(this);
-				}
-				else {
-					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-					_errHandler.reportMatch(this);
-					consume();
-				}
-				}
-				}
-				setState(1214);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-			}
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
-	public static class DerBreakpointsListContext extends ParserRuleContext {
-		public String s = "";
-		public int l = 0;
-		public DerBreakpointsListContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_derBreakpointsList; }
-	 
-		public DerBreakpointsListContext() { }
-		public void copyFrom(DerBreakpointsListContext ctx) {
-			super.copyFrom(ctx);
-			this.s = ctx.s;
-			this.l = ctx.l;
-		}
-	}
-	public static class CorrectDerBreakpointsListContext extends DerBreakpointsListContext {
-		public DerBreakpointsListElementsContext derBreakpointsListElements() {
-			return getRuleContext(DerBreakpointsListElementsContext.class,0);
-		}
-		public CorrectDerBreakpointsListContext(DerBreakpointsListContext ctx) { copyFrom(ctx); }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterCorrectDerBreakpointsList(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitCorrectDerBreakpointsList(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitCorrectDerBreakpointsList(this);
-			else return visitor.visitChildren(this);
-		}
-	}
-	public static class IncorrectDerBreakpointsListContext extends DerBreakpointsListContext {
-		public DerBreakpointsListElementsContext derBreakpointsListElements;
-		public IncorrectLeftParenthesisContext incorrectLeftParenthesis;
-		public IncorrectRightParenthesisContext incorrectRightParenthesis;
-		public DerBreakpointsListElementsContext derBreakpointsListElements() {
-			return getRuleContext(DerBreakpointsListElementsContext.class,0);
-		}
-		public IncorrectLeftParenthesisContext incorrectLeftParenthesis() {
-			return getRuleContext(IncorrectLeftParenthesisContext.class,0);
-		}
-		public IncorrectRightParenthesisContext incorrectRightParenthesis() {
-			return getRuleContext(IncorrectRightParenthesisContext.class,0);
+	public static class NormalDerBreakpointsContext extends DerBreakpointsInOneChrContext {
+		public DerBreakpointsContext derBreakpoints() {
+			return getRuleContext(DerBreakpointsContext.class,0);
 		}
-		public IncorrectDerBreakpointsListContext(DerBreakpointsListContext ctx) { copyFrom(ctx); }
+		public NormalDerBreakpointsContext(DerBreakpointsInOneChrContext ctx) { copyFrom(ctx); }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterIncorrectDerBreakpointsList(this);
+			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterNormalDerBreakpoints(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitIncorrectDerBreakpointsList(this);
+			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitNormalDerBreakpoints(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitIncorrectDerBreakpointsList(this);
+			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitNormalDerBreakpoints(this);
 			else return visitor.visitChildren(this);
 		}
 	}
 
-	public final DerBreakpointsListContext derBreakpointsList() throws RecognitionException {
-		DerBreakpointsListContext _localctx = new DerBreakpointsListContext(_ctx, getState());
-		enterRule(_localctx, 96, RULE_derBreakpointsList);
+	public final DerBreakpointsInOneChrContext derBreakpointsInOneChr() throws RecognitionException {
+		DerBreakpointsInOneChrContext _localctx = new DerBreakpointsInOneChrContext(_ctx, getState());
+		enterRule(_localctx, 86, RULE_derBreakpointsInOneChr);
+		int _la;
 		try {
-			setState(1235);
+			setState(768);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,191,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,112,_ctx) ) {
 			case 1:
-				_localctx = new CorrectDerBreakpointsListContext(_localctx);
+				_localctx = new NormalDerBreakpointsContext(_localctx);
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1215);
-				match(T__30);
-				setState(1216);
-				derBreakpointsListElements();
-				setState(1217);
-				match(T__31);
+				setState(759);
+				derBreakpoints();
 				}
 				break;
 			case 2:
-				_localctx = new IncorrectDerBreakpointsListContext(_localctx);
+				_localctx = new MultipleInterpretationDerBreakpointsContext(_localctx);
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1219);
-				((IncorrectDerBreakpointsListContext)_localctx).derBreakpointsListElements = derBreakpointsListElements();
-				setState(1220);
-				match(T__31);
-
-				  	((IncorrectDerBreakpointsListContext)_localctx).s =  (((IncorrectDerBreakpointsListContext)_localctx).derBreakpointsListElements!=null?_input.getText(((IncorrectDerBreakpointsListContext)_localctx).derBreakpointsListElements.start,((IncorrectDerBreakpointsListContext)_localctx).derBreakpointsListElements.stop):null);
-				  	((IncorrectDerBreakpointsListContext)_localctx).l =  _localctx.s.length() + 1;
-				  	notifyErrorListeners(_localctx.l + "|Missing '(' for derivative breakpoints list '" + _localctx.s + "'");
-				  
-				}
-				break;
-			case 3:
-				_localctx = new IncorrectDerBreakpointsListContext(_localctx);
-				enterOuterAlt(_localctx, 3);
-				{
-				setState(1223);
-				match(T__30);
-				setState(1224);
-				((IncorrectDerBreakpointsListContext)_localctx).derBreakpointsListElements = derBreakpointsListElements();
-
-				  	((IncorrectDerBreakpointsListContext)_localctx).s =  (((IncorrectDerBreakpointsListContext)_localctx).derBreakpointsListElements!=null?_input.getText(((IncorrectDerBreakpointsListContext)_localctx).derBreakpointsListElements.start,((IncorrectDerBreakpointsListContext)_localctx).derBreakpointsListElements.stop):null);
-				  	((IncorrectDerBreakpointsListContext)_localctx).l =  _localctx.s.length() + 1;
-				  	notifyErrorListeners(_localctx.l + "|Missing ')' for derivative breakpoints list '" + _localctx.s + "'");
-				  
-				}
-				break;
-			case 4:
-				_localctx = new IncorrectDerBreakpointsListContext(_localctx);
-				enterOuterAlt(_localctx, 4);
-				{
-				setState(1227);
-				((IncorrectDerBreakpointsListContext)_localctx).derBreakpointsListElements = derBreakpointsListElements();
-
-				  	((IncorrectDerBreakpointsListContext)_localctx).s =  (((IncorrectDerBreakpointsListContext)_localctx).derBreakpointsListElements!=null?_input.getText(((IncorrectDerBreakpointsListContext)_localctx).derBreakpointsListElements.start,((IncorrectDerBreakpointsListContext)_localctx).derBreakpointsListElements.stop):null);
-				  	((IncorrectDerBreakpointsListContext)_localctx).l =  _localctx.s.length();
-				  	notifyErrorListeners(_localctx.l + "|Missing '()' for derivative breakpoints list '" + _localctx.s + "'");
-				  
-				}
-				break;
-			case 5:
-				_localctx = new IncorrectDerBreakpointsListContext(_localctx);
-				enterOuterAlt(_localctx, 5);
-				{
-				setState(1230);
-				((IncorrectDerBreakpointsListContext)_localctx).incorrectLeftParenthesis = incorrectLeftParenthesis();
-				setState(1231);
-				((IncorrectDerBreakpointsListContext)_localctx).derBreakpointsListElements = derBreakpointsListElements();
-				setState(1232);
-				((IncorrectDerBreakpointsListContext)_localctx).incorrectRightParenthesis = incorrectRightParenthesis();
-
-				  	((IncorrectDerBreakpointsListContext)_localctx).s =  (((IncorrectDerBreakpointsListContext)_localctx).derBreakpointsListElements!=null?_input.getText(((IncorrectDerBreakpointsListContext)_localctx).derBreakpointsListElements.start,((IncorrectDerBreakpointsListContext)_localctx).derBreakpointsListElements.stop):null);
-				  	((IncorrectDerBreakpointsListContext)_localctx).l =  _localctx.s.length();
-				  	if ((((IncorrectDerBreakpointsListContext)_localctx).incorrectLeftParenthesis!=null?_input.getText(((IncorrectDerBreakpointsListContext)_localctx).incorrectLeftParenthesis.start,((IncorrectDerBreakpointsListContext)_localctx).incorrectLeftParenthesis.stop):null) != null) {
-				  		((IncorrectDerBreakpointsListContext)_localctx).l =  _localctx.l + (((IncorrectDerBreakpointsListContext)_localctx).incorrectLeftParenthesis!=null?_input.getText(((IncorrectDerBreakpointsListContext)_localctx).incorrectLeftParenthesis.start,((IncorrectDerBreakpointsListContext)_localctx).incorrectLeftParenthesis.stop):null).length();
-				  	}
-				  	if ((((IncorrectDerBreakpointsListContext)_localctx).incorrectRightParenthesis!=null?_input.getText(((IncorrectDerBreakpointsListContext)_localctx).incorrectRightParenthesis.start,((IncorrectDerBreakpointsListContext)_localctx).incorrectRightParenthesis.stop):null) != null) {
-				  		((IncorrectDerBreakpointsListContext)_localctx).l =  _localctx.l + (((IncorrectDerBreakpointsListContext)_localctx).incorrectRightParenthesis!=null?_input.getText(((IncorrectDerBreakpointsListContext)_localctx).incorrectRightParenthesis.start,((IncorrectDerBreakpointsListContext)_localctx).incorrectRightParenthesis.stop):null).length();
-				  	}
-				  	notifyErrorListeners(_localctx.l + "|Wrong bracket format for derivative breakpoints list '" + _localctx.s + "', expecting '()'");
-				  
+				setState(760);
+				derBreakpoints();
+				setState(764); 
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				do {
+					{
+					{
+					setState(761);
+					_la = _input.LA(1);
+					if ( !(_la==T__5 || _la==T__6) ) {
+					_errHandler.recoverInline(this);
+					}
+					else {
+						if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+						_errHandler.reportMatch(this);
+						consume();
+					}
+					setState(762);
+					_la = _input.LA(1);
+					if ( !(_la==T__15 || _la==T__16) ) {
+					_errHandler.recoverInline(this);
+					}
+					else {
+						if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+						_errHandler.reportMatch(this);
+						consume();
+					}
+					setState(763);
+					derBreakpoints();
+					}
+					}
+					setState(766); 
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				} while ( _la==T__5 || _la==T__6 );
 				}
 				break;
 			}
@@ -7156,79 +4835,50 @@ public class KaryotypeParser extends Parser {
 		return _localctx;
 	}
 
-	public static class DerBreakpointsListElementsContext extends ParserRuleContext {
-		public IncorrectDerBreakpointsListElementsContext incorrectDerBreakpointsListElements;
-		public List<DerBreakpointsInOneChrContext> derBreakpointsInOneChr() {
-			return getRuleContexts(DerBreakpointsInOneChrContext.class);
-		}
-		public DerBreakpointsInOneChrContext derBreakpointsInOneChr(int i) {
-			return getRuleContext(DerBreakpointsInOneChrContext.class,i);
+	public static class ChrListContext extends ParserRuleContext {
+		public ChrListContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
 		}
-		public IncorrectDerBreakpointsListElementsContext incorrectDerBreakpointsListElements() {
-			return getRuleContext(IncorrectDerBreakpointsListElementsContext.class,0);
+		@Override public int getRuleIndex() { return RULE_chrList; }
+	 
+		public ChrListContext() { }
+		public void copyFrom(ChrListContext ctx) {
+			super.copyFrom(ctx);
 		}
-		public DerBreakpointsListElementsContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
+	}
+	public static class CorrectChrListContext extends ChrListContext {
+		public ChrListElementsContext chrListElements() {
+			return getRuleContext(ChrListElementsContext.class,0);
 		}
-		@Override public int getRuleIndex() { return RULE_derBreakpointsListElements; }
+		public CorrectChrListContext(ChrListContext ctx) { copyFrom(ctx); }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterDerBreakpointsListElements(this);
+			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterCorrectChrList(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitDerBreakpointsListElements(this);
+			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitCorrectChrList(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitDerBreakpointsListElements(this);
+			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitCorrectChrList(this);
 			else return visitor.visitChildren(this);
 		}
 	}
 
-	public final DerBreakpointsListElementsContext derBreakpointsListElements() throws RecognitionException {
-		DerBreakpointsListElementsContext _localctx = new DerBreakpointsListElementsContext(_ctx, getState());
-		enterRule(_localctx, 98, RULE_derBreakpointsListElements);
+	public final ChrListContext chrList() throws RecognitionException {
+		ChrListContext _localctx = new ChrListContext(_ctx, getState());
+		enterRule(_localctx, 88, RULE_chrList);
 		try {
-			int _alt;
-			setState(1248);
-			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,193,_ctx) ) {
-			case 1:
-				enterOuterAlt(_localctx, 1);
-				{
-				setState(1237);
-				derBreakpointsInOneChr();
-				setState(1242);
-				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,192,_ctx);
-				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
-					if ( _alt==1 ) {
-						{
-						{
-						setState(1238);
-						match(T__21);
-						setState(1239);
-						derBreakpointsInOneChr();
-						}
-						} 
-					}
-					setState(1244);
-					_errHandler.sync(this);
-					_alt = getInterpreter().adaptivePredict(_input,192,_ctx);
-				}
-				}
-				break;
-			case 2:
-				enterOuterAlt(_localctx, 2);
-				{
-				setState(1245);
-				((DerBreakpointsListElementsContext)_localctx).incorrectDerBreakpointsListElements = incorrectDerBreakpointsListElements();
-
-				  	notifyErrorListeners((((DerBreakpointsListElementsContext)_localctx).incorrectDerBreakpointsListElements!=null?_input.getText(((DerBreakpointsListElementsContext)_localctx).incorrectDerBreakpointsListElements.start,((DerBreakpointsListElementsContext)_localctx).incorrectDerBreakpointsListElements.stop):null).length() + "|Incorrect use of separators inside breakpoints list '" + (((DerBreakpointsListElementsContext)_localctx).incorrectDerBreakpointsListElements!=null?_input.getText(((DerBreakpointsListElementsContext)_localctx).incorrectDerBreakpointsListElements.start,((DerBreakpointsListElementsContext)_localctx).incorrectDerBreakpointsListElements.stop):null) + "', expecting ';'");
-				  
-				}
-				break;
+			_localctx = new CorrectChrListContext(_localctx);
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(770);
+			match(T__29);
+			setState(771);
+			chrListElements();
+			setState(772);
+			match(T__30);
 			}
 		}
 		catch (RecognitionException re) {
@@ -7242,72 +4892,57 @@ public class KaryotypeParser extends Parser {
 		return _localctx;
 	}
 
-	public static class IncorrectDerBreakpointsListElementsContext extends ParserRuleContext {
-		public List<DerBreakpointsInOneChrContext> derBreakpointsInOneChr() {
-			return getRuleContexts(DerBreakpointsInOneChrContext.class);
+	public static class ChrListElementsContext extends ParserRuleContext {
+		public List<ChrContext> chr() {
+			return getRuleContexts(ChrContext.class);
 		}
-		public DerBreakpointsInOneChrContext derBreakpointsInOneChr(int i) {
-			return getRuleContext(DerBreakpointsInOneChrContext.class,i);
+		public ChrContext chr(int i) {
+			return getRuleContext(ChrContext.class,i);
 		}
-		public IncorrectDerBreakpointsListElementsContext(ParserRuleContext parent, int invokingState) {
+		public ChrListElementsContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
-		@Override public int getRuleIndex() { return RULE_incorrectDerBreakpointsListElements; }
+		@Override public int getRuleIndex() { return RULE_chrListElements; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterIncorrectDerBreakpointsListElements(this);
+			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterChrListElements(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitIncorrectDerBreakpointsListElements(this);
+			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitChrListElements(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitIncorrectDerBreakpointsListElements(this);
+			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitChrListElements(this);
 			else return visitor.visitChildren(this);
 		}
 	}
 
-	public final IncorrectDerBreakpointsListElementsContext incorrectDerBreakpointsListElements() throws RecognitionException {
-		IncorrectDerBreakpointsListElementsContext _localctx = new IncorrectDerBreakpointsListElementsContext(_ctx, getState());
-		enterRule(_localctx, 100, RULE_incorrectDerBreakpointsListElements);
+	public final ChrListElementsContext chrListElements() throws RecognitionException {
+		ChrListElementsContext _localctx = new ChrListElementsContext(_ctx, getState());
+		enterRule(_localctx, 90, RULE_chrListElements);
 		int _la;
 		try {
-			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1250);
-			derBreakpointsInOneChr();
-			setState(1253); 
+			setState(774);
+			chr();
+			setState(779);
 			_errHandler.sync(this);
-			_alt = 1;
-			do {
-				switch (_alt) {
-				case 1:
-					{
-					{
-					setState(1251);
-					_la = _input.LA(1);
-					if ( !(_la==T__2 || _la==T__21) ) {
-					_errHandler.recoverInline(this);
-					}
-					else {
-						if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-						_errHandler.reportMatch(this);
-						consume();
-					}
-					setState(1252);
-					derBreakpointsInOneChr();
-					}
-					}
-					break;
-				default:
-					throw new NoViableAltException(this);
+			_la = _input.LA(1);
+			while (_la==T__31) {
+				{
+				{
+				setState(775);
+				match(T__31);
+				setState(776);
+				chr();
 				}
-				setState(1255); 
+				}
+				setState(781);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,194,_ctx);
-			} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
+				_la = _input.LA(1);
+			}
 			}
 		}
 		catch (RecognitionException re) {
@@ -7321,122 +4956,85 @@ public class KaryotypeParser extends Parser {
 		return _localctx;
 	}
 
-	public static class DerBreakpointsInOneChrContext extends ParserRuleContext {
-		public DerBreakpointsInOneChrContext(ParserRuleContext parent, int invokingState) {
+	public static class BreakpointsListContext extends ParserRuleContext {
+		public BreakpointsListContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
-		@Override public int getRuleIndex() { return RULE_derBreakpointsInOneChr; }
+		@Override public int getRuleIndex() { return RULE_breakpointsList; }
 	 
-		public DerBreakpointsInOneChrContext() { }
-		public void copyFrom(DerBreakpointsInOneChrContext ctx) {
+		public BreakpointsListContext() { }
+		public void copyFrom(BreakpointsListContext ctx) {
 			super.copyFrom(ctx);
 		}
 	}
-	public static class MultipleInterpretationDerBreakpointsContext extends DerBreakpointsInOneChrContext {
-		public List<DerBreakpointsContext> derBreakpoints() {
-			return getRuleContexts(DerBreakpointsContext.class);
-		}
-		public DerBreakpointsContext derBreakpoints(int i) {
-			return getRuleContext(DerBreakpointsContext.class,i);
+	public static class CorrectBreakpointsListContext extends BreakpointsListContext {
+		public BreakpointsListElementsContext breakpointsListElements() {
+			return getRuleContext(BreakpointsListElementsContext.class,0);
 		}
-		public MultipleInterpretationDerBreakpointsContext(DerBreakpointsInOneChrContext ctx) { copyFrom(ctx); }
+		public CorrectBreakpointsListContext(BreakpointsListContext ctx) { copyFrom(ctx); }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterMultipleInterpretationDerBreakpoints(this);
+			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterCorrectBreakpointsList(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitMultipleInterpretationDerBreakpoints(this);
+			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitCorrectBreakpointsList(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitMultipleInterpretationDerBreakpoints(this);
+			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitCorrectBreakpointsList(this);
 			else return visitor.visitChildren(this);
 		}
 	}
-	public static class NormalDerBreakpointsContext extends DerBreakpointsInOneChrContext {
-		public DerBreakpointsContext derBreakpoints() {
-			return getRuleContext(DerBreakpointsContext.class,0);
+	public static class DetailedBreakpointsListContext extends BreakpointsListContext {
+		public DetailedFormulaContext detailedFormula() {
+			return getRuleContext(DetailedFormulaContext.class,0);
 		}
-		public NormalDerBreakpointsContext(DerBreakpointsInOneChrContext ctx) { copyFrom(ctx); }
+		public DetailedBreakpointsListContext(BreakpointsListContext ctx) { copyFrom(ctx); }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterNormalDerBreakpoints(this);
+			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterDetailedBreakpointsList(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitNormalDerBreakpoints(this);
+			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitDetailedBreakpointsList(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitNormalDerBreakpoints(this);
+			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitDetailedBreakpointsList(this);
 			else return visitor.visitChildren(this);
 		}
 	}
 
-	public final DerBreakpointsInOneChrContext derBreakpointsInOneChr() throws RecognitionException {
-		DerBreakpointsInOneChrContext _localctx = new DerBreakpointsInOneChrContext(_ctx, getState());
-		enterRule(_localctx, 102, RULE_derBreakpointsInOneChr);
-		int _la;
+	public final BreakpointsListContext breakpointsList() throws RecognitionException {
+		BreakpointsListContext _localctx = new BreakpointsListContext(_ctx, getState());
+		enterRule(_localctx, 92, RULE_breakpointsList);
 		try {
-			int _alt;
-			setState(1266);
+			setState(790);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,196,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,114,_ctx) ) {
 			case 1:
-				_localctx = new NormalDerBreakpointsContext(_localctx);
+				_localctx = new CorrectBreakpointsListContext(_localctx);
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1257);
-				derBreakpoints();
+				setState(782);
+				match(T__29);
+				setState(783);
+				breakpointsListElements();
+				setState(784);
+				match(T__30);
 				}
 				break;
 			case 2:
-				_localctx = new MultipleInterpretationDerBreakpointsContext(_localctx);
+				_localctx = new DetailedBreakpointsListContext(_localctx);
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1258);
-				derBreakpoints();
-				setState(1262); 
-				_errHandler.sync(this);
-				_alt = 1;
-				do {
-					switch (_alt) {
-					case 1:
-						{
-						{
-						setState(1259);
-						_la = _input.LA(1);
-						if ( !(_la==T__5 || _la==T__6) ) {
-						_errHandler.recoverInline(this);
-						}
-						else {
-							if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-							_errHandler.reportMatch(this);
-							consume();
-						}
-						setState(1260);
-						_la = _input.LA(1);
-						if ( !(_la==T__15 || _la==T__16) ) {
-						_errHandler.recoverInline(this);
-						}
-						else {
-							if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-							_errHandler.reportMatch(this);
-							consume();
-						}
-						setState(1261);
-						derBreakpoints();
-						}
-						}
-						break;
-					default:
-						throw new NoViableAltException(this);
-					}
-					setState(1264); 
-					_errHandler.sync(this);
-					_alt = getInterpreter().adaptivePredict(_input,195,_ctx);
-				} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
+				setState(786);
+				match(T__29);
+				setState(787);
+				detailedFormula();
+				setState(788);
+				match(T__30);
 				}
 				break;
 			}
@@ -7452,154 +5050,57 @@ public class KaryotypeParser extends Parser {
 		return _localctx;
 	}
 
-	public static class ChrListContext extends ParserRuleContext {
-		public String s = "";
-		public int l = 0;
-		public ChrListContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_chrList; }
-	 
-		public ChrListContext() { }
-		public void copyFrom(ChrListContext ctx) {
-			super.copyFrom(ctx);
-			this.s = ctx.s;
-			this.l = ctx.l;
-		}
-	}
-	public static class CorrectChrListContext extends ChrListContext {
-		public ChrListElementsContext chrListElements() {
-			return getRuleContext(ChrListElementsContext.class,0);
-		}
-		public CorrectChrListContext(ChrListContext ctx) { copyFrom(ctx); }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterCorrectChrList(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitCorrectChrList(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitCorrectChrList(this);
-			else return visitor.visitChildren(this);
-		}
-	}
-	public static class IncorrectChrListContext extends ChrListContext {
-		public ChrListElementsContext chrListElements;
-		public IncorrectLeftParenthesisContext incorrectLeftParenthesis;
-		public IncorrectRightParenthesisContext incorrectRightParenthesis;
-		public ChrListElementsContext chrListElements() {
-			return getRuleContext(ChrListElementsContext.class,0);
+	public static class BreakpointsListElementsContext extends ParserRuleContext {
+		public List<BreakpointsInOneChrContext> breakpointsInOneChr() {
+			return getRuleContexts(BreakpointsInOneChrContext.class);
 		}
-		public IncorrectLeftParenthesisContext incorrectLeftParenthesis() {
-			return getRuleContext(IncorrectLeftParenthesisContext.class,0);
+		public BreakpointsInOneChrContext breakpointsInOneChr(int i) {
+			return getRuleContext(BreakpointsInOneChrContext.class,i);
 		}
-		public IncorrectRightParenthesisContext incorrectRightParenthesis() {
-			return getRuleContext(IncorrectRightParenthesisContext.class,0);
+		public BreakpointsListElementsContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
 		}
-		public IncorrectChrListContext(ChrListContext ctx) { copyFrom(ctx); }
+		@Override public int getRuleIndex() { return RULE_breakpointsListElements; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterIncorrectChrList(this);
+			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterBreakpointsListElements(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitIncorrectChrList(this);
+			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitBreakpointsListElements(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitIncorrectChrList(this);
+			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitBreakpointsListElements(this);
 			else return visitor.visitChildren(this);
 		}
 	}
 
-	public final ChrListContext chrList() throws RecognitionException {
-		ChrListContext _localctx = new ChrListContext(_ctx, getState());
-		enterRule(_localctx, 104, RULE_chrList);
+	public final BreakpointsListElementsContext breakpointsListElements() throws RecognitionException {
+		BreakpointsListElementsContext _localctx = new BreakpointsListElementsContext(_ctx, getState());
+		enterRule(_localctx, 94, RULE_breakpointsListElements);
+		int _la;
 		try {
-			setState(1288);
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(792);
+			breakpointsInOneChr();
+			setState(797);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,197,_ctx) ) {
-			case 1:
-				_localctx = new CorrectChrListContext(_localctx);
-				enterOuterAlt(_localctx, 1);
+			_la = _input.LA(1);
+			while (_la==T__31) {
 				{
-				setState(1268);
-				match(T__30);
-				setState(1269);
-				chrListElements();
-				setState(1270);
-				match(T__31);
-				}
-				break;
-			case 2:
-				_localctx = new IncorrectChrListContext(_localctx);
-				enterOuterAlt(_localctx, 2);
 				{
-				setState(1272);
-				((IncorrectChrListContext)_localctx).chrListElements = chrListElements();
-				setState(1273);
+				setState(793);
 				match(T__31);
-
-				  	((IncorrectChrListContext)_localctx).s =  (((IncorrectChrListContext)_localctx).chrListElements!=null?_input.getText(((IncorrectChrListContext)_localctx).chrListElements.start,((IncorrectChrListContext)_localctx).chrListElements.stop):null);
-				  	((IncorrectChrListContext)_localctx).l =  _localctx.s.length() + 1;
-				  	notifyErrorListeners(_localctx.l + "|Missing '(' for chromosome list '" + _localctx.s + "'");
-				  
-				}
-				break;
-			case 3:
-				_localctx = new IncorrectChrListContext(_localctx);
-				enterOuterAlt(_localctx, 3);
-				{
-				setState(1276);
-				match(T__30);
-				setState(1277);
-				((IncorrectChrListContext)_localctx).chrListElements = chrListElements();
-
-				  	((IncorrectChrListContext)_localctx).s =  (((IncorrectChrListContext)_localctx).chrListElements!=null?_input.getText(((IncorrectChrListContext)_localctx).chrListElements.start,((IncorrectChrListContext)_localctx).chrListElements.stop):null);
-				  	((IncorrectChrListContext)_localctx).l =  _localctx.s.length() + 1;
-				  	notifyErrorListeners(_localctx.l + "|Missing ')' for chromosome list '" + _localctx.s + "'");
-				  
-				}
-				break;
-			case 4:
-				_localctx = new IncorrectChrListContext(_localctx);
-				enterOuterAlt(_localctx, 4);
-				{
-				setState(1280);
-				((IncorrectChrListContext)_localctx).chrListElements = chrListElements();
-
-				  	((IncorrectChrListContext)_localctx).s =  (((IncorrectChrListContext)_localctx).chrListElements!=null?_input.getText(((IncorrectChrListContext)_localctx).chrListElements.start,((IncorrectChrListContext)_localctx).chrListElements.stop):null);
-				  	((IncorrectChrListContext)_localctx).l =  _localctx.s.length();
-				  	notifyErrorListeners(_localctx.l + "|Missing '()' for chromosome list '" + _localctx.s + "'");
-				  
+				setState(794);
+				breakpointsInOneChr();
 				}
-				break;
-			case 5:
-				_localctx = new IncorrectChrListContext(_localctx);
-				enterOuterAlt(_localctx, 5);
-				{
-				setState(1283);
-				((IncorrectChrListContext)_localctx).incorrectLeftParenthesis = incorrectLeftParenthesis();
-				setState(1284);
-				((IncorrectChrListContext)_localctx).chrListElements = chrListElements();
-				setState(1285);
-				((IncorrectChrListContext)_localctx).incorrectRightParenthesis = incorrectRightParenthesis();
-
-				  	((IncorrectChrListContext)_localctx).s =  (((IncorrectChrListContext)_localctx).chrListElements!=null?_input.getText(((IncorrectChrListContext)_localctx).chrListElements.start,((IncorrectChrListContext)_localctx).chrListElements.stop):null);
-				  	((IncorrectChrListContext)_localctx).l =  _localctx.s.length();
-				  	if ((((IncorrectChrListContext)_localctx).incorrectLeftParenthesis!=null?_input.getText(((IncorrectChrListContext)_localctx).incorrectLeftParenthesis.start,((IncorrectChrListContext)_localctx).incorrectLeftParenthesis.stop):null) != null) {
-				  		((IncorrectChrListContext)_localctx).l =  _localctx.l + (((IncorrectChrListContext)_localctx).incorrectLeftParenthesis!=null?_input.getText(((IncorrectChrListContext)_localctx).incorrectLeftParenthesis.start,((IncorrectChrListContext)_localctx).incorrectLeftParenthesis.stop):null).length();
-				  	}
-				  	if ((((IncorrectChrListContext)_localctx).incorrectRightParenthesis!=null?_input.getText(((IncorrectChrListContext)_localctx).incorrectRightParenthesis.start,((IncorrectChrListContext)_localctx).incorrectRightParenthesis.stop):null) != null) {
-				  		((IncorrectChrListContext)_localctx).l =  _localctx.l + (((IncorrectChrListContext)_localctx).incorrectRightParenthesis!=null?_input.getText(((IncorrectChrListContext)_localctx).incorrectRightParenthesis.start,((IncorrectChrListContext)_localctx).incorrectRightParenthesis.stop):null).length();
-				  	}
-				  	notifyErrorListeners(_localctx.l + "|Wrong bracket format for chromosome list '" + _localctx.s + "', expecting '()'");
-				  
 				}
-				break;
+				setState(799);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
 			}
 		}
 		catch (RecognitionException re) {
@@ -7613,77 +5114,115 @@ public class KaryotypeParser extends Parser {
 		return _localctx;
 	}
 
-	public static class ChrListElementsContext extends ParserRuleContext {
-		public IncorrectChrListElementsContext incorrectChrListElements;
-		public List<ChrContext> chr() {
-			return getRuleContexts(ChrContext.class);
+	public static class BreakpointsInOneChrContext extends ParserRuleContext {
+		public BreakpointsInOneChrContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
 		}
-		public ChrContext chr(int i) {
-			return getRuleContext(ChrContext.class,i);
+		@Override public int getRuleIndex() { return RULE_breakpointsInOneChr; }
+	 
+		public BreakpointsInOneChrContext() { }
+		public void copyFrom(BreakpointsInOneChrContext ctx) {
+			super.copyFrom(ctx);
+		}
+	}
+	public static class NormalBreakpointsContext extends BreakpointsInOneChrContext {
+		public BreakpointsContext breakpoints() {
+			return getRuleContext(BreakpointsContext.class,0);
 		}
-		public IncorrectChrListElementsContext incorrectChrListElements() {
-			return getRuleContext(IncorrectChrListElementsContext.class,0);
+		public NormalBreakpointsContext(BreakpointsInOneChrContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterNormalBreakpoints(this);
 		}
-		public ChrListElementsContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitNormalBreakpoints(this);
 		}
-		@Override public int getRuleIndex() { return RULE_chrListElements; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitNormalBreakpoints(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	public static class MultipleInterpretationBreakpointsContext extends BreakpointsInOneChrContext {
+		public List<BreakpointsContext> breakpoints() {
+			return getRuleContexts(BreakpointsContext.class);
+		}
+		public BreakpointsContext breakpoints(int i) {
+			return getRuleContext(BreakpointsContext.class,i);
+		}
+		public MultipleInterpretationBreakpointsContext(BreakpointsInOneChrContext ctx) { copyFrom(ctx); }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterChrListElements(this);
+			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterMultipleInterpretationBreakpoints(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitChrListElements(this);
+			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitMultipleInterpretationBreakpoints(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitChrListElements(this);
+			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitMultipleInterpretationBreakpoints(this);
 			else return visitor.visitChildren(this);
 		}
 	}
 
-	public final ChrListElementsContext chrListElements() throws RecognitionException {
-		ChrListElementsContext _localctx = new ChrListElementsContext(_ctx, getState());
-		enterRule(_localctx, 106, RULE_chrListElements);
+	public final BreakpointsInOneChrContext breakpointsInOneChr() throws RecognitionException {
+		BreakpointsInOneChrContext _localctx = new BreakpointsInOneChrContext(_ctx, getState());
+		enterRule(_localctx, 96, RULE_breakpointsInOneChr);
+		int _la;
 		try {
-			int _alt;
-			setState(1301);
+			setState(809);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,199,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,117,_ctx) ) {
 			case 1:
+				_localctx = new NormalBreakpointsContext(_localctx);
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1290);
-				chr();
-				setState(1295);
-				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,198,_ctx);
-				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
-					if ( _alt==1 ) {
-						{
-						{
-						setState(1291);
-						match(T__21);
-						setState(1292);
-						chr();
-						}
-						} 
-					}
-					setState(1297);
-					_errHandler.sync(this);
-					_alt = getInterpreter().adaptivePredict(_input,198,_ctx);
-				}
+				setState(800);
+				breakpoints();
 				}
 				break;
 			case 2:
+				_localctx = new MultipleInterpretationBreakpointsContext(_localctx);
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1298);
-				((ChrListElementsContext)_localctx).incorrectChrListElements = incorrectChrListElements();
-
-				  	notifyErrorListeners((((ChrListElementsContext)_localctx).incorrectChrListElements!=null?_input.getText(((ChrListElementsContext)_localctx).incorrectChrListElements.start,((ChrListElementsContext)_localctx).incorrectChrListElements.stop):null).length() + "|Incorrect use of separators inside chromosome list '" + (((ChrListElementsContext)_localctx).incorrectChrListElements!=null?_input.getText(((ChrListElementsContext)_localctx).incorrectChrListElements.start,((ChrListElementsContext)_localctx).incorrectChrListElements.stop):null) + "', expecting ';'");
-				  
+				setState(801);
+				breakpoints();
+				setState(805); 
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				do {
+					{
+					{
+					setState(802);
+					_la = _input.LA(1);
+					if ( !(_la==T__5 || _la==T__6) ) {
+					_errHandler.recoverInline(this);
+					}
+					else {
+						if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+						_errHandler.reportMatch(this);
+						consume();
+					}
+					setState(803);
+					_la = _input.LA(1);
+					if ( !(_la==T__15 || _la==T__16) ) {
+					_errHandler.recoverInline(this);
+					}
+					else {
+						if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+						_errHandler.reportMatch(this);
+						consume();
+					}
+					setState(804);
+					breakpoints();
+					}
+					}
+					setState(807); 
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				} while ( _la==T__5 || _la==T__6 );
 				}
 				break;
 			}
@@ -7699,72 +5238,50 @@ public class KaryotypeParser extends Parser {
 		return _localctx;
 	}
 
-	public static class IncorrectChrListElementsContext extends ParserRuleContext {
-		public List<ChrContext> chr() {
-			return getRuleContexts(ChrContext.class);
+	public static class RChrListContext extends ParserRuleContext {
+		public RChrListContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
 		}
-		public ChrContext chr(int i) {
-			return getRuleContext(ChrContext.class,i);
+		@Override public int getRuleIndex() { return RULE_rChrList; }
+	 
+		public RChrListContext() { }
+		public void copyFrom(RChrListContext ctx) {
+			super.copyFrom(ctx);
 		}
-		public IncorrectChrListElementsContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
+	}
+	public static class CorrectRChrListContext extends RChrListContext {
+		public ChrListElementsContext chrListElements() {
+			return getRuleContext(ChrListElementsContext.class,0);
 		}
-		@Override public int getRuleIndex() { return RULE_incorrectChrListElements; }
+		public CorrectRChrListContext(RChrListContext ctx) { copyFrom(ctx); }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterIncorrectChrListElements(this);
+			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterCorrectRChrList(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitIncorrectChrListElements(this);
+			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitCorrectRChrList(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitIncorrectChrListElements(this);
+			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitCorrectRChrList(this);
 			else return visitor.visitChildren(this);
 		}
 	}
 
-	public final IncorrectChrListElementsContext incorrectChrListElements() throws RecognitionException {
-		IncorrectChrListElementsContext _localctx = new IncorrectChrListElementsContext(_ctx, getState());
-		enterRule(_localctx, 108, RULE_incorrectChrListElements);
-		int _la;
+	public final RChrListContext rChrList() throws RecognitionException {
+		RChrListContext _localctx = new RChrListContext(_ctx, getState());
+		enterRule(_localctx, 98, RULE_rChrList);
 		try {
-			int _alt;
+			_localctx = new CorrectRChrListContext(_localctx);
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1303);
-			chr();
-			setState(1306); 
-			_errHandler.sync(this);
-			_alt = 1;
-			do {
-				switch (_alt) {
-				case 1:
-					{
-					{
-					setState(1304);
-					_la = _input.LA(1);
-					if ( !(_la==T__2 || _la==T__21) ) {
-					_errHandler.recoverInline(this);
-					}
-					else {
-						if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-						_errHandler.reportMatch(this);
-						consume();
-					}
-					setState(1305);
-					chr();
-					}
-					}
-					break;
-				default:
-					throw new NoViableAltException(this);
-				}
-				setState(1308); 
-				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,200,_ctx);
-			} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
+			setState(811);
+			match(T__29);
+			setState(812);
+			chrListElements();
+			setState(813);
+			match(T__30);
 			}
 		}
 		catch (RecognitionException re) {
@@ -7778,183 +5295,85 @@ public class KaryotypeParser extends Parser {
 		return _localctx;
 	}
 
-	public static class BreakpointsListContext extends ParserRuleContext {
-		public String s = "";
-		public int l = 0;
-		public BreakpointsListContext(ParserRuleContext parent, int invokingState) {
+	public static class RBreakpointsListContext extends ParserRuleContext {
+		public RBreakpointsListContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
-		@Override public int getRuleIndex() { return RULE_breakpointsList; }
+		@Override public int getRuleIndex() { return RULE_rBreakpointsList; }
 	 
-		public BreakpointsListContext() { }
-		public void copyFrom(BreakpointsListContext ctx) {
+		public RBreakpointsListContext() { }
+		public void copyFrom(RBreakpointsListContext ctx) {
 			super.copyFrom(ctx);
-			this.s = ctx.s;
-			this.l = ctx.l;
-		}
-	}
-	public static class CorrectBreakpointsListContext extends BreakpointsListContext {
-		public BreakpointsListElementsContext breakpointsListElements() {
-			return getRuleContext(BreakpointsListElementsContext.class,0);
-		}
-		public CorrectBreakpointsListContext(BreakpointsListContext ctx) { copyFrom(ctx); }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterCorrectBreakpointsList(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitCorrectBreakpointsList(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitCorrectBreakpointsList(this);
-			else return visitor.visitChildren(this);
 		}
 	}
-	public static class DetailedBreakpointsListContext extends BreakpointsListContext {
+	public static class DetailedRBreakpointsListContext extends RBreakpointsListContext {
 		public DetailedFormulaContext detailedFormula() {
 			return getRuleContext(DetailedFormulaContext.class,0);
 		}
-		public DetailedBreakpointsListContext(BreakpointsListContext ctx) { copyFrom(ctx); }
+		public DetailedRBreakpointsListContext(RBreakpointsListContext ctx) { copyFrom(ctx); }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterDetailedBreakpointsList(this);
+			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterDetailedRBreakpointsList(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitDetailedBreakpointsList(this);
+			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitDetailedRBreakpointsList(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitDetailedBreakpointsList(this);
+			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitDetailedRBreakpointsList(this);
 			else return visitor.visitChildren(this);
 		}
 	}
-	public static class IncorrectBreakpointsListContext extends BreakpointsListContext {
-		public BreakpointsListElementsContext breakpointsListElements;
-		public IncorrectLeftParenthesisContext incorrectLeftParenthesis;
-		public IncorrectRightParenthesisContext incorrectRightParenthesis;
+	public static class CorrectRBreakpointsListContext extends RBreakpointsListContext {
 		public BreakpointsListElementsContext breakpointsListElements() {
 			return getRuleContext(BreakpointsListElementsContext.class,0);
 		}
-		public IncorrectLeftParenthesisContext incorrectLeftParenthesis() {
-			return getRuleContext(IncorrectLeftParenthesisContext.class,0);
-		}
-		public IncorrectRightParenthesisContext incorrectRightParenthesis() {
-			return getRuleContext(IncorrectRightParenthesisContext.class,0);
-		}
-		public IncorrectBreakpointsListContext(BreakpointsListContext ctx) { copyFrom(ctx); }
+		public CorrectRBreakpointsListContext(RBreakpointsListContext ctx) { copyFrom(ctx); }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterIncorrectBreakpointsList(this);
+			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterCorrectRBreakpointsList(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitIncorrectBreakpointsList(this);
+			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitCorrectRBreakpointsList(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitIncorrectBreakpointsList(this);
+			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitCorrectRBreakpointsList(this);
 			else return visitor.visitChildren(this);
 		}
 	}
 
-	public final BreakpointsListContext breakpointsList() throws RecognitionException {
-		BreakpointsListContext _localctx = new BreakpointsListContext(_ctx, getState());
-		enterRule(_localctx, 110, RULE_breakpointsList);
+	public final RBreakpointsListContext rBreakpointsList() throws RecognitionException {
+		RBreakpointsListContext _localctx = new RBreakpointsListContext(_ctx, getState());
+		enterRule(_localctx, 100, RULE_rBreakpointsList);
 		try {
-			setState(1334);
+			setState(823);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,201,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,118,_ctx) ) {
 			case 1:
-				_localctx = new CorrectBreakpointsListContext(_localctx);
+				_localctx = new CorrectRBreakpointsListContext(_localctx);
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1310);
-				match(T__30);
-				setState(1311);
+				setState(815);
+				match(T__29);
+				setState(816);
 				breakpointsListElements();
-				setState(1312);
-				match(T__31);
+				setState(817);
+				match(T__30);
 				}
 				break;
 			case 2:
-				_localctx = new DetailedBreakpointsListContext(_localctx);
+				_localctx = new DetailedRBreakpointsListContext(_localctx);
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1314);
-				match(T__30);
-				setState(1315);
+				setState(819);
+				match(T__29);
+				setState(820);
 				detailedFormula();
-				setState(1316);
-				match(T__31);
-				}
-				break;
-			case 3:
-				_localctx = new IncorrectBreakpointsListContext(_localctx);
-				enterOuterAlt(_localctx, 3);
-				{
-				setState(1318);
-				((IncorrectBreakpointsListContext)_localctx).breakpointsListElements = breakpointsListElements();
-				setState(1319);
-				match(T__31);
-
-				  	((IncorrectBreakpointsListContext)_localctx).s =  (((IncorrectBreakpointsListContext)_localctx).breakpointsListElements!=null?_input.getText(((IncorrectBreakpointsListContext)_localctx).breakpointsListElements.start,((IncorrectBreakpointsListContext)_localctx).breakpointsListElements.stop):null);
-				  	((IncorrectBreakpointsListContext)_localctx).l =  _localctx.s.length() + 1;
-				  	notifyErrorListeners(_localctx.l + "|Missing '(' for breakpoints list '" + _localctx.s + "'");
-				  
-				}
-				break;
-			case 4:
-				_localctx = new IncorrectBreakpointsListContext(_localctx);
-				enterOuterAlt(_localctx, 4);
-				{
-				setState(1322);
+				setState(821);
 				match(T__30);
-				setState(1323);
-				((IncorrectBreakpointsListContext)_localctx).breakpointsListElements = breakpointsListElements();
-
-				  	((IncorrectBreakpointsListContext)_localctx).s =  (((IncorrectBreakpointsListContext)_localctx).breakpointsListElements!=null?_input.getText(((IncorrectBreakpointsListContext)_localctx).breakpointsListElements.start,((IncorrectBreakpointsListContext)_localctx).breakpointsListElements.stop):null);
-				  	((IncorrectBreakpointsListContext)_localctx).l =  _localctx.s.length() + 1;
-				  	notifyErrorListeners(_localctx.l + "|Missing ')' for breakpoints list '" + _localctx.s + "'");
-				  
-				}
-				break;
-			case 5:
-				_localctx = new IncorrectBreakpointsListContext(_localctx);
-				enterOuterAlt(_localctx, 5);
-				{
-				setState(1326);
-				((IncorrectBreakpointsListContext)_localctx).breakpointsListElements = breakpointsListElements();
-
-				  	((IncorrectBreakpointsListContext)_localctx).s =  (((IncorrectBreakpointsListContext)_localctx).breakpointsListElements!=null?_input.getText(((IncorrectBreakpointsListContext)_localctx).breakpointsListElements.start,((IncorrectBreakpointsListContext)_localctx).breakpointsListElements.stop):null);
-				  	((IncorrectBreakpointsListContext)_localctx).l =  _localctx.s.length();
-				  	notifyErrorListeners(_localctx.l + "|Missing '()' for breakpoints list '" + _localctx.s + "'");
-				  
-				}
-				break;
-			case 6:
-				_localctx = new IncorrectBreakpointsListContext(_localctx);
-				enterOuterAlt(_localctx, 6);
-				{
-				setState(1329);
-				((IncorrectBreakpointsListContext)_localctx).incorrectLeftParenthesis = incorrectLeftParenthesis();
-				setState(1330);
-				((IncorrectBreakpointsListContext)_localctx).breakpointsListElements = breakpointsListElements();
-				setState(1331);
-				((IncorrectBreakpointsListContext)_localctx).incorrectRightParenthesis = incorrectRightParenthesis();
-
-				  	((IncorrectBreakpointsListContext)_localctx).s =  (((IncorrectBreakpointsListContext)_localctx).breakpointsListElements!=null?_input.getText(((IncorrectBreakpointsListContext)_localctx).breakpointsListElements.start,((IncorrectBreakpointsListContext)_localctx).breakpointsListElements.stop):null);
-				  	((IncorrectBreakpointsListContext)_localctx).l =  _localctx.s.length();
-				  	if ((((IncorrectBreakpointsListContext)_localctx).incorrectLeftParenthesis!=null?_input.getText(((IncorrectBreakpointsListContext)_localctx).incorrectLeftParenthesis.start,((IncorrectBreakpointsListContext)_localctx).incorrectLeftParenthesis.stop):null) != null) {
-				  		((IncorrectBreakpointsListContext)_localctx).l =  _localctx.l + (((IncorrectBreakpointsListContext)_localctx).incorrectLeftParenthesis!=null?_input.getText(((IncorrectBreakpointsListContext)_localctx).incorrectLeftParenthesis.start,((IncorrectBreakpointsListContext)_localctx).incorrectLeftParenthesis.stop):null).length();
-				  	}
-				  	if ((((IncorrectBreakpointsListContext)_localctx).incorrectRightParenthesis!=null?_input.getText(((IncorrectBreakpointsListContext)_localctx).incorrectRightParenthesis.start,((IncorrectBreakpointsListContext)_localctx).incorrectRightParenthesis.stop):null) != null) {
-				  		((IncorrectBreakpointsListContext)_localctx).l =  _localctx.l + (((IncorrectBreakpointsListContext)_localctx).incorrectRightParenthesis!=null?_input.getText(((IncorrectBreakpointsListContext)_localctx).incorrectRightParenthesis.start,((IncorrectBreakpointsListContext)_localctx).incorrectRightParenthesis.stop):null).length();
-				  	}
-				  	notifyErrorListeners(_localctx.l + "|Wrong bracket format for breakpoints list '" + _localctx.s + "', expecting '()'");
-				  
 				}
 				break;
 			}
@@ -7970,139 +5389,115 @@ public class KaryotypeParser extends Parser {
 		return _localctx;
 	}
 
-	public static class BreakpointsListElementsContext extends ParserRuleContext {
-		public IncorrectBreakpointsListElementsContext incorrectBreakpointsListElements;
-		public List<BreakpointsInOneChrContext> breakpointsInOneChr() {
-			return getRuleContexts(BreakpointsInOneChrContext.class);
-		}
-		public BreakpointsInOneChrContext breakpointsInOneChr(int i) {
-			return getRuleContext(BreakpointsInOneChrContext.class,i);
-		}
-		public IncorrectBreakpointsListElementsContext incorrectBreakpointsListElements() {
-			return getRuleContext(IncorrectBreakpointsListElementsContext.class,0);
-		}
-		public BreakpointsListElementsContext(ParserRuleContext parent, int invokingState) {
+	public static class IdUncertainChrContext extends ParserRuleContext {
+		public IdUncertainChrContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
-		@Override public int getRuleIndex() { return RULE_breakpointsListElements; }
+		@Override public int getRuleIndex() { return RULE_idUncertainChr; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterBreakpointsListElements(this);
+			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterIdUncertainChr(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitBreakpointsListElements(this);
+			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitIdUncertainChr(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitBreakpointsListElements(this);
+			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitIdUncertainChr(this);
 			else return visitor.visitChildren(this);
 		}
 	}
 
-	public final BreakpointsListElementsContext breakpointsListElements() throws RecognitionException {
-		BreakpointsListElementsContext _localctx = new BreakpointsListElementsContext(_ctx, getState());
-		enterRule(_localctx, 112, RULE_breakpointsListElements);
+	public final IdUncertainChrContext idUncertainChr() throws RecognitionException {
+		IdUncertainChrContext _localctx = new IdUncertainChrContext(_ctx, getState());
+		enterRule(_localctx, 102, RULE_idUncertainChr);
+		int _la;
 		try {
-			int _alt;
-			setState(1347);
+			setState(859);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,203,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,120,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1336);
-				breakpointsInOneChr();
-				setState(1341);
-				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,202,_ctx);
-				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
-					if ( _alt==1 ) {
-						{
-						{
-						setState(1337);
-						match(T__21);
-						setState(1338);
-						breakpointsInOneChr();
-						}
-						} 
-					}
-					setState(1343);
-					_errHandler.sync(this);
-					_alt = getInterpreter().adaptivePredict(_input,202,_ctx);
+				setState(825);
+				_la = _input.LA(1);
+				if ( !(_la==T__11 || _la==T__12) ) {
+				_errHandler.recoverInline(this);
+				}
+				else {
+					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+					_errHandler.reportMatch(this);
+					consume();
+				}
+				setState(826);
+				_la = _input.LA(1);
+				if ( !(_la==T__25 || _la==T__26) ) {
+				_errHandler.recoverInline(this);
+				}
+				else {
+					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+					_errHandler.reportMatch(this);
+					consume();
+				}
+				setState(827);
+				_la = _input.LA(1);
+				if ( !(_la==T__25 || _la==T__26) ) {
+				_errHandler.recoverInline(this);
+				}
+				else {
+					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+					_errHandler.reportMatch(this);
+					consume();
 				}
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1344);
-				((BreakpointsListElementsContext)_localctx).incorrectBreakpointsListElements = incorrectBreakpointsListElements();
-
-				  	notifyErrorListeners((((BreakpointsListElementsContext)_localctx).incorrectBreakpointsListElements!=null?_input.getText(((BreakpointsListElementsContext)_localctx).incorrectBreakpointsListElements.start,((BreakpointsListElementsContext)_localctx).incorrectBreakpointsListElements.stop):null).length() + "|Incorrect use of separators inside breakpoints list '" + (((BreakpointsListElementsContext)_localctx).incorrectBreakpointsListElements!=null?_input.getText(((BreakpointsListElementsContext)_localctx).incorrectBreakpointsListElements.start,((BreakpointsListElementsContext)_localctx).incorrectBreakpointsListElements.stop):null) + "', expecting ';'");
-				  
+				setState(828);
+				_la = _input.LA(1);
+				if ( !(_la==T__25 || _la==T__26) ) {
+				_errHandler.recoverInline(this);
 				}
-				break;
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
-	public static class IncorrectBreakpointsListElementsContext extends ParserRuleContext {
-		public List<BreakpointsInOneChrContext> breakpointsInOneChr() {
-			return getRuleContexts(BreakpointsInOneChrContext.class);
-		}
-		public BreakpointsInOneChrContext breakpointsInOneChr(int i) {
-			return getRuleContext(BreakpointsInOneChrContext.class,i);
-		}
-		public IncorrectBreakpointsListElementsContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_incorrectBreakpointsListElements; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterIncorrectBreakpointsListElements(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitIncorrectBreakpointsListElements(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitIncorrectBreakpointsListElements(this);
-			else return visitor.visitChildren(this);
-		}
-	}
-
-	public final IncorrectBreakpointsListElementsContext incorrectBreakpointsListElements() throws RecognitionException {
-		IncorrectBreakpointsListElementsContext _localctx = new IncorrectBreakpointsListElementsContext(_ctx, getState());
-		enterRule(_localctx, 114, RULE_incorrectBreakpointsListElements);
-		int _la;
-		try {
-			int _alt;
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(1349);
-			breakpointsInOneChr();
-			setState(1352); 
-			_errHandler.sync(this);
-			_alt = 1;
-			do {
-				switch (_alt) {
-				case 1:
-					{
+				else {
+					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+					_errHandler.reportMatch(this);
+					consume();
+				}
+				setState(829);
+				_la = _input.LA(1);
+				if ( !(_la==T__19 || _la==T__20) ) {
+				_errHandler.recoverInline(this);
+				}
+				else {
+					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+					_errHandler.reportMatch(this);
+					consume();
+				}
+				setState(830);
+				_la = _input.LA(1);
+				if ( !(_la==T__9 || _la==T__10) ) {
+				_errHandler.recoverInline(this);
+				}
+				else {
+					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+					_errHandler.reportMatch(this);
+					consume();
+				}
+				}
+				break;
+			case 3:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(834);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==T__32 || _la==T__33) {
 					{
-					setState(1350);
+					setState(831);
 					_la = _input.LA(1);
-					if ( !(_la==T__2 || _la==T__21) ) {
+					if ( !(_la==T__32 || _la==T__33) ) {
 					_errHandler.recoverInline(this);
 					}
 					else {
@@ -8110,1419 +5505,297 @@ public class KaryotypeParser extends Parser {
 						_errHandler.reportMatch(this);
 						consume();
 					}
-					setState(1351);
-					breakpointsInOneChr();
+					setState(832);
+					_la = _input.LA(1);
+					if ( !(_la==T__27 || _la==T__28) ) {
+					_errHandler.recoverInline(this);
+					}
+					else {
+						if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+						_errHandler.reportMatch(this);
+						consume();
+					}
+					setState(833);
+					_la = _input.LA(1);
+					if ( !(_la==T__34 || _la==T__35) ) {
+					_errHandler.recoverInline(this);
+					}
+					else {
+						if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+						_errHandler.reportMatch(this);
+						consume();
 					}
 					}
-					break;
-				default:
-					throw new NoViableAltException(this);
 				}
-				setState(1354); 
-				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,204,_ctx);
-			} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
-	public static class BreakpointsInOneChrContext extends ParserRuleContext {
-		public BreakpointsInOneChrContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_breakpointsInOneChr; }
-	 
-		public BreakpointsInOneChrContext() { }
-		public void copyFrom(BreakpointsInOneChrContext ctx) {
-			super.copyFrom(ctx);
-		}
-	}
-	public static class NormalBreakpointsContext extends BreakpointsInOneChrContext {
-		public BreakpointsContext breakpoints() {
-			return getRuleContext(BreakpointsContext.class,0);
-		}
-		public NormalBreakpointsContext(BreakpointsInOneChrContext ctx) { copyFrom(ctx); }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterNormalBreakpoints(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitNormalBreakpoints(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitNormalBreakpoints(this);
-			else return visitor.visitChildren(this);
-		}
-	}
-	public static class MultipleInterpretationBreakpointsContext extends BreakpointsInOneChrContext {
-		public List<BreakpointsContext> breakpoints() {
-			return getRuleContexts(BreakpointsContext.class);
-		}
-		public BreakpointsContext breakpoints(int i) {
-			return getRuleContext(BreakpointsContext.class,i);
-		}
-		public MultipleInterpretationBreakpointsContext(BreakpointsInOneChrContext ctx) { copyFrom(ctx); }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterMultipleInterpretationBreakpoints(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitMultipleInterpretationBreakpoints(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitMultipleInterpretationBreakpoints(this);
-			else return visitor.visitChildren(this);
-		}
-	}
 
-	public final BreakpointsInOneChrContext breakpointsInOneChr() throws RecognitionException {
-		BreakpointsInOneChrContext _localctx = new BreakpointsInOneChrContext(_ctx, getState());
-		enterRule(_localctx, 116, RULE_breakpointsInOneChr);
-		int _la;
-		try {
-			int _alt;
-			setState(1365);
-			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,206,_ctx) ) {
-			case 1:
-				_localctx = new NormalBreakpointsContext(_localctx);
-				enterOuterAlt(_localctx, 1);
-				{
-				setState(1356);
-				breakpoints();
+				setState(836);
+				_la = _input.LA(1);
+				if ( !(_la==T__23 || _la==T__24) ) {
+				_errHandler.recoverInline(this);
+				}
+				else {
+					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+					_errHandler.reportMatch(this);
+					consume();
+				}
+				setState(837);
+				_la = _input.LA(1);
+				if ( !(_la==T__25 || _la==T__26) ) {
+				_errHandler.recoverInline(this);
+				}
+				else {
+					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+					_errHandler.reportMatch(this);
+					consume();
+				}
+				setState(838);
+				_la = _input.LA(1);
+				if ( !(_la==T__23 || _la==T__24) ) {
+				_errHandler.recoverInline(this);
+				}
+				else {
+					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+					_errHandler.reportMatch(this);
+					consume();
+				}
+				setState(839);
+				_la = _input.LA(1);
+				if ( !(_la==T__7 || _la==T__8) ) {
+				_errHandler.recoverInline(this);
+				}
+				else {
+					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+					_errHandler.reportMatch(this);
+					consume();
+				}
 				}
 				break;
-			case 2:
-				_localctx = new MultipleInterpretationBreakpointsContext(_localctx);
-				enterOuterAlt(_localctx, 2);
+			case 4:
+				enterOuterAlt(_localctx, 4);
 				{
-				setState(1357);
-				breakpoints();
-				setState(1361); 
-				_errHandler.sync(this);
-				_alt = 1;
-				do {
-					switch (_alt) {
-					case 1:
-						{
-						{
-						setState(1358);
-						_la = _input.LA(1);
-						if ( !(_la==T__5 || _la==T__6) ) {
-						_errHandler.recoverInline(this);
-						}
-						else {
-							if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-							_errHandler.reportMatch(this);
-							consume();
-						}
-						setState(1359);
-						_la = _input.LA(1);
-						if ( !(_la==T__15 || _la==T__16) ) {
-						_errHandler.recoverInline(this);
-						}
-						else {
-							if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-							_errHandler.reportMatch(this);
-							consume();
-						}
-						setState(1360);
-						breakpoints();
-						}
-						}
-						break;
-					default:
-						throw new NoViableAltException(this);
-					}
-					setState(1363); 
-					_errHandler.sync(this);
-					_alt = getInterpreter().adaptivePredict(_input,205,_ctx);
-				} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
+				setState(840);
+				_la = _input.LA(1);
+				if ( !(_la==T__25 || _la==T__26) ) {
+				_errHandler.recoverInline(this);
 				}
-				break;
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
-	public static class RChrListContext extends ParserRuleContext {
-		public String s = "";
-		public int l = 0;
-		public RChrListContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_rChrList; }
-	 
-		public RChrListContext() { }
-		public void copyFrom(RChrListContext ctx) {
-			super.copyFrom(ctx);
-			this.s = ctx.s;
-			this.l = ctx.l;
-		}
-	}
-	public static class CorrectRChrListContext extends RChrListContext {
-		public ChrListElementsContext chrListElements() {
-			return getRuleContext(ChrListElementsContext.class,0);
-		}
-		public CorrectRChrListContext(RChrListContext ctx) { copyFrom(ctx); }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterCorrectRChrList(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitCorrectRChrList(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitCorrectRChrList(this);
-			else return visitor.visitChildren(this);
-		}
-	}
-	public static class IncorrectRChrListContext extends RChrListContext {
-		public ChrListElementsContext chrListElements;
-		public IncorrectLeftParenthesisContext incorrectLeftParenthesis;
-		public IncorrectRightParenthesisContext incorrectRightParenthesis;
-		public ChrListElementsContext chrListElements() {
-			return getRuleContext(ChrListElementsContext.class,0);
-		}
-		public IncorrectLeftParenthesisContext incorrectLeftParenthesis() {
-			return getRuleContext(IncorrectLeftParenthesisContext.class,0);
-		}
-		public IncorrectRightParenthesisContext incorrectRightParenthesis() {
-			return getRuleContext(IncorrectRightParenthesisContext.class,0);
-		}
-		public IncorrectRChrListContext(RChrListContext ctx) { copyFrom(ctx); }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterIncorrectRChrList(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitIncorrectRChrList(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitIncorrectRChrList(this);
-			else return visitor.visitChildren(this);
-		}
-	}
-
-	public final RChrListContext rChrList() throws RecognitionException {
-		RChrListContext _localctx = new RChrListContext(_ctx, getState());
-		enterRule(_localctx, 118, RULE_rChrList);
-		try {
-			setState(1387);
-			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,207,_ctx) ) {
-			case 1:
-				_localctx = new CorrectRChrListContext(_localctx);
-				enterOuterAlt(_localctx, 1);
-				{
-				setState(1367);
-				match(T__30);
-				setState(1368);
-				chrListElements();
-				setState(1369);
-				match(T__31);
+				else {
+					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+					_errHandler.reportMatch(this);
+					consume();
 				}
-				break;
-			case 2:
-				_localctx = new IncorrectRChrListContext(_localctx);
-				enterOuterAlt(_localctx, 2);
-				{
-				setState(1371);
-				((IncorrectRChrListContext)_localctx).chrListElements = chrListElements();
-				setState(1372);
-				match(T__31);
-
-				  	((IncorrectRChrListContext)_localctx).s =  (((IncorrectRChrListContext)_localctx).chrListElements!=null?_input.getText(((IncorrectRChrListContext)_localctx).chrListElements.start,((IncorrectRChrListContext)_localctx).chrListElements.stop):null);
-				  	((IncorrectRChrListContext)_localctx).l =  _localctx.s.length() + 1;
-				  	notifyErrorListeners(_localctx.l + "|Missing '(' for chromosome list '" + _localctx.s + "'");
-				  
+				setState(841);
+				_la = _input.LA(1);
+				if ( !(_la==T__34 || _la==T__35) ) {
+				_errHandler.recoverInline(this);
 				}
-				break;
-			case 3:
-				_localctx = new IncorrectRChrListContext(_localctx);
-				enterOuterAlt(_localctx, 3);
-				{
-				setState(1375);
-				match(T__30);
-				setState(1376);
-				((IncorrectRChrListContext)_localctx).chrListElements = chrListElements();
-
-				  	((IncorrectRChrListContext)_localctx).s =  (((IncorrectRChrListContext)_localctx).chrListElements!=null?_input.getText(((IncorrectRChrListContext)_localctx).chrListElements.start,((IncorrectRChrListContext)_localctx).chrListElements.stop):null);
-				  	((IncorrectRChrListContext)_localctx).l =  _localctx.s.length() + 1;
-				  	notifyErrorListeners(_localctx.l + "|Missing ')' for chromosome list '" + _localctx.s + "'");
-				  
+				else {
+					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+					_errHandler.reportMatch(this);
+					consume();
+				}
+				setState(842);
+				_la = _input.LA(1);
+				if ( !(_la==T__32 || _la==T__33) ) {
+				_errHandler.recoverInline(this);
+				}
+				else {
+					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+					_errHandler.reportMatch(this);
+					consume();
 				}
-				break;
-			case 4:
-				_localctx = new IncorrectRChrListContext(_localctx);
-				enterOuterAlt(_localctx, 4);
-				{
-				setState(1379);
-				((IncorrectRChrListContext)_localctx).chrListElements = chrListElements();
-
-				  	((IncorrectRChrListContext)_localctx).s =  (((IncorrectRChrListContext)_localctx).chrListElements!=null?_input.getText(((IncorrectRChrListContext)_localctx).chrListElements.start,((IncorrectRChrListContext)_localctx).chrListElements.stop):null);
-				  	((IncorrectRChrListContext)_localctx).l =  _localctx.s.length();
-				  	notifyErrorListeners(_localctx.l + "|Missing '()' for chromosome list '" + _localctx.s + "'");
-				  
 				}
 				break;
 			case 5:
-				_localctx = new IncorrectRChrListContext(_localctx);
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(1382);
-				((IncorrectRChrListContext)_localctx).incorrectLeftParenthesis = incorrectLeftParenthesis();
-				setState(1383);
-				((IncorrectRChrListContext)_localctx).chrListElements = chrListElements();
-				setState(1384);
-				((IncorrectRChrListContext)_localctx).incorrectRightParenthesis = incorrectRightParenthesis();
-
-				  	((IncorrectRChrListContext)_localctx).s =  (((IncorrectRChrListContext)_localctx).chrListElements!=null?_input.getText(((IncorrectRChrListContext)_localctx).chrListElements.start,((IncorrectRChrListContext)_localctx).chrListElements.stop):null);
-				  	((IncorrectRChrListContext)_localctx).l =  _localctx.s.length();
-				  	if ((((IncorrectRChrListContext)_localctx).incorrectLeftParenthesis!=null?_input.getText(((IncorrectRChrListContext)_localctx).incorrectLeftParenthesis.start,((IncorrectRChrListContext)_localctx).incorrectLeftParenthesis.stop):null) != null) {
-				  		((IncorrectRChrListContext)_localctx).l =  _localctx.l + (((IncorrectRChrListContext)_localctx).incorrectLeftParenthesis!=null?_input.getText(((IncorrectRChrListContext)_localctx).incorrectLeftParenthesis.start,((IncorrectRChrListContext)_localctx).incorrectLeftParenthesis.stop):null).length();
-				  	}
-				  	if ((((IncorrectRChrListContext)_localctx).incorrectRightParenthesis!=null?_input.getText(((IncorrectRChrListContext)_localctx).incorrectRightParenthesis.start,((IncorrectRChrListContext)_localctx).incorrectRightParenthesis.stop):null) != null) {
-				  		((IncorrectRChrListContext)_localctx).l =  _localctx.l + (((IncorrectRChrListContext)_localctx).incorrectRightParenthesis!=null?_input.getText(((IncorrectRChrListContext)_localctx).incorrectRightParenthesis.start,((IncorrectRChrListContext)_localctx).incorrectRightParenthesis.stop):null).length();
-				  	}
-				  	notifyErrorListeners(_localctx.l + "|Wrong bracket format for chromosome list '" + _localctx.s + "', expecting '()'");
-				  
+				setState(843);
+				_la = _input.LA(1);
+				if ( !(_la==T__36 || _la==T__37) ) {
+				_errHandler.recoverInline(this);
 				}
-				break;
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
-	public static class RBreakpointsListContext extends ParserRuleContext {
-		public String s = "";
-		public int l = 0;
-		public RBreakpointsListContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_rBreakpointsList; }
-	 
-		public RBreakpointsListContext() { }
-		public void copyFrom(RBreakpointsListContext ctx) {
-			super.copyFrom(ctx);
-			this.s = ctx.s;
-			this.l = ctx.l;
-		}
-	}
-	public static class DetailedRBreakpointsListContext extends RBreakpointsListContext {
-		public DetailedFormulaContext detailedFormula() {
-			return getRuleContext(DetailedFormulaContext.class,0);
-		}
-		public DetailedRBreakpointsListContext(RBreakpointsListContext ctx) { copyFrom(ctx); }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterDetailedRBreakpointsList(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitDetailedRBreakpointsList(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitDetailedRBreakpointsList(this);
-			else return visitor.visitChildren(this);
-		}
-	}
-	public static class CorrectRBreakpointsListContext extends RBreakpointsListContext {
-		public BreakpointsListElementsContext breakpointsListElements() {
-			return getRuleContext(BreakpointsListElementsContext.class,0);
-		}
-		public CorrectRBreakpointsListContext(RBreakpointsListContext ctx) { copyFrom(ctx); }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterCorrectRBreakpointsList(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitCorrectRBreakpointsList(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitCorrectRBreakpointsList(this);
-			else return visitor.visitChildren(this);
-		}
-	}
-	public static class IncorrectRBreakpointsListContext extends RBreakpointsListContext {
-		public BreakpointsListElementsContext breakpointsListElements;
-		public IncorrectLeftParenthesisContext incorrectLeftParenthesis;
-		public IncorrectRightParenthesisContext incorrectRightParenthesis;
-		public BreakpointsListElementsContext breakpointsListElements() {
-			return getRuleContext(BreakpointsListElementsContext.class,0);
-		}
-		public IncorrectLeftParenthesisContext incorrectLeftParenthesis() {
-			return getRuleContext(IncorrectLeftParenthesisContext.class,0);
-		}
-		public IncorrectRightParenthesisContext incorrectRightParenthesis() {
-			return getRuleContext(IncorrectRightParenthesisContext.class,0);
-		}
-		public IncorrectRBreakpointsListContext(RBreakpointsListContext ctx) { copyFrom(ctx); }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterIncorrectRBreakpointsList(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitIncorrectRBreakpointsList(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitIncorrectRBreakpointsList(this);
-			else return visitor.visitChildren(this);
-		}
-	}
-
-	public final RBreakpointsListContext rBreakpointsList() throws RecognitionException {
-		RBreakpointsListContext _localctx = new RBreakpointsListContext(_ctx, getState());
-		enterRule(_localctx, 120, RULE_rBreakpointsList);
-		try {
-			setState(1413);
-			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,208,_ctx) ) {
-			case 1:
-				_localctx = new CorrectRBreakpointsListContext(_localctx);
-				enterOuterAlt(_localctx, 1);
-				{
-				setState(1389);
-				match(T__30);
-				setState(1390);
-				breakpointsListElements();
-				setState(1391);
-				match(T__31);
+				else {
+					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+					_errHandler.reportMatch(this);
+					consume();
 				}
-				break;
-			case 2:
-				_localctx = new DetailedRBreakpointsListContext(_localctx);
-				enterOuterAlt(_localctx, 2);
-				{
-				setState(1393);
-				match(T__30);
-				setState(1394);
-				detailedFormula();
-				setState(1395);
-				match(T__31);
+				setState(844);
+				_la = _input.LA(1);
+				if ( !(_la==T__15 || _la==T__16) ) {
+				_errHandler.recoverInline(this);
 				}
-				break;
-			case 3:
-				_localctx = new IncorrectRBreakpointsListContext(_localctx);
-				enterOuterAlt(_localctx, 3);
-				{
-				setState(1397);
-				((IncorrectRBreakpointsListContext)_localctx).breakpointsListElements = breakpointsListElements();
-				setState(1398);
-				match(T__31);
-
-				  	((IncorrectRBreakpointsListContext)_localctx).s =  (((IncorrectRBreakpointsListContext)_localctx).breakpointsListElements!=null?_input.getText(((IncorrectRBreakpointsListContext)_localctx).breakpointsListElements.start,((IncorrectRBreakpointsListContext)_localctx).breakpointsListElements.stop):null);
-				  	((IncorrectRBreakpointsListContext)_localctx).l =  _localctx.s.length() + 1;
-				  	notifyErrorListeners(_localctx.l + "|Missing '(' for breakpoints list '" + _localctx.s + "'");
-				  
+				else {
+					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+					_errHandler.reportMatch(this);
+					consume();
 				}
-				break;
-			case 4:
-				_localctx = new IncorrectRBreakpointsListContext(_localctx);
-				enterOuterAlt(_localctx, 4);
-				{
-				setState(1401);
-				match(T__30);
-				setState(1402);
-				((IncorrectRBreakpointsListContext)_localctx).breakpointsListElements = breakpointsListElements();
-
-				  	((IncorrectRBreakpointsListContext)_localctx).s =  (((IncorrectRBreakpointsListContext)_localctx).breakpointsListElements!=null?_input.getText(((IncorrectRBreakpointsListContext)_localctx).breakpointsListElements.start,((IncorrectRBreakpointsListContext)_localctx).breakpointsListElements.stop):null);
-				  	((IncorrectRBreakpointsListContext)_localctx).l =  _localctx.s.length() + 1;
-				  	notifyErrorListeners(_localctx.l + "|Missing ')' for breakpoints list '" + _localctx.s + "'");
-				  
+				setState(845);
+				_la = _input.LA(1);
+				if ( !(_la==T__32 || _la==T__33) ) {
+				_errHandler.recoverInline(this);
+				}
+				else {
+					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+					_errHandler.reportMatch(this);
+					consume();
 				}
-				break;
-			case 5:
-				_localctx = new IncorrectRBreakpointsListContext(_localctx);
-				enterOuterAlt(_localctx, 5);
-				{
-				setState(1405);
-				((IncorrectRBreakpointsListContext)_localctx).breakpointsListElements = breakpointsListElements();
-
-				  	((IncorrectRBreakpointsListContext)_localctx).s =  (((IncorrectRBreakpointsListContext)_localctx).breakpointsListElements!=null?_input.getText(((IncorrectRBreakpointsListContext)_localctx).breakpointsListElements.start,((IncorrectRBreakpointsListContext)_localctx).breakpointsListElements.stop):null);
-				  	((IncorrectRBreakpointsListContext)_localctx).l =  _localctx.s.length();
-				  	notifyErrorListeners(_localctx.l + "|Missing '()' for breakpoints list '" + _localctx.s + "'");
-				  
 				}
 				break;
 			case 6:
-				_localctx = new IncorrectRBreakpointsListContext(_localctx);
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(1408);
-				((IncorrectRBreakpointsListContext)_localctx).incorrectLeftParenthesis = incorrectLeftParenthesis();
-				setState(1409);
-				((IncorrectRBreakpointsListContext)_localctx).breakpointsListElements = breakpointsListElements();
-				setState(1410);
-				((IncorrectRBreakpointsListContext)_localctx).incorrectRightParenthesis = incorrectRightParenthesis();
-
-				  	((IncorrectRBreakpointsListContext)_localctx).s =  (((IncorrectRBreakpointsListContext)_localctx).breakpointsListElements!=null?_input.getText(((IncorrectRBreakpointsListContext)_localctx).breakpointsListElements.start,((IncorrectRBreakpointsListContext)_localctx).breakpointsListElements.stop):null);
-				  	((IncorrectRBreakpointsListContext)_localctx).l =  _localctx.s.length();
-				  	if ((((IncorrectRBreakpointsListContext)_localctx).incorrectLeftParenthesis!=null?_input.getText(((IncorrectRBreakpointsListContext)_localctx).incorrectLeftParenthesis.start,((IncorrectRBreakpointsListContext)_localctx).incorrectLeftParenthesis.stop):null) != null) {
-				  		((IncorrectRBreakpointsListContext)_localctx).l =  _localctx.l + (((IncorrectRBreakpointsListContext)_localctx).incorrectLeftParenthesis!=null?_input.getText(((IncorrectRBreakpointsListContext)_localctx).incorrectLeftParenthesis.start,((IncorrectRBreakpointsListContext)_localctx).incorrectLeftParenthesis.stop):null).length();
-				  	}
-				  	if ((((IncorrectRBreakpointsListContext)_localctx).incorrectRightParenthesis!=null?_input.getText(((IncorrectRBreakpointsListContext)_localctx).incorrectRightParenthesis.start,((IncorrectRBreakpointsListContext)_localctx).incorrectRightParenthesis.stop):null) != null) {
-				  		((IncorrectRBreakpointsListContext)_localctx).l =  _localctx.l + (((IncorrectRBreakpointsListContext)_localctx).incorrectRightParenthesis!=null?_input.getText(((IncorrectRBreakpointsListContext)_localctx).incorrectRightParenthesis.start,((IncorrectRBreakpointsListContext)_localctx).incorrectRightParenthesis.stop):null).length();
-				  	}
-				  	notifyErrorListeners(_localctx.l + "|Wrong bracket format for breakpoints list '" + _localctx.s + "', expecting '()'");
-				  
-				}
-				break;
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
-	public static class IdUncertainChrContext extends ParserRuleContext {
-		public IdUncertainChrContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_idUncertainChr; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterIdUncertainChr(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitIdUncertainChr(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitIdUncertainChr(this);
-			else return visitor.visitChildren(this);
-		}
-	}
-
-	public final IdUncertainChrContext idUncertainChr() throws RecognitionException {
-		IdUncertainChrContext _localctx = new IdUncertainChrContext(_ctx, getState());
-		enterRule(_localctx, 122, RULE_idUncertainChr);
-		int _la;
-		try {
-			setState(1449);
-			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,210,_ctx) ) {
-			case 1:
-				enterOuterAlt(_localctx, 1);
-				{
-				setState(1415);
-				_la = _input.LA(1);
-				if ( !(_la==T__11 || _la==T__12) ) {
-				_errHandler.recoverInline(this);
-				}
-				else {
-					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-					_errHandler.reportMatch(this);
-					consume();
-				}
-				setState(1416);
-				_la = _input.LA(1);
-				if ( !(_la==T__26 || _la==T__27) ) {
-				_errHandler.recoverInline(this);
-				}
-				else {
-					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-					_errHandler.reportMatch(this);
-					consume();
-				}
-				setState(1417);
-				_la = _input.LA(1);
-				if ( !(_la==T__26 || _la==T__27) ) {
-				_errHandler.recoverInline(this);
-				}
-				else {
-					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-					_errHandler.reportMatch(this);
-					consume();
-				}
-				}
-				break;
-			case 2:
-				enterOuterAlt(_localctx, 2);
-				{
-				setState(1418);
-				_la = _input.LA(1);
-				if ( !(_la==T__26 || _la==T__27) ) {
-				_errHandler.recoverInline(this);
-				}
-				else {
-					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-					_errHandler.reportMatch(this);
-					consume();
-				}
-				setState(1419);
-				_la = _input.LA(1);
-				if ( !(_la==T__19 || _la==T__20) ) {
-				_errHandler.recoverInline(this);
-				}
-				else {
-					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-					_errHandler.reportMatch(this);
-					consume();
-				}
-				setState(1420);
-				_la = _input.LA(1);
-				if ( !(_la==T__9 || _la==T__10) ) {
-				_errHandler.recoverInline(this);
-				}
-				else {
-					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-					_errHandler.reportMatch(this);
-					consume();
-				}
-				}
-				break;
-			case 3:
-				enterOuterAlt(_localctx, 3);
-				{
-				setState(1424);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-				if (_la==T__36 || _la==T__37) {
-					{
-					setState(1421);
-					_la = _input.LA(1);
-					if ( !(_la==T__36 || _la==T__37) ) {
-					_errHandler.recoverInline(this);
-					}
-					else {
-						if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-						_errHandler.reportMatch(this);
-						consume();
-					}
-					setState(1422);
-					_la = _input.LA(1);
-					if ( !(_la==T__28 || _la==T__29) ) {
-					_errHandler.recoverInline(this);
-					}
-					else {
-						if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-						_errHandler.reportMatch(this);
-						consume();
-					}
-					setState(1423);
-					_la = _input.LA(1);
-					if ( !(_la==T__38 || _la==T__39) ) {
-					_errHandler.recoverInline(this);
-					}
-					else {
-						if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-						_errHandler.reportMatch(this);
-						consume();
-					}
-					}
-				}
-
-				setState(1426);
-				_la = _input.LA(1);
-				if ( !(_la==T__24 || _la==T__25) ) {
-				_errHandler.recoverInline(this);
-				}
-				else {
-					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-					_errHandler.reportMatch(this);
-					consume();
-				}
-				setState(1427);
-				_la = _input.LA(1);
-				if ( !(_la==T__26 || _la==T__27) ) {
-				_errHandler.recoverInline(this);
-				}
-				else {
-					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-					_errHandler.reportMatch(this);
-					consume();
-				}
-				setState(1428);
-				_la = _input.LA(1);
-				if ( !(_la==T__24 || _la==T__25) ) {
-				_errHandler.recoverInline(this);
-				}
-				else {
-					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-					_errHandler.reportMatch(this);
-					consume();
-				}
-				setState(1429);
-				_la = _input.LA(1);
-				if ( !(_la==T__7 || _la==T__8) ) {
-				_errHandler.recoverInline(this);
-				}
-				else {
-					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-					_errHandler.reportMatch(this);
-					consume();
-				}
-				}
-				break;
-			case 4:
-				enterOuterAlt(_localctx, 4);
-				{
-				setState(1430);
-				_la = _input.LA(1);
-				if ( !(_la==T__26 || _la==T__27) ) {
-				_errHandler.recoverInline(this);
-				}
-				else {
-					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-					_errHandler.reportMatch(this);
-					consume();
-				}
-				setState(1431);
-				_la = _input.LA(1);
-				if ( !(_la==T__38 || _la==T__39) ) {
-				_errHandler.recoverInline(this);
-				}
-				else {
-					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-					_errHandler.reportMatch(this);
-					consume();
-				}
-				setState(1432);
-				_la = _input.LA(1);
-				if ( !(_la==T__36 || _la==T__37) ) {
-				_errHandler.recoverInline(this);
-				}
-				else {
-					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-					_errHandler.reportMatch(this);
-					consume();
-				}
-				}
-				break;
-			case 5:
-				enterOuterAlt(_localctx, 5);
-				{
-				setState(1433);
-				_la = _input.LA(1);
-				if ( !(_la==T__40 || _la==T__41) ) {
-				_errHandler.recoverInline(this);
-				}
-				else {
-					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-					_errHandler.reportMatch(this);
-					consume();
-				}
-				setState(1434);
-				_la = _input.LA(1);
-				if ( !(_la==T__15 || _la==T__16) ) {
-				_errHandler.recoverInline(this);
-				}
-				else {
-					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-					_errHandler.reportMatch(this);
-					consume();
-				}
-				setState(1435);
-				_la = _input.LA(1);
-				if ( !(_la==T__36 || _la==T__37) ) {
-				_errHandler.recoverInline(this);
-				}
-				else {
-					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-					_errHandler.reportMatch(this);
-					consume();
-				}
-				}
-				break;
-			case 6:
-				enterOuterAlt(_localctx, 6);
-				{
-				setState(1436);
-				_la = _input.LA(1);
-				if ( !(_la==T__42 || _la==T__43) ) {
-				_errHandler.recoverInline(this);
-				}
-				else {
-					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-					_errHandler.reportMatch(this);
-					consume();
-				}
-				setState(1437);
-				_la = _input.LA(1);
-				if ( !(_la==T__26 || _la==T__27) ) {
-				_errHandler.recoverInline(this);
-				}
-				else {
-					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-					_errHandler.reportMatch(this);
-					consume();
-				}
-				setState(1438);
-				_la = _input.LA(1);
-				if ( !(_la==T__36 || _la==T__37) ) {
-				_errHandler.recoverInline(this);
-				}
-				else {
-					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-					_errHandler.reportMatch(this);
-					consume();
-				}
-				}
-				break;
-			case 7:
-				enterOuterAlt(_localctx, 7);
-				{
-				setState(1439);
-				_la = _input.LA(1);
-				if ( !(_la==T__44 || _la==T__45) ) {
-				_errHandler.recoverInline(this);
-				}
-				else {
-					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-					_errHandler.reportMatch(this);
-					consume();
-				}
-				setState(1440);
-				_la = _input.LA(1);
-				if ( !(_la==T__28 || _la==T__29) ) {
-				_errHandler.recoverInline(this);
-				}
-				else {
-					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-					_errHandler.reportMatch(this);
-					consume();
-				}
-				setState(1441);
-				_la = _input.LA(1);
-				if ( !(_la==T__15 || _la==T__16) ) {
-				_errHandler.recoverInline(this);
-				}
-				else {
-					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-					_errHandler.reportMatch(this);
-					consume();
-				}
-				}
-				break;
-			case 8:
-				enterOuterAlt(_localctx, 8);
-				{
-				setState(1442);
-				_la = _input.LA(1);
-				if ( !(_la==T__24 || _la==T__25) ) {
-				_errHandler.recoverInline(this);
-				}
-				else {
-					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-					_errHandler.reportMatch(this);
-					consume();
-				}
-				setState(1443);
-				_la = _input.LA(1);
-				if ( !(_la==T__3 || _la==T__4) ) {
-				_errHandler.recoverInline(this);
-				}
-				else {
-					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-					_errHandler.reportMatch(this);
-					consume();
-				}
-				setState(1444);
-				_la = _input.LA(1);
-				if ( !(_la==T__28 || _la==T__29) ) {
-				_errHandler.recoverInline(this);
-				}
-				else {
-					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-					_errHandler.reportMatch(this);
-					consume();
-				}
-				}
-				break;
-			case 9:
-				enterOuterAlt(_localctx, 9);
-				{
-				setState(1445);
-				_la = _input.LA(1);
-				if ( !(_la==T__24 || _la==T__25) ) {
-				_errHandler.recoverInline(this);
-				}
-				else {
-					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-					_errHandler.reportMatch(this);
-					consume();
-				}
-				setState(1446);
-				_la = _input.LA(1);
-				if ( !(_la==T__3 || _la==T__4) ) {
-				_errHandler.recoverInline(this);
-				}
-				else {
-					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-					_errHandler.reportMatch(this);
-					consume();
-				}
-				setState(1447);
-				_la = _input.LA(1);
-				if ( !(_la==T__46 || _la==T__47) ) {
-				_errHandler.recoverInline(this);
-				}
-				else {
-					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-					_errHandler.reportMatch(this);
-					consume();
-				}
-				}
-				break;
-			case 10:
-				enterOuterAlt(_localctx, 10);
-				{
-				setState(1448);
-				_la = _input.LA(1);
-				if ( !(_la==T__24 || _la==T__25) ) {
-				_errHandler.recoverInline(this);
-				}
-				else {
-					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-					_errHandler.reportMatch(this);
-					consume();
-				}
-				}
-				break;
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
-	public static class UncertainChrContext extends ParserRuleContext {
-		public String s = "";
-		public int l = 0;
-		public UncertainChrContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_uncertainChr; }
-	 
-		public UncertainChrContext() { }
-		public void copyFrom(UncertainChrContext ctx) {
-			super.copyFrom(ctx);
-			this.s = ctx.s;
-			this.l = ctx.l;
-		}
-	}
-	public static class IncorrectUncertainChrContext extends UncertainChrContext {
-		public UncertainChrContentContext uncertainChrContent;
-		public IncorrectLeftParenthesisContext incorrectLeftParenthesis;
-		public IncorrectRightParenthesisContext incorrectRightParenthesis;
-		public UncertainChrContentContext uncertainChrContent() {
-			return getRuleContext(UncertainChrContentContext.class,0);
-		}
-		public IncorrectLeftParenthesisContext incorrectLeftParenthesis() {
-			return getRuleContext(IncorrectLeftParenthesisContext.class,0);
-		}
-		public IncorrectRightParenthesisContext incorrectRightParenthesis() {
-			return getRuleContext(IncorrectRightParenthesisContext.class,0);
-		}
-		public IncorrectUncertainChrContext(UncertainChrContext ctx) { copyFrom(ctx); }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterIncorrectUncertainChr(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitIncorrectUncertainChr(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitIncorrectUncertainChr(this);
-			else return visitor.visitChildren(this);
-		}
-	}
-	public static class CorrectUncertainChrContext extends UncertainChrContext {
-		public UncertainChrContentContext uncertainChrContent() {
-			return getRuleContext(UncertainChrContentContext.class,0);
-		}
-		public CorrectUncertainChrContext(UncertainChrContext ctx) { copyFrom(ctx); }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterCorrectUncertainChr(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitCorrectUncertainChr(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitCorrectUncertainChr(this);
-			else return visitor.visitChildren(this);
-		}
-	}
-
-	public final UncertainChrContext uncertainChr() throws RecognitionException {
-		UncertainChrContext _localctx = new UncertainChrContext(_ctx, getState());
-		enterRule(_localctx, 124, RULE_uncertainChr);
-		try {
-			setState(1471);
-			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,211,_ctx) ) {
-			case 1:
-				_localctx = new CorrectUncertainChrContext(_localctx);
-				enterOuterAlt(_localctx, 1);
-				{
-				setState(1451);
-				match(T__30);
-				setState(1452);
-				uncertainChrContent();
-				setState(1453);
-				match(T__31);
-				}
-				break;
-			case 2:
-				_localctx = new IncorrectUncertainChrContext(_localctx);
-				enterOuterAlt(_localctx, 2);
-				{
-				setState(1455);
-				((IncorrectUncertainChrContext)_localctx).uncertainChrContent = uncertainChrContent();
-				setState(1456);
-				match(T__31);
-
-				  	((IncorrectUncertainChrContext)_localctx).s =  (((IncorrectUncertainChrContext)_localctx).uncertainChrContent!=null?_input.getText(((IncorrectUncertainChrContext)_localctx).uncertainChrContent.start,((IncorrectUncertainChrContext)_localctx).uncertainChrContent.stop):null);
-				  	((IncorrectUncertainChrContext)_localctx).l =  _localctx.s.length() + 1;
-				  	notifyErrorListeners(_localctx.l + "|Missing '(' for an uncertain chr '" + _localctx.s + "'");
-				  
-				}
-				break;
-			case 3:
-				_localctx = new IncorrectUncertainChrContext(_localctx);
-				enterOuterAlt(_localctx, 3);
-				{
-				setState(1459);
-				match(T__30);
-				setState(1460);
-				((IncorrectUncertainChrContext)_localctx).uncertainChrContent = uncertainChrContent();
-
-				  	((IncorrectUncertainChrContext)_localctx).s =  (((IncorrectUncertainChrContext)_localctx).uncertainChrContent!=null?_input.getText(((IncorrectUncertainChrContext)_localctx).uncertainChrContent.start,((IncorrectUncertainChrContext)_localctx).uncertainChrContent.stop):null);
-				  	((IncorrectUncertainChrContext)_localctx).l =  _localctx.s.length() + 1;
-				  	notifyErrorListeners(_localctx.l + "|Missing ')' for an uncertain chr '" + _localctx.s + "'");
-				  
-				}
-				break;
-			case 4:
-				_localctx = new IncorrectUncertainChrContext(_localctx);
-				enterOuterAlt(_localctx, 4);
-				{
-				setState(1463);
-				((IncorrectUncertainChrContext)_localctx).uncertainChrContent = uncertainChrContent();
-
-				  	((IncorrectUncertainChrContext)_localctx).s =  (((IncorrectUncertainChrContext)_localctx).uncertainChrContent!=null?_input.getText(((IncorrectUncertainChrContext)_localctx).uncertainChrContent.start,((IncorrectUncertainChrContext)_localctx).uncertainChrContent.stop):null);
-				  	((IncorrectUncertainChrContext)_localctx).l =  _localctx.s.length();
-				  	notifyErrorListeners(_localctx.l + "|Missing '()' for an uncertain chr '" + _localctx.s + "'");
-				  
-				}
-				break;
-			case 5:
-				_localctx = new IncorrectUncertainChrContext(_localctx);
-				enterOuterAlt(_localctx, 5);
-				{
-				setState(1466);
-				((IncorrectUncertainChrContext)_localctx).incorrectLeftParenthesis = incorrectLeftParenthesis();
-				setState(1467);
-				((IncorrectUncertainChrContext)_localctx).uncertainChrContent = uncertainChrContent();
-				setState(1468);
-				((IncorrectUncertainChrContext)_localctx).incorrectRightParenthesis = incorrectRightParenthesis();
-
-				  	((IncorrectUncertainChrContext)_localctx).s =  (((IncorrectUncertainChrContext)_localctx).uncertainChrContent!=null?_input.getText(((IncorrectUncertainChrContext)_localctx).uncertainChrContent.start,((IncorrectUncertainChrContext)_localctx).uncertainChrContent.stop):null);
-				  	((IncorrectUncertainChrContext)_localctx).l =  _localctx.s.length();
-				  	if ((((IncorrectUncertainChrContext)_localctx).incorrectLeftParenthesis!=null?_input.getText(((IncorrectUncertainChrContext)_localctx).incorrectLeftParenthesis.start,((IncorrectUncertainChrContext)_localctx).incorrectLeftParenthesis.stop):null) != null) {
-				  		((IncorrectUncertainChrContext)_localctx).l =  _localctx.l + (((IncorrectUncertainChrContext)_localctx).incorrectLeftParenthesis!=null?_input.getText(((IncorrectUncertainChrContext)_localctx).incorrectLeftParenthesis.start,((IncorrectUncertainChrContext)_localctx).incorrectLeftParenthesis.stop):null).length();
-				  	}
-				  	if ((((IncorrectUncertainChrContext)_localctx).incorrectRightParenthesis!=null?_input.getText(((IncorrectUncertainChrContext)_localctx).incorrectRightParenthesis.start,((IncorrectUncertainChrContext)_localctx).incorrectRightParenthesis.stop):null) != null) {
-				  		((IncorrectUncertainChrContext)_localctx).l =  _localctx.l + (((IncorrectUncertainChrContext)_localctx).incorrectRightParenthesis!=null?_input.getText(((IncorrectUncertainChrContext)_localctx).incorrectRightParenthesis.start,((IncorrectUncertainChrContext)_localctx).incorrectRightParenthesis.stop):null).length();
-				  	}
-				  	notifyErrorListeners(_localctx.l + "|Wrong bracket format for an uncertain chr '" + _localctx.s + "', expecting '()'");
-				  
-				}
-				break;
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
-	public static class UncertainChrContentContext extends ParserRuleContext {
-		public ChrContext chr() {
-			return getRuleContext(ChrContext.class,0);
-		}
-		public ArmContext arm() {
-			return getRuleContext(ArmContext.class,0);
-		}
-		public TerminalNode QUES() { return getToken(KaryotypeParser.QUES, 0); }
-		public UncertainChrContentContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_uncertainChrContent; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterUncertainChrContent(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitUncertainChrContent(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitUncertainChrContent(this);
-			else return visitor.visitChildren(this);
-		}
-	}
-
-	public final UncertainChrContentContext uncertainChrContent() throws RecognitionException {
-		UncertainChrContentContext _localctx = new UncertainChrContentContext(_ctx, getState());
-		enterRule(_localctx, 126, RULE_uncertainChrContent);
-		int _la;
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(1473);
-			chr();
-			setState(1475);
-			_errHandler.sync(this);
-			_la = _input.LA(1);
-			if (_la==QUES) {
-				{
-				setState(1474);
-				match(QUES);
-				}
-			}
-
-			setState(1477);
-			arm();
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
-	public static class ArmContext extends ParserRuleContext {
-		public ArmContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_arm; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterArm(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitArm(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitArm(this);
-			else return visitor.visitChildren(this);
-		}
-	}
-
-	public final ArmContext arm() throws RecognitionException {
-		ArmContext _localctx = new ArmContext(_ctx, getState());
-		enterRule(_localctx, 128, RULE_arm);
-		int _la;
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(1479);
-			_la = _input.LA(1);
-			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__36) | (1L << T__37) | (1L << T__42) | (1L << T__43))) != 0)) ) {
-			_errHandler.recoverInline(this);
-			}
-			else {
-				if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-				_errHandler.reportMatch(this);
-				consume();
-			}
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
-	public static class BandContext extends ParserRuleContext {
-		public ArmContext arm() {
-			return getRuleContext(ArmContext.class,0);
-		}
-		public List<TerminalNode> QUES() { return getTokens(KaryotypeParser.QUES); }
-		public TerminalNode QUES(int i) {
-			return getToken(KaryotypeParser.QUES, i);
-		}
-		public List<DigitContext> digit() {
-			return getRuleContexts(DigitContext.class);
-		}
-		public DigitContext digit(int i) {
-			return getRuleContext(DigitContext.class,i);
-		}
-		public NumRangeTypeIIContext numRangeTypeII() {
-			return getRuleContext(NumRangeTypeIIContext.class,0);
-		}
-		public BandContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_band; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterBand(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitBand(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitBand(this);
-			else return visitor.visitChildren(this);
-		}
-	}
-
-	public final BandContext band() throws RecognitionException {
-		BandContext _localctx = new BandContext(_ctx, getState());
-		enterRule(_localctx, 130, RULE_band);
-		int _la;
-		try {
-			int _alt;
-			setState(1502);
-			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,218,_ctx) ) {
-			case 1:
-				enterOuterAlt(_localctx, 1);
-				{
-				setState(1482);
-				_errHandler.sync(this);
+				setState(846);
 				_la = _input.LA(1);
-				if (_la==QUES) {
-					{
-					setState(1481);
-					match(QUES);
-					}
+				if ( !(_la==T__38 || _la==T__39) ) {
+				_errHandler.recoverInline(this);
+				}
+				else {
+					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+					_errHandler.reportMatch(this);
+					consume();
+				}
+				setState(847);
+				_la = _input.LA(1);
+				if ( !(_la==T__25 || _la==T__26) ) {
+				_errHandler.recoverInline(this);
+				}
+				else {
+					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+					_errHandler.reportMatch(this);
+					consume();
+				}
+				setState(848);
+				_la = _input.LA(1);
+				if ( !(_la==T__32 || _la==T__33) ) {
+				_errHandler.recoverInline(this);
+				}
+				else {
+					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+					_errHandler.reportMatch(this);
+					consume();
 				}
-
-				setState(1484);
-				arm();
-				setState(1487); 
-				_errHandler.sync(this);
-				_alt = 1;
-				do {
-					switch (_alt) {
-					case 1:
-						{
-						setState(1487);
-						_errHandler.sync(this);
-						switch (_input.LA(1)) {
-						case T__48:
-						case POSITIVEDIGIT:
-							{
-							setState(1485);
-							digit();
-							}
-							break;
-						case QUES:
-							{
-							setState(1486);
-							match(QUES);
-							}
-							break;
-						default:
-							throw new NoViableAltException(this);
-						}
-						}
-						break;
-					default:
-						throw new NoViableAltException(this);
-					}
-					setState(1489); 
-					_errHandler.sync(this);
-					_alt = getInterpreter().adaptivePredict(_input,215,_ctx);
-				} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
 				}
 				break;
-			case 2:
-				enterOuterAlt(_localctx, 2);
+			case 7:
+				enterOuterAlt(_localctx, 7);
 				{
-				setState(1491);
-				match(QUES);
-				setState(1494); 
-				_errHandler.sync(this);
-				_alt = 1;
-				do {
-					switch (_alt) {
-					case 1:
-						{
-						setState(1494);
-						_errHandler.sync(this);
-						switch (_input.LA(1)) {
-						case T__48:
-						case POSITIVEDIGIT:
-							{
-							setState(1492);
-							digit();
-							}
-							break;
-						case QUES:
-							{
-							setState(1493);
-							match(QUES);
-							}
-							break;
-						default:
-							throw new NoViableAltException(this);
-						}
-						}
-						break;
-					default:
-						throw new NoViableAltException(this);
-					}
-					setState(1496); 
-					_errHandler.sync(this);
-					_alt = getInterpreter().adaptivePredict(_input,217,_ctx);
-				} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
+				setState(849);
+				_la = _input.LA(1);
+				if ( !(_la==T__40 || _la==T__41) ) {
+				_errHandler.recoverInline(this);
+				}
+				else {
+					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+					_errHandler.reportMatch(this);
+					consume();
+				}
+				setState(850);
+				_la = _input.LA(1);
+				if ( !(_la==T__27 || _la==T__28) ) {
+				_errHandler.recoverInline(this);
+				}
+				else {
+					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+					_errHandler.reportMatch(this);
+					consume();
+				}
+				setState(851);
+				_la = _input.LA(1);
+				if ( !(_la==T__15 || _la==T__16) ) {
+				_errHandler.recoverInline(this);
+				}
+				else {
+					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+					_errHandler.reportMatch(this);
+					consume();
+				}
 				}
 				break;
-			case 3:
-				enterOuterAlt(_localctx, 3);
+			case 8:
+				enterOuterAlt(_localctx, 8);
 				{
-				setState(1498);
-				match(QUES);
+				setState(852);
+				_la = _input.LA(1);
+				if ( !(_la==T__23 || _la==T__24) ) {
+				_errHandler.recoverInline(this);
+				}
+				else {
+					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+					_errHandler.reportMatch(this);
+					consume();
+				}
+				setState(853);
+				_la = _input.LA(1);
+				if ( !(_la==T__3 || _la==T__4) ) {
+				_errHandler.recoverInline(this);
+				}
+				else {
+					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+					_errHandler.reportMatch(this);
+					consume();
+				}
+				setState(854);
+				_la = _input.LA(1);
+				if ( !(_la==T__27 || _la==T__28) ) {
+				_errHandler.recoverInline(this);
+				}
+				else {
+					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+					_errHandler.reportMatch(this);
+					consume();
+				}
 				}
 				break;
-			case 4:
-				enterOuterAlt(_localctx, 4);
+			case 9:
+				enterOuterAlt(_localctx, 9);
 				{
-				setState(1499);
-				arm();
-				setState(1500);
-				numRangeTypeII();
+				setState(855);
+				_la = _input.LA(1);
+				if ( !(_la==T__23 || _la==T__24) ) {
+				_errHandler.recoverInline(this);
+				}
+				else {
+					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+					_errHandler.reportMatch(this);
+					consume();
+				}
+				setState(856);
+				_la = _input.LA(1);
+				if ( !(_la==T__3 || _la==T__4) ) {
+				_errHandler.recoverInline(this);
+				}
+				else {
+					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+					_errHandler.reportMatch(this);
+					consume();
+				}
+				setState(857);
+				_la = _input.LA(1);
+				if ( !(_la==T__42 || _la==T__43) ) {
+				_errHandler.recoverInline(this);
+				}
+				else {
+					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+					_errHandler.reportMatch(this);
+					consume();
+				}
 				}
 				break;
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
-	public static class BreakpointContext extends ParserRuleContext {
-		public BandContext band() {
-			return getRuleContext(BandContext.class,0);
-		}
-		public SubbandContext subband() {
-			return getRuleContext(SubbandContext.class,0);
-		}
-		public BreakpointContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_breakpoint; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterBreakpoint(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitBreakpoint(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitBreakpoint(this);
-			else return visitor.visitChildren(this);
-		}
-	}
-
-	public final BreakpointContext breakpoint() throws RecognitionException {
-		BreakpointContext _localctx = new BreakpointContext(_ctx, getState());
-		enterRule(_localctx, 132, RULE_breakpoint);
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(1504);
-			band();
-			setState(1506);
-			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,219,_ctx) ) {
-			case 1:
+			case 10:
+				enterOuterAlt(_localctx, 10);
 				{
-				setState(1505);
-				subband();
+				setState(858);
+				_la = _input.LA(1);
+				if ( !(_la==T__23 || _la==T__24) ) {
+				_errHandler.recoverInline(this);
+				}
+				else {
+					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+					_errHandler.reportMatch(this);
+					consume();
+				}
 				}
 				break;
 			}
-			}
 		}
 		catch (RecognitionException re) {
 			_localctx.exception = re;
@@ -9535,59 +5808,50 @@ public class KaryotypeParser extends Parser {
 		return _localctx;
 	}
 
-	public static class BreakpointsContext extends ParserRuleContext {
-		public List<BreakpointContext> breakpoint() {
-			return getRuleContexts(BreakpointContext.class);
+	public static class UncertainChrContext extends ParserRuleContext {
+		public UncertainChrContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
 		}
-		public BreakpointContext breakpoint(int i) {
-			return getRuleContext(BreakpointContext.class,i);
+		@Override public int getRuleIndex() { return RULE_uncertainChr; }
+	 
+		public UncertainChrContext() { }
+		public void copyFrom(UncertainChrContext ctx) {
+			super.copyFrom(ctx);
 		}
-		public BreakpointsContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
+	}
+	public static class CorrectUncertainChrContext extends UncertainChrContext {
+		public UncertainChrContentContext uncertainChrContent() {
+			return getRuleContext(UncertainChrContentContext.class,0);
 		}
-		@Override public int getRuleIndex() { return RULE_breakpoints; }
+		public CorrectUncertainChrContext(UncertainChrContext ctx) { copyFrom(ctx); }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterBreakpoints(this);
+			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterCorrectUncertainChr(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitBreakpoints(this);
+			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitCorrectUncertainChr(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitBreakpoints(this);
+			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitCorrectUncertainChr(this);
 			else return visitor.visitChildren(this);
 		}
 	}
 
-	public final BreakpointsContext breakpoints() throws RecognitionException {
-		BreakpointsContext _localctx = new BreakpointsContext(_ctx, getState());
-		enterRule(_localctx, 134, RULE_breakpoints);
+	public final UncertainChrContext uncertainChr() throws RecognitionException {
+		UncertainChrContext _localctx = new UncertainChrContext(_ctx, getState());
+		enterRule(_localctx, 104, RULE_uncertainChr);
 		try {
-			int _alt;
+			_localctx = new CorrectUncertainChrContext(_localctx);
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1509); 
-			_errHandler.sync(this);
-			_alt = 1;
-			do {
-				switch (_alt) {
-				case 1:
-					{
-					{
-					setState(1508);
-					breakpoint();
-					}
-					}
-					break;
-				default:
-					throw new NoViableAltException(this);
-				}
-				setState(1511); 
-				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,220,_ctx);
-			} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
+			setState(861);
+			match(T__29);
+			setState(862);
+			uncertainChrContent();
+			setState(863);
+			match(T__30);
 			}
 		}
 		catch (RecognitionException re) {
@@ -9601,43 +5865,54 @@ public class KaryotypeParser extends Parser {
 		return _localctx;
 	}
 
-	public static class CContext extends ParserRuleContext {
-		public CContext(ParserRuleContext parent, int invokingState) {
+	public static class UncertainChrContentContext extends ParserRuleContext {
+		public ChrContext chr() {
+			return getRuleContext(ChrContext.class,0);
+		}
+		public ArmContext arm() {
+			return getRuleContext(ArmContext.class,0);
+		}
+		public TerminalNode QUES() { return getToken(KaryotypeParser.QUES, 0); }
+		public UncertainChrContentContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
-		@Override public int getRuleIndex() { return RULE_c; }
+		@Override public int getRuleIndex() { return RULE_uncertainChrContent; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterC(this);
+			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterUncertainChrContent(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitC(this);
+			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitUncertainChrContent(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitC(this);
+			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitUncertainChrContent(this);
 			else return visitor.visitChildren(this);
 		}
 	}
 
-	public final CContext c() throws RecognitionException {
-		CContext _localctx = new CContext(_ctx, getState());
-		enterRule(_localctx, 136, RULE_c);
+	public final UncertainChrContentContext uncertainChrContent() throws RecognitionException {
+		UncertainChrContentContext _localctx = new UncertainChrContentContext(_ctx, getState());
+		enterRule(_localctx, 106, RULE_uncertainChrContent);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1513);
+			setState(865);
+			chr();
+			setState(867);
+			_errHandler.sync(this);
 			_la = _input.LA(1);
-			if ( !(_la==T__7 || _la==T__8) ) {
-			_errHandler.recoverInline(this);
-			}
-			else {
-				if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-				_errHandler.reportMatch(this);
-				consume();
+			if (_la==QUES) {
+				{
+				setState(866);
+				match(QUES);
+				}
 			}
+
+			setState(869);
+			arm();
 			}
 		}
 		catch (RecognitionException re) {
@@ -9651,256 +5926,43 @@ public class KaryotypeParser extends Parser {
 		return _localctx;
 	}
 
-	public static class CellNumContext extends ParserRuleContext {
-		public int l = 0;
-		public CellNumContext(ParserRuleContext parent, int invokingState) {
+	public static class ArmContext extends ParserRuleContext {
+		public ArmContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
-		@Override public int getRuleIndex() { return RULE_cellNum; }
-	 
-		public CellNumContext() { }
-		public void copyFrom(CellNumContext ctx) {
-			super.copyFrom(ctx);
-			this.l = ctx.l;
-		}
-	}
-	public static class IncorrectCellNumContext extends CellNumContext {
-		public CellNumContentContext cellNumContent;
-		public IncorrectLeftParenthesisIIContext incorrectLeftParenthesisII;
-		public IncorrectRightParenthesisContext incorrectRightParenthesis;
-		public CpContext cp;
-		public Token s;
-		public CellNumContentContext cellNumContent() {
-			return getRuleContext(CellNumContentContext.class,0);
-		}
-		public IncorrectLeftParenthesisIIContext incorrectLeftParenthesisII() {
-			return getRuleContext(IncorrectLeftParenthesisIIContext.class,0);
-		}
-		public IncorrectRightParenthesisContext incorrectRightParenthesis() {
-			return getRuleContext(IncorrectRightParenthesisContext.class,0);
-		}
-		public CpContext cp() {
-			return getRuleContext(CpContext.class,0);
-		}
-		public IncorrectCellNumContext(CellNumContext ctx) { copyFrom(ctx); }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterIncorrectCellNum(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitIncorrectCellNum(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitIncorrectCellNum(this);
-			else return visitor.visitChildren(this);
-		}
-	}
-	public static class CorrectCellNumContext extends CellNumContext {
-		public CellNumContentContext cellNumContent() {
-			return getRuleContext(CellNumContentContext.class,0);
-		}
-		public CorrectCellNumContext(CellNumContext ctx) { copyFrom(ctx); }
+		@Override public int getRuleIndex() { return RULE_arm; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterCorrectCellNum(this);
+			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterArm(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitCorrectCellNum(this);
+			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitArm(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitCorrectCellNum(this);
+			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitArm(this);
 			else return visitor.visitChildren(this);
 		}
 	}
 
-	public final CellNumContext cellNum() throws RecognitionException {
-		CellNumContext _localctx = new CellNumContext(_ctx, getState());
-		enterRule(_localctx, 138, RULE_cellNum);
+	public final ArmContext arm() throws RecognitionException {
+		ArmContext _localctx = new ArmContext(_ctx, getState());
+		enterRule(_localctx, 108, RULE_arm);
 		int _la;
 		try {
-			setState(1551);
-			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,223,_ctx) ) {
-			case 1:
-				_localctx = new CorrectCellNumContext(_localctx);
-				enterOuterAlt(_localctx, 1);
-				{
-				setState(1515);
-				match(T__32);
-				setState(1516);
-				cellNumContent();
-				setState(1517);
-				match(T__34);
-				}
-				break;
-			case 2:
-				_localctx = new IncorrectCellNumContext(_localctx);
-				enterOuterAlt(_localctx, 2);
-				{
-				setState(1519);
-				((IncorrectCellNumContext)_localctx).cellNumContent = cellNumContent();
-				setState(1520);
-				match(T__34);
-
-				  	((IncorrectCellNumContext)_localctx).l =  (((IncorrectCellNumContext)_localctx).cellNumContent!=null?_input.getText(((IncorrectCellNumContext)_localctx).cellNumContent.start,((IncorrectCellNumContext)_localctx).cellNumContent.stop):null).length() + 1;
-				  	notifyErrorListeners(_localctx.l + "|Missing '[' for the cell number designation");
-				  
-				}
-				break;
-			case 3:
-				_localctx = new IncorrectCellNumContext(_localctx);
-				enterOuterAlt(_localctx, 3);
-				{
-				setState(1523);
-				match(T__32);
-				setState(1524);
-				((IncorrectCellNumContext)_localctx).cellNumContent = cellNumContent();
-
-				  	((IncorrectCellNumContext)_localctx).l =  (((IncorrectCellNumContext)_localctx).cellNumContent!=null?_input.getText(((IncorrectCellNumContext)_localctx).cellNumContent.start,((IncorrectCellNumContext)_localctx).cellNumContent.stop):null).length() + 1;
-				  	notifyErrorListeners(_localctx.l + "|Missing ']' for the cell number designation");
-				  
-				}
-				break;
-			case 4:
-				_localctx = new IncorrectCellNumContext(_localctx);
-				enterOuterAlt(_localctx, 4);
-				{
-				setState(1527);
-				((IncorrectCellNumContext)_localctx).incorrectLeftParenthesisII = incorrectLeftParenthesisII();
-				setState(1528);
-				((IncorrectCellNumContext)_localctx).cellNumContent = cellNumContent();
-				setState(1529);
-				((IncorrectCellNumContext)_localctx).incorrectRightParenthesis = incorrectRightParenthesis();
-
-				  	((IncorrectCellNumContext)_localctx).l =  (((IncorrectCellNumContext)_localctx).cellNumContent!=null?_input.getText(((IncorrectCellNumContext)_localctx).cellNumContent.start,((IncorrectCellNumContext)_localctx).cellNumContent.stop):null).length();
-				  	((IncorrectCellNumContext)_localctx).l =  _localctx.l + (((IncorrectCellNumContext)_localctx).incorrectLeftParenthesisII!=null?_input.getText(((IncorrectCellNumContext)_localctx).incorrectLeftParenthesisII.start,((IncorrectCellNumContext)_localctx).incorrectLeftParenthesisII.stop):null).length();
-				  	if ((((IncorrectCellNumContext)_localctx).incorrectRightParenthesis!=null?_input.getText(((IncorrectCellNumContext)_localctx).incorrectRightParenthesis.start,((IncorrectCellNumContext)_localctx).incorrectRightParenthesis.stop):null) != null) {
-				  		((IncorrectCellNumContext)_localctx).l =  _localctx.l + (((IncorrectCellNumContext)_localctx).incorrectRightParenthesis!=null?_input.getText(((IncorrectCellNumContext)_localctx).incorrectRightParenthesis.start,((IncorrectCellNumContext)_localctx).incorrectRightParenthesis.stop):null).length();
-				  	}
-				  	notifyErrorListeners(_localctx.l + "|Wrong bracket format for the cell number designation");
-				  
-				}
-				break;
-			case 5:
-				_localctx = new IncorrectCellNumContext(_localctx);
-				enterOuterAlt(_localctx, 5);
-				{
-				setState(1533);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-				if (_la==T__7 || _la==T__8) {
-					{
-					setState(1532);
-					((IncorrectCellNumContext)_localctx).cp = cp();
-					}
-				}
-
-				setState(1535);
-				_la = _input.LA(1);
-				if ( !(_la==T__24 || _la==T__25) ) {
-				_errHandler.recoverInline(this);
-				}
-				else {
-					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-					_errHandler.reportMatch(this);
-					consume();
-				}
-				setState(1536);
-				_la = _input.LA(1);
-				if ( !(_la==T__3 || _la==T__4) ) {
-				_errHandler.recoverInline(this);
-				}
-				else {
-					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-					_errHandler.reportMatch(this);
-					consume();
-				}
-				setState(1537);
-				((IncorrectCellNumContext)_localctx).cellNumContent = cellNumContent();
-
-				  	((IncorrectCellNumContext)_localctx).l =  (((IncorrectCellNumContext)_localctx).cellNumContent!=null?_input.getText(((IncorrectCellNumContext)_localctx).cellNumContent.start,((IncorrectCellNumContext)_localctx).cellNumContent.stop):null).length() + 2;
-				  	if ((((IncorrectCellNumContext)_localctx).cp!=null?_input.getText(((IncorrectCellNumContext)_localctx).cp.start,((IncorrectCellNumContext)_localctx).cp.stop):null) != null) {
-				  		((IncorrectCellNumContext)_localctx).l =  _localctx.l + (((IncorrectCellNumContext)_localctx).cp!=null?_input.getText(((IncorrectCellNumContext)_localctx).cp.start,((IncorrectCellNumContext)_localctx).cp.stop):null).length();
-				  	}
-				  	notifyErrorListeners(_localctx.l + "|Wrong expression for the cell number designation");
-				  
-				}
-				break;
-			case 6:
-				_localctx = new IncorrectCellNumContext(_localctx);
-				enterOuterAlt(_localctx, 6);
-				{
-				setState(1540);
-				((IncorrectCellNumContext)_localctx).cellNumContent = cellNumContent();
-				setState(1541);
-				_la = _input.LA(1);
-				if ( !(_la==T__7 || _la==T__8) ) {
-				_errHandler.recoverInline(this);
-				}
-				else {
-					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-					_errHandler.reportMatch(this);
-					consume();
-				}
-				setState(1542);
-				_la = _input.LA(1);
-				if ( !(_la==T__19 || _la==T__20) ) {
-				_errHandler.recoverInline(this);
-				}
-				else {
-					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-					_errHandler.reportMatch(this);
-					consume();
-				}
-				setState(1543);
-				_la = _input.LA(1);
-				if ( !(_la==T__9 || _la==T__10) ) {
-				_errHandler.recoverInline(this);
-				}
-				else {
-					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-					_errHandler.reportMatch(this);
-					consume();
-				}
-				setState(1544);
-				_la = _input.LA(1);
-				if ( !(_la==T__9 || _la==T__10) ) {
-				_errHandler.recoverInline(this);
-				}
-				else {
-					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-					_errHandler.reportMatch(this);
-					consume();
-				}
-				setState(1547);
-				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,222,_ctx) ) {
-				case 1:
-					{
-					setState(1545);
-					((IncorrectCellNumContext)_localctx).s = match(T__28);
-					}
-					break;
-				case 2:
-					{
-					setState(1546);
-					((IncorrectCellNumContext)_localctx).s = match(T__29);
-					}
-					break;
-				}
-
-				  	((IncorrectCellNumContext)_localctx).l =  (((IncorrectCellNumContext)_localctx).cellNumContent!=null?_input.getText(((IncorrectCellNumContext)_localctx).cellNumContent.start,((IncorrectCellNumContext)_localctx).cellNumContent.stop):null).length() + 4;
-				  	if ((((IncorrectCellNumContext)_localctx).s!=null?((IncorrectCellNumContext)_localctx).s.getText():null) != null) {
-				  		((IncorrectCellNumContext)_localctx).l =  _localctx.l + 1;
-				  	}
-				  	notifyErrorListeners(_localctx.l + "|Wrong expression for the cell number designation");
-				  
-				}
-				break;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(871);
+			_la = _input.LA(1);
+			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__32) | (1L << T__33) | (1L << T__38) | (1L << T__39))) != 0)) ) {
+			_errHandler.recoverInline(this);
+			}
+			else {
+				if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+				_errHandler.reportMatch(this);
+				consume();
+			}
 			}
 		}
 		catch (RecognitionException re) {
@@ -9914,237 +5976,279 @@ public class KaryotypeParser extends Parser {
 		return _localctx;
 	}
 
-	public static class CellNumContentContext extends ParserRuleContext {
-		public int l = 0;
-		public IntegerContext integer;
-		public CpContext cp;
-		public Token s;
-		public IntegerContext integer() {
-			return getRuleContext(IntegerContext.class,0);
+	public static class BandContext extends ParserRuleContext {
+		public ArmContext arm() {
+			return getRuleContext(ArmContext.class,0);
 		}
-		public CpContext cp() {
-			return getRuleContext(CpContext.class,0);
+		public List<TerminalNode> QUES() { return getTokens(KaryotypeParser.QUES); }
+		public TerminalNode QUES(int i) {
+			return getToken(KaryotypeParser.QUES, i);
+		}
+		public List<DigitContext> digit() {
+			return getRuleContexts(DigitContext.class);
+		}
+		public DigitContext digit(int i) {
+			return getRuleContext(DigitContext.class,i);
+		}
+		public NumRangeTypeIIContext numRangeTypeII() {
+			return getRuleContext(NumRangeTypeIIContext.class,0);
 		}
-		public CellNumContentContext(ParserRuleContext parent, int invokingState) {
+		public BandContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
-		@Override public int getRuleIndex() { return RULE_cellNumContent; }
+		@Override public int getRuleIndex() { return RULE_band; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterCellNumContent(this);
+			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterBand(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitCellNumContent(this);
+			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitBand(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitCellNumContent(this);
+			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitBand(this);
 			else return visitor.visitChildren(this);
 		}
 	}
 
-	public final CellNumContentContext cellNumContent() throws RecognitionException {
-		CellNumContentContext _localctx = new CellNumContentContext(_ctx, getState());
-		enterRule(_localctx, 140, RULE_cellNumContent);
+	public final BandContext band() throws RecognitionException {
+		BandContext _localctx = new BandContext(_ctx, getState());
+		enterRule(_localctx, 110, RULE_band);
 		int _la;
 		try {
-			setState(1587);
+			int _alt;
+			setState(894);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,228,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,127,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1554);
+				setState(874);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-				if (_la==T__7 || _la==T__8) {
+				if (_la==QUES) {
 					{
-					setState(1553);
-					cp();
+					setState(873);
+					match(QUES);
 					}
 				}
 
-				setState(1556);
-				integer();
+				setState(876);
+				arm();
+				setState(879); 
+				_errHandler.sync(this);
+				_alt = 1;
+				do {
+					switch (_alt) {
+					case 1:
+						{
+						setState(879);
+						_errHandler.sync(this);
+						switch (_input.LA(1)) {
+						case T__46:
+						case POSITIVEDIGIT:
+							{
+							setState(877);
+							digit();
+							}
+							break;
+						case QUES:
+							{
+							setState(878);
+							match(QUES);
+							}
+							break;
+						default:
+							throw new NoViableAltException(this);
+						}
+						}
+						break;
+					default:
+						throw new NoViableAltException(this);
+					}
+					setState(881); 
+					_errHandler.sync(this);
+					_alt = getInterpreter().adaptivePredict(_input,124,_ctx);
+				} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1557);
-				((CellNumContentContext)_localctx).integer = integer();
-				setState(1558);
-				cp();
-
-				  	((CellNumContentContext)_localctx).l =  (((CellNumContentContext)_localctx).integer!=null?_input.getText(((CellNumContentContext)_localctx).integer.start,((CellNumContentContext)_localctx).integer.stop):null).length() + 2;
-				  	notifyErrorListeners(_localctx.l + "|Incorrect expression of composite karyotype (cp)");
-				  
+				setState(883);
+				match(QUES);
+				setState(886); 
+				_errHandler.sync(this);
+				_alt = 1;
+				do {
+					switch (_alt) {
+					case 1:
+						{
+						setState(886);
+						_errHandler.sync(this);
+						switch (_input.LA(1)) {
+						case T__46:
+						case POSITIVEDIGIT:
+							{
+							setState(884);
+							digit();
+							}
+							break;
+						case QUES:
+							{
+							setState(885);
+							match(QUES);
+							}
+							break;
+						default:
+							throw new NoViableAltException(this);
+						}
+						}
+						break;
+					default:
+						throw new NoViableAltException(this);
+					}
+					setState(888); 
+					_errHandler.sync(this);
+					_alt = getInterpreter().adaptivePredict(_input,126,_ctx);
+				} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(1562);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-				if (_la==T__7 || _la==T__8) {
-					{
-					setState(1561);
-					((CellNumContentContext)_localctx).cp = cp();
-					}
-				}
-
-				setState(1564);
-				((CellNumContentContext)_localctx).integer = integer();
-				setState(1565);
-				_la = _input.LA(1);
-				if ( !(_la==T__7 || _la==T__8) ) {
-				_errHandler.recoverInline(this);
-				}
-				else {
-					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-					_errHandler.reportMatch(this);
-					consume();
-				}
-				setState(1566);
-				_la = _input.LA(1);
-				if ( !(_la==T__19 || _la==T__20) ) {
-				_errHandler.recoverInline(this);
-				}
-				else {
-					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-					_errHandler.reportMatch(this);
-					consume();
-				}
-				setState(1567);
-				_la = _input.LA(1);
-				if ( !(_la==T__9 || _la==T__10) ) {
-				_errHandler.recoverInline(this);
-				}
-				else {
-					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-					_errHandler.reportMatch(this);
-					consume();
-				}
-				setState(1568);
-				_la = _input.LA(1);
-				if ( !(_la==T__9 || _la==T__10) ) {
-				_errHandler.recoverInline(this);
-				}
-				else {
-					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-					_errHandler.reportMatch(this);
-					consume();
-				}
-				setState(1571);
-				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,226,_ctx) ) {
-				case 1:
-					{
-					setState(1569);
-					((CellNumContentContext)_localctx).s = match(T__28);
-					}
-					break;
-				case 2:
-					{
-					setState(1570);
-					((CellNumContentContext)_localctx).s = match(T__29);
-					}
-					break;
-				}
-
-				  	((CellNumContentContext)_localctx).l =  (((CellNumContentContext)_localctx).integer!=null?_input.getText(((CellNumContentContext)_localctx).integer.start,((CellNumContentContext)_localctx).integer.stop):null).length() + 4;
-				  	if ((((CellNumContentContext)_localctx).cp!=null?_input.getText(((CellNumContentContext)_localctx).cp.start,((CellNumContentContext)_localctx).cp.stop):null) != null) {
-				  		((CellNumContentContext)_localctx).l =  _localctx.l + 2;
-				  	}
-				  	if ((((CellNumContentContext)_localctx).s!=null?((CellNumContentContext)_localctx).s.getText():null) != null) {
-				  		((CellNumContentContext)_localctx).l =  _localctx.l + 1;
-				  	}
-				  	notifyErrorListeners(_localctx.l + "|Incorrect addition of the word 'cell(s)', expecting integer only");
-				  
+				setState(890);
+				match(QUES);
 				}
 				break;
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(1575);
-				((CellNumContentContext)_localctx).integer = integer();
-				setState(1576);
-				_la = _input.LA(1);
-				if ( !(_la==T__7 || _la==T__8) ) {
-				_errHandler.recoverInline(this);
-				}
-				else {
-					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-					_errHandler.reportMatch(this);
-					consume();
-				}
-				setState(1577);
-				_la = _input.LA(1);
-				if ( !(_la==T__19 || _la==T__20) ) {
-				_errHandler.recoverInline(this);
-				}
-				else {
-					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-					_errHandler.reportMatch(this);
-					consume();
-				}
-				setState(1578);
-				_la = _input.LA(1);
-				if ( !(_la==T__9 || _la==T__10) ) {
-				_errHandler.recoverInline(this);
+				setState(891);
+				arm();
+				setState(892);
+				numRangeTypeII();
 				}
-				else {
-					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-					_errHandler.reportMatch(this);
-					consume();
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class BreakpointContext extends ParserRuleContext {
+		public BandContext band() {
+			return getRuleContext(BandContext.class,0);
+		}
+		public SubbandContext subband() {
+			return getRuleContext(SubbandContext.class,0);
+		}
+		public BreakpointContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_breakpoint; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterBreakpoint(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitBreakpoint(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitBreakpoint(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final BreakpointContext breakpoint() throws RecognitionException {
+		BreakpointContext _localctx = new BreakpointContext(_ctx, getState());
+		enterRule(_localctx, 112, RULE_breakpoint);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(896);
+			band();
+			setState(898);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==T__0) {
+				{
+				setState(897);
+				subband();
 				}
-				setState(1579);
-				_la = _input.LA(1);
-				if ( !(_la==T__9 || _la==T__10) ) {
-				_errHandler.recoverInline(this);
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class BreakpointsContext extends ParserRuleContext {
+		public List<BreakpointContext> breakpoint() {
+			return getRuleContexts(BreakpointContext.class);
+		}
+		public BreakpointContext breakpoint(int i) {
+			return getRuleContext(BreakpointContext.class,i);
+		}
+		public BreakpointsContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_breakpoints; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterBreakpoints(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitBreakpoints(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitBreakpoints(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final BreakpointsContext breakpoints() throws RecognitionException {
+		BreakpointsContext _localctx = new BreakpointsContext(_ctx, getState());
+		enterRule(_localctx, 114, RULE_breakpoints);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(901); 
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			do {
+				{
+				{
+				setState(900);
+				breakpoint();
 				}
-				else {
-					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-					_errHandler.reportMatch(this);
-					consume();
 				}
-				setState(1582);
+				setState(903); 
 				_errHandler.sync(this);
-				switch (_input.LA(1)) {
-				case T__28:
-					{
-					setState(1580);
-					((CellNumContentContext)_localctx).s = match(T__28);
-					}
-					break;
-				case T__29:
-					{
-					setState(1581);
-					((CellNumContentContext)_localctx).s = match(T__29);
-					}
-					break;
-				case T__7:
-				case T__8:
-					break;
-				default:
-					break;
-				}
-				setState(1584);
-				((CellNumContentContext)_localctx).cp = cp();
-
-				  	((CellNumContentContext)_localctx).l =  (((CellNumContentContext)_localctx).integer!=null?_input.getText(((CellNumContentContext)_localctx).integer.start,((CellNumContentContext)_localctx).integer.stop):null).length() + 4;
-				  	if ((((CellNumContentContext)_localctx).cp!=null?_input.getText(((CellNumContentContext)_localctx).cp.start,((CellNumContentContext)_localctx).cp.stop):null) != null) {
-				  		((CellNumContentContext)_localctx).l =  _localctx.l + 2;
-				  	}
-				  	if ((((CellNumContentContext)_localctx).s!=null?((CellNumContentContext)_localctx).s.getText():null) != null) {
-				  		((CellNumContentContext)_localctx).l =  _localctx.l + 1;
-				  	}
-				  	notifyErrorListeners(_localctx.l + "|i) Incorrect addition of the word 'cell(s)', expecting integer only; ii) Incorrect expression of composite karyotype (cp)");
-				  
-				}
-				break;
+				_la = _input.LA(1);
+			} while ( (((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__32) | (1L << T__33) | (1L << T__38) | (1L << T__39) | (1L << QUES))) != 0) );
 			}
 		}
 		catch (RecognitionException re) {
@@ -10158,55 +6262,100 @@ public class KaryotypeParser extends Parser {
 		return _localctx;
 	}
 
-	public static class IncorrectLeftParenthesisIIContext extends ParserRuleContext {
-		public IncorrectLeftParenthesisIIContext(ParserRuleContext parent, int invokingState) {
+	public static class CContext extends ParserRuleContext {
+		public CContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
-		@Override public int getRuleIndex() { return RULE_incorrectLeftParenthesisII; }
+		@Override public int getRuleIndex() { return RULE_c; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterIncorrectLeftParenthesisII(this);
+			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterC(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitIncorrectLeftParenthesisII(this);
+			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitC(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitIncorrectLeftParenthesisII(this);
+			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitC(this);
 			else return visitor.visitChildren(this);
 		}
 	}
 
-	public final IncorrectLeftParenthesisIIContext incorrectLeftParenthesisII() throws RecognitionException {
-		IncorrectLeftParenthesisIIContext _localctx = new IncorrectLeftParenthesisIIContext(_ctx, getState());
-		enterRule(_localctx, 142, RULE_incorrectLeftParenthesisII);
+	public final CContext c() throws RecognitionException {
+		CContext _localctx = new CContext(_ctx, getState());
+		enterRule(_localctx, 116, RULE_c);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1590); 
-			_errHandler.sync(this);
+			setState(905);
 			_la = _input.LA(1);
-			do {
-				{
-				{
-				setState(1589);
-				_la = _input.LA(1);
-				if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__22) | (1L << T__30) | (1L << T__32) | (1L << T__33))) != 0)) ) {
-				_errHandler.recoverInline(this);
-				}
-				else {
-					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-					_errHandler.reportMatch(this);
-					consume();
-				}
-				}
-				}
-				setState(1592); 
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-			} while ( (((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__22) | (1L << T__30) | (1L << T__32) | (1L << T__33))) != 0) );
+			if ( !(_la==T__7 || _la==T__8) ) {
+			_errHandler.recoverInline(this);
+			}
+			else {
+				if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+				_errHandler.reportMatch(this);
+				consume();
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class CellNumContext extends ParserRuleContext {
+		public CellNumContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_cellNum; }
+	 
+		public CellNumContext() { }
+		public void copyFrom(CellNumContext ctx) {
+			super.copyFrom(ctx);
+		}
+	}
+	public static class CorrectCellNumContext extends CellNumContext {
+		public CellNumContentContext cellNumContent() {
+			return getRuleContext(CellNumContentContext.class,0);
+		}
+		public CorrectCellNumContext(CellNumContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterCorrectCellNum(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitCorrectCellNum(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitCorrectCellNum(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final CellNumContext cellNum() throws RecognitionException {
+		CellNumContext _localctx = new CellNumContext(_ctx, getState());
+		enterRule(_localctx, 118, RULE_cellNum);
+		try {
+			_localctx = new CorrectCellNumContext(_localctx);
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(907);
+			match(T__44);
+			setState(908);
+			cellNumContent();
+			setState(909);
+			match(T__45);
 			}
 		}
 		catch (RecognitionException re) {
@@ -10220,55 +6369,51 @@ public class KaryotypeParser extends Parser {
 		return _localctx;
 	}
 
-	public static class IncorrectRightParenthesisIIContext extends ParserRuleContext {
-		public IncorrectRightParenthesisIIContext(ParserRuleContext parent, int invokingState) {
+	public static class CellNumContentContext extends ParserRuleContext {
+		public IntegerContext integer() {
+			return getRuleContext(IntegerContext.class,0);
+		}
+		public CpContext cp() {
+			return getRuleContext(CpContext.class,0);
+		}
+		public CellNumContentContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
-		@Override public int getRuleIndex() { return RULE_incorrectRightParenthesisII; }
+		@Override public int getRuleIndex() { return RULE_cellNumContent; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterIncorrectRightParenthesisII(this);
+			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterCellNumContent(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitIncorrectRightParenthesisII(this);
+			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitCellNumContent(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitIncorrectRightParenthesisII(this);
+			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitCellNumContent(this);
 			else return visitor.visitChildren(this);
 		}
 	}
 
-	public final IncorrectRightParenthesisIIContext incorrectRightParenthesisII() throws RecognitionException {
-		IncorrectRightParenthesisIIContext _localctx = new IncorrectRightParenthesisIIContext(_ctx, getState());
-		enterRule(_localctx, 144, RULE_incorrectRightParenthesisII);
+	public final CellNumContentContext cellNumContent() throws RecognitionException {
+		CellNumContentContext _localctx = new CellNumContentContext(_ctx, getState());
+		enterRule(_localctx, 120, RULE_cellNumContent);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1595); 
+			setState(912);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			do {
-				{
+			if (_la==T__7 || _la==T__8) {
 				{
-				setState(1594);
-				_la = _input.LA(1);
-				if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__23) | (1L << T__31) | (1L << T__34) | (1L << T__35))) != 0)) ) {
-				_errHandler.recoverInline(this);
-				}
-				else {
-					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-					_errHandler.reportMatch(this);
-					consume();
-				}
-				}
+				setState(911);
+				cp();
 				}
-				setState(1597); 
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-			} while ( (((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__23) | (1L << T__31) | (1L << T__34) | (1L << T__35))) != 0) );
+			}
+
+			setState(914);
+			integer();
 			}
 		}
 		catch (RecognitionException re) {
@@ -10311,44 +6456,44 @@ public class KaryotypeParser extends Parser {
 
 	public final CenContext cen() throws RecognitionException {
 		CenContext _localctx = new CenContext(_ctx, getState());
-		enterRule(_localctx, 146, RULE_cen);
+		enterRule(_localctx, 122, RULE_cen);
 		int _la;
 		try {
-			setState(1608);
+			setState(925);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,232,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,132,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1600);
+				setState(917);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==QUES) {
 					{
-					setState(1599);
+					setState(916);
 					match(QUES);
 					}
 				}
 
-				setState(1602);
+				setState(919);
 				arm();
-				setState(1603);
+				setState(920);
 				integer();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1605);
+				setState(922);
 				match(QUES);
-				setState(1606);
+				setState(923);
 				integer();
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(1607);
+				setState(924);
 				match(QUES);
 				}
 				break;
@@ -10400,41 +6545,41 @@ public class KaryotypeParser extends Parser {
 
 	public final ChrContext chr() throws RecognitionException {
 		ChrContext _localctx = new ChrContext(_ctx, getState());
-		enterRule(_localctx, 148, RULE_chr);
+		enterRule(_localctx, 124, RULE_chr);
 		int _la;
 		try {
-			setState(1623);
+			setState(940);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,236,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,136,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1611);
+				setState(928);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==QUES) {
 					{
-					setState(1610);
+					setState(927);
 					match(QUES);
 					}
 				}
 
-				setState(1615);
+				setState(932);
 				_errHandler.sync(this);
 				switch (_input.LA(1)) {
-				case T__48:
+				case T__46:
 				case POSITIVEDIGIT:
 					{
-					setState(1613);
+					setState(930);
 					integer();
 					}
 					break;
+				case T__47:
+				case T__48:
 				case T__49:
 				case T__50:
-				case T__51:
-				case T__52:
 					{
-					setState(1614);
+					setState(931);
 					sex();
 					}
 					break;
@@ -10446,26 +6591,26 @@ public class KaryotypeParser extends Parser {
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1617);
+				setState(934);
 				digit();
-				setState(1618);
+				setState(935);
 				match(QUES);
-				setState(1620);
+				setState(937);
 				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,235,_ctx) ) {
-				case 1:
+				_la = _input.LA(1);
+				if (_la==T__46 || _la==POSITIVEDIGIT) {
 					{
-					setState(1619);
+					setState(936);
 					digit();
 					}
-					break;
 				}
+
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(1622);
+				setState(939);
 				match(QUES);
 				}
 				break;
@@ -10511,43 +6656,37 @@ public class KaryotypeParser extends Parser {
 
 	public final ChrNumContext chrNum() throws RecognitionException {
 		ChrNumContext _localctx = new ChrNumContext(_ctx, getState());
-		enterRule(_localctx, 150, RULE_chrNum);
+		enterRule(_localctx, 126, RULE_chrNum);
+		int _la;
 		try {
-			int _alt;
-			setState(1631);
+			setState(948);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
-			case T__48:
+			case T__46:
 			case POSITIVEDIGIT:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1625);
+				setState(942);
 				numRangeTypeI();
 				}
 				break;
 			case QUES:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1627); 
+				setState(944); 
 				_errHandler.sync(this);
-				_alt = 1;
+				_la = _input.LA(1);
 				do {
-					switch (_alt) {
-					case 1:
-						{
-						{
-						setState(1626);
-						match(QUES);
-						}
-						}
-						break;
-					default:
-						throw new NoViableAltException(this);
+					{
+					{
+					setState(943);
+					match(QUES);
 					}
-					setState(1629); 
+					}
+					setState(946); 
 					_errHandler.sync(this);
-					_alt = getInterpreter().adaptivePredict(_input,237,_ctx);
-				} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
+					_la = _input.LA(1);
+				} while ( _la==QUES );
 				}
 				break;
 			default:
@@ -10587,12 +6726,12 @@ public class KaryotypeParser extends Parser {
 
 	public final CpContext cp() throws RecognitionException {
 		CpContext _localctx = new CpContext(_ctx, getState());
-		enterRule(_localctx, 152, RULE_cp);
+		enterRule(_localctx, 128, RULE_cp);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1633);
+			setState(950);
 			_la = _input.LA(1);
 			if ( !(_la==T__7 || _la==T__8) ) {
 			_errHandler.recoverInline(this);
@@ -10602,9 +6741,9 @@ public class KaryotypeParser extends Parser {
 				_errHandler.reportMatch(this);
 				consume();
 			}
-			setState(1634);
+			setState(951);
 			_la = _input.LA(1);
-			if ( !(_la==T__36 || _la==T__37) ) {
+			if ( !(_la==T__32 || _la==T__33) ) {
 			_errHandler.recoverInline(this);
 			}
 			else {
@@ -10653,22 +6792,22 @@ public class KaryotypeParser extends Parser {
 
 	public final DerBreakpointsContext derBreakpoints() throws RecognitionException {
 		DerBreakpointsContext _localctx = new DerBreakpointsContext(_ctx, getState());
-		enterRule(_localctx, 154, RULE_derBreakpoints);
+		enterRule(_localctx, 130, RULE_derBreakpoints);
 		try {
-			setState(1638);
+			setState(955);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,239,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,139,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1636);
+				setState(953);
 				cen();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1637);
+				setState(954);
 				detailedFormula();
 				}
 				break;
@@ -10720,41 +6859,41 @@ public class KaryotypeParser extends Parser {
 
 	public final DerChrContext derChr() throws RecognitionException {
 		DerChrContext _localctx = new DerChrContext(_ctx, getState());
-		enterRule(_localctx, 156, RULE_derChr);
+		enterRule(_localctx, 132, RULE_derChr);
 		int _la;
 		try {
-			setState(1653);
+			setState(970);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,243,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,143,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1641);
+				setState(958);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==QUES) {
 					{
-					setState(1640);
+					setState(957);
 					match(QUES);
 					}
 				}
 
-				setState(1645);
+				setState(962);
 				_errHandler.sync(this);
 				switch (_input.LA(1)) {
-				case T__48:
+				case T__46:
 				case POSITIVEDIGIT:
 					{
-					setState(1643);
+					setState(960);
 					integer();
 					}
 					break;
+				case T__47:
+				case T__48:
 				case T__49:
 				case T__50:
-				case T__51:
-				case T__52:
 					{
-					setState(1644);
+					setState(961);
 					sex();
 					}
 					break;
@@ -10766,26 +6905,26 @@ public class KaryotypeParser extends Parser {
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1647);
+				setState(964);
 				digit();
-				setState(1648);
+				setState(965);
 				match(QUES);
-				setState(1650);
+				setState(967);
 				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,242,_ctx) ) {
-				case 1:
+				_la = _input.LA(1);
+				if (_la==T__46 || _la==POSITIVEDIGIT) {
 					{
-					setState(1649);
+					setState(966);
 					digit();
 					}
-					break;
 				}
+
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(1652);
+				setState(969);
 				match(QUES);
 				}
 				break;
@@ -10824,19 +6963,19 @@ public class KaryotypeParser extends Parser {
 
 	public final DerIdContext derId() throws RecognitionException {
 		DerIdContext _localctx = new DerIdContext(_ctx, getState());
-		enterRule(_localctx, 158, RULE_derId);
+		enterRule(_localctx, 134, RULE_derId);
 		int _la;
 		try {
-			setState(1662);
+			setState(979);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
+			case T__23:
 			case T__24:
-			case T__25:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1655);
+				setState(972);
 				_la = _input.LA(1);
-				if ( !(_la==T__24 || _la==T__25) ) {
+				if ( !(_la==T__23 || _la==T__24) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -10844,9 +6983,9 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1656);
+				setState(973);
 				_la = _input.LA(1);
-				if ( !(_la==T__26 || _la==T__27) ) {
+				if ( !(_la==T__25 || _la==T__26) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -10854,7 +6993,7 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1657);
+				setState(974);
 				_la = _input.LA(1);
 				if ( !(_la==T__19 || _la==T__20) ) {
 				_errHandler.recoverInline(this);
@@ -10864,7 +7003,7 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1658);
+				setState(975);
 				_la = _input.LA(1);
 				if ( !(_la==T__15 || _la==T__16) ) {
 				_errHandler.recoverInline(this);
@@ -10876,13 +7015,13 @@ public class KaryotypeParser extends Parser {
 				}
 				}
 				break;
+			case T__25:
 			case T__26:
-			case T__27:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1659);
+				setState(976);
 				_la = _input.LA(1);
-				if ( !(_la==T__26 || _la==T__27) ) {
+				if ( !(_la==T__25 || _la==T__26) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -10890,7 +7029,7 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1660);
+				setState(977);
 				_la = _input.LA(1);
 				if ( !(_la==T__19 || _la==T__20) ) {
 				_errHandler.recoverInline(this);
@@ -10900,7 +7039,7 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1661);
+				setState(978);
 				_la = _input.LA(1);
 				if ( !(_la==T__15 || _la==T__16) ) {
 				_errHandler.recoverInline(this);
@@ -10952,11 +7091,11 @@ public class KaryotypeParser extends Parser {
 
 	public final DetailedFormulaContext detailedFormula() throws RecognitionException {
 		DetailedFormulaContext _localctx = new DetailedFormulaContext(_ctx, getState());
-		enterRule(_localctx, 160, RULE_detailedFormula);
+		enterRule(_localctx, 136, RULE_detailedFormula);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1664);
+			setState(981);
 			detailedSegmentList();
 			}
 		}
@@ -11003,96 +7142,96 @@ public class KaryotypeParser extends Parser {
 
 	public final DetailedSegmentListContext detailedSegmentList() throws RecognitionException {
 		DetailedSegmentListContext _localctx = new DetailedSegmentListContext(_ctx, getState());
-		enterRule(_localctx, 162, RULE_detailedSegmentList);
+		enterRule(_localctx, 138, RULE_detailedSegmentList);
 		int _la;
 		try {
 			int _alt;
-			setState(1692);
+			setState(1009);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case COLON:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1666);
+				setState(983);
 				match(COLON);
-				setState(1668);
+				setState(985);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==COLON) {
 					{
-					setState(1667);
+					setState(984);
 					match(COLON);
 					}
 				}
 
-				setState(1670);
+				setState(987);
 				detailedSegment();
-				setState(1676);
+				setState(993);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,246,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,146,_ctx);
 				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 					if ( _alt==1 ) {
 						{
 						{
-						setState(1671);
+						setState(988);
 						match(COLON);
-						setState(1672);
+						setState(989);
 						match(COLON);
-						setState(1673);
+						setState(990);
 						detailedSegment();
 						}
 						} 
 					}
-					setState(1678);
+					setState(995);
 					_errHandler.sync(this);
-					_alt = getInterpreter().adaptivePredict(_input,246,_ctx);
+					_alt = getInterpreter().adaptivePredict(_input,146,_ctx);
 				}
-				setState(1679);
+				setState(996);
 				match(COLON);
-				setState(1681);
+				setState(998);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==COLON) {
 					{
-					setState(1680);
+					setState(997);
 					match(COLON);
 					}
 				}
 
 				}
 				break;
-			case T__36:
-			case T__37:
-			case T__42:
-			case T__43:
-			case T__44:
-			case T__45:
+			case T__32:
+			case T__33:
+			case T__38:
+			case T__39:
+			case T__40:
+			case T__41:
+			case T__46:
+			case T__47:
 			case T__48:
 			case T__49:
 			case T__50:
-			case T__51:
-			case T__52:
 			case POSITIVEDIGIT:
 			case QUES:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1683);
+				setState(1000);
 				detailedSegment();
-				setState(1689);
+				setState(1006);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==COLON) {
 					{
 					{
-					setState(1684);
+					setState(1001);
 					match(COLON);
-					setState(1685);
+					setState(1002);
 					match(COLON);
-					setState(1686);
+					setState(1003);
 					detailedSegment();
 					}
 					}
-					setState(1691);
+					setState(1008);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
@@ -11142,29 +7281,29 @@ public class KaryotypeParser extends Parser {
 
 	public final DetailedSegmentContext detailedSegment() throws RecognitionException {
 		DetailedSegmentContext _localctx = new DetailedSegmentContext(_ctx, getState());
-		enterRule(_localctx, 164, RULE_detailedSegment);
+		enterRule(_localctx, 140, RULE_detailedSegment);
 		int _la;
 		try {
-			setState(1702);
+			setState(1019);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,250,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,150,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1694);
+				setState(1011);
 				detailedBreakpoint();
-				setState(1695);
+				setState(1012);
 				match(ARROW);
-				setState(1696);
+				setState(1013);
 				detailedBreakpoint();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1698);
+				setState(1015);
 				_la = _input.LA(1);
-				if ( !(_la==T__44 || _la==T__45) ) {
+				if ( !(_la==T__40 || _la==T__41) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -11172,9 +7311,9 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1699);
+				setState(1016);
 				_la = _input.LA(1);
-				if ( !(_la==T__28 || _la==T__29) ) {
+				if ( !(_la==T__27 || _la==T__28) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -11182,7 +7321,7 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1700);
+				setState(1017);
 				_la = _input.LA(1);
 				if ( !(_la==T__15 || _la==T__16) ) {
 				_errHandler.recoverInline(this);
@@ -11197,7 +7336,7 @@ public class KaryotypeParser extends Parser {
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(1701);
+				setState(1018);
 				detailedBreakpoint();
 				}
 				break;
@@ -11249,30 +7388,30 @@ public class KaryotypeParser extends Parser {
 
 	public final DetailedBreakpointContext detailedBreakpoint() throws RecognitionException {
 		DetailedBreakpointContext _localctx = new DetailedBreakpointContext(_ctx, getState());
-		enterRule(_localctx, 166, RULE_detailedBreakpoint);
+		enterRule(_localctx, 142, RULE_detailedBreakpoint);
 		int _la;
 		try {
-			setState(1727);
+			setState(1044);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,256,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,156,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1705);
+				setState(1022);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__48) | (1L << T__49) | (1L << T__50) | (1L << T__51) | (1L << T__52) | (1L << POSITIVEDIGIT) | (1L << QUES))) != 0)) {
+				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__46) | (1L << T__47) | (1L << T__48) | (1L << T__49) | (1L << T__50) | (1L << POSITIVEDIGIT) | (1L << QUES))) != 0)) {
 					{
-					setState(1704);
+					setState(1021);
 					chr();
 					}
 				}
 
-				setState(1707);
+				setState(1024);
 				arm();
-				setState(1708);
+				setState(1025);
 				_la = _input.LA(1);
-				if ( !(_la==T__40 || _la==T__41) ) {
+				if ( !(_la==T__36 || _la==T__37) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -11280,7 +7419,7 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1709);
+				setState(1026);
 				_la = _input.LA(1);
 				if ( !(_la==T__19 || _la==T__20) ) {
 				_errHandler.recoverInline(this);
@@ -11290,7 +7429,7 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1710);
+				setState(1027);
 				_la = _input.LA(1);
 				if ( !(_la==T__15 || _la==T__16) ) {
 				_errHandler.recoverInline(this);
@@ -11305,57 +7444,57 @@ public class KaryotypeParser extends Parser {
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1713);
+				setState(1030);
 				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,252,_ctx) ) {
+				switch ( getInterpreter().adaptivePredict(_input,152,_ctx) ) {
 				case 1:
 					{
-					setState(1712);
+					setState(1029);
 					chr();
 					}
 					break;
 				}
-				setState(1715);
+				setState(1032);
 				band();
-				setState(1717);
+				setState(1034);
 				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,253,_ctx) ) {
-				case 1:
+				_la = _input.LA(1);
+				if (_la==T__0) {
 					{
-					setState(1716);
+					setState(1033);
 					subband();
 					}
-					break;
 				}
+
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(1719);
+				setState(1036);
 				match(QUES);
-				setState(1721);
+				setState(1038);
 				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,254,_ctx) ) {
+				switch ( getInterpreter().adaptivePredict(_input,154,_ctx) ) {
 				case 1:
 					{
-					setState(1720);
+					setState(1037);
 					chr();
 					}
 					break;
 				}
-				setState(1723);
+				setState(1040);
 				band();
-				setState(1725);
+				setState(1042);
 				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,255,_ctx) ) {
-				case 1:
+				_la = _input.LA(1);
+				if (_la==T__0) {
 					{
-					setState(1724);
+					setState(1041);
 					subband();
 					}
-					break;
 				}
+
 				}
 				break;
 			}
@@ -11394,14 +7533,14 @@ public class KaryotypeParser extends Parser {
 
 	public final DigitContext digit() throws RecognitionException {
 		DigitContext _localctx = new DigitContext(_ctx, getState());
-		enterRule(_localctx, 168, RULE_digit);
+		enterRule(_localctx, 144, RULE_digit);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1729);
+			setState(1046);
 			_la = _input.LA(1);
-			if ( !(_la==T__48 || _la==POSITIVEDIGIT) ) {
+			if ( !(_la==T__46 || _la==POSITIVEDIGIT) ) {
 			_errHandler.recoverInline(this);
 			}
 			else {
@@ -11450,16 +7589,16 @@ public class KaryotypeParser extends Parser {
 
 	public final DminNumContext dminNum() throws RecognitionException {
 		DminNumContext _localctx = new DminNumContext(_ctx, getState());
-		enterRule(_localctx, 170, RULE_dminNum);
+		enterRule(_localctx, 146, RULE_dminNum);
 		try {
-			setState(1733);
+			setState(1050);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
-			case T__48:
+			case T__46:
 			case POSITIVEDIGIT:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1731);
+				setState(1048);
 				numRangeTypeI();
 				}
 				break;
@@ -11467,7 +7606,7 @@ public class KaryotypeParser extends Parser {
 			case MINUS:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1732);
+				setState(1049);
 				numRangeTypeIII();
 				}
 				break;
@@ -11514,26 +7653,26 @@ public class KaryotypeParser extends Parser {
 
 	public final GainChrContext gainChr() throws RecognitionException {
 		GainChrContext _localctx = new GainChrContext(_ctx, getState());
-		enterRule(_localctx, 172, RULE_gainChr);
+		enterRule(_localctx, 148, RULE_gainChr);
 		try {
-			setState(1737);
+			setState(1054);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
-			case T__48:
+			case T__46:
 			case POSITIVEDIGIT:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1735);
+				setState(1052);
 				integer();
 				}
 				break;
+			case T__47:
+			case T__48:
 			case T__49:
 			case T__50:
-			case T__51:
-			case T__52:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1736);
+				setState(1053);
 				sex();
 				}
 				break;
@@ -11574,16 +7713,16 @@ public class KaryotypeParser extends Parser {
 
 	public final IdContext id() throws RecognitionException {
 		IdContext _localctx = new IdContext(_ctx, getState());
-		enterRule(_localctx, 174, RULE_id);
+		enterRule(_localctx, 150, RULE_id);
 		int _la;
 		try {
-			setState(1805);
+			setState(1122);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,263,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,163,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1739);
+				setState(1056);
 				_la = _input.LA(1);
 				if ( !(_la==T__11 || _la==T__12) ) {
 				_errHandler.recoverInline(this);
@@ -11593,9 +7732,9 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1740);
+				setState(1057);
 				_la = _input.LA(1);
-				if ( !(_la==T__26 || _la==T__27) ) {
+				if ( !(_la==T__25 || _la==T__26) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -11603,9 +7742,9 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1741);
+				setState(1058);
 				_la = _input.LA(1);
-				if ( !(_la==T__26 || _la==T__27) ) {
+				if ( !(_la==T__25 || _la==T__26) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -11618,9 +7757,9 @@ public class KaryotypeParser extends Parser {
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1742);
+				setState(1059);
 				_la = _input.LA(1);
-				if ( !(_la==T__26 || _la==T__27) ) {
+				if ( !(_la==T__25 || _la==T__26) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -11628,7 +7767,7 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1743);
+				setState(1060);
 				_la = _input.LA(1);
 				if ( !(_la==T__19 || _la==T__20) ) {
 				_errHandler.recoverInline(this);
@@ -11638,7 +7777,7 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1744);
+				setState(1061);
 				_la = _input.LA(1);
 				if ( !(_la==T__9 || _la==T__10) ) {
 				_errHandler.recoverInline(this);
@@ -11653,14 +7792,14 @@ public class KaryotypeParser extends Parser {
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(1748);
+				setState(1065);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-				if (_la==T__36 || _la==T__37) {
+				if (_la==T__32 || _la==T__33) {
 					{
-					setState(1745);
+					setState(1062);
 					_la = _input.LA(1);
-					if ( !(_la==T__36 || _la==T__37) ) {
+					if ( !(_la==T__32 || _la==T__33) ) {
 					_errHandler.recoverInline(this);
 					}
 					else {
@@ -11668,9 +7807,9 @@ public class KaryotypeParser extends Parser {
 						_errHandler.reportMatch(this);
 						consume();
 					}
-					setState(1746);
+					setState(1063);
 					_la = _input.LA(1);
-					if ( !(_la==T__28 || _la==T__29) ) {
+					if ( !(_la==T__27 || _la==T__28) ) {
 					_errHandler.recoverInline(this);
 					}
 					else {
@@ -11678,9 +7817,9 @@ public class KaryotypeParser extends Parser {
 						_errHandler.reportMatch(this);
 						consume();
 					}
-					setState(1747);
+					setState(1064);
 					_la = _input.LA(1);
-					if ( !(_la==T__38 || _la==T__39) ) {
+					if ( !(_la==T__34 || _la==T__35) ) {
 					_errHandler.recoverInline(this);
 					}
 					else {
@@ -11691,9 +7830,9 @@ public class KaryotypeParser extends Parser {
 					}
 				}
 
-				setState(1750);
+				setState(1067);
 				_la = _input.LA(1);
-				if ( !(_la==T__26 || _la==T__27) ) {
+				if ( !(_la==T__25 || _la==T__26) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -11701,9 +7840,9 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1751);
+				setState(1068);
 				_la = _input.LA(1);
-				if ( !(_la==T__24 || _la==T__25) ) {
+				if ( !(_la==T__23 || _la==T__24) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -11711,7 +7850,7 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1752);
+				setState(1069);
 				_la = _input.LA(1);
 				if ( !(_la==T__7 || _la==T__8) ) {
 				_errHandler.recoverInline(this);
@@ -11726,14 +7865,14 @@ public class KaryotypeParser extends Parser {
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(1756);
+				setState(1073);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-				if (_la==T__36 || _la==T__37) {
+				if (_la==T__32 || _la==T__33) {
 					{
-					setState(1753);
+					setState(1070);
 					_la = _input.LA(1);
-					if ( !(_la==T__36 || _la==T__37) ) {
+					if ( !(_la==T__32 || _la==T__33) ) {
 					_errHandler.recoverInline(this);
 					}
 					else {
@@ -11741,9 +7880,9 @@ public class KaryotypeParser extends Parser {
 						_errHandler.reportMatch(this);
 						consume();
 					}
-					setState(1754);
+					setState(1071);
 					_la = _input.LA(1);
-					if ( !(_la==T__28 || _la==T__29) ) {
+					if ( !(_la==T__27 || _la==T__28) ) {
 					_errHandler.recoverInline(this);
 					}
 					else {
@@ -11751,9 +7890,9 @@ public class KaryotypeParser extends Parser {
 						_errHandler.reportMatch(this);
 						consume();
 					}
-					setState(1755);
+					setState(1072);
 					_la = _input.LA(1);
-					if ( !(_la==T__38 || _la==T__39) ) {
+					if ( !(_la==T__34 || _la==T__35) ) {
 					_errHandler.recoverInline(this);
 					}
 					else {
@@ -11764,9 +7903,9 @@ public class KaryotypeParser extends Parser {
 					}
 				}
 
-				setState(1758);
+				setState(1075);
 				_la = _input.LA(1);
-				if ( !(_la==T__24 || _la==T__25) ) {
+				if ( !(_la==T__23 || _la==T__24) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -11774,9 +7913,9 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1759);
+				setState(1076);
 				_la = _input.LA(1);
-				if ( !(_la==T__26 || _la==T__27) ) {
+				if ( !(_la==T__25 || _la==T__26) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -11784,9 +7923,9 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1760);
+				setState(1077);
 				_la = _input.LA(1);
-				if ( !(_la==T__24 || _la==T__25) ) {
+				if ( !(_la==T__23 || _la==T__24) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -11794,7 +7933,7 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1761);
+				setState(1078);
 				_la = _input.LA(1);
 				if ( !(_la==T__7 || _la==T__8) ) {
 				_errHandler.recoverInline(this);
@@ -11809,9 +7948,9 @@ public class KaryotypeParser extends Parser {
 			case 5:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(1762);
+				setState(1079);
 				_la = _input.LA(1);
-				if ( !(_la==T__26 || _la==T__27) ) {
+				if ( !(_la==T__25 || _la==T__26) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -11819,9 +7958,9 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1763);
+				setState(1080);
 				_la = _input.LA(1);
-				if ( !(_la==T__38 || _la==T__39) ) {
+				if ( !(_la==T__34 || _la==T__35) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -11829,9 +7968,9 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1764);
+				setState(1081);
 				_la = _input.LA(1);
-				if ( !(_la==T__36 || _la==T__37) ) {
+				if ( !(_la==T__32 || _la==T__33) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -11844,9 +7983,9 @@ public class KaryotypeParser extends Parser {
 			case 6:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(1765);
+				setState(1082);
 				_la = _input.LA(1);
-				if ( !(_la==T__40 || _la==T__41) ) {
+				if ( !(_la==T__36 || _la==T__37) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -11854,7 +7993,7 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1766);
+				setState(1083);
 				_la = _input.LA(1);
 				if ( !(_la==T__15 || _la==T__16) ) {
 				_errHandler.recoverInline(this);
@@ -11864,9 +8003,9 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1767);
+				setState(1084);
 				_la = _input.LA(1);
-				if ( !(_la==T__36 || _la==T__37) ) {
+				if ( !(_la==T__32 || _la==T__33) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -11879,9 +8018,9 @@ public class KaryotypeParser extends Parser {
 			case 7:
 				enterOuterAlt(_localctx, 7);
 				{
-				setState(1768);
+				setState(1085);
 				_la = _input.LA(1);
-				if ( !(_la==T__42 || _la==T__43) ) {
+				if ( !(_la==T__38 || _la==T__39) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -11889,9 +8028,9 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1769);
+				setState(1086);
 				_la = _input.LA(1);
-				if ( !(_la==T__26 || _la==T__27) ) {
+				if ( !(_la==T__25 || _la==T__26) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -11899,9 +8038,9 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1770);
+				setState(1087);
 				_la = _input.LA(1);
-				if ( !(_la==T__36 || _la==T__37) ) {
+				if ( !(_la==T__32 || _la==T__33) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -11914,9 +8053,9 @@ public class KaryotypeParser extends Parser {
 			case 8:
 				enterOuterAlt(_localctx, 8);
 				{
-				setState(1771);
+				setState(1088);
 				_la = _input.LA(1);
-				if ( !(_la==T__44 || _la==T__45) ) {
+				if ( !(_la==T__40 || _la==T__41) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -11924,9 +8063,9 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1772);
+				setState(1089);
 				_la = _input.LA(1);
-				if ( !(_la==T__28 || _la==T__29) ) {
+				if ( !(_la==T__27 || _la==T__28) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -11934,7 +8073,7 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1773);
+				setState(1090);
 				_la = _input.LA(1);
 				if ( !(_la==T__15 || _la==T__16) ) {
 				_errHandler.recoverInline(this);
@@ -11949,9 +8088,9 @@ public class KaryotypeParser extends Parser {
 			case 9:
 				enterOuterAlt(_localctx, 9);
 				{
-				setState(1774);
+				setState(1091);
 				_la = _input.LA(1);
-				if ( !(_la==T__24 || _la==T__25) ) {
+				if ( !(_la==T__23 || _la==T__24) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -11959,7 +8098,7 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1775);
+				setState(1092);
 				_la = _input.LA(1);
 				if ( !(_la==T__3 || _la==T__4) ) {
 				_errHandler.recoverInline(this);
@@ -11969,9 +8108,9 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1776);
+				setState(1093);
 				_la = _input.LA(1);
-				if ( !(_la==T__28 || _la==T__29) ) {
+				if ( !(_la==T__27 || _la==T__28) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -11984,9 +8123,9 @@ public class KaryotypeParser extends Parser {
 			case 10:
 				enterOuterAlt(_localctx, 10);
 				{
-				setState(1777);
+				setState(1094);
 				_la = _input.LA(1);
-				if ( !(_la==T__24 || _la==T__25) ) {
+				if ( !(_la==T__23 || _la==T__24) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -11994,7 +8133,7 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1778);
+				setState(1095);
 				_la = _input.LA(1);
 				if ( !(_la==T__3 || _la==T__4) ) {
 				_errHandler.recoverInline(this);
@@ -12004,9 +8143,9 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1779);
+				setState(1096);
 				_la = _input.LA(1);
-				if ( !(_la==T__46 || _la==T__47) ) {
+				if ( !(_la==T__42 || _la==T__43) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -12019,9 +8158,9 @@ public class KaryotypeParser extends Parser {
 			case 11:
 				enterOuterAlt(_localctx, 11);
 				{
-				setState(1780);
+				setState(1097);
 				_la = _input.LA(1);
-				if ( !(_la==T__24 || _la==T__25) ) {
+				if ( !(_la==T__23 || _la==T__24) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -12034,15 +8173,15 @@ public class KaryotypeParser extends Parser {
 			case 12:
 				enterOuterAlt(_localctx, 12);
 				{
-				setState(1787);
+				setState(1104);
 				_errHandler.sync(this);
 				switch (_input.LA(1)) {
+				case T__25:
 				case T__26:
-				case T__27:
 					{
-					setState(1781);
+					setState(1098);
 					_la = _input.LA(1);
-					if ( !(_la==T__26 || _la==T__27) ) {
+					if ( !(_la==T__25 || _la==T__26) ) {
 					_errHandler.recoverInline(this);
 					}
 					else {
@@ -12050,9 +8189,9 @@ public class KaryotypeParser extends Parser {
 						_errHandler.reportMatch(this);
 						consume();
 					}
-					setState(1782);
+					setState(1099);
 					_la = _input.LA(1);
-					if ( !(_la==T__24 || _la==T__25) ) {
+					if ( !(_la==T__23 || _la==T__24) ) {
 					_errHandler.recoverInline(this);
 					}
 					else {
@@ -12060,7 +8199,7 @@ public class KaryotypeParser extends Parser {
 						_errHandler.reportMatch(this);
 						consume();
 					}
-					setState(1783);
+					setState(1100);
 					_la = _input.LA(1);
 					if ( !(_la==T__7 || _la==T__8) ) {
 					_errHandler.recoverInline(this);
@@ -12072,12 +8211,12 @@ public class KaryotypeParser extends Parser {
 					}
 					}
 					break;
-				case T__40:
-				case T__41:
+				case T__36:
+				case T__37:
 					{
-					setState(1784);
+					setState(1101);
 					_la = _input.LA(1);
-					if ( !(_la==T__40 || _la==T__41) ) {
+					if ( !(_la==T__36 || _la==T__37) ) {
 					_errHandler.recoverInline(this);
 					}
 					else {
@@ -12085,7 +8224,7 @@ public class KaryotypeParser extends Parser {
 						_errHandler.reportMatch(this);
 						consume();
 					}
-					setState(1785);
+					setState(1102);
 					_la = _input.LA(1);
 					if ( !(_la==T__15 || _la==T__16) ) {
 					_errHandler.recoverInline(this);
@@ -12095,7 +8234,7 @@ public class KaryotypeParser extends Parser {
 						_errHandler.reportMatch(this);
 						consume();
 					}
-					setState(1786);
+					setState(1103);
 					_la = _input.LA(1);
 					if ( !(_la==T__7 || _la==T__8) ) {
 					_errHandler.recoverInline(this);
@@ -12113,7 +8252,7 @@ public class KaryotypeParser extends Parser {
 				default:
 					break;
 				}
-				setState(1789);
+				setState(1106);
 				_la = _input.LA(1);
 				if ( !(_la==T__15 || _la==T__16) ) {
 				_errHandler.recoverInline(this);
@@ -12128,9 +8267,9 @@ public class KaryotypeParser extends Parser {
 			case 13:
 				enterOuterAlt(_localctx, 13);
 				{
-				setState(1790);
+				setState(1107);
 				_la = _input.LA(1);
-				if ( !(_la==T__40 || _la==T__41) ) {
+				if ( !(_la==T__36 || _la==T__37) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -12138,7 +8277,7 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1791);
+				setState(1108);
 				_la = _input.LA(1);
 				if ( !(_la==T__11 || _la==T__12) ) {
 				_errHandler.recoverInline(this);
@@ -12148,9 +8287,9 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1792);
+				setState(1109);
 				_la = _input.LA(1);
-				if ( !(_la==T__28 || _la==T__29) ) {
+				if ( !(_la==T__27 || _la==T__28) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -12163,9 +8302,9 @@ public class KaryotypeParser extends Parser {
 			case 14:
 				enterOuterAlt(_localctx, 14);
 				{
-				setState(1793);
+				setState(1110);
 				_la = _input.LA(1);
-				if ( !(_la==T__40 || _la==T__41) ) {
+				if ( !(_la==T__36 || _la==T__37) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -12178,14 +8317,14 @@ public class KaryotypeParser extends Parser {
 			case 15:
 				enterOuterAlt(_localctx, 15);
 				{
-				setState(1797);
+				setState(1114);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-				if (_la==T__36 || _la==T__37) {
+				if (_la==T__32 || _la==T__33) {
 					{
-					setState(1794);
+					setState(1111);
 					_la = _input.LA(1);
-					if ( !(_la==T__36 || _la==T__37) ) {
+					if ( !(_la==T__32 || _la==T__33) ) {
 					_errHandler.recoverInline(this);
 					}
 					else {
@@ -12193,9 +8332,9 @@ public class KaryotypeParser extends Parser {
 						_errHandler.reportMatch(this);
 						consume();
 					}
-					setState(1795);
+					setState(1112);
 					_la = _input.LA(1);
-					if ( !(_la==T__28 || _la==T__29) ) {
+					if ( !(_la==T__27 || _la==T__28) ) {
 					_errHandler.recoverInline(this);
 					}
 					else {
@@ -12203,9 +8342,9 @@ public class KaryotypeParser extends Parser {
 						_errHandler.reportMatch(this);
 						consume();
 					}
-					setState(1796);
+					setState(1113);
 					_la = _input.LA(1);
-					if ( !(_la==T__38 || _la==T__39) ) {
+					if ( !(_la==T__34 || _la==T__35) ) {
 					_errHandler.recoverInline(this);
 					}
 					else {
@@ -12216,9 +8355,9 @@ public class KaryotypeParser extends Parser {
 					}
 				}
 
-				setState(1799);
+				setState(1116);
 				_la = _input.LA(1);
-				if ( !(_la==T__40 || _la==T__41) ) {
+				if ( !(_la==T__36 || _la==T__37) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -12226,7 +8365,7 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1800);
+				setState(1117);
 				_la = _input.LA(1);
 				if ( !(_la==T__15 || _la==T__16) ) {
 				_errHandler.recoverInline(this);
@@ -12236,7 +8375,7 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1801);
+				setState(1118);
 				_la = _input.LA(1);
 				if ( !(_la==T__7 || _la==T__8) ) {
 				_errHandler.recoverInline(this);
@@ -12251,7 +8390,7 @@ public class KaryotypeParser extends Parser {
 			case 16:
 				enterOuterAlt(_localctx, 16);
 				{
-				setState(1802);
+				setState(1119);
 				_la = _input.LA(1);
 				if ( !(_la==T__15 || _la==T__16) ) {
 				_errHandler.recoverInline(this);
@@ -12261,7 +8400,7 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1803);
+				setState(1120);
 				_la = _input.LA(1);
 				if ( !(_la==T__5 || _la==T__6) ) {
 				_errHandler.recoverInline(this);
@@ -12271,7 +8410,7 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1804);
+				setState(1121);
 				_la = _input.LA(1);
 				if ( !(_la==T__13 || _la==T__14) ) {
 				_errHandler.recoverInline(this);
@@ -12318,19 +8457,19 @@ public class KaryotypeParser extends Parser {
 
 	public final InhContext inh() throws RecognitionException {
 		InhContext _localctx = new InhContext(_ctx, getState());
-		enterRule(_localctx, 176, RULE_inh);
+		enterRule(_localctx, 152, RULE_inh);
 		int _la;
 		try {
-			setState(1818);
+			setState(1135);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
+			case T__25:
 			case T__26:
-			case T__27:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1807);
+				setState(1124);
 				_la = _input.LA(1);
-				if ( !(_la==T__26 || _la==T__27) ) {
+				if ( !(_la==T__25 || _la==T__26) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -12338,7 +8477,7 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1808);
+				setState(1125);
 				_la = _input.LA(1);
 				if ( !(_la==T__3 || _la==T__4) ) {
 				_errHandler.recoverInline(this);
@@ -12350,13 +8489,13 @@ public class KaryotypeParser extends Parser {
 				}
 				}
 				break;
+			case T__23:
 			case T__24:
-			case T__25:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1809);
+				setState(1126);
 				_la = _input.LA(1);
-				if ( !(_la==T__24 || _la==T__25) ) {
+				if ( !(_la==T__23 || _la==T__24) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -12364,7 +8503,7 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1810);
+				setState(1127);
 				_la = _input.LA(1);
 				if ( !(_la==T__3 || _la==T__4) ) {
 				_errHandler.recoverInline(this);
@@ -12374,9 +8513,9 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1811);
+				setState(1128);
 				_la = _input.LA(1);
-				if ( !(_la==T__44 || _la==T__45) ) {
+				if ( !(_la==T__40 || _la==T__41) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -12390,7 +8529,7 @@ public class KaryotypeParser extends Parser {
 			case T__18:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(1812);
+				setState(1129);
 				_la = _input.LA(1);
 				if ( !(_la==T__17 || _la==T__18) ) {
 				_errHandler.recoverInline(this);
@@ -12400,7 +8539,7 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1813);
+				setState(1130);
 				_la = _input.LA(1);
 				if ( !(_la==T__11 || _la==T__12) ) {
 				_errHandler.recoverInline(this);
@@ -12410,9 +8549,9 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1814);
+				setState(1131);
 				_la = _input.LA(1);
-				if ( !(_la==T__40 || _la==T__41) ) {
+				if ( !(_la==T__36 || _la==T__37) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -12422,13 +8561,13 @@ public class KaryotypeParser extends Parser {
 				}
 				}
 				break;
-			case T__36:
-			case T__37:
+			case T__32:
+			case T__33:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(1815);
+				setState(1132);
 				_la = _input.LA(1);
-				if ( !(_la==T__36 || _la==T__37) ) {
+				if ( !(_la==T__32 || _la==T__33) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -12436,7 +8575,7 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1816);
+				setState(1133);
 				_la = _input.LA(1);
 				if ( !(_la==T__11 || _la==T__12) ) {
 				_errHandler.recoverInline(this);
@@ -12446,9 +8585,9 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1817);
+				setState(1134);
 				_la = _input.LA(1);
-				if ( !(_la==T__40 || _la==T__41) ) {
+				if ( !(_la==T__36 || _la==T__37) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -12501,31 +8640,25 @@ public class KaryotypeParser extends Parser {
 
 	public final IntegerContext integer() throws RecognitionException {
 		IntegerContext _localctx = new IntegerContext(_ctx, getState());
-		enterRule(_localctx, 178, RULE_integer);
+		enterRule(_localctx, 154, RULE_integer);
+		int _la;
 		try {
-			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1821); 
+			setState(1138); 
 			_errHandler.sync(this);
-			_alt = 1;
+			_la = _input.LA(1);
 			do {
-				switch (_alt) {
-				case 1:
-					{
-					{
-					setState(1820);
-					digit();
-					}
-					}
-					break;
-				default:
-					throw new NoViableAltException(this);
+				{
+				{
+				setState(1137);
+				digit();
+				}
 				}
-				setState(1823); 
+				setState(1140); 
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,265,_ctx);
-			} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
+				_la = _input.LA(1);
+			} while ( _la==T__46 || _la==POSITIVEDIGIT );
 			}
 		}
 		catch (RecognitionException re) {
@@ -12567,26 +8700,26 @@ public class KaryotypeParser extends Parser {
 
 	public final LossChrContext lossChr() throws RecognitionException {
 		LossChrContext _localctx = new LossChrContext(_ctx, getState());
-		enterRule(_localctx, 180, RULE_lossChr);
+		enterRule(_localctx, 156, RULE_lossChr);
 		try {
-			setState(1827);
+			setState(1144);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
-			case T__48:
+			case T__46:
 			case POSITIVEDIGIT:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1825);
+				setState(1142);
 				integer();
 				}
 				break;
+			case T__47:
+			case T__48:
 			case T__49:
 			case T__50:
-			case T__51:
-			case T__52:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1826);
+				setState(1143);
 				sex();
 				}
 				break;
@@ -12630,11 +8763,11 @@ public class KaryotypeParser extends Parser {
 
 	public final MarNumContext marNum() throws RecognitionException {
 		MarNumContext _localctx = new MarNumContext(_ctx, getState());
-		enterRule(_localctx, 182, RULE_marNum);
+		enterRule(_localctx, 158, RULE_marNum);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1829);
+			setState(1146);
 			numRangeTypeI();
 			}
 		}
@@ -12680,15 +8813,15 @@ public class KaryotypeParser extends Parser {
 
 	public final ModalDescContext modalDesc() throws RecognitionException {
 		ModalDescContext _localctx = new ModalDescContext(_ctx, getState());
-		enterRule(_localctx, 184, RULE_modalDesc);
+		enterRule(_localctx, 160, RULE_modalDesc);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1831);
+			setState(1148);
 			modalPrefix();
-			setState(1832);
+			setState(1149);
 			modalLevel();
-			setState(1833);
+			setState(1150);
 			modalSuffix();
 			}
 		}
@@ -12725,18 +8858,18 @@ public class KaryotypeParser extends Parser {
 
 	public final ModalLevelContext modalLevel() throws RecognitionException {
 		ModalLevelContext _localctx = new ModalLevelContext(_ctx, getState());
-		enterRule(_localctx, 186, RULE_modalLevel);
+		enterRule(_localctx, 162, RULE_modalLevel);
 		int _la;
 		try {
-			setState(1865);
+			setState(1182);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,267,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,167,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1835);
+				setState(1152);
 				_la = _input.LA(1);
-				if ( !(_la==T__44 || _la==T__45) ) {
+				if ( !(_la==T__40 || _la==T__41) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -12744,7 +8877,7 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1836);
+				setState(1153);
 				_la = _input.LA(1);
 				if ( !(_la==T__11 || _la==T__12) ) {
 				_errHandler.recoverInline(this);
@@ -12759,9 +8892,9 @@ public class KaryotypeParser extends Parser {
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1837);
+				setState(1154);
 				_la = _input.LA(1);
-				if ( !(_la==T__26 || _la==T__27) ) {
+				if ( !(_la==T__25 || _la==T__26) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -12769,9 +8902,9 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1838);
+				setState(1155);
 				_la = _input.LA(1);
-				if ( !(_la==T__24 || _la==T__25) ) {
+				if ( !(_la==T__23 || _la==T__24) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -12784,9 +8917,9 @@ public class KaryotypeParser extends Parser {
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(1839);
+				setState(1156);
 				_la = _input.LA(1);
-				if ( !(_la==T__40 || _la==T__41) ) {
+				if ( !(_la==T__36 || _la==T__37) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -12794,7 +8927,7 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1840);
+				setState(1157);
 				_la = _input.LA(1);
 				if ( !(_la==T__15 || _la==T__16) ) {
 				_errHandler.recoverInline(this);
@@ -12804,9 +8937,9 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1841);
+				setState(1158);
 				_la = _input.LA(1);
-				if ( !(_la==T__24 || _la==T__25) ) {
+				if ( !(_la==T__23 || _la==T__24) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -12819,9 +8952,9 @@ public class KaryotypeParser extends Parser {
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(1842);
+				setState(1159);
 				_la = _input.LA(1);
-				if ( !(_la==T__40 || _la==T__41) ) {
+				if ( !(_la==T__36 || _la==T__37) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -12829,7 +8962,7 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1843);
+				setState(1160);
 				_la = _input.LA(1);
 				if ( !(_la==T__19 || _la==T__20) ) {
 				_errHandler.recoverInline(this);
@@ -12839,9 +8972,9 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1844);
+				setState(1161);
 				_la = _input.LA(1);
-				if ( !(_la==T__40 || _la==T__41) ) {
+				if ( !(_la==T__36 || _la==T__37) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -12849,7 +8982,7 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1845);
+				setState(1162);
 				_la = _input.LA(1);
 				if ( !(_la==T__15 || _la==T__16) ) {
 				_errHandler.recoverInline(this);
@@ -12859,7 +8992,7 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1846);
+				setState(1163);
 				_la = _input.LA(1);
 				if ( !(_la==T__11 || _la==T__12) ) {
 				_errHandler.recoverInline(this);
@@ -12874,9 +9007,9 @@ public class KaryotypeParser extends Parser {
 			case 5:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(1847);
+				setState(1164);
 				_la = _input.LA(1);
-				if ( !(_la==T__36 || _la==T__37) ) {
+				if ( !(_la==T__32 || _la==T__33) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -12884,7 +9017,7 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1848);
+				setState(1165);
 				_la = _input.LA(1);
 				if ( !(_la==T__19 || _la==T__20) ) {
 				_errHandler.recoverInline(this);
@@ -12894,7 +9027,7 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1849);
+				setState(1166);
 				_la = _input.LA(1);
 				if ( !(_la==T__3 || _la==T__4) ) {
 				_errHandler.recoverInline(this);
@@ -12904,9 +9037,9 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1850);
+				setState(1167);
 				_la = _input.LA(1);
-				if ( !(_la==T__40 || _la==T__41) ) {
+				if ( !(_la==T__36 || _la==T__37) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -12914,7 +9047,7 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1851);
+				setState(1168);
 				_la = _input.LA(1);
 				if ( !(_la==T__11 || _la==T__12) ) {
 				_errHandler.recoverInline(this);
@@ -12929,9 +9062,9 @@ public class KaryotypeParser extends Parser {
 			case 6:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(1852);
+				setState(1169);
 				_la = _input.LA(1);
-				if ( !(_la==T__44 || _la==T__45) ) {
+				if ( !(_la==T__40 || _la==T__41) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -12939,7 +9072,7 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1853);
+				setState(1170);
 				_la = _input.LA(1);
 				if ( !(_la==T__19 || _la==T__20) ) {
 				_errHandler.recoverInline(this);
@@ -12949,9 +9082,9 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1854);
+				setState(1171);
 				_la = _input.LA(1);
-				if ( !(_la==T__49 || _la==T__50) ) {
+				if ( !(_la==T__47 || _la==T__48) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -12959,7 +9092,7 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1855);
+				setState(1172);
 				_la = _input.LA(1);
 				if ( !(_la==T__11 || _la==T__12) ) {
 				_errHandler.recoverInline(this);
@@ -12974,9 +9107,9 @@ public class KaryotypeParser extends Parser {
 			case 7:
 				enterOuterAlt(_localctx, 7);
 				{
-				setState(1856);
+				setState(1173);
 				_la = _input.LA(1);
-				if ( !(_la==T__44 || _la==T__45) ) {
+				if ( !(_la==T__40 || _la==T__41) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -12984,7 +9117,7 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1857);
+				setState(1174);
 				_la = _input.LA(1);
 				if ( !(_la==T__19 || _la==T__20) ) {
 				_errHandler.recoverInline(this);
@@ -12994,9 +9127,9 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1858);
+				setState(1175);
 				_la = _input.LA(1);
-				if ( !(_la==T__36 || _la==T__37) ) {
+				if ( !(_la==T__32 || _la==T__33) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -13004,9 +9137,9 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1859);
+				setState(1176);
 				_la = _input.LA(1);
-				if ( !(_la==T__40 || _la==T__41) ) {
+				if ( !(_la==T__36 || _la==T__37) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -13014,7 +9147,7 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1860);
+				setState(1177);
 				_la = _input.LA(1);
 				if ( !(_la==T__11 || _la==T__12) ) {
 				_errHandler.recoverInline(this);
@@ -13029,7 +9162,7 @@ public class KaryotypeParser extends Parser {
 			case 8:
 				enterOuterAlt(_localctx, 8);
 				{
-				setState(1861);
+				setState(1178);
 				_la = _input.LA(1);
 				if ( !(_la==T__5 || _la==T__6) ) {
 				_errHandler.recoverInline(this);
@@ -13039,7 +9172,7 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1862);
+				setState(1179);
 				_la = _input.LA(1);
 				if ( !(_la==T__7 || _la==T__8) ) {
 				_errHandler.recoverInline(this);
@@ -13049,9 +9182,9 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1863);
+				setState(1180);
 				_la = _input.LA(1);
-				if ( !(_la==T__40 || _la==T__41) ) {
+				if ( !(_la==T__36 || _la==T__37) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -13059,7 +9192,7 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1864);
+				setState(1181);
 				_la = _input.LA(1);
 				if ( !(_la==T__11 || _la==T__12) ) {
 				_errHandler.recoverInline(this);
@@ -13106,16 +9239,16 @@ public class KaryotypeParser extends Parser {
 
 	public final ModalPrefixContext modalPrefix() throws RecognitionException {
 		ModalPrefixContext _localctx = new ModalPrefixContext(_ctx, getState());
-		enterRule(_localctx, 188, RULE_modalPrefix);
+		enterRule(_localctx, 164, RULE_modalPrefix);
 		int _la;
 		try {
-			setState(1889);
+			setState(1206);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,269,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,169,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1867);
+				setState(1184);
 				_la = _input.LA(1);
 				if ( !(_la==T__3 || _la==T__4) ) {
 				_errHandler.recoverInline(this);
@@ -13125,7 +9258,7 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1868);
+				setState(1185);
 				_la = _input.LA(1);
 				if ( !(_la==T__19 || _la==T__20) ) {
 				_errHandler.recoverInline(this);
@@ -13135,7 +9268,7 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1869);
+				setState(1186);
 				_la = _input.LA(1);
 				if ( !(_la==T__11 || _la==T__12) ) {
 				_errHandler.recoverInline(this);
@@ -13145,7 +9278,7 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1870);
+				setState(1187);
 				_la = _input.LA(1);
 				if ( !(_la==T__15 || _la==T__16) ) {
 				_errHandler.recoverInline(this);
@@ -13155,12 +9288,12 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1872);
+				setState(1189);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==MINUS) {
 					{
-					setState(1871);
+					setState(1188);
 					match(MINUS);
 					}
 				}
@@ -13170,9 +9303,9 @@ public class KaryotypeParser extends Parser {
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1874);
+				setState(1191);
 				_la = _input.LA(1);
-				if ( !(_la==T__44 || _la==T__45) ) {
+				if ( !(_la==T__40 || _la==T__41) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -13180,9 +9313,9 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1875);
+				setState(1192);
 				_la = _input.LA(1);
-				if ( !(_la==T__51 || _la==T__52) ) {
+				if ( !(_la==T__49 || _la==T__50) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -13190,9 +9323,9 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1876);
+				setState(1193);
 				_la = _input.LA(1);
-				if ( !(_la==T__36 || _la==T__37) ) {
+				if ( !(_la==T__32 || _la==T__33) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -13200,7 +9333,7 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1877);
+				setState(1194);
 				_la = _input.LA(1);
 				if ( !(_la==T__5 || _la==T__6) ) {
 				_errHandler.recoverInline(this);
@@ -13215,9 +9348,9 @@ public class KaryotypeParser extends Parser {
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(1878);
+				setState(1195);
 				_la = _input.LA(1);
-				if ( !(_la==T__44 || _la==T__45) ) {
+				if ( !(_la==T__40 || _la==T__41) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -13225,9 +9358,9 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1879);
+				setState(1196);
 				_la = _input.LA(1);
-				if ( !(_la==T__51 || _la==T__52) ) {
+				if ( !(_la==T__49 || _la==T__50) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -13235,9 +9368,9 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1880);
+				setState(1197);
 				_la = _input.LA(1);
-				if ( !(_la==T__36 || _la==T__37) ) {
+				if ( !(_la==T__32 || _la==T__33) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -13245,7 +9378,7 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1881);
+				setState(1198);
 				_la = _input.LA(1);
 				if ( !(_la==T__19 || _la==T__20) ) {
 				_errHandler.recoverInline(this);
@@ -13255,7 +9388,7 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1882);
+				setState(1199);
 				_la = _input.LA(1);
 				if ( !(_la==T__15 || _la==T__16) ) {
 				_errHandler.recoverInline(this);
@@ -13270,9 +9403,9 @@ public class KaryotypeParser extends Parser {
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(1883);
+				setState(1200);
 				_la = _input.LA(1);
-				if ( !(_la==T__36 || _la==T__37) ) {
+				if ( !(_la==T__32 || _la==T__33) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -13280,9 +9413,9 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1884);
+				setState(1201);
 				_la = _input.LA(1);
-				if ( !(_la==T__28 || _la==T__29) ) {
+				if ( !(_la==T__27 || _la==T__28) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -13290,7 +9423,7 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1885);
+				setState(1202);
 				_la = _input.LA(1);
 				if ( !(_la==T__19 || _la==T__20) ) {
 				_errHandler.recoverInline(this);
@@ -13300,9 +9433,9 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1886);
+				setState(1203);
 				_la = _input.LA(1);
-				if ( !(_la==T__38 || _la==T__39) ) {
+				if ( !(_la==T__34 || _la==T__35) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -13310,9 +9443,9 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1887);
+				setState(1204);
 				_la = _input.LA(1);
-				if ( !(_la==T__26 || _la==T__27) ) {
+				if ( !(_la==T__25 || _la==T__26) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -13320,7 +9453,7 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1888);
+				setState(1205);
 				_la = _input.LA(1);
 				if ( !(_la==T__5 || _la==T__6) ) {
 				_errHandler.recoverInline(this);
@@ -13367,14 +9500,14 @@ public class KaryotypeParser extends Parser {
 
 	public final ModalSuffixContext modalSuffix() throws RecognitionException {
 		ModalSuffixContext _localctx = new ModalSuffixContext(_ctx, getState());
-		enterRule(_localctx, 190, RULE_modalSuffix);
+		enterRule(_localctx, 166, RULE_modalSuffix);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1891);
+			setState(1208);
 			_la = _input.LA(1);
-			if ( !(_la==T__36 || _la==T__37) ) {
+			if ( !(_la==T__32 || _la==T__33) ) {
 			_errHandler.recoverInline(this);
 			}
 			else {
@@ -13382,7 +9515,7 @@ public class KaryotypeParser extends Parser {
 				_errHandler.reportMatch(this);
 				consume();
 			}
-			setState(1892);
+			setState(1209);
 			_la = _input.LA(1);
 			if ( !(_la==T__9 || _la==T__10) ) {
 			_errHandler.recoverInline(this);
@@ -13392,7 +9525,7 @@ public class KaryotypeParser extends Parser {
 				_errHandler.reportMatch(this);
 				consume();
 			}
-			setState(1893);
+			setState(1210);
 			_la = _input.LA(1);
 			if ( !(_la==T__5 || _la==T__6) ) {
 			_errHandler.recoverInline(this);
@@ -13402,9 +9535,9 @@ public class KaryotypeParser extends Parser {
 				_errHandler.reportMatch(this);
 				consume();
 			}
-			setState(1894);
+			setState(1211);
 			_la = _input.LA(1);
-			if ( !(_la==T__24 || _la==T__25) ) {
+			if ( !(_la==T__23 || _la==T__24) ) {
 			_errHandler.recoverInline(this);
 			}
 			else {
@@ -13412,9 +9545,9 @@ public class KaryotypeParser extends Parser {
 				_errHandler.reportMatch(this);
 				consume();
 			}
-			setState(1895);
+			setState(1212);
 			_la = _input.LA(1);
-			if ( !(_la==T__26 || _la==T__27) ) {
+			if ( !(_la==T__25 || _la==T__26) ) {
 			_errHandler.recoverInline(this);
 			}
 			else {
@@ -13457,17 +9590,17 @@ public class KaryotypeParser extends Parser {
 
 	public final MosChiContext mosChi() throws RecognitionException {
 		MosChiContext _localctx = new MosChiContext(_ctx, getState());
-		enterRule(_localctx, 192, RULE_mosChi);
+		enterRule(_localctx, 168, RULE_mosChi);
 		int _la;
 		try {
-			setState(1903);
+			setState(1220);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case T__17:
 			case T__18:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1897);
+				setState(1214);
 				_la = _input.LA(1);
 				if ( !(_la==T__17 || _la==T__18) ) {
 				_errHandler.recoverInline(this);
@@ -13477,7 +9610,7 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1898);
+				setState(1215);
 				_la = _input.LA(1);
 				if ( !(_la==T__5 || _la==T__6) ) {
 				_errHandler.recoverInline(this);
@@ -13487,9 +9620,9 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1899);
+				setState(1216);
 				_la = _input.LA(1);
-				if ( !(_la==T__28 || _la==T__29) ) {
+				if ( !(_la==T__27 || _la==T__28) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -13503,7 +9636,7 @@ public class KaryotypeParser extends Parser {
 			case T__8:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1900);
+				setState(1217);
 				_la = _input.LA(1);
 				if ( !(_la==T__7 || _la==T__8) ) {
 				_errHandler.recoverInline(this);
@@ -13513,9 +9646,9 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1901);
+				setState(1218);
 				_la = _input.LA(1);
-				if ( !(_la==T__44 || _la==T__45) ) {
+				if ( !(_la==T__40 || _la==T__41) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -13523,9 +9656,9 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1902);
+				setState(1219);
 				_la = _input.LA(1);
-				if ( !(_la==T__24 || _la==T__25) ) {
+				if ( !(_la==T__23 || _la==T__24) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -13575,14 +9708,14 @@ public class KaryotypeParser extends Parser {
 
 	public final MultiplicationContext multiplication() throws RecognitionException {
 		MultiplicationContext _localctx = new MultiplicationContext(_ctx, getState());
-		enterRule(_localctx, 194, RULE_multiplication);
+		enterRule(_localctx, 170, RULE_multiplication);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1905);
+			setState(1222);
 			_la = _input.LA(1);
-			if ( !(_la==T__49 || _la==T__50) ) {
+			if ( !(_la==T__47 || _la==T__48) ) {
 			_errHandler.recoverInline(this);
 			}
 			else {
@@ -13590,7 +9723,7 @@ public class KaryotypeParser extends Parser {
 				_errHandler.reportMatch(this);
 				consume();
 			}
-			setState(1906);
+			setState(1223);
 			integer();
 			}
 		}
@@ -13635,19 +9768,19 @@ public class KaryotypeParser extends Parser {
 
 	public final NumRangeTypeIContext numRangeTypeI() throws RecognitionException {
 		NumRangeTypeIContext _localctx = new NumRangeTypeIContext(_ctx, getState());
-		enterRule(_localctx, 196, RULE_numRangeTypeI);
+		enterRule(_localctx, 172, RULE_numRangeTypeI);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1908);
+			setState(1225);
 			integer();
-			setState(1911);
+			setState(1228);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,271,_ctx) ) {
-			case 1:
+			_la = _input.LA(1);
+			if (_la==APPROX || _la==MINUS) {
 				{
-				setState(1909);
+				setState(1226);
 				_la = _input.LA(1);
 				if ( !(_la==APPROX || _la==MINUS) ) {
 				_errHandler.recoverInline(this);
@@ -13657,11 +9790,11 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1910);
+				setState(1227);
 				integer();
 				}
-				break;
 			}
+
 			}
 		}
 		catch (RecognitionException re) {
@@ -13705,14 +9838,14 @@ public class KaryotypeParser extends Parser {
 
 	public final NumRangeTypeIIContext numRangeTypeII() throws RecognitionException {
 		NumRangeTypeIIContext _localctx = new NumRangeTypeIIContext(_ctx, getState());
-		enterRule(_localctx, 198, RULE_numRangeTypeII);
+		enterRule(_localctx, 174, RULE_numRangeTypeII);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1913);
+			setState(1230);
 			integer();
-			setState(1914);
+			setState(1231);
 			_la = _input.LA(1);
 			if ( !(_la==APPROX || _la==MINUS) ) {
 			_errHandler.recoverInline(this);
@@ -13722,7 +9855,7 @@ public class KaryotypeParser extends Parser {
 				_errHandler.reportMatch(this);
 				consume();
 			}
-			setState(1915);
+			setState(1232);
 			integer();
 			}
 		}
@@ -13764,12 +9897,12 @@ public class KaryotypeParser extends Parser {
 
 	public final NumRangeTypeIIIContext numRangeTypeIII() throws RecognitionException {
 		NumRangeTypeIIIContext _localctx = new NumRangeTypeIIIContext(_ctx, getState());
-		enterRule(_localctx, 200, RULE_numRangeTypeIII);
+		enterRule(_localctx, 176, RULE_numRangeTypeIII);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1917);
+			setState(1234);
 			_la = _input.LA(1);
 			if ( !(_la==APPROX || _la==MINUS) ) {
 			_errHandler.recoverInline(this);
@@ -13779,7 +9912,7 @@ public class KaryotypeParser extends Parser {
 				_errHandler.reportMatch(this);
 				consume();
 			}
-			setState(1918);
+			setState(1235);
 			integer();
 			}
 		}
@@ -13819,21 +9952,21 @@ public class KaryotypeParser extends Parser {
 
 	public final PrefixContext prefix() throws RecognitionException {
 		PrefixContext _localctx = new PrefixContext(_ctx, getState());
-		enterRule(_localctx, 202, RULE_prefix);
+		enterRule(_localctx, 178, RULE_prefix);
 		int _la;
 		try {
-			setState(1928);
+			setState(1245);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,274,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,174,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1921);
+				setState(1238);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==MINUS || _la==PLUS) {
 					{
-					setState(1920);
+					setState(1237);
 					_la = _input.LA(1);
 					if ( !(_la==MINUS || _la==PLUS) ) {
 					_errHandler.recoverInline(this);
@@ -13846,24 +9979,24 @@ public class KaryotypeParser extends Parser {
 					}
 				}
 
-				setState(1923);
+				setState(1240);
 				match(QUES);
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1925);
+				setState(1242);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==QUES) {
 					{
-					setState(1924);
+					setState(1241);
 					match(QUES);
 					}
 				}
 
-				setState(1927);
+				setState(1244);
 				_la = _input.LA(1);
 				if ( !(_la==MINUS || _la==PLUS) ) {
 				_errHandler.recoverInline(this);
@@ -13912,34 +10045,35 @@ public class KaryotypeParser extends Parser {
 
 	public final PrefixMinusContext prefixMinus() throws RecognitionException {
 		PrefixMinusContext _localctx = new PrefixMinusContext(_ctx, getState());
-		enterRule(_localctx, 204, RULE_prefixMinus);
+		enterRule(_localctx, 180, RULE_prefixMinus);
+		int _la;
 		try {
-			setState(1936);
+			setState(1253);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case MINUS:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1930);
+				setState(1247);
 				match(MINUS);
-				setState(1932);
+				setState(1249);
 				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,275,_ctx) ) {
-				case 1:
+				_la = _input.LA(1);
+				if (_la==QUES) {
 					{
-					setState(1931);
+					setState(1248);
 					match(QUES);
 					}
-					break;
 				}
+
 				}
 				break;
 			case QUES:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1934);
+				setState(1251);
 				match(QUES);
-				setState(1935);
+				setState(1252);
 				match(MINUS);
 				}
 				break;
@@ -13982,34 +10116,35 @@ public class KaryotypeParser extends Parser {
 
 	public final PrefixPlusContext prefixPlus() throws RecognitionException {
 		PrefixPlusContext _localctx = new PrefixPlusContext(_ctx, getState());
-		enterRule(_localctx, 206, RULE_prefixPlus);
+		enterRule(_localctx, 182, RULE_prefixPlus);
+		int _la;
 		try {
-			setState(1944);
+			setState(1261);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case PLUS:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1938);
+				setState(1255);
 				match(PLUS);
-				setState(1940);
+				setState(1257);
 				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,277,_ctx) ) {
-				case 1:
+				_la = _input.LA(1);
+				if (_la==QUES) {
 					{
-					setState(1939);
+					setState(1256);
 					match(QUES);
 					}
-					break;
 				}
+
 				}
 				break;
 			case QUES:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1942);
+				setState(1259);
 				match(QUES);
-				setState(1943);
+				setState(1260);
 				match(PLUS);
 				}
 				break;
@@ -14050,16 +10185,16 @@ public class KaryotypeParser extends Parser {
 
 	public final RIdContext rId() throws RecognitionException {
 		RIdContext _localctx = new RIdContext(_ctx, getState());
-		enterRule(_localctx, 208, RULE_rId);
+		enterRule(_localctx, 184, RULE_rId);
 		int _la;
 		try {
-			setState(1976);
+			setState(1293);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,279,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,179,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1946);
+				setState(1263);
 				_la = _input.LA(1);
 				if ( !(_la==T__11 || _la==T__12) ) {
 				_errHandler.recoverInline(this);
@@ -14069,9 +10204,9 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1947);
+				setState(1264);
 				_la = _input.LA(1);
-				if ( !(_la==T__26 || _la==T__27) ) {
+				if ( !(_la==T__25 || _la==T__26) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -14079,9 +10214,9 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1948);
+				setState(1265);
 				_la = _input.LA(1);
-				if ( !(_la==T__26 || _la==T__27) ) {
+				if ( !(_la==T__25 || _la==T__26) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -14094,9 +10229,9 @@ public class KaryotypeParser extends Parser {
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1949);
+				setState(1266);
 				_la = _input.LA(1);
-				if ( !(_la==T__26 || _la==T__27) ) {
+				if ( !(_la==T__25 || _la==T__26) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -14104,7 +10239,7 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1950);
+				setState(1267);
 				_la = _input.LA(1);
 				if ( !(_la==T__19 || _la==T__20) ) {
 				_errHandler.recoverInline(this);
@@ -14114,7 +10249,7 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1951);
+				setState(1268);
 				_la = _input.LA(1);
 				if ( !(_la==T__9 || _la==T__10) ) {
 				_errHandler.recoverInline(this);
@@ -14129,9 +10264,9 @@ public class KaryotypeParser extends Parser {
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(1952);
+				setState(1269);
 				_la = _input.LA(1);
-				if ( !(_la==T__26 || _la==T__27) ) {
+				if ( !(_la==T__25 || _la==T__26) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -14139,9 +10274,9 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1953);
+				setState(1270);
 				_la = _input.LA(1);
-				if ( !(_la==T__24 || _la==T__25) ) {
+				if ( !(_la==T__23 || _la==T__24) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -14149,7 +10284,7 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1954);
+				setState(1271);
 				_la = _input.LA(1);
 				if ( !(_la==T__7 || _la==T__8) ) {
 				_errHandler.recoverInline(this);
@@ -14164,9 +10299,9 @@ public class KaryotypeParser extends Parser {
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(1955);
+				setState(1272);
 				_la = _input.LA(1);
-				if ( !(_la==T__26 || _la==T__27) ) {
+				if ( !(_la==T__25 || _la==T__26) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -14174,9 +10309,9 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1956);
+				setState(1273);
 				_la = _input.LA(1);
-				if ( !(_la==T__38 || _la==T__39) ) {
+				if ( !(_la==T__34 || _la==T__35) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -14184,9 +10319,9 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1957);
+				setState(1274);
 				_la = _input.LA(1);
-				if ( !(_la==T__36 || _la==T__37) ) {
+				if ( !(_la==T__32 || _la==T__33) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -14199,9 +10334,9 @@ public class KaryotypeParser extends Parser {
 			case 5:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(1958);
+				setState(1275);
 				_la = _input.LA(1);
-				if ( !(_la==T__40 || _la==T__41) ) {
+				if ( !(_la==T__36 || _la==T__37) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -14209,7 +10344,7 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1959);
+				setState(1276);
 				_la = _input.LA(1);
 				if ( !(_la==T__15 || _la==T__16) ) {
 				_errHandler.recoverInline(this);
@@ -14219,9 +10354,9 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1960);
+				setState(1277);
 				_la = _input.LA(1);
-				if ( !(_la==T__36 || _la==T__37) ) {
+				if ( !(_la==T__32 || _la==T__33) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -14234,9 +10369,9 @@ public class KaryotypeParser extends Parser {
 			case 6:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(1961);
+				setState(1278);
 				_la = _input.LA(1);
-				if ( !(_la==T__42 || _la==T__43) ) {
+				if ( !(_la==T__38 || _la==T__39) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -14244,9 +10379,9 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1962);
+				setState(1279);
 				_la = _input.LA(1);
-				if ( !(_la==T__26 || _la==T__27) ) {
+				if ( !(_la==T__25 || _la==T__26) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -14254,9 +10389,9 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1963);
+				setState(1280);
 				_la = _input.LA(1);
-				if ( !(_la==T__36 || _la==T__37) ) {
+				if ( !(_la==T__32 || _la==T__33) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -14269,9 +10404,9 @@ public class KaryotypeParser extends Parser {
 			case 7:
 				enterOuterAlt(_localctx, 7);
 				{
-				setState(1964);
+				setState(1281);
 				_la = _input.LA(1);
-				if ( !(_la==T__44 || _la==T__45) ) {
+				if ( !(_la==T__40 || _la==T__41) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -14279,9 +10414,9 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1965);
+				setState(1282);
 				_la = _input.LA(1);
-				if ( !(_la==T__28 || _la==T__29) ) {
+				if ( !(_la==T__27 || _la==T__28) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -14289,7 +10424,7 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1966);
+				setState(1283);
 				_la = _input.LA(1);
 				if ( !(_la==T__15 || _la==T__16) ) {
 				_errHandler.recoverInline(this);
@@ -14304,9 +10439,9 @@ public class KaryotypeParser extends Parser {
 			case 8:
 				enterOuterAlt(_localctx, 8);
 				{
-				setState(1967);
+				setState(1284);
 				_la = _input.LA(1);
-				if ( !(_la==T__24 || _la==T__25) ) {
+				if ( !(_la==T__23 || _la==T__24) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -14314,7 +10449,7 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1968);
+				setState(1285);
 				_la = _input.LA(1);
 				if ( !(_la==T__3 || _la==T__4) ) {
 				_errHandler.recoverInline(this);
@@ -14324,9 +10459,9 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1969);
+				setState(1286);
 				_la = _input.LA(1);
-				if ( !(_la==T__28 || _la==T__29) ) {
+				if ( !(_la==T__27 || _la==T__28) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -14339,9 +10474,9 @@ public class KaryotypeParser extends Parser {
 			case 9:
 				enterOuterAlt(_localctx, 9);
 				{
-				setState(1970);
+				setState(1287);
 				_la = _input.LA(1);
-				if ( !(_la==T__24 || _la==T__25) ) {
+				if ( !(_la==T__23 || _la==T__24) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -14349,7 +10484,7 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1971);
+				setState(1288);
 				_la = _input.LA(1);
 				if ( !(_la==T__3 || _la==T__4) ) {
 				_errHandler.recoverInline(this);
@@ -14359,9 +10494,9 @@ public class KaryotypeParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(1972);
+				setState(1289);
 				_la = _input.LA(1);
-				if ( !(_la==T__46 || _la==T__47) ) {
+				if ( !(_la==T__42 || _la==T__43) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -14374,9 +10509,9 @@ public class KaryotypeParser extends Parser {
 			case 10:
 				enterOuterAlt(_localctx, 10);
 				{
-				setState(1973);
+				setState(1290);
 				_la = _input.LA(1);
-				if ( !(_la==T__24 || _la==T__25) ) {
+				if ( !(_la==T__23 || _la==T__24) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -14389,7 +10524,7 @@ public class KaryotypeParser extends Parser {
 			case 11:
 				enterOuterAlt(_localctx, 11);
 				{
-				setState(1974);
+				setState(1291);
 				_la = _input.LA(1);
 				if ( !(_la==T__15 || _la==T__16) ) {
 				_errHandler.recoverInline(this);
@@ -14404,9 +10539,9 @@ public class KaryotypeParser extends Parser {
 			case 12:
 				enterOuterAlt(_localctx, 12);
 				{
-				setState(1975);
+				setState(1292);
 				_la = _input.LA(1);
-				if ( !(_la==T__40 || _la==T__41) ) {
+				if ( !(_la==T__36 || _la==T__37) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -14451,14 +10586,14 @@ public class KaryotypeParser extends Parser {
 
 	public final SexContext sex() throws RecognitionException {
 		SexContext _localctx = new SexContext(_ctx, getState());
-		enterRule(_localctx, 210, RULE_sex);
+		enterRule(_localctx, 186, RULE_sex);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1978);
+			setState(1295);
 			_la = _input.LA(1);
-			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__49) | (1L << T__50) | (1L << T__51) | (1L << T__52))) != 0)) ) {
+			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__47) | (1L << T__48) | (1L << T__49) | (1L << T__50))) != 0)) ) {
 			_errHandler.recoverInline(this);
 			}
 			else {
@@ -14511,48 +10646,42 @@ public class KaryotypeParser extends Parser {
 
 	public final SexChrContext sexChr() throws RecognitionException {
 		SexChrContext _localctx = new SexChrContext(_ctx, getState());
-		enterRule(_localctx, 212, RULE_sexChr);
+		enterRule(_localctx, 188, RULE_sexChr);
+		int _la;
 		try {
-			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1982); 
+			setState(1299); 
 			_errHandler.sync(this);
-			_alt = 1;
+			_la = _input.LA(1);
 			do {
-				switch (_alt) {
-				case 1:
+				{
+				setState(1299);
+				_errHandler.sync(this);
+				switch (_input.LA(1)) {
+				case T__47:
+				case T__48:
+				case T__49:
+				case T__50:
 					{
-					setState(1982);
-					_errHandler.sync(this);
-					switch (_input.LA(1)) {
-					case T__49:
-					case T__50:
-					case T__51:
-					case T__52:
-						{
-						setState(1980);
-						sex();
-						}
-						break;
-					case QUES:
-						{
-						setState(1981);
-						match(QUES);
-						}
-						break;
-					default:
-						throw new NoViableAltException(this);
+					setState(1297);
+					sex();
 					}
+					break;
+				case QUES:
+					{
+					setState(1298);
+					match(QUES);
 					}
 					break;
 				default:
 					throw new NoViableAltException(this);
 				}
-				setState(1984); 
+				}
+				setState(1301); 
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,281,_ctx);
-			} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
+				_la = _input.LA(1);
+			} while ( (((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__47) | (1L << T__48) | (1L << T__49) | (1L << T__50) | (1L << QUES))) != 0) );
 			}
 		}
 		catch (RecognitionException re) {
@@ -14597,81 +10726,81 @@ public class KaryotypeParser extends Parser {
 
 	public final SuffixContext suffix() throws RecognitionException {
 		SuffixContext _localctx = new SuffixContext(_ctx, getState());
-		enterRule(_localctx, 214, RULE_suffix);
+		enterRule(_localctx, 190, RULE_suffix);
 		int _la;
 		try {
-			setState(1998);
+			setState(1315);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,285,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,185,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1988);
+				setState(1305);
 				_errHandler.sync(this);
 				switch (_input.LA(1)) {
 				case T__7:
 				case T__8:
 					{
-					setState(1986);
+					setState(1303);
 					c();
 					}
 					break;
 				case T__17:
 				case T__18:
+				case T__23:
 				case T__24:
 				case T__25:
 				case T__26:
-				case T__27:
-				case T__36:
-				case T__37:
+				case T__32:
+				case T__33:
 					{
-					setState(1987);
+					setState(1304);
 					inh();
 					}
 					break;
-				case T__49:
-				case T__50:
+				case T__47:
+				case T__48:
 					break;
 				default:
 					break;
 				}
-				setState(1990);
+				setState(1307);
 				multiplication();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1992);
+				setState(1309);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-				if (_la==T__49 || _la==T__50) {
+				if (_la==T__47 || _la==T__48) {
 					{
-					setState(1991);
+					setState(1308);
 					multiplication();
 					}
 				}
 
-				setState(1996);
+				setState(1313);
 				_errHandler.sync(this);
 				switch (_input.LA(1)) {
 				case T__7:
 				case T__8:
 					{
-					setState(1994);
+					setState(1311);
 					c();
 					}
 					break;
 				case T__17:
 				case T__18:
+				case T__23:
 				case T__24:
 				case T__25:
 				case T__26:
-				case T__27:
-				case T__36:
-				case T__37:
+				case T__32:
+				case T__33:
 					{
-					setState(1995);
+					setState(1312);
 					inh();
 					}
 					break;
@@ -14728,38 +10857,38 @@ public class KaryotypeParser extends Parser {
 
 	public final SubbandContext subband() throws RecognitionException {
 		SubbandContext _localctx = new SubbandContext(_ctx, getState());
-		enterRule(_localctx, 216, RULE_subband);
+		enterRule(_localctx, 192, RULE_subband);
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(2000);
+			setState(1317);
 			match(T__0);
-			setState(2008);
+			setState(1325);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,288,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,188,_ctx) ) {
 			case 1:
 				{
-				setState(2003); 
+				setState(1320); 
 				_errHandler.sync(this);
 				_alt = 1;
 				do {
 					switch (_alt) {
 					case 1:
 						{
-						setState(2003);
+						setState(1320);
 						_errHandler.sync(this);
 						switch (_input.LA(1)) {
-						case T__48:
+						case T__46:
 						case POSITIVEDIGIT:
 							{
-							setState(2001);
+							setState(1318);
 							digit();
 							}
 							break;
 						case QUES:
 							{
-							setState(2002);
+							setState(1319);
 							match(QUES);
 							}
 							break;
@@ -14771,15 +10900,15 @@ public class KaryotypeParser extends Parser {
 					default:
 						throw new NoViableAltException(this);
 					}
-					setState(2005); 
+					setState(1322); 
 					_errHandler.sync(this);
-					_alt = getInterpreter().adaptivePredict(_input,287,_ctx);
+					_alt = getInterpreter().adaptivePredict(_input,187,_ctx);
 				} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
 				}
 				break;
 			case 2:
 				{
-				setState(2007);
+				setState(1324);
 				numRangeTypeII();
 				}
 				break;
@@ -14797,120 +10926,8 @@ public class KaryotypeParser extends Parser {
 		return _localctx;
 	}
 
-	public static class UndeterminedPrefixContext extends ParserRuleContext {
-		public TerminalNode MINUS() { return getToken(KaryotypeParser.MINUS, 0); }
-		public TerminalNode PLUS() { return getToken(KaryotypeParser.PLUS, 0); }
-		public TerminalNode QUES() { return getToken(KaryotypeParser.QUES, 0); }
-		public UndeterminedPrefixContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_undeterminedPrefix; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).enterUndeterminedPrefix(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof KaryotypeListener ) ((KaryotypeListener)listener).exitUndeterminedPrefix(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof KaryotypeVisitor ) return ((KaryotypeVisitor<? extends T>)visitor).visitUndeterminedPrefix(this);
-			else return visitor.visitChildren(this);
-		}
-	}
-
-	public final UndeterminedPrefixContext undeterminedPrefix() throws RecognitionException {
-		UndeterminedPrefixContext _localctx = new UndeterminedPrefixContext(_ctx, getState());
-		enterRule(_localctx, 218, RULE_undeterminedPrefix);
-		try {
-			setState(2026);
-			_errHandler.sync(this);
-			switch (_input.LA(1)) {
-			case MINUS:
-			case PLUS:
-				enterOuterAlt(_localctx, 1);
-				{
-				setState(2014);
-				_errHandler.sync(this);
-				switch (_input.LA(1)) {
-				case MINUS:
-					{
-					setState(2010);
-					match(MINUS);
-					setState(2011);
-					match(PLUS);
-					}
-					break;
-				case PLUS:
-					{
-					setState(2012);
-					match(PLUS);
-					setState(2013);
-					match(MINUS);
-					}
-					break;
-				default:
-					throw new NoViableAltException(this);
-				}
-				setState(2017);
-				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,290,_ctx) ) {
-				case 1:
-					{
-					setState(2016);
-					match(QUES);
-					}
-					break;
-				}
-				}
-				break;
-			case QUES:
-				enterOuterAlt(_localctx, 2);
-				{
-				setState(2019);
-				match(QUES);
-				setState(2024);
-				_errHandler.sync(this);
-				switch (_input.LA(1)) {
-				case MINUS:
-					{
-					setState(2020);
-					match(MINUS);
-					setState(2021);
-					match(PLUS);
-					}
-					break;
-				case PLUS:
-					{
-					setState(2022);
-					match(PLUS);
-					setState(2023);
-					match(MINUS);
-					}
-					break;
-				default:
-					throw new NoViableAltException(this);
-				}
-				}
-				break;
-			default:
-				throw new NoViableAltException(this);
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
 	public static final String _serializedATN =
-		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\3@\u07ef\4\2\t\2\4"+
+		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\3>\u0532\4\2\t\2\4"+
 		"\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4\13\t"+
 		"\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22\t\22"+
 		"\4\23\t\23\4\24\t\24\4\25\t\25\4\26\t\26\4\27\t\27\4\30\t\30\4\31\t\31"+
@@ -14921,829 +10938,526 @@ public class KaryotypeParser extends Parser {
 		"\4>\t>\4?\t?\4@\t@\4A\tA\4B\tB\4C\tC\4D\tD\4E\tE\4F\tF\4G\tG\4H\tH\4I"+
 		"\tI\4J\tJ\4K\tK\4L\tL\4M\tM\4N\tN\4O\tO\4P\tP\4Q\tQ\4R\tR\4S\tS\4T\tT"+
 		"\4U\tU\4V\tV\4W\tW\4X\tX\4Y\tY\4Z\tZ\4[\t[\4\\\t\\\4]\t]\4^\t^\4_\t_\4"+
-		"`\t`\4a\ta\4b\tb\4c\tc\4d\td\4e\te\4f\tf\4g\tg\4h\th\4i\ti\4j\tj\4k\t"+
-		"k\4l\tl\4m\tm\4n\tn\4o\to\3\2\3\2\3\2\3\2\6\2\u00e3\n\2\r\2\16\2\u00e4"+
-		"\3\2\5\2\u00e8\n\2\3\3\3\3\3\3\7\3\u00ed\n\3\f\3\16\3\u00f0\13\3\3\3\5"+
-		"\3\u00f3\n\3\3\4\5\4\u00f6\n\4\3\4\3\4\3\5\3\5\5\5\u00fc\n\5\3\5\3\5\5"+
-		"\5\u0100\n\5\3\5\3\5\3\5\3\5\3\5\5\5\u0107\n\5\3\5\3\5\3\5\3\5\3\5\5\5"+
-		"\u010e\n\5\3\5\3\5\3\5\5\5\u0113\n\5\3\6\3\6\5\6\u0117\n\6\3\6\3\6\5\6"+
-		"\u011b\n\6\3\6\3\6\3\6\3\6\3\6\5\6\u0122\n\6\3\6\3\6\3\6\3\6\3\6\5\6\u0129"+
-		"\n\6\3\6\3\6\3\6\5\6\u012e\n\6\3\7\3\7\7\7\u0132\n\7\f\7\16\7\u0135\13"+
-		"\7\3\7\7\7\u0138\n\7\f\7\16\7\u013b\13\7\3\7\5\7\u013e\n\7\3\b\3\b\3\b"+
-		"\7\b\u0143\n\b\f\b\16\b\u0146\13\b\3\b\7\b\u0149\n\b\f\b\16\b\u014c\13"+
-		"\b\3\b\3\b\6\b\u0150\n\b\r\b\16\b\u0151\3\b\3\b\6\b\u0156\n\b\r\b\16\b"+
-		"\u0157\3\b\7\b\u015b\n\b\f\b\16\b\u015e\13\b\5\b\u0160\n\b\3\t\3\t\6\t"+
-		"\u0164\n\t\r\t\16\t\u0165\3\n\5\n\u0169\n\n\3\n\3\n\3\13\3\13\5\13\u016f"+
-		"\n\13\3\13\3\13\5\13\u0173\n\13\3\13\3\13\3\13\3\13\3\13\5\13\u017a\n"+
-		"\13\3\13\3\13\3\13\3\13\3\13\5\13\u0181\n\13\3\13\3\13\3\13\5\13\u0186"+
-		"\n\13\3\f\3\f\5\f\u018a\n\f\3\f\3\f\5\f\u018e\n\f\3\f\3\f\3\f\3\f\3\f"+
-		"\5\f\u0195\n\f\3\f\3\f\3\f\3\f\3\f\5\f\u019c\n\f\3\f\3\f\3\f\5\f\u01a1"+
-		"\n\f\3\r\3\r\5\r\u01a5\n\r\3\r\3\r\5\r\u01a9\n\r\3\r\3\r\3\r\3\r\3\r\5"+
-		"\r\u01b0\n\r\3\r\3\r\3\r\3\r\3\r\5\r\u01b7\n\r\3\r\3\r\3\r\5\r\u01bc\n"+
-		"\r\3\16\3\16\5\16\u01c0\n\16\3\16\3\16\5\16\u01c4\n\16\3\16\3\16\3\16"+
-		"\3\16\3\16\5\16\u01cb\n\16\3\16\3\16\3\16\3\16\3\16\5\16\u01d2\n\16\3"+
-		"\16\3\16\3\16\5\16\u01d7\n\16\3\17\5\17\u01da\n\17\3\17\3\17\5\17\u01de"+
-		"\n\17\3\17\3\17\7\17\u01e2\n\17\f\17\16\17\u01e5\13\17\3\17\5\17\u01e8"+
-		"\n\17\3\17\5\17\u01eb\n\17\3\17\3\17\5\17\u01ef\n\17\3\17\7\17\u01f2\n"+
-		"\17\f\17\16\17\u01f5\13\17\3\17\5\17\u01f8\n\17\3\17\3\17\3\17\5\17\u01fd"+
-		"\n\17\3\17\6\17\u0200\n\17\r\17\16\17\u0201\3\17\5\17\u0205\n\17\3\17"+
-		"\3\17\5\17\u0209\n\17\3\20\5\20\u020c\n\20\3\20\3\20\5\20\u0210\n\20\3"+
-		"\20\3\20\3\20\7\20\u0215\n\20\f\20\16\20\u0218\13\20\3\20\5\20\u021b\n"+
-		"\20\3\20\5\20\u021e\n\20\3\20\3\20\5\20\u0222\n\20\3\20\3\20\7\20\u0226"+
-		"\n\20\f\20\16\20\u0229\13\20\3\20\5\20\u022c\n\20\3\20\5\20\u022f\n\20"+
-		"\3\20\3\20\5\20\u0233\n\20\3\20\3\20\7\20\u0237\n\20\f\20\16\20\u023a"+
-		"\13\20\3\20\5\20\u023d\n\20\3\20\5\20\u0240\n\20\3\20\3\20\7\20\u0244"+
-		"\n\20\f\20\16\20\u0247\13\20\3\20\5\20\u024a\n\20\3\20\3\20\3\20\5\20"+
-		"\u024f\n\20\3\20\3\20\5\20\u0253\n\20\3\20\7\20\u0256\n\20\f\20\16\20"+
-		"\u0259\13\20\3\20\5\20\u025c\n\20\3\20\3\20\3\20\5\20\u0261\n\20\3\20"+
-		"\6\20\u0264\n\20\r\20\16\20\u0265\3\20\5\20\u0269\n\20\3\20\3\20\5\20"+
-		"\u026d\n\20\3\21\5\21\u0270\n\21\3\21\3\21\5\21\u0274\n\21\3\21\3\21\7"+
-		"\21\u0278\n\21\f\21\16\21\u027b\13\21\3\21\5\21\u027e\n\21\3\21\5\21\u0281"+
-		"\n\21\3\21\3\21\7\21\u0285\n\21\f\21\16\21\u0288\13\21\3\21\5\21\u028b"+
-		"\n\21\3\21\3\21\5\21\u028f\n\21\3\22\5\22\u0292\n\22\3\22\3\22\5\22\u0296"+
-		"\n\22\3\22\3\22\7\22\u029a\n\22\f\22\16\22\u029d\13\22\3\22\5\22\u02a0"+
-		"\n\22\3\22\5\22\u02a3\n\22\3\22\3\22\7\22\u02a7\n\22\f\22\16\22\u02aa"+
-		"\13\22\3\22\5\22\u02ad\n\22\3\22\3\22\5\22\u02b1\n\22\3\23\5\23\u02b4"+
-		"\n\23\3\23\3\23\5\23\u02b8\n\23\3\23\3\23\3\23\5\23\u02bd\n\23\3\23\3"+
-		"\23\3\23\3\23\5\23\u02c3\n\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23"+
-		"\3\23\3\23\3\23\3\23\3\23\3\23\5\23\u02d3\n\23\5\23\u02d5\n\23\3\23\5"+
-		"\23\u02d8\n\23\3\24\3\24\3\24\3\24\3\24\3\24\3\24\5\24\u02e1\n\24\5\24"+
-		"\u02e3\n\24\3\25\3\25\6\25\u02e7\n\25\r\25\16\25\u02e8\3\26\6\26\u02ec"+
-		"\n\26\r\26\16\26\u02ed\3\27\3\27\3\27\3\27\3\27\3\27\3\27\3\27\3\27\3"+
-		"\27\3\27\3\27\3\27\3\27\3\27\3\27\3\27\3\27\3\27\3\27\5\27\u0304\n\27"+
-		"\3\30\3\30\3\30\3\31\3\31\3\31\3\31\5\31\u030d\n\31\3\31\3\31\3\31\5\31"+
-		"\u0312\n\31\3\31\3\31\3\31\3\31\3\31\3\31\5\31\u031a\n\31\3\31\3\31\5"+
-		"\31\u031e\n\31\3\32\3\32\6\32\u0322\n\32\r\32\16\32\u0323\3\33\3\33\3"+
-		"\33\7\33\u0329\n\33\f\33\16\33\u032c\13\33\3\34\3\34\3\34\3\34\3\34\3"+
-		"\34\3\34\3\34\3\34\5\34\u0337\n\34\3\35\3\35\3\35\3\35\3\35\3\35\3\35"+
-		"\3\35\3\35\5\35\u0342\n\35\3\36\3\36\3\36\3\36\3\36\3\36\3\36\3\36\3\36"+
-		"\5\36\u034d\n\36\3\37\3\37\3\37\3\37\3\37\3\37\3\37\3\37\3\37\5\37\u0358"+
-		"\n\37\3 \6 \u035b\n \r \16 \u035c\3!\3!\3!\3!\3!\5!\u0364\n!\3!\3!\3!"+
-		"\3!\3!\3!\3!\3!\5!\u036e\n!\3\"\3\"\5\"\u0372\n\"\3\"\3\"\3\"\3\"\3\""+
-		"\5\"\u0379\n\"\3#\3#\3#\5#\u037e\n#\3$\3$\5$\u0382\n$\3$\3$\3$\3$\3$\5"+
-		"$\u0389\n$\3%\3%\3%\3%\5%\u038f\n%\3&\3&\3&\3&\6&\u0395\n&\r&\16&\u0396"+
-		"\3&\5&\u039a\n&\3\'\5\'\u039d\n\'\3\'\3\'\5\'\u03a1\n\'\3\'\3\'\5\'\u03a5"+
-		"\n\'\3\'\5\'\u03a8\n\'\3\'\3\'\3\'\3\'\3\'\5\'\u03af\n\'\3\'\3\'\3\'\5"+
-		"\'\u03b4\n\'\3(\3(\3(\3(\5(\u03ba\n(\3(\3(\3(\3(\3(\3(\5(\u03c2\n(\3("+
-		"\3(\3(\3(\5(\u03c8\n(\3(\3(\5(\u03cc\n(\3(\3(\3(\3(\5(\u03d2\n(\3(\3("+
-		"\5(\u03d6\n(\3)\5)\u03d9\n)\3)\3)\5)\u03dd\n)\3)\3)\3)\3)\3)\3)\5)\u03e5"+
-		"\n)\3)\3)\5)\u03e9\n)\3)\3)\3)\3)\5)\u03ef\n)\3)\5)\u03f2\n)\3)\5)\u03f5"+
-		"\n)\3)\3)\3)\3)\3)\5)\u03fc\n)\3)\3)\3)\5)\u0401\n)\3*\5*\u0404\n*\3*"+
-		"\5*\u0407\n*\3*\3*\3*\5*\u040c\n*\3*\7*\u040f\n*\f*\16*\u0412\13*\3*\5"+
-		"*\u0415\n*\3*\3*\3*\5*\u041a\n*\3*\5*\u041d\n*\3*\3*\3*\5*\u0422\n*\3"+
-		"*\5*\u0425\n*\3*\3*\3*\5*\u042a\n*\3*\5*\u042d\n*\3*\3*\3*\5*\u0432\n"+
-		"*\3*\3*\3*\5*\u0437\n*\3*\5*\u043a\n*\3*\3*\6*\u043e\n*\r*\16*\u043f\3"+
-		"*\3*\5*\u0444\n*\3*\7*\u0447\n*\f*\16*\u044a\13*\3*\5*\u044d\n*\3*\3*"+
-		"\3*\5*\u0452\n*\3*\5*\u0455\n*\3*\3*\6*\u0459\n*\r*\16*\u045a\3*\3*\5"+
-		"*\u045f\n*\3*\5*\u0462\n*\3*\3*\5*\u0466\n*\3+\3+\3+\3+\3+\6+\u046d\n"+
-		"+\r+\16+\u046e\5+\u0471\n+\3,\5,\u0474\n,\3,\3,\3,\5,\u0479\n,\3,\5,\u047c"+
-		"\n,\3,\3,\6,\u0480\n,\r,\16,\u0481\3,\3,\5,\u0486\n,\3,\3,\5,\u048a\n"+
-		",\3-\3-\3-\3-\3-\3-\3-\3-\3-\3-\3-\3-\3-\3-\3-\3-\3-\3-\3-\3-\5-\u04a0"+
-		"\n-\3.\3.\3.\7.\u04a5\n.\f.\16.\u04a8\13.\3.\3.\3.\5.\u04ad\n.\3/\3/\3"+
-		"/\6/\u04b2\n/\r/\16/\u04b3\3\60\7\60\u04b7\n\60\f\60\16\60\u04ba\13\60"+
-		"\3\61\7\61\u04bd\n\61\f\61\16\61\u04c0\13\61\3\62\3\62\3\62\3\62\3\62"+
-		"\3\62\3\62\3\62\3\62\3\62\3\62\3\62\3\62\3\62\3\62\3\62\3\62\3\62\3\62"+
-		"\3\62\5\62\u04d6\n\62\3\63\3\63\3\63\7\63\u04db\n\63\f\63\16\63\u04de"+
-		"\13\63\3\63\3\63\3\63\5\63\u04e3\n\63\3\64\3\64\3\64\6\64\u04e8\n\64\r"+
-		"\64\16\64\u04e9\3\65\3\65\3\65\3\65\3\65\6\65\u04f1\n\65\r\65\16\65\u04f2"+
-		"\5\65\u04f5\n\65\3\66\3\66\3\66\3\66\3\66\3\66\3\66\3\66\3\66\3\66\3\66"+
-		"\3\66\3\66\3\66\3\66\3\66\3\66\3\66\3\66\3\66\5\66\u050b\n\66\3\67\3\67"+
-		"\3\67\7\67\u0510\n\67\f\67\16\67\u0513\13\67\3\67\3\67\3\67\5\67\u0518"+
-		"\n\67\38\38\38\68\u051d\n8\r8\168\u051e\39\39\39\39\39\39\39\39\39\39"+
-		"\39\39\39\39\39\39\39\39\39\39\39\39\39\39\59\u0539\n9\3:\3:\3:\7:\u053e"+
-		"\n:\f:\16:\u0541\13:\3:\3:\3:\5:\u0546\n:\3;\3;\3;\6;\u054b\n;\r;\16;"+
-		"\u054c\3<\3<\3<\3<\3<\6<\u0554\n<\r<\16<\u0555\5<\u0558\n<\3=\3=\3=\3"+
-		"=\3=\3=\3=\3=\3=\3=\3=\3=\3=\3=\3=\3=\3=\3=\3=\3=\5=\u056e\n=\3>\3>\3"+
-		">\3>\3>\3>\3>\3>\3>\3>\3>\3>\3>\3>\3>\3>\3>\3>\3>\3>\3>\3>\3>\3>\5>\u0588"+
-		"\n>\3?\3?\3?\3?\3?\3?\3?\3?\3?\5?\u0593\n?\3?\3?\3?\3?\3?\3?\3?\3?\3?"+
-		"\3?\3?\3?\3?\3?\3?\3?\3?\3?\3?\3?\3?\3?\3?\5?\u05ac\n?\3@\3@\3@\3@\3@"+
-		"\3@\3@\3@\3@\3@\3@\3@\3@\3@\3@\3@\3@\3@\3@\3@\5@\u05c2\n@\3A\3A\5A\u05c6"+
-		"\nA\3A\3A\3B\3B\3C\5C\u05cd\nC\3C\3C\3C\6C\u05d2\nC\rC\16C\u05d3\3C\3"+
-		"C\3C\6C\u05d9\nC\rC\16C\u05da\3C\3C\3C\3C\5C\u05e1\nC\3D\3D\5D\u05e5\n"+
-		"D\3E\6E\u05e8\nE\rE\16E\u05e9\3F\3F\3G\3G\3G\3G\3G\3G\3G\3G\3G\3G\3G\3"+
-		"G\3G\3G\3G\3G\3G\3G\5G\u0600\nG\3G\3G\3G\3G\3G\3G\3G\3G\3G\3G\3G\3G\5"+
-		"G\u060e\nG\3G\3G\5G\u0612\nG\3H\5H\u0615\nH\3H\3H\3H\3H\3H\3H\5H\u061d"+
-		"\nH\3H\3H\3H\3H\3H\3H\3H\5H\u0626\nH\3H\3H\3H\3H\3H\3H\3H\3H\3H\5H\u0631"+
-		"\nH\3H\3H\3H\5H\u0636\nH\3I\6I\u0639\nI\rI\16I\u063a\3J\6J\u063e\nJ\r"+
-		"J\16J\u063f\3K\5K\u0643\nK\3K\3K\3K\3K\3K\3K\5K\u064b\nK\3L\5L\u064e\n"+
-		"L\3L\3L\5L\u0652\nL\3L\3L\3L\5L\u0657\nL\3L\5L\u065a\nL\3M\3M\6M\u065e"+
-		"\nM\rM\16M\u065f\5M\u0662\nM\3N\3N\3N\3O\3O\5O\u0669\nO\3P\5P\u066c\n"+
-		"P\3P\3P\5P\u0670\nP\3P\3P\3P\5P\u0675\nP\3P\5P\u0678\nP\3Q\3Q\3Q\3Q\3"+
-		"Q\3Q\3Q\5Q\u0681\nQ\3R\3R\3S\3S\5S\u0687\nS\3S\3S\3S\3S\7S\u068d\nS\f"+
-		"S\16S\u0690\13S\3S\3S\5S\u0694\nS\3S\3S\3S\3S\7S\u069a\nS\fS\16S\u069d"+
-		"\13S\5S\u069f\nS\3T\3T\3T\3T\3T\3T\3T\3T\5T\u06a9\nT\3U\5U\u06ac\nU\3"+
-		"U\3U\3U\3U\3U\3U\5U\u06b4\nU\3U\3U\5U\u06b8\nU\3U\3U\5U\u06bc\nU\3U\3"+
-		"U\5U\u06c0\nU\5U\u06c2\nU\3V\3V\3W\3W\5W\u06c8\nW\3X\3X\5X\u06cc\nX\3"+
-		"Y\3Y\3Y\3Y\3Y\3Y\3Y\3Y\3Y\5Y\u06d7\nY\3Y\3Y\3Y\3Y\3Y\3Y\5Y\u06df\nY\3"+
-		"Y\3Y\3Y\3Y\3Y\3Y\3Y\3Y\3Y\3Y\3Y\3Y\3Y\3Y\3Y\3Y\3Y\3Y\3Y\3Y\3Y\3Y\3Y\3"+
-		"Y\3Y\3Y\3Y\3Y\3Y\5Y\u06fe\nY\3Y\3Y\3Y\3Y\3Y\3Y\3Y\3Y\5Y\u0708\nY\3Y\3"+
-		"Y\3Y\3Y\3Y\3Y\5Y\u0710\nY\3Z\3Z\3Z\3Z\3Z\3Z\3Z\3Z\3Z\3Z\3Z\5Z\u071d\n"+
-		"Z\3[\6[\u0720\n[\r[\16[\u0721\3\\\3\\\5\\\u0726\n\\\3]\3]\3^\3^\3^\3^"+
-		"\3_\3_\3_\3_\3_\3_\3_\3_\3_\3_\3_\3_\3_\3_\3_\3_\3_\3_\3_\3_\3_\3_\3_"+
-		"\3_\3_\3_\3_\3_\3_\3_\5_\u074c\n_\3`\3`\3`\3`\3`\5`\u0753\n`\3`\3`\3`"+
-		"\3`\3`\3`\3`\3`\3`\3`\3`\3`\3`\3`\3`\5`\u0764\n`\3a\3a\3a\3a\3a\3a\3b"+
-		"\3b\3b\3b\3b\3b\5b\u0772\nb\3c\3c\3c\3d\3d\3d\5d\u077a\nd\3e\3e\3e\3e"+
-		"\3f\3f\3f\3g\5g\u0784\ng\3g\3g\5g\u0788\ng\3g\5g\u078b\ng\3h\3h\5h\u078f"+
-		"\nh\3h\3h\5h\u0793\nh\3i\3i\5i\u0797\ni\3i\3i\5i\u079b\ni\3j\3j\3j\3j"+
-		"\3j\3j\3j\3j\3j\3j\3j\3j\3j\3j\3j\3j\3j\3j\3j\3j\3j\3j\3j\3j\3j\3j\3j"+
-		"\3j\3j\3j\5j\u07bb\nj\3k\3k\3l\3l\6l\u07c1\nl\rl\16l\u07c2\3m\3m\5m\u07c7"+
-		"\nm\3m\3m\5m\u07cb\nm\3m\3m\5m\u07cf\nm\5m\u07d1\nm\3n\3n\3n\6n\u07d6"+
-		"\nn\rn\16n\u07d7\3n\5n\u07db\nn\3o\3o\3o\3o\5o\u07e1\no\3o\5o\u07e4\n"+
-		"o\3o\3o\3o\3o\3o\5o\u07eb\no\5o\u07ed\no\3o\2\2p\2\4\6\b\n\f\16\20\22"+
-		"\24\26\30\32\34\36 \"$&(*,.\60\62\64\668:<>@BDFHJLNPRTVXZ\\^`bdfhjlnp"+
-		"rtvxz|~\u0080\u0082\u0084\u0086\u0088\u008a\u008c\u008e\u0090\u0092\u0094"+
-		"\u0096\u0098\u009a\u009c\u009e\u00a0\u00a2\u00a4\u00a6\u00a8\u00aa\u00ac"+
-		"\u00ae\u00b0\u00b2\u00b4\u00b6\u00b8\u00ba\u00bc\u00be\u00c0\u00c2\u00c4"+
-		"\u00c6\u00c8\u00ca\u00cc\u00ce\u00d0\u00d2\u00d4\u00d6\u00d8\u00da\u00dc"+
-		"\2\37\3\2\6\7\3\2\b\t\3\2\n\13\3\2\f\r\3\2\16\17\3\2\20\21\3\2\22\23\3"+
-		"\2\24\25\3\2\26\27\4\2\3\5\30\30\3\2\33\34\3\2\35\36\3\2\37 \4\2\5\5\30"+
-		"\30\5\2\31\31!!#$\5\2\32\32\"\"%&\3\2\'(\3\2)*\3\2+,\3\2-.\3\2/\60\3\2"+
-		"\61\62\4\2\'(-.\4\2\63\6399\3\2\64\65\3\2\66\67\4\288::\3\2:;\3\2\64\67"+
-		"\2\u091f\2\u00e7\3\2\2\2\4\u00e9\3\2\2\2\6\u00f5\3\2\2\2\b\u0112\3\2\2"+
-		"\2\n\u012d\3\2\2\2\f\u012f\3\2\2\2\16\u015f\3\2\2\2\20\u0161\3\2\2\2\22"+
-		"\u0168\3\2\2\2\24\u0185\3\2\2\2\26\u01a0\3\2\2\2\30\u01bb\3\2\2\2\32\u01d6"+
-		"\3\2\2\2\34\u0208\3\2\2\2\36\u026c\3\2\2\2 \u028e\3\2\2\2\"\u02b0\3\2"+
-		"\2\2$\u02b3\3\2\2\2&\u02d9\3\2\2\2(\u02e4\3\2\2\2*\u02eb\3\2\2\2,\u0303"+
-		"\3\2\2\2.\u0305\3\2\2\2\60\u031d\3\2\2\2\62\u031f\3\2\2\2\64\u032a\3\2"+
-		"\2\2\66\u0336\3\2\2\28\u0341\3\2\2\2:\u034c\3\2\2\2<\u0357\3\2\2\2>\u035a"+
-		"\3\2\2\2@\u036d\3\2\2\2B\u0378\3\2\2\2D\u037a\3\2\2\2F\u0388\3\2\2\2H"+
-		"\u038a\3\2\2\2J\u0399\3\2\2\2L\u03b3\3\2\2\2N\u03d5\3\2\2\2P\u0400\3\2"+
-		"\2\2R\u0465\3\2\2\2T\u0470\3\2\2\2V\u0489\3\2\2\2X\u049f\3\2\2\2Z\u04ac"+
-		"\3\2\2\2\\\u04ae\3\2\2\2^\u04b8\3\2\2\2`\u04be\3\2\2\2b\u04d5\3\2\2\2"+
-		"d\u04e2\3\2\2\2f\u04e4\3\2\2\2h\u04f4\3\2\2\2j\u050a\3\2\2\2l\u0517\3"+
-		"\2\2\2n\u0519\3\2\2\2p\u0538\3\2\2\2r\u0545\3\2\2\2t\u0547\3\2\2\2v\u0557"+
-		"\3\2\2\2x\u056d\3\2\2\2z\u0587\3\2\2\2|\u05ab\3\2\2\2~\u05c1\3\2\2\2\u0080"+
-		"\u05c3\3\2\2\2\u0082\u05c9\3\2\2\2\u0084\u05e0\3\2\2\2\u0086\u05e2\3\2"+
-		"\2\2\u0088\u05e7\3\2\2\2\u008a\u05eb\3\2\2\2\u008c\u0611\3\2\2\2\u008e"+
-		"\u0635\3\2\2\2\u0090\u0638\3\2\2\2\u0092\u063d\3\2\2\2\u0094\u064a\3\2"+
-		"\2\2\u0096\u0659\3\2\2\2\u0098\u0661\3\2\2\2\u009a\u0663\3\2\2\2\u009c"+
-		"\u0668\3\2\2\2\u009e\u0677\3\2\2\2\u00a0\u0680\3\2\2\2\u00a2\u0682\3\2"+
-		"\2\2\u00a4\u069e\3\2\2\2\u00a6\u06a8\3\2\2\2\u00a8\u06c1\3\2\2\2\u00aa"+
-		"\u06c3\3\2\2\2\u00ac\u06c7\3\2\2\2\u00ae\u06cb\3\2\2\2\u00b0\u070f\3\2"+
-		"\2\2\u00b2\u071c\3\2\2\2\u00b4\u071f\3\2\2\2\u00b6\u0725\3\2\2\2\u00b8"+
-		"\u0727\3\2\2\2\u00ba\u0729\3\2\2\2\u00bc\u074b\3\2\2\2\u00be\u0763\3\2"+
-		"\2\2\u00c0\u0765\3\2\2\2\u00c2\u0771\3\2\2\2\u00c4\u0773\3\2\2\2\u00c6"+
-		"\u0776\3\2\2\2\u00c8\u077b\3\2\2\2\u00ca\u077f\3\2\2\2\u00cc\u078a\3\2"+
-		"\2\2\u00ce\u0792\3\2\2\2\u00d0\u079a\3\2\2\2\u00d2\u07ba\3\2\2\2\u00d4"+
-		"\u07bc\3\2\2\2\u00d6\u07c0\3\2\2\2\u00d8\u07d0\3\2\2\2\u00da\u07d2\3\2"+
-		"\2\2\u00dc\u07ec\3\2\2\2\u00de\u00e8\5\4\3\2\u00df\u00e8\5\f\7\2\u00e0"+
-		"\u00e3\7=\2\2\u00e1\u00e3\13\2\2\2\u00e2\u00e0\3\2\2\2\u00e2\u00e1\3\2"+
-		"\2\2\u00e3\u00e4\3\2\2\2\u00e4\u00e2\3\2\2\2\u00e4\u00e5\3\2\2\2\u00e5"+
-		"\u00e6\3\2\2\2\u00e6\u00e8\b\2\1\2\u00e7\u00de\3\2\2\2\u00e7\u00df\3\2"+
-		"\2\2\u00e7\u00e2\3\2\2\2\u00e8\3\3\2\2\2\u00e9\u00ee\5\6\4\2\u00ea\u00ed"+
-		"\5\n\6\2\u00eb\u00ed\5\b\5\2\u00ec\u00ea\3\2\2\2\u00ec\u00eb\3\2\2\2\u00ed"+
-		"\u00f0\3\2\2\2\u00ee\u00ec\3\2\2\2\u00ee\u00ef\3\2\2\2\u00ef\u00f2\3\2"+
-		"\2\2\u00f0\u00ee\3\2\2\2\u00f1\u00f3\7\3\2\2\u00f2\u00f1\3\2\2\2\u00f2"+
-		"\u00f3\3\2\2\2\u00f3\5\3\2\2\2\u00f4\u00f6\5&\24\2\u00f5\u00f4\3\2\2\2"+
-		"\u00f5\u00f6\3\2\2\2\u00f6\u00f7\3\2\2\2\u00f7\u00f8\5\34\17\2\u00f8\7"+
-		"\3\2\2\2\u00f9\u00fb\7\4\2\2\u00fa\u00fc\5&\24\2\u00fb\u00fa\3\2\2\2\u00fb"+
-		"\u00fc\3\2\2\2\u00fc\u00fd\3\2\2\2\u00fd\u0113\5\36\20\2\u00fe\u0100\5"+
-		"&\24\2\u00ff\u00fe\3\2\2\2\u00ff\u0100\3\2\2\2\u0100\u0101\3\2\2\2\u0101"+
-		"\u0102\5\36\20\2\u0102\u0103\b\5\1\2\u0103\u0113\3\2\2\2\u0104\u0106\5"+
-		"(\25\2\u0105\u0107\5&\24\2\u0106\u0105\3\2\2\2\u0106\u0107\3\2\2\2\u0107"+
-		"\u0108\3\2\2\2\u0108\u0109\5\36\20\2\u0109\u010a\b\5\1\2\u010a\u0113\3"+
-		"\2\2\2\u010b\u010d\5*\26\2\u010c\u010e\5&\24\2\u010d\u010c\3\2\2\2\u010d"+
-		"\u010e\3\2\2\2\u010e\u010f\3\2\2\2\u010f\u0110\5\36\20\2\u0110\u0111\b"+
-		"\5\1\2\u0111\u0113\3\2\2\2\u0112\u00f9\3\2\2\2\u0112\u00ff\3\2\2\2\u0112"+
-		"\u0104\3\2\2\2\u0112\u010b\3\2\2\2\u0113\t\3\2\2\2\u0114\u0116\7\4\2\2"+
-		"\u0115\u0117\5&\24\2\u0116\u0115\3\2\2\2\u0116\u0117\3\2\2\2\u0117\u0118"+
-		"\3\2\2\2\u0118\u012e\5$\23\2\u0119\u011b\5&\24\2\u011a\u0119\3\2\2\2\u011a"+
-		"\u011b\3\2\2\2\u011b\u011c\3\2\2\2\u011c\u011d\5$\23\2\u011d\u011e\b\6"+
-		"\1\2\u011e\u012e\3\2\2\2\u011f\u0121\5(\25\2\u0120\u0122\5&\24\2\u0121"+
-		"\u0120\3\2\2\2\u0121\u0122\3\2\2\2\u0122\u0123\3\2\2\2\u0123\u0124\5$"+
-		"\23\2\u0124\u0125\b\6\1\2\u0125\u012e\3\2\2\2\u0126\u0128\5*\26\2\u0127"+
-		"\u0129\5&\24\2\u0128\u0127\3\2\2\2\u0128\u0129\3\2\2\2\u0129\u012a\3\2"+
-		"\2\2\u012a\u012b\5$\23\2\u012b\u012c\b\6\1\2\u012c\u012e\3\2\2\2\u012d"+
-		"\u0114\3\2\2\2\u012d\u011a\3\2\2\2\u012d\u011f\3\2\2\2\u012d\u0126\3\2"+
-		"\2\2\u012e\13\3\2\2\2\u012f\u0133\5\16\b\2\u0130\u0132\5\20\t\2\u0131"+
-		"\u0130\3\2\2\2\u0132\u0135\3\2\2\2\u0133\u0131\3\2\2\2\u0133\u0134\3\2"+
-		"\2\2\u0134\u0139\3\2\2\2\u0135\u0133\3\2\2\2\u0136\u0138\5\32\16\2\u0137"+
-		"\u0136\3\2\2\2\u0138\u013b\3\2\2\2\u0139\u0137\3\2\2\2\u0139\u013a\3\2"+
-		"\2\2\u013a\u013d\3\2\2\2\u013b\u0139\3\2\2\2\u013c\u013e\7\3\2\2\u013d"+
-		"\u013c\3\2\2\2\u013d\u013e\3\2\2\2\u013e\r\3\2\2\2\u013f\u0140\5\22\n"+
-		"\2\u0140\u0144\5\26\f\2\u0141\u0143\5\30\r\2\u0142\u0141\3\2\2\2\u0143"+
-		"\u0146\3\2\2\2\u0144\u0142\3\2\2\2\u0144\u0145\3\2\2\2\u0145\u014a\3\2"+
-		"\2\2\u0146\u0144\3\2\2\2\u0147\u0149\5\26\f\2\u0148\u0147\3\2\2\2\u0149"+
-		"\u014c\3\2\2\2\u014a\u0148\3\2\2\2\u014a\u014b\3\2\2\2\u014b\u0160\3\2"+
-		"\2\2\u014c\u014a\3\2\2\2\u014d\u014f\5\22\n\2\u014e\u0150\5\26\f\2\u014f"+
-		"\u014e\3\2\2\2\u0150\u0151\3\2\2\2\u0151\u014f\3\2\2\2\u0151\u0152\3\2"+
-		"\2\2\u0152\u0153\3\2\2\2\u0153\u0155\5\26\f\2\u0154\u0156\5\30\r\2\u0155"+
-		"\u0154\3\2\2\2\u0156\u0157\3\2\2\2\u0157\u0155\3\2\2\2\u0157\u0158\3\2"+
-		"\2\2\u0158\u015c\3\2\2\2\u0159\u015b\5\26\f\2\u015a\u0159\3\2\2\2\u015b"+
-		"\u015e\3\2\2\2\u015c\u015a\3\2\2\2\u015c\u015d\3\2\2\2\u015d\u0160\3\2"+
-		"\2\2\u015e\u015c\3\2\2\2\u015f\u013f\3\2\2\2\u015f\u014d\3\2\2\2\u0160"+
-		"\17\3\2\2\2\u0161\u0163\5\24\13\2\u0162\u0164\5\26\f\2\u0163\u0162\3\2"+
-		"\2\2\u0164\u0165\3\2\2\2\u0165\u0163\3\2\2\2\u0165\u0166\3\2\2\2\u0166"+
-		"\21\3\2\2\2\u0167\u0169\5&\24\2\u0168\u0167\3\2\2\2\u0168\u0169\3\2\2"+
-		"\2\u0169\u016a\3\2\2\2\u016a\u016b\5\34\17\2\u016b\23\3\2\2\2\u016c\u016e"+
-		"\7\4\2\2\u016d\u016f\5&\24\2\u016e\u016d\3\2\2\2\u016e\u016f\3\2\2\2\u016f"+
-		"\u0170\3\2\2\2\u0170\u0186\5\34\17\2\u0171\u0173\5&\24\2\u0172\u0171\3"+
-		"\2\2\2\u0172\u0173\3\2\2\2\u0173\u0174\3\2\2\2\u0174\u0175\5\34\17\2\u0175"+
-		"\u0176\b\13\1\2\u0176\u0186\3\2\2\2\u0177\u0179\5(\25\2\u0178\u017a\5"+
-		"&\24\2\u0179\u0178\3\2\2\2\u0179\u017a\3\2\2\2\u017a\u017b\3\2\2\2\u017b"+
-		"\u017c\5\34\17\2\u017c\u017d\b\13\1\2\u017d\u0186\3\2\2\2\u017e\u0180"+
-		"\5*\26\2\u017f\u0181\5&\24\2\u0180\u017f\3\2\2\2\u0180\u0181\3\2\2\2\u0181"+
-		"\u0182\3\2\2\2\u0182\u0183\5\34\17\2\u0183\u0184\b\13\1\2\u0184\u0186"+
-		"\3\2\2\2\u0185\u016c\3\2\2\2\u0185\u0172\3\2\2\2\u0185\u0177\3\2\2\2\u0185"+
-		"\u017e\3\2\2\2\u0186\25\3\2\2\2\u0187\u0189\7\4\2\2\u0188\u018a\5&\24"+
-		"\2\u0189\u0188\3\2\2\2\u0189\u018a\3\2\2\2\u018a\u018b\3\2\2\2\u018b\u01a1"+
-		"\5 \21\2\u018c\u018e\5&\24\2\u018d\u018c\3\2\2\2\u018d\u018e\3\2\2\2\u018e"+
-		"\u018f\3\2\2\2\u018f\u0190\5 \21\2\u0190\u0191\b\f\1\2\u0191\u01a1\3\2"+
-		"\2\2\u0192\u0194\5(\25\2\u0193\u0195\5&\24\2\u0194\u0193\3\2\2\2\u0194"+
-		"\u0195\3\2\2\2\u0195\u0196\3\2\2\2\u0196\u0197\5 \21\2\u0197\u0198\b\f"+
-		"\1\2\u0198\u01a1\3\2\2\2\u0199\u019b\5*\26\2\u019a\u019c\5&\24\2\u019b"+
-		"\u019a\3\2\2\2\u019b\u019c\3\2\2\2\u019c\u019d\3\2\2\2\u019d\u019e\5 "+
-		"\21\2\u019e\u019f\b\f\1\2\u019f\u01a1\3\2\2\2\u01a0\u0187\3\2\2\2\u01a0"+
-		"\u018d\3\2\2\2\u01a0\u0192\3\2\2\2\u01a0\u0199\3\2\2\2\u01a1\27\3\2\2"+
-		"\2\u01a2\u01a4\7\4\2\2\u01a3\u01a5\5&\24\2\u01a4\u01a3\3\2\2\2\u01a4\u01a5"+
-		"\3\2\2\2\u01a5\u01a6\3\2\2\2\u01a6\u01bc\5\"\22\2\u01a7\u01a9\5&\24\2"+
-		"\u01a8\u01a7\3\2\2\2\u01a8\u01a9\3\2\2\2\u01a9\u01aa\3\2\2\2\u01aa\u01ab"+
-		"\5\"\22\2\u01ab\u01ac\b\r\1\2\u01ac\u01bc\3\2\2\2\u01ad\u01af\5(\25\2"+
-		"\u01ae\u01b0\5&\24\2\u01af\u01ae\3\2\2\2\u01af\u01b0\3\2\2\2\u01b0\u01b1"+
-		"\3\2\2\2\u01b1\u01b2\5\"\22\2\u01b2\u01b3\b\r\1\2\u01b3\u01bc\3\2\2\2"+
-		"\u01b4\u01b6\5*\26\2\u01b5\u01b7\5&\24\2\u01b6\u01b5\3\2\2\2\u01b6\u01b7"+
-		"\3\2\2\2\u01b7\u01b8\3\2\2\2\u01b8\u01b9\5\"\22\2\u01b9\u01ba\b\r\1\2"+
-		"\u01ba\u01bc\3\2\2\2\u01bb\u01a2\3\2\2\2\u01bb\u01a8\3\2\2\2\u01bb\u01ad"+
-		"\3\2\2\2\u01bb\u01b4\3\2\2\2\u01bc\31\3\2\2\2\u01bd\u01bf\7\4\2\2\u01be"+
-		"\u01c0\5&\24\2\u01bf\u01be\3\2\2\2\u01bf\u01c0\3\2\2\2\u01c0\u01c1\3\2"+
-		"\2\2\u01c1\u01d7\5\34\17\2\u01c2\u01c4\5&\24\2\u01c3\u01c2\3\2\2\2\u01c3"+
-		"\u01c4\3\2\2\2\u01c4\u01c5\3\2\2\2\u01c5\u01c6\5\34\17\2\u01c6\u01c7\b"+
-		"\16\1\2\u01c7\u01d7\3\2\2\2\u01c8\u01ca\5(\25\2\u01c9\u01cb\5&\24\2\u01ca"+
-		"\u01c9\3\2\2\2\u01ca\u01cb\3\2\2\2\u01cb\u01cc\3\2\2\2\u01cc\u01cd\5\34"+
-		"\17\2\u01cd\u01ce\b\16\1\2\u01ce\u01d7\3\2\2\2\u01cf\u01d1\5*\26\2\u01d0"+
-		"\u01d2\5&\24\2\u01d1\u01d0\3\2\2\2\u01d1\u01d2\3\2\2\2\u01d2\u01d3\3\2"+
-		"\2\2\u01d3\u01d4\5\34\17\2\u01d4\u01d5\b\16\1\2\u01d5\u01d7\3\2\2\2\u01d6"+
-		"\u01bd\3\2\2\2\u01d6\u01c3\3\2\2\2\u01d6\u01c8\3\2\2\2\u01d6\u01cf\3\2"+
-		"\2\2\u01d7\33\3\2\2\2\u01d8\u01da\5\u00c2b\2\u01d9\u01d8\3\2\2\2\u01d9"+
-		"\u01da\3\2\2\2\u01da\u01db\3\2\2\2\u01db\u01dd\5\u0098M\2\u01dc\u01de"+
-		"\5,\27\2\u01dd\u01dc\3\2\2\2\u01dd\u01de\3\2\2\2\u01de\u01df\3\2\2\2\u01df"+
-		"\u01e3\5\60\31\2\u01e0\u01e2\5<\37\2\u01e1\u01e0\3\2\2\2\u01e2\u01e5\3"+
-		"\2\2\2\u01e3\u01e1\3\2\2\2\u01e3\u01e4\3\2\2\2\u01e4\u01e7\3\2\2\2\u01e5"+
-		"\u01e3\3\2\2\2\u01e6\u01e8\5\u008cG\2\u01e7\u01e6\3\2\2\2\u01e7\u01e8"+
-		"\3\2\2\2\u01e8\u0209\3\2\2\2\u01e9\u01eb\5\u00c2b\2\u01ea\u01e9\3\2\2"+
-		"\2\u01ea\u01eb\3\2\2\2\u01eb\u01ec\3\2\2\2\u01ec\u01ee\5\u0098M\2\u01ed"+
-		"\u01ef\5,\27\2\u01ee\u01ed\3\2\2\2\u01ee\u01ef\3\2\2\2\u01ef\u01f3\3\2"+
-		"\2\2\u01f0\u01f2\5<\37\2\u01f1\u01f0\3\2\2\2\u01f2\u01f5\3\2\2\2\u01f3"+
-		"\u01f1\3\2\2\2\u01f3\u01f4\3\2\2\2\u01f4\u01f7\3\2\2\2\u01f5\u01f3\3\2"+
-		"\2\2\u01f6\u01f8\5\u008cG\2\u01f7\u01f6\3\2\2\2\u01f7\u01f8\3\2\2\2\u01f8"+
-		"\u01f9\3\2\2\2\u01f9\u01fa\b\17\1\2\u01fa\u0209\3\2\2\2\u01fb\u01fd\5"+
-		"\u00c2b\2\u01fc\u01fb\3\2\2\2\u01fc\u01fd\3\2\2\2\u01fd\u01ff\3\2\2\2"+
-		"\u01fe\u0200\5<\37\2\u01ff\u01fe\3\2\2\2\u0200\u0201\3\2\2\2\u0201\u01ff"+
-		"\3\2\2\2\u0201\u0202\3\2\2\2\u0202\u0204\3\2\2\2\u0203\u0205\5\u008cG"+
-		"\2\u0204\u0203\3\2\2\2\u0204\u0205\3\2\2\2\u0205\u0206\3\2\2\2\u0206\u0207"+
-		"\b\17\1\2\u0207\u0209\3\2\2\2\u0208\u01d9\3\2\2\2\u0208\u01ea\3\2\2\2"+
-		"\u0208\u01fc\3\2\2\2\u0209\35\3\2\2\2\u020a\u020c\5\u00c2b\2\u020b\u020a"+
-		"\3\2\2\2\u020b\u020c\3\2\2\2\u020c\u020d\3\2\2\2\u020d\u020f\5\u0098M"+
-		"\2\u020e\u0210\5,\27\2\u020f\u020e\3\2\2\2\u020f\u0210\3\2\2\2\u0210\u0211"+
-		"\3\2\2\2\u0211\u0212\5\60\31\2\u0212\u0216\5\66\34\2\u0213\u0215\5<\37"+
-		"\2\u0214\u0213\3\2\2\2\u0215\u0218\3\2\2\2\u0216\u0214\3\2\2\2\u0216\u0217"+
-		"\3\2\2\2\u0217\u021a\3\2\2\2\u0218\u0216\3\2\2\2\u0219\u021b\5\u008cG"+
-		"\2\u021a\u0219\3\2\2\2\u021a\u021b\3\2\2\2\u021b\u026d\3\2\2\2\u021c\u021e"+
-		"\5\u00c2b\2\u021d\u021c\3\2\2\2\u021d\u021e\3\2\2\2\u021e\u021f\3\2\2"+
-		"\2\u021f\u0221\5\u0098M\2\u0220\u0222\5,\27\2\u0221\u0220\3\2\2\2\u0221"+
-		"\u0222\3\2\2\2\u0222\u0223\3\2\2\2\u0223\u0227\5\60\31\2\u0224\u0226\5"+
-		"<\37\2\u0225\u0224\3\2\2\2\u0226\u0229\3\2\2\2\u0227\u0225\3\2\2\2\u0227"+
-		"\u0228\3\2\2\2\u0228\u022b\3\2\2\2\u0229\u0227\3\2\2\2\u022a\u022c\5\u008c"+
-		"G\2\u022b\u022a\3\2\2\2\u022b\u022c\3\2\2\2\u022c\u026d\3\2\2\2\u022d"+
-		"\u022f\5\u00c2b\2\u022e\u022d\3\2\2\2\u022e\u022f\3\2\2\2\u022f\u0230"+
-		"\3\2\2\2\u0230\u0232\5\u0098M\2\u0231\u0233\5,\27\2\u0232\u0231\3\2\2"+
-		"\2\u0232\u0233\3\2\2\2\u0233\u0234\3\2\2\2\u0234\u0238\5\66\34\2\u0235"+
-		"\u0237\5<\37\2\u0236\u0235\3\2\2\2\u0237\u023a\3\2\2\2\u0238\u0236\3\2"+
-		"\2\2\u0238\u0239\3\2\2\2\u0239\u023c\3\2\2\2\u023a\u0238\3\2\2\2\u023b"+
-		"\u023d\5\u008cG\2\u023c\u023b\3\2\2\2\u023c\u023d\3\2\2\2\u023d\u026d"+
-		"\3\2\2\2\u023e\u0240\5\u00c2b\2\u023f\u023e\3\2\2\2\u023f\u0240\3\2\2"+
-		"\2\u0240\u0241\3\2\2\2\u0241\u0245\5\66\34\2\u0242\u0244\5<\37\2\u0243"+
-		"\u0242\3\2\2\2\u0244\u0247\3\2\2\2\u0245\u0243\3\2\2\2\u0245\u0246\3\2"+
-		"\2\2\u0246\u0249\3\2\2\2\u0247\u0245\3\2\2\2\u0248\u024a\5\u008cG\2\u0249"+
-		"\u0248\3\2\2\2\u0249\u024a\3\2\2\2\u024a\u024b\3\2\2\2\u024b\u024c\b\20"+
-		"\1\2\u024c\u026d\3\2\2\2\u024d\u024f\5\u00c2b\2\u024e\u024d\3\2\2\2\u024e"+
-		"\u024f\3\2\2\2\u024f\u0250\3\2\2\2\u0250\u0252\5\u0098M\2\u0251\u0253"+
-		"\5,\27\2\u0252\u0251\3\2\2\2\u0252\u0253\3\2\2\2\u0253\u0257\3\2\2\2\u0254"+
-		"\u0256\5<\37\2\u0255\u0254\3\2\2\2\u0256\u0259\3\2\2\2\u0257\u0255\3\2"+
-		"\2\2\u0257\u0258\3\2\2\2\u0258\u025b\3\2\2\2\u0259\u0257\3\2\2\2\u025a"+
-		"\u025c\5\u008cG\2\u025b\u025a\3\2\2\2\u025b\u025c\3\2\2\2\u025c\u025d"+
-		"\3\2\2\2\u025d\u025e\b\20\1\2\u025e\u026d\3\2\2\2\u025f\u0261\5\u00c2"+
-		"b\2\u0260\u025f\3\2\2\2\u0260\u0261\3\2\2\2\u0261\u0263\3\2\2\2\u0262"+
-		"\u0264\5<\37\2\u0263\u0262\3\2\2\2\u0264\u0265\3\2\2\2\u0265\u0263\3\2"+
-		"\2\2\u0265\u0266\3\2\2\2\u0266\u0268\3\2\2\2\u0267\u0269\5\u008cG\2\u0268"+
-		"\u0267\3\2\2\2\u0268\u0269\3\2\2\2\u0269\u026a\3\2\2\2\u026a\u026b\b\20"+
-		"\1\2\u026b\u026d\3\2\2\2\u026c\u020b\3\2\2\2\u026c\u021d\3\2\2\2\u026c"+
-		"\u022e\3\2\2\2\u026c\u023f\3\2\2\2\u026c\u024e\3\2\2\2\u026c\u0260\3\2"+
-		"\2\2\u026d\37\3\2\2\2\u026e\u0270\5\u00c2b\2\u026f\u026e\3\2\2\2\u026f"+
-		"\u0270\3\2\2\2\u0270\u0271\3\2\2\2\u0271\u0273\5\u0098M\2\u0272\u0274"+
-		"\5,\27\2\u0273\u0272\3\2\2\2\u0273\u0274\3\2\2\2\u0274\u0275\3\2\2\2\u0275"+
-		"\u0279\58\35\2\u0276\u0278\5<\37\2\u0277\u0276\3\2\2\2\u0278\u027b\3\2"+
-		"\2\2\u0279\u0277\3\2\2\2\u0279\u027a\3\2\2\2\u027a\u027d\3\2\2\2\u027b"+
-		"\u0279\3\2\2\2\u027c\u027e\5\u008cG\2\u027d\u027c\3\2\2\2\u027d\u027e"+
-		"\3\2\2\2\u027e\u028f\3\2\2\2\u027f\u0281\5\u00c2b\2\u0280\u027f\3\2\2"+
-		"\2\u0280\u0281\3\2\2\2\u0281\u0282\3\2\2\2\u0282\u0286\58\35\2\u0283\u0285"+
-		"\5<\37\2\u0284\u0283\3\2\2\2\u0285\u0288\3\2\2\2\u0286\u0284\3\2\2\2\u0286"+
-		"\u0287\3\2\2\2\u0287\u028a\3\2\2\2\u0288\u0286\3\2\2\2\u0289\u028b\5\u008c"+
-		"G\2\u028a\u0289\3\2\2\2\u028a\u028b\3\2\2\2\u028b\u028c\3\2\2\2\u028c"+
-		"\u028d\b\21\1\2\u028d\u028f\3\2\2\2\u028e\u026f\3\2\2\2\u028e\u0280\3"+
-		"\2\2\2\u028f!\3\2\2\2\u0290\u0292\5\u00c2b\2\u0291\u0290\3\2\2\2\u0291"+
-		"\u0292\3\2\2\2\u0292\u0293\3\2\2\2\u0293\u0295\5\u0098M\2\u0294\u0296"+
-		"\5,\27\2\u0295\u0294\3\2\2\2\u0295\u0296\3\2\2\2\u0296\u0297\3\2\2\2\u0297"+
-		"\u029b\5:\36\2\u0298\u029a\5<\37\2\u0299\u0298\3\2\2\2\u029a\u029d\3\2"+
-		"\2\2\u029b\u0299\3\2\2\2\u029b\u029c\3\2\2\2\u029c\u029f\3\2\2\2\u029d"+
-		"\u029b\3\2\2\2\u029e\u02a0\5\u008cG\2\u029f\u029e\3\2\2\2\u029f\u02a0"+
-		"\3\2\2\2\u02a0\u02b1\3\2\2\2\u02a1\u02a3\5\u00c2b\2\u02a2\u02a1\3\2\2"+
-		"\2\u02a2\u02a3\3\2\2\2\u02a3\u02a4\3\2\2\2\u02a4\u02a8\5:\36\2\u02a5\u02a7"+
-		"\5<\37\2\u02a6\u02a5\3\2\2\2\u02a7\u02aa\3\2\2\2\u02a8\u02a6\3\2\2\2\u02a8"+
-		"\u02a9\3\2\2\2\u02a9\u02ac\3\2\2\2\u02aa\u02a8\3\2\2\2\u02ab\u02ad\5\u008c"+
-		"G\2\u02ac\u02ab\3\2\2\2\u02ac\u02ad\3\2\2\2\u02ad\u02ae\3\2\2\2\u02ae"+
-		"\u02af\b\22\1\2\u02af\u02b1\3\2\2\2\u02b0\u0291\3\2\2\2\u02b0\u02a2\3"+
-		"\2\2\2\u02b1#\3\2\2\2\u02b2\u02b4\5\u00c2b\2\u02b3\u02b2\3\2\2\2\u02b3"+
-		"\u02b4\3\2\2\2\u02b4\u02bc\3\2\2\2\u02b5\u02b7\5\u0098M\2\u02b6\u02b8"+
-		"\5,\27\2\u02b7\u02b6\3\2\2\2\u02b7\u02b8\3\2\2\2\u02b8\u02b9\3\2\2\2\u02b9"+
-		"\u02ba\5\60\31\2\u02ba\u02bb\7\5\2\2\u02bb\u02bd\3\2\2\2\u02bc\u02b5\3"+
-		"\2\2\2\u02bc\u02bd\3\2\2\2\u02bd\u02be\3\2\2\2\u02be\u02bf\t\2\2\2\u02bf"+
-		"\u02c0\t\3\2\2\u02c0\u02c2\t\2\2\2\u02c1\u02c3\7:\2\2\u02c2\u02c1\3\2"+
-		"\2\2\u02c2\u02c3\3\2\2\2\u02c3\u02c4\3\2\2\2\u02c4\u02c5\t\4\2\2\u02c5"+
-		"\u02c6\t\5\2\2\u02c6\u02c7\t\3\2\2\u02c7\u02c8\t\2\2\2\u02c8\u02c9\t\6"+
-		"\2\2\u02c9\u02d4\t\5\2\2\u02ca\u02cb\t\6\2\2\u02cb\u02cc\t\7\2\2\u02cc"+
-		"\u02d2\t\2\2\2\u02cd\u02ce\t\3\2\2\u02ce\u02cf\t\b\2\2\u02cf\u02d0\t\t"+
-		"\2\2\u02d0\u02d1\t\6\2\2\u02d1\u02d3\t\5\2\2\u02d2\u02cd\3\2\2\2\u02d2"+
-		"\u02d3\3\2\2\2\u02d3\u02d5\3\2\2\2\u02d4\u02ca\3\2\2\2\u02d4\u02d5\3\2"+
-		"\2\2\u02d5\u02d7\3\2\2\2\u02d6\u02d8\5\u008cG\2\u02d7\u02d6\3\2\2\2\u02d7"+
-		"\u02d8\3\2\2\2\u02d8%\3\2\2\2\u02d9\u02e2\5\u00ba^\2\u02da\u02db\t\4\2"+
-		"\2\u02db\u02dc\t\5\2\2\u02dc\u02dd\t\3\2\2\u02dd\u02de\t\2\2\2\u02de\u02e0"+
-		"\t\n\2\2\u02df\u02e1\7?\2\2\u02e0\u02df\3\2\2\2\u02e0\u02e1\3\2\2\2\u02e1"+
-		"\u02e3\3\2\2\2\u02e2\u02da\3\2\2\2\u02e2\u02e3\3\2\2\2\u02e3\'\3\2\2\2"+
-		"\u02e4\u02e6\7\4\2\2\u02e5\u02e7\7\4\2\2\u02e6\u02e5\3\2\2\2\u02e7\u02e8"+
-		"\3\2\2\2\u02e8\u02e6\3\2\2\2\u02e8\u02e9\3\2\2\2\u02e9)\3\2\2\2\u02ea"+
-		"\u02ec\t\13\2\2\u02eb\u02ea\3\2\2\2\u02ec\u02ed\3\2\2\2\u02ed\u02eb\3"+
-		"\2\2\2\u02ed\u02ee\3\2\2\2\u02ee+\3\2\2\2\u02ef\u02f0\7\31\2\2\u02f0\u02f1"+
-		"\5.\30\2\u02f1\u02f2\7\32\2\2\u02f2\u0304\3\2\2\2\u02f3\u02f4\5.\30\2"+
-		"\u02f4\u02f5\7\32\2\2\u02f5\u02f6\b\27\1\2\u02f6\u0304\3\2\2\2\u02f7\u02f8"+
-		"\7\31\2\2\u02f8\u02f9\5.\30\2\u02f9\u02fa\b\27\1\2\u02fa\u0304\3\2\2\2"+
-		"\u02fb\u02fc\5.\30\2\u02fc\u02fd\b\27\1\2\u02fd\u0304\3\2\2\2\u02fe\u02ff"+
-		"\5^\60\2\u02ff\u0300\5.\30\2\u0300\u0301\5`\61\2\u0301\u0302\b\27\1\2"+
-		"\u0302\u0304\3\2\2\2\u0303\u02ef\3\2\2\2\u0303\u02f3\3\2\2\2\u0303\u02f7"+
-		"\3\2\2\2\u0303\u02fb\3\2\2\2\u0303\u02fe\3\2\2\2\u0304-\3\2\2\2\u0305"+
-		"\u0306\79\2\2\u0306\u0307\t\2\2\2\u0307/\3\2\2\2\u0308\u0309\7\5\2\2\u0309"+
-		"\u030a\5\u00d6l\2\u030a\u030c\5\64\33\2\u030b\u030d\5\u008aF\2\u030c\u030b"+
-		"\3\2\2\2\u030c\u030d\3\2\2\2\u030d\u031e\3\2\2\2\u030e\u030f\5\u00d6l"+
-		"\2\u030f\u0311\5\64\33\2\u0310\u0312\5\u008aF\2\u0311\u0310\3\2\2\2\u0311"+
-		"\u0312\3\2\2\2\u0312\u0313\3\2\2\2\u0313\u0314\b\31\1\2\u0314\u031e\3"+
-		"\2\2\2\u0315\u0316\5\62\32\2\u0316\u0317\5\u00d6l\2\u0317\u0319\5\64\33"+
-		"\2\u0318\u031a\5\u008aF\2\u0319\u0318\3\2\2\2\u0319\u031a\3\2\2\2\u031a"+
-		"\u031b\3\2\2\2\u031b\u031c\b\31\1\2\u031c\u031e\3\2\2\2\u031d\u0308\3"+
-		"\2\2\2\u031d\u030e\3\2\2\2\u031d\u0315\3\2\2\2\u031e\61\3\2\2\2\u031f"+
-		"\u0321\7\5\2\2\u0320\u0322\7\5\2\2\u0321\u0320\3\2\2\2\u0322\u0323\3\2"+
-		"\2\2\u0323\u0321\3\2\2\2\u0323\u0324\3\2\2\2\u0324\63\3\2\2\2\u0325\u0326"+
-		"\t\3\2\2\u0326\u0327\t\b\2\2\u0327\u0329\5\u00d6l\2\u0328\u0325\3\2\2"+
-		"\2\u0329\u032c\3\2\2\2\u032a\u0328\3\2\2\2\u032a\u032b\3\2\2\2\u032b\65"+
-		"\3\2\2\2\u032c\u032a\3\2\2\2\u032d\u032e\7\5\2\2\u032e\u0337\5@!\2\u032f"+
-		"\u0330\5@!\2\u0330\u0331\b\34\1\2\u0331\u0337\3\2\2\2\u0332\u0333\5\62"+
-		"\32\2\u0333\u0334\5@!\2\u0334\u0335\b\34\1\2\u0335\u0337\3\2\2\2\u0336"+
-		"\u032d\3\2\2\2\u0336\u032f\3\2\2\2\u0336\u0332\3\2\2\2\u0337\67\3\2\2"+
-		"\2\u0338\u0339\7\5\2\2\u0339\u0342\5B\"\2\u033a\u033b\5B\"\2\u033b\u033c"+
-		"\b\35\1\2\u033c\u0342\3\2\2\2\u033d\u033e\5\62\32\2\u033e\u033f\5B\"\2"+
-		"\u033f\u0340\b\35\1\2\u0340\u0342\3\2\2\2\u0341\u0338\3\2\2\2\u0341\u033a"+
-		"\3\2\2\2\u0341\u033d\3\2\2\2\u03429\3\2\2\2\u0343\u0344\7\5\2\2\u0344"+
-		"\u034d\5F$\2\u0345\u0346\5F$\2\u0346\u0347\b\36\1\2\u0347\u034d\3\2\2"+
-		"\2\u0348\u0349\5\62\32\2\u0349\u034a\5F$\2\u034a\u034b\b\36\1\2\u034b"+
-		"\u034d\3\2\2\2\u034c\u0343\3\2\2\2\u034c\u0345\3\2\2\2\u034c\u0348\3\2"+
-		"\2\2\u034d;\3\2\2\2\u034e\u034f\7\5\2\2\u034f\u0358\5J&\2\u0350\u0351"+
-		"\5J&\2\u0351\u0352\b\37\1\2\u0352\u0358\3\2\2\2\u0353\u0354\5\62\32\2"+
-		"\u0354\u0355\5J&\2\u0355\u0356\b\37\1\2\u0356\u0358\3\2\2\2\u0357\u034e"+
-		"\3\2\2\2\u0357\u0350\3\2\2\2\u0357\u0353\3\2\2\2\u0358=\3\2\2\2\u0359"+
-		"\u035b\7\5\2\2\u035a\u0359\3\2\2\2\u035b\u035c\3\2\2\2\u035c\u035a\3\2"+
-		"\2\2\u035c\u035d\3\2\2\2\u035d?\3\2\2\2\u035e\u035f\t\f\2\2\u035f\u0360"+
-		"\t\r\2\2\u0360\u0361\t\n\2\2\u0361\u0363\t\t\2\2\u0362\u0364\5\u00c4c"+
-		"\2\u0363\u0362\3\2\2\2\u0363\u0364\3\2\2\2\u0364\u036e\3\2\2\2\u0365\u0366"+
-		"\t\f\2\2\u0366\u0367\t\r\2\2\u0367\u0368\t\n\2\2\u0368\u0369\t\t\2\2\u0369"+
-		"\u036a\5> \2\u036a\u036b\5\u00c4c\2\u036b\u036c\b!\1\2\u036c\u036e\3\2"+
-		"\2\2\u036d\u035e\3\2\2\2\u036d\u0365\3\2\2\2\u036eA\3\2\2\2\u036f\u0371"+
-		"\5D#\2\u0370\u0372\5\u00c4c\2\u0371\u0370\3\2\2\2\u0371\u0372\3\2\2\2"+
-		"\u0372\u0379\3\2\2\2\u0373\u0374\5D#\2\u0374\u0375\5> \2\u0375\u0376\5"+
-		"\u00c4c\2\u0376\u0377\b\"\1\2\u0377\u0379\3\2\2\2\u0378\u036f\3\2\2\2"+
-		"\u0378\u0373\3\2\2\2\u0379C\3\2\2\2\u037a\u037b\t\16\2\2\u037b\u037d\t"+
-		"\5\2\2\u037c\u037e\5\u00b4[\2\u037d\u037c\3\2\2\2\u037d\u037e\3\2\2\2"+
-		"\u037eE\3\2\2\2\u037f\u0381\5H%\2\u0380\u0382\5\u00c4c\2\u0381\u0380\3"+
-		"\2\2\2\u0381\u0382\3\2\2\2\u0382\u0389\3\2\2\2\u0383\u0384\5H%\2\u0384"+
-		"\u0385\5> \2\u0385\u0386\5\u00c4c\2\u0386\u0387\b$\1\2\u0387\u0389\3\2"+
-		"\2\2\u0388\u037f\3\2\2\2\u0388\u0383\3\2\2\2\u0389G\3\2\2\2\u038a\u038b"+
-		"\t\16\2\2\u038b\u038c\t\r\2\2\u038c\u038e\t\5\2\2\u038d\u038f\5\u00b4"+
-		"[\2\u038e\u038d\3\2\2\2\u038e\u038f\3\2\2\2\u038fI\3\2\2\2\u0390\u0394"+
-		"\5L\'\2\u0391\u0392\t\3\2\2\u0392\u0393\t\b\2\2\u0393\u0395\5L\'\2\u0394"+
-		"\u0391\3\2\2\2\u0395\u0396\3\2\2\2\u0396\u0394\3\2\2\2\u0396\u0397\3\2"+
-		"\2\2\u0397\u039a\3\2\2\2\u0398\u039a\5L\'\2\u0399\u0390\3\2\2\2\u0399"+
-		"\u0398\3\2\2\2\u039aK\3\2\2\2\u039b\u039d\5\u00d0i\2\u039c\u039b\3\2\2"+
-		"\2\u039c\u039d\3\2\2\2\u039d\u039e\3\2\2\2\u039e\u03a0\t\b\2\2\u039f\u03a1"+
-		"\5\u00d8m\2\u03a0\u039f\3\2\2\2\u03a0\u03a1\3\2\2\2\u03a1\u03a2\3\2\2"+
-		"\2\u03a2\u03a4\7\5\2\2\u03a3\u03a5\7<\2\2\u03a4\u03a3\3\2\2\2\u03a4\u03a5"+
-		"\3\2\2\2\u03a5\u03a7\3\2\2\2\u03a6\u03a8\5\u00acW\2\u03a7\u03a6\3\2\2"+
-		"\2\u03a7\u03a8\3\2\2\2\u03a8\u03a9\3\2\2\2\u03a9\u03aa\t\r\2\2\u03aa\u03ab"+
-		"\t\t\2\2\u03ab\u03ac\t\f\2\2\u03ac\u03ae\t\2\2\2\u03ad\u03af\5\u00d8m"+
-		"\2\u03ae\u03ad\3\2\2\2\u03ae\u03af\3\2\2\2\u03af\u03b4\3\2\2\2\u03b0\u03b4"+
-		"\5R*\2\u03b1\u03b4\5P)\2\u03b2\u03b4\5N(\2\u03b3\u039c\3\2\2\2\u03b3\u03b0"+
-		"\3\2\2\2\u03b3\u03b1\3\2\2\2\u03b3\u03b2\3\2\2\2\u03b4M\3\2\2\2\u03b5"+
-		"\u03b6\5\u00d0i\2\u03b6\u03b9\5\u00aeX\2\u03b7\u03ba\5\u008aF\2\u03b8"+
-		"\u03ba\5\u00b2Z\2\u03b9\u03b7\3\2\2\2\u03b9\u03b8\3\2\2\2\u03b9\u03ba"+
-		"\3\2\2\2\u03ba\u03bb\3\2\2\2\u03bb\u03bc\b(\1\2\u03bc\u03d6\3\2\2\2\u03bd"+
-		"\u03be\5\u00ceh\2\u03be\u03c1\5\u00b6\\\2\u03bf\u03c2\5\u008aF\2\u03c0"+
-		"\u03c2\5\u00b2Z\2\u03c1\u03bf\3\2\2\2\u03c1\u03c0\3\2\2\2\u03c1\u03c2"+
-		"\3\2\2\2\u03c2\u03c3\3\2\2\2\u03c3\u03c4\b(\1\2\u03c4\u03d6\3\2\2\2\u03c5"+
-		"\u03c7\5\u00dco\2\u03c6\u03c8\5\u00aeX\2\u03c7\u03c6\3\2\2\2\u03c7\u03c8"+
-		"\3\2\2\2\u03c8\u03cb\3\2\2\2\u03c9\u03cc\5\u008aF\2\u03ca\u03cc\5\u00b2"+
-		"Z\2\u03cb\u03c9\3\2\2\2\u03cb\u03ca\3\2\2\2\u03cb\u03cc\3\2\2\2\u03cc"+
-		"\u03cd\3\2\2\2\u03cd\u03ce\b(\1\2\u03ce\u03d6\3\2\2\2\u03cf\u03d2\5\u00d0"+
-		"i\2\u03d0\u03d2\5\u00ceh\2\u03d1\u03cf\3\2\2\2\u03d1\u03d0\3\2\2\2\u03d2"+
-		"\u03d3\3\2\2\2\u03d3\u03d4\b(\1\2\u03d4\u03d6\3\2\2\2\u03d5\u03b5\3\2"+
-		"\2\2\u03d5\u03bd\3\2\2\2\u03d5\u03c5\3\2\2\2\u03d5\u03d1\3\2\2\2\u03d6"+
-		"O\3\2\2\2\u03d7\u03d9\5\u00d0i\2\u03d8\u03d7\3\2\2\2\u03d8\u03d9\3\2\2"+
-		"\2\u03d9\u03da\3\2\2\2\u03da\u03dc\t\b\2\2\u03db\u03dd\5\u00d8m\2\u03dc"+
-		"\u03db\3\2\2\2\u03dc\u03dd\3\2\2\2\u03dd\u0401\3\2\2\2\u03de\u03df\5\u00d0"+
-		"i\2\u03df\u03e0\t\t\2\2\u03e0\u03e1\t\6\2\2\u03e1\u03e2\t\b\2\2\u03e2"+
-		"\u03e4\5\u00b4[\2\u03e3\u03e5\5\u00d8m\2\u03e4\u03e3\3\2\2\2\u03e4\u03e5"+
-		"\3\2\2\2\u03e5\u0401\3\2\2\2\u03e6\u03e8\5\u00d0i\2\u03e7\u03e9\5\u00b8"+
-		"]\2\u03e8\u03e7\3\2\2\2\u03e8\u03e9\3\2\2\2\u03e9\u03ea\3\2\2\2\u03ea"+
-		"\u03eb\t\t\2\2\u03eb\u03ec\t\6\2\2\u03ec\u03ee\t\b\2\2\u03ed\u03ef\5\u00d8"+
-		"m\2\u03ee\u03ed\3\2\2\2\u03ee\u03ef\3\2\2\2\u03ef\u0401\3\2\2\2\u03f0"+
-		"\u03f2\7<\2\2\u03f1\u03f0\3\2\2\2\u03f1\u03f2\3\2\2\2\u03f2\u03f4\3\2"+
-		"\2\2\u03f3\u03f5\5\u00acW\2\u03f4\u03f3\3\2\2\2\u03f4\u03f5\3\2\2\2\u03f5"+
-		"\u03f6\3\2\2\2\u03f6\u03f7\t\r\2\2\u03f7\u03f8\t\t\2\2\u03f8\u03f9\t\f"+
-		"\2\2\u03f9\u03fb\t\2\2\2\u03fa\u03fc\5\u00d8m\2\u03fb\u03fa\3\2\2\2\u03fb"+
-		"\u03fc\3\2\2\2\u03fc\u0401\3\2\2\2\u03fd\u03fe\t\f\2\2\u03fe\u03ff\t\2"+
-		"\2\2\u03ff\u0401\t\4\2\2\u0400\u03d8\3\2\2\2\u0400\u03de\3\2\2\2\u0400"+
-		"\u03e6\3\2\2\2\u0400\u03f1\3\2\2\2\u0400\u03fd\3\2\2\2\u0401Q\3\2\2\2"+
-		"\u0402\u0404\5\u00ccg\2\u0403\u0402\3\2\2\2\u0403\u0404\3\2\2\2\u0404"+
-		"\u0406\3\2\2\2\u0405\u0407\5\u00c2b\2\u0406\u0405\3\2\2\2\u0406\u0407"+
-		"\3\2\2\2\u0407\u0408\3\2\2\2\u0408\u0409\5\u00a0Q\2\u0409\u040b\5X-\2"+
-		"\u040a\u040c\5b\62\2\u040b\u040a\3\2\2\2\u040b\u040c\3\2\2\2\u040c\u0410"+
-		"\3\2\2\2\u040d\u040f\5T+\2\u040e\u040d\3\2\2\2\u040f\u0412\3\2\2\2\u0410"+
-		"\u040e\3\2\2\2\u0410\u0411\3\2\2\2\u0411\u0414\3\2\2\2\u0412\u0410\3\2"+
-		"\2\2\u0413\u0415\5\u00d8m\2\u0414\u0413\3\2\2\2\u0414\u0415\3\2\2\2\u0415"+
-		"\u0416\3\2\2\2\u0416\u0417\b*\1\2\u0417\u0466\3\2\2\2\u0418\u041a\5\u00cc"+
-		"g\2\u0419\u0418\3\2\2\2\u0419\u041a\3\2\2\2\u041a\u041c\3\2\2\2\u041b"+
-		"\u041d\5\u00c2b\2\u041c\u041b\3\2\2\2\u041c\u041d\3\2\2\2\u041d\u041e"+
-		"\3\2\2\2\u041e\u041f\5\u00b0Y\2\u041f\u0421\5j\66\2\u0420\u0422\5p9\2"+
-		"\u0421\u0420\3\2\2\2\u0421\u0422\3\2\2\2\u0422\u0424\3\2\2\2\u0423\u0425"+
-		"\5\u00d8m\2\u0424\u0423\3\2\2\2\u0424\u0425\3\2\2\2\u0425\u0426\3\2\2"+
-		"\2\u0426\u0427\b*\1\2\u0427\u0466\3\2\2\2\u0428\u042a\5\u00ccg\2\u0429"+
-		"\u0428\3\2\2\2\u0429\u042a\3\2\2\2\u042a\u042c\3\2\2\2\u042b\u042d\5\u00c2"+
-		"b\2\u042c\u042b\3\2\2\2\u042c\u042d\3\2\2\2\u042d\u042e\3\2\2\2\u042e"+
-		"\u042f\5|?\2\u042f\u0431\5~@\2\u0430\u0432\5\u00d8m\2\u0431\u0430\3\2"+
-		"\2\2\u0431\u0432\3\2\2\2\u0432\u0433\3\2\2\2\u0433\u0434\b*\1\2\u0434"+
-		"\u0466\3\2\2\2\u0435\u0437\5\u00ccg\2\u0436\u0435\3\2\2\2\u0436\u0437"+
-		"\3\2\2\2\u0437\u0439\3\2\2\2\u0438\u043a\5\u00c2b\2\u0439\u0438\3\2\2"+
-		"\2\u0439\u043a\3\2\2\2\u043a\u043b\3\2\2\2\u043b\u043d\5\u00a0Q\2\u043c"+
-		"\u043e\7\5\2\2\u043d\u043c\3\2\2\2\u043e\u043f\3\2\2\2\u043f\u043d\3\2"+
-		"\2\2\u043f\u0440\3\2\2\2\u0440\u0441\3\2\2\2\u0441\u0443\5X-\2\u0442\u0444"+
-		"\5b\62\2\u0443\u0442\3\2\2\2\u0443\u0444\3\2\2\2\u0444\u0448\3\2\2\2\u0445"+
-		"\u0447\5T+\2\u0446\u0445\3\2\2\2\u0447\u044a\3\2\2\2\u0448\u0446\3\2\2"+
-		"\2\u0448\u0449\3\2\2\2\u0449\u044c\3\2\2\2\u044a\u0448\3\2\2\2\u044b\u044d"+
-		"\5\u00d8m\2\u044c\u044b\3\2\2\2\u044c\u044d\3\2\2\2\u044d\u044e\3\2\2"+
-		"\2\u044e\u044f\b*\1\2\u044f\u0466\3\2\2\2\u0450\u0452\5\u00ccg\2\u0451"+
-		"\u0450\3\2\2\2\u0451\u0452\3\2\2\2\u0452\u0454\3\2\2\2\u0453\u0455\5\u00c2"+
-		"b\2\u0454\u0453\3\2\2\2\u0454\u0455\3\2\2\2\u0455\u0456\3\2\2\2\u0456"+
-		"\u0458\5\u00b0Y\2\u0457\u0459\7\5\2\2\u0458\u0457\3\2\2\2\u0459\u045a"+
-		"\3\2\2\2\u045a\u0458\3\2\2\2\u045a\u045b\3\2\2\2\u045b\u045c\3\2\2\2\u045c"+
-		"\u045e\5j\66\2\u045d\u045f\5p9\2\u045e\u045d\3\2\2\2\u045e\u045f\3\2\2"+
-		"\2\u045f\u0461\3\2\2\2\u0460\u0462\5\u00d8m\2\u0461\u0460\3\2\2\2\u0461"+
-		"\u0462\3\2\2\2\u0462\u0463\3\2\2\2\u0463\u0464\b*\1\2\u0464\u0466\3\2"+
-		"\2\2\u0465\u0403\3\2\2\2\u0465\u0419\3\2\2\2\u0465\u0429\3\2\2\2\u0465"+
-		"\u0436\3\2\2\2\u0465\u0451\3\2\2\2\u0466S\3\2\2\2\u0467\u0471\5V,\2\u0468"+
-		"\u046c\5V,\2\u0469\u046a\t\3\2\2\u046a\u046b\t\b\2\2\u046b\u046d\5V,\2"+
-		"\u046c\u0469\3\2\2\2\u046d\u046e\3\2\2\2\u046e\u046c\3\2\2\2\u046e\u046f"+
-		"\3\2\2\2\u046f\u0471\3\2\2\2\u0470\u0467\3\2\2\2\u0470\u0468\3\2\2\2\u0471"+
-		"U\3\2\2\2\u0472\u0474\7<\2\2\u0473\u0472\3\2\2\2\u0473\u0474\3\2\2\2\u0474"+
-		"\u0475\3\2\2\2\u0475\u0476\5\u00d2j\2\u0476\u0478\5x=\2\u0477\u0479\5"+
-		"z>\2\u0478\u0477\3\2\2\2\u0478\u0479\3\2\2\2\u0479\u048a\3\2\2\2\u047a"+
-		"\u047c\7<\2\2\u047b\u047a\3\2\2\2\u047b\u047c\3\2\2\2\u047c\u047d\3\2"+
-		"\2\2\u047d\u047f\5\u00d2j\2\u047e\u0480\7\5\2\2\u047f\u047e\3\2\2\2\u0480"+
-		"\u0481\3\2\2\2\u0481\u047f\3\2\2\2\u0481\u0482\3\2\2\2\u0482\u0483\3\2"+
-		"\2\2\u0483\u0485\5x=\2\u0484\u0486\5z>\2\u0485\u0484\3\2\2\2\u0485\u0486"+
-		"\3\2\2\2\u0486\u0487\3\2\2\2\u0487\u0488\b,\1\2\u0488\u048a\3\2\2\2\u0489"+
-		"\u0473\3\2\2\2\u0489\u047b\3\2\2\2\u048aW\3\2\2\2\u048b\u048c\7!\2\2\u048c"+
-		"\u048d\5Z.\2\u048d\u048e\7\"\2\2\u048e\u04a0\3\2\2\2\u048f\u0490\5Z.\2"+
-		"\u0490\u0491\7\"\2\2\u0491\u0492\b-\1\2\u0492\u04a0\3\2\2\2\u0493\u0494"+
-		"\7!\2\2\u0494\u0495\5Z.\2\u0495\u0496\b-\1\2\u0496\u04a0\3\2\2\2\u0497"+
-		"\u0498\5Z.\2\u0498\u0499\b-\1\2\u0499\u04a0\3\2\2\2\u049a\u049b\5^\60"+
-		"\2\u049b\u049c\5Z.\2\u049c\u049d\5`\61\2\u049d\u049e\b-\1\2\u049e\u04a0"+
-		"\3\2\2\2\u049f\u048b\3\2\2\2\u049f\u048f\3\2\2\2\u049f\u0493\3\2\2\2\u049f"+
-		"\u0497\3\2\2\2\u049f\u049a\3\2\2\2\u04a0Y\3\2\2\2\u04a1\u04a6\5\u009e"+
-		"P\2\u04a2\u04a3\7\30\2\2\u04a3\u04a5\5\u009eP\2\u04a4\u04a2\3\2\2\2\u04a5"+
-		"\u04a8\3\2\2\2\u04a6\u04a4\3\2\2\2\u04a6\u04a7\3\2\2\2\u04a7\u04ad\3\2"+
-		"\2\2\u04a8\u04a6\3\2\2\2\u04a9\u04aa\5\\/\2\u04aa\u04ab\b.\1\2\u04ab\u04ad"+
-		"\3\2\2\2\u04ac\u04a1\3\2\2\2\u04ac\u04a9\3\2\2\2\u04ad[\3\2\2\2\u04ae"+
-		"\u04b1\5\u009eP\2\u04af\u04b0\t\17\2\2\u04b0\u04b2\5\u009eP\2\u04b1\u04af"+
-		"\3\2\2\2\u04b2\u04b3\3\2\2\2\u04b3\u04b1\3\2\2\2\u04b3\u04b4\3\2\2\2\u04b4"+
-		"]\3\2\2\2\u04b5\u04b7\t\20\2\2\u04b6\u04b5\3\2\2\2\u04b7\u04ba\3\2\2\2"+
-		"\u04b8\u04b6\3\2\2\2\u04b8\u04b9\3\2\2\2\u04b9_\3\2\2\2\u04ba\u04b8\3"+
-		"\2\2\2\u04bb\u04bd\t\21\2\2\u04bc\u04bb\3\2\2\2\u04bd\u04c0\3\2\2\2\u04be"+
-		"\u04bc\3\2\2\2\u04be\u04bf\3\2\2\2\u04bfa\3\2\2\2\u04c0\u04be\3\2\2\2"+
-		"\u04c1\u04c2\7!\2\2\u04c2\u04c3\5d\63\2\u04c3\u04c4\7\"\2\2\u04c4\u04d6"+
-		"\3\2\2\2\u04c5\u04c6\5d\63\2\u04c6\u04c7\7\"\2\2\u04c7\u04c8\b\62\1\2"+
-		"\u04c8\u04d6\3\2\2\2\u04c9\u04ca\7!\2\2\u04ca\u04cb\5d\63\2\u04cb\u04cc"+
-		"\b\62\1\2\u04cc\u04d6\3\2\2\2\u04cd\u04ce\5d\63\2\u04ce\u04cf\b\62\1\2"+
-		"\u04cf\u04d6\3\2\2\2\u04d0\u04d1\5^\60\2\u04d1\u04d2\5d\63\2\u04d2\u04d3"+
-		"\5`\61\2\u04d3\u04d4\b\62\1\2\u04d4\u04d6\3\2\2\2\u04d5\u04c1\3\2\2\2"+
-		"\u04d5\u04c5\3\2\2\2\u04d5\u04c9\3\2\2\2\u04d5\u04cd\3\2\2\2\u04d5\u04d0"+
-		"\3\2\2\2\u04d6c\3\2\2\2\u04d7\u04dc\5h\65\2\u04d8\u04d9\7\30\2\2\u04d9"+
-		"\u04db\5h\65\2\u04da\u04d8\3\2\2\2\u04db\u04de\3\2\2\2\u04dc\u04da\3\2"+
-		"\2\2\u04dc\u04dd\3\2\2\2\u04dd\u04e3\3\2\2\2\u04de\u04dc\3\2\2\2\u04df"+
-		"\u04e0\5f\64\2\u04e0\u04e1\b\63\1\2\u04e1\u04e3\3\2\2\2\u04e2\u04d7\3"+
-		"\2\2\2\u04e2\u04df\3\2\2\2\u04e3e\3\2\2\2\u04e4\u04e7\5h\65\2\u04e5\u04e6"+
-		"\t\17\2\2\u04e6\u04e8\5h\65\2\u04e7\u04e5\3\2\2\2\u04e8\u04e9\3\2\2\2"+
-		"\u04e9\u04e7\3\2\2\2\u04e9\u04ea\3\2\2\2\u04eag\3\2\2\2\u04eb\u04f5\5"+
-		"\u009cO\2\u04ec\u04f0\5\u009cO\2\u04ed\u04ee\t\3\2\2\u04ee\u04ef\t\b\2"+
-		"\2\u04ef\u04f1\5\u009cO\2\u04f0\u04ed\3\2\2\2\u04f1\u04f2\3\2\2\2\u04f2"+
-		"\u04f0\3\2\2\2\u04f2\u04f3\3\2\2\2\u04f3\u04f5\3\2\2\2\u04f4\u04eb\3\2"+
-		"\2\2\u04f4\u04ec\3\2\2\2\u04f5i\3\2\2\2\u04f6\u04f7\7!\2\2\u04f7\u04f8"+
-		"\5l\67\2\u04f8\u04f9\7\"\2\2\u04f9\u050b\3\2\2\2\u04fa\u04fb\5l\67\2\u04fb"+
-		"\u04fc\7\"\2\2\u04fc\u04fd\b\66\1\2\u04fd\u050b\3\2\2\2\u04fe\u04ff\7"+
-		"!\2\2\u04ff\u0500\5l\67\2\u0500\u0501\b\66\1\2\u0501\u050b\3\2\2\2\u0502"+
-		"\u0503\5l\67\2\u0503\u0504\b\66\1\2\u0504\u050b\3\2\2\2\u0505\u0506\5"+
-		"^\60\2\u0506\u0507\5l\67\2\u0507\u0508\5`\61\2\u0508\u0509\b\66\1\2\u0509"+
-		"\u050b\3\2\2\2\u050a\u04f6\3\2\2\2\u050a\u04fa\3\2\2\2\u050a\u04fe\3\2"+
-		"\2\2\u050a\u0502\3\2\2\2\u050a\u0505\3\2\2\2\u050bk\3\2\2\2\u050c\u0511"+
-		"\5\u0096L\2\u050d\u050e\7\30\2\2\u050e\u0510\5\u0096L\2\u050f\u050d\3"+
-		"\2\2\2\u0510\u0513\3\2\2\2\u0511\u050f\3\2\2\2\u0511\u0512\3\2\2\2\u0512"+
-		"\u0518\3\2\2\2\u0513\u0511\3\2\2\2\u0514\u0515\5n8\2\u0515\u0516\b\67"+
-		"\1\2\u0516\u0518\3\2\2\2\u0517\u050c\3\2\2\2\u0517\u0514\3\2\2\2\u0518"+
-		"m\3\2\2\2\u0519\u051c\5\u0096L\2\u051a\u051b\t\17\2\2\u051b\u051d\5\u0096"+
-		"L\2\u051c\u051a\3\2\2\2\u051d\u051e\3\2\2\2\u051e\u051c\3\2\2\2\u051e"+
-		"\u051f\3\2\2\2\u051fo\3\2\2\2\u0520\u0521\7!\2\2\u0521\u0522\5r:\2\u0522"+
-		"\u0523\7\"\2\2\u0523\u0539\3\2\2\2\u0524\u0525\7!\2\2\u0525\u0526\5\u00a2"+
-		"R\2\u0526\u0527\7\"\2\2\u0527\u0539\3\2\2\2\u0528\u0529\5r:\2\u0529\u052a"+
-		"\7\"\2\2\u052a\u052b\b9\1\2\u052b\u0539\3\2\2\2\u052c\u052d\7!\2\2\u052d"+
-		"\u052e\5r:\2\u052e\u052f\b9\1\2\u052f\u0539\3\2\2\2\u0530\u0531\5r:\2"+
-		"\u0531\u0532\b9\1\2\u0532\u0539\3\2\2\2\u0533\u0534\5^\60\2\u0534\u0535"+
-		"\5r:\2\u0535\u0536\5`\61\2\u0536\u0537\b9\1\2\u0537\u0539\3\2\2\2\u0538"+
-		"\u0520\3\2\2\2\u0538\u0524\3\2\2\2\u0538\u0528\3\2\2\2\u0538\u052c\3\2"+
-		"\2\2\u0538\u0530\3\2\2\2\u0538\u0533\3\2\2\2\u0539q\3\2\2\2\u053a\u053f"+
-		"\5v<\2\u053b\u053c\7\30\2\2\u053c\u053e\5v<\2\u053d\u053b\3\2\2\2\u053e"+
-		"\u0541\3\2\2\2\u053f\u053d\3\2\2\2\u053f\u0540\3\2\2\2\u0540\u0546\3\2"+
-		"\2\2\u0541\u053f\3\2\2\2\u0542\u0543\5t;\2\u0543\u0544\b:\1\2\u0544\u0546"+
-		"\3\2\2\2\u0545\u053a\3\2\2\2\u0545\u0542\3\2\2\2\u0546s\3\2\2\2\u0547"+
-		"\u054a\5v<\2\u0548\u0549\t\17\2\2\u0549\u054b\5v<\2\u054a\u0548\3\2\2"+
-		"\2\u054b\u054c\3\2\2\2\u054c\u054a\3\2\2\2\u054c\u054d\3\2\2\2\u054du"+
-		"\3\2\2\2\u054e\u0558\5\u0088E\2\u054f\u0553\5\u0088E\2\u0550\u0551\t\3"+
-		"\2\2\u0551\u0552\t\b\2\2\u0552\u0554\5\u0088E\2\u0553\u0550\3\2\2\2\u0554"+
-		"\u0555\3\2\2\2\u0555\u0553\3\2\2\2\u0555\u0556\3\2\2\2\u0556\u0558\3\2"+
-		"\2\2\u0557\u054e\3\2\2\2\u0557\u054f\3\2\2\2\u0558w\3\2\2\2\u0559\u055a"+
-		"\7!\2\2\u055a\u055b\5l\67\2\u055b\u055c\7\"\2\2\u055c\u056e\3\2\2\2\u055d"+
-		"\u055e\5l\67\2\u055e\u055f\7\"\2\2\u055f\u0560\b=\1\2\u0560\u056e\3\2"+
-		"\2\2\u0561\u0562\7!\2\2\u0562\u0563\5l\67\2\u0563\u0564\b=\1\2\u0564\u056e"+
-		"\3\2\2\2\u0565\u0566\5l\67\2\u0566\u0567\b=\1\2\u0567\u056e\3\2\2\2\u0568"+
-		"\u0569\5^\60\2\u0569\u056a\5l\67\2\u056a\u056b\5`\61\2\u056b\u056c\b="+
-		"\1\2\u056c\u056e\3\2\2\2\u056d\u0559\3\2\2\2\u056d\u055d\3\2\2\2\u056d"+
-		"\u0561\3\2\2\2\u056d\u0565\3\2\2\2\u056d\u0568\3\2\2\2\u056ey\3\2\2\2"+
-		"\u056f\u0570\7!\2\2\u0570\u0571\5r:\2\u0571\u0572\7\"\2\2\u0572\u0588"+
-		"\3\2\2\2\u0573\u0574\7!\2\2\u0574\u0575\5\u00a2R\2\u0575\u0576\7\"\2\2"+
-		"\u0576\u0588\3\2\2\2\u0577\u0578\5r:\2\u0578\u0579\7\"\2\2\u0579\u057a"+
-		"\b>\1\2\u057a\u0588\3\2\2\2\u057b\u057c\7!\2\2\u057c\u057d\5r:\2\u057d"+
-		"\u057e\b>\1\2\u057e\u0588\3\2\2\2\u057f\u0580\5r:\2\u0580\u0581\b>\1\2"+
-		"\u0581\u0588\3\2\2\2\u0582\u0583\5^\60\2\u0583\u0584\5r:\2\u0584\u0585"+
-		"\5`\61\2\u0585\u0586\b>\1\2\u0586\u0588\3\2\2\2\u0587\u056f\3\2\2\2\u0587"+
-		"\u0573\3\2\2\2\u0587\u0577\3\2\2\2\u0587\u057b\3\2\2\2\u0587\u057f\3\2"+
-		"\2\2\u0587\u0582\3\2\2\2\u0588{\3\2\2\2\u0589\u058a\t\6\2\2\u058a\u058b"+
-		"\t\r\2\2\u058b\u05ac\t\r\2\2\u058c\u058d\t\r\2\2\u058d\u058e\t\n\2\2\u058e"+
-		"\u05ac\t\5\2\2\u058f\u0590\t\22\2\2\u0590\u0591\t\16\2\2\u0591\u0593\t"+
-		"\23\2\2\u0592\u058f\3\2\2\2\u0592\u0593\3\2\2\2\u0593\u0594\3\2\2\2\u0594"+
-		"\u0595\t\f\2\2\u0595\u0596\t\r\2\2\u0596\u0597\t\f\2\2\u0597\u05ac\t\4"+
-		"\2\2\u0598\u0599\t\r\2\2\u0599\u059a\t\23\2\2\u059a\u05ac\t\22\2\2\u059b"+
-		"\u059c\t\24\2\2\u059c\u059d\t\b\2\2\u059d\u05ac\t\22\2\2\u059e\u059f\t"+
-		"\25\2\2\u059f\u05a0\t\r\2\2\u05a0\u05ac\t\22\2\2\u05a1\u05a2\t\26\2\2"+
-		"\u05a2\u05a3\t\16\2\2\u05a3\u05ac\t\b\2\2\u05a4\u05a5\t\f\2\2\u05a5\u05a6"+
-		"\t\2\2\2\u05a6\u05ac\t\16\2\2\u05a7\u05a8\t\f\2\2\u05a8\u05a9\t\2\2\2"+
-		"\u05a9\u05ac\t\27\2\2\u05aa\u05ac\t\f\2\2\u05ab\u0589\3\2\2\2\u05ab\u058c"+
-		"\3\2\2\2\u05ab\u0592\3\2\2\2\u05ab\u0598\3\2\2\2\u05ab\u059b\3\2\2\2\u05ab"+
-		"\u059e\3\2\2\2\u05ab\u05a1\3\2\2\2\u05ab\u05a4\3\2\2\2\u05ab\u05a7\3\2"+
-		"\2\2\u05ab\u05aa\3\2\2\2\u05ac}\3\2\2\2\u05ad\u05ae\7!\2\2\u05ae\u05af"+
-		"\5\u0080A\2\u05af\u05b0\7\"\2\2\u05b0\u05c2\3\2\2\2\u05b1\u05b2\5\u0080"+
-		"A\2\u05b2\u05b3\7\"\2\2\u05b3\u05b4\b@\1\2\u05b4\u05c2\3\2\2\2\u05b5\u05b6"+
-		"\7!\2\2\u05b6\u05b7\5\u0080A\2\u05b7\u05b8\b@\1\2\u05b8\u05c2\3\2\2\2"+
-		"\u05b9\u05ba\5\u0080A\2\u05ba\u05bb\b@\1\2\u05bb\u05c2\3\2\2\2\u05bc\u05bd"+
-		"\5^\60\2\u05bd\u05be\5\u0080A\2\u05be\u05bf\5`\61\2\u05bf\u05c0\b@\1\2"+
-		"\u05c0\u05c2\3\2\2\2\u05c1\u05ad\3\2\2\2\u05c1\u05b1\3\2\2\2\u05c1\u05b5"+
-		"\3\2\2\2\u05c1\u05b9\3\2\2\2\u05c1\u05bc\3\2\2\2\u05c2\177\3\2\2\2\u05c3"+
-		"\u05c5\5\u0096L\2\u05c4\u05c6\7<\2\2\u05c5\u05c4\3\2\2\2\u05c5\u05c6\3"+
-		"\2\2\2\u05c6\u05c7\3\2\2\2\u05c7\u05c8\5\u0082B\2\u05c8\u0081\3\2\2\2"+
-		"\u05c9\u05ca\t\30\2\2\u05ca\u0083\3\2\2\2\u05cb\u05cd\7<\2\2\u05cc\u05cb"+
-		"\3\2\2\2\u05cc\u05cd\3\2\2\2\u05cd\u05ce\3\2\2\2\u05ce\u05d1\5\u0082B"+
-		"\2\u05cf\u05d2\5\u00aaV\2\u05d0\u05d2\7<\2\2\u05d1\u05cf\3\2\2\2\u05d1"+
-		"\u05d0\3\2\2\2\u05d2\u05d3\3\2\2\2\u05d3\u05d1\3\2\2\2\u05d3\u05d4\3\2"+
-		"\2\2\u05d4\u05e1\3\2\2\2\u05d5\u05d8\7<\2\2\u05d6\u05d9\5\u00aaV\2\u05d7"+
-		"\u05d9\7<\2\2\u05d8\u05d6\3\2\2\2\u05d8\u05d7\3\2\2\2\u05d9\u05da\3\2"+
-		"\2\2\u05da\u05d8\3\2\2\2\u05da\u05db\3\2\2\2\u05db\u05e1\3\2\2\2\u05dc"+
-		"\u05e1\7<\2\2\u05dd\u05de\5\u0082B\2\u05de\u05df\5\u00c8e\2\u05df\u05e1"+
-		"\3\2\2\2\u05e0\u05cc\3\2\2\2\u05e0\u05d5\3\2\2\2\u05e0\u05dc\3\2\2\2\u05e0"+
-		"\u05dd\3\2\2\2\u05e1\u0085\3\2\2\2\u05e2\u05e4\5\u0084C\2\u05e3\u05e5"+
-		"\5\u00dan\2\u05e4\u05e3\3\2\2\2\u05e4\u05e5\3\2\2\2\u05e5\u0087\3\2\2"+
-		"\2\u05e6\u05e8\5\u0086D\2\u05e7\u05e6\3\2\2\2\u05e8\u05e9\3\2\2\2\u05e9"+
-		"\u05e7\3\2\2\2\u05e9\u05ea\3\2\2\2\u05ea\u0089\3\2\2\2\u05eb\u05ec\t\4"+
-		"\2\2\u05ec\u008b\3\2\2\2\u05ed\u05ee\7#\2\2\u05ee\u05ef\5\u008eH\2\u05ef"+
-		"\u05f0\7%\2\2\u05f0\u0612\3\2\2\2\u05f1\u05f2\5\u008eH\2\u05f2\u05f3\7"+
-		"%\2\2\u05f3\u05f4\bG\1\2\u05f4\u0612\3\2\2\2\u05f5\u05f6\7#\2\2\u05f6"+
-		"\u05f7\5\u008eH\2\u05f7\u05f8\bG\1\2\u05f8\u0612\3\2\2\2\u05f9\u05fa\5"+
-		"\u0090I\2\u05fa\u05fb\5\u008eH\2\u05fb\u05fc\5`\61\2\u05fc\u05fd\bG\1"+
-		"\2\u05fd\u0612\3\2\2\2\u05fe\u0600\5\u009aN\2\u05ff\u05fe\3\2\2\2\u05ff"+
-		"\u0600\3\2\2\2\u0600\u0601\3\2\2\2\u0601\u0602\t\f\2\2\u0602\u0603\t\2"+
-		"\2\2\u0603\u0604\5\u008eH\2\u0604\u0605\bG\1\2\u0605\u0612\3\2\2\2\u0606"+
-		"\u0607\5\u008eH\2\u0607\u0608\t\4\2\2\u0608\u0609\t\n\2\2\u0609\u060a"+
-		"\t\5\2\2\u060a\u060d\t\5\2\2\u060b\u060e\7\37\2\2\u060c\u060e\7 \2\2\u060d"+
-		"\u060b\3\2\2\2\u060d\u060c\3\2\2\2\u060d\u060e\3\2\2\2\u060e\u060f\3\2"+
-		"\2\2\u060f\u0610\bG\1\2\u0610\u0612\3\2\2\2\u0611\u05ed\3\2\2\2\u0611"+
-		"\u05f1\3\2\2\2\u0611\u05f5\3\2\2\2\u0611\u05f9\3\2\2\2\u0611\u05ff\3\2"+
-		"\2\2\u0611\u0606\3\2\2\2\u0612\u008d\3\2\2\2\u0613\u0615\5\u009aN\2\u0614"+
-		"\u0613\3\2\2\2\u0614\u0615\3\2\2\2\u0615\u0616\3\2\2\2\u0616\u0636\5\u00b4"+
-		"[\2\u0617\u0618\5\u00b4[\2\u0618\u0619\5\u009aN\2\u0619\u061a\bH\1\2\u061a"+
-		"\u0636\3\2\2\2\u061b\u061d\5\u009aN\2\u061c\u061b\3\2\2\2\u061c\u061d"+
-		"\3\2\2\2\u061d\u061e\3\2\2\2\u061e\u061f\5\u00b4[\2\u061f\u0620\t\4\2"+
-		"\2\u0620\u0621\t\n\2\2\u0621\u0622\t\5\2\2\u0622\u0625\t\5\2\2\u0623\u0626"+
-		"\7\37\2\2\u0624\u0626\7 \2\2\u0625\u0623\3\2\2\2\u0625\u0624\3\2\2\2\u0625"+
-		"\u0626\3\2\2\2\u0626\u0627\3\2\2\2\u0627\u0628\bH\1\2\u0628\u0636\3\2"+
-		"\2\2\u0629\u062a\5\u00b4[\2\u062a\u062b\t\4\2\2\u062b\u062c\t\n\2\2\u062c"+
-		"\u062d\t\5\2\2\u062d\u0630\t\5\2\2\u062e\u0631\7\37\2\2\u062f\u0631\7"+
-		" \2\2\u0630\u062e\3\2\2\2\u0630\u062f\3\2\2\2\u0630\u0631\3\2\2\2\u0631"+
-		"\u0632\3\2\2\2\u0632\u0633\5\u009aN\2\u0633\u0634\bH\1\2\u0634\u0636\3"+
-		"\2\2\2\u0635\u0614\3\2\2\2\u0635\u0617\3\2\2\2\u0635\u061c\3\2\2\2\u0635"+
-		"\u0629\3\2\2\2\u0636\u008f\3\2\2\2\u0637\u0639\t\20\2\2\u0638\u0637\3"+
-		"\2\2\2\u0639\u063a\3\2\2\2\u063a\u0638\3\2\2\2\u063a\u063b\3\2\2\2\u063b"+
-		"\u0091\3\2\2\2\u063c\u063e\t\21\2\2\u063d\u063c\3\2\2\2\u063e\u063f\3"+
-		"\2\2\2\u063f\u063d\3\2\2\2\u063f\u0640\3\2\2\2\u0640\u0093\3\2\2\2\u0641"+
-		"\u0643\7<\2\2\u0642\u0641\3\2\2\2\u0642\u0643\3\2\2\2\u0643\u0644\3\2"+
-		"\2\2\u0644\u0645\5\u0082B\2\u0645\u0646\5\u00b4[\2\u0646\u064b\3\2\2\2"+
-		"\u0647\u0648\7<\2\2\u0648\u064b\5\u00b4[\2\u0649\u064b\7<\2\2\u064a\u0642"+
-		"\3\2\2\2\u064a\u0647\3\2\2\2\u064a\u0649\3\2\2\2\u064b\u0095\3\2\2\2\u064c"+
-		"\u064e\7<\2\2\u064d\u064c\3\2\2\2\u064d\u064e\3\2\2\2\u064e\u0651\3\2"+
-		"\2\2\u064f\u0652\5\u00b4[\2\u0650\u0652\5\u00d4k\2\u0651\u064f\3\2\2\2"+
-		"\u0651\u0650\3\2\2\2\u0652\u065a\3\2\2\2\u0653\u0654\5\u00aaV\2\u0654"+
-		"\u0656\7<\2\2\u0655\u0657\5\u00aaV\2\u0656\u0655\3\2\2\2\u0656\u0657\3"+
-		"\2\2\2\u0657\u065a\3\2\2\2\u0658\u065a\7<\2\2\u0659\u064d\3\2\2\2\u0659"+
-		"\u0653\3\2\2\2\u0659\u0658\3\2\2\2\u065a\u0097\3\2\2\2\u065b\u0662\5\u00c6"+
-		"d\2\u065c\u065e\7<\2\2\u065d\u065c\3\2\2\2\u065e\u065f\3\2\2\2\u065f\u065d"+
-		"\3\2\2\2\u065f\u0660\3\2\2\2\u0660\u0662\3\2\2\2\u0661\u065b\3\2\2\2\u0661"+
-		"\u065d\3\2\2\2\u0662\u0099\3\2\2\2\u0663\u0664\t\4\2\2\u0664\u0665\t\22"+
-		"\2\2\u0665\u009b\3\2\2\2\u0666\u0669\5\u0094K\2\u0667\u0669\5\u00a2R\2"+
-		"\u0668\u0666\3\2\2\2\u0668\u0667\3\2\2\2\u0669\u009d\3\2\2\2\u066a\u066c"+
-		"\7<\2\2\u066b\u066a\3\2\2\2\u066b\u066c\3\2\2\2\u066c\u066f\3\2\2\2\u066d"+
-		"\u0670\5\u00b4[\2\u066e\u0670\5\u00d4k\2\u066f\u066d\3\2\2\2\u066f\u066e"+
-		"\3\2\2\2\u0670\u0678\3\2\2\2\u0671\u0672\5\u00aaV\2\u0672\u0674\7<\2\2"+
-		"\u0673\u0675\5\u00aaV\2\u0674\u0673\3\2\2\2\u0674\u0675\3\2\2\2\u0675"+
-		"\u0678\3\2\2\2\u0676\u0678\7<\2\2\u0677\u066b\3\2\2\2\u0677\u0671\3\2"+
-		"\2\2\u0677\u0676\3\2\2\2\u0678\u009f\3\2\2\2\u0679\u067a\t\f\2\2\u067a"+
-		"\u067b\t\r\2\2\u067b\u067c\t\n\2\2\u067c\u0681\t\b\2\2\u067d\u067e\t\r"+
-		"\2\2\u067e\u067f\t\n\2\2\u067f\u0681\t\b\2\2\u0680\u0679\3\2\2\2\u0680"+
-		"\u067d\3\2\2\2\u0681\u00a1\3\2\2\2\u0682\u0683\5\u00a4S\2\u0683\u00a3"+
-		"\3\2\2\2\u0684\u0686\7?\2\2\u0685\u0687\7?\2\2\u0686\u0685\3\2\2\2\u0686"+
-		"\u0687\3\2\2\2\u0687\u0688\3\2\2\2\u0688\u068e\5\u00a6T\2\u0689\u068a"+
-		"\7?\2\2\u068a\u068b\7?\2\2\u068b\u068d\5\u00a6T\2\u068c\u0689\3\2\2\2"+
-		"\u068d\u0690\3\2\2\2\u068e\u068c\3\2\2\2\u068e\u068f\3\2\2\2\u068f\u0691"+
-		"\3\2\2\2\u0690\u068e\3\2\2\2\u0691\u0693\7?\2\2\u0692\u0694\7?\2\2\u0693"+
-		"\u0692\3\2\2\2\u0693\u0694\3\2\2\2\u0694\u069f\3\2\2\2\u0695\u069b\5\u00a6"+
-		"T\2\u0696\u0697\7?\2\2\u0697\u0698\7?\2\2\u0698\u069a\5\u00a6T\2\u0699"+
-		"\u0696\3\2\2\2\u069a\u069d\3\2\2\2\u069b\u0699\3\2\2\2\u069b\u069c\3\2"+
-		"\2\2\u069c\u069f\3\2\2\2\u069d\u069b\3\2\2\2\u069e\u0684\3\2\2\2\u069e"+
-		"\u0695\3\2\2\2\u069f\u00a5\3\2\2\2\u06a0\u06a1\5\u00a8U\2\u06a1\u06a2"+
-		"\7>\2\2\u06a2\u06a3\5\u00a8U\2\u06a3\u06a9\3\2\2\2\u06a4\u06a5\t\26\2"+
-		"\2\u06a5\u06a6\t\16\2\2\u06a6\u06a9\t\b\2\2\u06a7\u06a9\5\u00a8U\2\u06a8"+
-		"\u06a0\3\2\2\2\u06a8\u06a4\3\2\2\2\u06a8\u06a7\3\2\2\2\u06a9\u00a7\3\2"+
-		"\2\2\u06aa\u06ac\5\u0096L\2\u06ab\u06aa\3\2\2\2\u06ab\u06ac\3\2\2\2\u06ac"+
-		"\u06ad\3\2\2\2\u06ad\u06ae\5\u0082B\2\u06ae\u06af\t\24\2\2\u06af\u06b0"+
-		"\t\n\2\2\u06b0\u06b1\t\b\2\2\u06b1\u06c2\3\2\2\2\u06b2\u06b4\5\u0096L"+
-		"\2\u06b3\u06b2\3\2\2\2\u06b3\u06b4\3\2\2\2\u06b4\u06b5\3\2\2\2\u06b5\u06b7"+
-		"\5\u0084C\2\u06b6\u06b8\5\u00dan\2\u06b7\u06b6\3\2\2\2\u06b7\u06b8\3\2"+
-		"\2\2\u06b8\u06c2\3\2\2\2\u06b9\u06bb\7<\2\2\u06ba\u06bc\5\u0096L\2\u06bb"+
-		"\u06ba\3\2\2\2\u06bb\u06bc\3\2\2\2\u06bc\u06bd\3\2\2\2\u06bd\u06bf\5\u0084"+
-		"C\2\u06be\u06c0\5\u00dan\2\u06bf\u06be\3\2\2\2\u06bf\u06c0\3\2\2\2\u06c0"+
-		"\u06c2\3\2\2\2\u06c1\u06ab\3\2\2\2\u06c1\u06b3\3\2\2\2\u06c1\u06b9\3\2"+
-		"\2\2\u06c2\u00a9\3\2\2\2\u06c3\u06c4\t\31\2\2\u06c4\u00ab\3\2\2\2\u06c5"+
-		"\u06c8\5\u00c6d\2\u06c6\u06c8\5\u00caf\2\u06c7\u06c5\3\2\2\2\u06c7\u06c6"+
-		"\3\2\2\2\u06c8\u00ad\3\2\2\2\u06c9\u06cc\5\u00b4[\2\u06ca\u06cc\5\u00d4"+
-		"k\2\u06cb\u06c9\3\2\2\2\u06cb\u06ca\3\2\2\2\u06cc\u00af\3\2\2\2\u06cd"+
-		"\u06ce\t\6\2\2\u06ce\u06cf\t\r\2\2\u06cf\u0710\t\r\2\2\u06d0\u06d1\t\r"+
-		"\2\2\u06d1\u06d2\t\n\2\2\u06d2\u0710\t\5\2\2\u06d3\u06d4\t\22\2\2\u06d4"+
-		"\u06d5\t\16\2\2\u06d5\u06d7\t\23\2\2\u06d6\u06d3\3\2\2\2\u06d6\u06d7\3"+
-		"\2\2\2\u06d7\u06d8\3\2\2\2\u06d8\u06d9\t\r\2\2\u06d9\u06da\t\f\2\2\u06da"+
-		"\u0710\t\4\2\2\u06db\u06dc\t\22\2\2\u06dc\u06dd\t\16\2\2\u06dd\u06df\t"+
-		"\23\2\2\u06de\u06db\3\2\2\2\u06de\u06df\3\2\2\2\u06df\u06e0\3\2\2\2\u06e0"+
-		"\u06e1\t\f\2\2\u06e1\u06e2\t\r\2\2\u06e2\u06e3\t\f\2\2\u06e3\u0710\t\4"+
-		"\2\2\u06e4\u06e5\t\r\2\2\u06e5\u06e6\t\23\2\2\u06e6\u0710\t\22\2\2\u06e7"+
-		"\u06e8\t\24\2\2\u06e8\u06e9\t\b\2\2\u06e9\u0710\t\22\2\2\u06ea\u06eb\t"+
-		"\25\2\2\u06eb\u06ec\t\r\2\2\u06ec\u0710\t\22\2\2\u06ed\u06ee\t\26\2\2"+
-		"\u06ee\u06ef\t\16\2\2\u06ef\u0710\t\b\2\2\u06f0\u06f1\t\f\2\2\u06f1\u06f2"+
-		"\t\2\2\2\u06f2\u0710\t\16\2\2\u06f3\u06f4\t\f\2\2\u06f4\u06f5\t\2\2\2"+
-		"\u06f5\u0710\t\27\2\2\u06f6\u0710\t\f\2\2\u06f7\u06f8\t\r\2\2\u06f8\u06f9"+
-		"\t\f\2\2\u06f9\u06fe\t\4\2\2\u06fa\u06fb\t\24\2\2\u06fb\u06fc\t\b\2\2"+
-		"\u06fc\u06fe\t\4\2\2\u06fd\u06f7\3\2\2\2\u06fd\u06fa\3\2\2\2\u06fd\u06fe"+
-		"\3\2\2\2\u06fe\u06ff\3\2\2\2\u06ff\u0710\t\b\2\2\u0700\u0701\t\24\2\2"+
-		"\u0701\u0702\t\6\2\2\u0702\u0710\t\16\2\2\u0703\u0710\t\24\2\2\u0704\u0705"+
-		"\t\22\2\2\u0705\u0706\t\16\2\2\u0706\u0708\t\23\2\2\u0707\u0704\3\2\2"+
-		"\2\u0707\u0708\3\2\2\2\u0708\u0709\3\2\2\2\u0709\u070a\t\24\2\2\u070a"+
-		"\u070b\t\b\2\2\u070b\u0710\t\4\2\2\u070c\u070d\t\b\2\2\u070d\u070e\t\3"+
-		"\2\2\u070e\u0710\t\7\2\2\u070f\u06cd\3\2\2\2\u070f\u06d0\3\2\2\2\u070f"+
-		"\u06d6\3\2\2\2\u070f\u06de\3\2\2\2\u070f\u06e4\3\2\2\2\u070f\u06e7\3\2"+
-		"\2\2\u070f\u06ea\3\2\2\2\u070f\u06ed\3\2\2\2\u070f\u06f0\3\2\2\2\u070f"+
-		"\u06f3\3\2\2\2\u070f\u06f6\3\2\2\2\u070f\u06fd\3\2\2\2\u070f\u0700\3\2"+
-		"\2\2\u070f\u0703\3\2\2\2\u070f\u0707\3\2\2\2\u070f\u070c\3\2\2\2\u0710"+
-		"\u00b1\3\2\2\2\u0711\u0712\t\r\2\2\u0712\u071d\t\2\2\2\u0713\u0714\t\f"+
-		"\2\2\u0714\u0715\t\2\2\2\u0715\u071d\t\26\2\2\u0716\u0717\t\t\2\2\u0717"+
-		"\u0718\t\6\2\2\u0718\u071d\t\24\2\2\u0719\u071a\t\22\2\2\u071a\u071b\t"+
-		"\6\2\2\u071b\u071d\t\24\2\2\u071c\u0711\3\2\2\2\u071c\u0713\3\2\2\2\u071c"+
-		"\u0716\3\2\2\2\u071c\u0719\3\2\2\2\u071d\u00b3\3\2\2\2\u071e\u0720\5\u00aa"+
-		"V\2\u071f\u071e\3\2\2\2\u0720\u0721\3\2\2\2\u0721\u071f\3\2\2\2\u0721"+
-		"\u0722\3\2\2\2\u0722\u00b5\3\2\2\2\u0723\u0726\5\u00b4[\2\u0724\u0726"+
-		"\5\u00d4k\2\u0725\u0723\3\2\2\2\u0725\u0724\3\2\2\2\u0726\u00b7\3\2\2"+
-		"\2\u0727\u0728\5\u00c6d\2\u0728\u00b9\3\2\2\2\u0729\u072a\5\u00be`\2\u072a"+
-		"\u072b\5\u00bc_\2\u072b\u072c\5\u00c0a\2\u072c\u00bb\3\2\2\2\u072d\u072e"+
-		"\t\26\2\2\u072e\u074c\t\6\2\2\u072f\u0730\t\r\2\2\u0730\u074c\t\f\2\2"+
-		"\u0731\u0732\t\24\2\2\u0732\u0733\t\b\2\2\u0733\u074c\t\f\2\2\u0734\u0735"+
-		"\t\24\2\2\u0735\u0736\t\n\2\2\u0736\u0737\t\24\2\2\u0737\u0738\t\b\2\2"+
-		"\u0738\u074c\t\6\2\2\u0739\u073a\t\22\2\2\u073a\u073b\t\n\2\2\u073b\u073c"+
-		"\t\2\2\2\u073c\u073d\t\24\2\2\u073d\u074c\t\6\2\2\u073e\u073f\t\26\2\2"+
-		"\u073f\u0740\t\n\2\2\u0740\u0741\t\32\2\2\u0741\u074c\t\6\2\2\u0742\u0743"+
-		"\t\26\2\2\u0743\u0744\t\n\2\2\u0744\u0745\t\22\2\2\u0745\u0746\t\24\2"+
-		"\2\u0746\u074c\t\6\2\2\u0747\u0748\t\3\2\2\u0748\u0749\t\4\2\2\u0749\u074a"+
-		"\t\24\2\2\u074a\u074c\t\6\2\2\u074b\u072d\3\2\2\2\u074b\u072f\3\2\2\2"+
-		"\u074b\u0731\3\2\2\2\u074b\u0734\3\2\2\2\u074b\u0739\3\2\2\2\u074b\u073e"+
-		"\3\2\2\2\u074b\u0742\3\2\2\2\u074b\u0747\3\2\2\2\u074c\u00bd\3\2\2\2\u074d"+
-		"\u074e\t\2\2\2\u074e\u074f\t\n\2\2\u074f\u0750\t\6\2\2\u0750\u0752\t\b"+
-		"\2\2\u0751\u0753\7:\2\2\u0752\u0751\3\2\2\2\u0752\u0753\3\2\2\2\u0753"+
-		"\u0764\3\2\2\2\u0754\u0755\t\26\2\2\u0755\u0756\t\33\2\2\u0756\u0757\t"+
-		"\22\2\2\u0757\u0764\t\3\2\2\u0758\u0759\t\26\2\2\u0759\u075a\t\33\2\2"+
-		"\u075a\u075b\t\22\2\2\u075b\u075c\t\n\2\2\u075c\u0764\t\b\2\2\u075d\u075e"+
-		"\t\22\2\2\u075e\u075f\t\16\2\2\u075f\u0760\t\n\2\2\u0760\u0761\t\23\2"+
-		"\2\u0761\u0762\t\r\2\2\u0762\u0764\t\3\2\2\u0763\u074d\3\2\2\2\u0763\u0754"+
-		"\3\2\2\2\u0763\u0758\3\2\2\2\u0763\u075d\3\2\2\2\u0764\u00bf\3\2\2\2\u0765"+
-		"\u0766\t\22\2\2\u0766\u0767\t\5\2\2\u0767\u0768\t\3\2\2\u0768\u0769\t"+
-		"\f\2\2\u0769\u076a\t\r\2\2\u076a\u00c1\3\2\2\2\u076b\u076c\t\t\2\2\u076c"+
-		"\u076d\t\3\2\2\u076d\u0772\t\16\2\2\u076e\u076f\t\4\2\2\u076f\u0770\t"+
-		"\26\2\2\u0770\u0772\t\f\2\2\u0771\u076b\3\2\2\2\u0771\u076e\3\2\2\2\u0772"+
-		"\u00c3\3\2\2\2\u0773\u0774\t\32\2\2\u0774\u0775\5\u00b4[\2\u0775\u00c5"+
-		"\3\2\2\2\u0776\u0779\5\u00b4[\2\u0777\u0778\t\34\2\2\u0778\u077a\5\u00b4"+
-		"[\2\u0779\u0777\3\2\2\2\u0779\u077a\3\2\2\2\u077a\u00c7\3\2\2\2\u077b"+
-		"\u077c\5\u00b4[\2\u077c\u077d\t\34\2\2\u077d\u077e\5\u00b4[\2\u077e\u00c9"+
-		"\3\2\2\2\u077f\u0780\t\34\2\2\u0780\u0781\5\u00b4[\2\u0781\u00cb\3\2\2"+
-		"\2\u0782\u0784\t\35\2\2\u0783\u0782\3\2\2\2\u0783\u0784\3\2\2\2\u0784"+
-		"\u0785\3\2\2\2\u0785\u078b\7<\2\2\u0786\u0788\7<\2\2\u0787\u0786\3\2\2"+
-		"\2\u0787\u0788\3\2\2\2\u0788\u0789\3\2\2\2\u0789\u078b\t\35\2\2\u078a"+
-		"\u0783\3\2\2\2\u078a\u0787\3\2\2\2\u078b\u00cd\3\2\2\2\u078c\u078e\7:"+
-		"\2\2\u078d\u078f\7<\2\2\u078e\u078d\3\2\2\2\u078e\u078f\3\2\2\2\u078f"+
-		"\u0793\3\2\2\2\u0790\u0791\7<\2\2\u0791\u0793\7:\2\2\u0792\u078c\3\2\2"+
-		"\2\u0792\u0790\3\2\2\2\u0793\u00cf\3\2\2\2\u0794\u0796\7;\2\2\u0795\u0797"+
-		"\7<\2\2\u0796\u0795\3\2\2\2\u0796\u0797\3\2\2\2\u0797\u079b\3\2\2\2\u0798"+
-		"\u0799\7<\2\2\u0799\u079b\7;\2\2\u079a\u0794\3\2\2\2\u079a\u0798\3\2\2"+
-		"\2\u079b\u00d1\3\2\2\2\u079c\u079d\t\6\2\2\u079d\u079e\t\r\2\2\u079e\u07bb"+
-		"\t\r\2\2\u079f\u07a0\t\r\2\2\u07a0\u07a1\t\n\2\2\u07a1\u07bb\t\5\2\2\u07a2"+
-		"\u07a3\t\r\2\2\u07a3\u07a4\t\f\2\2\u07a4\u07bb\t\4\2\2\u07a5\u07a6\t\r"+
-		"\2\2\u07a6\u07a7\t\23\2\2\u07a7\u07bb\t\22\2\2\u07a8\u07a9\t\24\2\2\u07a9"+
-		"\u07aa\t\b\2\2\u07aa\u07bb\t\22\2\2\u07ab\u07ac\t\25\2\2\u07ac\u07ad\t"+
-		"\r\2\2\u07ad\u07bb\t\22\2\2\u07ae\u07af\t\26\2\2\u07af\u07b0\t\16\2\2"+
-		"\u07b0\u07bb\t\b\2\2\u07b1\u07b2\t\f\2\2\u07b2\u07b3\t\2\2\2\u07b3\u07bb"+
-		"\t\16\2\2\u07b4\u07b5\t\f\2\2\u07b5\u07b6\t\2\2\2\u07b6\u07bb\t\27\2\2"+
-		"\u07b7\u07bb\t\f\2\2\u07b8\u07bb\t\b\2\2\u07b9\u07bb\t\24\2\2\u07ba\u079c"+
-		"\3\2\2\2\u07ba\u079f\3\2\2\2\u07ba\u07a2\3\2\2\2\u07ba\u07a5\3\2\2\2\u07ba"+
-		"\u07a8\3\2\2\2\u07ba\u07ab\3\2\2\2\u07ba\u07ae\3\2\2\2\u07ba\u07b1\3\2"+
-		"\2\2\u07ba\u07b4\3\2\2\2\u07ba\u07b7\3\2\2\2\u07ba\u07b8\3\2\2\2\u07ba"+
-		"\u07b9\3\2\2\2\u07bb\u00d3\3\2\2\2\u07bc\u07bd\t\36\2\2\u07bd\u00d5\3"+
-		"\2\2\2\u07be\u07c1\5\u00d4k\2\u07bf\u07c1\7<\2\2\u07c0\u07be\3\2\2\2\u07c0"+
-		"\u07bf\3\2\2\2\u07c1\u07c2\3\2\2\2\u07c2\u07c0\3\2\2\2\u07c2\u07c3\3\2"+
-		"\2\2\u07c3\u00d7\3\2\2\2\u07c4\u07c7\5\u008aF\2\u07c5\u07c7\5\u00b2Z\2"+
-		"\u07c6\u07c4\3\2\2\2\u07c6\u07c5\3\2\2\2\u07c6\u07c7\3\2\2\2\u07c7\u07c8"+
-		"\3\2\2\2\u07c8\u07d1\5\u00c4c\2\u07c9\u07cb\5\u00c4c\2\u07ca\u07c9\3\2"+
-		"\2\2\u07ca\u07cb\3\2\2\2\u07cb\u07ce\3\2\2\2\u07cc\u07cf\5\u008aF\2\u07cd"+
-		"\u07cf\5\u00b2Z\2\u07ce\u07cc\3\2\2\2\u07ce\u07cd\3\2\2\2\u07cf\u07d1"+
-		"\3\2\2\2\u07d0\u07c6\3\2\2\2\u07d0\u07ca\3\2\2\2\u07d1\u00d9\3\2\2\2\u07d2"+
-		"\u07da\7\3\2\2\u07d3\u07d6\5\u00aaV\2\u07d4\u07d6\7<\2\2\u07d5\u07d3\3"+
-		"\2\2\2\u07d5\u07d4\3\2\2\2\u07d6\u07d7\3\2\2\2\u07d7\u07d5\3\2\2\2\u07d7"+
-		"\u07d8\3\2\2\2\u07d8\u07db\3\2\2\2\u07d9\u07db\5\u00c8e\2\u07da\u07d5"+
-		"\3\2\2\2\u07da\u07d9\3\2\2\2\u07db\u00db\3\2\2\2\u07dc\u07dd\7:\2\2\u07dd"+
-		"\u07e1\7;\2\2\u07de\u07df\7;\2\2\u07df\u07e1\7:\2\2\u07e0\u07dc\3\2\2"+
-		"\2\u07e0\u07de\3\2\2\2\u07e1\u07e3\3\2\2\2\u07e2\u07e4\7<\2\2\u07e3\u07e2"+
-		"\3\2\2\2\u07e3\u07e4\3\2\2\2\u07e4\u07ed\3\2\2\2\u07e5\u07ea\7<\2\2\u07e6"+
-		"\u07e7\7:\2\2\u07e7\u07eb\7;\2\2\u07e8\u07e9\7;\2\2\u07e9\u07eb\7:\2\2"+
-		"\u07ea\u07e6\3\2\2\2\u07ea\u07e8\3\2\2\2\u07eb\u07ed\3\2\2\2\u07ec\u07e0"+
-		"\3\2\2\2\u07ec\u07e5\3\2\2\2\u07ed\u00dd\3\2\2\2\u0127\u00e2\u00e4\u00e7"+
-		"\u00ec\u00ee\u00f2\u00f5\u00fb\u00ff\u0106\u010d\u0112\u0116\u011a\u0121"+
-		"\u0128\u012d\u0133\u0139\u013d\u0144\u014a\u0151\u0157\u015c\u015f\u0165"+
-		"\u0168\u016e\u0172\u0179\u0180\u0185\u0189\u018d\u0194\u019b\u01a0\u01a4"+
-		"\u01a8\u01af\u01b6\u01bb\u01bf\u01c3\u01ca\u01d1\u01d6\u01d9\u01dd\u01e3"+
-		"\u01e7\u01ea\u01ee\u01f3\u01f7\u01fc\u0201\u0204\u0208\u020b\u020f\u0216"+
-		"\u021a\u021d\u0221\u0227\u022b\u022e\u0232\u0238\u023c\u023f\u0245\u0249"+
-		"\u024e\u0252\u0257\u025b\u0260\u0265\u0268\u026c\u026f\u0273\u0279\u027d"+
-		"\u0280\u0286\u028a\u028e\u0291\u0295\u029b\u029f\u02a2\u02a8\u02ac\u02b0"+
-		"\u02b3\u02b7\u02bc\u02c2\u02d2\u02d4\u02d7\u02e0\u02e2\u02e8\u02ed\u0303"+
-		"\u030c\u0311\u0319\u031d\u0323\u032a\u0336\u0341\u034c\u0357\u035c\u0363"+
-		"\u036d\u0371\u0378\u037d\u0381\u0388\u038e\u0396\u0399\u039c\u03a0\u03a4"+
-		"\u03a7\u03ae\u03b3\u03b9\u03c1\u03c7\u03cb\u03d1\u03d5\u03d8\u03dc\u03e4"+
-		"\u03e8\u03ee\u03f1\u03f4\u03fb\u0400\u0403\u0406\u040b\u0410\u0414\u0419"+
-		"\u041c\u0421\u0424\u0429\u042c\u0431\u0436\u0439\u043f\u0443\u0448\u044c"+
-		"\u0451\u0454\u045a\u045e\u0461\u0465\u046e\u0470\u0473\u0478\u047b\u0481"+
-		"\u0485\u0489\u049f\u04a6\u04ac\u04b3\u04b8\u04be\u04d5\u04dc\u04e2\u04e9"+
-		"\u04f2\u04f4\u050a\u0511\u0517\u051e\u0538\u053f\u0545\u054c\u0555\u0557"+
-		"\u056d\u0587\u0592\u05ab\u05c1\u05c5\u05cc\u05d1\u05d3\u05d8\u05da\u05e0"+
-		"\u05e4\u05e9\u05ff\u060d\u0611\u0614\u061c\u0625\u0630\u0635\u063a\u063f"+
-		"\u0642\u064a\u064d\u0651\u0656\u0659\u065f\u0661\u0668\u066b\u066f\u0674"+
-		"\u0677\u0680\u0686\u068e\u0693\u069b\u069e\u06a8\u06ab\u06b3\u06b7\u06bb"+
-		"\u06bf\u06c1\u06c7\u06cb\u06d6\u06de\u06fd\u0707\u070f\u071c\u0721\u0725"+
-		"\u074b\u0752\u0763\u0771\u0779\u0783\u0787\u078a\u078e\u0792\u0796\u079a"+
-		"\u07ba\u07c0\u07c2\u07c6\u07ca\u07ce\u07d0\u07d5\u07d7\u07da\u07e0\u07e3"+
-		"\u07ea\u07ec";
+		"`\t`\4a\ta\4b\tb\3\2\3\2\5\2\u00c7\n\2\3\2\3\2\3\3\3\3\3\3\7\3\u00ce\n"+
+		"\3\f\3\16\3\u00d1\13\3\3\3\5\3\u00d4\n\3\3\4\5\4\u00d7\n\4\3\4\3\4\3\5"+
+		"\3\5\5\5\u00dd\n\5\3\5\3\5\3\6\3\6\5\6\u00e3\n\6\3\6\3\6\3\7\3\7\7\7\u00e9"+
+		"\n\7\f\7\16\7\u00ec\13\7\3\7\7\7\u00ef\n\7\f\7\16\7\u00f2\13\7\3\7\5\7"+
+		"\u00f5\n\7\3\b\3\b\3\b\7\b\u00fa\n\b\f\b\16\b\u00fd\13\b\3\b\7\b\u0100"+
+		"\n\b\f\b\16\b\u0103\13\b\3\b\3\b\6\b\u0107\n\b\r\b\16\b\u0108\3\b\3\b"+
+		"\6\b\u010d\n\b\r\b\16\b\u010e\3\b\7\b\u0112\n\b\f\b\16\b\u0115\13\b\5"+
+		"\b\u0117\n\b\3\t\3\t\6\t\u011b\n\t\r\t\16\t\u011c\3\n\5\n\u0120\n\n\3"+
+		"\n\3\n\3\13\3\13\5\13\u0126\n\13\3\13\3\13\3\f\3\f\5\f\u012c\n\f\3\f\3"+
+		"\f\3\r\3\r\5\r\u0132\n\r\3\r\3\r\3\16\3\16\5\16\u0138\n\16\3\16\3\16\3"+
+		"\17\5\17\u013d\n\17\3\17\3\17\5\17\u0141\n\17\3\17\3\17\7\17\u0145\n\17"+
+		"\f\17\16\17\u0148\13\17\3\17\5\17\u014b\n\17\3\17\5\17\u014e\n\17\3\17"+
+		"\3\17\5\17\u0152\n\17\3\17\7\17\u0155\n\17\f\17\16\17\u0158\13\17\3\17"+
+		"\5\17\u015b\n\17\3\17\3\17\5\17\u015f\n\17\3\20\5\20\u0162\n\20\3\20\3"+
+		"\20\5\20\u0166\n\20\3\20\3\20\3\20\7\20\u016b\n\20\f\20\16\20\u016e\13"+
+		"\20\3\20\5\20\u0171\n\20\3\20\5\20\u0174\n\20\3\20\3\20\5\20\u0178\n\20"+
+		"\3\20\3\20\7\20\u017c\n\20\f\20\16\20\u017f\13\20\3\20\5\20\u0182\n\20"+
+		"\3\20\5\20\u0185\n\20\3\20\3\20\5\20\u0189\n\20\3\20\3\20\7\20\u018d\n"+
+		"\20\f\20\16\20\u0190\13\20\3\20\5\20\u0193\n\20\3\20\5\20\u0196\n\20\3"+
+		"\20\3\20\5\20\u019a\n\20\3\20\7\20\u019d\n\20\f\20\16\20\u01a0\13\20\3"+
+		"\20\5\20\u01a3\n\20\3\20\3\20\5\20\u01a7\n\20\3\21\5\21\u01aa\n\21\3\21"+
+		"\3\21\5\21\u01ae\n\21\3\21\3\21\7\21\u01b2\n\21\f\21\16\21\u01b5\13\21"+
+		"\3\21\5\21\u01b8\n\21\3\22\5\22\u01bb\n\22\3\22\3\22\5\22\u01bf\n\22\3"+
+		"\22\3\22\7\22\u01c3\n\22\f\22\16\22\u01c6\13\22\3\22\5\22\u01c9\n\22\3"+
+		"\23\5\23\u01cc\n\23\3\23\3\23\5\23\u01d0\n\23\3\23\3\23\3\23\5\23\u01d5"+
+		"\n\23\3\23\3\23\3\23\3\23\5\23\u01db\n\23\3\23\3\23\3\23\3\23\3\23\3\23"+
+		"\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\5\23\u01eb\n\23\5\23\u01ed\n"+
+		"\23\3\23\5\23\u01f0\n\23\3\24\3\24\3\24\3\24\3\24\3\24\3\24\5\24\u01f9"+
+		"\n\24\5\24\u01fb\n\24\3\25\3\25\3\25\3\25\3\26\3\26\3\26\3\27\3\27\3\27"+
+		"\3\27\5\27\u0208\n\27\3\30\3\30\3\30\7\30\u020d\n\30\f\30\16\30\u0210"+
+		"\13\30\3\31\3\31\3\31\3\32\3\32\3\32\3\33\3\33\3\33\3\34\3\34\3\34\3\35"+
+		"\3\35\3\35\3\35\3\35\5\35\u0223\n\35\3\36\3\36\5\36\u0227\n\36\3\37\3"+
+		"\37\3\37\5\37\u022c\n\37\3 \3 \5 \u0230\n \3!\3!\3!\3!\5!\u0236\n!\3\""+
+		"\3\"\3\"\3\"\6\"\u023c\n\"\r\"\16\"\u023d\3\"\5\"\u0241\n\"\3#\5#\u0244"+
+		"\n#\3#\3#\5#\u0248\n#\3#\3#\5#\u024c\n#\3#\5#\u024f\n#\3#\3#\3#\3#\3#"+
+		"\5#\u0256\n#\3#\3#\3#\5#\u025b\n#\3$\3$\3$\3$\5$\u0261\n$\3$\3$\3$\3$"+
+		"\3$\3$\5$\u0269\n$\3$\3$\5$\u026d\n$\3%\5%\u0270\n%\3%\3%\5%\u0274\n%"+
+		"\3%\3%\3%\3%\3%\3%\5%\u027c\n%\3%\3%\5%\u0280\n%\3%\3%\3%\3%\5%\u0286"+
+		"\n%\3%\5%\u0289\n%\3%\5%\u028c\n%\3%\3%\3%\3%\3%\5%\u0293\n%\3%\3%\3%"+
+		"\5%\u0298\n%\3&\5&\u029b\n&\3&\5&\u029e\n&\3&\3&\3&\5&\u02a3\n&\3&\7&"+
+		"\u02a6\n&\f&\16&\u02a9\13&\3&\5&\u02ac\n&\3&\3&\3&\5&\u02b1\n&\3&\5&\u02b4"+
+		"\n&\3&\3&\3&\5&\u02b9\n&\3&\5&\u02bc\n&\3&\3&\3&\5&\u02c1\n&\3&\5&\u02c4"+
+		"\n&\3&\3&\3&\5&\u02c9\n&\3&\3&\5&\u02cd\n&\3\'\3\'\3\'\3\'\3\'\6\'\u02d4"+
+		"\n\'\r\'\16\'\u02d5\5\'\u02d8\n\'\3(\5(\u02db\n(\3(\3(\3(\5(\u02e0\n("+
+		"\3)\3)\3)\3)\3*\3*\3*\7*\u02e9\n*\f*\16*\u02ec\13*\3+\3+\3+\3+\3,\3,\3"+
+		",\7,\u02f5\n,\f,\16,\u02f8\13,\3-\3-\3-\3-\3-\6-\u02ff\n-\r-\16-\u0300"+
+		"\5-\u0303\n-\3.\3.\3.\3.\3/\3/\3/\7/\u030c\n/\f/\16/\u030f\13/\3\60\3"+
+		"\60\3\60\3\60\3\60\3\60\3\60\3\60\5\60\u0319\n\60\3\61\3\61\3\61\7\61"+
+		"\u031e\n\61\f\61\16\61\u0321\13\61\3\62\3\62\3\62\3\62\3\62\6\62\u0328"+
+		"\n\62\r\62\16\62\u0329\5\62\u032c\n\62\3\63\3\63\3\63\3\63\3\64\3\64\3"+
+		"\64\3\64\3\64\3\64\3\64\3\64\5\64\u033a\n\64\3\65\3\65\3\65\3\65\3\65"+
+		"\3\65\3\65\3\65\3\65\5\65\u0345\n\65\3\65\3\65\3\65\3\65\3\65\3\65\3\65"+
+		"\3\65\3\65\3\65\3\65\3\65\3\65\3\65\3\65\3\65\3\65\3\65\3\65\3\65\3\65"+
+		"\3\65\3\65\5\65\u035e\n\65\3\66\3\66\3\66\3\66\3\67\3\67\5\67\u0366\n"+
+		"\67\3\67\3\67\38\38\39\59\u036d\n9\39\39\39\69\u0372\n9\r9\169\u0373\3"+
+		"9\39\39\69\u0379\n9\r9\169\u037a\39\39\39\39\59\u0381\n9\3:\3:\5:\u0385"+
+		"\n:\3;\6;\u0388\n;\r;\16;\u0389\3<\3<\3=\3=\3=\3=\3>\5>\u0393\n>\3>\3"+
+		">\3?\5?\u0398\n?\3?\3?\3?\3?\3?\3?\5?\u03a0\n?\3@\5@\u03a3\n@\3@\3@\5"+
+		"@\u03a7\n@\3@\3@\3@\5@\u03ac\n@\3@\5@\u03af\n@\3A\3A\6A\u03b3\nA\rA\16"+
+		"A\u03b4\5A\u03b7\nA\3B\3B\3B\3C\3C\5C\u03be\nC\3D\5D\u03c1\nD\3D\3D\5"+
+		"D\u03c5\nD\3D\3D\3D\5D\u03ca\nD\3D\5D\u03cd\nD\3E\3E\3E\3E\3E\3E\3E\5"+
+		"E\u03d6\nE\3F\3F\3G\3G\5G\u03dc\nG\3G\3G\3G\3G\7G\u03e2\nG\fG\16G\u03e5"+
+		"\13G\3G\3G\5G\u03e9\nG\3G\3G\3G\3G\7G\u03ef\nG\fG\16G\u03f2\13G\5G\u03f4"+
+		"\nG\3H\3H\3H\3H\3H\3H\3H\3H\5H\u03fe\nH\3I\5I\u0401\nI\3I\3I\3I\3I\3I"+
+		"\3I\5I\u0409\nI\3I\3I\5I\u040d\nI\3I\3I\5I\u0411\nI\3I\3I\5I\u0415\nI"+
+		"\5I\u0417\nI\3J\3J\3K\3K\5K\u041d\nK\3L\3L\5L\u0421\nL\3M\3M\3M\3M\3M"+
+		"\3M\3M\3M\3M\5M\u042c\nM\3M\3M\3M\3M\3M\3M\5M\u0434\nM\3M\3M\3M\3M\3M"+
+		"\3M\3M\3M\3M\3M\3M\3M\3M\3M\3M\3M\3M\3M\3M\3M\3M\3M\3M\3M\3M\3M\3M\3M"+
+		"\3M\5M\u0453\nM\3M\3M\3M\3M\3M\3M\3M\3M\5M\u045d\nM\3M\3M\3M\3M\3M\3M"+
+		"\5M\u0465\nM\3N\3N\3N\3N\3N\3N\3N\3N\3N\3N\3N\5N\u0472\nN\3O\6O\u0475"+
+		"\nO\rO\16O\u0476\3P\3P\5P\u047b\nP\3Q\3Q\3R\3R\3R\3R\3S\3S\3S\3S\3S\3"+
+		"S\3S\3S\3S\3S\3S\3S\3S\3S\3S\3S\3S\3S\3S\3S\3S\3S\3S\3S\3S\3S\3S\3S\3"+
+		"S\3S\5S\u04a1\nS\3T\3T\3T\3T\3T\5T\u04a8\nT\3T\3T\3T\3T\3T\3T\3T\3T\3"+
+		"T\3T\3T\3T\3T\3T\3T\5T\u04b9\nT\3U\3U\3U\3U\3U\3U\3V\3V\3V\3V\3V\3V\5"+
+		"V\u04c7\nV\3W\3W\3W\3X\3X\3X\5X\u04cf\nX\3Y\3Y\3Y\3Y\3Z\3Z\3Z\3[\5[\u04d9"+
+		"\n[\3[\3[\5[\u04dd\n[\3[\5[\u04e0\n[\3\\\3\\\5\\\u04e4\n\\\3\\\3\\\5\\"+
+		"\u04e8\n\\\3]\3]\5]\u04ec\n]\3]\3]\5]\u04f0\n]\3^\3^\3^\3^\3^\3^\3^\3"+
+		"^\3^\3^\3^\3^\3^\3^\3^\3^\3^\3^\3^\3^\3^\3^\3^\3^\3^\3^\3^\3^\3^\3^\5"+
+		"^\u0510\n^\3_\3_\3`\3`\6`\u0516\n`\r`\16`\u0517\3a\3a\5a\u051c\na\3a\3"+
+		"a\5a\u0520\na\3a\3a\5a\u0524\na\5a\u0526\na\3b\3b\3b\6b\u052b\nb\rb\16"+
+		"b\u052c\3b\5b\u0530\nb\3b\2\2c\2\4\6\b\n\f\16\20\22\24\26\30\32\34\36"+
+		" \"$&(*,.\60\62\64\668:<>@BDFHJLNPRTVXZ\\^`bdfhjlnprtvxz|~\u0080\u0082"+
+		"\u0084\u0086\u0088\u008a\u008c\u008e\u0090\u0092\u0094\u0096\u0098\u009a"+
+		"\u009c\u009e\u00a0\u00a2\u00a4\u00a6\u00a8\u00aa\u00ac\u00ae\u00b0\u00b2"+
+		"\u00b4\u00b6\u00b8\u00ba\u00bc\u00be\u00c0\u00c2\2\33\3\2\6\7\3\2\b\t"+
+		"\3\2\n\13\3\2\f\r\3\2\16\17\3\2\20\21\3\2\22\23\3\2\24\25\3\2\26\27\3"+
+		"\2\32\33\3\2\34\35\3\2\36\37\3\2#$\3\2%&\3\2\'(\3\2)*\3\2+,\3\2-.\4\2"+
+		"#$)*\4\2\61\61\67\67\3\2\62\63\3\2\64\65\4\2\66\6688\3\289\3\2\62\65\2"+
+		"\u05ca\2\u00c6\3\2\2\2\4\u00ca\3\2\2\2\6\u00d6\3\2\2\2\b\u00da\3\2\2\2"+
+		"\n\u00e0\3\2\2\2\f\u00e6\3\2\2\2\16\u0116\3\2\2\2\20\u0118\3\2\2\2\22"+
+		"\u011f\3\2\2\2\24\u0123\3\2\2\2\26\u0129\3\2\2\2\30\u012f\3\2\2\2\32\u0135"+
+		"\3\2\2\2\34\u015e\3\2\2\2\36\u01a6\3\2\2\2 \u01a9\3\2\2\2\"\u01ba\3\2"+
+		"\2\2$\u01cb\3\2\2\2&\u01f1\3\2\2\2(\u01fc\3\2\2\2*\u0200\3\2\2\2,\u0203"+
+		"\3\2\2\2.\u020e\3\2\2\2\60\u0211\3\2\2\2\62\u0214\3\2\2\2\64\u0217\3\2"+
+		"\2\2\66\u021a\3\2\2\28\u021d\3\2\2\2:\u0224\3\2\2\2<\u0228\3\2\2\2>\u022d"+
+		"\3\2\2\2@\u0231\3\2\2\2B\u0240\3\2\2\2D\u025a\3\2\2\2F\u026c\3\2\2\2H"+
+		"\u0297\3\2\2\2J\u02cc\3\2\2\2L\u02d7\3\2\2\2N\u02da\3\2\2\2P\u02e1\3\2"+
+		"\2\2R\u02e5\3\2\2\2T\u02ed\3\2\2\2V\u02f1\3\2\2\2X\u0302\3\2\2\2Z\u0304"+
+		"\3\2\2\2\\\u0308\3\2\2\2^\u0318\3\2\2\2`\u031a\3\2\2\2b\u032b\3\2\2\2"+
+		"d\u032d\3\2\2\2f\u0339\3\2\2\2h\u035d\3\2\2\2j\u035f\3\2\2\2l\u0363\3"+
+		"\2\2\2n\u0369\3\2\2\2p\u0380\3\2\2\2r\u0382\3\2\2\2t\u0387\3\2\2\2v\u038b"+
+		"\3\2\2\2x\u038d\3\2\2\2z\u0392\3\2\2\2|\u039f\3\2\2\2~\u03ae\3\2\2\2\u0080"+
+		"\u03b6\3\2\2\2\u0082\u03b8\3\2\2\2\u0084\u03bd\3\2\2\2\u0086\u03cc\3\2"+
+		"\2\2\u0088\u03d5\3\2\2\2\u008a\u03d7\3\2\2\2\u008c\u03f3\3\2\2\2\u008e"+
+		"\u03fd\3\2\2\2\u0090\u0416\3\2\2\2\u0092\u0418\3\2\2\2\u0094\u041c\3\2"+
+		"\2\2\u0096\u0420\3\2\2\2\u0098\u0464\3\2\2\2\u009a\u0471\3\2\2\2\u009c"+
+		"\u0474\3\2\2\2\u009e\u047a\3\2\2\2\u00a0\u047c\3\2\2\2\u00a2\u047e\3\2"+
+		"\2\2\u00a4\u04a0\3\2\2\2\u00a6\u04b8\3\2\2\2\u00a8\u04ba\3\2\2\2\u00aa"+
+		"\u04c6\3\2\2\2\u00ac\u04c8\3\2\2\2\u00ae\u04cb\3\2\2\2\u00b0\u04d0\3\2"+
+		"\2\2\u00b2\u04d4\3\2\2\2\u00b4\u04df\3\2\2\2\u00b6\u04e7\3\2\2\2\u00b8"+
+		"\u04ef\3\2\2\2\u00ba\u050f\3\2\2\2\u00bc\u0511\3\2\2\2\u00be\u0515\3\2"+
+		"\2\2\u00c0\u0525\3\2\2\2\u00c2\u0527\3\2\2\2\u00c4\u00c7\5\4\3\2\u00c5"+
+		"\u00c7\5\f\7\2\u00c6\u00c4\3\2\2\2\u00c6\u00c5\3\2\2\2\u00c7\u00c8\3\2"+
+		"\2\2\u00c8\u00c9\7\2\2\3\u00c9\3\3\2\2\2\u00ca\u00cf\5\6\4\2\u00cb\u00ce"+
+		"\5\n\6\2\u00cc\u00ce\5\b\5\2\u00cd\u00cb\3\2\2\2\u00cd\u00cc\3\2\2\2\u00ce"+
+		"\u00d1\3\2\2\2\u00cf\u00cd\3\2\2\2\u00cf\u00d0\3\2\2\2\u00d0\u00d3\3\2"+
+		"\2\2\u00d1\u00cf\3\2\2\2\u00d2\u00d4\7\3\2\2\u00d3\u00d2\3\2\2\2\u00d3"+
+		"\u00d4\3\2\2\2\u00d4\5\3\2\2\2\u00d5\u00d7\5&\24\2\u00d6\u00d5\3\2\2\2"+
+		"\u00d6\u00d7\3\2\2\2\u00d7\u00d8\3\2\2\2\u00d8\u00d9\5\34\17\2\u00d9\7"+
+		"\3\2\2\2\u00da\u00dc\7\4\2\2\u00db\u00dd\5&\24\2\u00dc\u00db\3\2\2\2\u00dc"+
+		"\u00dd\3\2\2\2\u00dd\u00de\3\2\2\2\u00de\u00df\5\36\20\2\u00df\t\3\2\2"+
+		"\2\u00e0\u00e2\7\4\2\2\u00e1\u00e3\5&\24\2\u00e2\u00e1\3\2\2\2\u00e2\u00e3"+
+		"\3\2\2\2\u00e3\u00e4\3\2\2\2\u00e4\u00e5\5$\23\2\u00e5\13\3\2\2\2\u00e6"+
+		"\u00ea\5\16\b\2\u00e7\u00e9\5\20\t\2\u00e8\u00e7\3\2\2\2\u00e9\u00ec\3"+
+		"\2\2\2\u00ea\u00e8\3\2\2\2\u00ea\u00eb\3\2\2\2\u00eb\u00f0\3\2\2\2\u00ec"+
+		"\u00ea\3\2\2\2\u00ed\u00ef\5\32\16\2\u00ee\u00ed\3\2\2\2\u00ef\u00f2\3"+
+		"\2\2\2\u00f0\u00ee\3\2\2\2\u00f0\u00f1\3\2\2\2\u00f1\u00f4\3\2\2\2\u00f2"+
+		"\u00f0\3\2\2\2\u00f3\u00f5\7\3\2\2\u00f4\u00f3\3\2\2\2\u00f4\u00f5\3\2"+
+		"\2\2\u00f5\r\3\2\2\2\u00f6\u00f7\5\22\n\2\u00f7\u00fb\5\26\f\2\u00f8\u00fa"+
+		"\5\30\r\2\u00f9\u00f8\3\2\2\2\u00fa\u00fd\3\2\2\2\u00fb\u00f9\3\2\2\2"+
+		"\u00fb\u00fc\3\2\2\2\u00fc\u0101\3\2\2\2\u00fd\u00fb\3\2\2\2\u00fe\u0100"+
+		"\5\26\f\2\u00ff\u00fe\3\2\2\2\u0100\u0103\3\2\2\2\u0101\u00ff\3\2\2\2"+
+		"\u0101\u0102\3\2\2\2\u0102\u0117\3\2\2\2\u0103\u0101\3\2\2\2\u0104\u0106"+
+		"\5\22\n\2\u0105\u0107\5\26\f\2\u0106\u0105\3\2\2\2\u0107\u0108\3\2\2\2"+
+		"\u0108\u0106\3\2\2\2\u0108\u0109\3\2\2\2\u0109\u010a\3\2\2\2\u010a\u010c"+
+		"\5\26\f\2\u010b\u010d\5\30\r\2\u010c\u010b\3\2\2\2\u010d\u010e\3\2\2\2"+
+		"\u010e\u010c\3\2\2\2\u010e\u010f\3\2\2\2\u010f\u0113\3\2\2\2\u0110\u0112"+
+		"\5\26\f\2\u0111\u0110\3\2\2\2\u0112\u0115\3\2\2\2\u0113\u0111\3\2\2\2"+
+		"\u0113\u0114\3\2\2\2\u0114\u0117\3\2\2\2\u0115\u0113\3\2\2\2\u0116\u00f6"+
+		"\3\2\2\2\u0116\u0104\3\2\2\2\u0117\17\3\2\2\2\u0118\u011a\5\24\13\2\u0119"+
+		"\u011b\5\26\f\2\u011a\u0119\3\2\2\2\u011b\u011c\3\2\2\2\u011c\u011a\3"+
+		"\2\2\2\u011c\u011d\3\2\2\2\u011d\21\3\2\2\2\u011e\u0120\5&\24\2\u011f"+
+		"\u011e\3\2\2\2\u011f\u0120\3\2\2\2\u0120\u0121\3\2\2\2\u0121\u0122\5\34"+
+		"\17\2\u0122\23\3\2\2\2\u0123\u0125\7\4\2\2\u0124\u0126\5&\24\2\u0125\u0124"+
+		"\3\2\2\2\u0125\u0126\3\2\2\2\u0126\u0127\3\2\2\2\u0127\u0128\5\34\17\2"+
+		"\u0128\25\3\2\2\2\u0129\u012b\7\4\2\2\u012a\u012c\5&\24\2\u012b\u012a"+
+		"\3\2\2\2\u012b\u012c\3\2\2\2\u012c\u012d\3\2\2\2\u012d\u012e\5 \21\2\u012e"+
+		"\27\3\2\2\2\u012f\u0131\7\4\2\2\u0130\u0132\5&\24\2\u0131\u0130\3\2\2"+
+		"\2\u0131\u0132\3\2\2\2\u0132\u0133\3\2\2\2\u0133\u0134\5\"\22\2\u0134"+
+		"\31\3\2\2\2\u0135\u0137\7\4\2\2\u0136\u0138\5&\24\2\u0137\u0136\3\2\2"+
+		"\2\u0137\u0138\3\2\2\2\u0138\u0139\3\2\2\2\u0139\u013a\5\34\17\2\u013a"+
+		"\33\3\2\2\2\u013b\u013d\5\u00aaV\2\u013c\u013b\3\2\2\2\u013c\u013d\3\2"+
+		"\2\2\u013d\u013e\3\2\2\2\u013e\u0140\5\u0080A\2\u013f\u0141\5(\25\2\u0140"+
+		"\u013f\3\2\2\2\u0140\u0141\3\2\2\2\u0141\u0142\3\2\2\2\u0142\u0146\5,"+
+		"\27\2\u0143\u0145\5\66\34\2\u0144\u0143\3\2\2\2\u0145\u0148\3\2\2\2\u0146"+
+		"\u0144\3\2\2\2\u0146\u0147\3\2\2\2\u0147\u014a\3\2\2\2\u0148\u0146\3\2"+
+		"\2\2\u0149\u014b\5x=\2\u014a\u0149\3\2\2\2\u014a\u014b\3\2\2\2\u014b\u015f"+
+		"\3\2\2\2\u014c\u014e\5\u00aaV\2\u014d\u014c\3\2\2\2\u014d\u014e\3\2\2"+
+		"\2\u014e\u014f\3\2\2\2\u014f\u0151\5\u0080A\2\u0150\u0152\5(\25\2\u0151"+
+		"\u0150\3\2\2\2\u0151\u0152\3\2\2\2\u0152\u0156\3\2\2\2\u0153\u0155\5\66"+
+		"\34\2\u0154\u0153\3\2\2\2\u0155\u0158\3\2\2\2\u0156\u0154\3\2\2\2\u0156"+
+		"\u0157\3\2\2\2\u0157\u015a\3\2\2\2\u0158\u0156\3\2\2\2\u0159\u015b\5x"+
+		"=\2\u015a\u0159\3\2\2\2\u015a\u015b\3\2\2\2\u015b\u015c\3\2\2\2\u015c"+
+		"\u015d\b\17\1\2\u015d\u015f\3\2\2\2\u015e\u013c\3\2\2\2\u015e\u014d\3"+
+		"\2\2\2\u015f\35\3\2\2\2\u0160\u0162\5\u00aaV\2\u0161\u0160\3\2\2\2\u0161"+
+		"\u0162\3\2\2\2\u0162\u0163\3\2\2\2\u0163\u0165\5\u0080A\2\u0164\u0166"+
+		"\5(\25\2\u0165\u0164\3\2\2\2\u0165\u0166\3\2\2\2\u0166\u0167\3\2\2\2\u0167"+
+		"\u0168\5,\27\2\u0168\u016c\5\60\31\2\u0169\u016b\5\66\34\2\u016a\u0169"+
+		"\3\2\2\2\u016b\u016e\3\2\2\2\u016c\u016a\3\2\2\2\u016c\u016d\3\2\2\2\u016d"+
+		"\u0170\3\2\2\2\u016e\u016c\3\2\2\2\u016f\u0171\5x=\2\u0170\u016f\3\2\2"+
+		"\2\u0170\u0171\3\2\2\2\u0171\u01a7\3\2\2\2\u0172\u0174\5\u00aaV\2\u0173"+
+		"\u0172\3\2\2\2\u0173\u0174\3\2\2\2\u0174\u0175\3\2\2\2\u0175\u0177\5\u0080"+
+		"A\2\u0176\u0178\5(\25\2\u0177\u0176\3\2\2\2\u0177\u0178\3\2\2\2\u0178"+
+		"\u0179\3\2\2\2\u0179\u017d\5,\27\2\u017a\u017c\5\66\34\2\u017b\u017a\3"+
+		"\2\2\2\u017c\u017f\3\2\2\2\u017d\u017b\3\2\2\2\u017d\u017e\3\2\2\2\u017e"+
+		"\u0181\3\2\2\2\u017f\u017d\3\2\2\2\u0180\u0182\5x=\2\u0181\u0180\3\2\2"+
+		"\2\u0181\u0182\3\2\2\2\u0182\u01a7\3\2\2\2\u0183\u0185\5\u00aaV\2\u0184"+
+		"\u0183\3\2\2\2\u0184\u0185\3\2\2\2\u0185\u0186\3\2\2\2\u0186\u0188\5\u0080"+
+		"A\2\u0187\u0189\5(\25\2\u0188\u0187\3\2\2\2\u0188\u0189\3\2\2\2\u0189"+
+		"\u018a\3\2\2\2\u018a\u018e\5\60\31\2\u018b\u018d\5\66\34\2\u018c\u018b"+
+		"\3\2\2\2\u018d\u0190\3\2\2\2\u018e\u018c\3\2\2\2\u018e\u018f\3\2\2\2\u018f"+
+		"\u0192\3\2\2\2\u0190\u018e\3\2\2\2\u0191\u0193\5x=\2\u0192\u0191\3\2\2"+
+		"\2\u0192\u0193\3\2\2\2\u0193\u01a7\3\2\2\2\u0194\u0196\5\u00aaV\2\u0195"+
+		"\u0194\3\2\2\2\u0195\u0196\3\2\2\2\u0196\u0197\3\2\2\2\u0197\u0199\5\u0080"+
+		"A\2\u0198\u019a\5(\25\2\u0199\u0198\3\2\2\2\u0199\u019a\3\2\2\2\u019a"+
+		"\u019e\3\2\2\2\u019b\u019d\5\66\34\2\u019c\u019b\3\2\2\2\u019d\u01a0\3"+
+		"\2\2\2\u019e\u019c\3\2\2\2\u019e\u019f\3\2\2\2\u019f\u01a2\3\2\2\2\u01a0"+
+		"\u019e\3\2\2\2\u01a1\u01a3\5x=\2\u01a2\u01a1\3\2\2\2\u01a2\u01a3\3\2\2"+
+		"\2\u01a3\u01a4\3\2\2\2\u01a4\u01a5\b\20\1\2\u01a5\u01a7\3\2\2\2\u01a6"+
+		"\u0161\3\2\2\2\u01a6\u0173\3\2\2\2\u01a6\u0184\3\2\2\2\u01a6\u0195\3\2"+
+		"\2\2\u01a7\37\3\2\2\2\u01a8\u01aa\5\u00aaV\2\u01a9\u01a8\3\2\2\2\u01a9"+
+		"\u01aa\3\2\2\2\u01aa\u01ab\3\2\2\2\u01ab\u01ad\5\u0080A\2\u01ac\u01ae"+
+		"\5(\25\2\u01ad\u01ac\3\2\2\2\u01ad\u01ae\3\2\2\2\u01ae\u01af\3\2\2\2\u01af"+
+		"\u01b3\5\62\32\2\u01b0\u01b2\5\66\34\2\u01b1\u01b0\3\2\2\2\u01b2\u01b5"+
+		"\3\2\2\2\u01b3\u01b1\3\2\2\2\u01b3\u01b4\3\2\2\2\u01b4\u01b7\3\2\2\2\u01b5"+
+		"\u01b3\3\2\2\2\u01b6\u01b8\5x=\2\u01b7\u01b6\3\2\2\2\u01b7\u01b8\3\2\2"+
+		"\2\u01b8!\3\2\2\2\u01b9\u01bb\5\u00aaV\2\u01ba\u01b9\3\2\2\2\u01ba\u01bb"+
+		"\3\2\2\2\u01bb\u01bc\3\2\2\2\u01bc\u01be\5\u0080A\2\u01bd\u01bf\5(\25"+
+		"\2\u01be\u01bd\3\2\2\2\u01be\u01bf\3\2\2\2\u01bf\u01c0\3\2\2\2\u01c0\u01c4"+
+		"\5\64\33\2\u01c1\u01c3\5\66\34\2\u01c2\u01c1\3\2\2\2\u01c3\u01c6\3\2\2"+
+		"\2\u01c4\u01c2\3\2\2\2\u01c4\u01c5\3\2\2\2\u01c5\u01c8\3\2\2\2\u01c6\u01c4"+
+		"\3\2\2\2\u01c7\u01c9\5x=\2\u01c8\u01c7\3\2\2\2\u01c8\u01c9\3\2\2\2\u01c9"+
+		"#\3\2\2\2\u01ca\u01cc\5\u00aaV\2\u01cb\u01ca\3\2\2\2\u01cb\u01cc\3\2\2"+
+		"\2\u01cc\u01d4\3\2\2\2\u01cd\u01cf\5\u0080A\2\u01ce\u01d0\5(\25\2\u01cf"+
+		"\u01ce\3\2\2\2\u01cf\u01d0\3\2\2\2\u01d0\u01d1\3\2\2\2\u01d1\u01d2\5,"+
+		"\27\2\u01d2\u01d3\7\5\2\2\u01d3\u01d5\3\2\2\2\u01d4\u01cd\3\2\2\2\u01d4"+
+		"\u01d5\3\2\2\2\u01d5\u01d6\3\2\2\2\u01d6\u01d7\t\2\2\2\u01d7\u01d8\t\3"+
+		"\2\2\u01d8\u01da\t\2\2\2\u01d9\u01db\78\2\2\u01da\u01d9\3\2\2\2\u01da"+
+		"\u01db\3\2\2\2\u01db\u01dc\3\2\2\2\u01dc\u01dd\t\4\2\2\u01dd\u01de\t\5"+
+		"\2\2\u01de\u01df\t\3\2\2\u01df\u01e0\t\2\2\2\u01e0\u01e1\t\6\2\2\u01e1"+
+		"\u01ec\t\5\2\2\u01e2\u01e3\t\6\2\2\u01e3\u01e4\t\7\2\2\u01e4\u01ea\t\2"+
+		"\2\2\u01e5\u01e6\t\3\2\2\u01e6\u01e7\t\b\2\2\u01e7\u01e8\t\t\2\2\u01e8"+
+		"\u01e9\t\6\2\2\u01e9\u01eb\t\5\2\2\u01ea\u01e5\3\2\2\2\u01ea\u01eb\3\2"+
+		"\2\2\u01eb\u01ed\3\2\2\2\u01ec\u01e2\3\2\2\2\u01ec\u01ed\3\2\2\2\u01ed"+
+		"\u01ef\3\2\2\2\u01ee\u01f0\5x=\2\u01ef\u01ee\3\2\2\2\u01ef\u01f0\3\2\2"+
+		"\2\u01f0%\3\2\2\2\u01f1\u01fa\5\u00a2R\2\u01f2\u01f3\t\4\2\2\u01f3\u01f4"+
+		"\t\5\2\2\u01f4\u01f5\t\3\2\2\u01f5\u01f6\t\2\2\2\u01f6\u01f8\t\n\2\2\u01f7"+
+		"\u01f9\7=\2\2\u01f8\u01f7\3\2\2\2\u01f8\u01f9\3\2\2\2\u01f9\u01fb\3\2"+
+		"\2\2\u01fa\u01f2\3\2\2\2\u01fa\u01fb\3\2\2\2\u01fb\'\3\2\2\2\u01fc\u01fd"+
+		"\7\30\2\2\u01fd\u01fe\5*\26\2\u01fe\u01ff\7\31\2\2\u01ff)\3\2\2\2\u0200"+
+		"\u0201\7\67\2\2\u0201\u0202\t\2\2\2\u0202+\3\2\2\2\u0203\u0204\7\5\2\2"+
+		"\u0204\u0205\5\u00be`\2\u0205\u0207\5.\30\2\u0206\u0208\5v<\2\u0207\u0206"+
+		"\3\2\2\2\u0207\u0208\3\2\2\2\u0208-\3\2\2\2\u0209\u020a\t\3\2\2\u020a"+
+		"\u020b\t\b\2\2\u020b\u020d\5\u00be`\2\u020c\u0209\3\2\2\2\u020d\u0210"+
+		"\3\2\2\2\u020e\u020c\3\2\2\2\u020e\u020f\3\2\2\2\u020f/\3\2\2\2\u0210"+
+		"\u020e\3\2\2\2\u0211\u0212\7\5\2\2\u0212\u0213\58\35\2\u0213\61\3\2\2"+
+		"\2\u0214\u0215\7\5\2\2\u0215\u0216\5:\36\2\u0216\63\3\2\2\2\u0217\u0218"+
+		"\7\5\2\2\u0218\u0219\5> \2\u0219\65\3\2\2\2\u021a\u021b\7\5\2\2\u021b"+
+		"\u021c\5B\"\2\u021c\67\3\2\2\2\u021d\u021e\t\13\2\2\u021e\u021f\t\f\2"+
+		"\2\u021f\u0220\t\n\2\2\u0220\u0222\t\t\2\2\u0221\u0223\5\u00acW\2\u0222"+
+		"\u0221\3\2\2\2\u0222\u0223\3\2\2\2\u02239\3\2\2\2\u0224\u0226\5<\37\2"+
+		"\u0225\u0227\5\u00acW\2\u0226\u0225\3\2\2\2\u0226\u0227\3\2\2\2\u0227"+
+		";\3\2\2\2\u0228\u0229\t\r\2\2\u0229\u022b\t\5\2\2\u022a\u022c\5\u009c"+
+		"O\2\u022b\u022a\3\2\2\2\u022b\u022c\3\2\2\2\u022c=\3\2\2\2\u022d\u022f"+
+		"\5@!\2\u022e\u0230\5\u00acW\2\u022f\u022e\3\2\2\2\u022f\u0230\3\2\2\2"+
+		"\u0230?\3\2\2\2\u0231\u0232\t\r\2\2\u0232\u0233\t\f\2\2\u0233\u0235\t"+
+		"\5\2\2\u0234\u0236\5\u009cO\2\u0235\u0234\3\2\2\2\u0235\u0236\3\2\2\2"+
+		"\u0236A\3\2\2\2\u0237\u023b\5D#\2\u0238\u0239\t\3\2\2\u0239\u023a\t\b"+
+		"\2\2\u023a\u023c\5D#\2\u023b\u0238\3\2\2\2\u023c\u023d\3\2\2\2\u023d\u023b"+
+		"\3\2\2\2\u023d\u023e\3\2\2\2\u023e\u0241\3\2\2\2\u023f\u0241\5D#\2\u0240"+
+		"\u0237\3\2\2\2\u0240\u023f\3\2\2\2\u0241C\3\2\2\2\u0242\u0244\5\u00b8"+
+		"]\2\u0243\u0242\3\2\2\2\u0243\u0244\3\2\2\2\u0244\u0245\3\2\2\2\u0245"+
+		"\u0247\t\b\2\2\u0246\u0248\5\u00c0a\2\u0247\u0246\3\2\2\2\u0247\u0248"+
+		"\3\2\2\2\u0248\u0249\3\2\2\2\u0249\u024b\7\5\2\2\u024a\u024c\7:\2\2\u024b"+
+		"\u024a\3\2\2\2\u024b\u024c\3\2\2\2\u024c\u024e\3\2\2\2\u024d\u024f\5\u0094"+
+		"K\2\u024e\u024d\3\2\2\2\u024e\u024f\3\2\2\2\u024f\u0250\3\2\2\2\u0250"+
+		"\u0251\t\f\2\2\u0251\u0252\t\t\2\2\u0252\u0253\t\13\2\2\u0253\u0255\t"+
+		"\2\2\2\u0254\u0256\5\u00c0a\2\u0255\u0254\3\2\2\2\u0255\u0256\3\2\2\2"+
+		"\u0256\u025b\3\2\2\2\u0257\u025b\5J&\2\u0258\u025b\5H%\2\u0259\u025b\5"+
+		"F$\2\u025a\u0243\3\2\2\2\u025a\u0257\3\2\2\2\u025a\u0258\3\2\2\2\u025a"+
+		"\u0259\3\2\2\2\u025bE\3\2\2\2\u025c\u025d\5\u00b8]\2\u025d\u0260\5\u0096"+
+		"L\2\u025e\u0261\5v<\2\u025f\u0261\5\u009aN\2\u0260\u025e\3\2\2\2\u0260"+
+		"\u025f\3\2\2\2\u0260\u0261\3\2\2\2\u0261\u0262\3\2\2\2\u0262\u0263\b$"+
+		"\1\2\u0263\u026d\3\2\2\2\u0264\u0265\5\u00b6\\\2\u0265\u0268\5\u009eP"+
+		"\2\u0266\u0269\5v<\2\u0267\u0269\5\u009aN\2\u0268\u0266\3\2\2\2\u0268"+
+		"\u0267\3\2\2\2\u0268\u0269\3\2\2\2\u0269\u026a\3\2\2\2\u026a\u026b\b$"+
+		"\1\2\u026b\u026d\3\2\2\2\u026c\u025c\3\2\2\2\u026c\u0264\3\2\2\2\u026d"+
+		"G\3\2\2\2\u026e\u0270\5\u00b8]\2\u026f\u026e\3\2\2\2\u026f\u0270\3\2\2"+
+		"\2\u0270\u0271\3\2\2\2\u0271\u0273\t\b\2\2\u0272\u0274\5\u00c0a\2\u0273"+
+		"\u0272\3\2\2\2\u0273\u0274\3\2\2\2\u0274\u0298\3\2\2\2\u0275\u0276\5\u00b8"+
+		"]\2\u0276\u0277\t\t\2\2\u0277\u0278\t\6\2\2\u0278\u0279\t\b\2\2\u0279"+
+		"\u027b\5\u009cO\2\u027a\u027c\5\u00c0a\2\u027b\u027a\3\2\2\2\u027b\u027c"+
+		"\3\2\2\2\u027c\u0298\3\2\2\2\u027d\u027f\5\u00b8]\2\u027e\u0280\5\u00a0"+
+		"Q\2\u027f\u027e\3\2\2\2\u027f\u0280\3\2\2\2\u0280\u0281\3\2\2\2\u0281"+
+		"\u0282\t\t\2\2\u0282\u0283\t\6\2\2\u0283\u0285\t\b\2\2\u0284\u0286\5\u00c0"+
+		"a\2\u0285\u0284\3\2\2\2\u0285\u0286\3\2\2\2\u0286\u0298\3\2\2\2\u0287"+
+		"\u0289\7:\2\2\u0288\u0287\3\2\2\2\u0288\u0289\3\2\2\2\u0289\u028b\3\2"+
+		"\2\2\u028a\u028c\5\u0094K\2\u028b\u028a\3\2\2\2\u028b\u028c\3\2\2\2\u028c"+
+		"\u028d\3\2\2\2\u028d\u028e\t\f\2\2\u028e\u028f\t\t\2\2\u028f\u0290\t\13"+
+		"\2\2\u0290\u0292\t\2\2\2\u0291\u0293\5\u00c0a\2\u0292\u0291\3\2\2\2\u0292"+
+		"\u0293\3\2\2\2\u0293\u0298\3\2\2\2\u0294\u0295\t\13\2\2\u0295\u0296\t"+
+		"\2\2\2\u0296\u0298\t\4\2\2\u0297\u026f\3\2\2\2\u0297\u0275\3\2\2\2\u0297"+
+		"\u027d\3\2\2\2\u0297\u0288\3\2\2\2\u0297\u0294\3\2\2\2\u0298I\3\2\2\2"+
+		"\u0299\u029b\5\u00b4[\2\u029a\u0299\3\2\2\2\u029a\u029b\3\2\2\2\u029b"+
+		"\u029d\3\2\2\2\u029c\u029e\5\u00aaV\2\u029d\u029c\3\2\2\2\u029d\u029e"+
+		"\3\2\2\2\u029e\u029f\3\2\2\2\u029f\u02a0\5\u0088E\2\u02a0\u02a2\5P)\2"+
+		"\u02a1\u02a3\5T+\2\u02a2\u02a1\3\2\2\2\u02a2\u02a3\3\2\2\2\u02a3\u02a7"+
+		"\3\2\2\2\u02a4\u02a6\5L\'\2\u02a5\u02a4\3\2\2\2\u02a6\u02a9\3\2\2\2\u02a7"+
+		"\u02a5\3\2\2\2\u02a7\u02a8\3\2\2\2\u02a8\u02ab\3\2\2\2\u02a9\u02a7\3\2"+
+		"\2\2\u02aa\u02ac\5\u00c0a\2\u02ab\u02aa\3\2\2\2\u02ab\u02ac\3\2\2\2\u02ac"+
+		"\u02ad\3\2\2\2\u02ad\u02ae\b&\1\2\u02ae\u02cd\3\2\2\2\u02af\u02b1\5\u00b4"+
+		"[\2\u02b0\u02af\3\2\2\2\u02b0\u02b1\3\2\2\2\u02b1\u02b3\3\2\2\2\u02b2"+
+		"\u02b4\5\u00aaV\2\u02b3\u02b2\3\2\2\2\u02b3\u02b4\3\2\2\2\u02b4\u02b5"+
+		"\3\2\2\2\u02b5\u02b6\5\u0098M\2\u02b6\u02b8\5Z.\2\u02b7\u02b9\5^\60\2"+
+		"\u02b8\u02b7\3\2\2\2\u02b8\u02b9\3\2\2\2\u02b9\u02bb\3\2\2\2\u02ba\u02bc"+
+		"\5\u00c0a\2\u02bb\u02ba\3\2\2\2\u02bb\u02bc\3\2\2\2\u02bc\u02bd\3\2\2"+
+		"\2\u02bd\u02be\b&\1\2\u02be\u02cd\3\2\2\2\u02bf\u02c1\5\u00b4[\2\u02c0"+
+		"\u02bf\3\2\2\2\u02c0\u02c1\3\2\2\2\u02c1\u02c3\3\2\2\2\u02c2\u02c4\5\u00aa"+
+		"V\2\u02c3\u02c2\3\2\2\2\u02c3\u02c4\3\2\2\2\u02c4\u02c5\3\2\2\2\u02c5"+
+		"\u02c6\5h\65\2\u02c6\u02c8\5j\66\2\u02c7\u02c9\5\u00c0a\2\u02c8\u02c7"+
+		"\3\2\2\2\u02c8\u02c9\3\2\2\2\u02c9\u02ca\3\2\2\2\u02ca\u02cb\b&\1\2\u02cb"+
+		"\u02cd\3\2\2\2\u02cc\u029a\3\2\2\2\u02cc\u02b0\3\2\2\2\u02cc\u02c0\3\2"+
+		"\2\2\u02cdK\3\2\2\2\u02ce\u02d8\5N(\2\u02cf\u02d3\5N(\2\u02d0\u02d1\t"+
+		"\3\2\2\u02d1\u02d2\t\b\2\2\u02d2\u02d4\5N(\2\u02d3\u02d0\3\2\2\2\u02d4"+
+		"\u02d5\3\2\2\2\u02d5\u02d3\3\2\2\2\u02d5\u02d6\3\2\2\2\u02d6\u02d8\3\2"+
+		"\2\2\u02d7\u02ce\3\2\2\2\u02d7\u02cf\3\2\2\2\u02d8M\3\2\2\2\u02d9\u02db"+
+		"\7:\2\2\u02da\u02d9\3\2\2\2\u02da\u02db\3\2\2\2\u02db\u02dc\3\2\2\2\u02dc"+
+		"\u02dd\5\u00ba^\2\u02dd\u02df\5d\63\2\u02de\u02e0\5f\64\2\u02df\u02de"+
+		"\3\2\2\2\u02df\u02e0\3\2\2\2\u02e0O\3\2\2\2\u02e1\u02e2\7 \2\2\u02e2\u02e3"+
+		"\5R*\2\u02e3\u02e4\7!\2\2\u02e4Q\3\2\2\2\u02e5\u02ea\5\u0086D\2\u02e6"+
+		"\u02e7\7\"\2\2\u02e7\u02e9\5\u0086D\2\u02e8\u02e6\3\2\2\2\u02e9\u02ec"+
+		"\3\2\2\2\u02ea\u02e8\3\2\2\2\u02ea\u02eb\3\2\2\2\u02ebS\3\2\2\2\u02ec"+
+		"\u02ea\3\2\2\2\u02ed\u02ee\7 \2\2\u02ee\u02ef\5V,\2\u02ef\u02f0\7!\2\2"+
+		"\u02f0U\3\2\2\2\u02f1\u02f6\5X-\2\u02f2\u02f3\7\"\2\2\u02f3\u02f5\5X-"+
+		"\2\u02f4\u02f2\3\2\2\2\u02f5\u02f8\3\2\2\2\u02f6\u02f4\3\2\2\2\u02f6\u02f7"+
+		"\3\2\2\2\u02f7W\3\2\2\2\u02f8\u02f6\3\2\2\2\u02f9\u0303\5\u0084C\2\u02fa"+
+		"\u02fe\5\u0084C\2\u02fb\u02fc\t\3\2\2\u02fc\u02fd\t\b\2\2\u02fd\u02ff"+
+		"\5\u0084C\2\u02fe\u02fb\3\2\2\2\u02ff\u0300\3\2\2\2\u0300\u02fe\3\2\2"+
+		"\2\u0300\u0301\3\2\2\2\u0301\u0303\3\2\2\2\u0302\u02f9\3\2\2\2\u0302\u02fa"+
+		"\3\2\2\2\u0303Y\3\2\2\2\u0304\u0305\7 \2\2\u0305\u0306\5\\/\2\u0306\u0307"+
+		"\7!\2\2\u0307[\3\2\2\2\u0308\u030d\5~@\2\u0309\u030a\7\"\2\2\u030a\u030c"+
+		"\5~@\2\u030b\u0309\3\2\2\2\u030c\u030f\3\2\2\2\u030d\u030b\3\2\2\2\u030d"+
+		"\u030e\3\2\2\2\u030e]\3\2\2\2\u030f\u030d\3\2\2\2\u0310\u0311\7 \2\2\u0311"+
+		"\u0312\5`\61\2\u0312\u0313\7!\2\2\u0313\u0319\3\2\2\2\u0314\u0315\7 \2"+
+		"\2\u0315\u0316\5\u008aF\2\u0316\u0317\7!\2\2\u0317\u0319\3\2\2\2\u0318"+
+		"\u0310\3\2\2\2\u0318\u0314\3\2\2\2\u0319_\3\2\2\2\u031a\u031f\5b\62\2"+
+		"\u031b\u031c\7\"\2\2\u031c\u031e\5b\62\2\u031d\u031b\3\2\2\2\u031e\u0321"+
+		"\3\2\2\2\u031f\u031d\3\2\2\2\u031f\u0320\3\2\2\2\u0320a\3\2\2\2\u0321"+
+		"\u031f\3\2\2\2\u0322\u032c\5t;\2\u0323\u0327\5t;\2\u0324\u0325\t\3\2\2"+
+		"\u0325\u0326\t\b\2\2\u0326\u0328\5t;\2\u0327\u0324\3\2\2\2\u0328\u0329"+
+		"\3\2\2\2\u0329\u0327\3\2\2\2\u0329\u032a\3\2\2\2\u032a\u032c\3\2\2\2\u032b"+
+		"\u0322\3\2\2\2\u032b\u0323\3\2\2\2\u032cc\3\2\2\2\u032d\u032e\7 \2\2\u032e"+
+		"\u032f\5\\/\2\u032f\u0330\7!\2\2\u0330e\3\2\2\2\u0331\u0332\7 \2\2\u0332"+
+		"\u0333\5`\61\2\u0333\u0334\7!\2\2\u0334\u033a\3\2\2\2\u0335\u0336\7 \2"+
+		"\2\u0336\u0337\5\u008aF\2\u0337\u0338\7!\2\2\u0338\u033a\3\2\2\2\u0339"+
+		"\u0331\3\2\2\2\u0339\u0335\3\2\2\2\u033ag\3\2\2\2\u033b\u033c\t\6\2\2"+
+		"\u033c\u033d\t\f\2\2\u033d\u035e\t\f\2\2\u033e\u033f\t\f\2\2\u033f\u0340"+
+		"\t\n\2\2\u0340\u035e\t\5\2\2\u0341\u0342\t\16\2\2\u0342\u0343\t\r\2\2"+
+		"\u0343\u0345\t\17\2\2\u0344\u0341\3\2\2\2\u0344\u0345\3\2\2\2\u0345\u0346"+
+		"\3\2\2\2\u0346\u0347\t\13\2\2\u0347\u0348\t\f\2\2\u0348\u0349\t\13\2\2"+
+		"\u0349\u035e\t\4\2\2\u034a\u034b\t\f\2\2\u034b\u034c\t\17\2\2\u034c\u035e"+
+		"\t\16\2\2\u034d\u034e\t\20\2\2\u034e\u034f\t\b\2\2\u034f\u035e\t\16\2"+
+		"\2\u0350\u0351\t\21\2\2\u0351\u0352\t\f\2\2\u0352\u035e\t\16\2\2\u0353"+
+		"\u0354\t\22\2\2\u0354\u0355\t\r\2\2\u0355\u035e\t\b\2\2\u0356\u0357\t"+
+		"\13\2\2\u0357\u0358\t\2\2\2\u0358\u035e\t\r\2\2\u0359\u035a\t\13\2\2\u035a"+
+		"\u035b\t\2\2\2\u035b\u035e\t\23\2\2\u035c\u035e\t\13\2\2\u035d\u033b\3"+
+		"\2\2\2\u035d\u033e\3\2\2\2\u035d\u0344\3\2\2\2\u035d\u034a\3\2\2\2\u035d"+
+		"\u034d\3\2\2\2\u035d\u0350\3\2\2\2\u035d\u0353\3\2\2\2\u035d\u0356\3\2"+
+		"\2\2\u035d\u0359\3\2\2\2\u035d\u035c\3\2\2\2\u035ei\3\2\2\2\u035f\u0360"+
+		"\7 \2\2\u0360\u0361\5l\67\2\u0361\u0362\7!\2\2\u0362k\3\2\2\2\u0363\u0365"+
+		"\5~@\2\u0364\u0366\7:\2\2\u0365\u0364\3\2\2\2\u0365\u0366\3\2\2\2\u0366"+
+		"\u0367\3\2\2\2\u0367\u0368\5n8\2\u0368m\3\2\2\2\u0369\u036a\t\24\2\2\u036a"+
+		"o\3\2\2\2\u036b\u036d\7:\2\2\u036c\u036b\3\2\2\2\u036c\u036d\3\2\2\2\u036d"+
+		"\u036e\3\2\2\2\u036e\u0371\5n8\2\u036f\u0372\5\u0092J\2\u0370\u0372\7"+
+		":\2\2\u0371\u036f\3\2\2\2\u0371\u0370\3\2\2\2\u0372\u0373\3\2\2\2\u0373"+
+		"\u0371\3\2\2\2\u0373\u0374\3\2\2\2\u0374\u0381\3\2\2\2\u0375\u0378\7:"+
+		"\2\2\u0376\u0379\5\u0092J\2\u0377\u0379\7:\2\2\u0378\u0376\3\2\2\2\u0378"+
+		"\u0377\3\2\2\2\u0379\u037a\3\2\2\2\u037a\u0378\3\2\2\2\u037a\u037b\3\2"+
+		"\2\2\u037b\u0381\3\2\2\2\u037c\u0381\7:\2\2\u037d\u037e\5n8\2\u037e\u037f"+
+		"\5\u00b0Y\2\u037f\u0381\3\2\2\2\u0380\u036c\3\2\2\2\u0380\u0375\3\2\2"+
+		"\2\u0380\u037c\3\2\2\2\u0380\u037d\3\2\2\2\u0381q\3\2\2\2\u0382\u0384"+
+		"\5p9\2\u0383\u0385\5\u00c2b\2\u0384\u0383\3\2\2\2\u0384\u0385\3\2\2\2"+
+		"\u0385s\3\2\2\2\u0386\u0388\5r:\2\u0387\u0386\3\2\2\2\u0388\u0389\3\2"+
+		"\2\2\u0389\u0387\3\2\2\2\u0389\u038a\3\2\2\2\u038au\3\2\2\2\u038b\u038c"+
+		"\t\4\2\2\u038cw\3\2\2\2\u038d\u038e\7/\2\2\u038e\u038f\5z>\2\u038f\u0390"+
+		"\7\60\2\2\u0390y\3\2\2\2\u0391\u0393\5\u0082B\2\u0392\u0391\3\2\2\2\u0392"+
+		"\u0393\3\2\2\2\u0393\u0394\3\2\2\2\u0394\u0395\5\u009cO\2\u0395{\3\2\2"+
+		"\2\u0396\u0398\7:\2\2\u0397\u0396\3\2\2\2\u0397\u0398\3\2\2\2\u0398\u0399"+
+		"\3\2\2\2\u0399\u039a\5n8\2\u039a\u039b\5\u009cO\2\u039b\u03a0\3\2\2\2"+
+		"\u039c\u039d\7:\2\2\u039d\u03a0\5\u009cO\2\u039e\u03a0\7:\2\2\u039f\u0397"+
+		"\3\2\2\2\u039f\u039c\3\2\2\2\u039f\u039e\3\2\2\2\u03a0}\3\2\2\2\u03a1"+
+		"\u03a3\7:\2\2\u03a2\u03a1\3\2\2\2\u03a2\u03a3\3\2\2\2\u03a3\u03a6\3\2"+
+		"\2\2\u03a4\u03a7\5\u009cO\2\u03a5\u03a7\5\u00bc_\2\u03a6\u03a4\3\2\2\2"+
+		"\u03a6\u03a5\3\2\2\2\u03a7\u03af\3\2\2\2\u03a8\u03a9\5\u0092J\2\u03a9"+
+		"\u03ab\7:\2\2\u03aa\u03ac\5\u0092J\2\u03ab\u03aa\3\2\2\2\u03ab\u03ac\3"+
+		"\2\2\2\u03ac\u03af\3\2\2\2\u03ad\u03af\7:\2\2\u03ae\u03a2\3\2\2\2\u03ae"+
+		"\u03a8\3\2\2\2\u03ae\u03ad\3\2\2\2\u03af\177\3\2\2\2\u03b0\u03b7\5\u00ae"+
+		"X\2\u03b1\u03b3\7:\2\2\u03b2\u03b1\3\2\2\2\u03b3\u03b4\3\2\2\2\u03b4\u03b2"+
+		"\3\2\2\2\u03b4\u03b5\3\2\2\2\u03b5\u03b7\3\2\2\2\u03b6\u03b0\3\2\2\2\u03b6"+
+		"\u03b2\3\2\2\2\u03b7\u0081\3\2\2\2\u03b8\u03b9\t\4\2\2\u03b9\u03ba\t\16"+
+		"\2\2\u03ba\u0083\3\2\2\2\u03bb\u03be\5|?\2\u03bc\u03be\5\u008aF\2\u03bd"+
+		"\u03bb\3\2\2\2\u03bd\u03bc\3\2\2\2\u03be\u0085\3\2\2\2\u03bf\u03c1\7:"+
+		"\2\2\u03c0\u03bf\3\2\2\2\u03c0\u03c1\3\2\2\2\u03c1\u03c4\3\2\2\2\u03c2"+
+		"\u03c5\5\u009cO\2\u03c3\u03c5\5\u00bc_\2\u03c4\u03c2\3\2\2\2\u03c4\u03c3"+
+		"\3\2\2\2\u03c5\u03cd\3\2\2\2\u03c6\u03c7\5\u0092J\2\u03c7\u03c9\7:\2\2"+
+		"\u03c8\u03ca\5\u0092J\2\u03c9\u03c8\3\2\2\2\u03c9\u03ca\3\2\2\2\u03ca"+
+		"\u03cd\3\2\2\2\u03cb\u03cd\7:\2\2\u03cc\u03c0\3\2\2\2\u03cc\u03c6\3\2"+
+		"\2\2\u03cc\u03cb\3\2\2\2\u03cd\u0087\3\2\2\2\u03ce\u03cf\t\13\2\2\u03cf"+
+		"\u03d0\t\f\2\2\u03d0\u03d1\t\n\2\2\u03d1\u03d6\t\b\2\2\u03d2\u03d3\t\f"+
+		"\2\2\u03d3\u03d4\t\n\2\2\u03d4\u03d6\t\b\2\2\u03d5\u03ce\3\2\2\2\u03d5"+
+		"\u03d2\3\2\2\2\u03d6\u0089\3\2\2\2\u03d7\u03d8\5\u008cG\2\u03d8\u008b"+
+		"\3\2\2\2\u03d9\u03db\7=\2\2\u03da\u03dc\7=\2\2\u03db\u03da\3\2\2\2\u03db"+
+		"\u03dc\3\2\2\2\u03dc\u03dd\3\2\2\2\u03dd\u03e3\5\u008eH\2\u03de\u03df"+
+		"\7=\2\2\u03df\u03e0\7=\2\2\u03e0\u03e2\5\u008eH\2\u03e1\u03de\3\2\2\2"+
+		"\u03e2\u03e5\3\2\2\2\u03e3\u03e1\3\2\2\2\u03e3\u03e4\3\2\2\2\u03e4\u03e6"+
+		"\3\2\2\2\u03e5\u03e3\3\2\2\2\u03e6\u03e8\7=\2\2\u03e7\u03e9\7=\2\2\u03e8"+
+		"\u03e7\3\2\2\2\u03e8\u03e9\3\2\2\2\u03e9\u03f4\3\2\2\2\u03ea\u03f0\5\u008e"+
+		"H\2\u03eb\u03ec\7=\2\2\u03ec\u03ed\7=\2\2\u03ed\u03ef\5\u008eH\2\u03ee"+
+		"\u03eb\3\2\2\2\u03ef\u03f2\3\2\2\2\u03f0\u03ee\3\2\2\2\u03f0\u03f1\3\2"+
+		"\2\2\u03f1\u03f4\3\2\2\2\u03f2\u03f0\3\2\2\2\u03f3\u03d9\3\2\2\2\u03f3"+
+		"\u03ea\3\2\2\2\u03f4\u008d\3\2\2\2\u03f5\u03f6\5\u0090I\2\u03f6\u03f7"+
+		"\7<\2\2\u03f7\u03f8\5\u0090I\2\u03f8\u03fe\3\2\2\2\u03f9\u03fa\t\22\2"+
+		"\2\u03fa\u03fb\t\r\2\2\u03fb\u03fe\t\b\2\2\u03fc\u03fe\5\u0090I\2\u03fd"+
+		"\u03f5\3\2\2\2\u03fd\u03f9\3\2\2\2\u03fd\u03fc\3\2\2\2\u03fe\u008f\3\2"+
+		"\2\2\u03ff\u0401\5~@\2\u0400\u03ff\3\2\2\2\u0400\u0401\3\2\2\2\u0401\u0402"+
+		"\3\2\2\2\u0402\u0403\5n8\2\u0403\u0404\t\20\2\2\u0404\u0405\t\n\2\2\u0405"+
+		"\u0406\t\b\2\2\u0406\u0417\3\2\2\2\u0407\u0409\5~@\2\u0408\u0407\3\2\2"+
+		"\2\u0408\u0409\3\2\2\2\u0409\u040a\3\2\2\2\u040a\u040c\5p9\2\u040b\u040d"+
+		"\5\u00c2b\2\u040c\u040b\3\2\2\2\u040c\u040d\3\2\2\2\u040d\u0417\3\2\2"+
+		"\2\u040e\u0410\7:\2\2\u040f\u0411\5~@\2\u0410\u040f\3\2\2\2\u0410\u0411"+
+		"\3\2\2\2\u0411\u0412\3\2\2\2\u0412\u0414\5p9\2\u0413\u0415\5\u00c2b\2"+
+		"\u0414\u0413\3\2\2\2\u0414\u0415\3\2\2\2\u0415\u0417\3\2\2\2\u0416\u0400"+
+		"\3\2\2\2\u0416\u0408\3\2\2\2\u0416\u040e\3\2\2\2\u0417\u0091\3\2\2\2\u0418"+
+		"\u0419\t\25\2\2\u0419\u0093\3\2\2\2\u041a\u041d\5\u00aeX\2\u041b\u041d"+
+		"\5\u00b2Z\2\u041c\u041a\3\2\2\2\u041c\u041b\3\2\2\2\u041d\u0095\3\2\2"+
+		"\2\u041e\u0421\5\u009cO\2\u041f\u0421\5\u00bc_\2\u0420\u041e\3\2\2\2\u0420"+
+		"\u041f\3\2\2\2\u0421\u0097\3\2\2\2\u0422\u0423\t\6\2\2\u0423\u0424\t\f"+
+		"\2\2\u0424\u0465\t\f\2\2\u0425\u0426\t\f\2\2\u0426\u0427\t\n\2\2\u0427"+
+		"\u0465\t\5\2\2\u0428\u0429\t\16\2\2\u0429\u042a\t\r\2\2\u042a\u042c\t"+
+		"\17\2\2\u042b\u0428\3\2\2\2\u042b\u042c\3\2\2\2\u042c\u042d\3\2\2\2\u042d"+
+		"\u042e\t\f\2\2\u042e\u042f\t\13\2\2\u042f\u0465\t\4\2\2\u0430\u0431\t"+
+		"\16\2\2\u0431\u0432\t\r\2\2\u0432\u0434\t\17\2\2\u0433\u0430\3\2\2\2\u0433"+
+		"\u0434\3\2\2\2\u0434\u0435\3\2\2\2\u0435\u0436\t\13\2\2\u0436\u0437\t"+
+		"\f\2\2\u0437\u0438\t\13\2\2\u0438\u0465\t\4\2\2\u0439\u043a\t\f\2\2\u043a"+
+		"\u043b\t\17\2\2\u043b\u0465\t\16\2\2\u043c\u043d\t\20\2\2\u043d\u043e"+
+		"\t\b\2\2\u043e\u0465\t\16\2\2\u043f\u0440\t\21\2\2\u0440\u0441\t\f\2\2"+
+		"\u0441\u0465\t\16\2\2\u0442\u0443\t\22\2\2\u0443\u0444\t\r\2\2\u0444\u0465"+
+		"\t\b\2\2\u0445\u0446\t\13\2\2\u0446\u0447\t\2\2\2\u0447\u0465\t\r\2\2"+
+		"\u0448\u0449\t\13\2\2\u0449\u044a\t\2\2\2\u044a\u0465\t\23\2\2\u044b\u0465"+
+		"\t\13\2\2\u044c\u044d\t\f\2\2\u044d\u044e\t\13\2\2\u044e\u0453\t\4\2\2"+
+		"\u044f\u0450\t\20\2\2\u0450\u0451\t\b\2\2\u0451\u0453\t\4\2\2\u0452\u044c"+
+		"\3\2\2\2\u0452\u044f\3\2\2\2\u0452\u0453\3\2\2\2\u0453\u0454\3\2\2\2\u0454"+
+		"\u0465\t\b\2\2\u0455\u0456\t\20\2\2\u0456\u0457\t\6\2\2\u0457\u0465\t"+
+		"\r\2\2\u0458\u0465\t\20\2\2\u0459\u045a\t\16\2\2\u045a\u045b\t\r\2\2\u045b"+
+		"\u045d\t\17\2\2\u045c\u0459\3\2\2\2\u045c\u045d\3\2\2\2\u045d\u045e\3"+
+		"\2\2\2\u045e\u045f\t\20\2\2\u045f\u0460\t\b\2\2\u0460\u0465\t\4\2\2\u0461"+
+		"\u0462\t\b\2\2\u0462\u0463\t\3\2\2\u0463\u0465\t\7\2\2\u0464\u0422\3\2"+
+		"\2\2\u0464\u0425\3\2\2\2\u0464\u042b\3\2\2\2\u0464\u0433\3\2\2\2\u0464"+
+		"\u0439\3\2\2\2\u0464\u043c\3\2\2\2\u0464\u043f\3\2\2\2\u0464\u0442\3\2"+
+		"\2\2\u0464\u0445\3\2\2\2\u0464\u0448\3\2\2\2\u0464\u044b\3\2\2\2\u0464"+
+		"\u0452\3\2\2\2\u0464\u0455\3\2\2\2\u0464\u0458\3\2\2\2\u0464\u045c\3\2"+
+		"\2\2\u0464\u0461\3\2\2\2\u0465\u0099\3\2\2\2\u0466\u0467\t\f\2\2\u0467"+
+		"\u0472\t\2\2\2\u0468\u0469\t\13\2\2\u0469\u046a\t\2\2\2\u046a\u0472\t"+
+		"\22\2\2\u046b\u046c\t\t\2\2\u046c\u046d\t\6\2\2\u046d\u0472\t\20\2\2\u046e"+
+		"\u046f\t\16\2\2\u046f\u0470\t\6\2\2\u0470\u0472\t\20\2\2\u0471\u0466\3"+
+		"\2\2\2\u0471\u0468\3\2\2\2\u0471\u046b\3\2\2\2\u0471\u046e\3\2\2\2\u0472"+
+		"\u009b\3\2\2\2\u0473\u0475\5\u0092J\2\u0474\u0473\3\2\2\2\u0475\u0476"+
+		"\3\2\2\2\u0476\u0474\3\2\2\2\u0476\u0477\3\2\2\2\u0477\u009d\3\2\2\2\u0478"+
+		"\u047b\5\u009cO\2\u0479\u047b\5\u00bc_\2\u047a\u0478\3\2\2\2\u047a\u0479"+
+		"\3\2\2\2\u047b\u009f\3\2\2\2\u047c\u047d\5\u00aeX\2\u047d\u00a1\3\2\2"+
+		"\2\u047e\u047f\5\u00a6T\2\u047f\u0480\5\u00a4S\2\u0480\u0481\5\u00a8U"+
+		"\2\u0481\u00a3\3\2\2\2\u0482\u0483\t\22\2\2\u0483\u04a1\t\6\2\2\u0484"+
+		"\u0485\t\f\2\2\u0485\u04a1\t\13\2\2\u0486\u0487\t\20\2\2\u0487\u0488\t"+
+		"\b\2\2\u0488\u04a1\t\13\2\2\u0489\u048a\t\20\2\2\u048a\u048b\t\n\2\2\u048b"+
+		"\u048c\t\20\2\2\u048c\u048d\t\b\2\2\u048d\u04a1\t\6\2\2\u048e\u048f\t"+
+		"\16\2\2\u048f\u0490\t\n\2\2\u0490\u0491\t\2\2\2\u0491\u0492\t\20\2\2\u0492"+
+		"\u04a1\t\6\2\2\u0493\u0494\t\22\2\2\u0494\u0495\t\n\2\2\u0495\u0496\t"+
+		"\26\2\2\u0496\u04a1\t\6\2\2\u0497\u0498\t\22\2\2\u0498\u0499\t\n\2\2\u0499"+
+		"\u049a\t\16\2\2\u049a\u049b\t\20\2\2\u049b\u04a1\t\6\2\2\u049c\u049d\t"+
+		"\3\2\2\u049d\u049e\t\4\2\2\u049e\u049f\t\20\2\2\u049f\u04a1\t\6\2\2\u04a0"+
+		"\u0482\3\2\2\2\u04a0\u0484\3\2\2\2\u04a0\u0486\3\2\2\2\u04a0\u0489\3\2"+
+		"\2\2\u04a0\u048e\3\2\2\2\u04a0\u0493\3\2\2\2\u04a0\u0497\3\2\2\2\u04a0"+
+		"\u049c\3\2\2\2\u04a1\u00a5\3\2\2\2\u04a2\u04a3\t\2\2\2\u04a3\u04a4\t\n"+
+		"\2\2\u04a4\u04a5\t\6\2\2\u04a5\u04a7\t\b\2\2\u04a6\u04a8\78\2\2\u04a7"+
+		"\u04a6\3\2\2\2\u04a7\u04a8\3\2\2\2\u04a8\u04b9\3\2\2\2\u04a9\u04aa\t\22"+
+		"\2\2\u04aa\u04ab\t\27\2\2\u04ab\u04ac\t\16\2\2\u04ac\u04b9\t\3\2\2\u04ad"+
+		"\u04ae\t\22\2\2\u04ae\u04af\t\27\2\2\u04af\u04b0\t\16\2\2\u04b0\u04b1"+
+		"\t\n\2\2\u04b1\u04b9\t\b\2\2\u04b2\u04b3\t\16\2\2\u04b3\u04b4\t\r\2\2"+
+		"\u04b4\u04b5\t\n\2\2\u04b5\u04b6\t\17\2\2\u04b6\u04b7\t\f\2\2\u04b7\u04b9"+
+		"\t\3\2\2\u04b8\u04a2\3\2\2\2\u04b8\u04a9\3\2\2\2\u04b8\u04ad\3\2\2\2\u04b8"+
+		"\u04b2\3\2\2\2\u04b9\u00a7\3\2\2\2\u04ba\u04bb\t\16\2\2\u04bb\u04bc\t"+
+		"\5\2\2\u04bc\u04bd\t\3\2\2\u04bd\u04be\t\13\2\2\u04be\u04bf\t\f\2\2\u04bf"+
+		"\u00a9\3\2\2\2\u04c0\u04c1\t\t\2\2\u04c1\u04c2\t\3\2\2\u04c2\u04c7\t\r"+
+		"\2\2\u04c3\u04c4\t\4\2\2\u04c4\u04c5\t\22\2\2\u04c5\u04c7\t\13\2\2\u04c6"+
+		"\u04c0\3\2\2\2\u04c6\u04c3\3\2\2\2\u04c7\u00ab\3\2\2\2\u04c8\u04c9\t\26"+
+		"\2\2\u04c9\u04ca\5\u009cO\2\u04ca\u00ad\3\2\2\2\u04cb\u04ce\5\u009cO\2"+
+		"\u04cc\u04cd\t\30\2\2\u04cd\u04cf\5\u009cO\2\u04ce\u04cc\3\2\2\2\u04ce"+
+		"\u04cf\3\2\2\2\u04cf\u00af\3\2\2\2\u04d0\u04d1\5\u009cO\2\u04d1\u04d2"+
+		"\t\30\2\2\u04d2\u04d3\5\u009cO\2\u04d3\u00b1\3\2\2\2\u04d4\u04d5\t\30"+
+		"\2\2\u04d5\u04d6\5\u009cO\2\u04d6\u00b3\3\2\2\2\u04d7\u04d9\t\31\2\2\u04d8"+
+		"\u04d7\3\2\2\2\u04d8\u04d9\3\2\2\2\u04d9\u04da\3\2\2\2\u04da\u04e0\7:"+
+		"\2\2\u04db\u04dd\7:\2\2\u04dc\u04db\3\2\2\2\u04dc\u04dd\3\2\2\2\u04dd"+
+		"\u04de\3\2\2\2\u04de\u04e0\t\31\2\2\u04df\u04d8\3\2\2\2\u04df\u04dc\3"+
+		"\2\2\2\u04e0\u00b5\3\2\2\2\u04e1\u04e3\78\2\2\u04e2\u04e4\7:\2\2\u04e3"+
+		"\u04e2\3\2\2\2\u04e3\u04e4\3\2\2\2\u04e4\u04e8\3\2\2\2\u04e5\u04e6\7:"+
+		"\2\2\u04e6\u04e8\78\2\2\u04e7\u04e1\3\2\2\2\u04e7\u04e5\3\2\2\2\u04e8"+
+		"\u00b7\3\2\2\2\u04e9\u04eb\79\2\2\u04ea\u04ec\7:\2\2\u04eb\u04ea\3\2\2"+
+		"\2\u04eb\u04ec\3\2\2\2\u04ec\u04f0\3\2\2\2\u04ed\u04ee\7:\2\2\u04ee\u04f0"+
+		"\79\2\2\u04ef\u04e9\3\2\2\2\u04ef\u04ed\3\2\2\2\u04f0\u00b9\3\2\2\2\u04f1"+
+		"\u04f2\t\6\2\2\u04f2\u04f3\t\f\2\2\u04f3\u0510\t\f\2\2\u04f4\u04f5\t\f"+
+		"\2\2\u04f5\u04f6\t\n\2\2\u04f6\u0510\t\5\2\2\u04f7\u04f8\t\f\2\2\u04f8"+
+		"\u04f9\t\13\2\2\u04f9\u0510\t\4\2\2\u04fa\u04fb\t\f\2\2\u04fb\u04fc\t"+
+		"\17\2\2\u04fc\u0510\t\16\2\2\u04fd\u04fe\t\20\2\2\u04fe\u04ff\t\b\2\2"+
+		"\u04ff\u0510\t\16\2\2\u0500\u0501\t\21\2\2\u0501\u0502\t\f\2\2\u0502\u0510"+
+		"\t\16\2\2\u0503\u0504\t\22\2\2\u0504\u0505\t\r\2\2\u0505\u0510\t\b\2\2"+
+		"\u0506\u0507\t\13\2\2\u0507\u0508\t\2\2\2\u0508\u0510\t\r\2\2\u0509\u050a"+
+		"\t\13\2\2\u050a\u050b\t\2\2\2\u050b\u0510\t\23\2\2\u050c\u0510\t\13\2"+
+		"\2\u050d\u0510\t\b\2\2\u050e\u0510\t\20\2\2\u050f\u04f1\3\2\2\2\u050f"+
+		"\u04f4\3\2\2\2\u050f\u04f7\3\2\2\2\u050f\u04fa\3\2\2\2\u050f\u04fd\3\2"+
+		"\2\2\u050f\u0500\3\2\2\2\u050f\u0503\3\2\2\2\u050f\u0506\3\2\2\2\u050f"+
+		"\u0509\3\2\2\2\u050f\u050c\3\2\2\2\u050f\u050d\3\2\2\2\u050f\u050e\3\2"+
+		"\2\2\u0510\u00bb\3\2\2\2\u0511\u0512\t\32\2\2\u0512\u00bd\3\2\2\2\u0513"+
+		"\u0516\5\u00bc_\2\u0514\u0516\7:\2\2\u0515\u0513\3\2\2\2\u0515\u0514\3"+
+		"\2\2\2\u0516\u0517\3\2\2\2\u0517\u0515\3\2\2\2\u0517\u0518\3\2\2\2\u0518"+
+		"\u00bf\3\2\2\2\u0519\u051c\5v<\2\u051a\u051c\5\u009aN\2\u051b\u0519\3"+
+		"\2\2\2\u051b\u051a\3\2\2\2\u051b\u051c\3\2\2\2\u051c\u051d\3\2\2\2\u051d"+
+		"\u0526\5\u00acW\2\u051e\u0520\5\u00acW\2\u051f\u051e\3\2\2\2\u051f\u0520"+
+		"\3\2\2\2\u0520\u0523\3\2\2\2\u0521\u0524\5v<\2\u0522\u0524\5\u009aN\2"+
+		"\u0523\u0521\3\2\2\2\u0523\u0522\3\2\2\2\u0524\u0526\3\2\2\2\u0525\u051b"+
+		"\3\2\2\2\u0525\u051f\3\2\2\2\u0526\u00c1\3\2\2\2\u0527\u052f\7\3\2\2\u0528"+
+		"\u052b\5\u0092J\2\u0529\u052b\7:\2\2\u052a\u0528\3\2\2\2\u052a\u0529\3"+
+		"\2\2\2\u052b\u052c\3\2\2\2\u052c\u052a\3\2\2\2\u052c\u052d\3\2\2\2\u052d"+
+		"\u0530\3\2\2\2\u052e\u0530\5\u00b0Y\2\u052f\u052a\3\2\2\2\u052f\u052e"+
+		"\3\2\2\2\u0530\u00c3\3\2\2\2\u00bf\u00c6\u00cd\u00cf\u00d3\u00d6\u00dc"+
+		"\u00e2\u00ea\u00f0\u00f4\u00fb\u0101\u0108\u010e\u0113\u0116\u011c\u011f"+
+		"\u0125\u012b\u0131\u0137\u013c\u0140\u0146\u014a\u014d\u0151\u0156\u015a"+
+		"\u015e\u0161\u0165\u016c\u0170\u0173\u0177\u017d\u0181\u0184\u0188\u018e"+
+		"\u0192\u0195\u0199\u019e\u01a2\u01a6\u01a9\u01ad\u01b3\u01b7\u01ba\u01be"+
+		"\u01c4\u01c8\u01cb\u01cf\u01d4\u01da\u01ea\u01ec\u01ef\u01f8\u01fa\u0207"+
+		"\u020e\u0222\u0226\u022b\u022f\u0235\u023d\u0240\u0243\u0247\u024b\u024e"+
+		"\u0255\u025a\u0260\u0268\u026c\u026f\u0273\u027b\u027f\u0285\u0288\u028b"+
+		"\u0292\u0297\u029a\u029d\u02a2\u02a7\u02ab\u02b0\u02b3\u02b8\u02bb\u02c0"+
+		"\u02c3\u02c8\u02cc\u02d5\u02d7\u02da\u02df\u02ea\u02f6\u0300\u0302\u030d"+
+		"\u0318\u031f\u0329\u032b\u0339\u0344\u035d\u0365\u036c\u0371\u0373\u0378"+
+		"\u037a\u0380\u0384\u0389\u0392\u0397\u039f\u03a2\u03a6\u03ab\u03ae\u03b4"+
+		"\u03b6\u03bd\u03c0\u03c4\u03c9\u03cc\u03d5\u03db\u03e3\u03e8\u03f0\u03f3"+
+		"\u03fd\u0400\u0408\u040c\u0410\u0414\u0416\u041c\u0420\u042b\u0433\u0452"+
+		"\u045c\u0464\u0471\u0476\u047a\u04a0\u04a7\u04b8\u04c6\u04ce\u04d8\u04dc"+
+		"\u04df\u04e3\u04e7\u04eb\u04ef\u050f\u0515\u0517\u051b\u051f\u0523\u0525"+
+		"\u052a\u052c\u052f";
 	public static final ATN _ATN =
 		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
 	static {
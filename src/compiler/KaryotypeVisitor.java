@@ -127,18 +127,6 @@ public interface KaryotypeVisitor<T> extends ParseTreeVisitor<T> {
 	 * @return the visitor result
 	 */
 	T visitPloidy(KaryotypeParser.PloidyContext ctx);
-	/**
-	 * Visit a parse tree produced by {@link KaryotypeParser#tooManySlant}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitTooManySlant(KaryotypeParser.TooManySlantContext ctx);
-	/**
-	 * Visit a parse tree produced by {@link KaryotypeParser#incorrectSlant}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitIncorrectSlant(KaryotypeParser.IncorrectSlantContext ctx);
 	/**
 	 * Visit a parse tree produced by the {@code correctModalNum}
 	 * labeled alternative in {@link KaryotypeParser#modalNum}.
@@ -146,13 +134,6 @@ public interface KaryotypeVisitor<T> extends ParseTreeVisitor<T> {
 	 * @return the visitor result
 	 */
 	T visitCorrectModalNum(KaryotypeParser.CorrectModalNumContext ctx);
-	/**
-	 * Visit a parse tree produced by the {@code incorrectModalNum}
-	 * labeled alternative in {@link KaryotypeParser#modalNum}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitIncorrectModalNum(KaryotypeParser.IncorrectModalNumContext ctx);
 	/**
 	 * Visit a parse tree produced by {@link KaryotypeParser#modalNumContent}.
 	 * @param ctx the parse tree
@@ -165,12 +146,6 @@ public interface KaryotypeVisitor<T> extends ParseTreeVisitor<T> {
 	 * @return the visitor result
 	 */
 	T visitGender(KaryotypeParser.GenderContext ctx);
-	/**
-	 * Visit a parse tree produced by {@link KaryotypeParser#tooManyComma}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitTooManyComma(KaryotypeParser.TooManyCommaContext ctx);
 	/**
 	 * Visit a parse tree produced by {@link KaryotypeParser#orSex}.
 	 * @param ctx the parse tree
@@ -201,12 +176,6 @@ public interface KaryotypeVisitor<T> extends ParseTreeVisitor<T> {
 	 * @return the visitor result
 	 */
 	T visitRegularEvent(KaryotypeParser.RegularEventContext ctx);
-	/**
-	 * Visit a parse tree produced by {@link KaryotypeParser#incorrectComma}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitIncorrectComma(KaryotypeParser.IncorrectCommaContext ctx);
 	/**
 	 * Visit a parse tree produced by {@link KaryotypeParser#idemEvent}.
 	 * @param ctx the parse tree
@@ -293,13 +262,6 @@ public interface KaryotypeVisitor<T> extends ParseTreeVisitor<T> {
 	 * @return the visitor result
 	 */
 	T visitLossChrEvent(KaryotypeParser.LossChrEventContext ctx);
-	/**
-	 * Visit a parse tree produced by the {@code gainLossChrError}
-	 * labeled alternative in {@link KaryotypeParser#gainLossChr}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitGainLossChrError(KaryotypeParser.GainLossChrErrorContext ctx);
 	/**
 	 * Visit a parse tree produced by {@link KaryotypeParser#undecoded}.
 	 * @param ctx the parse tree
@@ -327,20 +289,6 @@ public interface KaryotypeVisitor<T> extends ParseTreeVisitor<T> {
 	 * @return the visitor result
 	 */
 	T visitUncertainBasicAberration(KaryotypeParser.UncertainBasicAberrationContext ctx);
-	/**
-	 * Visit a parse tree produced by the {@code derAberrationError}
-	 * labeled alternative in {@link KaryotypeParser#aberration}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitDerAberrationError(KaryotypeParser.DerAberrationErrorContext ctx);
-	/**
-	 * Visit a parse tree produced by the {@code basicAberrationError}
-	 * labeled alternative in {@link KaryotypeParser#aberration}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitBasicAberrationError(KaryotypeParser.BasicAberrationErrorContext ctx);
 	/**
 	 * Visit a parse tree produced by the {@code normalRearrangement}
 	 * labeled alternative in {@link KaryotypeParser#rearrangementElement}.
@@ -368,37 +316,12 @@ public interface KaryotypeVisitor<T> extends ParseTreeVisitor<T> {
 	 * @return the visitor result
 	 */
 	T visitCorrectDerChrList(KaryotypeParser.CorrectDerChrListContext ctx);
-	/**
-	 * Visit a parse tree produced by the {@code incorrectDerChrList}
-	 * labeled alternative in {@link KaryotypeParser#derChrList}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitIncorrectDerChrList(KaryotypeParser.IncorrectDerChrListContext ctx);
 	/**
 	 * Visit a parse tree produced by {@link KaryotypeParser#derChrListElements}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
 	T visitDerChrListElements(KaryotypeParser.DerChrListElementsContext ctx);
-	/**
-	 * Visit a parse tree produced by {@link KaryotypeParser#incorrectDerChrListElements}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitIncorrectDerChrListElements(KaryotypeParser.IncorrectDerChrListElementsContext ctx);
-	/**
-	 * Visit a parse tree produced by {@link KaryotypeParser#incorrectLeftParenthesis}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitIncorrectLeftParenthesis(KaryotypeParser.IncorrectLeftParenthesisContext ctx);
-	/**
-	 * Visit a parse tree produced by {@link KaryotypeParser#incorrectRightParenthesis}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitIncorrectRightParenthesis(KaryotypeParser.IncorrectRightParenthesisContext ctx);
 	/**
 	 * Visit a parse tree produced by the {@code correctDerBreakpointsList}
 	 * labeled alternative in {@link KaryotypeParser#derBreakpointsList}.
@@ -406,25 +329,12 @@ public interface KaryotypeVisitor<T> extends ParseTreeVisitor<T> {
 	 * @return the visitor result
 	 */
 	T visitCorrectDerBreakpointsList(KaryotypeParser.CorrectDerBreakpointsListContext ctx);
-	/**
-	 * Visit a parse tree produced by the {@code incorrectDerBreakpointsList}
-	 * labeled alternative in {@link KaryotypeParser#derBreakpointsList}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitIncorrectDerBreakpointsList(KaryotypeParser.IncorrectDerBreakpointsListContext ctx);
 	/**
 	 * Visit a parse tree produced by {@link KaryotypeParser#derBreakpointsListElements}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
 	T visitDerBreakpointsListElements(KaryotypeParser.DerBreakpointsListElementsContext ctx);
-	/**
-	 * Visit a parse tree produced by {@link KaryotypeParser#incorrectDerBreakpointsListElements}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitIncorrectDerBreakpointsListElements(KaryotypeParser.IncorrectDerBreakpointsListElementsContext ctx);
 	/**
 	 * Visit a parse tree produced by the {@code normalDerBreakpoints}
 	 * labeled alternative in {@link KaryotypeParser#derBreakpointsInOneChr}.
@@ -446,25 +356,12 @@ public interface KaryotypeVisitor<T> extends ParseTreeVisitor<T> {
 	 * @return the visitor result
 	 */
 	T visitCorrectChrList(KaryotypeParser.CorrectChrListContext ctx);
-	/**
-	 * Visit a parse tree produced by the {@code incorrectChrList}
-	 * labeled alternative in {@link KaryotypeParser#chrList}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitIncorrectChrList(KaryotypeParser.IncorrectChrListContext ctx);
 	/**
 	 * Visit a parse tree produced by {@link KaryotypeParser#chrListElements}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
 	T visitChrListElements(KaryotypeParser.ChrListElementsContext ctx);
-	/**
-	 * Visit a parse tree produced by {@link KaryotypeParser#incorrectChrListElements}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitIncorrectChrListElements(KaryotypeParser.IncorrectChrListElementsContext ctx);
 	/**
 	 * Visit a parse tree produced by the {@code correctBreakpointsList}
 	 * labeled alternative in {@link KaryotypeParser#breakpointsList}.
@@ -479,25 +376,12 @@ public interface KaryotypeVisitor<T> extends ParseTreeVisitor<T> {
 	 * @return the visitor result
 	 */
 	T visitDetailedBreakpointsList(KaryotypeParser.DetailedBreakpointsListContext ctx);
-	/**
-	 * Visit a parse tree produced by the {@code incorrectBreakpointsList}
-	 * labeled alternative in {@link KaryotypeParser#breakpointsList}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitIncorrectBreakpointsList(KaryotypeParser.IncorrectBreakpointsListContext ctx);
 	/**
 	 * Visit a parse tree produced by {@link KaryotypeParser#breakpointsListElements}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
 	T visitBreakpointsListElements(KaryotypeParser.BreakpointsListElementsContext ctx);
-	/**
-	 * Visit a parse tree produced by {@link KaryotypeParser#incorrectBreakpointsListElements}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitIncorrectBreakpointsListElements(KaryotypeParser.IncorrectBreakpointsListElementsContext ctx);
 	/**
 	 * Visit a parse tree produced by the {@code normalBreakpoints}
 	 * labeled alternative in {@link KaryotypeParser#breakpointsInOneChr}.
@@ -519,13 +403,6 @@ public interface KaryotypeVisitor<T> extends ParseTreeVisitor<T> {
 	 * @return the visitor result
 	 */
 	T visitCorrectRChrList(KaryotypeParser.CorrectRChrListContext ctx);
-	/**
-	 * Visit a parse tree produced by the {@code incorrectRChrList}
-	 * labeled alternative in {@link KaryotypeParser#rChrList}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitIncorrectRChrList(KaryotypeParser.IncorrectRChrListContext ctx);
 	/**
 	 * Visit a parse tree produced by the {@code correctRBreakpointsList}
 	 * labeled alternative in {@link KaryotypeParser#rBreakpointsList}.
@@ -540,13 +417,6 @@ public interface KaryotypeVisitor<T> extends ParseTreeVisitor<T> {
 	 * @return the visitor result
 	 */
 	T visitDetailedRBreakpointsList(KaryotypeParser.DetailedRBreakpointsListContext ctx);
-	/**
-	 * Visit a parse tree produced by the {@code incorrectRBreakpointsList}
-	 * labeled alternative in {@link KaryotypeParser#rBreakpointsList}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitIncorrectRBreakpointsList(KaryotypeParser.IncorrectRBreakpointsListContext ctx);
 	/**
 	 * Visit a parse tree produced by {@link KaryotypeParser#idUncertainChr}.
 	 * @param ctx the parse tree
@@ -560,13 +430,6 @@ public interface KaryotypeVisitor<T> extends ParseTreeVisitor<T> {
 	 * @return the visitor result
 	 */
 	T visitCorrectUncertainChr(KaryotypeParser.CorrectUncertainChrContext ctx);
-	/**
-	 * Visit a parse tree produced by the {@code incorrectUncertainChr}
-	 * labeled alternative in {@link KaryotypeParser#uncertainChr}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitIncorrectUncertainChr(KaryotypeParser.IncorrectUncertainChrContext ctx);
 	/**
 	 * Visit a parse tree produced by {@link KaryotypeParser#uncertainChrContent}.
 	 * @param ctx the parse tree
@@ -610,31 +473,12 @@ public interface KaryotypeVisitor<T> extends ParseTreeVisitor<T> {
 	 * @return the visitor result
 	 */
 	T visitCorrectCellNum(KaryotypeParser.CorrectCellNumContext ctx);
-	/**
-	 * Visit a parse tree produced by the {@code incorrectCellNum}
-	 * labeled alternative in {@link KaryotypeParser#cellNum}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitIncorrectCellNum(KaryotypeParser.IncorrectCellNumContext ctx);
 	/**
 	 * Visit a parse tree produced by {@link KaryotypeParser#cellNumContent}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
 	T visitCellNumContent(KaryotypeParser.CellNumContentContext ctx);
-	/**
-	 * Visit a parse tree produced by {@link KaryotypeParser#incorrectLeftParenthesisII}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitIncorrectLeftParenthesisII(KaryotypeParser.IncorrectLeftParenthesisIIContext ctx);
-	/**
-	 * Visit a parse tree produced by {@link KaryotypeParser#incorrectRightParenthesisII}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitIncorrectRightParenthesisII(KaryotypeParser.IncorrectRightParenthesisIIContext ctx);
 	/**
 	 * Visit a parse tree produced by {@link KaryotypeParser#cen}.
 	 * @param ctx the parse tree
@@ -851,10 +695,4 @@ public interface KaryotypeVisitor<T> extends ParseTreeVisitor<T> {
 	 * @return the visitor result
 	 */
 	T visitSubband(KaryotypeParser.SubbandContext ctx);
-	/**
-	 * Visit a parse tree produced by {@link KaryotypeParser#undeterminedPrefix}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitUndeterminedPrefix(KaryotypeParser.UndeterminedPrefixContext ctx);
 }
\ No newline at end of file
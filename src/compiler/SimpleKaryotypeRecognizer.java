@@ -0,0 +1,154 @@
+package compiler;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import business.Clone;
+import business.Event;
+
+/**
+ * Hand-written recognizer for the simple karyotypes most registry lines are made of, such as
+ * "46,XX", "46,XY[20]", "47,XY,+8[12]/46,XY[8]" or "45,X,-Y": clones separated by '/', each made of
+ * a chromosome number, the sex chromosomes, whole-chromosome gains and losses and a cell number.
+ *
+ * getRowClones builds the same clones and events KaryotypeLoader builds from the ANTLR parse tree
+ * of such a karyotype, without lexing or parsing it. It returns null for anything else, which must
+ * go through the ANTLR pipeline: modal numbers, ranges, '?', lower case, "cp", idem/sl/sdl,
+ * structural aberrations, and anything the grammar reports as an error, such as a missing comma
+ * or a multiplied whole chromosome ("+8x2").
+ *
+ * TestSimpleKaryotypeRecognizer checks that both paths give the same FinalResult.
+ *
+ * @author ilariamt
+ * Date: October 16, 2026
+ */
+public class SimpleKaryotypeRecognizer {
+
+	private static final int MAX_CHR_NUM_DIGITS = 3;
+	private static final int MAX_CELL_NUM_DIGITS = 4;
+
+	private static volatile boolean enabled = true;
+
+	public static void setEnabled(boolean enabled) {
+		SimpleKaryotypeRecognizer.enabled = enabled;
+	}
+
+	public static boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Returns the clones of a simple karyotype without whitespace, or null if the karyotype is not
+	 * simple or the recognizer is disabled.
+	 */
+	public static List<Clone> getRowClones(String input) {
+		if (!enabled) {
+			return null;
+		}
+		List<Clone> rowClones = new ArrayList<>();
+		int begin = 0;
+		while (true) {
+			int end = input.indexOf('/', begin);
+			if (end == -1) {
+				end = input.length();
+			}
+			Clone clone = getClone(input, begin, end);
+			if (clone == null) {
+				return null;
+			}
+			rowClones.add(clone);
+			if (end == input.length()) {
+				return rowClones;
+			}
+			begin = end + 1;
+		}
+	}
+
+	// A clone is chrNum ',' sexChr (',' ('+' | '-') chr)* ('[' integer ']')?
+	private static Clone getClone(String input, int begin, int end) {
+		int i = skipDigits(input, begin, end, MAX_CHR_NUM_DIGITS);
+		if (i == -1 || i == end || input.charAt(i) != ',') {
+			return null;
+		}
+		int sexChrBegin = ++i;
+		while (i < end && isSexChr(input.charAt(i))) {
+			i++;
+		}
+		if (i == sexChrBegin) {
+			return null;
+		}
+		Clone clone = new Clone();
+		while (i < end && input.charAt(i) == ',') {
+			int eventBegin = ++i;
+			if (i == end || (input.charAt(i) != '+' && input.charAt(i) != '-')) {
+				return null;
+			}
+			int chrBegin = ++i;
+			i = skipChr(input, i, end);
+			if (i == -1) {
+				return null;
+			}
+			// Same event as KaryotypeLoader.exitGainLossChrEvent
+			Event e = new Event();
+			String chr = input.substring(chrBegin, i);
+			if (input.charAt(eventBegin) == '+') {
+				e.getGainChrs().add(chr);
+			} else {
+				e.getLossChrs().add(chr);
+			}
+			e.setEventCode(input.substring(eventBegin, i));
+			clone.getCloneInput().add(e);
+		}
+		if (i < end && input.charAt(i) == '[') {
+			int cellNumBegin = ++i;
+			i = skipDigits(input, i, end, MAX_CELL_NUM_DIGITS);
+			if (i == -1 || i == end || input.charAt(i) != ']') {
+				return null;
+			}
+			clone.setCellNumber(Integer.parseInt(input.substring(cellNumBegin, i)));
+			i++;
+		}
+		if (i != end) {
+			return null;
+		}
+		clone.setCloneCode(input.substring(begin, end));
+		return clone;
+	}
+
+	// Returns the index after 1 to maxDigits digits, or -1
+	private static int skipDigits(String input, int begin, int end, int maxDigits) {
+		int i = begin;
+		while (i < end && isDigit(input.charAt(i))) {
+			i++;
+		}
+		return i == begin || i - begin > maxDigits ? -1 : i;
+	}
+
+	// Returns the index after a chromosome 1-99, X or Y followed by ',', '[' or the end of the clone, or -1
+	private static int skipChr(String input, int begin, int end) {
+		int i = begin;
+		if (i < end && isSexChr(input.charAt(i))) {
+			i++;
+		} else if (i < end && input.charAt(i) >= '1' && input.charAt(i) <= '9') {
+			i++;
+			if (i < end && isDigit(input.charAt(i))) {
+				i++;
+			}
+		} else {
+			return -1;
+		}
+		if (i < end && input.charAt(i) != ',' && input.charAt(i) != '[') {
+			return -1;
+		}
+		return i;
+	}
+
+	private static boolean isDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+
+	private static boolean isSexChr(char c) {
+		return c == 'X' || c == 'Y';
+	}
+
+}
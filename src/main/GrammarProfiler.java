@@ -0,0 +1,252 @@
+package main;
+
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.antlr.v4.runtime.BaseErrorListener;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.Recognizer;
+import org.antlr.v4.runtime.atn.DecisionInfo;
+
+import compiler.KaryotypeDiagnosticLexer;
+import compiler.KaryotypeDiagnosticParser;
+import compiler.KaryotypeLexer;
+import compiler.KaryotypeParser;
+import toolkit.NormalizedKaryotype;
+
+/**
+ * Profiles the decisions of the grammar on a corpus of karyotypes, one per line, with the profiling
+ * ATN simulator of ANTLR, to show which decisions make karyotypes slow to parse.
+ *
+ * For each decision, and summed for each rule, it reports the number of predictions, the time spent
+ * in them, the SLL and LL lookahead depths, the fallbacks from SLL to full LL prediction and the
+ * ambiguities found. For the most expensive decisions, it lists the karyotypes that spent the most
+ * time in them, and it lists the karyotypes that spent the most time in prediction overall.
+ *
+ * The karyotypes are parsed the way KaryotypeRowParser parses them, normalized and with full LL
+ * prediction, once each and in the order of the file: the first ones also fill the DFA cache, as in
+ * a batch run. The strict grammar is profiled by default, the diagnostic grammar with "diagnostic".
+ *
+ * Usage: java main.GrammarProfiler <karyotype file> [number of decisions and karyotypes listed] [diagnostic]
+ *
+ * @author ilariamt
+ * Date: October 16, 2026
+ */
+public class GrammarProfiler {
+
+	private static final int DEFAULT_LISTED_COUNT = 20;
+	private static final int KARYOTYPES_PER_DECISION = 3;
+
+	private final Lexer lexer;
+	private final Parser parser;
+	private final boolean diagnostic;
+	private final int decisionCount;
+	// Time each karyotype spent in prediction, and the karyotypes that spent the most time in each decision
+	private final List<KaryotypeCost> karyotypeCosts = new ArrayList<>();
+	private final List<List<KaryotypeCost>> decisionKaryotypeCosts = new ArrayList<>();
+	private boolean rejected;
+	private int rejectedCount = 0;
+
+	public GrammarProfiler(boolean diagnostic) {
+		this.diagnostic = diagnostic;
+		if (diagnostic) {
+			lexer = new KaryotypeDiagnosticLexer(null);
+			parser = new KaryotypeDiagnosticParser(null);
+		} else {
+			lexer = new KaryotypeLexer(null);
+			parser = new KaryotypeParser(null);
+		}
+		lexer.removeErrorListeners();
+		parser.removeErrorListeners();
+		parser.addErrorListener(new BaseErrorListener() {
+			@Override
+			public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line, int charPositionInLine, String msg, RecognitionException e) {
+				rejected = true;
+			}
+		});
+		parser.setProfile(true);
+		decisionCount = parser.getATN().getNumberOfDecisions();
+		for (int i = 0; i < decisionCount; i++) {
+			decisionKaryotypeCosts.add(new ArrayList<>());
+		}
+	}
+
+	public void profile(String karyotype) {
+		String input = NormalizedKaryotype.normalize(karyotype);
+		long[] timeBefore = getTimeInPrediction();
+		lexer.setInputStream(CharStreams.fromString(input));
+		parser.setTokenStream(new CommonTokenStream(lexer));
+		rejected = false;
+		if (diagnostic) {
+			((KaryotypeDiagnosticParser) parser).row();
+		} else {
+			((KaryotypeParser) parser).row();
+		}
+		if (rejected) {
+			rejectedCount++;
+		}
+		long[] timeAfter = getTimeInPrediction();
+		long total = 0;
+		for (int i = 0; i < decisionCount; i++) {
+			long time = timeAfter[i] - timeBefore[i];
+			if (time > 0) {
+				total += time;
+				addKaryotypeCost(decisionKaryotypeCosts.get(i), new KaryotypeCost(input, time, i), KARYOTYPES_PER_DECISION);
+			}
+		}
+		karyotypeCosts.add(new KaryotypeCost(input, total, getMostExpensiveDecision(timeBefore, timeAfter)));
+	}
+
+	private long[] getTimeInPrediction() {
+		DecisionInfo[] decisionInfos = parser.getParseInfo().getDecisionInfo();
+		long[] time = new long[decisionCount];
+		for (int i = 0; i < decisionCount; i++) {
+			time[i] = decisionInfos[i].timeInPrediction;
+		}
+		return time;
+	}
+
+	private int getMostExpensiveDecision(long[] timeBefore, long[] timeAfter) {
+		int decision = -1;
+		long maxTime = 0;
+		for (int i = 0; i < decisionCount; i++) {
+			if (timeAfter[i] - timeBefore[i] > maxTime) {
+				maxTime = timeAfter[i] - timeBefore[i];
+				decision = i;
+			}
+		}
+		return decision;
+	}
+
+	// Keeps the costs sorted from the most expensive, and at most maxCount of them
+	private static void addKaryotypeCost(List<KaryotypeCost> costs, KaryotypeCost cost, int maxCount) {
+		if (costs.size() == maxCount && costs.get(maxCount - 1).time >= cost.time) {
+			return;
+		}
+		int i = costs.size();
+		while (i > 0 && costs.get(i - 1).time < cost.time) {
+			i--;
+		}
+		costs.add(i, cost);
+		if (costs.size() > maxCount) {
+			costs.remove(maxCount);
+		}
+	}
+
+	private String getRuleName(int decision) {
+		return parser.getRuleNames()[parser.getATN().getDecisionState(decision).ruleIndex];
+	}
+
+	public String getReport(int listedCount) {
+		DecisionInfo[] decisionInfos = parser.getParseInfo().getDecisionInfo();
+		StringBuilder sb = new StringBuilder();
+		long totalTime = 0;
+		long totalInvocations = 0;
+		for (DecisionInfo decisionInfo : decisionInfos) {
+			totalTime += decisionInfo.timeInPrediction;
+			totalInvocations += decisionInfo.invocations;
+		}
+		sb.append(String.format("Grammar: %s, karyotypes: %d, rejected: %d, decisions: %d, predictions: %d, time in prediction: %.1f ms%n",
+				diagnostic ? "KaryotypeDiagnostic" : "Karyotype", karyotypeCosts.size(), rejectedCount, decisionCount, totalInvocations, totalTime / 1e6));
+
+		List<DecisionInfo> decisions = new ArrayList<>();
+		for (DecisionInfo decisionInfo : decisionInfos) {
+			if (decisionInfo.invocations > 0) {
+				decisions.add(decisionInfo);
+			}
+		}
+		decisions.sort(Comparator.comparingLong((DecisionInfo d) -> d.timeInPrediction).reversed());
+		sb.append(String.format("%nDecisions by time in prediction (%d of %d used)%n", Math.min(listedCount, decisions.size()), decisions.size()));
+		sb.append(String.format("%8s  %-28s %10s %10s %8s %8s %8s %8s %8s %8s%n",
+				"decision", "rule", "time (ms)", "calls", "SLL avg", "SLL max", "LL calls", "LL avg", "LL max", "ambig"));
+		for (DecisionInfo d : decisions.subList(0, Math.min(listedCount, decisions.size()))) {
+			sb.append(String.format("%8d  %-28s %10.2f %10d %8.2f %8d %8d %8.2f %8d %8d%n",
+					d.decision, getRuleName(d.decision), d.timeInPrediction / 1e6, d.invocations,
+					(double) d.SLL_TotalLook / d.invocations, d.SLL_MaxLook, d.LL_Fallback,
+					d.LL_Fallback == 0 ? 0 : (double) d.LL_TotalLook / d.LL_Fallback, d.LL_MaxLook, d.ambiguities.size()));
+		}
+
+		Map<String, long[]> rules = new LinkedHashMap<>();
+		for (DecisionInfo d : decisions) {
+			long[] rule = rules.computeIfAbsent(getRuleName(d.decision), r -> new long[5]);
+			rule[0] += d.timeInPrediction;
+			rule[1] += d.invocations;
+			rule[2] += d.LL_Fallback;
+			rule[3] += d.ambiguities.size();
+			rule[4]++;
+		}
+		List<Map.Entry<String, long[]>> ruleEntries = new ArrayList<>(rules.entrySet());
+		ruleEntries.sort(Comparator.comparingLong((Map.Entry<String, long[]> e) -> e.getValue()[0]).reversed());
+		sb.append(String.format("%nRules by time in prediction (%d of %d)%n", Math.min(listedCount, ruleEntries.size()), ruleEntries.size()));
+		sb.append(String.format("%-28s %10s %10s %8s %8s %9s%n", "rule", "time (ms)", "calls", "LL calls", "ambig", "decisions"));
+		for (Map.Entry<String, long[]> e : ruleEntries.subList(0, Math.min(listedCount, ruleEntries.size()))) {
+			long[] rule = e.getValue();
+			sb.append(String.format("%-28s %10.2f %10d %8d %8d %9d%n", e.getKey(), rule[0] / 1e6, rule[1], rule[2], rule[3], rule[4]));
+		}
+
+		sb.append(String.format("%nKaryotypes that spent the most time in the %d most expensive decisions%n", Math.min(listedCount, decisions.size())));
+		for (DecisionInfo d : decisions.subList(0, Math.min(listedCount, decisions.size()))) {
+			sb.append(String.format("decision %d (%s)%n", d.decision, getRuleName(d.decision)));
+			for (KaryotypeCost cost : decisionKaryotypeCosts.get(d.decision)) {
+				sb.append(String.format("  %10.2f ms  %s%n", cost.time / 1e6, cost.karyotype));
+			}
+		}
+
+		List<KaryotypeCost> slowest = new ArrayList<>();
+		for (KaryotypeCost cost : karyotypeCosts) {
+			addKaryotypeCost(slowest, cost, listedCount);
+		}
+		sb.append(String.format("%nKaryotypes by time in prediction, with their most expensive decision%n"));
+		for (KaryotypeCost cost : slowest) {
+			sb.append(String.format("  %10.2f ms  %-22s  %s%n", cost.time / 1e6,
+					cost.decision == -1 ? "-" : cost.decision + " (" + getRuleName(cost.decision) + ")", cost.karyotype));
+		}
+		return sb.toString();
+	}
+
+	private static class KaryotypeCost {
+
+		private final String karyotype;
+		private final long time;
+		private final int decision;
+
+		KaryotypeCost(String karyotype, long time, int decision) {
+			this.karyotype = karyotype;
+			this.time = time;
+			this.decision = decision;
+		}
+
+	}
+
+	public static void main(String[] args) {
+		if (args.length < 1 || args.length > 3) {
+			System.out.println("ERROR: Please provide a file of karyotypes, one per line, optionally followed by the number of decisions and karyotypes listed, and \"diagnostic\" to profile the diagnostic grammar.");
+			System.out.println("Example:");
+			System.out.println("  java -cp cytogps.jar main.GrammarProfiler /path/to/data/cytogps_input.txt");
+			System.out.println("  java -cp cytogps.jar main.GrammarProfiler /path/to/data/cytogps_input.txt 30 diagnostic");
+			System.exit(1);
+		}
+		try {
+			int listedCount = args.length >= 2 ? Integer.parseInt(args[1]) : DEFAULT_LISTED_COUNT;
+			GrammarProfiler profiler = new GrammarProfiler(args.length == 3 && args[2].equals("diagnostic"));
+			for (String karyotype : Files.readAllLines(Paths.get(args[0]))) {
+				if (karyotype.trim().length() > 0) {
+					profiler.profile(karyotype);
+				}
+			}
+			System.out.print(profiler.getReport(listedCount));
+		} catch (Exception e) {
+			e.printStackTrace();
+		}
+	}
+
+}
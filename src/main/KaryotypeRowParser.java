@@ -0,0 +1,316 @@
+package main;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.antlr.v4.runtime.ANTLRErrorListener;
+import org.antlr.v4.runtime.BaseErrorListener;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.Recognizer;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.antlr.v4.runtime.tree.ErrorNode;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.ParseTreeListener;
+import org.antlr.v4.runtime.tree.ParseTreeWalker;
+import org.antlr.v4.runtime.tree.TerminalNode;
+
+import compiler.KaryotypeDiagnosticLexer;
+import compiler.KaryotypeDiagnosticParser;
+import compiler.KaryotypeLexer;
+import compiler.KaryotypeLoader;
+import compiler.KaryotypeParser;
+
+/**
+ * Parses the row of a karyotype, bailing out on the first lexer or parser error through the
+ * ThrowingErrorListener, so parseRow throws a ParseCancellationException on any error.
+ *
+ * By default rows are parsed with full LL prediction. With setSllFirst(true), rows are first parsed
+ * with SLL prediction, which is several times faster, and only parsed again from scratch with full LL
+ * if that fails. Where a row is ambiguous and LL needs full context, SLL picks the lowest alternative,
+ * which LL may not, so SLL-first may load a row differently. The error recovery alternatives that made
+ * the grammar ambiguous, such as tooManySlant and incorrectSlant, are only in the diagnostic grammar
+ * now, and both modes give the same results on the sample corpus, where the LL fallbacks are the rows
+ * with errors.
+ *
+ * A BailErrorStrategy is not used in the SLL stage: the ThrowingErrorListener already ends the parse
+ * on the first error reported, before the default strategy recovers from it.
+ *
+ * The counters tell how many rows each stage parsed and how often the LL fallback was needed.
+ *
+ * Each thread owns one lexer, token stream and parser, which every parse of that thread resets and
+ * reuses instead of allocating new ones; the DFA cache of the generated classes is already shared
+ * by all of them. The parser returned by getDiagnosticParser, and its token stream, are only valid
+ * until the next diagnosis of the same thread, so its parse tree must be walked before then.
+ *
+ * loadRow runs a KaryotypeLoader on a row. By default the loader is attached to the parser as a parse
+ * listener, so the clones are loaded while the row is parsed instead of by walking its parse tree
+ * afterwards. The contexts are still built, as the loader reads their children, but once a rule is
+ * loaded everything more than two levels below it is dropped, which is all the enclosing rules may
+ * still read: the row never holds its whole tree. checkRow builds no parse tree at all, for callers
+ * that only need to know whether a row parses.
+ *
+ * Rows are parsed with the strict grammar, Karyotype.g4, which has none of the error recovery
+ * alternatives: each of them was one more alternative for the prediction of every decision it is
+ * part of, for rows that almost never need it. The rows it rejects are diagnosed with the lenient
+ * grammar, KaryotypeDiagnostic.g4, whose parser getDiagnosticParser returns: it reports the errors
+ * to a ListErrorListener and builds the full tree the KaryotypeCleaner rewrites the tokens of. Each
+ * thread creates its diagnostic lexer and parser the first time it needs them.
+ *
+ * @author ilariamt
+ * Date: October 16, 2026
+ */
+public class KaryotypeRowParser {
+
+	private static volatile boolean sllFirst = false;
+	private static volatile boolean loadingWhileParsing = true;
+	private static final AtomicLong sllParseCount = new AtomicLong();
+	private static final AtomicLong llParseCount = new AtomicLong();
+	private static final AtomicLong llFallbackCount = new AtomicLong();
+	private static final ThreadLocal<KaryotypeRowParser> parseContext = ThreadLocal.withInitial(KaryotypeRowParser::new);
+
+	private final KaryotypeLexer lexer;
+	private final CommonTokenStream tokens;
+	private final KaryotypeParser parser;
+	private KaryotypeDiagnosticLexer diagnosticLexer;
+	private CommonTokenStream diagnosticTokens;
+	private KaryotypeDiagnosticParser diagnosticParser;
+
+	private KaryotypeRowParser() {
+		lexer = new KaryotypeLexer(null);
+		tokens = new CommonTokenStream(lexer);
+		parser = new KaryotypeParser(tokens);
+	}
+
+	public static void setSllFirst(boolean sllFirst) {
+		KaryotypeRowParser.sllFirst = sllFirst;
+	}
+
+	public static boolean isSllFirst() {
+		return sllFirst;
+	}
+
+	// When false, loadRow parses the row into a full parse tree and walks the loader over it afterwards
+	public static void setLoadingWhileParsing(boolean loadingWhileParsing) {
+		KaryotypeRowParser.loadingWhileParsing = loadingWhileParsing;
+	}
+
+	public static boolean isLoadingWhileParsing() {
+		return loadingWhileParsing;
+	}
+
+	public static ParseTree parseRow(String input) throws ParseCancellationException {
+		return parseRow(input, KaryotypeRowParser::buildTree);
+	}
+
+	/**
+	 * Returns the KaryotypeLoader that loaded the clones of the row, or throws a ParseCancellationException
+	 * on any lexer or parser error.
+	 */
+	public static KaryotypeLoader loadRow(String input) throws ParseCancellationException {
+		return parseRow(input, loadingWhileParsing ? KaryotypeRowParser::loadWhileParsing : KaryotypeRowParser::loadFromTree);
+	}
+
+	// Parses the row without building a parse tree, only throwing a ParseCancellationException on any error
+	public static void checkRow(String input) throws ParseCancellationException {
+		parseRow(input, KaryotypeRowParser::recognize);
+	}
+
+	private static <T> T parseRow(String input, RowParse<T> rowParse) throws ParseCancellationException {
+		if (sllFirst) {
+			try {
+				T result = rowParse.parse(parseContext.get(), input, PredictionMode.SLL);
+				sllParseCount.incrementAndGet();
+				return result;
+			} catch (ParseCancellationException e) {
+				llFallbackCount.incrementAndGet();
+			}
+		}
+		llParseCount.incrementAndGet();
+		return rowParse.parse(parseContext.get(), input, PredictionMode.LL);
+	}
+
+	private interface RowParse<T> {
+		T parse(KaryotypeRowParser context, String input, PredictionMode predictionMode);
+	}
+
+	private ParseTree buildTree(String input, PredictionMode predictionMode) {
+		KaryotypeParser parser = reset(input, ThrowingErrorListener.INSTANCE);
+		parser.getInterpreter().setPredictionMode(predictionMode);
+		return parser.row();
+	}
+
+	private KaryotypeLoader loadFromTree(String input, PredictionMode predictionMode) {
+		KaryotypeLoader loader = new KaryotypeLoader();
+		ParseTreeWalker.DEFAULT.walk(loader, buildTree(input, predictionMode));
+		return loader;
+	}
+
+	// A new loader for every attempt, as a failed SLL attempt leaves its loader with part of the row
+	private KaryotypeLoader loadWhileParsing(String input, PredictionMode predictionMode) {
+		KaryotypeLoader loader = new KaryotypeLoader();
+		LoadingListener loadingListener = new LoadingListener(loader);
+		KaryotypeParser parser = reset(input, loadingListener);
+		parser.getInterpreter().setPredictionMode(predictionMode);
+		parser.addParseListener(loadingListener);
+		parser.row();
+		return loader;
+	}
+
+	private Void recognize(String input, PredictionMode predictionMode) {
+		KaryotypeParser parser = reset(input, ThrowingErrorListener.INSTANCE);
+		parser.getInterpreter().setPredictionMode(predictionMode);
+		parser.setBuildParseTree(false);
+		parser.row();
+		return null;
+	}
+
+	/**
+	 * Returns the diagnostic parser of the current thread, reset to parse the input with full LL prediction
+	 * and reporting the lexer and parser errors to the errorListener only, or to no listener if it is null.
+	 */
+	public static KaryotypeDiagnosticParser getDiagnosticParser(String input, ANTLRErrorListener errorListener) {
+		KaryotypeRowParser context = parseContext.get();
+		if (context.diagnosticParser == null) {
+			context.diagnosticLexer = new KaryotypeDiagnosticLexer(null);
+			context.diagnosticTokens = new CommonTokenStream(context.diagnosticLexer);
+			context.diagnosticParser = new KaryotypeDiagnosticParser(context.diagnosticTokens);
+		}
+		reset(context.diagnosticLexer, context.diagnosticTokens, context.diagnosticParser, input, errorListener);
+		return context.diagnosticParser;
+	}
+
+	private KaryotypeParser reset(String input, ANTLRErrorListener errorListener) {
+		reset(lexer, tokens, parser, input, errorListener);
+		return parser;
+	}
+
+	private static void reset(Lexer lexer, CommonTokenStream tokens, Parser parser, String input, ANTLRErrorListener errorListener) {
+		lexer.setInputStream(CharStreams.fromString(input));
+		lexer.removeErrorListeners();
+		tokens.setTokenSource(lexer);
+		parser.setTokenStream(tokens);
+		parser.removeErrorListeners();
+		parser.removeParseListeners();
+		parser.setBuildParseTree(true);
+		parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+		if (errorListener != null) {
+			lexer.addErrorListener(errorListener);
+			parser.addErrorListener(errorListener);
+		}
+	}
+
+	/*
+	 * Forwards the parse events to a loader and trims the loaded contexts. It is also the error listener of
+	 * the parse, and throws like the ThrowingErrorListener: the rules are still exited while the exception
+	 * unwinds the parser, and those half-parsed rules must not reach the loader.
+	 */
+	private static class LoadingListener extends BaseErrorListener implements ParseTreeListener {
+
+		private final KaryotypeLoader loader;
+		private boolean failed = false;
+
+		LoadingListener(KaryotypeLoader loader) {
+			this.loader = loader;
+		}
+
+		@Override
+		public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line, int charPositionInLine, String msg, RecognitionException e)
+		  throws ParseCancellationException {
+			failed = true;
+			ThrowingErrorListener.INSTANCE.syntaxError(recognizer, offendingSymbol, line, charPositionInLine, msg, e);
+		}
+
+		@Override
+		public void enterEveryRule(ParserRuleContext ctx) {
+			if (!failed) {
+				try {
+					ctx.enterRule(loader);
+				} catch (RuntimeException e) {
+					failed = true;
+					throw e;
+				}
+			}
+		}
+
+		@Override
+		public void exitEveryRule(ParserRuleContext ctx) {
+			if (!failed) {
+				try {
+					ctx.exitRule(loader);
+				} catch (RuntimeException e) {
+					failed = true;
+					throw e;
+				}
+				trim(ctx);
+			}
+		}
+
+		@Override
+		public void visitTerminal(TerminalNode node) {
+			if (!failed) {
+				loader.visitTerminal(node);
+			}
+		}
+
+		@Override
+		public void visitErrorNode(ErrorNode node) {
+			if (!failed) {
+				loader.visitErrorNode(node);
+			}
+		}
+
+		// The exits of the enclosing rules read at most three levels down, e.g. ctx.suffix().multiplication().integer(),
+		// so the children of the grandchildren of a loaded rule are no longer needed
+		private static void trim(ParserRuleContext ctx) {
+			if (ctx.children == null) {
+				return;
+			}
+			for (ParseTree child : ctx.children) {
+				if (child instanceof ParserRuleContext && ((ParserRuleContext) child).children != null) {
+					for (ParseTree grandchild : ((ParserRuleContext) child).children) {
+						if (grandchild instanceof ParserRuleContext) {
+							((ParserRuleContext) grandchild).children = null;
+						}
+					}
+				}
+			}
+		}
+
+	}
+
+	// Rows parsed by the SLL stage
+	public static long getSllParseCount() {
+		return sllParseCount.get();
+	}
+
+	// Rows parsed with full LL, whether as fallbacks or because the SLL stage is off, successfully or not
+	public static long getLlParseCount() {
+		return llParseCount.get();
+	}
+
+	// Rows that failed the SLL stage and were parsed again with full LL
+	public static long getLlFallbackCount() {
+		return llFallbackCount.get();
+	}
+
+	// Sets the counters back to zero, e.g. after a warm-up, so they only count the rows of the run
+	public static void resetParseCounts() {
+		sllParseCount.set(0);
+		llParseCount.set(0);
+		llFallbackCount.set(0);
+	}
+
+	public static String getParseCountReport() {
+		long sllParses = getSllParseCount();
+		long llFallbacks = getLlFallbackCount();
+		long sllAttempts = sllParses + llFallbacks;
+		return String.format("SLL first: %b, rows parsed with SLL: %d, with LL: %d, LL fallbacks: %d (%.1f%% of SLL attempts)",
+				sllFirst, sllParses, getLlParseCount(), llFallbacks, sllAttempts == 0 ? 0 : llFallbacks * 100.0 / sllAttempts);
+	}
+
+}
@@ -2,23 +2,24 @@ package main;
 
 import java.util.List;
 
-import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.RuleContext;
 import org.antlr.v4.runtime.misc.ParseCancellationException;
-import org.antlr.v4.runtime.tree.ParseTree;
 import org.antlr.v4.runtime.tree.ParseTreeWalker;
 
 import business.BiologicalOutcome;
+import business.CanonicalKaryotype;
 import business.Clone;
 import business.DetailedFormulaParser;
 import business.FinalResult;
+import business.KaryotypeLGF;
 import business.ParseEvent;
 import compiler.KaryotypeCleaner;
-import compiler.KaryotypeLexer;
+import compiler.KaryotypeDiagnosticParser;
 import compiler.KaryotypeLoader;
-import compiler.KaryotypeParser;
-import validation.ValidationError;
+import compiler.SimpleKaryotypeRecognizer;
+import toolkit.NormalizedKaryotype;
+import validation.ValidationResult;
 import validation.Validator;
 
 /**
@@ -32,27 +33,41 @@ import validation.Validator;
  */
 public class KaryotypeRunner {
 
+	private static final java.util.regex.Pattern CELL_NUM_PATTERN = java.util.regex.Pattern.compile("\\[(\\d+)\\]");
+	private static final java.util.regex.Pattern TRAILING_CELL_NUM_PATTERN = java.util.regex.Pattern.compile("\\[(\\d+)\\]$");
+	private static volatile boolean validationStatusOnly = false;
+
+	// When true, invalid karyotypes are reported without validation messages, and their validation
+	// stops at the first invalid event
+	public static void setValidationStatusOnly(boolean validationStatusOnly) {
+		KaryotypeRunner.validationStatusOnly = validationStatusOnly;
+	}
+
+	public static boolean isValidationStatusOnly() {
+		return validationStatusOnly;
+	}
+
 	public static FinalResult getFinalResult(String input){
 		FinalResult finalResult = new FinalResult();
-		String inputNoSpace = input.replaceAll("\\s","");
+		NormalizedKaryotype normalizedInput = new NormalizedKaryotype(input);
+		String inputNoSpace = normalizedInput.getText();
 
-		// Strip leading/trailing quotes (common in database exports)
-		inputNoSpace = inputNoSpace.trim();
-		if (inputNoSpace.startsWith("\"") && inputNoSpace.endsWith("\"")) {
-			inputNoSpace = inputNoSpace.substring(1, inputNoSpace.length() - 1);
-		}
+		// Simple karyotypes (chromosome number, sex chromosomes, whole-chromosome gains and losses,
+		// cell numbers) are recognized without the checks and the ANTLR parsing below; null otherwise
+		List<Clone> rowClones = SimpleKaryotypeRecognizer.getRowClones(inputNoSpace);
 
 		// Check if this is a multi-clone karyotype (contains / separating clones)
-		// Multi-clone karyotypes MUST go through ANTLR to parse clone structure
-		boolean isMultiClone = inputNoSpace.contains("]/") || inputNoSpace.matches(".*\\]\\s*/\\s*\\d+.*");
+		// Simple multi-clone karyotypes such as 47,XY,+8[12]/46,XY[8] were recognized above; the others
+		// MUST go through ANTLR to parse clone structure
+		boolean isMultiClone = normalizedInput.isMultiClone();
 
 		// Check if detailed formula exists in the input
 		// All detailed formulas (single-clone, multi-clone, mixed, pure) go through
 		// standard ANTLR parsing — the grammar supports :: and -> notation natively.
 		// Pure detailed-only formulas (no standard events) use DetailedFormulaParser
 		// as a fallback since ANTLR may not handle them without a chromosome count.
-		if (DetailedFormulaParser.isDetailedFormula(inputNoSpace)) {
-			if (!isMixedFormat(inputNoSpace)) {
+		if (rowClones == null && normalizedInput.isDetailedFormula()) {
+			if (!normalizedInput.isMixedFormat()) {
 				// Pure detailed formula (no standard events): route to detailed parser only
 				DetailedFormulaParser detailedParser = new DetailedFormulaParser();
 				BiologicalOutcome b = detailedParser.parseDetailedFormula(inputNoSpace);
@@ -77,31 +92,24 @@ public class KaryotypeRunner {
 
 		// Preprocess to handle '?' symbols
 		// Detect if input contains '?' and strip it for parsing
-		boolean containsQuestionMark = inputNoSpace.contains("?");
+		boolean containsQuestionMark = normalizedInput.isContainingQuestionMark();
 		if (containsQuestionMark) {
-			inputNoSpace = inputNoSpace.replaceAll("\\?", "");
+			inputNoSpace = inputNoSpace.replace("?", "");
 			// Note: This loses information about WHERE the '?' was located --> so if there was a cytoband after '?' it is taken as certain, but if not, it is treates as uncertain
 		}
 		// Continues with normal ANTLR parsing:
 		try {
-			KaryotypeLexer lexer = new KaryotypeLexer(CharStreams.fromString(inputNoSpace));
-			lexer.removeErrorListeners();
-			lexer.addErrorListener(ThrowingErrorListener.INSTANCE);
-			CommonTokenStream tokens = new CommonTokenStream(lexer);
-			KaryotypeParser parser = new KaryotypeParser(tokens);
-			parser.removeErrorListeners();
-			parser.addErrorListener(ThrowingErrorListener.INSTANCE);
-			ParseTree tree = parser.row();
-			ParseTreeWalker walker = new ParseTreeWalker();
-			KaryotypeLoader loader = new KaryotypeLoader();
-			walker.walk(loader, tree);
+			List<String> multiCloneErrorMsgList = new java.util.ArrayList<>();
+			if (rowClones == null) {
+				KaryotypeLoader loader = KaryotypeRowParser.loadRow(inputNoSpace);
+				multiCloneErrorMsgList = loader.getErrorMsgList();
+				rowClones = loader.getRowClones();
+			}
 			
-			List<String> multiCloneErrorMsgList = loader.getErrorMsgList();
 			if (multiCloneErrorMsgList.size() > 0) {
 				finalResult.setContainingValidationError(true);
 				finalResult.setValidationMessage(multiCloneErrorMsgList);
 			} else {
-				List<Clone> rowClones = loader.getRowClones();
 				if (rowClones.isEmpty()) {
 					finalResult.setContainingValidationError(true);
 					java.util.List<String> msgs = new java.util.ArrayList<>();
@@ -109,10 +117,14 @@ public class KaryotypeRunner {
 					finalResult.setValidationMessage(msgs);
 				} else {
 				finalResult.setCloneCodeList(finalResult.getCloneCodeList(rowClones));
-				new ParseEvent().processMissingBreakpoints(rowClones);
-				if (Validator.isValidRowClones(rowClones)) {
-					new ParseEvent().markUncertainDerEvent(rowClones);
-					for (BiologicalOutcome b: new ParseEvent().getMultipleCloneRowOutcome(rowClones)) {		
+				if (!containsQuestionMark) {
+					finalResult.setCanonicalKaryotype(CanonicalKaryotype.of(rowClones));
+				}
+				rowClones = new ParseEvent().processMissingBreakpoints(rowClones);
+				ValidationResult validationResult = Validator.validateRowClones(rowClones, !validationStatusOnly);
+				if (validationResult.isValid()) {
+					rowClones = new ParseEvent().markUncertainDerEvent(rowClones);
+					for (BiologicalOutcome b: new ParseEvent(validationResult.getDerivativeValidationOutcomes()).getMultipleCloneRowOutcome(rowClones)) {		
 						finalResult.getBiologicalOutcomeList().add(b);
 						finalResult.getBiologicalInterpretationList().add(BiologicalOutcome.getBiologicalInterpretation(b));
 					}
@@ -120,52 +132,34 @@ public class KaryotypeRunner {
 					finalResult.setRelationshipList(finalResult.getRelationshipList(rowClones));
 				} else {
 					finalResult.setContainingValidationError(true);
-					finalResult.setValidationMessage(ValidationError.getRowClonesError(rowClones));
+					finalResult.setValidationMessage(validationResult);
 				}
 				}
 			}
 
 		} catch (ParseCancellationException ex) {
 			// Check if this is multi-clone with detailed formulas (failed ANTLR parsing)
-			if (isMultiClone && DetailedFormulaParser.isDetailedFormula(inputNoSpace)) {
+			if (isMultiClone && NormalizedKaryotype.containsDetailedFormula(inputNoSpace)) {
 				// Try to parse multi-clone with detailed formulas by handling each clone separately
 				return parseMultiCloneWithDetailedFormulas(inputNoSpace, finalResult);
 			}
 			
 			finalResult.setContainingLexerParserError(true);
-			KaryotypeLexer lexer = new KaryotypeLexer(CharStreams.fromString(inputNoSpace));
+			// One diagnostic parse both collects the token errors and drives the cleaner's rewriter:
+			// the listener does not change the parse tree, so a second parse would build the same one
 			ListErrorListener listErrorListener = new ListErrorListener();
-			lexer.removeErrorListeners();
-			lexer.addErrorListener(listErrorListener);
-			CommonTokenStream tokens = new CommonTokenStream(lexer);
-			KaryotypeParser parser = new KaryotypeParser(tokens);
-			parser.removeErrorListeners();
-			parser.addErrorListener(listErrorListener);
-			parser.row();
+			KaryotypeDiagnosticParser parser = KaryotypeRowParser.getDiagnosticParser(inputNoSpace, listErrorListener);
+			RuleContext tree = parser.row();
 			
 			listErrorListener.getErrorList(inputNoSpace, listErrorListener.getErrorStrings())
 			                 .forEach(e-> finalResult.getTokenErrorList().add(e));
 				
-			KaryotypeLexer lexer1 = new KaryotypeLexer(CharStreams.fromString(inputNoSpace));
-			lexer1.removeErrorListeners();
-			CommonTokenStream tokens1 = new CommonTokenStream(lexer1);
-			KaryotypeParser parser1 = new KaryotypeParser(tokens1);
-			parser1.removeErrorListeners();
-			RuleContext tree1 = parser1.row();
-			ParseTreeWalker walker1 = new ParseTreeWalker();
-			KaryotypeCleaner cleaner = new KaryotypeCleaner(tokens1);
-			walker1.walk(cleaner, tree1);
+			KaryotypeCleaner cleaner = new KaryotypeCleaner((CommonTokenStream) parser.getTokenStream());
+			ParseTreeWalker.DEFAULT.walk(cleaner, tree);
 			String inputRevised = cleaner.getRewriter().getText();
 //			System.out.println(inputRevised);
 			try {
-				KaryotypeLexer lexer2 = new KaryotypeLexer(CharStreams.fromString(inputRevised));
-				lexer2.removeErrorListeners();
-				lexer2.addErrorListener(ThrowingErrorListener.INSTANCE);
-				CommonTokenStream tokens2 = new CommonTokenStream(lexer2);
-				KaryotypeParser parser2 = new KaryotypeParser(tokens2);
-				parser2.removeErrorListeners();
-				parser2.addErrorListener(ThrowingErrorListener.INSTANCE);
-				parser2.row();
+				KaryotypeRowParser.checkRow(inputRevised);
 //				String errorMessage = "Maybe you mean the following karyotype:\r\n" + inputRevised + "\r\n";	
 				finalResult.setRevisedKaryotype(inputRevised);
 //				finalResult.setErrorMessage(errorMessage); // I don't need this, as I have already created a list of TokenError
@@ -181,7 +175,7 @@ public class KaryotypeRunner {
 				&& finalResult.getBiologicalOutcomeList().isEmpty()) {
 			finalResult.setContainingValidationError(true);
 			java.util.List<String> msgs = new java.util.ArrayList<>();
-			msgs.add("Parsing produced no biological outcomes for karyotype: " + input.replaceAll("\\s",""));
+			msgs.add("Parsing produced no biological outcomes for karyotype: " + normalizedInput.getText());
 			finalResult.setValidationMessage(msgs);
 		}
 
@@ -189,30 +183,26 @@ public class KaryotypeRunner {
 	}
 
 	/**
-	 * Check if the input contains mixed format (both standard and detailed formulas)
-	 * Mixed format example: 46,XX,del(5)(q13q31),der(13)(13pter->13q10::15q10->15q21::13q14->13qter)
+	 * Normalize the raw input the way getFinalResult sees it: whitespace removed
+	 * and one pair of surrounding quotes (common in database exports) stripped.
+	 * Two inputs with the same normalized form produce the same FinalResult.
 	 */
-	private static boolean isMixedFormat(String input) {
-		// Check if there are both standard and detailed formulas in the input
-		// Standard events: del, dup, inv, t, add, der (without detailed notation), dic (without detailed notation), r, +, -
-		// Detailed events: der/dic/r with -> or :: in the notation part
-
-		// First, remove all detailed formulas from the input to avoid false positives
-		String inputWithoutDetailed = input.replaceAll("(?:der|dic|r)\\([^)]+\\)\\([^)]*(?:->|::)[^)]*\\)", "");
-
-		// Look for standard events in the remaining input
-		// Standard events: del(...), dup(...), inv(...), t(...), add(...), der(...), dic(...), r(...), i(...), +, -
-		String[] standardEvents = {"del\\(", "dup\\(", "inv\\(", "t\\(", "add\\(", "i\\(",
-		                            "idic\\(", "ins\\(", "trp\\(", "qdp\\(", 
-		                            "der\\(", "dic\\(", "r\\(", "\\+", "-"};
-
-		for (String event : standardEvents) {
-			if (inputWithoutDetailed.matches(".*" + event + ".*")) {
-				return true;
+	public static String normalizeInput(String input) {
+		return NormalizedKaryotype.normalize(input);
+	}
+
+	/**
+	 * Parse the revised karyotype of a result containing a fixable grammar error.
+	 * Returns null if the result has no lexer/parser error or no revised karyotype.
+	 */
+	public static FinalResult getRevisedFinalResult(FinalResult finalResult) {
+		if (finalResult.isContainingLexerParserError()) {
+			String revisedKaryotype = finalResult.getRevisedKaryotype();
+			if (!revisedKaryotype.isEmpty()) {
+				return getFinalResult(revisedKaryotype);
 			}
 		}
-
-		return false;
+		return null;
 	}
 
 	/**
@@ -229,7 +219,7 @@ public class KaryotypeRunner {
 		boolean isMultiClone = input.contains("]/");
 
 		// Step 1: Extract detailed formulas using balanced parenthesis parsing
-		java.util.List<String> detailedFormulas = extractDetailedFormulas(input);
+		java.util.List<String> detailedFormulas = NormalizedKaryotype.extractDetailedFormulas(input);
 
 		// Step 1b: Remove detailed formulas from input to get standard-only input
 		String standardInput = input;
@@ -254,8 +244,7 @@ public class KaryotypeRunner {
 				if (i < cloneSections.length - 1) {
 					// Not the last clone - add back the ][count] part
 					// Extract the count (e.g., "[8]" becomes "8")
-					java.util.regex.Pattern countPattern = java.util.regex.Pattern.compile("\\[(\\d+)\\]$");
-					java.util.regex.Matcher matcher = countPattern.matcher(clone);
+					java.util.regex.Matcher matcher = TRAILING_CELL_NUM_PATTERN.matcher(clone);
 					if (matcher.find()) {
 						clone = matcher.replaceAll(""); // Remove the count
 					}
@@ -281,21 +270,11 @@ public class KaryotypeRunner {
 			}
 
 			try {
-				KaryotypeLexer lexer = new KaryotypeLexer(CharStreams.fromString(processedStandardInput));
-				lexer.removeErrorListeners();
-				lexer.addErrorListener(ThrowingErrorListener.INSTANCE);
-				CommonTokenStream tokens = new CommonTokenStream(lexer);
-				KaryotypeParser parser = new KaryotypeParser(tokens);
-				parser.removeErrorListeners();
-				parser.addErrorListener(ThrowingErrorListener.INSTANCE);
-				ParseTree tree = parser.row();
-				ParseTreeWalker walker = new ParseTreeWalker();
-				KaryotypeLoader loader = new KaryotypeLoader();
-				walker.walk(loader, tree);
+				KaryotypeLoader loader = KaryotypeRowParser.loadRow(processedStandardInput);
 
 				rowClones = loader.getRowClones();
-				new ParseEvent().processMissingBreakpoints(rowClones);
-				new ParseEvent().markUncertainDerEvent(rowClones);
+				rowClones = new ParseEvent().processMissingBreakpoints(rowClones);
+				rowClones = new ParseEvent().markUncertainDerEvent(rowClones);
 
 				// Get outcomes for all clones in multi-clone case
 				List<BiologicalOutcome> outcomes = new ParseEvent().getMultipleCloneRowOutcome(rowClones);
@@ -369,20 +348,7 @@ public class KaryotypeRunner {
 		}
 
 		// Merge LGF vectors (element-wise addition)
-		java.util.List<java.util.List<Integer>> mergedLGF = new java.util.ArrayList<>();
-		java.util.List<java.util.List<Integer>> standardLGF = standard.getKaryotypeLGF();
-		java.util.List<java.util.List<Integer>> detailedLGF = detailed.getKaryotypeLGF();
-
-		// Merge loss, gain, and fusion vectors
-		for (int i = 0; i < 3; i++) {
-			java.util.List<Integer> mergedVector = new java.util.ArrayList<>();
-			for (int j = 0; j < standardLGF.get(i).size(); j++) {
-				int standardValue = standardLGF.get(i).get(j);
-				int detailedValue = detailedLGF.get(i).get(j);
-				mergedVector.add(standardValue + detailedValue);
-			}
-			mergedLGF.add(mergedVector);
-		}
+		KaryotypeLGF mergedLGF = KaryotypeLGF.sum(standard.getLGF(), detailed.getLGF());
 
 		// Merge uncertain events and detailed system lists
 		java.util.List<String> mergedUncertain = new java.util.ArrayList<>(standard.getUncertainEventsList());
@@ -394,78 +360,6 @@ public class KaryotypeRunner {
 		return new BiologicalOutcome(mergedLGF, mergedUncertain, mergedDetailed);
 	}
 
-	/**
-	 * Extract all detailed formulas from input string using balanced parenthesis parsing.
-	 * This correctly handles nested parentheses and multiple detailed formulas.
-	 * Only extracts formulas with -> or :: inside (actual detailed formulas).
-	 * 
-	 * Examples:
-	 * - "der(11)(11pter->11q11::22q11->22q13::11q22->11qter)" -> [der(11)(11pter->11q11::22q11->22q13::11q22->11qter)]
-	 * - "der(9)t(9;17)(q11;q34)" -> [] (NOT extracted - no -> or ::)
-	 */
-	private static java.util.List<String> extractDetailedFormulas(String input) {
-		java.util.List<String> detailedFormulas = new java.util.ArrayList<>();
-		
-		// Find all der/dic/r patterns with balanced parentheses
-		int i = 0;
-		while (i < input.length()) {
-			// Look for der, dic, or r at position i
-			// For der/dic, we need 4 chars: "der(" or "dic("
-			// For r, we need 2 chars: "r(" and must ensure r is not part of "der" or "dic"
-			
-			boolean foundDer = i <= input.length() - 4 && input.startsWith("der(", i);
-			boolean foundDic = i <= input.length() - 4 && input.startsWith("dic(", i);
-			boolean foundR = i <= input.length() - 2 && input.startsWith("r(", i) && 
-							 (i == 0 || input.charAt(i-1) == ','); // r must be after comma or at start
-			
-			if (foundDer || foundDic || foundR) {
-				// Find the start of the formula
-				int formulaStart = i;
-				
-				// Skip past "der(" or "dic(" or "r("
-				int j = i + (foundR ? 2 : 4);
-				
-				// Find matching ) for the first set of parentheses (base chromosome spec)
-				int parenCount = 1;
-				while (j < input.length() && parenCount > 0) {
-					if (input.charAt(j) == '(') parenCount++;
-					else if (input.charAt(j) == ')') parenCount--;
-					j++;
-				}
-				
-				// Now j is right after the first )
-				// Check if the next character is (
-				if (j < input.length() && input.charAt(j) == '(') {
-					// Find matching ) for the second set of parentheses (detailed formula)
-					int secondParenStart = j;
-					j++; // Skip the (
-					parenCount = 1;
-					while (j < input.length() && parenCount > 0) {
-						if (input.charAt(j) == '(') parenCount++;
-						else if (input.charAt(j) == ')') parenCount--;
-						j++;
-					}
-					
-					// Extract the complete formula
-					String formula = input.substring(formulaStart, j);
-					
-					// Only add if it contains -> or :: (actual detailed formula)
-					if (formula.contains("->") || formula.contains("::")) {
-						detailedFormulas.add(formula);
-					}
-					
-					i = j;
-				} else {
-					i++;
-				}
-			} else {
-				i++;
-			}
-		}
-		
-		return detailedFormulas;
-	}
-
 	/**
 	 * Parse multi-clone karyotype with detailed formulas by processing each clone separately
 	 */
@@ -487,8 +381,7 @@ public class KaryotypeRunner {
 				
 				// Extract cell count if present
 				int cellCount = 0;
-				java.util.regex.Pattern countPattern = java.util.regex.Pattern.compile("\\[(\\d+)\\]");
-				java.util.regex.Matcher matcher = countPattern.matcher(clonePart);
+				java.util.regex.Matcher matcher = CELL_NUM_PATTERN.matcher(clonePart);
 				if (matcher.find()) {
 					cellCount = Integer.parseInt(matcher.group(1));
 					// Remove the count from the clone part for parsing
@@ -3,9 +3,13 @@ package main;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
 
-import toolkit.AggregateCsvForBatchFile;
-import toolkit.AggregateJsonForBatchFile;
-import toolkit.SummaryStatisticsForBatchFile;
+import business.EventOutcomeCache;
+import toolkit.BatchFileProcessor;
+import toolkit.BatchPlan;
+import toolkit.BatchThroughputReport;
+import toolkit.FinalResultCache;
+import toolkit.ParserWarmUp;
+import toolkit.PersistentResultCache;
 
 
 /**
@@ -28,14 +32,18 @@ public class Run {
             System.out.println(LocalDateTime.now());
             System.out.println("Start");
             
-            // Check if a folder path argument is provided
-            if (args.length != 1) {
-            	System.out.println("ERROR: Please provide the folder path as the only argument.");
+            // Check if a folder path argument is provided, optionally followed by the number of worker threads
+            if (args.length < 1 || args.length > 2) {
+            	System.out.println("ERROR: Please provide the folder path as the first argument, optionally followed by the number of worker threads.");
             	System.out.println("Example:");
             	System.out.println("  java -jar karyotype.jar /path/to/data/");
+            	System.out.println("  java -jar karyotype.jar /path/to/data/ 8");
             	System.exit(1);
             }
             
+            // Default to one worker, as a single-threaded run did; more workers are asked for explicitly
+            int workerCount = args.length == 2 ? Integer.parseInt(args[1]) : 1;
+            
             // Get the base folder path from the command-line argument
             java.nio.file.Path basePath = Paths.get(args[0]);
             
@@ -45,9 +53,55 @@ public class Run {
             java.nio.file.Path outputCsv = basePath.resolve("cytogps_output.csv");
             java.nio.file.Path outputStats = basePath.resolve("cytogps_stats_output.csv");
             
-            AggregateJsonForBatchFile.generateJson(inputFile, outputJson);
-            AggregateCsvForBatchFile.generateAggregateLGF(inputFile, outputCsv);
-            SummaryStatisticsForBatchFile.writeSummaryStatistics(inputFile, outputStats);
+            // SLL-first parsing is faster but may parse an ambiguous row differently, so it is opt-in: -Dcytogps.sllFirst=true
+            KaryotypeRowParser.setSllFirst(Boolean.getBoolean("cytogps.sllFirst"));
+            // Rows are loaded while they are parsed; -Dcytogps.walkParseTree=true walks a full parse tree instead
+            KaryotypeRowParser.setLoadingWhileParsing(!Boolean.getBoolean("cytogps.walkParseTree"));
+            // Invalid karyotypes can be reported without validation messages, which is faster: -Dcytogps.validationStatusOnly=true
+            KaryotypeRunner.setValidationStatusOnly(Boolean.getBoolean("cytogps.validationStatusOnly"));
+            
+            // Optional cache of the results of repeated karyotypes: -Dcytogps.resultCacheSize=10000
+            FinalResultCache.setCapacity(Integer.getInteger("cytogps.resultCacheSize", 0));
+            // Optional file keeping the results from one run to the next: -Dcytogps.resultCacheFile=/path/to/cytogps_results.cache
+            // Results without validation messages are not kept for later runs
+            String resultCacheFile = KaryotypeRunner.isValidationStatusOnly() ? null : System.getProperty("cytogps.resultCacheFile");
+            // Closed however the run ends, which releases the lock on the file
+            try (PersistentResultCache persistentCache = resultCacheFile == null ? null : PersistentResultCache.open(Paths.get(resultCacheFile))) {
+                FinalResultCache.setPersistentCache(persistentCache);
+            
+                // Optional warm-up of the parsers within a time budget: -Dcytogps.warmUpMillis=5000
+                long warmUpMillis = Long.getLong("cytogps.warmUpMillis", 0);
+                if (warmUpMillis > 0) {
+                	System.out.println(ParserWarmUp.warmUp(warmUpMillis));
+                	KaryotypeRowParser.resetParseCounts();
+                }
+            
+                // Optional cache of the outcomes of the events repeated across karyotypes: -Dcytogps.eventOutcomeCacheSize=100000
+                // Turned on after the warm-up, so that its karyotypes neither count in the report nor take room in the cache
+                EventOutcomeCache.setCapacity(Integer.getInteger("cytogps.eventOutcomeCacheSize", 0));
+            
+                // Optional pre-pass parsing each distinct karyotype of the input file once: -Dcytogps.dedup=true
+                BatchPlan plan = Boolean.getBoolean("cytogps.dedup") ? BatchPlan.plan(inputFile) : null;
+            
+                // Parse each line once and feed the JSON, CSV and summary statistics outputs together
+                BatchThroughputReport throughputReport = BatchFileProcessor.processBatchFile(inputFile, outputJson, outputCsv, outputStats, workerCount, plan);
+                System.out.println(throughputReport);
+                if (plan != null) {
+                	System.out.println(plan);
+                }
+                System.out.println(KaryotypeRowParser.getParseCountReport());
+                if (FinalResultCache.getCapacity() > 0) {
+                	System.out.println(FinalResultCache.getReport());
+                }
+                if (EventOutcomeCache.isEnabled()) {
+                	System.out.println(EventOutcomeCache.getReport());
+                }
+                if (persistentCache != null) {
+                	System.out.println(persistentCache.getReport());
+                }
+            } finally {
+            	FinalResultCache.setPersistentCache(null);
+            }
             
             System.out.println(LocalDateTime.now());
             System.out.println("Complete");
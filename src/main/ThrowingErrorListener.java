@@ -20,7 +20,19 @@ public class ThrowingErrorListener extends BaseErrorListener {
 	@Override
 	public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line, int charPositionInLine, String msg, RecognitionException e)
 	  throws ParseCancellationException {		
-		throw new ParseCancellationException();
+		throw new StacklessParseCancellationException();
     }
+	
+	// Only used for control flow, so it skips filling in the stack trace, the costly part of a throw
+	private static class StacklessParseCancellationException extends ParseCancellationException {
+		
+		private static final long serialVersionUID = 1L;
+		
+		@Override
+		public synchronized Throwable fillInStackTrace() {
+			return this;
+		}
+		
+	}
 
 }
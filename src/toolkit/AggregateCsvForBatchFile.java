@@ -9,6 +9,7 @@ import java.util.List;
 
 import business.BiologicalOutcome;
 import business.FinalResult;
+import business.KaryotypeLGF;
 import main.KaryotypeRunner;
 
 /**
@@ -23,33 +24,13 @@ public class AggregateCsvForBatchFile {
 	
 	public static void generateAggregateLGF(Path fileReadPath, Path fileWritePath) throws Exception {
 		try (BufferedReader bufferedReader = new BufferedReader(new FileReader(fileReadPath.toFile())); BufferedWriter bufferedWriter = new BufferedWriter(new FileWriter(fileWritePath.toFile()))) {
-			bufferedWriter.write("Line_Number,Karyotype_Revised,Clone_Code");
-			for (String[] chrArm: ISCN2016.chrArmArrays) {
-				for (String chrBand: chrArm) {
-					bufferedWriter.write("," + chrBand + "_Loss");
-					bufferedWriter.write("," + chrBand + "_Gain");
-					bufferedWriter.write("," + chrBand + "_Fusion");
-				}				
-			}
-			bufferedWriter.write("\n");
+			writeHeader(bufferedWriter);
 			int lineNum = 1;
 			String line;			
 			while((line = bufferedReader.readLine()) != null) {
                 if (line.trim().length() > 0) {
                 	FinalResult finalResult = KaryotypeRunner.getFinalResult(line);
-                	if (finalResult.isContainingLexerParserError()) {
-                		String revisedKaryotype = finalResult.getRevisedKaryotype();
-                		if (!revisedKaryotype.isEmpty()) {
-                			FinalResult newFinalResult = KaryotypeRunner.getFinalResult(revisedKaryotype);
-                			if (!newFinalResult.isContainingValidationError()) {
-                				writeCloneLGF(bufferedWriter, lineNum, true, newFinalResult);
-                			}
-                		}
-                	} else if (finalResult.isContainingValidationError()) {
-                		
-                	} else {
-            			writeCloneLGF(bufferedWriter, lineNum, false, finalResult);
-            		}
+                	writeKaryotypeLGF(bufferedWriter, lineNum, finalResult, KaryotypeRunner.getRevisedFinalResult(finalResult));
                 }
                 lineNum++;
             }
@@ -58,6 +39,32 @@ public class AggregateCsvForBatchFile {
         }
 	}
 	
+	static void writeHeader(BufferedWriter bufferedWriter) throws Exception {
+		bufferedWriter.write("Line_Number,Karyotype_Revised,Clone_Code");
+		for (String[] chrArm: ISCN2016.chrArmArrays) {
+			for (String chrBand: chrArm) {
+				bufferedWriter.write("," + chrBand + "_Loss");
+				bufferedWriter.write("," + chrBand + "_Gain");
+				bufferedWriter.write("," + chrBand + "_Fusion");
+			}				
+		}
+		bufferedWriter.write("\n");
+	}
+	
+	/**
+	 * Write the clone rows of one karyotype line. newFinalResult is the result
+	 * of the revised karyotype, or null if there is none to parse.
+	 */
+	static void writeKaryotypeLGF(BufferedWriter bufferedWriter, int lineNum, FinalResult finalResult, FinalResult newFinalResult) throws Exception {
+    	if (finalResult.isContainingLexerParserError()) {
+    		if (newFinalResult != null && !newFinalResult.isContainingValidationError()) {
+    			writeCloneLGF(bufferedWriter, lineNum, true, newFinalResult);
+    		}
+    	} else if (!finalResult.isContainingValidationError()) {
+			writeCloneLGF(bufferedWriter, lineNum, false, finalResult);
+		}
+	}
+	
 	private static void writeCloneLGF(BufferedWriter bufferedWriter, int lineNum, boolean revisedKaryotype, FinalResult finalResult) throws Exception  {
 		try {
 			List<String> cloneCodeList = finalResult.getCloneCodeList();
@@ -68,11 +75,11 @@ public class AggregateCsvForBatchFile {
 				} else {
 					bufferedWriter.write(lineNum + "," + revisedKaryotype + "," + cloneCodeList.get(i));
 				}				
-				List<List<Integer>> cloneLGF = BiologicalOutcome.getAdjustedLGF(biologicalOutcomeList.get(i));
-				int chrBandsSize = cloneLGF.get(0).size();
+				KaryotypeLGF cloneLGF = BiologicalOutcome.getAdjustedKaryotypeLGF(biologicalOutcomeList.get(i));
+				int chrBandsSize = cloneLGF.size();
 				for (int k = 0; k < chrBandsSize; k++) {
 					for (int j = 0; j <= 2; j++) {
-						bufferedWriter.write("," + cloneLGF.get(j).get(k));
+						bufferedWriter.write("," + cloneLGF.get(j)[k]);
 					}
 				}
 				bufferedWriter.write("\n");
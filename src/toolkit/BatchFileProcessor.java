@@ -0,0 +1,152 @@
+package toolkit;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Single-pass batch engine: reads the input file once, parses every line once and feeds the
+ * same results to the JSON, aggregate CSV and summary statistics outputs.
+ *
+ * The output files are identical to those written by AggregateJsonForBatchFile.generateJson,
+ * AggregateCsvForBatchFile.generateAggregateLGF and SummaryStatisticsForBatchFile.writeSummaryStatistics.
+ *
+ * The JSON output is streamed, so memory use does not grow with the size of the input file.
+ * With more than one worker, lines are parsed concurrently but written in input line order,
+ * so the output does not depend on the worker count.
+ *
+ * With a BatchPlan, made by a pre-pass over the input file, each distinct karyotype is parsed once
+ * and its results are shared by all the lines that repeat it.
+ *
+ * @author ilariamt
+ * Date: October 16, 2026
+ */
+public class BatchFileProcessor {
+
+	// Number of lines each worker may be ahead of the writer
+	private static final int LINES_IN_FLIGHT_PER_WORKER = 16;
+	// Number of lines whose latency, the time until they are all written, is reported
+	private static final int FIRST_LINE_COUNT = 100;
+
+	public static BatchThroughputReport processBatchFile(Path fileReadPath, Path jsonWritePath, Path csvWritePath, Path summaryWritePath) throws Exception {
+		return processBatchFile(fileReadPath, jsonWritePath, csvWritePath, summaryWritePath, 1);
+	}
+
+	public static BatchThroughputReport processBatchFile(Path fileReadPath, Path jsonWritePath, Path csvWritePath, Path summaryWritePath, int workerCount) throws Exception {
+		return processBatchFile(fileReadPath, jsonWritePath, csvWritePath, summaryWritePath, workerCount, null);
+	}
+
+	// The plan may be null, to parse every line
+	public static BatchThroughputReport processBatchFile(Path fileReadPath, Path jsonWritePath, Path csvWritePath, Path summaryWritePath, int workerCount, BatchPlan plan) throws Exception {
+		if (workerCount < 1) {
+			throw new IllegalArgumentException("Worker count must be at least 1: " + workerCount);
+		}
+		long startTime = System.nanoTime();
+		AtomicLong busyNanos = new AtomicLong();
+		AtomicLong writerNanos = new AtomicLong();
+		AtomicLong firstLinesNanos = new AtomicLong(-1);
+		SummaryStatisticsForBatchFile summaryStatistics = new SummaryStatisticsForBatchFile();
+		ExecutorService executor = workerCount > 1 ? Executors.newFixedThreadPool(workerCount) : null;
+		int lineNum = 1;
+		try (BufferedReader bufferedReader = new BufferedReader(new FileReader(fileReadPath.toFile())); JsonStreamWriterForBatchFile jsonWriter = new JsonStreamWriterForBatchFile(jsonWritePath); BufferedWriter csvWriter = new BufferedWriter(new FileWriter(csvWritePath.toFile()))) {
+			AggregateCsvForBatchFile.writeHeader(csvWriter);
+			Deque<Future<BatchLineResult>> pendingLineResults = new ArrayDeque<>();
+			String line;
+			while ((line = bufferedReader.readLine()) != null) {
+				int currentLineNum = lineNum;
+				String currentLine = line;
+				if (executor == null) {
+					writeLineResult(getLineResult(currentLineNum, currentLine, plan, busyNanos), jsonWriter, csvWriter, summaryStatistics, writerNanos);
+					recordFirstLines(currentLineNum, startTime, firstLinesNanos);
+				} else {
+					pendingLineResults.add(executor.submit(() -> getLineResult(currentLineNum, currentLine, plan, busyNanos)));
+					if (pendingLineResults.size() >= workerCount * LINES_IN_FLIGHT_PER_WORKER) {
+						writePendingLineResult(pendingLineResults, jsonWriter, csvWriter, summaryStatistics, writerNanos, startTime, firstLinesNanos);
+					}
+				}
+				lineNum++;
+			}
+			while (!pendingLineResults.isEmpty()) {
+				writePendingLineResult(pendingLineResults, jsonWriter, csvWriter, summaryStatistics, writerNanos, startTime, firstLinesNanos);
+			}
+			jsonWriter.writeEnd();
+		} finally {
+			if (executor != null) {
+				executor.shutdownNow();
+			}
+		}
+		long writerStartTime = getBusyTime();
+		summaryStatistics.writeSummaryStatistics(summaryWritePath);
+		writerNanos.addAndGet(getBusyTime() - writerStartTime);
+		long elapsedNanos = System.nanoTime() - startTime;
+		int lineCount = lineNum - 1;
+		int firstLineCount = Math.min(lineCount, FIRST_LINE_COUNT);
+		return new BatchThroughputReport(lineCount, workerCount, elapsedNanos, busyNanos.get(), writerNanos.get(),
+				firstLineCount, firstLinesNanos.get() == -1 ? elapsedNanos : firstLinesNanos.get());
+	}
+
+	private static void writePendingLineResult(Deque<Future<BatchLineResult>> pendingLineResults, JsonStreamWriterForBatchFile jsonWriter, BufferedWriter csvWriter,
+			SummaryStatisticsForBatchFile summaryStatistics, AtomicLong writerNanos, long startTime, AtomicLong firstLinesNanos) throws Exception {
+		BatchLineResult lineResult = getDone(pendingLineResults.poll());
+		writeLineResult(lineResult, jsonWriter, csvWriter, summaryStatistics, writerNanos);
+		recordFirstLines(lineResult.getLineNum(), startTime, firstLinesNanos);
+	}
+
+	// Lines are written in input order, so the first lines are all written with the last of them
+	private static void recordFirstLines(int lineNum, long startTime, AtomicLong firstLinesNanos) {
+		if (lineNum == FIRST_LINE_COUNT) {
+			firstLinesNanos.set(System.nanoTime() - startTime);
+		}
+	}
+
+	private static BatchLineResult getLineResult(int lineNum, String line, BatchPlan plan, AtomicLong busyNanos) {
+		long startTime = getBusyTime();
+		BatchLineResult lineResult = plan == null ? new BatchLineResult(lineNum, line) : new BatchLineResult(lineNum, line, plan::getResults);
+		busyNanos.addAndGet(getBusyTime() - startTime);
+		return lineResult;
+	}
+	
+	// CPU time of the current thread, so that workers waiting for a core are not counted as busy
+	private static long getBusyTime() {
+		ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+		if (threadMXBean.isCurrentThreadCpuTimeSupported()) {
+			return threadMXBean.getCurrentThreadCpuTime();
+		}
+		return System.nanoTime();
+	}
+
+	private static BatchLineResult getDone(Future<BatchLineResult> pendingLineResult) throws Exception {
+		try {
+			return pendingLineResult.get();
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof Exception) {
+				throw (Exception) e.getCause();
+			}
+			throw e;
+		}
+	}
+
+	// Runs on the writer thread, whose CPU time is counted apart from that of the workers
+	private static void writeLineResult(BatchLineResult lineResult, JsonStreamWriterForBatchFile jsonWriter, BufferedWriter csvWriter, SummaryStatisticsForBatchFile summaryStatistics,
+			AtomicLong writerNanos) throws Exception {
+		long startTime = getBusyTime();
+		jsonWriter.write(AggregateJsonForBatchFile.getCytogpsOutputBuilder(lineResult.getKaryotype(), lineResult.getFinalResult(), lineResult.getNewFinalResult()));
+		if (lineResult.hasLineFinalResult()) {
+			AggregateCsvForBatchFile.writeKaryotypeLGF(csvWriter, lineResult.getLineNum(), lineResult.getLineFinalResult(), lineResult.getLineNewFinalResult());
+			summaryStatistics.updateChrLGFOccurrenceCountMap(lineResult.getLineFinalResult(), lineResult.getLineNewFinalResult());
+		}
+		writerNanos.addAndGet(getBusyTime() - startTime);
+	}
+
+}
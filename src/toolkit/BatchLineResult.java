@@ -0,0 +1,112 @@
+package toolkit;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import business.FinalResult;
+import main.KaryotypeRunner;
+
+/**
+ * Results of one line of a batch input file, shared by the JSON, CSV and summary statistics writers.
+ *
+ * The JSON output reports the karyotype with its surrounding quotes stripped, while the CSV and
+ * summary statistics outputs parse the raw line and skip blank lines. Both usually normalize to the
+ * same string, in which case the line is only parsed once. Both go through the FinalResultCache,
+ * which parses each distinct karyotype once across the whole file when it is on.
+ *
+ * @author ilariamt
+ * Date: October 16, 2026
+ */
+public class BatchLineResult {
+
+	private int lineNum;
+	private String karyotype;
+	private FinalResult finalResult;
+	private FinalResult newFinalResult;
+	private FinalResult lineFinalResult;
+	private FinalResult lineNewFinalResult;
+
+	public BatchLineResult(int lineNum, String line) {
+		this(lineNum, line, FinalResultCache::getResults);
+	}
+
+	/**
+	 * Gets the results of the karyotypes of the line, as given by getParsedKaryotypes, from the
+	 * resultSource, such as a BatchPlan.
+	 */
+	public BatchLineResult(int lineNum, String line, Function<String, FinalResultCache.CachedResults> resultSource) {
+		this.lineNum = lineNum;
+		karyotype = stripQuotes(line);
+		FinalResultCache.CachedResults results = resultSource.apply(karyotype);
+		finalResult = results.getFinalResult();
+		newFinalResult = results.getRevisedFinalResult();
+		if (line.trim().length() > 0) {
+			if (isParsedOnce(karyotype, line)) {
+				lineFinalResult = finalResult;
+				lineNewFinalResult = newFinalResult;
+			} else {
+				FinalResultCache.CachedResults lineResults = resultSource.apply(line);
+				lineFinalResult = lineResults.getFinalResult();
+				lineNewFinalResult = lineResults.getRevisedFinalResult();
+			}
+		}
+	}
+
+	/**
+	 * Returns the karyotypes parsed for the line: the karyotype with its quotes stripped, then the raw
+	 * line if it is not blank and does not normalize to the same string.
+	 */
+	public static List<String> getParsedKaryotypes(String line) {
+		String karyotype = stripQuotes(line);
+		if (line.trim().length() > 0 && !isParsedOnce(karyotype, line)) {
+			return Arrays.asList(karyotype, line);
+		}
+		return Collections.singletonList(karyotype);
+	}
+
+	// Strip surrounding quotes if present (from CSV output)
+	private static String stripQuotes(String line) {
+		if (line.startsWith("\"") && line.endsWith("\"")) {
+			return line.substring(1, line.length() - 1);
+		}
+		return line;
+	}
+
+	private static boolean isParsedOnce(String karyotype, String line) {
+		return karyotype.equals(line) || KaryotypeRunner.normalizeInput(karyotype).equals(KaryotypeRunner.normalizeInput(line));
+	}
+
+	public int getLineNum() {
+		return lineNum;
+	}
+
+	public String getKaryotype() {
+		return karyotype;
+	}
+
+	public FinalResult getFinalResult() {
+		return finalResult;
+	}
+
+	public FinalResult getNewFinalResult() {
+		return newFinalResult;
+	}
+
+	/**
+	 * Returns false for blank lines, which the CSV and summary statistics outputs skip.
+	 */
+	public boolean hasLineFinalResult() {
+		return lineFinalResult != null;
+	}
+
+	public FinalResult getLineFinalResult() {
+		return lineFinalResult;
+	}
+
+	public FinalResult getLineNewFinalResult() {
+		return lineNewFinalResult;
+	}
+
+}
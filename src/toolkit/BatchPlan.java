@@ -0,0 +1,150 @@
+package toolkit;
+
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import main.KaryotypeRunner;
+
+/**
+ * Plan of a batch run that parses each distinct karyotype of the input file once, however many
+ * lines repeat it and however large the file is.
+ *
+ * A pre-pass reads the input file and counts, for each normalized karyotype, how many times the
+ * lines parse it. During the run, the BatchLineResults get their results from the plan: the first
+ * line to need a karyotype parses it, the next ones wait for and share its results, and the results
+ * are dropped once the last line needing them has them, so the plan only keeps the results still
+ * to be shared. The results are made unmodifiable, as they are shared between lines.
+ *
+ * The duplication ratio is the number of karyotypes parsed without the plan divided by the number
+ * of distinct karyotypes, the number parsed with it. The plan also counts the distinct fingerprints
+ * of the canonical forms of the karyotypes that were loaded, which tells how many of the distinct
+ * karyotypes are the same karyotype written differently.
+ *
+ * @author ilariamt
+ * Date: October 16, 2026
+ */
+public class BatchPlan {
+
+	private final Map<String, PlannedKaryotype> plannedKaryotypes;
+	private final int lineCount;
+	private final long karyotypeCount;
+	private final int distinctKaryotypeCount;
+	private final long planningNanos;
+	private final AtomicLong parseCount = new AtomicLong();
+	private final AtomicLong unplannedCount = new AtomicLong();
+	private final AtomicLong loadedCount = new AtomicLong();
+	private final Set<Long> karyotypeFingerprints = ConcurrentHashMap.newKeySet();
+
+	private BatchPlan(Map<String, PlannedKaryotype> plannedKaryotypes, int lineCount, long karyotypeCount, long planningNanos) {
+		this.plannedKaryotypes = plannedKaryotypes;
+		this.lineCount = lineCount;
+		this.karyotypeCount = karyotypeCount;
+		distinctKaryotypeCount = plannedKaryotypes.size();
+		this.planningNanos = planningNanos;
+	}
+
+	public static BatchPlan plan(Path fileReadPath) throws IOException {
+		long startTime = System.nanoTime();
+		Map<String, PlannedKaryotype> plannedKaryotypes = new HashMap<>();
+		int lineCount = 0;
+		long karyotypeCount = 0;
+		try (BufferedReader bufferedReader = new BufferedReader(new FileReader(fileReadPath.toFile()))) {
+			String line;
+			while ((line = bufferedReader.readLine()) != null) {
+				lineCount++;
+				for (String karyotype : BatchLineResult.getParsedKaryotypes(line)) {
+					plannedKaryotypes.computeIfAbsent(KaryotypeRunner.normalizeInput(karyotype), k -> new PlannedKaryotype()).useCount++;
+					karyotypeCount++;
+				}
+			}
+		}
+		return new BatchPlan(new ConcurrentHashMap<>(plannedKaryotypes), lineCount, karyotypeCount, System.nanoTime() - startTime);
+	}
+
+	/**
+	 * Returns the results of the karyotype, parsed by the first line that needs them. A karyotype that
+	 * was not planned, if the input file changed since the pre-pass, is parsed each time.
+	 */
+	public FinalResultCache.CachedResults getResults(String karyotype) {
+		String key = KaryotypeRunner.normalizeInput(karyotype);
+		PlannedKaryotype plannedKaryotype = plannedKaryotypes.get(key);
+		if (plannedKaryotype == null) {
+			unplannedCount.incrementAndGet();
+			return FinalResultCache.getResults(karyotype);
+		}
+		FinalResultCache.CachedResults results;
+		synchronized (plannedKaryotype) {
+			if (plannedKaryotype.results == null) {
+				plannedKaryotype.results = FinalResultCache.getResults(karyotype);
+				plannedKaryotype.results.makeUnmodifiable();
+				parseCount.incrementAndGet();
+				long karyotypeFingerprint = plannedKaryotype.results.getFinalResult().getKaryotypeFingerprint();
+				if (karyotypeFingerprint != 0) {
+					loadedCount.incrementAndGet();
+					karyotypeFingerprints.add(karyotypeFingerprint);
+				}
+			}
+			results = plannedKaryotype.results;
+			if (--plannedKaryotype.useCount == 0) {
+				plannedKaryotypes.remove(key);
+			}
+		}
+		return results;
+	}
+
+	private static class PlannedKaryotype {
+
+		// Lines still to get the results, guarded by the PlannedKaryotype once planned
+		private int useCount;
+		private FinalResultCache.CachedResults results;
+
+	}
+
+	public int getLineCount() {
+		return lineCount;
+	}
+
+	public long getKaryotypeCount() {
+		return karyotypeCount;
+	}
+
+	public int getDistinctKaryotypeCount() {
+		return distinctKaryotypeCount;
+	}
+
+	public double getDuplicationRatio() {
+		return getDistinctKaryotypeCount() == 0 ? 0 : (double) karyotypeCount / getDistinctKaryotypeCount();
+	}
+
+	public long getParseCount() {
+		return parseCount.get();
+	}
+
+	public long getUnplannedCount() {
+		return unplannedCount.get();
+	}
+
+	public long getLoadedCount() {
+		return loadedCount.get();
+	}
+
+	public int getCanonicalKaryotypeCount() {
+		return karyotypeFingerprints.size();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("Plan: %d lines, %d karyotypes, %d distinct (duplication ratio: %.2f, %.1f%% of parses saved), planned in %.3f s, distinct karyotypes parsed: %d, unplanned: %d, loaded: %d, canonically distinct: %d",
+				lineCount, karyotypeCount, getDistinctKaryotypeCount(), getDuplicationRatio(),
+				karyotypeCount == 0 ? 0 : (karyotypeCount - getDistinctKaryotypeCount()) * 100.0 / karyotypeCount,
+				planningNanos / 1e9, getParseCount(), getUnplannedCount(), getLoadedCount(), getCanonicalKaryotypeCount());
+	}
+
+}
@@ -0,0 +1,84 @@
+package toolkit;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of one batch run: how many lines were parsed by how many workers, the wall-clock time,
+ * the total CPU time the workers spent parsing and the CPU time the writer thread spent building and
+ * writing the JSON, CSV and summary statistics outputs, which is serial whatever the worker count.
+ *
+ * The worker utilization is the worker busy time divided by the wall-clock time of all workers. It is
+ * not a scaling measure: a low utilization with the writer busy for most of the elapsed time means the
+ * writer, not the workers, limits the run. Scaling is measured by comparing the elapsed time of runs
+ * with different worker counts.
+ *
+ * The latency of the first lines, the time until they were all written, shows how much slower the
+ * start of a run is while the parser DFA cache fills in, with or without a warm-up.
+ *
+ * @author ilariamt
+ * Date: October 16, 2026
+ */
+public class BatchThroughputReport {
+
+	private int lineCount;
+	private int workerCount;
+	private long elapsedNanos;
+	private long busyNanos;
+	private long writerNanos;
+	private int firstLineCount;
+	private long firstLinesNanos;
+
+	public BatchThroughputReport(int lineCount, int workerCount, long elapsedNanos, long busyNanos, long writerNanos, int firstLineCount, long firstLinesNanos) {
+		this.lineCount = lineCount;
+		this.workerCount = workerCount;
+		this.elapsedNanos = elapsedNanos;
+		this.busyNanos = busyNanos;
+		this.writerNanos = writerNanos;
+		this.firstLineCount = firstLineCount;
+		this.firstLinesNanos = firstLinesNanos;
+	}
+
+	public int getLineCount() {
+		return lineCount;
+	}
+
+	public int getWorkerCount() {
+		return workerCount;
+	}
+
+	public long getElapsedMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+	}
+
+	public double getLinesPerSecond() {
+		return elapsedNanos == 0 ? 0 : lineCount / (elapsedNanos / 1e9);
+	}
+
+	public long getBusyMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(busyNanos);
+	}
+
+	public long getWriterMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(writerNanos);
+	}
+
+	public double getWorkerUtilization() {
+		return elapsedNanos == 0 ? 0 : (double) busyNanos / ((double) elapsedNanos * workerCount);
+	}
+
+	public int getFirstLineCount() {
+		return firstLineCount;
+	}
+
+	public long getFirstLinesMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(firstLinesNanos);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("Lines: %d, workers: %d, elapsed: %.3f s, throughput: %.1f lines/s, worker busy: %.3f s (worker utilization: %.1f%%), writer: %.3f s (%.1f%% of elapsed), first %d lines: %.3f s",
+				lineCount, workerCount, elapsedNanos / 1e9, getLinesPerSecond(), busyNanos / 1e9, getWorkerUtilization() * 100,
+				writerNanos / 1e9, elapsedNanos == 0 ? 0 : writerNanos * 100.0 / elapsedNanos, firstLineCount, firstLinesNanos / 1e9);
+	}
+
+}
@@ -0,0 +1,181 @@
+package toolkit;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import business.FinalResult;
+import main.KaryotypeRunner;
+
+/**
+ * Bounded cache of the results of karyotypes, keyed by the normalized karyotype: registry exports
+ * repeat the same karyotypes, such as "46,XX" or "46,XY,t(9;22)(q34;q11.2)[20]", on many lines, and
+ * two karyotypes with the same normalized form get the same FinalResult. Each entry holds the result
+ * of the karyotype and the result of its revised karyotype, if any, as BatchLineResult needs both.
+ *
+ * The cache is off by default; setCapacity(n) turns it on with room for n karyotypes, and the least
+ * recently used ones are evicted beyond that. It is shared by the batch workers: the map is only
+ * locked to look up and add entries, while the results of a miss are computed outside the lock, so
+ * two workers missing the same karyotype at once both compute it and the first one is kept. Cached
+ * results are made unmodifiable, as every line with the same karyotype reads the same instances.
+ *
+ * The counters tell how many karyotypes were found in the cache, computed, and evicted.
+ *
+ * A PersistentResultCache can be set to keep the results from one run to the next: the karyotypes
+ * not found in memory are then looked up in it before they are parsed, and the results of the ones
+ * not found there either are added to it. It is used whether or not the cache in memory is on.
+ *
+ * @author ilariamt
+ * Date: October 16, 2026
+ */
+public class FinalResultCache {
+
+	private static volatile int capacity = 0;
+	private static volatile PersistentResultCache persistentCache;
+	private static final AtomicLong hitCount = new AtomicLong();
+	private static final AtomicLong missCount = new AtomicLong();
+	private static final AtomicLong evictionCount = new AtomicLong();
+	private static final LinkedHashMap<String, CachedResults> entries = new LinkedHashMap<String, CachedResults>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, CachedResults> eldest) {
+			if (size() > capacity) {
+				evictionCount.incrementAndGet();
+				return true;
+			}
+			return false;
+		}
+	};
+
+	// Also empties the cache; 0 turns it off
+	public static void setCapacity(int capacity) {
+		if (capacity < 0) {
+			throw new IllegalArgumentException("Cache capacity must be at least 0: " + capacity);
+		}
+		synchronized (entries) {
+			FinalResultCache.capacity = capacity;
+			entries.clear();
+		}
+	}
+
+	public static int getCapacity() {
+		return capacity;
+	}
+
+	// Null to stop using a persistent cache
+	public static void setPersistentCache(PersistentResultCache persistentCache) {
+		FinalResultCache.persistentCache = persistentCache;
+	}
+
+	/**
+	 * Returns the result of the karyotype and of its revised karyotype, from the cache if it is on
+	 * and holds them, computed otherwise.
+	 */
+	public static CachedResults getResults(String karyotype) {
+		if (capacity == 0 && persistentCache == null) {
+			return new CachedResults(karyotype);
+		}
+		String key = KaryotypeRunner.normalizeInput(karyotype);
+		if (capacity == 0) {
+			return getPersistentResults(key, karyotype);
+		}
+		CachedResults results;
+		synchronized (entries) {
+			results = entries.get(key);
+		}
+		if (results != null) {
+			hitCount.incrementAndGet();
+			return results;
+		}
+		missCount.incrementAndGet();
+		results = getPersistentResults(key, karyotype);
+		results.makeUnmodifiable();
+		synchronized (entries) {
+			CachedResults cachedResults = entries.get(key);
+			if (cachedResults != null) {
+				return cachedResults;
+			}
+			if (capacity > 0) {
+				entries.put(key, results);
+			}
+		}
+		return results;
+	}
+
+	private static CachedResults getPersistentResults(String key, String karyotype) {
+		PersistentResultCache persistentCache = FinalResultCache.persistentCache;
+		if (persistentCache == null) {
+			return new CachedResults(karyotype);
+		}
+		CachedResults results = persistentCache.get(key);
+		if (results == null) {
+			results = new CachedResults(karyotype);
+			try {
+				persistentCache.put(key, results);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+		return results;
+	}
+
+	public static class CachedResults {
+
+		private final FinalResult finalResult;
+		private final FinalResult revisedFinalResult;
+
+		private CachedResults(String karyotype) {
+			finalResult = KaryotypeRunner.getFinalResult(karyotype);
+			revisedFinalResult = KaryotypeRunner.getRevisedFinalResult(finalResult);
+		}
+
+		CachedResults(FinalResult finalResult, FinalResult revisedFinalResult) {
+			this.finalResult = finalResult;
+			this.revisedFinalResult = revisedFinalResult;
+		}
+
+		void makeUnmodifiable() {
+			finalResult.makeUnmodifiable();
+			if (revisedFinalResult != null) {
+				revisedFinalResult.makeUnmodifiable();
+			}
+		}
+
+		public FinalResult getFinalResult() {
+			return finalResult;
+		}
+
+		// Null if the result has no lexer/parser error or no revised karyotype
+		public FinalResult getRevisedFinalResult() {
+			return revisedFinalResult;
+		}
+
+	}
+
+	public static int getSize() {
+		synchronized (entries) {
+			return entries.size();
+		}
+	}
+
+	public static long getHitCount() {
+		return hitCount.get();
+	}
+
+	public static long getMissCount() {
+		return missCount.get();
+	}
+
+	public static long getEvictionCount() {
+		return evictionCount.get();
+	}
+
+	public static String getReport() {
+		long hits = getHitCount();
+		long lookups = hits + getMissCount();
+		return String.format("Result cache capacity: %d, size: %d, hits: %d, misses: %d (%.1f%% hit rate), evictions: %d",
+				capacity, getSize(), hits, getMissCount(), lookups == 0 ? 0 : hits * 100.0 / lookups, getEvictionCount());
+	}
+
+}
@@ -0,0 +1,228 @@
+package toolkit;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import business.BiologicalOutcome;
+import business.FinalResult;
+import business.KaryotypeLGF;
+import main.TokenError;
+
+/**
+ * Binary form of a FinalResult, as stored by the PersistentResultCache. Every field of the result is
+ * written, so that a decoded result gives the same JSON, CSV and summary statistics outputs as the
+ * result that was encoded. The loss, gain and fusion counts are written sparsely, as the index and
+ * count of each band whose count is not 0, since most bands of a karyotype have no change.
+ *
+ * Lists and strings may be null; they are written with a length of -1.
+ *
+ * @author ilariamt
+ * Date: October 16, 2026
+ */
+public class FinalResultCodec {
+
+	public static void write(DataOutputStream out, FinalResult finalResult) throws IOException {
+		List<BiologicalOutcome> biologicalOutcomeList = finalResult.getBiologicalOutcomeList();
+		if (biologicalOutcomeList == null) {
+			out.writeInt(-1);
+		} else {
+			out.writeInt(biologicalOutcomeList.size());
+			for (BiologicalOutcome biologicalOutcome : biologicalOutcomeList) {
+				writeLGF(out, biologicalOutcome.getLGF());
+				writeStrings(out, biologicalOutcome.getUncertainEventsList());
+				writeStrings(out, biologicalOutcome.getDetailedSystem());
+			}
+		}
+		writeStrings(out, finalResult.getBiologicalInterpretationList());
+		out.writeBoolean(finalResult.isContainingLexerParserError());
+		writeString(out, finalResult.getErrorMessage());
+		out.writeBoolean(finalResult.isContainingValidationError());
+		writeStrings(out, finalResult.getValidationMessage());
+		writeString(out, finalResult.getRevisedKaryotype());
+		writeStrings(out, finalResult.getRelationshipList());
+		List<Integer> cellNumList = finalResult.getCellNumList();
+		if (cellNumList == null) {
+			out.writeInt(-1);
+		} else {
+			out.writeInt(cellNumList.size());
+			for (Integer cellNum : cellNumList) {
+				out.writeBoolean(cellNum != null);
+				if (cellNum != null) {
+					out.writeInt(cellNum);
+				}
+			}
+		}
+		List<TokenError> tokenErrorList = finalResult.getTokenErrorList();
+		if (tokenErrorList == null) {
+			out.writeInt(-1);
+		} else {
+			out.writeInt(tokenErrorList.size());
+			for (TokenError tokenError : tokenErrorList) {
+				out.writeInt(tokenError.getOffsetStart());
+				out.writeInt(tokenError.getLength());
+				writeString(out, tokenError.getMessage());
+			}
+		}
+		writeStrings(out, finalResult.getCloneCodeList());
+		writeString(out, finalResult.getCanonicalKaryotype());
+		out.writeLong(finalResult.getKaryotypeFingerprint());
+		List<Long> cloneFingerprintList = finalResult.getCloneFingerprintList();
+		if (cloneFingerprintList == null) {
+			out.writeInt(-1);
+		} else {
+			out.writeInt(cloneFingerprintList.size());
+			for (long cloneFingerprint : cloneFingerprintList) {
+				out.writeLong(cloneFingerprint);
+			}
+		}
+	}
+
+	public static FinalResult read(DataInputStream in) throws IOException {
+		FinalResult finalResult = new FinalResult();
+		int biologicalOutcomeCount = in.readInt();
+		if (biologicalOutcomeCount == -1) {
+			finalResult.setBiologicalOutcomeList(null);
+		} else {
+			List<BiologicalOutcome> biologicalOutcomeList = new ArrayList<>(biologicalOutcomeCount);
+			for (int i = 0; i < biologicalOutcomeCount; i++) {
+				KaryotypeLGF karyotypeLGF = readLGF(in);
+				List<String> uncertainEventsList = readStrings(in);
+				List<String> derDetailedSystem = readStrings(in);
+				biologicalOutcomeList.add(new BiologicalOutcome(karyotypeLGF, uncertainEventsList, derDetailedSystem));
+			}
+			finalResult.setBiologicalOutcomeList(biologicalOutcomeList);
+		}
+		finalResult.setBiologicalInterpretationList(readStrings(in));
+		finalResult.setContainingLexerParserError(in.readBoolean());
+		finalResult.setErrorMessage(readString(in));
+		finalResult.setContainingValidationError(in.readBoolean());
+		finalResult.setValidationMessage(readStrings(in));
+		finalResult.setRevisedKaryotype(readString(in));
+		finalResult.setRelationshipList(readStrings(in));
+		int cellNumCount = in.readInt();
+		if (cellNumCount == -1) {
+			finalResult.setCellNumList(null);
+		} else {
+			List<Integer> cellNumList = new ArrayList<>(cellNumCount);
+			for (int i = 0; i < cellNumCount; i++) {
+				cellNumList.add(in.readBoolean() ? in.readInt() : null);
+			}
+			finalResult.setCellNumList(cellNumList);
+		}
+		int tokenErrorCount = in.readInt();
+		if (tokenErrorCount == -1) {
+			finalResult.setTokenErrorList(null);
+		} else {
+			List<TokenError> tokenErrorList = new ArrayList<>(tokenErrorCount);
+			for (int i = 0; i < tokenErrorCount; i++) {
+				int offsetStart = in.readInt();
+				int length = in.readInt();
+				tokenErrorList.add(new TokenError(offsetStart, length, readString(in)));
+			}
+			finalResult.setTokenErrorList(tokenErrorList);
+		}
+		finalResult.setCloneCodeList(readStrings(in));
+		finalResult.setCanonicalKaryotype(readString(in));
+		finalResult.setKaryotypeFingerprint(in.readLong());
+		int cloneFingerprintCount = in.readInt();
+		if (cloneFingerprintCount == -1) {
+			finalResult.setCloneFingerprintList(null);
+		} else {
+			List<Long> cloneFingerprintList = new ArrayList<>(cloneFingerprintCount);
+			for (int i = 0; i < cloneFingerprintCount; i++) {
+				cloneFingerprintList.add(in.readLong());
+			}
+			finalResult.setCloneFingerprintList(cloneFingerprintList);
+		}
+		return finalResult;
+	}
+
+	private static void writeLGF(DataOutputStream out, KaryotypeLGF karyotypeLGF) throws IOException {
+		if (karyotypeLGF == null) {
+			out.writeInt(-1);
+			return;
+		}
+		out.writeInt(karyotypeLGF.size());
+		for (int outcome = 0; outcome < 3; outcome++) {
+			int[] counts = karyotypeLGF.get(outcome);
+			int nonZeroCount = 0;
+			for (int count : counts) {
+				if (count != 0) {
+					nonZeroCount++;
+				}
+			}
+			out.writeInt(nonZeroCount);
+			for (int i = 0; i < counts.length; i++) {
+				if (counts[i] != 0) {
+					out.writeInt(i);
+					out.writeInt(counts[i]);
+				}
+			}
+		}
+	}
+
+	private static KaryotypeLGF readLGF(DataInputStream in) throws IOException {
+		int size = in.readInt();
+		if (size == -1) {
+			return null;
+		}
+		KaryotypeLGF karyotypeLGF = new KaryotypeLGF(size);
+		for (int outcome = 0; outcome < 3; outcome++) {
+			int nonZeroCount = in.readInt();
+			for (int i = 0; i < nonZeroCount; i++) {
+				int index = in.readInt();
+				karyotypeLGF.add(outcome, index, in.readInt());
+			}
+		}
+		return karyotypeLGF;
+	}
+
+	private static void writeStrings(DataOutputStream out, List<String> strings) throws IOException {
+		if (strings == null) {
+			out.writeInt(-1);
+			return;
+		}
+		out.writeInt(strings.size());
+		for (String s : strings) {
+			writeString(out, s);
+		}
+	}
+
+	private static List<String> readStrings(DataInputStream in) throws IOException {
+		int count = in.readInt();
+		if (count == -1) {
+			return null;
+		}
+		List<String> strings = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			strings.add(readString(in));
+		}
+		return strings;
+	}
+
+	// Unlike writeUTF, not limited to 64 KB
+	static void writeString(DataOutputStream out, String s) throws IOException {
+		if (s == null) {
+			out.writeInt(-1);
+			return;
+		}
+		byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	static String readString(DataInputStream in) throws IOException {
+		int length = in.readInt();
+		if (length == -1) {
+			return null;
+		}
+		byte[] bytes = new byte[length];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+}
@@ -1,9 +1,10 @@
 package toolkit;
 
-import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * @author Lin Zhang
@@ -143,22 +144,25 @@ public class ISCN2016 {
 											 CHR21P, CHR21Q, CHR22P, CHR22Q, CHRXP, CHRXQ, CHRYP, CHRYQ
 									        };
 	
-	public static String[] doReflection(String chr, String arm) {
-		ISCN2016 enteredKaryotypes = new ISCN2016();
-        try {
-            Field privateArrayField = enteredKaryotypes.getClass().getDeclaredField("CHR" + chr + arm);
-            privateArrayField.setAccessible(true);
-            String[] chrBreakpoints = (String[])privateArrayField.get(enteredKaryotypes);
-            return chrBreakpoints;
-        } catch (Exception ex) {
-            return null;
-        }
-    }
+	// Keyed by chromosome and arm as in the array names, e.g. "1P", "XQ"
+	private static final Map<String, String[]> chrArmArrayMap = new HashMap<>();
+	
+	static {
+		String[] chrs = {"1", "2", "3", "4", "5", "6", "7", "8", "9", "10", "11", "12", "13", "14", "15", "16", "17", "18", "19", "20", "21", "22", "X", "Y"};
+		for (int i = 0; i < chrs.length; i++) {
+			chrArmArrayMap.put(chrs[i] + "P", chrArmArrays[2*i]);
+			chrArmArrayMap.put(chrs[i] + "Q", chrArmArrays[2*i + 1]);
+		}
+	}
+	
+	public static String[] getChrArmArray(String chr, String arm) {
+		return chrArmArrayMap.get(chr + arm);
+	}
 	
 	public static List<String> getChrBandsList(String chr) {
         List<String> chrBandsList = new ArrayList<>();
-        chrBandsList.addAll(Arrays.asList(doReflection(chr, "P")));
-        chrBandsList.addAll(Arrays.asList(doReflection(chr, "Q")));
+        chrBandsList.addAll(Arrays.asList(getChrArmArray(chr, "P")));
+        chrBandsList.addAll(Arrays.asList(getChrArmArray(chr, "Q")));
         return chrBandsList;
     }
 	
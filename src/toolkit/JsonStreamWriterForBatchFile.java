@@ -0,0 +1,57 @@
+package toolkit;
+
+import java.io.FileWriter;
+import java.nio.file.Path;
+
+import javax.json.Json;
+import javax.json.JsonObjectBuilder;
+import javax.json.stream.JsonGenerator;
+
+/**
+ * Streams the JSON output of a batch file: the producer, date and iscn2016_bands header is written
+ * on creation, and each element of the output array is written as soon as it is added, so the heap
+ * does not grow with the number of karyotypes.
+ *
+ * The file written is identical to the one a JsonWriter would write for the whole JsonObject.
+ *
+ * @author ilariamt
+ * Date: October 16, 2026
+ */
+public class JsonStreamWriterForBatchFile implements AutoCloseable {
+
+	private JsonGenerator generator;
+
+	public JsonStreamWriterForBatchFile(Path fileWritePath) throws Exception {
+		generator = Json.createGenerator(new FileWriter(fileWritePath.toFile()));
+		generator.writeStartObject()
+				 .write("producer", "CytoGPS")
+				 .write("date", java.time.LocalDate.now().toString())
+				 .writeStartArray("iscn2016_bands");
+		for (String[] chrArmArray: ISCN2016.chrArmArrays) {
+			for (String chrBand: chrArmArray) {
+				generator.write(chrBand);
+			}
+		}
+		generator.writeEnd()
+				 .writeStartArray("output");
+	}
+
+	public void write(JsonObjectBuilder cytogpsOutputBuilder) {
+		generator.write(cytogpsOutputBuilder.build());
+	}
+
+	/**
+	 * Closes the output array and the root object. Must be called once all karyotypes are written;
+	 * closing the writer without it leaves an incomplete JSON file and throws.
+	 */
+	public void writeEnd() {
+		generator.writeEnd()
+				 .writeEnd();
+	}
+
+	@Override
+	public void close() {
+		generator.close();
+	}
+
+}
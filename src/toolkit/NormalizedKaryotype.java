@@ -0,0 +1,252 @@
+package toolkit;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A karyotype input line normalized the way KaryotypeRunner parses it, and classified for routing.
+ *
+ * The text has its whitespace removed and one pair of surrounding quotes (common in database exports)
+ * stripped. It is then scanned once for the multi-clone separator "]/", for '?' and for "->" or "::";
+ * only a line containing one of the latter is checked for detailed formulas and, if it has some, for
+ * standard events besides them (mixed format), and gets its detailed formula spans recorded.
+ *
+ * Everything is done with plain character scans: the regular expressions this replaces compiled
+ * a new Pattern for every line, and up to fifteen of them for the mixed format check.
+ *
+ * @author ilariamt
+ * Date: October 16, 2026
+ */
+public class NormalizedKaryotype {
+
+	// Events that make a line with detailed formulas a mixed format line
+	private static final String[] STANDARD_EVENTS = {"del(", "dup(", "inv(", "t(", "add(", "i(",
+	                                                 "idic(", "ins(", "trp(", "qdp(",
+	                                                 "der(", "dic(", "r(", "+", "-"};
+	private static final int[] NO_SPANS = new int[0];
+
+	private String text;
+	private boolean multiClone;
+	private boolean containingQuestionMark;
+	private boolean detailedFormula;
+	private boolean mixedFormat;
+	private int[] detailedFormulaSpans = NO_SPANS;
+
+	public NormalizedKaryotype(String input) {
+		text = normalize(input);
+		boolean containingArrowOrDoubleColon = false;
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			char next = i + 1 < text.length() ? text.charAt(i + 1) : 0;
+			if (c == '?') {
+				containingQuestionMark = true;
+			} else if (c == ']' && next == '/') {
+				multiClone = true;
+			} else if ((c == '-' && next == '>') || (c == ':' && next == ':')) {
+				containingArrowOrDoubleColon = true;
+			}
+		}
+		if (containingArrowOrDoubleColon && containsDetailedFormula(text)) {
+			detailedFormula = true;
+			mixedFormat = containsStandardEvent(removeDetailedFormulas(text));
+			detailedFormulaSpans = getDetailedFormulaSpans(text);
+		}
+	}
+
+	/**
+	 * Removes the whitespace of the input, then one pair of surrounding quotes.
+	 * The input is returned as is if there is nothing to remove.
+	 */
+	public static String normalize(String input) {
+		int length = input.length();
+		int firstWhitespace = 0;
+		while (firstWhitespace < length && !isWhitespace(input.charAt(firstWhitespace))) {
+			firstWhitespace++;
+		}
+		String noSpace = input;
+		if (firstWhitespace < length) {
+			StringBuilder sb = new StringBuilder(length);
+			sb.append(input, 0, firstWhitespace);
+			for (int i = firstWhitespace + 1; i < length; i++) {
+				char c = input.charAt(i);
+				if (!isWhitespace(c)) {
+					sb.append(c);
+				}
+			}
+			noSpace = sb.toString();
+		}
+		// Same as trim(), which also drops the other control characters at both ends
+		int begin = 0;
+		int end = noSpace.length();
+		while (begin < end && noSpace.charAt(begin) <= ' ') {
+			begin++;
+		}
+		while (end > begin && noSpace.charAt(end - 1) <= ' ') {
+			end--;
+		}
+		if (begin < end && noSpace.charAt(begin) == '"' && noSpace.charAt(end - 1) == '"') {
+			begin++;
+			end--;
+		}
+		return begin == 0 && end == noSpace.length() ? noSpace : noSpace.substring(begin, end);
+	}
+
+	// The characters of \s
+	private static boolean isWhitespace(char c) {
+		return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+	}
+
+	/**
+	 * Tells whether the text contains a der, dic or r with -> or :: in its second pair of parentheses,
+	 * neither pair containing a ')': the same as finding (?:der|dic|r)\([^)]*\)\([^)]*(?:->|::)[^)]*\)
+	 */
+	public static boolean containsDetailedFormula(String text) {
+		for (int i = 0; i < text.length(); i++) {
+			// "der(" ends with "r(", so the r check covers it
+			int open = text.startsWith("r(", i) ? i + 1 : text.startsWith("dic(", i) ? i + 3 : -1;
+			if (open != -1 && getDetailedFormulaEnd(text, open, 0) != -1) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	// Removes what replaceAll("(?:der|dic|r)\\([^)]+\\)\\([^)]*(?:->|::)[^)]*\\)", "") removes
+	private static String removeDetailedFormulas(String text) {
+		StringBuilder sb = new StringBuilder(text.length());
+		int copied = 0;
+		int i = 0;
+		while (i < text.length()) {
+			int open = text.startsWith("der(", i) || text.startsWith("dic(", i) ? i + 3 : text.startsWith("r(", i) ? i + 1 : -1;
+			int end = open == -1 ? -1 : getDetailedFormulaEnd(text, open, 1);
+			if (end != -1) {
+				sb.append(text, copied, i);
+				copied = end;
+				i = end;
+			} else {
+				i++;
+			}
+		}
+		return sb.append(text, copied, text.length()).toString();
+	}
+
+	/*
+	 * Returns the index after "(base)(formula)" starting at the parenthesis at open, where base has at
+	 * least minBaseLength characters, neither part contains ')' and formula contains -> or ::, or -1
+	 */
+	private static int getDetailedFormulaEnd(String text, int open, int minBaseLength) {
+		int close = text.indexOf(')', open + 1);
+		if (close == -1 || close - open - 1 < minBaseLength || close + 1 == text.length() || text.charAt(close + 1) != '(') {
+			return -1;
+		}
+		int end = text.indexOf(')', close + 2);
+		for (int j = close + 2; j + 1 < end; j++) {
+			char c = text.charAt(j);
+			char next = text.charAt(j + 1);
+			if ((c == '-' && next == '>') || (c == ':' && next == ':')) {
+				return end + 1;
+			}
+		}
+		return -1;
+	}
+
+	private static boolean containsStandardEvent(String text) {
+		for (String event: STANDARD_EVENTS) {
+			if (text.contains(event)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the begin and end indexes of the detailed formulas of the text, one pair per formula:
+	 * der(...)(...), dic(...)(...) or r(...)(...), the r after a comma or at the start, with balanced
+	 * parentheses and -> or :: in them.
+	 *
+	 * e.g. "46,XX,der(11)(11pter->11q11::22q11->22q13::11q22->11qter),t(9;14)(q34;q32)" gives the span of
+	 * "der(11)(11pter->11q11::22q11->22q13::11q22->11qter)", while "der(9)t(9;17)(q11;q34)" gives none.
+	 */
+	public static int[] getDetailedFormulaSpans(String text) {
+		List<Integer> spans = new ArrayList<>();
+		int i = 0;
+		while (i < text.length()) {
+			boolean foundDerOrDic = text.startsWith("der(", i) || text.startsWith("dic(", i);
+			boolean foundR = text.startsWith("r(", i) && (i == 0 || text.charAt(i - 1) == ',');
+			int secondOpen = foundDerOrDic || foundR ? getBalancedEnd(text, i + (foundR ? 1 : 3)) : -1;
+			if (secondOpen != -1 && secondOpen < text.length() && text.charAt(secondOpen) == '(') {
+				int end = getBalancedEnd(text, secondOpen);
+				String formula = text.substring(i, end);
+				if (formula.contains("->") || formula.contains("::")) {
+					spans.add(i);
+					spans.add(end);
+				}
+				i = end;
+			} else {
+				i++;
+			}
+		}
+		int[] spanArray = new int[spans.size()];
+		for (int j = 0; j < spanArray.length; j++) {
+			spanArray[j] = spans.get(j);
+		}
+		return spanArray;
+	}
+
+	// Returns the index after the parenthesis matching the one at open, or the length of an unbalanced text
+	private static int getBalancedEnd(String text, int open) {
+		int parenCount = 1;
+		int j = open + 1;
+		while (j < text.length() && parenCount > 0) {
+			if (text.charAt(j) == '(') {
+				parenCount++;
+			} else if (text.charAt(j) == ')') {
+				parenCount--;
+			}
+			j++;
+		}
+		return j;
+	}
+
+	public static List<String> extractDetailedFormulas(String text) {
+		return getSubstrings(text, getDetailedFormulaSpans(text));
+	}
+
+	private static List<String> getSubstrings(String text, int[] spans) {
+		List<String> substrings = new ArrayList<>();
+		for (int i = 0; i < spans.length; i += 2) {
+			substrings.add(text.substring(spans[i], spans[i + 1]));
+		}
+		return substrings;
+	}
+
+	public String getText() {
+		return text;
+	}
+
+	public boolean isMultiClone() {
+		return multiClone;
+	}
+
+	public boolean isContainingQuestionMark() {
+		return containingQuestionMark;
+	}
+
+	public boolean isDetailedFormula() {
+		return detailedFormula;
+	}
+
+	// Detailed formulas together with standard events, e.g. 46,XX,del(5)(q13q31),der(13)(13pter->13q10::15q10->15q21::13q14->13qter)
+	public boolean isMixedFormat() {
+		return mixedFormat;
+	}
+
+	public int[] getDetailedFormulaSpans() {
+		return detailedFormulaSpans;
+	}
+
+	public List<String> getDetailedFormulas() {
+		return getSubstrings(text, detailedFormulaSpans);
+	}
+
+}
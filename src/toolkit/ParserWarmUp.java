@@ -0,0 +1,94 @@
+package toolkit;
+
+import business.FinalResult;
+import main.KaryotypeRunner;
+
+/**
+ * Warms up the parsers before a batch run by replaying a bundled corpus of representative karyotypes
+ * through the same stages as a batch line: lexing, parsing, loading, validation and the LGF.
+ *
+ * The ANTLR parsers start every run with an empty DFA cache, which the first karyotypes fill in, so
+ * those are parsed several times slower than the next ones. This is worst for karyotypes with errors,
+ * which are parsed again with the diagnostic grammar. The corpus covers the common events, clone
+ * relationships and formats, then the common errors, so the karyotypes of the run find most of the
+ * DFA states they need already there. The DFA cache is shared by all threads. The karyotypes are
+ * replayed around the FinalResultCache, so that they are parsed each time and do not take its room.
+ *
+ * Replaying stops once the time budget is used up, after the karyotype being replayed. The report tells
+ * how long the first karyotypes of the corpus took cold, and how long the same ones take once warm.
+ *
+ * @author ilariamt
+ * Date: October 16, 2026
+ */
+public class ParserWarmUp {
+
+	// Number of karyotypes of the corpus timed cold and again once warm
+	private static final int FIRST_KARYOTYPE_COUNT = 10;
+
+	private static final String[] CORPUS = {
+		"46,XX",
+		"46,XY[20]",
+		"47,XY,+8[12]/46,XY[8]",
+		"45,X,-Y[15]/46,XY[5]",
+		"46,XX,del(5)(q13q33)",
+		"46,XY,t(9;22)(q34;q11.2)[20]",
+		"47,XY,+8,t(9;22)(q34;q11.2)[10]/48,idem,+21[5]/46,XY[5]",
+		"47,XY,+8[10]/48,sl,+9[5]/49,sdl1,+10[3]",
+		"46,XX,inv(16)(p13.1q22)[18]/46,XX[2]",
+		"46,XX,der(1)t(1;3)(p32;q21)",
+		"46,XX,der(3)t(3;5)(p21;q31)inv(3)(p13q21)",
+		"46,XY,add(19)(q13.3),dup(1)(q21q32),i(17)(q10)[10]",
+		"45,XX,dic(17;20)(p11.2;q11.2)[7]/46,XX[13]",
+		"46,XX,idic(X)(q13),r(7)(p22q36)[5]",
+		"46,XY,ins(5;2)(p14;q22q32),t(11;19;12)(q23;p13.3;p13)",
+		"47,XX,+mar[3]/48,idem,+2mar[2]",
+		"47,XY,del(7)(q22),+8,?del(12)(p12)[cp10]",
+		"50~55,XX,+1,+4,+6,+10,+14,+17,+18,+21,+21,dmin[cp8]",
+		"<3n>,XXX,-5,-7,+8[10]",
+		"46,XX,der(13)(13pter->13q10::15q10->15q21::13q14->13qter)",
+		"48,XX,der(6)(16qter->16q22::16p13->16p11::6p21->6qter),+del(9)(q21q34),der(16)(6pter->6p21::16p11->16q22::16p13->16pter),+22[9]",
+		"47,X,der(19)t(19;21)(q21;p13),der(4;18)(q10;q10),del(2)(q21),t(22;?)(p21;?)",
+		"45,XY,-7,t(3;3)(q21;q26.2)[16]/46,XY[4]",
+		"\"46,XX,t(9;22)(q34;q11.2)[20]\"",
+		// Errors
+		"47,XY,+8x2",
+		"47,XXY,der(18;12)(q10;q10),+11x2,+mar[4]/46,XXY[16]",
+		"46,XX,t(9;22)(q34;q11.2)[18]//46,XY[2]",
+		"46,XX,t(9;22)(q34;q11.2)[18],46,XY[2]",
+		"46,XY,,t(9;22)(q34;q11.2)[20]",
+		"46,XY.t(9;22)(q34;q11.2)[20]",
+		"46,XY,t(9;22)(q34;q11.2)[20",
+		"49,XY,del(7)(q21),del(1)(q13q33),idic(17)(p11),del(7)(q13q33))",
+		"48XXY,-14",
+		"47,XY,+8,del(5)q13q33)",
+		"46,XX,del(5)(q13q33)[20 cells]"
+	};
+
+	public static WarmUpReport warmUp(long budgetMillis) {
+		long startTime = System.nanoTime();
+		long budgetNanos = budgetMillis * 1_000_000;
+		long coldNanos = 0;
+		int karyotypeCount = 0;
+		while (karyotypeCount < CORPUS.length && System.nanoTime() - startTime < budgetNanos) {
+			long karyotypeStartTime = System.nanoTime();
+			replay(CORPUS[karyotypeCount]);
+			if (karyotypeCount < FIRST_KARYOTYPE_COUNT) {
+				coldNanos += System.nanoTime() - karyotypeStartTime;
+			}
+			karyotypeCount++;
+		}
+		int firstKaryotypeCount = Math.min(karyotypeCount, FIRST_KARYOTYPE_COUNT);
+		long warmStartTime = System.nanoTime();
+		for (int i = 0; i < firstKaryotypeCount; i++) {
+			replay(CORPUS[i]);
+		}
+		long warmNanos = System.nanoTime() - warmStartTime;
+		return new WarmUpReport(karyotypeCount, CORPUS.length, budgetMillis, System.nanoTime() - startTime, firstKaryotypeCount, coldNanos, warmNanos);
+	}
+
+	private static void replay(String karyotype) {
+		FinalResult finalResult = KaryotypeRunner.getFinalResult(karyotype);
+		KaryotypeRunner.getRevisedFinalResult(finalResult);
+	}
+
+}
@@ -0,0 +1,387 @@
+package toolkit;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import business.FinalResult;
+import compiler.KaryotypeDiagnosticLexer;
+import compiler.KaryotypeDiagnosticParser;
+import compiler.KaryotypeLexer;
+import compiler.KaryotypeParser;
+
+/**
+ * Results of karyotypes kept in a local file from one run to the next, so that a run over a file
+ * that mostly holds karyotypes of earlier runs, such as a registry re-run nightly, only parses the
+ * karyotypes it has not seen before.
+ *
+ * The file starts with the version of the results it holds: a digest of the CytoGPS build (the jar or
+ * the class files it runs from), the grammars and the ISCN 2016 band model. When any of them changes,
+ * the results may change too, so a file of another version is emptied when it is opened. The results
+ * are then appended, one record each, holding the hash and the text of the normalized karyotype, the
+ * result of the karyotype and the result of its revised karyotype, encoded by FinalResultCodec, with
+ * a checksum. A record whose checksum does not match is ignored, and a last record cut short, by a
+ * run that was stopped while writing it, is removed when the file is opened.
+ *
+ * When the file is opened, its records are indexed by the hash of their karyotype, and the file is
+ * mapped into memory, so that reading a record does not need a system call. The records added during
+ * the run are read from the file. Records are never rewritten or removed: a karyotype found again is
+ * read from its record, and only the karyotypes not found are appended. The file is locked while it
+ * is open, so only one run may use it at a time.
+ *
+ * @author ilariamt
+ * Date: October 16, 2026
+ */
+public class PersistentResultCache implements AutoCloseable {
+
+	private static final long MAGIC = 0x4379746f47505352L; // "CytoGPSR"
+	// Version of the layout of the file and of the FinalResultCodec, part of the version of the results
+	private static final int FORMAT_VERSION = 2;
+	private static final int HEADER_SIZE = 8 + 4 + 32;
+	// Length, checksum and hash of the karyotype, before the encoded karyotype and results
+	private static final int RECORD_HEADER_SIZE = 4 + 4 + 16;
+	private static final long SEGMENT_SIZE = 1L << 30;
+
+	private static final ThreadLocal<MessageDigest> sha256 = ThreadLocal.withInitial(PersistentResultCache::newSha256);
+
+	private final Path path;
+	private final FileChannel channel;
+	private final FileLock lock;
+	private final byte[] version;
+	// Records by the hash of their karyotype, and where they start in the file
+	private final Map<Key, Long> index = new ConcurrentHashMap<>();
+	// The file as it was opened, mapped in segments
+	private final List<MappedByteBuffer> segments = new ArrayList<>();
+	private long mappedSize;
+	private volatile long size;
+	private boolean versionChanged;
+	private long truncatedBytes;
+	private final AtomicLong hitCount = new AtomicLong();
+	private final AtomicLong missCount = new AtomicLong();
+	private final AtomicLong corruptCount = new AtomicLong();
+	private final AtomicLong appendCount = new AtomicLong();
+
+	private PersistentResultCache(Path path) throws IOException {
+		this.path = path;
+		version = getVersion();
+		channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		lock = channel.tryLock();
+		if (lock == null) {
+			channel.close();
+			throw new IOException("Result cache file is used by another run: " + path);
+		}
+		size = channel.size();
+		if (!hasVersion()) {
+			versionChanged = size > 0;
+			truncatedBytes = size;
+			channel.truncate(0);
+			ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+			header.putLong(MAGIC).putInt(FORMAT_VERSION).put(version).flip();
+			write(header, 0);
+			size = HEADER_SIZE;
+		}
+		indexRecords();
+		// Once the file is indexed, as an incomplete last record may have been removed
+		for (long position = 0; position < size; position += SEGMENT_SIZE) {
+			segments.add(channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(SEGMENT_SIZE, size - position)));
+		}
+		mappedSize = size;
+	}
+
+	/**
+	 * Opens the cache file, creating it if it does not exist, and empties it if it holds results of
+	 * another version.
+	 */
+	public static PersistentResultCache open(Path path) throws IOException {
+		return new PersistentResultCache(path);
+	}
+
+	private boolean hasVersion() throws IOException {
+		if (size < HEADER_SIZE) {
+			return false;
+		}
+		ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+		read(header, 0);
+		header.flip();
+		byte[] fileVersion = new byte[32];
+		if (header.getLong() != MAGIC || header.getInt() != FORMAT_VERSION) {
+			return false;
+		}
+		header.get(fileVersion);
+		return Arrays.equals(fileVersion, version);
+	}
+
+	private void indexRecords() throws IOException {
+		long position = HEADER_SIZE;
+		byte[] recordHeader = new byte[RECORD_HEADER_SIZE];
+		while (position + RECORD_HEADER_SIZE <= size) {
+			readBytes(position, recordHeader);
+			ByteBuffer buffer = ByteBuffer.wrap(recordHeader);
+			int length = buffer.getInt();
+			if (length <= 0 || position + RECORD_HEADER_SIZE + length > size) {
+				break;
+			}
+			buffer.getInt();
+			index.put(new Key(buffer.getLong(), buffer.getLong()), position);
+			position += RECORD_HEADER_SIZE + length;
+		}
+		if (position < size) {
+			truncatedBytes += size - position;
+			channel.truncate(position);
+			size = position;
+		}
+	}
+
+	/**
+	 * Returns the results stored for the normalized karyotype, or null if there are none or if their
+	 * record cannot be read.
+	 */
+	public FinalResultCache.CachedResults get(String normalizedKaryotype) {
+		Key key = Key.of(normalizedKaryotype);
+		Long position = index.get(key);
+		if (position != null) {
+			try {
+				FinalResultCache.CachedResults results = readRecord(position, normalizedKaryotype);
+				if (results != null) {
+					hitCount.incrementAndGet();
+					return results;
+				}
+			} catch (IOException e) {
+				// Lets put() append the results again
+				corruptCount.incrementAndGet();
+				index.remove(key, position);
+			}
+		}
+		missCount.incrementAndGet();
+		return null;
+	}
+
+	private FinalResultCache.CachedResults readRecord(long position, String normalizedKaryotype) throws IOException {
+		byte[] recordHeader = new byte[RECORD_HEADER_SIZE];
+		readBytes(position, recordHeader);
+		ByteBuffer buffer = ByteBuffer.wrap(recordHeader);
+		byte[] record = new byte[buffer.getInt()];
+		int checksum = buffer.getInt();
+		readBytes(position + RECORD_HEADER_SIZE, record);
+		CRC32 crc = new CRC32();
+		crc.update(record);
+		if ((int) crc.getValue() != checksum) {
+			throw new IOException("Checksum mismatch in result cache file " + path + " at " + position);
+		}
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(record));
+		// Two karyotypes with the same hash are not expected, but their results must not be mixed up
+		if (!normalizedKaryotype.equals(FinalResultCodec.readString(in))) {
+			return null;
+		}
+		FinalResult finalResult = FinalResultCodec.read(in);
+		FinalResult revisedFinalResult = in.readBoolean() ? FinalResultCodec.read(in) : null;
+		return new FinalResultCache.CachedResults(finalResult, revisedFinalResult);
+	}
+
+	/**
+	 * Appends the results of the normalized karyotype, unless the file already holds a record for it.
+	 */
+	public void put(String normalizedKaryotype, FinalResultCache.CachedResults results) throws IOException {
+		Key key = Key.of(normalizedKaryotype);
+		if (index.containsKey(key)) {
+			return;
+		}
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		FinalResultCodec.writeString(out, normalizedKaryotype);
+		FinalResultCodec.write(out, results.getFinalResult());
+		out.writeBoolean(results.getRevisedFinalResult() != null);
+		if (results.getRevisedFinalResult() != null) {
+			FinalResultCodec.write(out, results.getRevisedFinalResult());
+		}
+		out.flush();
+		byte[] record = bytes.toByteArray();
+		CRC32 crc = new CRC32();
+		crc.update(record);
+		ByteBuffer buffer = ByteBuffer.allocate(RECORD_HEADER_SIZE + record.length);
+		buffer.putInt(record.length).putInt((int) crc.getValue()).putLong(key.high).putLong(key.low).put(record).flip();
+		synchronized (this) {
+			if (index.containsKey(key)) {
+				return;
+			}
+			long position = size;
+			write(buffer, position);
+			size += buffer.limit();
+			index.put(key, position);
+		}
+		appendCount.incrementAndGet();
+	}
+
+	// Reads from the mapped file when the bytes are in one segment, from the file otherwise
+	private void readBytes(long position, byte[] bytes) throws IOException {
+		int segment = (int) (position / SEGMENT_SIZE);
+		int offset = (int) (position % SEGMENT_SIZE);
+		if (position + bytes.length <= mappedSize && offset + bytes.length <= SEGMENT_SIZE) {
+			ByteBuffer b = segments.get(segment).duplicate();
+			b.position(offset);
+			b.get(bytes);
+		} else {
+			ByteBuffer buffer = ByteBuffer.wrap(bytes);
+			read(buffer, position);
+		}
+	}
+
+	private void read(ByteBuffer buffer, long position) throws IOException {
+		while (buffer.hasRemaining()) {
+			if (channel.read(buffer, position + buffer.position()) < 0) {
+				throw new IOException("Unexpected end of result cache file: " + path);
+			}
+		}
+	}
+
+	private void write(ByteBuffer buffer, long position) throws IOException {
+		while (buffer.hasRemaining()) {
+			channel.write(buffer, position + buffer.position());
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		channel.force(false);
+		lock.release();
+		channel.close();
+	}
+
+	/**
+	 * Digest of the CytoGPS build, the grammars and the ISCN 2016 band model, which the results of a
+	 * karyotype depend on.
+	 */
+	private static byte[] getVersion() throws IOException {
+		MessageDigest digest = newSha256();
+		digest.update(ByteBuffer.allocate(4).putInt(FORMAT_VERSION).array());
+		updateBuild(digest);
+		for (String serializedATN : new String[] {KaryotypeLexer._serializedATN, KaryotypeParser._serializedATN,
+				KaryotypeDiagnosticLexer._serializedATN, KaryotypeDiagnosticParser._serializedATN}) {
+			digest.update(serializedATN.getBytes(StandardCharsets.UTF_8));
+		}
+		digest.update(Arrays.deepToString(ISCN2016.chrArmArrays).getBytes(StandardCharsets.UTF_8));
+		return digest.digest();
+	}
+
+	// The jar CytoGPS runs from, or its class files when it runs from a directory
+	private static void updateBuild(MessageDigest digest) throws IOException {
+		CodeSource codeSource = PersistentResultCache.class.getProtectionDomain().getCodeSource();
+		if (codeSource == null) {
+			return;
+		}
+		Path build;
+		try {
+			build = Paths.get(codeSource.getLocation().toURI());
+		} catch (URISyntaxException e) {
+			throw new IOException("Cannot locate the CytoGPS build: " + codeSource.getLocation(), e);
+		}
+		List<Path> files;
+		if (Files.isDirectory(build)) {
+			try (Stream<Path> paths = Files.walk(build)) {
+				files = paths.filter(p -> p.toString().endsWith(".class")).sorted().collect(Collectors.toList());
+			}
+		} else {
+			files = Collections.singletonList(build);
+		}
+		byte[] buffer = new byte[8192];
+		for (Path file : files) {
+			digest.update(build.relativize(file).toString().getBytes(StandardCharsets.UTF_8));
+			try (InputStream in = Files.newInputStream(file)) {
+				int n;
+				while ((n = in.read(buffer)) > 0) {
+					digest.update(buffer, 0, n);
+				}
+			}
+		}
+	}
+
+	private static MessageDigest newSha256() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	// The first 128 bits of the SHA-256 of a normalized karyotype
+	private static class Key {
+
+		private final long high;
+		private final long low;
+
+		Key(long high, long low) {
+			this.high = high;
+			this.low = low;
+		}
+
+		static Key of(String normalizedKaryotype) {
+			MessageDigest digest = sha256.get();
+			ByteBuffer hash = ByteBuffer.wrap(digest.digest(normalizedKaryotype.getBytes(StandardCharsets.UTF_8)));
+			return new Key(hash.getLong(), hash.getLong());
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof Key && ((Key) o).high == high && ((Key) o).low == low;
+		}
+
+		@Override
+		public int hashCode() {
+			return Long.hashCode(high);
+		}
+
+	}
+
+	public int getEntryCount() {
+		return index.size();
+	}
+
+	public long getHitCount() {
+		return hitCount.get();
+	}
+
+	public long getMissCount() {
+		return missCount.get();
+	}
+
+	public long getAppendCount() {
+		return appendCount.get();
+	}
+
+	public String getReport() {
+		long hits = getHitCount();
+		long lookups = hits + getMissCount();
+		String invalidation = versionChanged ? String.format(", emptied on opening: version changed (%d bytes)", truncatedBytes)
+				: truncatedBytes > 0 ? String.format(", incomplete last record removed (%d bytes)", truncatedBytes) : "";
+		return String.format("Persistent result cache %s: %d karyotypes, %.1f MB, hits: %d, misses: %d (%.1f%% hit rate), appended: %d, unreadable records: %d%s",
+				path, getEntryCount(), size / 1e6, hits, getMissCount(), lookups == 0 ? 0 : hits * 100.0 / lookups,
+				getAppendCount(), corruptCount.get(), invalidation);
+	}
+
+}
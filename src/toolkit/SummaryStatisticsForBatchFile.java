@@ -82,14 +82,18 @@ public class SummaryStatisticsForBatchFile {
 	
 	private void updateChrLGFOccurrenceCountMap(String input) {
 		FinalResult finalResult = KaryotypeRunner.getFinalResult(input);
+		updateChrLGFOccurrenceCountMap(finalResult, KaryotypeRunner.getRevisedFinalResult(finalResult));
+	}
+	
+	/**
+	 * Count the clones of one karyotype line. newFinalResult is the result
+	 * of the revised karyotype, or null if there is none to parse.
+	 */
+	void updateChrLGFOccurrenceCountMap(FinalResult finalResult, FinalResult newFinalResult) {
 		if (finalResult.isContainingLexerParserError()) {
-			String revisedKaryotype = finalResult.getRevisedKaryotype();
-			if (!revisedKaryotype.isEmpty()) {
-				FinalResult newFinalResult = KaryotypeRunner.getFinalResult(revisedKaryotype);
-				if (!newFinalResult.isContainingValidationError()) {
-					List<BiologicalOutcome> biologicalOutcomeList = newFinalResult.getBiologicalOutcomeList();
-					updateChrLGFOccurrenceCountMap(biologicalOutcomeList);
-				}
+			if (newFinalResult != null && !newFinalResult.isContainingValidationError()) {
+				List<BiologicalOutcome> biologicalOutcomeList = newFinalResult.getBiologicalOutcomeList();
+				updateChrLGFOccurrenceCountMap(biologicalOutcomeList);
 			}
 		} else if (finalResult.isContainingValidationError()) {
 			
@@ -143,6 +147,14 @@ public class SummaryStatisticsForBatchFile {
 	public static void writeSummaryStatistics(Path fileReadPath, Path fileWritePath) throws Exception {
 
         Map<String, List<List<Double>>> summaryStatisticsMap = new SummaryStatisticsForBatchFile().updateChrLGFOccurrenceCountMap(fileReadPath);
+        writeSummaryStatistics(summaryStatisticsMap, fileWritePath);
+    }
+	
+	void writeSummaryStatistics(Path fileWritePath) throws Exception {
+		writeSummaryStatistics(getSummaryStatistics(), fileWritePath);
+	}
+	
+	private static void writeSummaryStatistics(Map<String, List<List<Double>>> summaryStatisticsMap, Path fileWritePath) throws Exception {
         List<List<Double>> overallSummaryStatistics = new ArrayList<>();
         overallSummaryStatistics.add(new ArrayList<Double>());
         overallSummaryStatistics.add(new ArrayList<Double>());
@@ -153,7 +165,7 @@ public class SummaryStatisticsForBatchFile {
             IntStream.rangeClosed(0, 2).forEach(i -> overallSummaryStatistics.get(i).addAll(chrSummaryStatistics.get(i)));
         });
         
-        try (BufferedReader bufferedReader = new BufferedReader(new FileReader(fileReadPath.toFile())); BufferedWriter bufferedWriter = new BufferedWriter(new FileWriter(fileWritePath.toFile()))) {
+        try (BufferedWriter bufferedWriter = new BufferedWriter(new FileWriter(fileWritePath.toFile()))) {
         	bufferedWriter.write("G850-Bands,Loss,Gain,Fusion");
         	bufferedWriter.write("\n");
         	List<String> allChrBandsList = BiologicalOutcome.getChrBandsList();
@@ -0,0 +1,66 @@
+package toolkit;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outcome of a parser warm-up: how many karyotypes of the corpus were replayed within the time budget,
+ * and how long the first ones took cold, when they were replayed first, and warm, replayed again after.
+ *
+ * @author ilariamt
+ * Date: October 16, 2026
+ */
+public class WarmUpReport {
+
+	private int karyotypeCount;
+	private int corpusSize;
+	private long budgetMillis;
+	private long elapsedNanos;
+	private int firstKaryotypeCount;
+	private long coldNanos;
+	private long warmNanos;
+
+	public WarmUpReport(int karyotypeCount, int corpusSize, long budgetMillis, long elapsedNanos, int firstKaryotypeCount, long coldNanos, long warmNanos) {
+		this.karyotypeCount = karyotypeCount;
+		this.corpusSize = corpusSize;
+		this.budgetMillis = budgetMillis;
+		this.elapsedNanos = elapsedNanos;
+		this.firstKaryotypeCount = firstKaryotypeCount;
+		this.coldNanos = coldNanos;
+		this.warmNanos = warmNanos;
+	}
+
+	public int getKaryotypeCount() {
+		return karyotypeCount;
+	}
+
+	public int getCorpusSize() {
+		return corpusSize;
+	}
+
+	public long getBudgetMillis() {
+		return budgetMillis;
+	}
+
+	public long getElapsedMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+	}
+
+	public int getFirstKaryotypeCount() {
+		return firstKaryotypeCount;
+	}
+
+	public long getColdMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(coldNanos);
+	}
+
+	public long getWarmMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(warmNanos);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("Warm-up: %d of %d karyotypes replayed in %.3f s (budget: %d ms), first %d karyotypes: %.3f s cold, %.3f s warm",
+				karyotypeCount, corpusSize, elapsedNanos / 1e9, budgetMillis, firstKaryotypeCount, coldNanos / 1e9, warmNanos / 1e9);
+	}
+
+}
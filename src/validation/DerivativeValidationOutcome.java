@@ -1,6 +1,8 @@
 package validation;
 import java.util.List;
 
+import business.KaryotypeLGF;
+
 /**
  * @author Lin Zhang
  * Programmer / Software Development Engineer
@@ -14,9 +16,9 @@ public class DerivativeValidationOutcome {
 	private boolean validDerivativeChr;
 	private List<List<String>> segments;
 	private String detailedSystem;
-	private List<List<Integer>> derKaryotypeLGF;
+	private KaryotypeLGF derKaryotypeLGF;
 	
-	public DerivativeValidationOutcome (boolean validDerivativeChr, List<List<String>> segments, String detailedSystem, List<List<Integer>> derKaryotypeLGF) {
+	public DerivativeValidationOutcome (boolean validDerivativeChr, List<List<String>> segments, String detailedSystem, KaryotypeLGF derKaryotypeLGF) {
 		this.validDerivativeChr = validDerivativeChr;
 		this.segments = segments;
 		this.detailedSystem = detailedSystem;
@@ -47,11 +49,11 @@ public class DerivativeValidationOutcome {
 		this.detailedSystem = detailedSystem;
 	}
 
-	public List<List<Integer>> getDerKaryotypeLGF() {
+	public KaryotypeLGF getDerKaryotypeLGF() {
 		return derKaryotypeLGF;
 	}
 
-	public void setDerKaryotypeLGF(List<List<Integer>> derKaryotypeLGF) {
+	public void setDerKaryotypeLGF(KaryotypeLGF derKaryotypeLGF) {
 		this.derKaryotypeLGF = derKaryotypeLGF;
 	}
 	
@@ -12,6 +12,8 @@ import java.util.stream.Stream;
 
 import business.DerEvent;
 import business.Event;
+import business.KaryotypeLGF;
+import toolkit.CytobandIndex;
 import toolkit.ChrComparator;
 
 /**
@@ -45,17 +47,9 @@ public class DicDerivativeValidationDifferentDerChrNoBreakpoints extends Derivat
 			subeventNatureList.add(subevent.getNature());
 			subeventChrList.add(subevent.getChrList());
 		}
-		int i = 0;
-    	for (String[] chrArmArray: chrArmArrays) {
-        	for(String chrBand: chrArmArray) {
-        		indexToChrMap.put(i, chrBand);
-        		chrToIndexMap.put(chrBand, i);
-        		i++;        		        		
-        	}
-        }
-    	karyotypeLossOutcome = new ArrayList<>(Collections.nCopies(indexToChrMap.size(), 0));
-    	karyotypeGainOutcome = new ArrayList<>(karyotypeLossOutcome);
-    	karyotypeFusionOutcome = new ArrayList<>(karyotypeLossOutcome);
+    	karyotypeLossOutcome = new int[indexToChrMap.size()];
+    	karyotypeGainOutcome = new int[indexToChrMap.size()];
+    	karyotypeFusionOutcome = new int[indexToChrMap.size()];
 	}
 	
 	
@@ -208,9 +202,9 @@ public class DicDerivativeValidationDifferentDerChrNoBreakpoints extends Derivat
     		markSpecificLossGain.put("M1", initializeChrLossGain(derChr1));
     		derChr0GainedSegments = new ArrayList<>();
     		derChr1GainedSegments = new ArrayList<>();
-    		karyotypeLossOutcome = new ArrayList<>(Collections.nCopies(indexToChrMap.size(), 0));
-        	karyotypeGainOutcome = new ArrayList<>(karyotypeLossOutcome);
-        	karyotypeFusionOutcome = new ArrayList<>(karyotypeLossOutcome);
+    		karyotypeLossOutcome = new int[indexToChrMap.size()];
+        	karyotypeGainOutcome = new int[indexToChrMap.size()];
+        	karyotypeFusionOutcome = new int[indexToChrMap.size()];
         	
         	validDerivativeChr = true;
         	
@@ -2627,9 +2621,8 @@ public class DicDerivativeValidationDifferentDerChrNoBreakpoints extends Derivat
     	}
     }
 	
-    public List<List<Integer>> getDerKaryotypeLGF() {
-    	List<List<Integer>> derKaryotypeLGF = new ArrayList<>();
-    	int[] chrsOffset = getChrsOffset(chrArmArrays);
+    public KaryotypeLGF getDerKaryotypeLGF() {
+    	int[] chrsOffset = CytobandIndex.getChrsOffset();
 
     	if (isExtraCopy) {
     		// +der(X;Y): add gains only for bands retained in the der from both chromosomes.
@@ -2642,7 +2635,7 @@ public class DicDerivativeValidationDifferentDerChrNoBreakpoints extends Derivat
     			int derchrOffset = chrsOffset[getChrBlockIndex(derChrList2.get(i))];
     			for (int j = 0; j < derChrLossMap.size(); j++) {
     				if (derChrLossMap.get(j) == 0) {
-    					karyotypeGainOutcome.set(derchrOffset + j, karyotypeGainOutcome.get(derchrOffset + j) + 1);
+    					karyotypeGainOutcome[derchrOffset + j] += 1;
     				}
     			}
     		}
@@ -2653,7 +2646,7 @@ public class DicDerivativeValidationDifferentDerChrNoBreakpoints extends Derivat
     			int chrOffset = chrsOffset[getChrBlockIndex(chr)];
     			for (int i = 0; i < chrInDer.size(); i++) {
     				if (chrInDer.get(i) > 0) {
-    					karyotypeGainOutcome.set(chrOffset + i, karyotypeGainOutcome.get(chrOffset + i) + chrInDer.get(i));
+    					karyotypeGainOutcome[chrOffset + i] += chrInDer.get(i);
     				}
     			}
     		}
@@ -2663,14 +2656,11 @@ public class DicDerivativeValidationDifferentDerChrNoBreakpoints extends Derivat
     			int chrOffset = chrsOffset[getChrBlockIndex(chr)];
     			for (int i = 0; i < chrInDer.size(); i++) {
     				if (chrInDer.get(i) > 0) {
-    					karyotypeGainOutcome.set(chrOffset + i, karyotypeGainOutcome.get(chrOffset + i) + chrInDer.get(i));
+    					karyotypeGainOutcome[chrOffset + i] += chrInDer.get(i);
     				}
     			}
     		}
-    		derKaryotypeLGF.add(karyotypeLossOutcome);
-    		derKaryotypeLGF.add(karyotypeGainOutcome);
-    		derKaryotypeLGF.add(karyotypeFusionOutcome);
-    		return derKaryotypeLGF;
+    		return new KaryotypeLGF(karyotypeLossOutcome, karyotypeGainOutcome, karyotypeFusionOutcome);
     	}
 
         List<String> derMarkList = Arrays.asList("M0", "M1");
@@ -2682,11 +2672,11 @@ public class DicDerivativeValidationDifferentDerChrNoBreakpoints extends Derivat
 								        	int derchrOffset = chrsOffset[getChrBlockIndex(derChr)];
 								        	IntStream.range(0, derChrLoss.size())
 								        	         .filter(j -> derChrLoss.get(j) == 1)
-								        	         .forEach(j -> karyotypeLossOutcome.set(derchrOffset + j, 1 + karyotypeLossOutcome.get(derchrOffset + j)));
+								        	         .forEach(j -> karyotypeLossOutcome[derchrOffset + j] += 1);
 								        	List<Integer> derChrGain = recordDerchrGainedSegemnts(derChrGainedSegmentsList.get(i), derChr);
 								        	IntStream.range(0, derChrGain.size())
 								        			 .filter(j -> derChrGain.get(j) > 0)
-								        			 .forEach(j -> karyotypeGainOutcome.set(derchrOffset + j, derChrGain.get(j) + karyotypeGainOutcome.get(derchrOffset + j)));
+								        			 .forEach(j -> karyotypeGainOutcome[derchrOffset + j] += derChrGain.get(j));
 									       }
 						             );    	
     	
@@ -2699,7 +2689,7 @@ public class DicDerivativeValidationDifferentDerChrNoBreakpoints extends Derivat
     		int chrOffset = chrsOffset[getChrBlockIndex(chr)];
     		for (int i = 0; i < chrGain.size(); i++) {
     			if (chrGain.get(i) > 0) {
-        			karyotypeGainOutcome.set(chrOffset + i, karyotypeGainOutcome.get(chrOffset + i) + chrGain.get(i));
+        			karyotypeGainOutcome[chrOffset + i] += chrGain.get(i);
         		}
     		}
     	}
@@ -2710,7 +2700,7 @@ public class DicDerivativeValidationDifferentDerChrNoBreakpoints extends Derivat
     		int chrOffset = chrsOffset[getChrBlockIndex(chr)];
     		for (int i = 0; i < chrGain.size(); i++) {
     			if (chrGain.get(i) > 0) {
-        			karyotypeGainOutcome.set(chrOffset + i, karyotypeGainOutcome.get(chrOffset + i) + chrGain.get(i));
+        			karyotypeGainOutcome[chrOffset + i] += chrGain.get(i);
         		}
     		}
     	}
@@ -2719,21 +2709,17 @@ public class DicDerivativeValidationDifferentDerChrNoBreakpoints extends Derivat
 		for (String fusionPoint: fusionPointsList) {
 			int index;
 			if (chrToIndexMap.get(fusionPoint) == null) {
-				for (String subband: getAllKeys(fusionPoint)) {
-					index = chrToIndexMap.get(subband);
-					karyotypeFusionOutcome.set(index, karyotypeFusionOutcome.get(index) + 1);
+				int endIndex = CytobandIndex.getLastIndex(fusionPoint);
+				for (index = CytobandIndex.getFirstIndex(fusionPoint); index <= endIndex; index++) {
+					karyotypeFusionOutcome[index] += 1;
 				}
 			} else {
 				index = chrToIndexMap.get(fusionPoint);
-				karyotypeFusionOutcome.set(index, karyotypeFusionOutcome.get(index) + 1);
+				karyotypeFusionOutcome[index] += 1;
 			}
 		}
     	
-    	derKaryotypeLGF.add(karyotypeLossOutcome);
-    	derKaryotypeLGF.add(karyotypeGainOutcome);
-    	derKaryotypeLGF.add(karyotypeFusionOutcome);
-    	
-    	return derKaryotypeLGF;
+    	return new KaryotypeLGF(karyotypeLossOutcome, karyotypeGainOutcome, karyotypeFusionOutcome);
     }
 
     protected String getDetailedSystem() {
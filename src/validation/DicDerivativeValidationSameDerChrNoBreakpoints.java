@@ -172,9 +172,9 @@ public DerivativeValidationOutcome getDicDerivativeValidationOutcome() {
     		markSpecificLossGain.put("M1", initializeChrLossGain(derChr1));
     		derChr0GainedSegments = new ArrayList<>();
     		derChr1GainedSegments = new ArrayList<>();
-    		karyotypeLossOutcome = new ArrayList<>(Collections.nCopies(indexToChrMap.size(), 0));
-        	karyotypeGainOutcome = new ArrayList<>(karyotypeLossOutcome);
-        	karyotypeFusionOutcome = new ArrayList<>(karyotypeLossOutcome);
+    		karyotypeLossOutcome = new int[indexToChrMap.size()];
+        	karyotypeGainOutcome = new int[indexToChrMap.size()];
+        	karyotypeFusionOutcome = new int[indexToChrMap.size()];
         	
         	validDerivativeChr = true;
         	
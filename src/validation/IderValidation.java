@@ -9,6 +9,8 @@ import java.util.stream.IntStream;
 
 import business.DerEvent;
 import business.Event;
+import business.KaryotypeLGF;
+import toolkit.CytobandIndex;
 
 /**
  * @author Lin Zhang
@@ -130,17 +132,18 @@ public class IderValidation extends DerivativeValidation {
 			deletedSegments.add(Arrays.asList(oppositeArm + "terM0", oppositeArm + "10M0"));
 			recordLoss(deletedSegments, derChrGainedSegments);
 			// Record the gain of the mirror
-			List<List<Integer>> iderKaryotypeLGF = getDerKaryotypeLGF();
-            IntStream.range(0, iderKaryotypeLGF.get(1).size())
-                     .filter(i -> iderKaryotypeLGF.get(1).get(i) > 0)
-                     .forEach(i -> iderKaryotypeLGF.get(1).set(i, iderKaryotypeLGF.get(1).get(i) * 2));             
+			KaryotypeLGF iderKaryotypeLGF = getDerKaryotypeLGF();
+			int[] iderKaryotypeGainOutcome = iderKaryotypeLGF.getGain();
+            IntStream.range(0, iderKaryotypeGainOutcome.length)
+                     .filter(i -> iderKaryotypeGainOutcome[i] > 0)
+                     .forEach(i -> iderKaryotypeGainOutcome[i] *= 2);             
             segments.stream().filter(seg -> seg.size() > 1 && getMark(seg).equals("M0") && !containsSegment(derChrGainedSegments, seg))
                     .flatMap(segment -> getAllSegmentBands(segment).stream())
                     .distinct()
                     .forEach(band -> 
 	                                {
 	                                	int index = chrToIndexMap.get(band); 
-	                                	iderKaryotypeLGF.get(1).set(index, iderKaryotypeLGF.get(1).get(index) + 1);
+	                                	iderKaryotypeGainOutcome[index] += 1;
 	                                }); // For remaining (unduplicated) chrBreakpoints on derChrArm [It's not necessary to add && !containsSegment(derChrGainedSegments, seg) in the filter]
 			// Making mirror image
 			List<String> rawStringListCopy = new ArrayList<>(rawStringList);
@@ -155,20 +158,20 @@ public class IderValidation extends DerivativeValidation {
 		}		
 	}
 	
-	private void updateKaryotypeFusionOutcome(List<List<Integer>> iderKaryotypeLGF) {
-		List<Integer> karyotypeFusionOutcome = iderKaryotypeLGF.get(2);
-		IntStream.range(0, karyotypeFusionOutcome.size()).filter(i -> karyotypeFusionOutcome.get(i) > 0).forEach(i -> karyotypeFusionOutcome.set(i, 0));
+	private void updateKaryotypeFusionOutcome(KaryotypeLGF iderKaryotypeLGF) {
+		int[] karyotypeFusionOutcome = iderKaryotypeLGF.getFusion();
+		Arrays.fill(karyotypeFusionOutcome, 0);
 		List<String> fusionPointsList = getFusionPoints();
 		for (String fusionPoint: fusionPointsList) {
 			int index;
 			if (chrToIndexMap.get(fusionPoint) == null) {
-				for (String subband: getAllKeys(fusionPoint)) {
-					index = chrToIndexMap.get(subband);
-					karyotypeFusionOutcome.set(index, karyotypeFusionOutcome.get(index) + 1);
+				int endIndex = CytobandIndex.getLastIndex(fusionPoint);
+				for (index = CytobandIndex.getFirstIndex(fusionPoint); index <= endIndex; index++) {
+					karyotypeFusionOutcome[index] += 1;
 				}
 			} else {
 				index = chrToIndexMap.get(fusionPoint);
-				karyotypeFusionOutcome.set(index, karyotypeFusionOutcome.get(index) + 1);
+				karyotypeFusionOutcome[index] += 1;
 			}
 		}
 	}
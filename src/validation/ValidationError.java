@@ -8,10 +8,10 @@ import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-import business.Clone;
 import business.DerEvent;
 import business.Event;
 import business.ParseEvent;
+import toolkit.CytobandIndex;
 import toolkit.ListComparator;
 import toolkit.Permutation;
 
@@ -85,7 +85,7 @@ public class ValidationError {
 	
 	public static boolean isValidChrBreakpoint(String chrBreakpoint) {
 		ParseEvent p = new ParseEvent();
-		Map<String, Integer> chrToIndexMap = p.getChrToIndexMap();
+		Map<String, Integer> chrToIndexMap = CytobandIndex.getChrToIndexMap();
 		if (chrToIndexMap.get(chrBreakpoint) != null) {
 			return true;
 		} else {
@@ -114,7 +114,7 @@ public class ValidationError {
 	
 	public static boolean isValidCen(String chrBreakpoint) {
 		ParseEvent p = new ParseEvent();
-		Map<String, Integer> chrToIndexMap = p.getChrToIndexMap();
+		Map<String, Integer> chrToIndexMap = CytobandIndex.getChrToIndexMap();
 		if (chrToIndexMap.get(chrBreakpoint) != null && (chrBreakpoint.endsWith("p10") || chrBreakpoint.endsWith("q10"))) {
 			return true;
 		} else {
@@ -131,33 +131,9 @@ public class ValidationError {
 		return true;
 	}
 	
-	public static List<String> getRowClonesError(List<Clone> rowClones) {
-		List<String> validationMessageList = new ArrayList<String>();
-		for (Clone clone: rowClones) {
-			for (Event e: clone.getCloneInput()) {
-				if (!e.getNature().isEmpty() && !e.isUncertainEvent()) {
-					validationMessageList = getEventValidationError(e, validationMessageList);
-				} else if (e.getNature().isEmpty() && !e.isUncertainEvent()) {
-					String eventCode = e.getEventCode();
-					String errorHead = "Event \"" + eventCode + "\": ";
-					if (!isValidChrList(e.getGainChrs())) {
-						for (String chr: e.getGainChrs()) {
-							if (!isValidChr(chr)) {
-								validationMessageList.add(errorHead + "\"" + chr + "\" is not a valid chromosome");
-							}
-						}
-					}    					
-    				if (!isValidChrList(e.getLossChrs())) {
-    					for (String chr: e.getLossChrs()) {
-							if (!isValidChr(chr)) {
-								validationMessageList.add(errorHead + "\"" + chr + "\" is not a valid chromosome");
-							}
-						}
-					}    				
-    			}
-			}
-		}
-		return validationMessageList;
+	// Message of a chromosome gained or lost by an event with no nature, such as +25
+	public static String getInvalidChrError(Event e, String chr) {
+		return "Event \"" + e.getEventCode() + "\": \"" + chr + "\" is not a valid chromosome";
 	}
 	
 	public static List<String> getEventValidationError(Event e, List<String> validationMessageList) {
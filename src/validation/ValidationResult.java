@@ -0,0 +1,84 @@
+package validation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import business.DerEvent;
+import business.Event;
+
+/**
+ * Result of the validation of the clones of a karyotype: whether they are valid, and the validation
+ * messages of an invalid karyotype.
+ *
+ * Validator walks the events once, giving the verdict and recording the events the messages are
+ * about. The messages are rendered by ValidationError from those events only, when getMessages() is
+ * first called, so the clones are not walked a second time.
+ *
+ * The walk also keeps the outcomes of the validation of the derivative chromosomes, by event, for
+ * ParseEvent to compute their LGF from. They are kept here, for the karyotype being run, rather than
+ * on the events, which the KaryotypeLoader shares between clones and which are not changed after it.
+ *
+ * @author ilariamt
+ * Date: October 16, 2026
+ */
+public class ValidationResult {
+
+	private boolean valid;
+	private List<EventError> eventErrors;
+	private List<String> messages;
+	private final Map<DerEvent, DerivativeValidationOutcome> derivativeValidationOutcomes;
+
+	ValidationResult(boolean valid, List<EventError> eventErrors, Map<DerEvent, DerivativeValidationOutcome> derivativeValidationOutcomes) {
+		this.valid = valid;
+		this.eventErrors = eventErrors;
+		this.derivativeValidationOutcomes = Collections.unmodifiableMap(derivativeValidationOutcomes);
+	}
+
+	public boolean isValid() {
+		return valid;
+	}
+
+	/**
+	 * Returns the outcomes of the validation of the derivative chromosomes, by event identity, to be
+	 * passed to ParseEvent.
+	 */
+	public Map<DerEvent, DerivativeValidationOutcome> getDerivativeValidationOutcomes() {
+		return derivativeValidationOutcomes;
+	}
+
+	/**
+	 * Returns the validation messages, rendered on the first call; the list is empty for valid clones.
+	 */
+	public List<String> getMessages() {
+		if (messages == null) {
+			messages = new ArrayList<>();
+			if (!valid) {
+				for (EventError eventError: eventErrors) {
+					if (eventError.invalidChr == null) {
+						messages = ValidationError.getEventValidationError(eventError.event, messages);
+					} else {
+						messages.add(ValidationError.getInvalidChrError(eventError.event, eventError.invalidChr));
+					}
+				}
+			}
+			eventErrors = null;
+		}
+		return messages;
+	}
+
+	// An event the messages are about, with the chromosome it gains or loses that is not valid, if any
+	static class EventError {
+
+		private final Event event;
+		private final String invalidChr;
+
+		EventError(Event event, String invalidChr) {
+			this.event = event;
+			this.invalidChr = invalidChr;
+		}
+
+	}
+
+}
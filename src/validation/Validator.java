@@ -2,6 +2,7 @@ package validation;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -9,6 +10,7 @@ import business.Clone;
 import business.DerEvent;
 import business.Event;
 import business.ParseEvent;
+import toolkit.CytobandIndex;
 
 /**
  * @author Lin Zhang
@@ -20,6 +22,14 @@ import business.ParseEvent;
  */
 public class Validator {
 	
+	// Keeps the outcome in derivativeValidationOutcomes, if any, so that ParseEvent computes the LGF of the derivative chromosome without validating it again
+	private static boolean isValidDerivativeChr(Map<DerEvent, DerivativeValidationOutcome> derivativeValidationOutcomes, DerEvent e, DerivativeValidationOutcome derivativeValidationOutcome) {
+		if (derivativeValidationOutcomes != null) {
+			derivativeValidationOutcomes.put(e, derivativeValidationOutcome);
+		}
+		return derivativeValidationOutcome.isValidDerivativeChr();
+	}
+	
 	public static boolean isValidChr(String chr) {
 		String[] chrArray = {"1", "2", "3", "4", "5", "6", "7", "8", "9", "10", "11", "12", "13", "14", "15", "16", "17", "18", "19", "20", "21", "22", "X", "Y"};
 		List<String> chrList = Arrays.asList(chrArray);
@@ -80,7 +90,7 @@ public class Validator {
 	
 	public static boolean isValidChrBreakpoint(String chrBreakpoint) {
 		ParseEvent p = new ParseEvent();
-		Map<String, Integer> chrToIndexMap = p.getChrToIndexMap();
+		Map<String, Integer> chrToIndexMap = CytobandIndex.getChrToIndexMap();
 		if (chrToIndexMap.get(chrBreakpoint) != null) {
 			return true;
 		} else {
@@ -119,7 +129,7 @@ public class Validator {
 	
 	public static boolean isValidCen(String chrBreakpoint) {
 		ParseEvent p = new ParseEvent();
-		Map<String, Integer> chrToIndexMap = p.getChrToIndexMap();
+		Map<String, Integer> chrToIndexMap = CytobandIndex.getChrToIndexMap();
 		if (chrToIndexMap.get(chrBreakpoint) != null && (chrBreakpoint.endsWith("p10") || chrBreakpoint.endsWith("q10"))) {
 			return true;
 		} else {
@@ -136,31 +146,73 @@ public class Validator {
 		return true;
 	}	
 	
-	public static boolean isValidRowClones(List<Clone> rowClones) {
+	/**
+	 * Validates the clones in one walk over their events. Besides the verdict, the walk records the
+	 * events the validation messages are about: the invalid events, the invalid chromosomes of events
+	 * that only gain or lose chromosomes, and the detailed formula events. The result renders the
+	 * messages from these alone, when they are asked for.
+	 */
+	public static ValidationResult validateRowClones(List<Clone> rowClones) {
+		return validateRowClones(rowClones, true);
+	}
+	
+	/**
+	 * Without recording the errors, stops at the first invalid event and returns no messages, for runs
+	 * that only report the status of the karyotypes.
+	 */
+	public static ValidationResult validateRowClones(List<Clone> rowClones, boolean recordErrors) {
+		boolean valid = true;
+		List<ValidationResult.EventError> eventErrors = new ArrayList<>();
+		Map<DerEvent, DerivativeValidationOutcome> derivativeValidationOutcomes = new IdentityHashMap<>();
 		for (Clone clone: rowClones) {    		
     		for (Event e: clone.getCloneInput()) {
-    			// Skip detailed formulas (contain :: or ->) - these are validated separately by DetailedFormulaParser
-    			if (e.getEventCode().contains("::") || e.getEventCode().contains("->")) {
+    			if (e.isUncertainEvent()) {
     				continue;
     			}
-    			
-    			if (!e.getNature().isEmpty() && !e.isUncertainEvent() && !isValidEvent(e)) {
-    				return false;
-    			} else if (e.getNature().isEmpty() && !e.isUncertainEvent()) {
-					if (!isValidChrList(e.getGainChrs())) {
-						return false;
-					}    					
-    				if (!isValidChrList(e.getLossChrs())) {
-						return false;
-					}    				
+    			// Detailed formulas (contain :: or ->) are validated separately by DetailedFormulaParser: the
+    			// messages report on them, but they do not change the verdict
+    			boolean isDetailedFormula = e.getEventCode().contains("::") || e.getEventCode().contains("->");
+    			if (!e.getNature().isEmpty()) {
+    				if (isDetailedFormula) {
+    					addEventError(eventErrors, recordErrors, e, null);
+    				} else if (!isValidEvent(e, derivativeValidationOutcomes)) {
+    					valid = false;
+    					addEventError(eventErrors, recordErrors, e, null);
+    				}
+    			} else {
+    				for (String chr: e.getGainChrs()) {
+    					if (!isValidChr(chr)) {
+    						valid = valid && isDetailedFormula;
+    						addEventError(eventErrors, recordErrors, e, chr);
+    					}
+    				}
+    				for (String chr: e.getLossChrs()) {
+    					if (!isValidChr(chr)) {
+    						valid = valid && isDetailedFormula;
+    						addEventError(eventErrors, recordErrors, e, chr);
+    					}
+    				}
+    			}
+    			if (!valid && !recordErrors) {
+    				return new ValidationResult(false, eventErrors, derivativeValidationOutcomes);
     			}
     		}
     	}
-		return true;
+		return new ValidationResult(valid, eventErrors, derivativeValidationOutcomes);
+	}
+	
+	private static void addEventError(List<ValidationResult.EventError> eventErrors, boolean recordErrors, Event e, String invalidChr) {
+		if (recordErrors) {
+			eventErrors.add(new ValidationResult.EventError(e, invalidChr));
+		}
 	}
 	
 
 	public static boolean isValidEvent(Event e) {
+		return isValidEvent(e, null);
+	}
+	
+	private static boolean isValidEvent(Event e, Map<DerEvent, DerivativeValidationOutcome> derivativeValidationOutcomes) {
 		boolean isValid = true;
 		List<String> chrList = e.getChrList();
 		List<List<String>> breakpoints = e.getBreakpoints();
@@ -563,7 +615,7 @@ public class Validator {
 						if (!containDerChr(subevents, derChr)) {
 							return false;
 						} else {
-							if (!isUncerntainDer((DerEvent)e) && !new DerivativeValidation((DerEvent)e).getDerivativeValidationOutcome().isValidDerivativeChr()) {
+							if (!isUncerntainDer((DerEvent)e) && !isValidDerivativeChr(derivativeValidationOutcomes, (DerEvent)e, new DerivativeValidation((DerEvent)e).getDerivativeValidationOutcome())) {
 								return false;
 							}
 						}
@@ -591,16 +643,16 @@ public class Validator {
 								
 								if (hasCentromericBreakpoints) {
 									if (!chrList.get(0).equals(chrList.get(1))) {
-										if (!new DicDerivativeValidationDifferentDerChrWithBreakpoints((DerEvent)e).getDicDerivativeValidationOutcome().isValidDerivativeChr()) {
+										if (!isValidDerivativeChr(derivativeValidationOutcomes, (DerEvent)e, new DicDerivativeValidationDifferentDerChrWithBreakpoints((DerEvent)e).getDicDerivativeValidationOutcome())) {
 											return false;
 										}
 									} else {
 										if (!getChrArm(derBreakpoints.get(0).get(0)).equals(getChrArm(derBreakpoints.get(1).get(0)))) {
-											if (!new DicDerivativeValidationDifferentDerChrWithBreakpoints((DerEvent)e).getDicDerivativeValidationOutcome().isValidDerivativeChr()) {
+											if (!isValidDerivativeChr(derivativeValidationOutcomes, (DerEvent)e, new DicDerivativeValidationDifferentDerChrWithBreakpoints((DerEvent)e).getDicDerivativeValidationOutcome())) {
 												return false;
 											}
 										} else {
-											if (!new DicDerivativeValidationSameDerChrSameArmWithBreakpoints((DerEvent)e).getDicDerivativeValidationOutcome().isValidDerivativeChr()) {
+											if (!isValidDerivativeChr(derivativeValidationOutcomes, (DerEvent)e, new DicDerivativeValidationSameDerChrSameArmWithBreakpoints((DerEvent)e).getDicDerivativeValidationOutcome())) {
 												return false;
 											}
 										}
@@ -624,11 +676,11 @@ public class Validator {
 							}	
 							if (!isUncerntainDer((DerEvent)e)) {
 								if (!chrList.get(0).equals(chrList.get(1))) {
-									if (!new DicDerivativeValidationDifferentDerChrNoBreakpoints((DerEvent)e).getDicDerivativeValidationOutcome().isValidDerivativeChr()) {
+									if (!isValidDerivativeChr(derivativeValidationOutcomes, (DerEvent)e, new DicDerivativeValidationDifferentDerChrNoBreakpoints((DerEvent)e).getDicDerivativeValidationOutcome())) {
 										return false;
 									}
 								} else {
-									if (!new DicDerivativeValidationSameDerChrNoBreakpoints((DerEvent)e).getDicDerivativeValidationOutcome().isValidDerivativeChr()) {
+									if (!isValidDerivativeChr(derivativeValidationOutcomes, (DerEvent)e, new DicDerivativeValidationSameDerChrNoBreakpoints((DerEvent)e).getDicDerivativeValidationOutcome())) {
 										return false;
 									}
 								}